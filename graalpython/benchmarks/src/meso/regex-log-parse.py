@@ -0,0 +1,106 @@
+# Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+# parsing and anonymizing synthetic access log lines, as in a log ingestion pipeline
+import re
+
+METHODS = ["GET", "POST", "PUT", "DELETE"]
+PATHS = ["/", "/index.html", "/api/v1/items", "/api/v1/items/%d", "/static/img/%d.png", "/login?user=u%d&next=/home"]
+AGENTS = ["Mozilla/5.0 (X11; Linux x86_64)", "curl/7.58.0", "python-requests/2.22.0"]
+
+LINE_RE = re.compile(r'^(?P<ip>\d{1,3}(?:\.\d{1,3}){3}) - (?P<user>\S+) \[(?P<time>[^\]]+)\] '
+                     r'"(?P<method>[A-Z]+) (?P<path>\S+) HTTP/(?P<version>[\d.]+)" (?P<status>\d{3}) (?P<size>\d+|-) '
+                     r'"(?P<agent>[^"]*)"$')
+IP_RE = re.compile(r"\b(\d{1,3})\.(\d{1,3})\.\d{1,3}\.\d{1,3}\b")
+QUERY_RE = re.compile(r"[?&]")
+ID_RE = re.compile(r"/\d+")
+
+lines = None
+
+
+def make_lines(n):
+    result = []
+    seed = 7
+    for i in range(n):
+        seed = (seed * 1103515245 + 12345) & 0x7fffffff
+        path = PATHS[seed % len(PATHS)]
+        if "%d" in path:
+            path = path % (seed % 1000)
+        result.append('%d.%d.%d.%d - %s [19/Oct/2019:13:%02d:%02d +0000] "%s %s HTTP/1.1" %d %s "%s"' % (
+            10 + seed % 200, seed % 256, (seed >> 8) % 256, (seed >> 16) % 256,
+            "-" if seed % 3 else "user%d" % (seed % 50),
+            seed % 60, (seed >> 4) % 60,
+            METHODS[seed % len(METHODS)], path,
+            200 if seed % 5 else 404, str(seed % 5000) if seed % 7 else "-",
+            AGENTS[seed % len(AGENTS)]))
+    return result
+
+
+def anonymize(m):
+    return "%s.%s.0.0" % (m.group(1), m.group(2))
+
+
+def ingest(lines):
+    status_counts = {}
+    endpoints = {}
+    total_size = 0
+    anonymized = []
+    for line in lines:
+        m = LINE_RE.match(line)
+        if m is None:
+            continue
+        status = m.group("status")
+        status_counts[status] = status_counts.get(status, 0) + 1
+        size = m.group("size")
+        if size != "-":
+            total_size += int(size)
+        parts = QUERY_RE.split(m.group("path"))
+        endpoint = ID_RE.sub("/{id}", parts[0])
+        endpoints[endpoint] = endpoints.get(endpoint, 0) + len(parts)
+        anonymized.append(IP_RE.sub(anonymize, line))
+    return len(anonymized), total_size, sorted(status_counts.items()), len(endpoints)
+
+
+def __setup__(num=20000):
+    global lines
+    lines = make_lines(num)
+
+
+def __benchmark__(num=20000):
+    print(ingest(lines))
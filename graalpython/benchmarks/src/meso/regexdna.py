@@ -41,13 +41,53 @@
 # contributed by Dominique Wahli
 # modified by Justin Peel
 
+# the input is generated like the output of the fasta benchmark
+
 from re import sub, finditer
 
+ALU = ('GGCCGGGCGCGGTGGCTCACGCCTGTAATCCCAGCACTTTGG'
+       'GAGGCCGAGGCGGGCGGATCACCTGAGGTCAGGAGTTCGAGA'
+       'CCAGCCTGGCCAACATGGTGAAACCCCGTCTCTACTAAAAAT'
+       'ACAAAAATTAGCCGGGCGTGGTGGCGCGCGCCTGTAATCCCA'
+       'GCTACTCGGGAGGCTGAGGCAGGAGAATCGCTTGAACCCGGG'
+       'AGGCGGAGGTTGCAGTGAGCCGAGATCGCGCCACTGCACTCC'
+       'AGCCTGGGCGACAGAGCGAGACTCCGTCTCAAAAA')
+
+IUB = list(zip('acgtBDHKMNRSVWY', [0.27, 0.12, 0.12, 0.27] + [0.02] * 11))
+
+HOMOSAPIENS = [('a', 0.3029549426680), ('c', 0.1979883004921), ('g', 0.1975473066391), ('t', 0.3015094502008)]
+
+seq = None
+
+
+def fasta(n):
+    lines = []
+    last = [42]
+
+    def random_char(table):
+        last[0] = (last[0] * 3877 + 29573) % 139968
+        r = last[0] / 139968.0
+        for c, p in table:
+            r -= p
+            if r < 0:
+                return c
+        return table[-1][0]
+
+    def add(title, chars):
+        lines.append(title)
+        for i in range(0, len(chars), 60):
+            lines.append(chars[i:i + 60])
+
+    add('>ONE Homo sapiens alu', (ALU * (2 * n // len(ALU) + 1))[:2 * n])
+    add('>TWO IUB ambiguity codes', ''.join(random_char(IUB) for i in range(3 * n)))
+    add('>THREE Homo sapiens frequency', ''.join(random_char(HOMOSAPIENS) for i in range(5 * n)))
+    return '\n'.join(lines) + '\n'
+
 
 def main(seq):
     ilen = len(seq)
 
-    seq = sub('>.*\n|\n', '', seq) 
+    seq = sub('>.*\n|\n', '', seq)
     clen = len(seq)
 
     variants = (
@@ -61,7 +101,7 @@ def main(seq):
           'agggta[cgt]a|t[acg]taccct',
           'agggtaa[cgt]|[acg]ttaccct')
     for f in variants:
-        print f, sum(1 for i in finditer(f, seq))
+        print(f, sum(1 for i in finditer(f, seq)))
 
     subst = {
           'B' : '(c|g|t)', 'D' : '(a|g|t)',   'H' : '(a|c|t)', 'K' : '(g|t)',
@@ -75,6 +115,10 @@ def main(seq):
     print(len(seq))
 
 
-def __benchmark__(*args):
-  # main(seq) #  TODO provide proper input 
-  pass
+def __setup__(num=100000):
+    global seq
+    seq = fasta(num)
+
+
+def __benchmark__(num=100000):
+    main(seq)
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2019, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -37,25 +37,24 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
-import sys
+# patterns with backreferences; TRegex hands these to the SRE engine
+import re
 
-GRAALPYTHON = sys.implementation.name == "graalpython"
+TEXT = " ".join(("word%d word%d" % (i, i)) if i % 3 == 0 else ("<b>x%d</b> <i>y</a>" % i) for i in range(2000))
 
 
-class TestSRE:
+def find_repeats(text):
+    repeated = re.compile(r"\b(\w+) \1\b")
+    tags = re.compile(r"<(\w)>[^<]*</\1>")
+    n = len(repeated.findall(text)) + len(tags.findall(text))
+    return n + len(repeated.sub(r"\1", text))
 
-    def test_sre_import(self):
-        if GRAALPYTHON:
-            import _cpython_sre
-            # just ensure that we are providing all symbols
-            expected = {'CODESIZE', 'MAGIC', 'MAXGROUPS', 'MAXREPEAT', '__doc__', '__loader__', '__name__', '__package__', '__spec__', 'ascii_iscased', 'ascii_tolower', 'compile', 'copyright', 'getcodesize', 'unicode_iscased', 'unicode_tolower'}
-            actual = set(_cpython_sre.__dict__.keys())
-            for expected_item in expected:
-                assert expected_item in actual, "_cpython_sre module is missing symbol '%s'" % expected_item
 
-    def test_backreference(self):
-        import re
-        compiled = re.compile(r"(.)\1")
-        assert compiled.match("11")
-        assert compiled.match("22")
-        assert not compiled.match("23")
+def measure(num):
+    for i in range(num):
+        result = find_repeats(TEXT)
+    print(result)
+
+
+def __benchmark__(num=100):
+    measure(num)
@@ -0,0 +1,77 @@
+# Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+# findall and search with character classes and quantifiers; runs on TRegex
+import re
+
+
+def make_text(size):
+    seed = 17
+    parts = []
+    for i in range(size):
+        seed = (seed * 1103515245 + 12345) & 0x7fffffff
+        if seed % 7 == 0:
+            parts.append("id%d" % (seed % 100000))
+        elif seed % 7 == 1:
+            parts.append("user_%s@example.org" % chr(ord("a") + seed % 26))
+        else:
+            parts.append("lorem")
+    return " ".join(parts)
+
+
+TEXT = make_text(5000)
+
+
+def scan(text):
+    ids = re.compile(r"[a-z]+\d{3,}")
+    mails = re.compile(r"[\w.]+@[a-z]+\.(?:org|com)")
+    words = re.compile(r"\b[A-Za-z]{5}\b")
+    n = len(ids.findall(text)) + len(mails.findall(text)) + len(words.findall(text))
+    m = ids.search(text, len(text) // 2)
+    return n + (m.end() if m else 0)
+
+
+def measure(num):
+    for i in range(num):
+        result = scan(TEXT)
+    print(result)
+
+
+def __benchmark__(num=100):
+    measure(num)
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2019, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -37,28 +37,26 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
-# an empty file for now
+# re.sub with a callable replacement that inspects the match object; runs on TRegex
+import re
 
-c_unicodedata_module = None
+TEXT = " ".join("key%d=%d" % (i, i * 3) for i in range(3000))
 
 
-@__builtin__
-def __get_c_unicodedata():
-    if c_unicodedata_module is None:
-        import _cpython_unicodedata
-        global c_unicodedata_module
-        c_unicodedata_module = _cpython_unicodedata
-    return c_unicodedata_module
+def double(m):
+    return "%s=%d" % (m.group("key"), int(m.group(2)) * 2)
 
 
-east_asian_width = lambda arg: __get_c_unicodedata().east_asian_width(arg)
+def substitute(text):
+    pairs = re.compile(r"(?P<key>\w+)=(\d+)")
+    return len(pairs.sub(double, text))
 
 
-@__builtin__
-def lookup(name):
-    return __get_c_unicodedata().lookup(name)
+def measure(num):
+    for i in range(num):
+        result = substitute(TEXT)
+    print(result)
 
 
-@__builtin__
-def category(char):
-    return __get_c_unicodedata().category(char)
+def __benchmark__(num=100):
+    measure(num)
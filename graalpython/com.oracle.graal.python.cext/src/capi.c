@@ -50,13 +50,12 @@ void*(*PY_TRUFFLE_LANDING_L)(void *rcv, void* name, ...);
 void*(*PY_TRUFFLE_LANDING_D)(void *rcv, void* name, ...);
 void*(*PY_TRUFFLE_LANDING_PTR)(void *rcv, void* name, ...);
 PyObject*(*PY_TRUFFLE_CEXT_LANDING)(void* name, ...);
+PyObject*(*PY_TRUFFLE_CEXT_LANDING_BORROWED)(void* name, ...);
 void* (*PY_TRUFFLE_CEXT_LANDING_L)(void* name, ...);
 void* (*PY_TRUFFLE_CEXT_LANDING_D)(void* name, ...);
 void* (*PY_TRUFFLE_CEXT_LANDING_PTR)(void* name, ...);
 
 
-cache_t cache;
-
 __attribute__((constructor (__COUNTER__)))
 static void initialize_upcall_functions() {
     PY_TRUFFLE_CEXT = (void*)polyglot_eval("python", "import python_cext\npython_cext");
@@ -67,16 +66,12 @@ static void initialize_upcall_functions() {
     PY_TRUFFLE_LANDING_D = ((void*(*)(void *rcv, void* name, ...))polyglot_get_member(PY_TRUFFLE_CEXT, polyglot_from_string("PyTruffle_Upcall_d", SRC_CS)));
     PY_TRUFFLE_LANDING_PTR = ((void*(*)(void *rcv, void* name, ...))polyglot_get_member(PY_TRUFFLE_CEXT, polyglot_from_string("PyTruffle_Upcall_ptr", SRC_CS)));
     PY_TRUFFLE_CEXT_LANDING = ((PyObject*(*)(void* name, ...))polyglot_get_member(PY_TRUFFLE_CEXT, polyglot_from_string("PyTruffle_Cext_Upcall", SRC_CS)));
+    PY_TRUFFLE_CEXT_LANDING_BORROWED = ((PyObject*(*)(void* name, ...))polyglot_get_member(PY_TRUFFLE_CEXT, polyglot_from_string("PyTruffle_Cext_Upcall_Borrowed", SRC_CS)));
     PY_TRUFFLE_CEXT_LANDING_L = ((void*(*)(void* name, ...))polyglot_get_member(PY_TRUFFLE_CEXT, polyglot_from_string("PyTruffle_Cext_Upcall_l", SRC_CS)));
     PY_TRUFFLE_CEXT_LANDING_D = ((void*(*)(void* name, ...))polyglot_get_member(PY_TRUFFLE_CEXT, polyglot_from_string("PyTruffle_Cext_Upcall_d", SRC_CS)));
     PY_TRUFFLE_CEXT_LANDING_PTR = ((void*(*)(void* name, ...))polyglot_get_member(PY_TRUFFLE_CEXT, polyglot_from_string("PyTruffle_Cext_Upcall_ptr", SRC_CS)));
 
-    Py_NoValue = UPCALL_CEXT_O(polyglot_from_string("Py_NoValue", SRC_CS));
-}
-
-__attribute__((constructor (__COUNTER__)))
-static void initialize_handle_cache() {
-    cache = polyglot_invoke(PY_TRUFFLE_CEXT, "PyTruffle_HandleCache_Create", truffle_managed_from_handle);
+    Py_NoValue = UPCALL_CEXT_BORROWED(polyglot_from_string("Py_NoValue", SRC_CS));
 }
 
 void initialize_type_structure(PyTypeObject* structure, PyTypeObject* ptype, polyglot_typeid tid) {
@@ -226,7 +221,7 @@ void* native_pointer_to_java(PyObject* val) {
     } else if (obj == Py_None) {
         return Py_None;
     } else if (!truffle_cannot_be_handle(obj)) {
-        return resolve_handle(cache, (uint64_t)obj);
+        return resolve_handle((uint64_t)obj);
     }
     return obj;
 }
@@ -240,7 +235,7 @@ void* native_long_to_java(uint64_t val) {
     } else if (obj == Py_None) {
         return Py_None;
     } else if (!truffle_cannot_be_handle(obj)) {
-        return resolve_handle(cache, (uint64_t)obj);
+        return resolve_handle((uint64_t)obj);
     }
     return obj;
 }
@@ -255,7 +250,7 @@ void* to_java_type(PyTypeObject* cls) {
 }
 
 PyObject* to_sulong(void *o) {
-    return polyglot_invoke(PY_TRUFFLE_CEXT, "to_sulong", o);
+    return UPCALL_CEXT_O(polyglot_from_string("to_sulong", SRC_CS), o);
 }
 
 /** to be used from Java code only; reads native 'ob_type' field */
@@ -356,6 +351,11 @@ void* NativeHandle_ForArray(void* jobj, ssize_t element_size) {
     return truffle_deref_handle_for_managed(jobj);
 }
 
+/** to be used from Java code only; releases a handle created by 'PyObjectHandle_ForJavaObject' */
+void PyTruffle_ReleaseHandle(void* handle) {
+    truffle_release_handle(handle);
+}
+
 const char* PyTruffle_StringToCstr(void* o, int32_t strLen) {
     const char *buffer;
     const char *str;
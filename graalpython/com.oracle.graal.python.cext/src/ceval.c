@@ -67,7 +67,7 @@ void PyEval_RestoreThread(PyThreadState *ptr) {
 
 UPCALL_ID(PyEval_GetBuiltins);
 PyObject* PyEval_GetBuiltins() {
-	return UPCALL_CEXT_O(_jls_PyEval_GetBuiltins);
+	return UPCALL_CEXT_BORROWED(_jls_PyEval_GetBuiltins);
 }
 
 int PyEval_MergeCompilerFlags(PyCompilerFlags *cf) {
@@ -86,7 +86,7 @@ int PyThread_acquire_lock(PyThread_type_lock aLock, int waitflag) {
 
 UPCALL_ID(PyThread_release_lock);
 void PyThread_release_lock(PyThread_type_lock aLock) {
-    UPCALL_CEXT_O(_jls_PyThread_release_lock, native_to_java(aLock));
+    UPCALL_CEXT_VOID(_jls_PyThread_release_lock, native_to_java(aLock));
 }
 
 
@@ -56,7 +56,7 @@ void PyErr_BadInternalCall(void) {
 
 UPCALL_ID(PyErr_Occurred);
 PyObject* PyErr_Occurred() {
-    return UPCALL_CEXT_O(_jls_PyErr_Occurred, ERROR_MARKER);
+    return UPCALL_CEXT_BORROWED(_jls_PyErr_Occurred, ERROR_MARKER);
 }
 
 void PyErr_SetString(PyObject *exception, const char *string) {
@@ -112,6 +112,10 @@ void PyErr_Fetch(PyObject **p_type, PyObject **p_value, PyObject **p_traceback)
     	*p_type = PyTuple_GetItem(result, 0);
     	*p_value = PyTuple_GetItem(result, 1);
     	*p_traceback = PyTuple_GetItem(result, 2);
+    	Py_XINCREF(*p_type);
+    	Py_XINCREF(*p_value);
+    	Py_XINCREF(*p_traceback);
+    	Py_DECREF(result);
     }
 }
 
@@ -126,10 +130,11 @@ void PyErr_GetExcInfo(PyObject **p_type, PyObject **p_value, PyObject **p_traceb
     	*p_type = PyTuple_GetItem(result, 0);
     	*p_value = PyTuple_GetItem(result, 1);
     	*p_traceback = PyTuple_GetItem(result, 2);
+    	Py_XINCREF(*p_type);
+    	Py_XINCREF(*p_value);
+    	Py_XINCREF(*p_traceback);
+    	Py_DECREF(result);
     }
-    Py_XINCREF(*p_type);
-    Py_XINCREF(*p_value);
-    Py_XINCREF(*p_traceback);
 }
 
 // taken from CPython "Python/errors.c"
@@ -63,7 +63,7 @@ PyObject* PyImport_ImportModuleLevel(const char *name, PyObject *globals, PyObje
 
 UPCALL_ID(PyImport_GetModuleDict);
 PyObject* PyImport_GetModuleDict() {
-    return UPCALL_CEXT_O(_jls_PyImport_GetModuleDict);
+    return UPCALL_CEXT_BORROWED(_jls_PyImport_GetModuleDict);
 }
 
 PyObject* _PyImport_AddModuleObject(PyObject *name, PyObject *modules) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.graalvm.polyglot.Context;
+import org.junit.Test;
+
+public class ThreadPoolTests {
+
+    private static String run(String source) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Context context = Context.newBuilder().allowExperimentalOptions(true).allowAllAccess(true).option("python.WithThread", "true").option("python.ThreadPool",
+                        "true").out(out).err(out).build()) {
+            context.eval("python", source);
+        }
+        return out.toString().replaceAll("\r\n", "\n");
+    }
+
+    @Test
+    public void reusesWorkers() {
+        String source = "import threading\n" +
+                        "idents = []\n" +
+                        "for i in range(5):\n" +
+                        "    t = threading.Thread(target=lambda: idents.append(threading.get_ident()))\n" +
+                        "    t.start()\n" +
+                        "    t.join()\n" +
+                        "print(len(idents), len(set(idents)))\n";
+        // a joined thread's worker is idle again and picks up the next thread
+        assertEquals("5 1\n", run(source));
+    }
+
+    @Test
+    public void survivesFailingTask() {
+        String source = "import _thread\n" +
+                        "def fail(lock, sentinels, idents):\n" +
+                        "    sentinel = _thread._set_sentinel()\n" +
+                        "    sentinel.acquire()\n" +
+                        "    sentinels.append(sentinel)\n" +
+                        "    idents.append(_thread.get_ident())\n" +
+                        "    lock.release()\n" +
+                        "    raise ValueError('task failed')\n" +
+                        "def run(lock, idents):\n" +
+                        "    idents.append(_thread.get_ident())\n" +
+                        "    lock.release()\n" +
+                        "lock = _thread.allocate_lock()\n" +
+                        "lock.acquire()\n" +
+                        "sentinels = []\n" +
+                        "idents = []\n" +
+                        "_thread.start_new_thread(fail, (lock, sentinels, idents))\n" +
+                        "lock.acquire()\n" +
+                        "# released once the failing task is finished\n" +
+                        "sentinels[0].acquire()\n" +
+                        "_thread.start_new_thread(run, (lock, idents))\n" +
+                        "lock.acquire()\n" +
+                        "print(len(set(idents)))\n";
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        String out;
+        try {
+            System.setErr(new PrintStream(err, true));
+            out = run(source);
+        } finally {
+            System.setErr(originalErr);
+        }
+        assertEquals("1\n", out);
+        assertTrue(err.toString(), err.toString().contains("task failed"));
+    }
+
+    @Test
+    public void shutsDownWithThreadingImported() {
+        String source = "import threading\n" +
+                        "t = threading.Thread(target=lambda: print('ran'))\n" +
+                        "t.start()\n" +
+                        "t.join()\n";
+        // closing the context must not hang on idle workers
+        assertEquals("ran\n", run(source));
+    }
+}
@@ -37,7 +37,9 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
+import gc
 import sys
+import weakref
 
 from . import CPyExtType, CPyExtTestCase, CPyExtFunction, GRAALPYTHON, unhandled_error_compare
 
@@ -165,6 +167,75 @@ class TestObject(object):
         tester.get_dict()["extra"] = "blah"
         assert tester.extra == "blah"
 
+    def test_refcnt(self):
+        TestRefcnt = CPyExtType("TestRefcnt",
+                             """static PyObject* incref_decref(PyObject* self, PyObject* obj) {
+                                 Py_ssize_t before = Py_REFCNT(obj);
+                                 Py_ssize_t acquired;
+                                 Py_INCREF(obj);
+                                 Py_INCREF(obj);
+                                 acquired = Py_REFCNT(obj) - before;
+                                 Py_DECREF(obj);
+                                 Py_DECREF(obj);
+                                 return Py_BuildValue("nn", acquired, Py_REFCNT(obj) - before);
+                             }
+                             """,
+                             tp_methods='{"incref_decref", incref_decref, METH_O, ""}'
+        )
+        tester = TestRefcnt()
+        for obj in (object(), [1, 2, 3], tester):
+            assert tester.incref_decref(obj) == (2, 0), "was: %s" % (tester.incref_decref(obj),)
+
+    def test_release(self):
+        TestRelease = CPyExtType("TestRelease",
+                             """static PyObject* owned = NULL;
+                             static PyObject* own(PyObject* self, PyObject* obj) {
+                                 Py_INCREF(obj);
+                                 owned = obj;
+                                 Py_RETURN_NONE;
+                             }
+                             static PyObject* release(PyObject* self) {
+                                 Py_DECREF(owned);
+                                 owned = NULL;
+                                 Py_RETURN_NONE;
+                             }
+                             static PyObject* get(PyObject* self) {
+                                 Py_INCREF(owned);
+                                 return owned;
+                             }
+                             """,
+                             tp_methods='{"own", own, METH_O, ""}, {"release", (PyCFunction)release, METH_NOARGS, ""}, {"get", (PyCFunction)get, METH_NOARGS, ""}'
+        )
+        class Owned:
+            pass
+
+        tester = TestRelease()
+
+        # once native code dropped its reference, nothing may keep the object alive
+        obj = Owned()
+        tester.own(obj)
+        tester.release()
+        ref = weakref.ref(obj)
+        del obj
+        i = 0
+        while ref() is not None and i < 500:
+            gc.collect()
+            i += 1
+        assert ref() is None
+
+        # an object re-acquired by native code must survive its managed references
+        obj = Owned()
+        obj.value = 42
+        tester.own(obj)
+        tester.release()
+        tester.own(obj)
+        del obj
+        for i in range(10):
+            gc.collect()
+        obj = tester.get()
+        assert obj.value == 42, "was: %s" % obj.value
+        tester.release()
+
     def test_repr(self):
         TestRepr = CPyExtType("TestRepr", '')
         tester = TestRepr()
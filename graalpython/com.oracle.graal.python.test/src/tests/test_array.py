@@ -96,3 +96,165 @@ def test_add_int_to_long_array():
     y = array('l', [1, 2])
     y[0] = 42 # should not raise
     assert y[0] == 42
+
+
+def test_typecodes():
+    from array import array
+    for typecode, value in (('b', -128), ('B', 255), ('h', -32768), ('H', 65535), ('i', -2**31), ('I', 2**32 - 1),
+                            ('l', -2**63), ('L', 2**64 - 1), ('q', 2**63 - 1), ('Q', 2**64 - 1), ('d', 0.5)):
+        a = array(typecode, [value, 1])
+        assert a.typecode == typecode
+        assert a[0] == value
+        assert a.tolist() == [value, 1]
+        assert list(a) == [value, 1]
+    assert array('f', [1.1])[0] == 1.100000023841858
+    assert array('u', 'ab')[1] == 'b'
+    assert array('i').itemsize == 4
+    assert array('h').itemsize == 2
+    assert array('d').itemsize == 8
+
+
+def test_overflow():
+    from array import array
+    for typecode, value in (('b', 128), ('b', -129), ('B', -1), ('B', 256), ('h', 2**15), ('H', -1), ('i', 2**31),
+                            ('I', -1), ('I', 2**32), ('l', 2**63), ('L', -1), ('L', 2**64), ('q', -2**63 - 1), ('Q', 2**64)):
+        assert_raises(OverflowError, array, typecode, [value])
+        a = array(typecode, [0])
+        assert_raises(OverflowError, a.append, value)
+        assert_raises(OverflowError, a.__setitem__, 0, value)
+        assert a[0] == 0
+    assert_raises(TypeError, array, 'i', [1.5])
+    assert_raises(TypeError, array, 'd', ['a'])
+    assert_raises(TypeError, array, 'u', ['ab'])
+    assert_raises(TypeError, array, 'i', 'ab')
+    assert_raises(ValueError, array, 'x')
+
+
+def test_repr():
+    from array import array
+    assert repr(array('B')) == "array('B')"
+    assert repr(array('u', 'ab')) == "array('u', 'ab')"
+    assert repr(array('d', [1, 2])) == "array('d', [1.0, 2.0])"
+    assert repr(array('Q', [2**64 - 1])) == "array('Q', [18446744073709551615])"
+
+
+def test_bytes_roundtrip():
+    from array import array
+    for typecode, values in (('b', [-1, 2]), ('B', [1, 255]), ('u', 'xy'), ('h', [-2, 3]), ('H', [1, 65535]),
+                             ('i', [-5, 6]), ('I', [7, 2**32 - 1]), ('l', [-9, 10]), ('L', [11, 2**64 - 1]),
+                             ('q', [-13, 14]), ('Q', [15, 2**64 - 1]), ('f', [0.5, -2.0]), ('d', [1.5, -0.25])):
+        a = array(typecode, values)
+        data = a.tobytes()
+        assert len(data) == len(a) * a.itemsize
+        b = array(typecode)
+        b.frombytes(data)
+        assert b == a
+        assert array(typecode, data) == a
+    assert array('B', b'\x01\x02').tobytes() == b'\x01\x02'
+    assert_raises(ValueError, array('i').frombytes, b'abc')
+    assert_raises(TypeError, array('i').frombytes, 'abcd')
+
+
+def test_file_roundtrip():
+    import io
+    from array import array
+    a = array('d', [float(i) for i in range(100)])
+    f = io.BytesIO()
+    a.tofile(f)
+    assert f.getvalue() == a.tobytes()
+    f.seek(0)
+    b = array('d')
+    b.fromfile(f, 100)
+    assert b == a
+
+    f.seek(0)
+    c = array('d')
+    assert_raises(EOFError, c.fromfile, f, 101)
+    assert c == a
+    assert_raises(ValueError, c.fromfile, f, -1)
+
+
+def test_list_and_unicode():
+    from array import array
+    a = array('i', [1, 2])
+    a.extend([3, 4])
+    a.extend(array('i', [5]))
+    a.fromlist([6])
+    assert a.tolist() == [1, 2, 3, 4, 5, 6]
+    assert_raises(TypeError, a.extend, array('l', [7]))
+    assert_raises(TypeError, a.fromlist, (7,))
+    assert_raises(OverflowError, a.fromlist, [7, 2**40])
+    assert len(a) == 6
+
+    u = array('u', 'ab')
+    u.fromunicode('c')
+    assert u.tounicode() == 'abc'
+    assert_raises(ValueError, a.tounicode)
+    assert_raises(ValueError, a.fromunicode, 'x')
+
+
+def test_slices():
+    from array import array
+    a = array('H', [1, 2, 3, 4])
+    assert a[1:3] == array('H', [2, 3])
+    assert a[::-1].typecode == 'H'
+    a[0:2] = array('H', [9])
+    assert a == array('H', [9, 3, 4])
+    assert_raises(TypeError, a.__setitem__, slice(0, 1), [1])
+    assert_raises(TypeError, a.__setitem__, slice(0, 1), array('h', [1]))
+    assert_raises(IndexError, a.__getitem__, 3)
+    assert a[-1] == 4
+
+
+def test_buffer():
+    import binascii
+    from array import array
+    assert binascii.hexlify(array('B', [1, 255])) == b'01ff'
+    assert len(binascii.hexlify(array('i', [1, 2]))) == 16
+    assert int.from_bytes(array('B', [1, 2]), 'big') == 258
+
+
+def test_compact_storages():
+    from array import array
+    f = array('f', [0.1, 1.5])
+    assert f[0] != 0.1 and abs(f[0] - 0.1) < 1e-7
+    assert f[1] == 1.5
+    f.append(2)
+    f += array('f', [-3.25])
+    assert f[1:] == array('f', [1.5, 2.0, -3.25])
+    assert 2.0 in f and f[3] == -3.25
+    assert (f * 2)[4] == f[0]
+    assert f.tolist()[2:] == [2.0, -3.25]
+    assert array('f', f.tobytes()) == f
+
+    h = array('h', [-32768, 32767])
+    h.extend([1, -1])
+    assert h.tolist() == [-32768, 32767, 1, -1]
+    assert_raises(OverflowError, h.append, 32768)
+    assert h < array('h', [-32768, 32767, 2])
+    assert -1 in h and 32768 not in h
+    g = array('h')
+    g.frombytes(h.tobytes())
+    assert g == h
+
+
+def test_contains_and_compare_values():
+    from array import array
+    u = array('u', 'abc')
+    assert 'a' in u and 'd' not in u
+    assert 97 not in array('u', 'a')
+    assert u < array('u', 'abd') and u > array('u', 'ab')
+    assert array('u', 'b') > array('u', 'a')
+    assert array('u', 'a') != array('B', [97])
+    for typecode in 'QL':
+        big = 2**63 if typecode == 'Q' or array(typecode).itemsize == 8 else 2**31
+        top = 2 * big - 1
+        a = array(typecode, [1, big, top])
+        assert big in a and top in a
+        assert -1 not in a and top + 1 not in a
+        assert array(typecode, [big]) > array(typecode, [1])
+        assert array(typecode, [1]) < array(typecode, [top])
+        assert array(typecode, [top]) >= array(typecode, [big])
+        assert array(typecode, [big]) == array('d', [big])
+        assert array(typecode, [big, 1]) != array(typecode, [big, 2])
+        assert array(typecode, [big]) > array('b', [-1])
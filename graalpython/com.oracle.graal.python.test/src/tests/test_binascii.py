@@ -78,3 +78,45 @@ class IndependetTest(unittest.TestCase):
         if (sys.version_info.major >= 3 and sys.version_info.minor >= 6):
             self.assertRaises(TypeError, binascii.b2a_base64, 'Ahoj', newline=True)
             self.assertRaises(TypeError, binascii.b2a_base64, 10, newline=True)
+
+    def test_a2b_base64(self):
+        self.assertEqual(binascii.a2b_base64(b'aGVsbG8=\n'), b'hello')
+        self.assertEqual(binascii.a2b_base64('aGVs bG8='), b'hello')
+        self.assertEqual(binascii.a2b_base64(memoryview(b'aGVsbG8=')), b'hello')
+        self.assertRaises(binascii.Error, binascii.a2b_base64, b'aGVsbG8')
+        self.assertRaises(binascii.Error, binascii.a2b_base64, b'aGVsb')
+        self.assertRaises(ValueError, binascii.a2b_base64, 'aGVsbG8=€')
+
+    def test_hex(self):
+        data = bytes(range(256))
+        hexed = binascii.hexlify(data)
+        self.assertEqual(type(hexed), bytes)
+        self.assertEqual(hexed, data.hex().encode('ascii'))
+        self.assertEqual(binascii.b2a_hex(bytearray(b'\x00\xff')), b'00ff')
+        self.assertEqual(binascii.unhexlify(hexed), data)
+        self.assertEqual(binascii.a2b_hex('FF00'), b'\xff\x00')
+        self.assertRaises(binascii.Error, binascii.unhexlify, b'abc')
+        self.assertRaises(binascii.Error, binascii.unhexlify, b'zz')
+
+    def test_base64_module_codecs(self):
+        import base64
+        data = bytes(range(256)) * 3
+        for n in (0, 1, 2, 3, 4, 5, 6, 7, 255, len(data)):
+            chunk = data[:n]
+            self.assertEqual(base64.b16decode(base64.b16encode(chunk)), chunk)
+            self.assertEqual(base64.b32decode(base64.b32encode(chunk)), chunk)
+            self.assertEqual(base64.b85decode(base64.b85encode(chunk)), chunk)
+            self.assertEqual(base64.b64decode(base64.b64encode(chunk)), chunk)
+            self.assertEqual(base64.urlsafe_b64decode(base64.urlsafe_b64encode(chunk)), chunk)
+        self.assertEqual(base64.b32encode(b'a'), b'ME======')
+        self.assertEqual(base64.b32encode(bytearray(b'abcd')), b'MFRGGZA=')
+        self.assertEqual(base64.b32decode(b'me======', casefold=True), b'a')
+        self.assertEqual(base64.b32decode(b'MFRGGZA=', map01=b'L'), b'abcd')
+        self.assertEqual(base64.b16encode(memoryview(b'\xab')), b'AB')
+        self.assertEqual(base64.b16decode('ab', casefold=True), b'\xab')
+        self.assertEqual(base64.b85encode(b'ab'), b'VPX')
+        self.assertEqual(base64.b85encode(b'ab', pad=True), b'VPXIP')
+        self.assertRaises(binascii.Error, base64.b16decode, b'ab')
+        self.assertRaises(binascii.Error, base64.b32decode, b'ME=====')
+        self.assertRaises(binascii.Error, base64.b32decode, b'M1======')
+        self.assertRaises(ValueError, base64.b85decode, b'VP"')
@@ -0,0 +1,110 @@
+# Copyright (c) 2018, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import bisect
+
+
+class Seq:
+    def __init__(self, items):
+        self.items = items
+
+    def __len__(self):
+        return len(self.items)
+
+    def __getitem__(self, idx):
+        return self.items[idx]
+
+    def insert(self, idx, item):
+        self.items.insert(idx, item)
+
+
+def test_bisect_int():
+    a = [1, 2, 2, 2, 3, 5]
+    assert bisect.bisect_left(a, 2) == 1
+    assert bisect.bisect_right(a, 2) == 4
+    assert bisect.bisect(a, 4) == 5
+    assert bisect.bisect_left(a, 0) == 0
+    assert bisect.bisect_right(a, 9) == 6
+    assert bisect.bisect_left(a, 2, 2) == 2
+    assert bisect.bisect_right(a, 2, 0, 3) == 3
+    assert bisect.bisect_left(a, 2, hi=1) == 1
+    assert bisect.bisect_right(a, 2.5) == 4
+    assert bisect.bisect_right((1, 2, 3), 2) == 2
+
+
+def test_bisect_double_and_object():
+    a = [0.5, 1.5, 1.5, 2.5]
+    assert bisect.bisect_left(a, 1.5) == 1
+    assert bisect.bisect_right(a, 1.5) == 3
+    assert bisect.bisect_left(a, 1) == 1
+    words = ["apple", "fig", "pear"]
+    assert bisect.bisect_left(words, "fig") == 1
+    assert bisect.bisect_right(words, "fig") == 2
+    assert bisect.bisect_right(Seq([1, 3, 5]), 4) == 2
+
+
+def test_insort():
+    a = []
+    for item in [5, 1, 4, 2, 3, 2]:
+        bisect.insort(a, item)
+    assert a == [1, 2, 2, 3, 4, 5]
+    bisect.insort_left(a, 2.5)
+    bisect.insort_right(a, "x" < "y")
+    assert a == [1, True, 2, 2, 2.5, 3, 4, 5]
+    d = [1.0, 3.0]
+    bisect.insort_left(d, 2.0)
+    assert d == [1.0, 2.0, 3.0]
+    s = Seq([1, 3])
+    bisect.insort(s, 2)
+    assert s.items == [1, 2, 3]
+
+
+def test_errors():
+    try:
+        bisect.bisect_left([1, 2], 1, -1)
+    except ValueError:
+        pass
+    else:
+        assert False, "expected ValueError"
+    try:
+        bisect.bisect_right([1, 2], 1, 0, 5)
+    except IndexError:
+        pass
+    else:
+        assert False, "expected IndexError"
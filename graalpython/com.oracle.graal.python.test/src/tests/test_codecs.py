@@ -188,3 +188,83 @@ def test_decode_report_consumed():
     dec, consumed = codecs.utf_8_decode(data)
     assert dec == "memory of “unsigned bytes” of the given length."
     assert consumed == len(data)
+
+
+def test_str_encode_fast_paths():
+    assert "abc".encode() == b"abc"
+    assert "h\xe9llo €".encode("utf-8") == b"h\xc3\xa9llo \xe2\x82\xac"
+    assert "h\xe9llo".encode("UTF_8") == b"h\xc3\xa9llo"
+    assert "abc".encode("ascii") == b"abc"
+    assert "\xe4\xf6\xfc".encode("latin-1") == b"\xe4\xf6\xfc"
+    assert "a\U0001F600".encode("utf-16") == b"\xff\xfea\x00=\xd8\x00\xde"
+    assert_raises(UnicodeEncodeError, "\xe9".encode, "ascii")
+    assert_raises(UnicodeEncodeError, "€".encode, "latin-1")
+    assert_raises(UnicodeEncodeError, "\ud800".encode, "utf-8")
+    assert "[\xe9]".encode("ascii", "ignore") == b"[]"
+    assert_raises(LookupError, "abc".encode, "__spam__")
+    assert_raises(TypeError, "abc".encode, 1)
+    assert_raises(TypeError, "abc".encode, None)
+    assert_raises(TypeError, "abc".encode, "utf-8", None)
+    assert "\xe4".encode("LATIN-1") == b"\xe4"
+
+
+def test_bytes_decode_fast_paths():
+    assert b"abc".decode() == "abc"
+    assert b"h\xc3\xa9llo".decode("utf-8") == "h\xe9llo"
+    assert bytearray(b"h\xc3\xa9llo").decode() == "h\xe9llo"
+    assert b"\xe4\xf6\xfc".decode("latin1") == "\xe4\xf6\xfc"
+    assert b"\xff\xfea\x00=\xd8\x00\xde".decode("utf-16") == "a\U0001F600"
+    assert b"\xfe\xff\x00a".decode("utf-16") == "a"
+    assert_raises(UnicodeDecodeError, b"\xff".decode, "ascii")
+    assert_raises(UnicodeDecodeError, b"\xc3".decode, "utf-8")
+    assert_raises(UnicodeDecodeError, b"a".decode, "utf-16")
+    assert b"[\xff]".decode("ascii", "ignore") == "[]"
+    ba = bytearray(b"abc")
+    ba.append(0x64)
+    assert ba.decode("ascii") == "abcd"
+    assert_raises(TypeError, b"abc".decode, None)
+    assert_raises(TypeError, b"abc".decode, "utf-8", None)
+
+
+def test_incremental_decoder():
+    dec = codecs.getincrementaldecoder("utf-8")()
+    data = "a\xe9€\U0001F600z".encode("utf-8")
+    assert "".join(dec.decode(data[i:i + 1]) for i in range(len(data))) + dec.decode(b"", True) == "a\xe9€\U0001F600z"
+    assert dec.decode(b"\xe2\x82") == ""
+    assert dec.getstate() == (b"\xe2\x82", 0)
+    dec.reset()
+    assert dec.getstate() == (b"", 0)
+    dec.setstate((b"\xe2", 0))
+    assert dec.decode(b"\x82\xac") == "€"
+    assert dec.decode(b"\xf0\x9f") == ""
+    assert_raises(UnicodeDecodeError, dec.decode, b"", True)
+
+    dec = codecs.getincrementaldecoder("utf-16")()
+    data = "ab\U0001F600".encode("utf-16")
+    assert "".join(dec.decode(data[i:i + 3]) for i in range(0, len(data), 3)) == "ab\U0001F600"
+    assert codecs.getincrementaldecoder("latin-1")().decode(b"\xe4\xf6", True) == "\xe4\xf6"
+    assert codecs.getincrementaldecoder("utf-8")("replace").decode(b"a\xffb", True) == "a�b"
+
+    import _codecs
+    if hasattr(_codecs, "IncrementalDecoder"):
+        assert _codecs.IncrementalDecoder("utf-8").decode(b"a", True) == "a"
+        assert_raises(TypeError, _codecs.IncrementalDecoder, "utf-8", None)
+        assert_raises(TypeError, _codecs.IncrementalDecoder, None)
+
+
+def test_incremental_decoder_class():
+    import encodings.utf_8
+    decoder_cls = codecs.getincrementaldecoder("utf-8")
+    assert isinstance(decoder_cls, type)
+    assert issubclass(decoder_cls, encodings.utf_8.IncrementalDecoder)
+    assert issubclass(decoder_cls, codecs.IncrementalDecoder)
+    assert isinstance(decoder_cls(), codecs.BufferedIncrementalDecoder)
+
+    class UpperDecoder(decoder_cls):
+        def decode(self, input, final=False):
+            return super().decode(input, final).upper()
+
+    dec = UpperDecoder()
+    assert dec.decode(b"a\xc3") == "A"
+    assert dec.decode(b"\xa9", True) == "\xc9"
+    assert decoder_cls("surrogateescape").decode(b"a\xff", True) == "a\udcff"
@@ -0,0 +1,115 @@
+# Copyright (c) 2018, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import csv
+import io
+
+
+def assert_raises(err, fn, *args, **kwargs):
+    try:
+        fn(*args, **kwargs)
+    except err:
+        pass
+    else:
+        assert False, "expected %s" % err.__name__
+
+
+def test_reader():
+    assert list(csv.reader(["a,b,c\r\n", "1,2,3\r\n"])) == [["a", "b", "c"], ["1", "2", "3"]]
+    assert list(csv.reader(['"a,b","c""d",\n'])) == [["a,b", 'c"d', ""]]
+    assert list(csv.reader(["\n", "x\n"])) == [[], ["x"]]
+    assert list(csv.reader(['a;"b\n', 'c";d\n'], delimiter=";")) == [["a", "b\nc", "d"]]
+    assert list(csv.reader(["a, b,  c"], skipinitialspace=True)) == [["a", "b", "c"]]
+    assert list(csv.reader(["ab\\,c,d"], escapechar="\\")) == [["ab,c", "d"]]
+    assert list(csv.reader(['"a"b,c'])) == [["ab", "c"]]
+    assert list(csv.reader(["é𝄞,\"x\""])) == [["é𝄞", "x"]]
+    assert list(csv.reader(['1,"2"'], quoting=csv.QUOTE_NONNUMERIC)) == [[1.0, "2"]]
+
+
+def test_reader_errors():
+    assert_raises(csv.Error, list, csv.reader(['"a"b,c'], strict=True))
+    assert_raises(csv.Error, list, csv.reader(["a\rb"]))
+    assert_raises(csv.Error, list, csv.reader([b"a,b"]))
+    old = csv.field_size_limit(4)
+    try:
+        assert list(csv.reader(["abcd"])) == [["abcd"]]
+        assert_raises(csv.Error, list, csv.reader(["abcde"]))
+    finally:
+        csv.field_size_limit(old)
+
+
+def test_reader_line_num():
+    r = csv.reader(['a,"b\n', 'c"\n', "d\n"])
+    assert next(r) == ["a", "b\nc"] and r.line_num == 2
+    assert next(r) == ["d"] and r.line_num == 3
+
+
+def test_reader_str_subclass():
+    class S(str):
+        pass
+    assert list(csv.reader([S("a,b\n"), S("c,d\n")])) == [["a", "b"], ["c", "d"]]
+    # a record that starts in the fast path and continues with a str subclass
+    assert list(csv.reader(['a,"b\n', S('c",d\n'), "e\n"])) == [["a", "b\nc", "d"], ["e"]]
+    assert list(csv.reader([S('a,"b\n'), 'c",d\n'])) == [["a", "b\nc", "d"]]
+
+
+def write(rows, **kwargs):
+    s = io.StringIO()
+    csv.writer(s, **kwargs).writerows(rows)
+    return s.getvalue()
+
+
+def test_writer():
+    assert write([["a", 1, 2.5, None], ["b,c", 'd"e', "f\ng"]]) == 'a,1,2.5,\r\n"b,c","d""e","f\ng"\r\n'
+    assert write([[""]]) == '""\r\n'
+    assert write([["a", ""]], quoting=csv.QUOTE_ALL, lineterminator="\n") == '"a",""\n'
+    assert write([['a"b', "c"]], doublequote=False, escapechar="\\") == 'a\\"b,c\r\n'
+    assert write([["a,b", "c\nd"]], quoting=csv.QUOTE_NONE, escapechar="\\") == "a\\,b,c\\\nd\r\n"
+    assert write([[1, "a"]], quoting=csv.QUOTE_NONNUMERIC) == '1,"a"\r\n'
+    rows = [[i, str(i) * 3] for i in range(1000)]
+    assert list(csv.reader(io.StringIO(write(rows)))) == [[str(a), b] for a, b in rows]
+
+
+def test_writer_errors():
+    assert_raises(csv.Error, write, [['a"b']], doublequote=False)
+    assert_raises(csv.Error, write, [[""]], quoting=csv.QUOTE_NONE)
+    assert_raises(csv.Error, write, [1])
+    s = io.StringIO()
+    assert_raises(csv.Error, csv.writer(s).writerows, [["a"], ["b"], 1])
+    assert s.getvalue() == "a\r\nb\r\n"
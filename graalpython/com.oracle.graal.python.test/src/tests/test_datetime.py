@@ -0,0 +1,124 @@
+# Copyright (c) 2018, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+from datetime import date, datetime, timedelta, timezone
+
+
+def assert_raises(err, fn, *args):
+    try:
+        fn(*args)
+    except err:
+        pass
+    else:
+        assert False, "expected %s" % err.__name__
+
+
+def test_timedelta_arithmetic():
+    assert timedelta(1, 86399, 999999) + timedelta(0, 0, 1) == timedelta(2)
+    assert timedelta(0, 1) - timedelta(0, 0, 1) == timedelta(0, 0, 999999)
+    d = -timedelta(1, 1, 1)
+    assert (d.days, d.seconds, d.microseconds) == (-2, 86398, 999999)
+    assert type(timedelta(1) + timedelta(2)) is timedelta
+    assert_raises(OverflowError, lambda: timedelta(999999999) + timedelta(1))
+
+
+def test_date_arithmetic():
+    assert date(2020, 2, 28) + timedelta(1) == date(2020, 2, 29)
+    assert timedelta(2) + date(2019, 12, 31) == date(2020, 1, 2)
+    assert date(2020, 3, 1) - timedelta(1) == date(2020, 2, 29)
+    assert date(2021, 1, 1) - date(2020, 1, 1) == timedelta(366)
+    assert date(2000, 1, 1) + timedelta(hours=23) == date(2000, 1, 1)
+    assert_raises(OverflowError, lambda: date(9999, 12, 31) + timedelta(1))
+    assert_raises(OverflowError, lambda: date(1, 1, 1) - timedelta(1))
+
+
+def test_datetime_arithmetic():
+    dt = datetime(2019, 12, 31, 23, 59, 59, 999999)
+    assert dt + timedelta(0, 0, 1) == datetime(2020, 1, 1)
+    assert dt - timedelta(days=365, seconds=-1) == datetime(2019, 1, 1, 0, 0, 0, 999999)
+    assert datetime(2020, 1, 1) - dt == timedelta(0, 0, 1)
+    assert dt - datetime(2020, 1, 1) == timedelta(-1, 86399, 999999)
+    tz = timezone(timedelta(hours=2))
+    aware = datetime(2020, 1, 1, 12, tzinfo=tz) + timedelta(hours=13)
+    assert aware == datetime(2020, 1, 2, 1, tzinfo=tz) and aware.tzinfo is tz
+    assert datetime(2020, 1, 1, 12, tzinfo=tz) - datetime(2020, 1, 1, 12, tzinfo=timezone.utc) == timedelta(hours=-2)
+    assert_raises(OverflowError, lambda: datetime(9999, 12, 31, 23) + timedelta(hours=1))
+    assert_raises(TypeError, lambda: datetime(2020, 1, 1, tzinfo=tz) - datetime(2020, 1, 1))
+
+
+def test_isoformat():
+    dt = datetime(2020, 5, 17, 8, 3, 9, 12345)
+    assert dt.isoformat() == "2020-05-17T08:03:09.012345"
+    assert str(dt.replace(microsecond=0)) == "2020-05-17 08:03:09"
+    assert dt.isoformat(" ", "milliseconds") == "2020-05-17 08:03:09.012"
+    assert dt.isoformat(timespec="hours") == "2020-05-17T08"
+    assert dt.isoformat(timespec="minutes") == "2020-05-17T08:03"
+    assert dt.replace(tzinfo=timezone(timedelta(hours=-5, minutes=-30))).isoformat() == "2020-05-17T08:03:09.012345-05:30"
+    assert_raises(ValueError, dt.isoformat, "T", "nanoseconds")
+
+
+def test_fromisoformat():
+    assert datetime.fromisoformat("2020-05-17") == datetime(2020, 5, 17)
+    assert datetime.fromisoformat("2020-05-17T08:03:09.012") == datetime(2020, 5, 17, 8, 3, 9, 12000)
+    dt = datetime.fromisoformat("2020-05-17 08:03+01:30")
+    assert dt == datetime(2020, 5, 17, 8, 3, tzinfo=timezone(timedelta(hours=1, minutes=30)))
+    assert datetime.fromisoformat("2020-05-17T08:03:09+00:00").tzinfo is timezone.utc
+    for s in ["2020-13-01", "2020-05-17T08:3", "2020/05/17"]:
+        assert_raises(ValueError, datetime.fromisoformat, s)
+
+
+def test_strftime():
+    dt = datetime(2020, 5, 17, 8, 3, 9, 12345)
+    assert dt.strftime("%Y-%m-%d %H:%M:%S.%f") == "2020-05-17 08:03:09.012345"
+    assert dt.strftime("%j %%z%z%Z") == "138 %z"
+    assert date(2020, 5, 17).strftime("%d/%m/%y %H") == "17/05/20 00"
+
+
+def test_strptime():
+    assert datetime.strptime("2020-05-17 08:03:09.5", "%Y-%m-%d %H:%M:%S.%f") == datetime(2020, 5, 17, 8, 3, 9, 500000)
+    assert datetime.strptime("17/5/69", "%d/%m/%y") == datetime(1969, 5, 17)
+    assert datetime.strptime("17/5/68", "%d/%m/%y") == datetime(2068, 5, 17)
+    assert datetime.strptime("12:30", "%H:%M") == datetime(1900, 1, 1, 12, 30)
+    dt = datetime.strptime("2020-05-17T08:03:09-0530", "%Y-%m-%dT%H:%M:%S%z")
+    assert dt.utcoffset() == timedelta(hours=-5, minutes=-30)
+    assert datetime.strptime("2020-05-17Z", "%Y-%m-%d%z").utcoffset() == timedelta(0)
+    assert datetime.strptime("May 17 2020", "%b %d %Y") == datetime(2020, 5, 17)
+    assert_raises(ValueError, datetime.strptime, "2020-05-17 extra", "%Y-%m-%d")
+    assert_raises(ValueError, datetime.strptime, "02-29", "%m-%d")
+    assert_raises(ValueError, datetime.strptime, "2020-02-30", "%Y-%m-%d")
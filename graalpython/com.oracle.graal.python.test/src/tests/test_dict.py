@@ -597,3 +597,39 @@ def test_calling_hash_and_eq():
     assert b in d
     assert count_hash == 4, count_hash
     assert count_eq == 1, count_eq
+
+
+def test_interned_string_keys():
+    import sys
+    name = "".join(["ke", "y_", "one"])
+    interned = sys.intern(name)
+    assert interned == "key_one"
+    assert sys.intern("key_one") is interned
+
+    d = {}
+    d[name] = 1
+    d["key_two"] = 2
+    assert d["key_one"] == 1
+    assert d[interned] == 1
+    assert d["".join(["key", "_two"])] == 2
+
+    class Obj:
+        pass
+
+    o = Obj()
+    setattr(o, name, 3)
+    assert o.key_one == 3
+    assert getattr(o, "".join(["key", "_one"])) == 3
+
+    if sys.implementation.name == "graalpython":
+        # string keys are stored as their canonical instance
+        key = "".join(["key", "_three"])
+        d1 = {key: 1}
+        d2 = {}
+        d2["".join(["key_", "three"])] = 2
+        assert next(iter(d1)) is next(iter(d2))
+        assert next(iter(d1)) is sys.intern(key)
+
+        o2 = Obj()
+        setattr(o2, "".join(["key", "_four"]), 4)
+        assert next(iter(o2.__dict__)) is sys.intern("key_four")
@@ -152,3 +152,66 @@ def test_for_comprehension_with_nested_loop_and_conditional():
     ]
 
     assert res == ['a', 'b', 'c', 'a', 'b', 'c']
+
+
+def test_for_unpack_builtin_iterators():
+    d = {"a": 1, "b": 2, "c": 3}
+    res = []
+    for k, v in d.items():
+        res.append((k, v))
+    assert res == [("a", 1), ("b", 2), ("c", 3)]
+
+    res = []
+    for i, (k, v) in enumerate(d.items(), 10):
+        res.append((i, k, v))
+    assert res == [(10, "a", 1), (11, "b", 2), (12, "c", 3)]
+
+    res = []
+    for x, y, z in zip("abc", range(5), [True, False, None, 1]):
+        res.append((x, y, z))
+    assert res == [("a", 0, True), ("b", 1, False), ("c", 2, None)]
+
+    # a target of different arity still needs the tuple and must fail
+    try:
+        for a, b in zip("ab", "cd", "ef"):
+            pass
+    except ValueError:
+        pass
+    else:
+        assert False, "expected ValueError"
+
+    # starred targets and plain targets keep getting the tuple
+    res = []
+    for first, *rest in zip("ab", "cd", "ef"):
+        res.append((first, rest))
+    assert res == [("a", ["c", "e"]), ("b", ["d", "f"])]
+    assert [t for t in enumerate("ab")] == [(0, "a"), (1, "b")]
+
+    # zip() without iterables produces nothing, even for an empty target
+    res = []
+    for [] in zip():
+        res.append(1)
+    assert res == []
+    for () in zip():
+        res.append(1)
+    assert res == []
+
+
+def test_for_unpack_subclass():
+    class MyEnumerate(enumerate):
+        def __next__(self):
+            i, v = enumerate.__next__(self)
+            return v, i
+
+    assert [(v, i) for v, i in MyEnumerate("ab")] == [("a", 0), ("b", 1)]
+
+
+def test_generator_unpack_builtin_iterators():
+    def gen(d):
+        for k, v in d.items():
+            yield k
+            yield v
+        for i, v in enumerate(d):
+            yield i
+
+    assert list(gen({"x": 1, "y": 2})) == ["x", 1, "y", 2, 0, 1]
@@ -0,0 +1,210 @@
+# Copyright (c) 2018, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import functools
+import pickle
+import sys
+
+
+def test_reduce():
+    from functools import reduce
+    assert reduce(lambda a, b: a + b, [1, 2, 3, 4]) == 10
+    assert reduce(lambda a, b: a + b, (1, 2, 3), 10) == 16
+    assert reduce(lambda a, b: a + b, iter("abc")) == "abc"
+    assert reduce(lambda a, b: b, [], None) is None
+    assert reduce(lambda a, b: a * b, range(1, 6)) == 120
+    try:
+        reduce(lambda a, b: a, [])
+    except TypeError:
+        pass
+    else:
+        assert False, "expected TypeError"
+
+    class MyList(list):
+        def __iter__(self):
+            return iter([7])
+
+    assert reduce(lambda a, b: a + b, MyList([1, 2, 3])) == 7
+
+    lst = [1, 2, 3]
+
+    def grow(a, b):
+        if len(lst) < 5:
+            lst.append(b)
+        return a + b
+    assert reduce(grow, lst) == 1 + 2 + 3 + 2 + 3
+
+
+def test_partial():
+    def f(*args, **kwargs):
+        return args, kwargs
+
+    p = functools.partial(f, 1, 2, a=3)
+    assert p() == ((1, 2), {"a": 3})
+    assert p(4, a=5, b=6) == ((1, 2, 4), {"a": 5, "b": 6})
+    assert p.func is f and p.args == (1, 2) and p.keywords == {"a": 3}
+    p.keywords["c"] = 7
+    assert p() == ((1, 2), {"a": 3, "c": 7})
+
+    q = functools.partial(p, 8, d=9)
+    assert q.func is f
+    assert q.args == (1, 2, 8)
+    assert q() == ((1, 2, 8), {"a": 3, "c": 7, "d": 9})
+
+    p.attr = 10
+    assert p.__dict__["attr"] == 10
+    # an inner partial with attributes or of a subclass is not flattened
+    r = functools.partial(p, 11)
+    assert r.func is p and r.args == (11,)
+
+    class MyPartial(functools.partial):
+        pass
+
+    m = MyPartial(f, 1)
+    r = functools.partial(m, 2)
+    if sys.version_info < (3, 10):
+        # later versions also flatten subclasses that do not override __call__
+        assert r.func is m and r.args == (2,)
+    assert r() == ((1, 2), {})
+    assert repr(functools.partial(f, 1, a=2)).startswith("functools.partial(")
+
+    r = pickle.loads(pickle.dumps(functools.partial(max, 1, key=abs)))
+    assert r(-5) == -5
+
+    try:
+        functools.partial(1)
+    except TypeError:
+        pass
+    else:
+        assert False, "expected TypeError"
+
+
+def test_lru_cache():
+    calls = []
+
+    @functools.lru_cache(maxsize=2)
+    def square(x):
+        calls.append(x)
+        return x * x
+
+    assert square(2) == 4
+    assert square(2) == 4
+    assert square(3) == 9
+    assert square(2) == 4
+    assert square(4) == 16  # evicts 3
+    assert square(3) == 9
+    assert calls == [2, 3, 4, 3]
+    info = square.cache_info()
+    assert (info.hits, info.misses, info.maxsize, info.currsize) == (2, 4, 2, 2)
+    assert square.__wrapped__(5) == 25
+    assert square.__name__ == "square"
+    square.cache_clear()
+    assert square.cache_info() == (0, 0, 2, 0)
+
+    @functools.lru_cache(maxsize=None, typed=True)
+    def ident(x, y=0):
+        return (type(x), x, y)
+
+    assert ident(1) == (int, 1, 0)
+    assert ident(1.0) == (float, 1.0, 0)
+    assert ident(1, y=2) == (int, 1, 2)
+    assert ident(1, y=2) == (int, 1, 2)
+    assert ident.cache_info() == (1, 3, None, 3)
+
+    @functools.lru_cache()
+    def fib(n):
+        return n if n < 2 else fib(n - 1) + fib(n - 2)
+    assert fib(80) == 23416728348467685
+
+    @functools.lru_cache(maxsize=0)
+    def nocache(x):
+        return x
+    nocache(1)
+    nocache(1)
+    assert nocache.cache_info() == (0, 2, 0, 0)
+
+    class A:
+        @functools.lru_cache(maxsize=16)
+        def m(self, x):
+            return self, x
+
+    a = A()
+    assert a.m(1) == (a, 1)
+    assert a.m(1) == (a, 1)
+    assert A.m.cache_info().hits == 1
+
+    try:
+        square([])
+    except TypeError:
+        pass
+    else:
+        assert False, "expected TypeError"
+
+
+def test_lru_cache_threads():
+    import threading
+    calls = []
+
+    @functools.lru_cache(maxsize=8)
+    def cached(x):
+        calls.append(x)
+        return x * 2
+
+    errors = []
+
+    def run(offset):
+        try:
+            for i in range(2000):
+                x = (i * 7 + offset) % 20
+                assert cached(x) == x * 2
+        except BaseException as e:
+            errors.append(e)
+
+    threads = [threading.Thread(target=run, args=(i,)) for i in range(8)]
+    for t in threads:
+        t.start()
+    for t in threads:
+        t.join()
+    assert errors == [], errors
+    info = cached.cache_info()
+    assert info.hits + info.misses == 8 * 2000, info
+    assert info.misses == len(calls), (info, len(calls))
+    assert info.currsize <= 8, info
+    for x in range(20):
+        assert cached(x) == x * 2
@@ -66,3 +66,73 @@ def test_list_comprehension():
 
     ll = make_list(100000)
     assert ll[-1] == 99999
+
+
+def test_builtin_consumers():
+    data = [3, 1, 4, 1, 5, 9, 2, 6]
+    assert sum(x * 2 for x in data) == 62
+    assert sum(x for x in data if x > 3) == 24
+    assert sum(x * y for x in range(3) for y in range(3)) == 9
+    assert sum(x / 2 for x in data) == 15.5
+    assert sum(x for x in []) == 0
+    assert min(x - 1 for x in data) == 0
+    assert max(x - 1 for x in data) == 8
+    assert min(x for x in ["b", "a", "c"]) == "a"
+    assert any(x > 8 for x in data) is True
+    assert any(x > 9 for x in data) is False
+    assert all(x > 0 for x in data) is True
+    assert all(x > 1 for x in data) is False
+    assert all(x for x in []) is True
+    assert list(x + 1 for x in data if x % 2) == [4, 2, 2, 6, 10]
+    assert set(x % 3 for x in data) == {0, 1, 2}
+    assert [(x, y) for x in range(2) for y in "ab"] == [(0, "a"), (0, "b"), (1, "a"), (1, "b")]
+    assert {x % 4 for x in data} == {0, 1, 2, 3}
+    assert {x: x * x for x in range(4) if x} == {1: 1, 2: 4, 3: 9}
+
+    for fn in (min, max):
+        try:
+            fn(x for x in [])
+        except ValueError as e:
+            assert "empty sequence" in str(e)
+        else:
+            assert False, "expected ValueError"
+
+
+def test_builtin_consumer_short_circuit():
+    seen = []
+
+    def check(x):
+        seen.append(x)
+        return x
+
+    assert any(check(x) for x in [0, 0, 1, 0, 1])
+    assert seen == [0, 0, 1]
+    del seen[:]
+    assert not all(check(x) for x in [1, 0, 1])
+    assert seen == [1, 0]
+
+
+def test_builtin_consumer_closure():
+    def make(n):
+        factor = n
+        return sum(x * factor for x in range(n)), [lambda: x + factor for x in range(2)]
+
+    total, lambdas = make(3)
+    assert total == 9
+    assert [f() for f in lambdas] == [4, 4]
+
+
+def test_rebound_builtin_consumer():
+    def sum(it, start=0):
+        return ("mine", list(it), start)
+
+    assert sum(x for x in range(3)) == ("mine", [0, 1, 2], 0)
+
+    import builtins
+    original = builtins.any
+    try:
+        builtins.any = lambda it: list(it)
+        assert any(x for x in range(3)) == [0, 1, 2]
+    finally:
+        builtins.any = original
+    assert any(x for x in range(3)) is True
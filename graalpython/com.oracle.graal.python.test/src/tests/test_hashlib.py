@@ -0,0 +1,137 @@
+# Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import hashlib
+import array
+import hmac
+import mmap
+import tempfile
+import unittest
+
+
+class HashlibTest(unittest.TestCase):
+
+    def test_known_digests(self):
+        self.assertEqual(hashlib.md5(b"abc").hexdigest(), "900150983cd24fb0d6963f7d28e17f72")
+        self.assertEqual(hashlib.sha1(b"abc").hexdigest(), "a9993e364706816aba3e25717850c26c9cd0d89d")
+        self.assertEqual(hashlib.sha256(b"abc").hexdigest(),
+                         "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad")
+        self.assertEqual(hashlib.new("sha512", b"").digest_size, 64)
+
+    def test_attributes(self):
+        h = hashlib.new("sha256")
+        self.assertEqual(h.name, "sha256")
+        self.assertEqual(h.digest_size, 32)
+        self.assertEqual(h.block_size, 64)
+
+    def test_update_and_copy(self):
+        h = hashlib.sha256(b"a")
+        c = h.copy()
+        h.update(bytearray(b"bc"))
+        c.update(memoryview(b"bc"))
+        self.assertEqual(h.digest(), c.digest())
+        self.assertEqual(h.digest(), hashlib.sha256(b"abc").digest())
+        # digest does not finalize the object
+        h.update(b"d")
+        self.assertEqual(h.hexdigest(), hashlib.sha256(b"abcd").hexdigest())
+
+    def test_update_array(self):
+        self.assertEqual(hashlib.sha256(array.array("B", b"abc")).digest(), hashlib.sha256(b"abc").digest())
+        self.assertEqual(hashlib.sha256(array.array("b", b"abc")).digest(), hashlib.sha256(b"abc").digest())
+        self.assertEqual(hashlib.md5(array.array("i", [1, 2])).digest(),
+                         hashlib.md5(array.array("i", [1, 2]).tobytes()).digest())
+
+    def test_update_str(self):
+        self.assertRaises(TypeError, hashlib.sha256, "abc")
+        self.assertRaises(TypeError, hashlib.sha256().update, 1)
+
+    def test_mmap(self):
+        data = b"x" * 100000 + b"y"
+        with tempfile.TemporaryFile() as f:
+            f.write(data)
+            f.flush()
+            m = mmap.mmap(f.fileno(), 0)
+            self.assertEqual(hashlib.sha1(m).hexdigest(), hashlib.sha1(data).hexdigest())
+            m.close()
+
+    def test_upper_case_names(self):
+        self.assertEqual(hashlib.new("SHA1", b"abc").hexdigest(), hashlib.sha1(b"abc").hexdigest())
+        self.assertEqual(hashlib.new("SHA512", b"abc").digest(), hashlib.sha512(b"abc").digest())
+
+    def test_unsupported(self):
+        self.assertRaises(ValueError, hashlib.new, "no_such_hash")
+
+    def test_hmac(self):
+        self.assertEqual(hmac.digest(b"key", b"msg", "sha256").hex(),
+                         "2d93cbc1be167bcb1637a4a23cbff01a7878f0c50ee833954ea5221bb1b8c628")
+        self.assertEqual(hmac.new(b"key", b"msg", "sha256").hexdigest(),
+                         "2d93cbc1be167bcb1637a4a23cbff01a7878f0c50ee833954ea5221bb1b8c628")
+
+    def test_pbkdf2_hmac(self):
+        self.assertEqual(hashlib.pbkdf2_hmac("sha1", b"password", b"salt", 1, 20).hex(),
+                         "0c60c80f961f0e71f3a9b524af6012062fe037a6")
+        self.assertEqual(hashlib.pbkdf2_hmac("sha1", b"password", b"salt", 2).hex(),
+                         "ea6c014dc72d6f8ccd1ed92ace1d41f0d8de8957")
+
+    def test_blake2(self):
+        self.assertEqual(hashlib.blake2b(b"abc").hexdigest(),
+                         "ba80a53f981c4d0d6a2797b69f12f6e94c212f14685ac4b74b12bb6fdbffa2d1"
+                         "7d87c5392aab792dc252d5de4533cc9518d38aa8dbf1925ab92386edd4009923")
+        self.assertEqual(hashlib.blake2s(b"abc").hexdigest(),
+                         "508c5e8c327c14e2e1a72ba34eeb452f37458b209ed63a294d999b4c86675982")
+        self.assertEqual(hashlib.blake2b(b"abc", digest_size=16, key=b"k", salt=b"s", person=b"p").digest_size, 16)
+        self.assertEqual(hashlib.blake2b.SALT_SIZE, 16)
+        self.assertEqual(hashlib.blake2s.MAX_DIGEST_SIZE, 32)
+        self.assertRaises(ValueError, hashlib.blake2s, digest_size=33)
+        self.assertRaises(ValueError, hashlib.blake2b, key=b"k" * 65)
+
+    def test_blake2_copies_are_independent(self):
+        import threading
+        data = b"x" * 100000
+        for constructor in (hashlib.blake2b, hashlib.blake2s):
+            h = constructor(b"prefix")
+            copies = [h.copy() for _ in range(4)]
+            threads = [threading.Thread(target=c.update, args=(data,)) for c in copies]
+            for t in threads:
+                t.start()
+            for t in threads:
+                t.join()
+            expected = constructor(b"prefix" + data).hexdigest()
+            for c in copies:
+                self.assertEqual(c.hexdigest(), expected)
@@ -0,0 +1,137 @@
+# Copyright (c) 2018, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import heapq
+
+
+def check_invariant(heap, is_max=False):
+    for pos, item in enumerate(heap):
+        if pos:
+            parent = heap[(pos - 1) >> 1]
+            assert (item <= parent) if is_max else (parent <= item)
+
+
+def test_push_pop_int():
+    data = [5, 3, 9, 1, 7, 2, 8, 0, 6, 4]
+    heap = []
+    for item in data:
+        heapq.heappush(heap, item)
+        check_invariant(heap)
+    assert [heapq.heappop(heap) for _ in range(len(data))] == sorted(data)
+    assert heap == []
+
+
+def test_push_pop_double():
+    data = [2.5, -1.0, 3.75, 0.5, 1.25]
+    heap = []
+    for item in data:
+        heapq.heappush(heap, item)
+    assert [heapq.heappop(heap) for _ in range(len(data))] == sorted(data)
+
+
+def test_push_pop_object():
+    data = ["pear", "apple", "fig", "banana"]
+    heap = []
+    for item in data:
+        heapq.heappush(heap, item)
+    assert [heapq.heappop(heap) for _ in range(len(data))] == sorted(data)
+
+
+def test_mixed_types():
+    heap = [3, 1, 2]
+    heapq.heapify(heap)
+    heapq.heappush(heap, 1.5)
+    heapq.heappush(heap, 2 ** 70)
+    assert [heapq.heappop(heap) for _ in range(5)] == [1, 1.5, 2, 3, 2 ** 70]
+
+
+def test_heapify():
+    for data in [list(range(20, 0, -1)), [float(i % 7) for i in range(30)], [str(i) for i in range(15)]]:
+        heap = list(data)
+        heapq.heapify(heap)
+        check_invariant(heap)
+        assert sorted(heap) == sorted(data)
+
+
+def test_replace_and_pushpop():
+    heap = [1, 3, 5]
+    assert heapq.heapreplace(heap, 4) == 1
+    check_invariant(heap)
+    assert heapq.heappushpop(heap, 0) == 0
+    assert heapq.heappushpop(heap, 6) == 3
+    assert heapq.heappushpop([], 1) == 1
+    check_invariant(heap)
+    assert sorted(heap) == [4, 5, 6]
+
+
+def test_max_heap():
+    heap = [4, 1, 7, 3, 9, 2]
+    heapq._heapify_max(heap)
+    check_invariant(heap, True)
+    assert heapq._heapreplace_max(heap, 5) == 9
+    check_invariant(heap, True)
+    assert [heapq._heappop_max(heap) for _ in range(6)] == [7, 5, 4, 3, 2, 1]
+
+
+def test_errors():
+    for fn in (heapq.heappop, heapq.heapify):
+        try:
+            fn(())
+        except TypeError:
+            pass
+        else:
+            assert False, "expected TypeError"
+    try:
+        heapq.heappop([])
+    except IndexError:
+        pass
+    else:
+        assert False, "expected IndexError"
+    try:
+        heapq.heapreplace([], 1)
+    except IndexError:
+        pass
+    else:
+        assert False, "expected IndexError"
+
+
+def test_merge_and_nsmallest():
+    assert list(heapq.merge([1, 4, 7], [2, 5, 8], [3, 6, 9])) == list(range(1, 10))
+    assert heapq.nsmallest(3, [5, 1, 4, 2, 3]) == [1, 2, 3]
+    assert heapq.nlargest(2, [5.0, 1.0, 4.0]) == [5.0, 4.0]
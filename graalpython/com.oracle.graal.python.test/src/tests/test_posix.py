@@ -83,6 +83,87 @@ class PosixTests(unittest.TestCase):
             assert 'the_text' in result.readline()
         self.delete_file(new_file_path, cwd)
 
+    def test_dup(self):
+        r, w = os.pipe()
+        try:
+            w2 = os.dup(w)
+            self.assertNotEqual(w, w2)
+            # the channel stays open as long as one descriptor refers to it
+            os.close(w)
+            os.write(w2, b'x')
+            self.assertEqual(os.read(r, 1), b'x')
+            os.close(w2)
+            self.assertEqual(os.read(r, 1), b'')
+        finally:
+            os.close(r)
+
+    def test_dup_reuses_lowest_fd(self):
+        r, w = os.pipe()
+        try:
+            fd = os.dup(w)
+            os.close(fd)
+            fd2 = os.dup(w)
+            self.assertEqual(fd, fd2)
+            os.close(fd2)
+        finally:
+            os.close(r)
+            os.close(w)
+
+    def test_dup2(self):
+        r1, w1 = os.pipe()
+        r2, w2 = os.pipe()
+        try:
+            self.assertEqual(os.dup2(w1, w2), w2)
+            os.write(w2, b'y')
+            self.assertEqual(os.read(r1, 1), b'y')
+            # the replaced write end was the only one of the second pipe
+            self.assertEqual(os.read(r2, 1), b'')
+            self.assertEqual(os.dup2(w1, w1), w1)
+            os.write(w1, b'z')
+            self.assertEqual(os.read(r1, 1), b'z')
+        finally:
+            for fd in (r1, w1, r2, w2):
+                os.close(fd)
+
+    def test_close(self):
+        r, w = os.pipe()
+        os.close(w)
+        self.assertRaises(OSError, os.close, w)
+        self.assertRaises(OSError, os.write, w, b'x')
+        os.close(r)
+
+    def test_dup_close_threads(self):
+        import threading
+        r, w = os.pipe()
+        target = os.dup(w)
+        errors = []
+
+        def dup_close():
+            try:
+                for i in range(200):
+                    fd = os.dup(w)
+                    os.dup2(w, target)
+                    os.close(fd)
+            except BaseException as e:
+                errors.append(e)
+
+        threads = [threading.Thread(target=dup_close) for i in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        try:
+            self.assertEqual(errors, [])
+            os.write(target, b'x')
+            self.assertEqual(os.read(r, 1), b'x')
+            # all temporary descriptors were released again
+            fd = os.dup(w)
+            self.assertLess(fd, target + 8)
+            os.close(fd)
+        finally:
+            for fd in (r, w, target):
+                os.close(fd)
+
     def create_file(self):
         cwd = os.getcwd()
         new_file_path = os.path.join(cwd , 'myscript.sh')
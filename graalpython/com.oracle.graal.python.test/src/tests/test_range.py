@@ -48,3 +48,117 @@ def test_eq():
     assert range(10, 20, -30) == range(20, 30, -40)
 
     assert range(True) == range(1)
+
+
+def test_large_range():
+    r = range(2**31 - 2, 2**31 + 3)
+    assert len(r) == 5
+    assert list(r) == [2**31 - 2, 2**31 - 1, 2**31, 2**31 + 1, 2**31 + 2]
+    assert list(reversed(r)) == [2**31 + 2, 2**31 + 1, 2**31, 2**31 - 1, 2**31 - 2]
+    assert r[-1] == 2**31 + 2
+    assert r.start == 2**31 - 2 and r.stop == 2**31 + 3 and r.step == 1
+    assert 2**31 in r
+    assert 2**31 + 3 not in r
+
+    total = 0
+    for i in range(2**40, 2**40 + 3):
+        total += i
+    assert total == 3 * 2**40 + 3
+
+    # stepping past the last element must not overflow into an endless loop
+    assert list(range(2**31 - 3, 2**31 - 1, 2)) == [2**31 - 3]
+    assert list(reversed(range(-2**31, -2**31 + 2))) == [-2**31 + 1, -2**31]
+
+
+def test_huge_range():
+    r = range(0, 2**100, 3)
+    assert r[2**80] == 3 * 2**80
+    assert r[-1] == 2**100 - 1
+    assert 3 * 2**80 in r
+    assert 3 * 2**80 + 1 not in r
+    assert r.index(3 * 2**80) == 2**80
+    assert r.count(3) == 1
+    assert r[2**80:2**80 + 9:2] == range(3 * 2**80, 3 * 2**80 + 27, 6)
+    assert r[10:20] == range(30, 60, 3)
+    assert repr(r) == "range(0, 1267650600228229401496703205376, 3)"
+    assert range(5, 6, 2**40) == range(5, 6)
+
+    try:
+        len(range(2**64))
+    except OverflowError:
+        pass
+    else:
+        assert False, "expected OverflowError"
+
+    it = iter(range(2**64, 2**64 + 2))
+    assert next(it) == 2**64
+    assert next(it) == 2**64 + 1
+
+    big = list(reversed(range(2**64, 2**64 + 6, 2)))
+    assert big == [2**64 + 4, 2**64 + 2, 2**64]
+
+
+def test_long_range():
+    r = range(-2**62, 2**62, 3)
+    assert len(r) == (2**63 + 2) // 3
+    assert r[0] == -2**62
+    assert r[-1] == -2**62 + 3 * (len(r) - 1)
+    assert r[2**40] == -2**62 + 3 * 2**40
+    assert -2**62 + 3 * 2**40 in r
+    assert -2**62 + 3 * 2**40 + 1 not in r
+    assert 2**62 not in r
+    assert -2**63 not in range(2**62, -2**62, -7)
+    try:
+        r[len(r)]
+    except IndexError:
+        pass
+    else:
+        assert False, "expected IndexError"
+    it = iter(range(2**40, 2**40 + 6, 2))
+    assert list(it) == [2**40, 2**40 + 2, 2**40 + 4]
+
+    # long arguments of a small range
+    big = 2**40
+    assert list(range(big - big + 3)) == [0, 1, 2]
+    assert list(range(big - big - 2, big - big + 2)) == [-2, -1, 0, 1]
+    assert list(range(big // big + 9, big - big, big - big - 3)) == [10, 7, 4, 1]
+    assert len(range(big - big, 2**31 - 1 + (big - big))) == 2**31 - 1
+    assert len(range(-2**31 + (big - big), 2**31 - 1 + (big - big))) == 2**32 - 1
+    try:
+        range(big - big, big - big + 1, big - big)
+    except ValueError:
+        pass
+    else:
+        assert False, "expected ValueError"
+
+
+def test_big_slice():
+    assert range(10)[2**80:] == range(10, 10)
+    assert range(10)[-2**80:3] == range(0, 3)
+    assert range(10)[-2**31:3] == range(0, 3)
+    assert slice(-2**31, None).start == -2**31
+    assert list(range(10)[::-2**80]) == [9]
+    assert range(0, 3 * 2**100, 3)[2**80:2**80 + 9:2] == range(3 * 2**80, 3 * 2**80 + 27, 6)
+    assert slice(2**80).stop == 2**80
+    assert slice(-2**80, 2**80, 2**70).start == -2**80
+    assert slice(1, 2, 2**70).step == 2**70
+
+
+def test_bool():
+    assert bool(range(2**100))
+    assert not bool(range(2**100, 0))
+    assert bool(range(3))
+    assert not bool(range(3, 0))
+
+
+def test_step_contains():
+    r = range(0, 10, 2)
+    assert 4 in r
+    assert 5 not in r
+    assert 10 not in r
+    assert -2 not in r
+    r = range(10, 0, -3)
+    assert 7 in r
+    assert 1 in r
+    assert 0 not in r
+    assert 13 not in r
@@ -124,6 +124,13 @@ def test_find_all_none():
         assert result[i] == r
 
 
+def _sre_compile(pattern, flags=0):
+    # always uses the SRE engine, also when TRegex is enabled
+    import sre_compile
+    import sre_parse
+    return sre_compile.compile(sre_parse.parse(pattern, flags), flags)
+
+
 class S(str):
     def __getitem__(self, index):
         return S(super().__getitem__(index))
@@ -489,3 +496,92 @@ class ReTests(unittest.TestCase):
             r"(//?| ==?)|([[]]+)")
         for m in regex.finditer(''):
             self.fail()
+
+    def test_sre_match_object(self):
+        p = _sre_compile(r"(\w+) (?P<second>\w+)")
+        m = p.match("hello world!")
+        self.assertEqual(m.group(0, 1, "second"), ("hello world", "hello", "world"))
+        self.assertEqual(m[2], "world")
+        self.assertEqual(m.span(2), (6, 11))
+        self.assertEqual(m.groupdict(), {"second": "world"})
+        self.assertEqual(m.lastindex, 2)
+        self.assertEqual(m.lastgroup, "second")
+        self.assertEqual(m.regs, ((0, 11), (0, 5), (6, 11)))
+        self.assertEqual(m.expand(r"\2 \1"), "world hello")
+        self.assertRaises(IndexError, m.group, 3)
+        self.assertRaises(IndexError, m.start, "third")
+        self.assertIsNone(p.fullmatch("hello world!"))
+        self.assertEqual(p.search("  a b").span(), (2, 5))
+        self.assertIsNone(p.search("  a b", 3))
+
+    def test_sre_backtracking(self):
+        self.assertEqual(_sre_compile(r"(a|ab)(c|bcd)(d*)").match("abcd").groups(), ("a", "bcd", ""))
+        self.assertEqual(_sre_compile(r"(\w+)\s+\1").search("say hello hello").group(1), "hello")
+        self.assertEqual(_sre_compile(r"(?i)(ab)\1").match("abAB").group(0), "abAB")
+        self.assertEqual(_sre_compile(r"(?<=a)b").search("cbab").start(), 3)
+        self.assertEqual(_sre_compile(r"(a)?(?(1)b|c)").findall("abcac"), ["a", "", ""])
+        self.assertEqual(_sre_compile(r"(?:ab){2,3}?").match("abababab").span(), (0, 4))
+        self.assertIsNone(_sre_compile(r"(x+x+)+y").match("x" * 16))
+
+    def test_sre_sub_split(self):
+        p = _sre_compile(r"(\d+)")
+        self.assertEqual(p.sub(r"<\1>", "a1b22c"), "a<1>b<22>c")
+        self.assertEqual(p.subn(lambda m: str(int(m.group()) * 2), "a1b22c"), ("a2b44c", 2))
+        self.assertEqual(p.sub("-", "a1b22c", 1), "a-b22c")
+        self.assertEqual(p.split("a1b22c"), ["a", "1", "b", "22", "c"])
+        self.assertEqual(p.findall("a1b22c"), ["1", "22"])
+        self.assertEqual([m.span() for m in p.finditer("a1b22c")], [(1, 2), (3, 5)])
+        self.assertEqual(p.findall(b"a1b22c"), [b"1", b"22"])
+        self.assertEqual(_sre_compile("x*").sub("-", "abxd"), "-a-b--d-")
+
+    def test_compiled_pattern_objects(self):
+        p = re.compile(r"(\w+) (?P<second>\w+)")
+        self.assertIs(type(p), type(_sre_compile("")))
+        self.assertEqual(p.groups, 2)
+        self.assertEqual(p.groupindex, {"second": 2})
+        self.assertEqual(p.flags, re.UNICODE)
+        m = p.search("say hello world")
+        self.assertIs(type(m), type(_sre_compile("").match("")))
+        self.assertEqual(m.span("second"), (4, 9))
+        self.assertEqual(m.lastgroup, "second")
+        self.assertEqual(m.groups(), ("say", "hello"))
+        self.assertEqual(re.compile(r"a|ab").fullmatch("ab").group(), "ab")
+        self.assertEqual(re.compile(r"(?i)a|AB").fullmatch("Ab").group(), "Ab")
+        self.assertIsNone(re.compile(r"ab").fullmatch("abc"))
+        self.assertEqual(re.compile(r"b").search("abcb", 2, 3), None)
+        self.assertEqual(re.compile(r"c$").search("abcb", 0, 3).span(), (2, 3))
+
+    def test_compiled_pattern_loops(self):
+        p = re.compile(r"(\d)(\d)?")
+        self.assertEqual(p.findall("a1b22c"), [("1", ""), ("2", "2")])
+        self.assertEqual(p.split("a1b22c"), ["a", "1", None, "b", "2", "2", "c"])
+        self.assertEqual(p.subn(r"<\2\1>", "a1b22c"), ("a<1>b<22>c", 2))
+        self.assertEqual(re.compile("x*").sub("-", "abxd"), "-a-b--d-")
+        self.assertEqual(re.compile(b"x*").sub(b"-", b"abxd"), b"-a-b--d-")
+        self.assertEqual(re.compile("").split("ab"), ["", "a", "b", ""])
+        self.assertEqual([m.span() for m in re.compile(r"\w*").finditer("ab c")], [(0, 2), (2, 2), (3, 4), (4, 4)])
+
+    def test_nonempty_match_after_empty_match(self):
+        self.assertEqual(re.findall(r"|a", "a"), ["", "a", ""])
+        self.assertEqual(re.sub(r"|a", "-", "a"), "---")
+        self.assertEqual(re.split(r"|a", "a"), ["", "", "", ""])
+        self.assertEqual([m.span() for m in re.finditer(r"|a", "ab")], [(0, 0), (0, 1), (1, 1), (2, 2)])
+        self.assertEqual(re.findall(r"x*|b", "xab"), ["x", "", "", "b", ""])
+        self.assertEqual(re.findall(rb"|a", b"a"), [b"", b"a", b""])
+
+    def test_conditional_group_patterns(self):
+        p = re.compile(r"(a)?(?(1)b|c)")
+        self.assertEqual(p.findall("abc"), ["a", ""])
+        self.assertEqual(p.fullmatch("ab").span(), (0, 2))
+        self.assertIsNone(p.fullmatch("abc"))
+        self.assertEqual(p.match("c").group(), "c")
+
+    def test_compiled_pattern_lastindex(self):
+        self.assertEqual(re.match(r"(a)(b*)", "a").lastindex, 2)
+        self.assertEqual(re.match(r"((a)(b))", "ab").lastindex, 1)
+        self.assertEqual(re.match(r"(a)(b)?", "a").lastindex, 1)
+        self.assertEqual(re.match(r"(?P<x>a)(?P<y>)", "a").lastgroup, "y")
+        self.assertEqual(re.match(r"(a)(?=(b))", "ab").lastindex, 2)
+        self.assertEqual(re.fullmatch(r"(a)|(a)(b*)", "a").lastindex, 1)
+        self.assertEqual(re.search(r"(x)(y*)", "ax").lastindex, 2)
+        self.assertIsNone(re.match(r"a", "a").lastindex)
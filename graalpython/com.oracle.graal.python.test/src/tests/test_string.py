@@ -1138,3 +1138,49 @@ def test_replace_count():
     s = "1 2 3 1 2 3 1 2 3 1 2 3"
     s = s.replace("1", "1 _", s.count("1"))
     assert s == "1 _ 2 3 1 _ 2 3 1 _ 2 3 1 _ 2 3"
+
+
+def _build_concat(n):
+    s = ""
+    parts = []
+    for i in range(n):
+        part = "item%d," % i
+        s += part
+        parts.append(part)
+    return s, "".join(parts)
+
+
+def test_concat_index_and_slice():
+    s, expected = _build_concat(500)
+    assert len(s) == len(expected)
+    for i in (0, 1, 17, 1000, len(expected) - 1, -1, -len(expected)):
+        assert s[i] == expected[i]
+    assert s[5:300] == expected[5:300]
+    assert s[-50:] == expected[-50:]
+    assert s[300:5] == ""
+    assert s[::7] == expected[::7]
+    try:
+        s[len(expected)]
+    except IndexError:
+        pass
+    else:
+        assert False, "expected IndexError"
+
+
+def test_concat_find():
+    s, expected = _build_concat(500)
+    for sub in ("item0,", "item499,", "m250,item2", ",item13", "item500", ""):
+        assert s.find(sub) == expected.find(sub), sub
+        assert s.find(sub, 100) == expected.find(sub, 100), sub
+        assert s.find(sub, 100, 2000) == expected.find(sub, 100, 2000), sub
+        assert s.rfind(sub, 10, -10) == expected.rfind(sub, 10, -10), sub
+    assert s.startswith("item0,item1,")
+    assert not s.startswith("item1,")
+    assert s.endswith("item498,item499,")
+    assert not s.endswith("item498,")
+
+
+def test_concat_hash():
+    s, expected = _build_concat(300)
+    assert hash(s) == hash(expected)
+    assert {s: 1}[expected] == 1
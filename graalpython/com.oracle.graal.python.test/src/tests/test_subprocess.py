@@ -80,6 +80,56 @@ class TestSubprocess(unittest.TestCase):
             self.fail("Expected ValueError when stdout arg supplied.")
         self.assertIn('stdout', c.exception.args[0])
 
+    def test_stdout_to_file_at_offset(self):
+        import tempfile
+        with tempfile.TemporaryFile() as f:
+            f.write(b"head:")
+            f.flush()
+            subprocess.check_call([sys.executable, "-c", "print('child', end='')"], stdout=f)
+            f.seek(0)
+            self.assertEqual(f.read(), b"head:child")
+
+    def test_stdout_to_truncated_file(self):
+        import os, tempfile
+        fd, name = tempfile.mkstemp()
+        try:
+            os.write(fd, b"old contents")
+            os.close(fd)
+            with open(name, "wb") as f:
+                subprocess.check_call([sys.executable, "-c", "print('new', end='')"], stdout=f)
+            with open(name, "rb") as f:
+                self.assertEqual(f.read(), b"new")
+        finally:
+            os.unlink(name)
+
+    def test_stdout_to_unlinked_file(self):
+        import os, tempfile
+        fd, name = tempfile.mkstemp()
+        os.unlink(name)
+        with open(fd, "w+b") as f:
+            subprocess.check_call([sys.executable, "-c", "print('unlinked', end='')"], stdout=f)
+            f.seek(0)
+            self.assertEqual(f.read(), b"unlinked")
+
+    def test_stdin_from_partly_read_file(self):
+        import tempfile
+        with tempfile.TemporaryFile() as f:
+            f.write(b"skipped|rest")
+            f.flush()
+            f.seek(len(b"skipped|"))
+            output = subprocess.check_output(
+                    [sys.executable, "-c", "import sys; sys.stdout.write(sys.stdin.read())"], stdin=f)
+            self.assertEqual(output, b"rest")
+
+    def test_pipe_between_children(self):
+        p1 = subprocess.Popen([sys.executable, "-c", "print('piped', end='')"], stdout=subprocess.PIPE)
+        p2 = subprocess.Popen([sys.executable, "-c", "import sys; sys.stdout.write(sys.stdin.read().upper())"],
+                              stdin=p1.stdout, stdout=subprocess.PIPE)
+        p1.stdout.close()
+        output, _ = p2.communicate()
+        p1.wait()
+        self.assertEqual(output, b"PIPED")
+
     def test_kill(self):
         p = subprocess.Popen([sys.executable, "-c", "print('oh no')"])
         p.kill()
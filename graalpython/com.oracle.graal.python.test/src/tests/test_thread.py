@@ -513,3 +513,38 @@ if syscfg.get_config_var('WITH_THREAD'):
             lock.release()
             self.assertFalse(lock.locked())
             self.assertTrue(lock.acquire(blocking=False))
+
+
+    class RLockTests(BaseTestCase):
+        locktype = thread.RLock
+
+        def test_release_save_unacquired(self):
+            lock = self.locktype()
+            self.assertRaises(RuntimeError, lock._release_save)
+            lock.acquire()
+            lock.acquire()
+            self.assertEqual(lock._release_save()[0], 2)
+            self.assertFalse(lock._is_owned())
+            self.assertRaises(RuntimeError, lock._release_save)
+
+        # CPython only checks the global count and releases the lock of another thread
+        @unittest.skipIf(sys.implementation.name == 'cpython', "CPython does not check the owner")
+        def test_release_save_other_thread(self):
+            lock = self.locktype()
+            lock.acquire()
+            lock.acquire()
+            errors = []
+
+            def f():
+                try:
+                    lock._release_save()
+                except RuntimeError:
+                    errors.append(True)
+            b = Bunch(f, 1)
+            b.wait_for_finished()
+            self.assertEqual(errors, [True])
+            self.assertTrue(lock._is_owned())
+            lock.release()
+            self.assertTrue(lock._is_owned())
+            lock.release()
+            self.assertFalse(lock._is_owned())
@@ -61,3 +61,65 @@ def test_category():
     assert unicodedata.category('A') == 'Lu'
     assert_raises(TypeError, unicodedata.category)
     assert_raises(TypeError, unicodedata.category, 'xx')
+    assert_raises(TypeError, unicodedata.category, 1)
+    assert unicodedata.category('\U0001F600') == 'So'
+
+
+def test_properties():
+    import unicodedata
+    assert unicodedata.bidirectional('a') == 'L'
+    assert unicodedata.bidirectional('\u0627') == 'AL'
+    assert unicodedata.bidirectional('\ufffe') == ''
+    assert unicodedata.combining('\u0301') == 230
+    assert unicodedata.combining('a') == 0
+    assert unicodedata.mirrored('(') == 1
+    assert unicodedata.mirrored('a') == 0
+    assert unicodedata.east_asian_width('a') == 'Na'
+    assert unicodedata.east_asian_width('\u4e00') == 'W'
+    assert unicodedata.east_asian_width('\uff21') == 'F'
+    assert_raises(TypeError, unicodedata.east_asian_width, 'ab')
+
+
+def test_numeric_values():
+    import unicodedata
+    assert unicodedata.decimal('7') == 7
+    assert unicodedata.decimal('\u0667') == 7
+    assert unicodedata.decimal('\u00b2', None) is None
+    assert_raises(ValueError, unicodedata.decimal, 'a')
+    assert unicodedata.digit('\u00b2') == 2
+    assert unicodedata.digit('a', -1) == -1
+    assert_raises(ValueError, unicodedata.digit, '\u00bd')
+    assert unicodedata.numeric('\u00bd') == 0.5
+    assert unicodedata.numeric('\u0f33') == -0.5
+    assert unicodedata.numeric('\u5146') == 1e12
+    assert unicodedata.numeric('a', 'x') == 'x'
+    assert_raises(ValueError, unicodedata.numeric, 'a')
+
+
+def test_name():
+    import unicodedata
+    assert unicodedata.name('a') == 'LATIN SMALL LETTER A'
+    assert unicodedata.name('\u00e9') == 'LATIN SMALL LETTER E WITH ACUTE'
+    assert unicodedata.name('\U0001F600') == 'GRINNING FACE'
+    assert unicodedata.name('\uac01') == 'HANGUL SYLLABLE GAG'
+    assert unicodedata.name('\u4e00') == 'CJK UNIFIED IDEOGRAPH-4E00'
+    assert unicodedata.name('\x00', None) is None
+    assert_raises(ValueError, unicodedata.name, '\x00')
+    assert_raises(TypeError, unicodedata.name, '')
+
+
+def test_lookup():
+    import unicodedata
+    assert unicodedata.lookup('LATIN SMALL LETTER A') == 'a'
+    assert unicodedata.lookup('latin small letter a') == 'a'
+    assert unicodedata.lookup(b'LATIN SMALL LETTER A') == 'a'
+    assert unicodedata.lookup('GRINNING FACE') == '\U0001F600'
+    assert unicodedata.lookup('HANGUL SYLLABLE GAG') == '\uac01'
+    assert unicodedata.lookup('CJK UNIFIED IDEOGRAPH-4E00') == '\u4e00'
+    # aliases and named sequences
+    assert unicodedata.lookup('LATIN CAPITAL LETTER GHA') == '\u01a2'
+    assert unicodedata.lookup('KEYCAP NUMBER SIGN') == '#\ufe0f\u20e3'
+    assert_raises(KeyError, unicodedata.lookup, 'NO SUCH CHARACTER NAME')
+    assert_raises(KeyError, unicodedata.lookup, 'A' * 300)
+    for c in 'a\u00e9\u0627\u20ac\U0001F600':
+        assert unicodedata.lookup(unicodedata.name(c)) == c
@@ -47,6 +47,7 @@ import com.oracle.graal.python.builtins.objects.method.PMethod;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.str.PString;
+import com.oracle.graal.python.builtins.objects.str.StringInterner;
 import com.oracle.graal.python.builtins.objects.type.PythonManagedClass;
 import com.oracle.graal.python.nodes.BuiltinNames;
 import com.oracle.graal.python.nodes.NodeFactory;
@@ -120,6 +121,7 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
     public final Assumption singleContextAssumption = Truffle.getRuntime().createAssumption("Only a single context is active");
 
     private final NodeFactory nodeFactory;
+    private final StringInterner stringInterner = new StringInterner();
     public final ConcurrentHashMap<Class<? extends PythonBuiltinBaseNode>, RootCallTarget> builtinCallTargetCache = new ConcurrentHashMap<>();
 
     @CompilationFinal(dimensions = 1) private static final Object[] CONTEXT_INSENSITIVE_SINGLETONS = new Object[]{PNone.NONE, PNone.NO_VALUE, PEllipsis.INSTANCE, PNotImplemented.NOT_IMPLEMENTED};
@@ -153,6 +155,10 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         return nodeFactory;
     }
 
+    public StringInterner getStringInterner() {
+        return stringInterner;
+    }
+
     @Override
     protected void finalizeContext(PythonContext context) {
         context.shutdownThreads();
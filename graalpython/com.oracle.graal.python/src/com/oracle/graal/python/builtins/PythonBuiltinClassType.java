@@ -113,6 +113,16 @@ public enum PythonBuiltinClassType implements LazyPythonClass {
     PDirEntry("DirEntry", "posix"),
     PLZMACompressor("LZMACompressor", "_lzma"),
     PLZMADecompressor("LZMADecompressor", "_lzma"),
+    PHashlibHash("HASH", "_hashlib"),
+    PBlake2b("blake2b", "_blake2"),
+    PBlake2s("blake2s", "_blake2"),
+    PIncrementalDecoder("IncrementalDecoder", "_codecs"),
+    PCsvParser("Parser", "_truffle_csv"),
+    PPartial("partial", "_functools"),
+    PLruCacheWrapper("_lru_cache_wrapper", "_functools"),
+    PSREPattern("Pattern", "_sre"),
+    PSREMatch("Match", "_sre"),
+    PSREScanner("SRE_Scanner", "_sre"),
 
     // Errors and exceptions:
 
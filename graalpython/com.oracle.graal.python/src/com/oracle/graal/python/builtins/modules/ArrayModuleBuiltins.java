@@ -25,7 +25,6 @@
  */
 package com.oracle.graal.python.builtins.modules;
 
-import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 
@@ -36,20 +35,16 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.array.ArrayFormat;
+import com.oracle.graal.python.builtins.objects.array.ArrayNodes;
 import com.oracle.graal.python.builtins.objects.array.PArray;
-import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
+import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
-import com.oracle.graal.python.builtins.objects.range.PRange;
 import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
-import com.oracle.graal.python.nodes.control.GetIteratorExpressionNode.GetIteratorNode;
-import com.oracle.graal.python.nodes.control.GetNextNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
-import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
-import com.oracle.graal.python.nodes.util.CastToByteNode;
-import com.oracle.graal.python.runtime.exception.PException;
-import com.oracle.graal.python.runtime.sequence.PSequence;
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
@@ -71,191 +66,44 @@ public final class ArrayModuleBuiltins extends PythonBuiltins {
 
         @Specialization(guards = "isNoValue(initializer)")
         PArray array(LazyPythonClass cls, String typeCode, @SuppressWarnings("unused") PNone initializer) {
-            /**
-             * TODO @param typeCode should be a char, not a string
-             */
-            return makeEmptyArray(cls, typeCode.charAt(0));
+            ArrayFormat format = getFormat(typeCode);
+            return factory().createArray(cls, format, format.createStorage(0));
         }
 
         @Specialization
-        PArray arrayWithRangeInitializer(LazyPythonClass cls, String typeCode, PRange range) {
-            if (!typeCode.equals("i")) {
-                typeError(typeCode, range);
+        PArray arrayWithBytesInitializer(LazyPythonClass cls, String typeCode, PIBytesLike initializer,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached ArrayNodes.FromBytesNode fromBytesNode) {
+            ArrayFormat format = getFormat(typeCode);
+            SequenceStorage bytesStorage = initializer.getSequenceStorage();
+            int length = bytesStorage.length();
+            // allocate exactly what is needed so that 'B' arrays can export their storage directly
+            PArray array = factory().createArray(cls, format, format.createStorage(length / format.getItemSize()));
+            fromBytesNode.execute(array, getInternalByteArrayNode.execute(bytesStorage), length);
+            return array;
+        }
+
+        @Specialization(guards = "isString(initializer)")
+        PArray arrayWithStringInitializer(VirtualFrame frame, LazyPythonClass cls, String typeCode, Object initializer,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached ArrayNodes.ExtendFromIterableNode extendNode) {
+            ArrayFormat format = getFormat(typeCode);
+            if (!format.isUnicode()) {
+                throw raise(TypeError, "cannot use a str to initialize an array with typecode '%s'", typeCode);
             }
-
-            int[] intArray = new int[range.len()];
-
-            int start = range.getStart();
-            int stop = range.getStop();
-            int step = range.getStep();
-
-            int index = 0;
-            for (int i = start; i < stop; i += step) {
-                intArray[index++] = i;
-            }
-
-            return factory().createArray(cls, intArray);
-        }
-
-        @Specialization
-        PArray arrayWithSequenceInitializer(LazyPythonClass cls, String typeCode, String str) {
-            if (!typeCode.equals("c")) {
-                typeError(typeCode, str);
-            }
-
-            return factory().createArray(cls, str.toCharArray());
-        }
-
-        protected boolean isIntArray(String typeCode) {
-            return typeCode.charAt(0) == 'i';
-        }
-
-        protected boolean isLongArray(String typeCode) {
-            return typeCode.charAt(0) == 'l';
-        }
-
-        protected boolean isByteArray(String typeCode) {
-            return typeCode.charAt(0) == 'b';
-        }
-
-        protected boolean isCharArray(String typeCode) {
-            return typeCode.charAt(0) == 'B';
-        }
-
-        protected boolean isDoubleArray(String typeCode) {
-            return typeCode.charAt(0) == 'd';
-        }
-
-        @Specialization(guards = "isByteArray(typeCode)")
-        PArray arrayByteInitializer(VirtualFrame frame, LazyPythonClass cls, @SuppressWarnings("unused") String typeCode, PSequence initializer,
-                        @Cached("createCast()") CastToByteNode castToByteNode,
-                        @Cached("create()") GetIteratorNode getIterator,
-                        @Cached("create()") GetNextNode next,
-                        @Cached("create()") IsBuiltinClassProfile errorProfile,
-                        @Cached("create()") SequenceNodes.LenNode lenNode) {
-            Object iter = getIterator.executeWith(frame, initializer);
-            int i = 0;
-            byte[] byteArray = new byte[lenNode.execute(initializer)];
-
-            while (true) {
-                Object nextValue;
-                try {
-                    nextValue = next.execute(frame, iter);
-                } catch (PException e) {
-                    e.expectStopIteration(errorProfile);
-                    break;
-                }
-                byteArray[i++] = castToByteNode.execute(frame, nextValue);
-            }
-
-            return factory().createArray(cls, byteArray);
-        }
-
-        @Specialization(guards = "isCharArray(typeCode)")
-        PArray arrayCharInitializer(LazyPythonClass cls, @SuppressWarnings("unused") String typeCode, PSequence initializer,
-                        @Cached SequenceNodes.GetSequenceStorageNode getSequenceStorageNode,
-                        @Cached SequenceStorageNodes.ToByteArrayNode toByteArrayNode) {
-            byte[] byteArray = toByteArrayNode.execute(getSequenceStorageNode.execute(initializer));
-            return factory().createArray(cls, byteArray);
-        }
-
-        @Specialization(guards = "isIntArray(typeCode)")
-        PArray arrayIntInitializer(VirtualFrame frame, LazyPythonClass cls, @SuppressWarnings("unused") String typeCode, PSequence initializer,
-                        @Cached("create()") GetIteratorNode getIterator,
-                        @Cached("create()") GetNextNode next,
-                        @Cached("create()") IsBuiltinClassProfile errorProfile,
-                        @Cached("create()") SequenceNodes.LenNode lenNode) {
-            Object iter = getIterator.executeWith(frame, initializer);
-            int i = 0;
-
-            int[] intArray = new int[lenNode.execute(initializer)];
-
-            while (true) {
-                Object nextValue;
-                try {
-                    nextValue = next.execute(frame, iter);
-                } catch (PException e) {
-                    e.expectStopIteration(errorProfile);
-                    break;
-                }
-                if (nextValue instanceof Integer) {
-                    intArray[i++] = (int) nextValue;
-                } else {
-                    throw raise(ValueError, "integer argument expected, got %p", nextValue);
-                }
-            }
-
-            return factory().createArray(cls, intArray);
+            String str = castToJavaStringNode.execute(initializer);
+            PArray array = factory().createArray(cls, format, format.createStorage(str.length()));
+            extendNode.execute(frame, array, str);
+            return array;
         }
 
-        @Specialization(guards = "isLongArray(typeCode)")
-        PArray arrayLongInitializer(VirtualFrame frame, LazyPythonClass cls, @SuppressWarnings("unused") String typeCode, PSequence initializer,
-                        @Cached("create()") GetIteratorNode getIterator,
-                        @Cached("create()") GetNextNode next,
-                        @Cached("create()") IsBuiltinClassProfile errorProfile,
-                        @Cached("create()") SequenceNodes.LenNode lenNode) {
-            Object iter = getIterator.executeWith(frame, initializer);
-            int i = 0;
-
-            long[] longArray = new long[lenNode.execute(initializer)];
-
-            while (true) {
-                Object nextValue;
-                try {
-                    nextValue = next.execute(frame, iter);
-                } catch (PException e) {
-                    e.expectStopIteration(errorProfile);
-                    break;
-                }
-                if (nextValue instanceof Number) {
-                    longArray[i++] = longValue((Number) nextValue);
-                } else {
-                    throw raise(ValueError, "integer argument expected, got %p", nextValue);
-                }
-            }
-
-            return factory().createArray(cls, longArray);
-        }
-
-        @Specialization(guards = "isDoubleArray(typeCode)")
-        PArray arrayDoubleInitializer(VirtualFrame frame, LazyPythonClass cls, @SuppressWarnings("unused") String typeCode, PSequence initializer,
-                        @Cached("create()") GetIteratorNode getIterator,
-                        @Cached("create()") GetNextNode next,
-                        @Cached("create()") IsBuiltinClassProfile errorProfile,
-                        @Cached("create()") SequenceNodes.LenNode lenNode) {
-            Object iter = getIterator.executeWith(frame, initializer);
-            int i = 0;
-
-            double[] doubleArray = new double[lenNode.execute(initializer)];
-
-            while (true) {
-                Object nextValue;
-                try {
-                    nextValue = next.execute(frame, iter);
-                } catch (PException e) {
-                    e.expectStopIteration(errorProfile);
-                    break;
-                }
-                if (nextValue instanceof Integer) {
-                    doubleArray[i++] = ((Integer) nextValue).doubleValue();
-                } else if (nextValue instanceof Double) {
-                    doubleArray[i++] = (double) nextValue;
-                } else {
-                    throw raise(ValueError, "double value expected");
-                }
-            }
-
-            return factory().createArray(cls, doubleArray);
-        }
-
-        @Specialization
-        @TruffleBoundary
-        PArray arrayWithObjectInitializer(@SuppressWarnings("unused") LazyPythonClass cls, @SuppressWarnings("unused") String typeCode, Object initializer) {
-            if (!(isIntArray(typeCode) || isByteArray(typeCode) || isDoubleArray(typeCode) || isCharArray(typeCode))) {
-                // TODO implement support for typecodes: b, B, u, h, H, i, I, l, L, q, Q, f or d
-                throw raise(ValueError, "bad typecode (must be i, d, b, B, or l)");
-            }
-            throw new RuntimeException("Unsupported initializer " + initializer);
+        @Specialization(guards = {"!isNoValue(initializer)", "!isString(initializer)", "!isBytes(initializer)"})
+        PArray arrayWithIterableInitializer(VirtualFrame frame, LazyPythonClass cls, String typeCode, Object initializer,
+                        @Cached ArrayNodes.ExtendFromIterableNode extendNode) {
+            ArrayFormat format = getFormat(typeCode);
+            PArray array = factory().createArray(cls, format, format.createStorage(0));
+            extendNode.execute(frame, array, initializer);
+            return array;
         }
 
         @Specialization(guards = "!isString(typeCode)")
@@ -263,37 +111,15 @@ public final class ArrayModuleBuiltins extends PythonBuiltins {
             throw raise(TypeError, "array() argument 1 must be a unicode character, not %p", typeCode);
         }
 
-        @TruffleBoundary
-        private static long longValue(Number n) {
-            return n.longValue();
-        }
-
-        private PArray makeEmptyArray(LazyPythonClass cls, char type) {
-            switch (type) {
-                case 'c':
-                case 'b':
-                    return factory().createArray(cls, new byte[0]);
-                case 'B':
-                    return factory().createArray(cls, new byte[0]);
-                case 'i':
-                    return factory().createArray(cls, new int[0]);
-                case 'd':
-                    return factory().createArray(cls, new double[0]);
-                default:
-                    return null;
+        private ArrayFormat getFormat(String typeCode) {
+            ArrayFormat format = ArrayFormat.fromTypeCode(typeCode);
+            if (format == null) {
+                if (typeCode.length() != 1) {
+                    throw raise(TypeError, "array() argument 1 must be a unicode character, not str");
+                }
+                throw raise(ValueError, ArrayFormat.BAD_TYPECODE);
             }
-        }
-
-        protected CastToByteNode createCast() {
-            return CastToByteNode.create(val -> {
-                throw raise(OverflowError, "signed char is greater than maximum");
-            }, null);
-
-        }
-
-        @TruffleBoundary
-        private void typeError(String typeCode, Object initializer) {
-            throw raise(TypeError, "cannot use a %p to initialize an array with typecode '%s'", initializer, typeCode);
+            return format;
         }
     }
 }
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GetInternalByteArrayNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
+
+/**
+ * The base16, base32 and base85 codecs of the {@code base64} module. The Python functions
+ * normalize their arguments to bytes or bytearray objects, whose storages are read in place, and
+ * encode or decode into a presized result. {@code None} means the caller has to use its generic
+ * implementation, which also produces the exact error for malformed input.
+ */
+@CoreFunctions(defineModule = "_truffle_base64")
+public class Base64ModuleBuiltins extends PythonBuiltins {
+
+    private static final byte[] BASE32_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".getBytes();
+    private static final byte[] BASE85_CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz!#$%&()*+-;<=>?@^_`{|}~".getBytes();
+
+    private static final byte[] BASE32_VALUES = new byte[128];
+    private static final byte[] BASE85_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE32_VALUES, (byte) -1);
+        for (int i = 0; i < BASE32_CHARS.length; i++) {
+            BASE32_VALUES[BASE32_CHARS[i]] = (byte) i;
+        }
+        Arrays.fill(BASE85_VALUES, (byte) -1);
+        for (int i = 0; i < BASE85_CHARS.length; i++) {
+            BASE85_VALUES[BASE85_CHARS[i]] = (byte) i;
+        }
+    }
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return Base64ModuleBuiltinsFactory.getFactories();
+    }
+
+    @TruffleBoundary(allowInlining = true)
+    static byte[] encodeBase32(byte[] data, int length) {
+        int quanta = (length + 4) / 5;
+        byte[] out = new byte[quanta * 8];
+        for (int q = 0; q < quanta; q++) {
+            long bits = 0;
+            for (int i = q * 5; i < q * 5 + 5; i++) {
+                bits = bits << 8 | (i < length ? data[i] & 0xff : 0);
+            }
+            for (int j = 7; j >= 0; j--) {
+                out[q * 8 + j] = BASE32_CHARS[(int) (bits & 0x1f)];
+                bits >>>= 5;
+            }
+        }
+        // the number of pad characters for 0 to 4 leftover bytes
+        int pad = new int[]{0, 6, 4, 3, 1}[length % 5];
+        Arrays.fill(out, out.length - pad, out.length, (byte) '=');
+        return out;
+    }
+
+    /**
+     * Decodes base32 after applying the optional 0 and 1 mapping and case folding. Returns
+     * {@code null} for malformed input.
+     */
+    @TruffleBoundary(allowInlining = true)
+    static byte[] decodeBase32(byte[] data, int length, boolean casefold, int map01) {
+        if (length % 8 != 0) {
+            return null;
+        }
+        int end = length;
+        while (end > 0 && data[end - 1] == '=') {
+            end--;
+        }
+        int pad = length - end;
+        if (pad != 0 && pad != 1 && pad != 3 && pad != 4 && pad != 6) {
+            return null;
+        }
+        int quanta = length / 8;
+        // a partial last quantum of 8 - pad digits yields (43 - 5 * pad) / 8 bytes
+        byte[] out = new byte[quanta * 5 - (pad == 0 ? 0 : 5 - (43 - 5 * pad) / 8)];
+        for (int q = 0; q < quanta; q++) {
+            long bits = 0;
+            for (int i = q * 8; i < q * 8 + 8; i++) {
+                int value = 0;
+                if (i < end) {
+                    int c = data[i];
+                    if (map01 >= 0 && c == '0') {
+                        c = 'O';
+                    } else if (map01 >= 0 && c == '1') {
+                        c = map01;
+                    }
+                    if (casefold && c >= 'a' && c <= 'z') {
+                        c -= 'a' - 'A';
+                    }
+                    if (c < 0 || c > 0x7f || (value = BASE32_VALUES[c]) < 0) {
+                        return null;
+                    }
+                }
+                bits = bits << 5 | value;
+            }
+            for (int j = 0; j < 5 && q * 5 + j < out.length; j++) {
+                out[q * 5 + j] = (byte) (bits >>> (32 - 8 * j));
+            }
+        }
+        return out;
+    }
+
+    @TruffleBoundary(allowInlining = true)
+    static byte[] encodeBase85(byte[] data, int length, boolean pad) {
+        int words = (length + 3) / 4;
+        int padding = words * 4 - length;
+        byte[] out = new byte[words * 5 - (pad ? 0 : padding)];
+        byte[] chunk = new byte[5];
+        for (int w = 0; w < words; w++) {
+            long word = 0;
+            for (int i = w * 4; i < w * 4 + 4; i++) {
+                word = word << 8 | (i < length ? data[i] & 0xff : 0);
+            }
+            for (int j = 4; j >= 0; j--) {
+                chunk[j] = BASE85_CHARS[(int) (word % 85)];
+                word /= 85;
+            }
+            System.arraycopy(chunk, 0, out, w * 5, Math.min(5, out.length - w * 5));
+        }
+        return out;
+    }
+
+    /**
+     * Decodes base85. Returns {@code null} for bad characters and overflowing hunks.
+     */
+    @TruffleBoundary(allowInlining = true)
+    static byte[] decodeBase85(byte[] data, int length) {
+        int hunks = (length + 4) / 5;
+        int padding = hunks * 5 - length;
+        byte[] out = new byte[hunks * 4 - padding];
+        for (int h = 0; h < hunks; h++) {
+            long acc = 0;
+            for (int i = h * 5; i < h * 5 + 5; i++) {
+                // missing digits are padded with the highest digit '~'
+                int value = 84;
+                if (i < length) {
+                    int c = data[i];
+                    if (c < 0 || (value = BASE85_VALUES[c]) < 0) {
+                        return null;
+                    }
+                }
+                acc = acc * 85 + value;
+            }
+            if (acc > 0xffffffffL) {
+                return null;
+            }
+            for (int j = 0; j < 4 && h * 4 + j < out.length; j++) {
+                out[h * 4 + j] = (byte) (acc >>> (24 - 8 * j));
+            }
+        }
+        return out;
+    }
+
+    abstract static class CodecNode extends PythonBuiltinNode {
+        static byte[] bytes(PIBytesLike data, GetInternalByteArrayNode getInternalByteArrayNode) {
+            return getInternalByteArrayNode.execute(data.getSequenceStorage());
+        }
+
+        static int length(PIBytesLike data) {
+            SequenceStorage storage = data.getSequenceStorage();
+            return storage.length();
+        }
+
+        Object result(byte[] out) {
+            return out == null ? PNone.NONE : factory().createBytes(out);
+        }
+    }
+
+    @Builtin(name = "b16encode", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class B16EncodeNode extends CodecNode {
+        @Specialization
+        PBytes encode(PIBytesLike data,
+                        @Cached GetInternalByteArrayNode getInternalByteArrayNode) {
+            return factory().createBytes(BinasciiModuleBuiltins.encodeHex(bytes(data, getInternalByteArrayNode), length(data), true));
+        }
+
+        @Fallback
+        Object generic(@SuppressWarnings("unused") Object data) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "b16decode", minNumOfPositionalArgs = 2)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class B16DecodeNode extends CodecNode {
+        @Specialization
+        Object decode(PIBytesLike data, boolean casefold,
+                        @Cached GetInternalByteArrayNode getInternalByteArrayNode) {
+            int length = length(data);
+            if (length % 2 != 0) {
+                return PNone.NONE;
+            }
+            return result(BinasciiModuleBuiltins.decodeHex(bytes(data, getInternalByteArrayNode), length, !casefold));
+        }
+
+        @Fallback
+        Object generic(@SuppressWarnings("unused") Object data, @SuppressWarnings("unused") Object casefold) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "b32encode", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class B32EncodeNode extends CodecNode {
+        @Specialization
+        PBytes encode(PIBytesLike data,
+                        @Cached GetInternalByteArrayNode getInternalByteArrayNode) {
+            return factory().createBytes(encodeBase32(bytes(data, getInternalByteArrayNode), length(data)));
+        }
+
+        @Fallback
+        Object generic(@SuppressWarnings("unused") Object data) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "b32decode", minNumOfPositionalArgs = 3)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class B32DecodeNode extends CodecNode {
+        /**
+         * {@code map01} is the byte the digit 1 maps to, or {@code -1} if it is not mapped.
+         */
+        @Specialization
+        Object decode(PIBytesLike data, boolean casefold, long map01,
+                        @Cached GetInternalByteArrayNode getInternalByteArrayNode) {
+            return result(decodeBase32(bytes(data, getInternalByteArrayNode), length(data), casefold, (int) map01));
+        }
+
+        @Fallback
+        Object generic(@SuppressWarnings("unused") Object data, @SuppressWarnings("unused") Object casefold, @SuppressWarnings("unused") Object map01) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "b85encode", minNumOfPositionalArgs = 2)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class B85EncodeNode extends CodecNode {
+        @Specialization
+        PBytes encode(PIBytesLike data, boolean pad,
+                        @Cached GetInternalByteArrayNode getInternalByteArrayNode) {
+            return factory().createBytes(encodeBase85(bytes(data, getInternalByteArrayNode), length(data), pad));
+        }
+
+        @Fallback
+        Object generic(@SuppressWarnings("unused") Object data, @SuppressWarnings("unused") Object pad) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "b85decode", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class B85DecodeNode extends CodecNode {
+        @Specialization
+        Object decode(PIBytesLike data,
+                        @Cached GetInternalByteArrayNode getInternalByteArrayNode) {
+            return result(decodeBase85(bytes(data, getInternalByteArrayNode), length(data)));
+        }
+
+        @Fallback
+        Object generic(@SuppressWarnings("unused") Object data) {
+            return PNone.NONE;
+        }
+    }
+}
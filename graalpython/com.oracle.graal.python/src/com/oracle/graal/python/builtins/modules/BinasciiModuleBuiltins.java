@@ -40,10 +40,11 @@
  */
 package com.oracle.graal.python.builtins.modules;
 
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.SystemError;
 
-import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.zip.CRC32;
 
@@ -52,18 +53,18 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
-import com.oracle.graal.python.builtins.objects.array.PArray;
-import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
-import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.ToByteArrayNodeGen;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
-import com.oracle.graal.python.builtins.objects.module.PythonModule;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
 import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
 import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
-import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PNodeWithContext;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.SpecialMethodNames;
 import com.oracle.graal.python.nodes.call.special.LookupAndCallUnaryNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
@@ -75,20 +76,44 @@ import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.dsl.TypeSystemReference;
 import com.oracle.truffle.api.frame.VirtualFrame;
-import com.oracle.truffle.api.profiles.ConditionProfile;
-import com.sun.org.apache.xerces.internal.impl.dv.util.Base64;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
 
 @CoreFunctions(defineModule = "binascii")
 public class BinasciiModuleBuiltins extends PythonBuiltins {
     private static final String INCOMPLETE = "Incomplete";
     private static final String ERROR = "Error";
 
+    private static final byte[] BASE64_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes();
+    private static final byte[] HEX_LOWER = "0123456789abcdef".getBytes();
+    private static final byte[] HEX_UPPER = "0123456789ABCDEF".getBytes();
+
+    /** Maps an ASCII character to its base64 value; -1 marks characters that are skipped. */
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    /** Maps an ASCII character to its hexadecimal value; -1 marks non-hex characters. */
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        for (int i = 0; i < BASE64_CHARS.length; i++) {
+            BASE64_VALUES[BASE64_CHARS[i]] = (byte) i;
+        }
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUES[HEX_LOWER[i]] = (byte) i;
+            HEX_VALUES[HEX_UPPER[i]] = (byte) i;
+        }
+    }
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return BinasciiModuleBuiltinsFactory.getFactories();
@@ -104,76 +129,251 @@ public class BinasciiModuleBuiltins extends PythonBuiltins {
         builtinConstants.put(INCOMPLETE, core.factory().createPythonClass(PythonBuiltinClassType.PythonClass, pre + INCOMPLETE, incompleteBases));
     }
 
-    @Builtin(name = "a2b_base64", minNumOfPositionalArgs = 1)
-    @GenerateNodeFactory
-    abstract static class A2bBase64Node extends PythonUnaryBuiltinNode {
+    @TruffleBoundary
+    private static PException raiseError(PythonBuiltinBaseNode node, String message) {
+        PythonCore core = node.getCore();
+        LazyPythonClass errorType = (LazyPythonClass) core.lookupBuiltinModule("binascii").getAttribute(ERROR);
+        return node.raise(core.factory().createBaseException(errorType, message, new Object[0]));
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code data} into a presized base64 result.
+     */
+    @TruffleBoundary(allowInlining = true)
+    static byte[] encodeBase64(byte[] data, int length, boolean newline) {
+        int full = length / 3 * 3;
+        int rest = length - full;
+        byte[] out = new byte[(length + 2) / 3 * 4 + (newline ? 1 : 0)];
+        int o = 0;
+        for (int i = 0; i < full; i += 3) {
+            int bits = (data[i] & 0xff) << 16 | (data[i + 1] & 0xff) << 8 | (data[i + 2] & 0xff);
+            out[o] = BASE64_CHARS[bits >>> 18];
+            out[o + 1] = BASE64_CHARS[(bits >>> 12) & 0x3f];
+            out[o + 2] = BASE64_CHARS[(bits >>> 6) & 0x3f];
+            out[o + 3] = BASE64_CHARS[bits & 0x3f];
+            o += 4;
+        }
+        if (rest == 1) {
+            int bits = data[full] & 0xff;
+            out[o++] = BASE64_CHARS[bits >>> 2];
+            out[o++] = BASE64_CHARS[(bits & 0x3) << 4];
+            out[o++] = '=';
+            out[o++] = '=';
+        } else if (rest == 2) {
+            int bits = (data[full] & 0xff) << 8 | (data[full + 1] & 0xff);
+            out[o++] = BASE64_CHARS[bits >>> 10];
+            out[o++] = BASE64_CHARS[(bits >>> 4) & 0x3f];
+            out[o++] = BASE64_CHARS[(bits & 0xf) << 2];
+            out[o++] = '=';
+        }
+        if (newline) {
+            out[o] = '\n';
+        }
+        return out;
+    }
+
+    /**
+     * Encodes {@code length} bytes of {@code data} into a presized hexadecimal result.
+     */
+    @TruffleBoundary(allowInlining = true)
+    static byte[] encodeHex(byte[] data, int length, boolean upperCase) {
+        byte[] digits = upperCase ? HEX_UPPER : HEX_LOWER;
+        byte[] out = new byte[length * 2];
+        for (int i = 0; i < length; i++) {
+            int b = data[i] & 0xff;
+            out[2 * i] = digits[b >>> 4];
+            out[2 * i + 1] = digits[b & 0xf];
+        }
+        return out;
+    }
+
+    /**
+     * Decodes an even number of hexadecimal digits. Returns {@code null} if a non-hex digit is
+     * found, or if {@code upperCaseOnly} is set and a lower case digit is found.
+     */
+    @TruffleBoundary(allowInlining = true)
+    static byte[] decodeHex(byte[] data, int length, boolean upperCaseOnly) {
+        assert length % 2 == 0;
+        byte[] out = new byte[length / 2];
+        for (int i = 0; i < out.length; i++) {
+            int hi = data[2 * i];
+            int lo = data[2 * i + 1];
+            if (hi < 0 || lo < 0 || HEX_VALUES[hi] < 0 || HEX_VALUES[lo] < 0 || upperCaseOnly && (hi >= 'a' || lo >= 'a')) {
+                return null;
+            }
+            out[i] = (byte) (HEX_VALUES[hi] << 4 | HEX_VALUES[lo]);
+        }
+        return out;
+    }
+
+    /**
+     * Reads the bytes of a binascii argument. Bytes and bytearray storages are read in place, so
+     * the returned array may be longer than the data (see {@link #length}). Other buffer objects
+     * are copied once through the buffer protocol.
+     */
+    @ImportStatic({PGuards.class, SpecialMethodNames.class})
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    abstract static class BufferArgNode extends PNodeWithContext {
+        @Child private PRaiseNode raise = PRaiseNode.create();
+
+        private final boolean acceptString;
+
+        BufferArgNode(boolean acceptString) {
+            this.acceptString = acceptString;
+        }
+
+        abstract byte[] execute(VirtualFrame frame, Object data);
+
         @Specialization
-        PBytes doString(String data) {
-            return factory().createBytes(b64decode(data));
+        static byte[] doBytesLike(PIBytesLike data,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode) {
+            return getInternalByteArrayNode.execute(data.getSequenceStorage());
         }
 
         @Specialization
-        PBytes doBytesLike(VirtualFrame frame, PIBytesLike data,
-                        @Cached("create()") BytesNodes.ToBytesNode toBytesNode) {
-            return factory().createBytes(b64decode(toBytesNode.execute(frame, data)));
+        byte[] doMemoryView(VirtualFrame frame, PMemoryView data,
+                        @Cached("create(TOBYTES)") LookupAndCallUnaryNode toBytesNode,
+                        @Cached SequenceStorageNodes.ToByteArrayNode toByteArrayNode) {
+            Object bytes = toBytesNode.executeObject(frame, data);
+            if (bytes instanceof PBytes) {
+                return toByteArrayNode.execute(((PBytes) bytes).getSequenceStorage());
+            }
+            throw raise.raise(SystemError, "could not get bytes of memoryview");
         }
 
-        @TruffleBoundary
-        private static byte[] b64decode(String data) {
-            return Base64.decode(data);
+        @Specialization(guards = "acceptString")
+        byte[] doString(String data) {
+            byte[] bytes = asciiBytes(data);
+            if (bytes == null) {
+                throw raise.raise(ValueError, "string argument should contain only ASCII characters");
+            }
+            return bytes;
         }
 
-        @TruffleBoundary
-        private byte[] b64decode(byte[] data) {
+        @Specialization(guards = {"!isBytes(data)", "!isMemoryView(data)", "!isString(data)", "lib.isBuffer(data)"}, limit = "3")
+        byte[] doBuffer(Object data,
+                        @CachedLibrary("data") PythonObjectLibrary lib) {
             try {
-                return Base64.decode(new String(data, "ascii"));
-            } catch (UnsupportedEncodingException e) {
-                throw raise(ValueError);
+                return lib.getBufferBytes(data);
+            } catch (UnsupportedMessageException e) {
+                throw raise.raise(TypeError, "a bytes-like object is required, not '%p'", data);
             }
         }
-    }
 
-    @Builtin(name = "a2b_hex", minNumOfPositionalArgs = 2, declaresExplicitSelf = true)
-    @GenerateNodeFactory
-    abstract static class A2bHexNode extends PythonBinaryBuiltinNode {
-        private ReadAttributeFromObjectNode readAttrNode;
-
-        private PException raise(LazyPythonClass klass, String string) {
-            return raise(factory().createBaseException(klass, string, new Object[0]));
+        @Fallback
+        byte[] doError(Object data) {
+            if (acceptString) {
+                throw raise.raise(TypeError, "argument should be bytes, buffer or ASCII string, not '%p'", data);
+            }
+            throw raise.raise(TypeError, "a bytes-like object is required, not '%p'", data);
         }
 
-        @Specialization
         @TruffleBoundary
-        PBytes a2b(PythonModule self, String data) {
-            int length = data.length();
-            if (length % 2 != 0) {
-                throw oddLengthError(self);
-            }
-            byte[] output = new byte[length / 2];
-            for (int i = 0; i < length / 2; i++) {
-                try {
-                    output[i] = Byte.valueOf(data.substring(i, i + 2), 16);
-                } catch (NumberFormatException e) {
-                    throw nonHexError(self);
+        private static byte[] asciiBytes(String data) {
+            byte[] bytes = new byte[data.length()];
+            for (int i = 0; i < bytes.length; i++) {
+                char c = data.charAt(i);
+                if (c > 0x7f) {
+                    return null;
                 }
+                bytes[i] = (byte) c;
             }
-            return factory().createBytes(output);
+            return bytes;
         }
 
-        private PException oddLengthError(PythonModule self) {
-            return raise((LazyPythonClass) getAttrNode().execute(self, ERROR), "Odd-length string");
+        /**
+         * The number of valid bytes in the array returned for {@code data}.
+         */
+        static int length(Object data, byte[] bytes) {
+            if (data instanceof PIBytesLike) {
+                return ((PIBytesLike) data).getSequenceStorage().length();
+            }
+            return bytes.length;
         }
 
-        private PException nonHexError(PythonModule self) {
-            return raise((LazyPythonClass) getAttrNode().execute(self, ERROR), "Non-hexadecimal digit found");
+        static BufferArgNode create(boolean acceptString) {
+            return BinasciiModuleBuiltinsFactory.BufferArgNodeGen.create(acceptString);
         }
+    }
 
-        private ReadAttributeFromObjectNode getAttrNode() {
-            if (readAttrNode == null) {
-                CompilerDirectives.transferToInterpreterAndInvalidate();
-                readAttrNode = insert(ReadAttributeFromObjectNode.create());
+    @Builtin(name = "a2b_base64", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class A2bBase64Node extends PythonUnaryBuiltinNode {
+        @Specialization
+        PBytes doConvert(VirtualFrame frame, Object data,
+                        @Cached("create(true)") BufferArgNode bufferArg) {
+            byte[] bytes = bufferArg.execute(frame, data);
+            return factory().createBytes(b64decode(bytes, BufferArgNode.length(data, bytes)));
+        }
+
+        @TruffleBoundary
+        private byte[] b64decode(byte[] data, int length) {
+            byte[] out = new byte[(length + 3) / 4 * 3];
+            int outLength = 0;
+            int quadPos = 0;
+            int leftChar = 0;
+            int leftBits = 0;
+            for (int i = 0; i < length; i++) {
+                int c = data[i];
+                if (c < 0 || c == '\r' || c == '\n' || c == ' ') {
+                    continue;
+                }
+                if (c == '=') {
+                    // a pad sequence means no more input, invalid ones are ignored
+                    if (quadPos < 2 || quadPos == 2 && nextValid(data, i + 1, length) != '=') {
+                        continue;
+                    }
+                    leftBits = 0;
+                    break;
+                }
+                int value = BASE64_VALUES[c];
+                if (value < 0) {
+                    continue;
+                }
+                quadPos = (quadPos + 1) & 0x3;
+                leftChar = (leftChar << 6) | value;
+                leftBits += 6;
+                if (leftBits >= 8) {
+                    leftBits -= 8;
+                    out[outLength++] = (byte) (leftChar >> leftBits);
+                    leftChar &= (1 << leftBits) - 1;
+                }
+            }
+            if (leftBits == 6) {
+                throw raiseError(this, String.format("Invalid base64-encoded string: number of data characters (%d) cannot be 1 more than a multiple of 4", outLength / 3 * 4 + 1));
+            } else if (leftBits != 0) {
+                throw raiseError(this, "Incorrect padding");
             }
-            return readAttrNode;
+            return outLength == out.length ? out : Arrays.copyOf(out, outLength);
+        }
+
+        private static int nextValid(byte[] data, int start, int length) {
+            for (int i = start; i < length; i++) {
+                int c = data[i];
+                if (c == '=' || c >= 0 && BASE64_VALUES[c] >= 0) {
+                    return c;
+                }
+            }
+            return -1;
+        }
+    }
+
+    @Builtin(name = "a2b_hex", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class A2bHexNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        PBytes a2b(VirtualFrame frame, Object data,
+                        @Cached("create(true)") BufferArgNode bufferArg) {
+            byte[] bytes = bufferArg.execute(frame, data);
+            int length = BufferArgNode.length(data, bytes);
+            if (length % 2 != 0) {
+                throw raiseError(this, "Odd-length string");
+            }
+            byte[] output = decodeHex(bytes, length, false);
+            if (output == null) {
+                throw raiseError(this, "Non-hexadecimal digit found");
+            }
+            return factory().createBytes(output);
         }
     }
 
@@ -182,18 +382,9 @@ public class BinasciiModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class B2aBase64Node extends PythonBinaryBuiltinNode {
 
-        @Child private SequenceStorageNodes.ToByteArrayNode toByteArray;
         @Child private CastToIntegerFromIntNode castToIntNode;
         @Child private B2aBase64Node recursiveNode;
 
-        private SequenceStorageNodes.ToByteArrayNode getToByteArrayNode() {
-            if (toByteArray == null) {
-                CompilerDirectives.transferToInterpreterAndInvalidate();
-                toByteArray = insert(ToByteArrayNodeGen.create());
-            }
-            return toByteArray;
-        }
-
         private CastToIntegerFromIntNode getCastToIntNode() {
             if (castToIntNode == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -212,127 +403,43 @@ public class BinasciiModuleBuiltins extends PythonBuiltins {
             return recursiveNode;
         }
 
-        @TruffleBoundary
-        private PBytes b2a(byte[] data, boolean newline) {
-            String encode = Base64.encode(data);
-            if (newline) {
-                return factory().createBytes((encode + "\n").getBytes());
-            }
-            return factory().createBytes((encode).getBytes());
-        }
-
-        @Specialization(guards = "isNoValue(newline)")
-        PBytes b2aBytesLike(PIBytesLike data, @SuppressWarnings("unused") PNone newline) {
-            return b2aBytesLike(data, 1);
-        }
-
-        @Specialization
-        PBytes b2aBytesLike(PIBytesLike data, long newline) {
-            return b2a(getToByteArrayNode().execute(data.getSequenceStorage()), newline != 0);
-        }
-
-        @Specialization
-        PBytes b2aBytesLike(PIBytesLike data, PInt newline) {
-            return b2a(getToByteArrayNode().execute(data.getSequenceStorage()), !newline.isZero());
-        }
-
-        @Specialization
-        PBytes b2aBytesLike(VirtualFrame frame, PIBytesLike data, Object newline) {
-            return (PBytes) getRecursiveNode().execute(frame, data, getCastToIntNode().execute(newline));
-        }
-
-        @Specialization(guards = "isNoValue(newline)")
-        PBytes b2aArray(VirtualFrame frame, PArray data, @SuppressWarnings("unused") PNone newline) {
-            return b2aArray(frame, data, 1);
-        }
-
-        @Specialization
-        PBytes b2aArray(PArray data, long newline) {
-            return b2a(getToByteArrayNode().execute(data.getSequenceStorage()), newline != 0);
-        }
-
-        @Specialization
-        PBytes b2aArray(PArray data, PInt newline) {
-            return b2a(getToByteArrayNode().execute(data.getSequenceStorage()), !newline.isZero());
-        }
-
-        @Specialization
-        PBytes b2aArray(VirtualFrame frame, PArray data, Object newline) {
-            return (PBytes) getRecursiveNode().execute(frame, data, getCastToIntNode().execute(newline));
+        private PBytes b2a(VirtualFrame frame, Object data, boolean newline, BufferArgNode bufferArg) {
+            byte[] bytes = bufferArg.execute(frame, data);
+            return factory().createBytes(encodeBase64(bytes, BufferArgNode.length(data, bytes), newline));
         }
 
         @Specialization(guards = "isNoValue(newline)")
-        PBytes b2aMmeory(VirtualFrame frame, PMemoryView data, @SuppressWarnings("unused") PNone newline,
-                        @Cached("create(TOBYTES)") LookupAndCallUnaryNode toBytesNode,
-                        @Cached("createBinaryProfile()") ConditionProfile isBytesProfile) {
-            return b2aMemory(frame, data, 1, toBytesNode, isBytesProfile);
+        PBytes b2a(VirtualFrame frame, Object data, @SuppressWarnings("unused") PNone newline,
+                        @Shared("bufferArg") @Cached("create(false)") BufferArgNode bufferArg) {
+            return b2a(frame, data, true, bufferArg);
         }
 
         @Specialization
-        PBytes b2aMemory(VirtualFrame frame, PMemoryView data, long newline,
-                        @Cached("create(TOBYTES)") LookupAndCallUnaryNode toBytesNode,
-                        @Cached("createBinaryProfile()") ConditionProfile isBytesProfile) {
-            Object bytesObj = toBytesNode.executeObject(frame, data);
-            if (isBytesProfile.profile(bytesObj instanceof PBytes)) {
-                return b2aBytesLike((PBytes) bytesObj, newline);
-            }
-            throw raise(SystemError, "could not get bytes of memoryview");
+        PBytes b2a(VirtualFrame frame, Object data, long newline,
+                        @Shared("bufferArg") @Cached("create(false)") BufferArgNode bufferArg) {
+            return b2a(frame, data, newline != 0, bufferArg);
         }
 
         @Specialization
-        PBytes b2aMmeory(VirtualFrame frame, PMemoryView data, PInt newline,
-                        @Cached("create(TOBYTES)") LookupAndCallUnaryNode toBytesNode,
-                        @Cached("createBinaryProfile()") ConditionProfile isBytesProfile) {
-            return b2aMemory(frame, data, newline.isZero() ? 0 : 1, toBytesNode, isBytesProfile);
+        PBytes b2a(VirtualFrame frame, Object data, PInt newline,
+                        @Shared("bufferArg") @Cached("create(false)") BufferArgNode bufferArg) {
+            return b2a(frame, data, !newline.isZero(), bufferArg);
         }
 
-        @Specialization
-        PBytes b2aMmeory(VirtualFrame frame, PMemoryView data, Object newline) {
+        @Specialization(guards = "!isNoValue(newline)")
+        PBytes b2a(VirtualFrame frame, Object data, Object newline) {
             return (PBytes) getRecursiveNode().execute(frame, data, getCastToIntNode().execute(newline));
         }
-
-        @Fallback
-        PBytes b2sGeneral(Object data, @SuppressWarnings("unused") Object newline) {
-            throw raise(PythonBuiltinClassType.TypeError, "a bytes-like object is required, not '%p'", data);
-        }
     }
 
     @Builtin(name = "b2a_hex", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     abstract static class B2aHexNode extends PythonUnaryBuiltinNode {
-        @TruffleBoundary
-        private static final StringBuilder newStringBuilder() {
-            return new StringBuilder();
-        }
-
-        @TruffleBoundary
-        private static final void sbAppend(StringBuilder sb, String str) {
-            sb.append(str);
-        }
-
-        @TruffleBoundary
-        private static final String sbToString(StringBuilder sb) {
-            return sb.toString();
-        }
-
-        @TruffleBoundary
-        private static final String toHexString(byte b) {
-            return Integer.toHexString(b);
-        }
-
         @Specialization
-        String b2a(PBytes data,
-                        @Cached SequenceStorageNodes.ToByteArrayNode toByteArray) {
-            byte[] bytes = toByteArray.execute(data.getSequenceStorage());
-            StringBuilder sb = newStringBuilder();
-            for (int i = 0; i < bytes.length; i++) {
-                String hexString = toHexString(bytes[i]);
-                if (hexString.length() < 2) {
-                    sbAppend(sb, "0");
-                }
-                sbAppend(sb, hexString);
-            }
-            return sbToString(sb);
+        PBytes b2a(VirtualFrame frame, Object data,
+                        @Cached("create(false)") BufferArgNode bufferArg) {
+            byte[] bytes = bufferArg.execute(frame, data);
+            return factory().createBytes(encodeHex(bytes, BufferArgNode.length(data, bytes), false));
         }
     }
 
@@ -358,7 +465,7 @@ public class BinasciiModuleBuiltins extends PythonBuiltins {
     abstract static class HexlifyNode extends B2aHexNode {
     }
 
-    @Builtin(name = "unhexlify", minNumOfPositionalArgs = 2, declaresExplicitSelf = true)
+    @Builtin(name = "unhexlify", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     abstract static class UnhexlifyNode extends A2bHexNode {
     }
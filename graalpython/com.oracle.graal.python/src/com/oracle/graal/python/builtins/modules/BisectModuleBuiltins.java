@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.IndexError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.BisectModuleBuiltinsFactory.BisectHelperNodeGen;
+import com.oracle.graal.python.builtins.modules.BisectModuleBuiltinsFactory.InsertNodeGen;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.SpecialMethodNames;
+import com.oracle.graal.python.nodes.call.special.LookupAndCallTernaryNode;
+import com.oracle.graal.python.nodes.call.special.LookupAndCallUnaryNode;
+import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
+import com.oracle.graal.python.nodes.subscript.GetItemNode;
+import com.oracle.graal.python.nodes.util.CastToIndexNode;
+import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+
+/**
+ * The {@code _bisect} accelerator module. Exact lists and tuples are searched directly on their
+ * sequence storage, without boxing if both the storage and the searched item are int, long or
+ * double. Any other sequence is accessed through {@code __len__} and {@code __getitem__}.
+ */
+@CoreFunctions(defineModule = "_bisect")
+public class BisectModuleBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return BisectModuleBuiltinsFactory.getFactories();
+    }
+
+    protected static boolean isBuiltinListOrTuple(Object object) {
+        return (object instanceof PList || object instanceof PTuple) && PGuards.cannotBeOverridden(((PSequence) object).getLazyPythonClass());
+    }
+
+    /**
+     * Returns the insertion point for {@code x} in {@code a[lo:hi]}; a {@code hi} of {@code -1}
+     * stands for {@code len(a)}. If {@code right} is set, the point is after any existing entries
+     * equal to {@code x}, otherwise before them.
+     */
+    abstract static class BisectHelperNode extends PythonBuiltinBaseNode {
+        protected final boolean right;
+
+        BisectHelperNode(boolean right) {
+            this.right = right;
+        }
+
+        abstract int execute(VirtualFrame frame, Object a, Object x, int lo, int hi);
+
+        @Specialization(guards = {"isBuiltinListOrTuple(a)", "isIntStorage(a)"})
+        int doInt(PSequence a, int x, int lo, int hi) {
+            IntSequenceStorage storage = (IntSequenceStorage) a.getSequenceStorage();
+            int[] values = storage.getInternalIntArray();
+            int length = storage.length();
+            int low = lo;
+            int high = hi == -1 ? length : hi;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                checkIndex(mid, length);
+                if (right ? x < values[mid] : !(values[mid] < x)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        @Specialization(guards = {"isBuiltinListOrTuple(a)", "isLongStorage(a)"})
+        int doLong(PSequence a, long x, int lo, int hi) {
+            LongSequenceStorage storage = (LongSequenceStorage) a.getSequenceStorage();
+            long[] values = storage.getInternalLongArray();
+            int length = storage.length();
+            int low = lo;
+            int high = hi == -1 ? length : hi;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                checkIndex(mid, length);
+                if (right ? x < values[mid] : !(values[mid] < x)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        @Specialization(guards = {"isBuiltinListOrTuple(a)", "isDoubleStorage(a)"})
+        int doDouble(PSequence a, double x, int lo, int hi) {
+            DoubleSequenceStorage storage = (DoubleSequenceStorage) a.getSequenceStorage();
+            double[] values = storage.getInternalDoubleArray();
+            int length = storage.length();
+            int low = lo;
+            int high = hi == -1 ? length : hi;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                checkIndex(mid, length);
+                if (right ? x < values[mid] : !(values[mid] < x)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        @Specialization(guards = "isBuiltinListOrTuple(a)", replaces = {"doInt", "doLong", "doDouble"})
+        int doSequence(VirtualFrame frame, PSequence a, Object x, int lo, int hi,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached SequenceStorageNodes.GetItemNode getItemNode,
+                        @Cached("createLessThan()") BinaryComparisonNode lessThanNode) {
+            int low = lo;
+            int high = hi == -1 ? lenNode.execute(a.getSequenceStorage()) : hi;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                // the storage is re-read since a comparison may have modified a list
+                Object item = getItemNode.execute(frame, a.getSequenceStorage(), mid);
+                if (right ? lessThanNode.executeBool(frame, x, item) : !lessThanNode.executeBool(frame, item, x)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        @Specialization(guards = "!isBuiltinListOrTuple(a)")
+        int doGeneric(VirtualFrame frame, Object a, Object x, int lo, int hi,
+                        @Cached("create(__LEN__)") LookupAndCallUnaryNode callLenNode,
+                        @Cached CastToIndexNode castToIndexNode,
+                        @Cached GetItemNode getItemNode,
+                        @Cached("createLessThan()") BinaryComparisonNode lessThanNode) {
+            int low = lo;
+            int high = hi == -1 ? castToIndexNode.execute(frame, callLenNode.executeObject(frame, a)) : hi;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                Object item = getItemNode.execute(frame, a, mid);
+                if (right ? lessThanNode.executeBool(frame, x, item) : !lessThanNode.executeBool(frame, item, x)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        private void checkIndex(int index, int length) {
+            if (index >= length) {
+                throw raise(IndexError, "index out of range");
+            }
+        }
+
+        protected static BinaryComparisonNode createLessThan() {
+            return BinaryComparisonNode.create(SpecialMethodNames.__LT__, SpecialMethodNames.__GT__, "<");
+        }
+
+        protected static BisectHelperNode create(boolean right) {
+            return BisectHelperNodeGen.create(right);
+        }
+    }
+
+    /**
+     * Inserts {@code x} at {@code index}. Exact lists are modified in place, anything else gets its
+     * {@code insert} method called.
+     */
+    abstract static class InsertNode extends PythonBuiltinBaseNode {
+
+        abstract void execute(VirtualFrame frame, Object a, int index, Object x);
+
+        @Specialization(guards = {"isExactList(a)", "isIntStorage(a)"})
+        void doInt(PList a, int index, int x) {
+            ((IntSequenceStorage) a.getSequenceStorage()).insertIntItem(index, x);
+        }
+
+        @Specialization(guards = {"isExactList(a)", "isLongStorage(a)"})
+        void doLong(PList a, int index, long x) {
+            ((LongSequenceStorage) a.getSequenceStorage()).insertLongItem(index, x);
+        }
+
+        @Specialization(guards = {"isExactList(a)", "isDoubleStorage(a)"})
+        void doDouble(PList a, int index, double x) {
+            ((DoubleSequenceStorage) a.getSequenceStorage()).insertDoubleItem(index, x);
+        }
+
+        @Specialization(guards = "isExactList(a)", replaces = {"doInt", "doLong", "doDouble"})
+        void doList(PList a, int index, Object x) {
+            a.insert(index, x);
+        }
+
+        @Specialization(guards = "!isExactList(a)")
+        void doGeneric(VirtualFrame frame, Object a, int index, Object x,
+                        @Cached("createInsert()") LookupAndCallTernaryNode callInsertNode) {
+            callInsertNode.execute(frame, a, index, x);
+        }
+
+        protected static boolean isExactList(Object object) {
+            return object instanceof PList && PGuards.cannotBeOverridden(((PList) object).getLazyPythonClass());
+        }
+
+        protected static LookupAndCallTernaryNode createInsert() {
+            return LookupAndCallTernaryNode.create("insert");
+        }
+
+        protected static InsertNode create() {
+            return InsertNodeGen.create();
+        }
+    }
+
+    abstract static class BisectBaseNode extends PythonQuaternaryBuiltinNode {
+        @Child private CastToIndexNode castLoNode;
+        @Child private CastToIndexNode castHiNode;
+
+        protected int castLo(VirtualFrame frame, Object lo) {
+            if (lo == PNone.NO_VALUE) {
+                return 0;
+            }
+            if (castLoNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                castLoNode = insert(CastToIndexNode.createOverflow());
+            }
+            int value = castLoNode.execute(frame, lo);
+            if (value < 0) {
+                throw raise(ValueError, "lo must be non-negative");
+            }
+            return value;
+        }
+
+        protected int castHi(VirtualFrame frame, Object hi) {
+            if (PGuards.isPNone(hi)) {
+                return -1;
+            }
+            if (castHiNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                castHiNode = insert(CastToIndexNode.createOverflow());
+            }
+            return castHiNode.execute(frame, hi);
+        }
+    }
+
+    // bisect_right(a, x, lo=0, hi=len(a))
+    @Builtin(name = "bisect_right", minNumOfPositionalArgs = 2, parameterNames = {"a", "x", "lo", "hi"})
+    @GenerateNodeFactory
+    public abstract static class BisectRightNode extends BisectBaseNode {
+        @Specialization
+        int bisect(VirtualFrame frame, Object a, Object x, Object lo, Object hi,
+                        @Cached("create(true)") BisectHelperNode bisectNode) {
+            return bisectNode.execute(frame, a, x, castLo(frame, lo), castHi(frame, hi));
+        }
+    }
+
+    // bisect_left(a, x, lo=0, hi=len(a))
+    @Builtin(name = "bisect_left", minNumOfPositionalArgs = 2, parameterNames = {"a", "x", "lo", "hi"})
+    @GenerateNodeFactory
+    public abstract static class BisectLeftNode extends BisectBaseNode {
+        @Specialization
+        int bisect(VirtualFrame frame, Object a, Object x, Object lo, Object hi,
+                        @Cached("create(false)") BisectHelperNode bisectNode) {
+            return bisectNode.execute(frame, a, x, castLo(frame, lo), castHi(frame, hi));
+        }
+    }
+
+    // insort_right(a, x, lo=0, hi=len(a))
+    @Builtin(name = "insort_right", minNumOfPositionalArgs = 2, parameterNames = {"a", "x", "lo", "hi"})
+    @GenerateNodeFactory
+    public abstract static class InsortRightNode extends BisectBaseNode {
+        @Specialization
+        Object insort(VirtualFrame frame, Object a, Object x, Object lo, Object hi,
+                        @Cached("create(true)") BisectHelperNode bisectNode,
+                        @Cached InsertNode insertNode) {
+            insertNode.execute(frame, a, bisectNode.execute(frame, a, x, castLo(frame, lo), castHi(frame, hi)), x);
+            return PNone.NONE;
+        }
+    }
+
+    // insort_left(a, x, lo=0, hi=len(a))
+    @Builtin(name = "insort_left", minNumOfPositionalArgs = 2, parameterNames = {"a", "x", "lo", "hi"})
+    @GenerateNodeFactory
+    public abstract static class InsortLeftNode extends BisectBaseNode {
+        @Specialization
+        Object insort(VirtualFrame frame, Object a, Object x, Object lo, Object hi,
+                        @Cached("create(false)") BisectHelperNode bisectNode,
+                        @Cached InsertNode insertNode) {
+            insertNode.execute(frame, a, bisectNode.execute(frame, a, x, castLo(frame, lo), castHi(frame, hi)), x);
+            return PNone.NONE;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+
+import java.security.MessageDigest;
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
+import com.oracle.graal.python.builtins.objects.hashlib.Blake2bDigest;
+import com.oracle.graal.python.builtins.objects.hashlib.Blake2sDigest;
+import com.oracle.graal.python.builtins.objects.hashlib.HashObjectBuiltins.HashUpdateNode;
+import com.oracle.graal.python.builtins.objects.hashlib.PHashObject;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.graal.python.nodes.expression.CastToBooleanNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.util.CastToIndexNode;
+import com.oracle.graal.python.nodes.util.CastToJavaLongNode;
+import com.oracle.graal.python.runtime.PythonCore;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+
+/**
+ * The {@code _blake2} module. BLAKE2b and BLAKE2s are implemented in Java (see
+ * {@link Blake2bDigest} and {@link Blake2sDigest}) since the JDK does not provide them.
+ */
+@CoreFunctions(defineModule = "_blake2")
+public class Blake2ModuleBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return Blake2ModuleBuiltinsFactory.getFactories();
+    }
+
+    @Override
+    public void initialize(PythonCore core) {
+        builtinConstants.put("BLAKE2B_SALT_SIZE", Blake2bDigest.SALT_SIZE);
+        builtinConstants.put("BLAKE2B_PERSON_SIZE", Blake2bDigest.PERSON_SIZE);
+        builtinConstants.put("BLAKE2B_MAX_KEY_SIZE", Blake2bDigest.MAX_KEY_SIZE);
+        builtinConstants.put("BLAKE2B_MAX_DIGEST_SIZE", Blake2bDigest.MAX_DIGEST_SIZE);
+        builtinConstants.put("BLAKE2S_SALT_SIZE", Blake2sDigest.SALT_SIZE);
+        builtinConstants.put("BLAKE2S_PERSON_SIZE", Blake2sDigest.PERSON_SIZE);
+        builtinConstants.put("BLAKE2S_MAX_KEY_SIZE", Blake2sDigest.MAX_KEY_SIZE);
+        builtinConstants.put("BLAKE2S_MAX_DIGEST_SIZE", Blake2sDigest.MAX_DIGEST_SIZE);
+        super.initialize(core);
+    }
+
+    /**
+     * Common argument handling of the {@code blake2b} and {@code blake2s} constructors, which
+     * take the same keyword arguments and only differ in the limits.
+     */
+    abstract static class Blake2Node extends PythonBuiltinNode {
+
+        @Child private BytesNodes.ToBytesNode toBytesNode;
+        @Child private CastToIndexNode castToIntNode;
+        @Child private CastToJavaLongNode castToLongNode;
+        @Child private CastToBooleanNode castToBooleanNode;
+        @Child private HashUpdateNode hashUpdateNode;
+
+        protected abstract MessageDigest createDigest(int digestSize, byte[] key, byte[] salt, byte[] person, int fanout, int depth, long leafSize, long nodeOffset, int nodeDepth,
+                        int innerSize, boolean lastNode);
+
+        protected PHashObject create(VirtualFrame frame, LazyPythonClass cls, String name, int blockSize, int maxDigestSize, int maxKeySize, int saltSize, int personSize,
+                        Object data, Object digestSizeObj, Object keyObj, Object saltObj, Object personObj, Object fanoutObj, Object depthObj,
+                        Object leafSizeObj, Object nodeOffsetObj, Object nodeDepthObj, Object innerSizeObj, Object lastNodeObj) {
+            int digestSize = digestSizeObj instanceof PNone ? maxDigestSize : castToInt(frame, digestSizeObj);
+            if (digestSize < 1 || digestSize > maxDigestSize) {
+                throw raise(ValueError, "digest_size must be between 1 and %d bytes", maxDigestSize);
+            }
+            byte[] key = toBytes(frame, keyObj);
+            if (key.length > maxKeySize) {
+                throw raise(ValueError, "maximum key length is %d bytes", maxKeySize);
+            }
+            byte[] salt = toBytes(frame, saltObj);
+            if (salt.length > saltSize) {
+                throw raise(ValueError, "maximum salt length is %d bytes", saltSize);
+            }
+            byte[] person = toBytes(frame, personObj);
+            if (person.length > personSize) {
+                throw raise(ValueError, "maximum person length is %d bytes", personSize);
+            }
+            int fanout = fanoutObj instanceof PNone ? 1 : castToInt(frame, fanoutObj);
+            if (fanout < 0 || fanout > 255) {
+                throw raise(ValueError, "fanout must be between 0 and 255");
+            }
+            int depth = depthObj instanceof PNone ? 1 : castToInt(frame, depthObj);
+            if (depth <= 0 || depth > 255) {
+                throw raise(ValueError, "depth must be between 1 and 255");
+            }
+            long leafSize = leafSizeObj instanceof PNone ? 0 : castToLong(leafSizeObj);
+            if (leafSize < 0 || leafSize > 0xFFFFFFFFL) {
+                throw raise(OverflowError, "leaf_size is too large");
+            }
+            long nodeOffset = nodeOffsetObj instanceof PNone ? 0 : castToLong(nodeOffsetObj);
+            if (nodeOffset < 0 || (blockSize == Blake2sDigest.BLOCK_SIZE && nodeOffset > 0xFFFFFFFFFFFFL)) {
+                throw raise(OverflowError, "node_offset is too large");
+            }
+            int nodeDepth = nodeDepthObj instanceof PNone ? 0 : castToInt(frame, nodeDepthObj);
+            if (nodeDepth < 0 || nodeDepth > 255) {
+                throw raise(ValueError, "node_depth must be between 0 and 255");
+            }
+            int innerSize = innerSizeObj instanceof PNone ? 0 : castToInt(frame, innerSizeObj);
+            if (innerSize < 0 || innerSize > maxDigestSize) {
+                throw raise(ValueError, "inner_size must be between 0 and is %d", maxDigestSize);
+            }
+            boolean lastNode = !(lastNodeObj instanceof PNone) && castToBoolean(frame, lastNodeObj);
+
+            MessageDigest digest = createDigest(digestSize, key, salt, person, fanout, depth, leafSize, nodeOffset, nodeDepth, innerSize, lastNode);
+            PHashObject hash = factory().createHashObject(cls, name, blockSize, digest);
+            if (!(data instanceof PNone)) {
+                getHashUpdateNode().execute(hash, data);
+            }
+            return hash;
+        }
+
+        private byte[] toBytes(VirtualFrame frame, Object obj) {
+            if (obj instanceof PNone) {
+                return new byte[0];
+            }
+            if (toBytesNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                toBytesNode = insert(BytesNodes.ToBytesNode.create());
+            }
+            return toBytesNode.execute(frame, obj);
+        }
+
+        private int castToInt(VirtualFrame frame, Object obj) {
+            if (castToIntNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                castToIntNode = insert(CastToIndexNode.createOverflow());
+            }
+            return castToIntNode.execute(frame, obj);
+        }
+
+        private long castToLong(Object obj) {
+            if (castToLongNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                castToLongNode = insert(CastToJavaLongNode.create());
+            }
+            return castToLongNode.execute(obj);
+        }
+
+        private boolean castToBoolean(VirtualFrame frame, Object obj) {
+            if (castToBooleanNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                castToBooleanNode = insert(CastToBooleanNode.createIfTrueNode());
+            }
+            return castToBooleanNode.executeBoolean(frame, obj);
+        }
+
+        private HashUpdateNode getHashUpdateNode() {
+            if (hashUpdateNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                hashUpdateNode = insert(HashUpdateNode.create());
+            }
+            return hashUpdateNode;
+        }
+    }
+
+    // blake2b(data=b'', *, digest_size=64, key=b'', salt=b'', person=b'', fanout=1, depth=1,
+    // leaf_size=0, node_offset=0, node_depth=0, inner_size=0, last_node=False)
+    @Builtin(name = "blake2b", minNumOfPositionalArgs = 1, parameterNames = {"cls", "data"}, varArgsMarker = true, keywordOnlyNames = {"digest_size", "key", "salt", "person", "fanout",
+                    "depth", "leaf_size", "node_offset", "node_depth", "inner_size", "last_node"}, constructsClass = PythonBuiltinClassType.PBlake2b)
+    @GenerateNodeFactory
+    abstract static class Blake2bNode extends Blake2Node {
+
+        @Specialization
+        PHashObject doCreate(VirtualFrame frame, LazyPythonClass cls, Object data, Object digestSize, Object key, Object salt, Object person, Object fanout, Object depth,
+                        Object leafSize, Object nodeOffset, Object nodeDepth, Object innerSize, Object lastNode) {
+            return create(frame, cls, "blake2b", Blake2bDigest.BLOCK_SIZE, Blake2bDigest.MAX_DIGEST_SIZE, Blake2bDigest.MAX_KEY_SIZE, Blake2bDigest.SALT_SIZE,
+                            Blake2bDigest.PERSON_SIZE, data, digestSize, key, salt, person, fanout, depth, leafSize, nodeOffset, nodeDepth, innerSize, lastNode);
+        }
+
+        @Override
+        @TruffleBoundary
+        protected MessageDigest createDigest(int digestSize, byte[] key, byte[] salt, byte[] person, int fanout, int depth, long leafSize, long nodeOffset, int nodeDepth, int innerSize,
+                        boolean lastNode) {
+            return new Blake2bDigest(digestSize, key, salt, person, fanout, depth, leafSize, nodeOffset, nodeDepth, innerSize, lastNode);
+        }
+    }
+
+    // blake2s(data=b'', *, digest_size=32, key=b'', salt=b'', person=b'', fanout=1, depth=1,
+    // leaf_size=0, node_offset=0, node_depth=0, inner_size=0, last_node=False)
+    @Builtin(name = "blake2s", minNumOfPositionalArgs = 1, parameterNames = {"cls", "data"}, varArgsMarker = true, keywordOnlyNames = {"digest_size", "key", "salt", "person", "fanout",
+                    "depth", "leaf_size", "node_offset", "node_depth", "inner_size", "last_node"}, constructsClass = PythonBuiltinClassType.PBlake2s)
+    @GenerateNodeFactory
+    abstract static class Blake2sNode extends Blake2Node {
+
+        @Specialization
+        PHashObject doCreate(VirtualFrame frame, LazyPythonClass cls, Object data, Object digestSize, Object key, Object salt, Object person, Object fanout, Object depth,
+                        Object leafSize, Object nodeOffset, Object nodeDepth, Object innerSize, Object lastNode) {
+            return create(frame, cls, "blake2s", Blake2sDigest.BLOCK_SIZE, Blake2sDigest.MAX_DIGEST_SIZE, Blake2sDigest.MAX_KEY_SIZE, Blake2sDigest.SALT_SIZE,
+                            Blake2sDigest.PERSON_SIZE, data, digestSize, key, salt, person, fanout, depth, leafSize, nodeOffset, nodeDepth, innerSize, lastNode);
+        }
+
+        @Override
+        @TruffleBoundary
+        protected MessageDigest createDigest(int digestSize, byte[] key, byte[] salt, byte[] person, int fanout, int depth, long leafSize, long nodeOffset, int nodeDepth, int innerSize,
+                        boolean lastNode) {
+            return new Blake2sDigest(digestSize, key, salt, person, fanout, depth, leafSize, nodeOffset, nodeDepth, innerSize, lastNode);
+        }
+    }
+}
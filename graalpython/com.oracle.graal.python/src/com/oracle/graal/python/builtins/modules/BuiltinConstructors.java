@@ -120,7 +120,9 @@ import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.builtins.objects.range.PBigRange;
 import com.oracle.graal.python.builtins.objects.range.PRange;
+import com.oracle.graal.python.builtins.objects.range.RangeBuiltins;
 import com.oracle.graal.python.builtins.objects.set.PFrozenSet;
 import com.oracle.graal.python.builtins.objects.set.PSet;
 import com.oracle.graal.python.builtins.objects.set.SetNodes;
@@ -179,7 +181,6 @@ import com.oracle.graal.python.runtime.PythonCore;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
-import com.oracle.graal.python.runtime.sequence.PSequence;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
@@ -609,27 +610,24 @@ public final class BuiltinConstructors extends PythonBuiltins {
         @Specialization
         public PythonObject reversed(@SuppressWarnings("unused") LazyPythonClass cls, PRange range,
                         @Cached("createBinaryProfile()") ConditionProfile stepPositiveProfile,
-                        @Cached("createBinaryProfile()") ConditionProfile stepOneProfile,
-                        @Cached("createBinaryProfile()") ConditionProfile stepMinusOneProfile) {
-            int stop;
-            int start;
-            int step = range.getStep();
-            if (stepOneProfile.profile(step == 1)) {
-                start = range.getStop() - 1;
-                stop = range.getStart() - 1;
-                step = -1;
-            } else if (stepMinusOneProfile.profile(step == -1)) {
-                start = range.getStop() + 1;
-                stop = range.getStart() + 1;
-                step = 1;
-            } else {
-                assert step != 0;
-                long delta = (range.getStop() - (long) range.getStart() - (step > 0 ? -1 : 1)) / step * step;
-                start = (int) (range.getStart() + delta);
-                stop = range.getStart() - step;
-                step = -step;
+                        @Cached("createBinaryProfile()") ConditionProfile intIterationProfile) {
+            int length = range.len();
+            long step = range.getStep();
+            // start at the last element; the int iterators stop one step before the first one
+            long start = range.getStart() + (length - 1) * step;
+            long stop = range.getStart() - step;
+            if (intIterationProfile.profile(PInt.isIntRange(start) && PInt.isIntRange(stop) && PInt.isIntRange(-step))) {
+                return factory().createRangeIterator((int) start, (int) stop, (int) -step, stepPositiveProfile);
             }
-            return factory().createRangeIterator(start, stop, step, stepPositiveProfile);
+            return factory().createLongRangeIterator(start, -step, length);
+        }
+
+        @Specialization
+        @TruffleBoundary
+        public PythonObject reversed(@SuppressWarnings("unused") LazyPythonClass cls, PBigRange range) {
+            BigInteger length = range.len();
+            BigInteger last = range.getStart().add(length.subtract(BigInteger.ONE).multiply(range.getStep()));
+            return RangeBuiltins.createIterator(factory(), last, range.getStep().negate(), length);
         }
 
         @Specialization
@@ -642,7 +640,7 @@ public final class BuiltinConstructors extends PythonBuiltins {
             return factory().createStringReverseIterator(cls, value);
         }
 
-        @Specialization(guards = {"!isString(sequence)", "!isPRange(sequence)"})
+        @Specialization(guards = {"!isString(sequence)", "!isPRange(sequence)", "!isPBigRange(sequence)"})
         public Object reversed(VirtualFrame frame, LazyPythonClass cls, Object sequence,
                         @Cached("create()") GetLazyClassNode getClassNode,
                         @Cached("create(__REVERSED__)") LookupAttributeInMRONode reversedNode,
@@ -1644,108 +1642,93 @@ public final class BuiltinConstructors extends PythonBuiltins {
     public abstract static class RangeNode extends PythonQuaternaryBuiltinNode {
 
         @Specialization(guards = "caseStop(start,step)")
-        public PSequence rangeStop(Object cls, int stop, Object start, Object step) {
+        public PythonObject rangeStop(Object cls, int stop, Object start, Object step) {
             return factory().createRange(stop);
         }
 
-        @Specialization(guards = "caseStop(start,step)")
-        public PSequence rangeStop(Object cls, long stop, Object start, Object step) {
-            return factory().createRange(((Long) stop).intValue());
-        }
-
-        @Specialization(guards = "caseStop(start,step)")
-        public PSequence rangeStop(Object cls, PInt stop, Object start, Object step) {
-            return factory().createRange(stop.intValue());
-        }
-
-        @Specialization(guards = "caseStartStop(step)")
-        public PSequence rangeStartStop(Object cls, int start, int stop, Object step) {
+        @Specialization(guards = {"caseStartStop(step)", "hasIntLength(start, stop, 1)"})
+        public PythonObject rangeStartStop(Object cls, int start, int stop, Object step) {
             return factory().createRange(start, stop);
         }
 
-        @Specialization(guards = "caseStartStop(step)")
-        public PSequence rangeStartStop(Object cls, int start, long stop, Object step) {
-            return factory().createRange(start, ((Long) stop).intValue());
-        }
-
-        @Specialization(guards = "caseStartStop(step)")
-        public PSequence rangeStartStop(Object cls, long start, int stop, Object step) {
-            return factory().createRange(((Long) start).intValue(), stop);
+        @Specialization(guards = "hasIntLength(start, stop, step)")
+        public PythonObject rangeStartStopStep(Object cls, int start, int stop, int step) {
+            return factory().createRange(start, stop, step);
         }
 
-        @Specialization(guards = "caseStartStop(stop,start,step)")
-        public PSequence rangeStartStop(Object cls, long start, long stop, Object step) {
-            return factory().createRange(((Long) start).intValue(), ((Long) stop).intValue());
+        @Specialization(guards = {"caseStop(start,step)", "fitsInInt(stop)"})
+        public PythonObject rangeStopLong(Object cls, long stop, Object start, Object step) {
+            return factory().createRange((int) stop);
         }
 
-        @Specialization
-        public PSequence rangeStartStopStep(Object cls, int start, int stop, int step) {
-            return factory().createRange(start, stop, step);
+        @Specialization(guards = {"caseStartStop(step)", "isIntRange(start, stop, 1)"})
+        public PythonObject rangeStartStopLong(Object cls, long start, long stop, Object step) {
+            return factory().createRange((int) start, (int) stop);
         }
 
-        @Specialization
-        public PSequence rangeStartStopStep(Object cls, long start, long stop, long step) {
-            return factory().createRange((int) start, ((Long) stop).intValue(), ((Long) step).intValue());
+        @Specialization(guards = "isIntRange(start, stop, step)")
+        public PythonObject rangeStartStopStepLong(Object cls, long start, long stop, long step) {
+            return factory().createRange((int) start, (int) stop, (int) step);
         }
 
         @TruffleBoundary
-        @Specialization(guards = "isNumber(stop)")
-        public PSequence rangeStartStopStep(Object cls, Object start, Object stop, Object step) {
-            if (isNumber(stop)) {
-                int intStop = 0;
-                if (stop instanceof Integer) {
-                    intStop = (int) stop;
-                } else if (stop instanceof Long) {
-                    intStop = ((Long) (stop)).intValue();
-                } else {
-                    intStop = ((PInt) stop).intValue();
-                }
-
-                if (start instanceof PNone) {
-                    return factory().createRange(intStop);
+        @Specialization
+        public PythonObject rangeGeneric(Object cls, Object first, Object second, Object third) {
+            if (isNumber(first)) {
+                if (caseStop(second, third)) {
+                    return RangeBuiltins.createRange(factory(), BigInteger.ZERO, toBigInteger(first), BigInteger.ONE);
                 }
-
-                if (isNumber(start)) {
-                    int intStart = 0;
-                    if (start instanceof Integer) {
-                        intStart = (int) start;
-                    } else if (start instanceof Long) {
-                        intStart = ((Long) (start)).intValue();
-                    } else {
-                        intStart = ((PInt) start).intValue();
-                    }
-
-                    if (step instanceof PNone) {
-                        return factory().createRange(intStart, intStop);
+                if (isNumber(second)) {
+                    if (caseStartStop(third)) {
+                        return RangeBuiltins.createRange(factory(), toBigInteger(first), toBigInteger(second), BigInteger.ONE);
                     }
-
-                    if (isNumber(step)) {
-                        int intStep = 0;
-                        if (step instanceof Integer) {
-                            intStep = (int) step;
-                        } else if (step instanceof Long) {
-                            intStep = ((Long) (step)).intValue();
-                        } else {
-                            intStep = ((PInt) step).intValue();
+                    if (isNumber(third)) {
+                        BigInteger step = toBigInteger(third);
+                        if (step.signum() == 0) {
+                            throw raise(ValueError, "range() arg 3 must not be zero");
                         }
-
-                        return factory().createRange(intStart, intStop, intStep);
+                        return RangeBuiltins.createRange(factory(), toBigInteger(first), toBigInteger(second), step);
                     }
                 }
             }
+            throw raise(TypeError, "range does not support %s, %s, %s", first, second, third);
+        }
+
+        private static BigInteger toBigInteger(Object value) {
+            if (value instanceof PInt) {
+                return ((PInt) value).getValue();
+            } else if (value instanceof Boolean) {
+                return (boolean) value ? BigInteger.ONE : BigInteger.ZERO;
+            }
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
 
-            throw raise(TypeError, "range does not support %s, %s, %s", start, stop, step);
+        /**
+         * A zero step is accepted here so that the {@link PRange} constructor reports it.
+         */
+        public static boolean hasIntLength(int start, int stop, int step) {
+            if (step > 0 && start < stop) {
+                return ((long) stop - start - 1) / step + 1 <= Integer.MAX_VALUE;
+            } else if (step < 0 && start > stop) {
+                return ((long) start - stop - 1) / -(long) step + 1 <= Integer.MAX_VALUE;
+            }
+            return true;
         }
 
-        @TruffleBoundary
-        @Specialization(guards = "!isNumber(stop)")
-        public PSequence rangeError(Object cls, Object start, Object stop, Object step) {
-            CompilerDirectives.transferToInterpreter();
-            throw raise(TypeError, "range does not support %s, %s, %s", start, stop, step);
+        public static boolean fitsInInt(long value) {
+            return value == (int) value;
+        }
+
+        /**
+         * Whether the values and the length of the range fit into {@code int}, so that it can be a
+         * {@link PRange}.
+         */
+        public static boolean isIntRange(long start, long stop, long step) {
+            return fitsInInt(start) && fitsInInt(stop) && fitsInInt(step) && hasIntLength((int) start, (int) stop, (int) step);
         }
 
         public static boolean isNumber(Object value) {
-            return value instanceof Integer || value instanceof Long || value instanceof PInt;
+            return value instanceof Integer || value instanceof Long || value instanceof Boolean || value instanceof PInt;
         }
 
         public static boolean caseStop(Object start, Object step) {
@@ -1756,10 +1739,6 @@ public final class BuiltinConstructors extends PythonBuiltins {
             return step == PNone.NO_VALUE;
         }
 
-        public static boolean caseStartStop(long start, long stop, Object step) {
-            return step == PNone.NO_VALUE;
-        }
-
     }
 
     // set([iterable])
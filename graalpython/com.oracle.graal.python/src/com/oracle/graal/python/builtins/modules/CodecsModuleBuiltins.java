@@ -49,15 +49,19 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
@@ -67,10 +71,13 @@ import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GetInternalByteArrayNode;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.GetInternalByteArrayNodeGen;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.runtime.PythonCore;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -234,6 +241,208 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
         return CHARSET_MAP.get(encoding);
     }
 
+    /*
+     * Codecs with a direct implementation that bypasses the codec registry and the Charset lookup.
+     * The fast paths only implement the 'strict' error handler and return null if the input
+     * cannot be handled, in which case the caller falls back to the generic path that reports
+     * the error.
+     */
+    public static final int FAST_CODEC_NONE = -1;
+    public static final int FAST_CODEC_UTF8 = 0;
+    public static final int FAST_CODEC_ASCII = 1;
+    public static final int FAST_CODEC_LATIN1 = 2;
+    public static final int FAST_CODEC_UTF16 = 3;
+
+    private static final Map<String, Integer> FAST_CODECS = new HashMap<>();
+
+    static {
+        for (String name : new String[]{"utf-8", "utf8", "u8", "utf"}) {
+            FAST_CODECS.put(name, FAST_CODEC_UTF8);
+        }
+        for (String name : new String[]{"ascii", "us-ascii", "646"}) {
+            FAST_CODECS.put(name, FAST_CODEC_ASCII);
+        }
+        for (String name : new String[]{"latin-1", "latin1", "latin", "iso-8859-1", "iso8859-1", "8859", "cp819", "l1"}) {
+            FAST_CODECS.put(name, FAST_CODEC_LATIN1);
+        }
+        for (String name : new String[]{"utf-16", "utf16", "u16"}) {
+            FAST_CODECS.put(name, FAST_CODEC_UTF16);
+        }
+    }
+
+    private static final ThreadLocal<CharsetEncoder> UTF8_ENCODER = ThreadLocal.withInitial(
+                    () -> StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT));
+    private static final ThreadLocal<CharsetDecoder> UTF8_DECODER = ThreadLocal.withInitial(
+                    () -> StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT));
+
+    @TruffleBoundary
+    public static int getFastCodec(String encoding) {
+        Integer codec = FAST_CODECS.get(encoding);
+        if (codec == null) {
+            codec = FAST_CODECS.get(encoding.toLowerCase(Locale.ROOT).replace('_', '-'));
+        }
+        return codec != null ? codec : FAST_CODEC_NONE;
+    }
+
+    public static boolean isStrict(String errors) {
+        return "strict".equals(errors);
+    }
+
+    /**
+     * Encodes {@code str} with one of the fast codecs using the 'strict' error handler. Returns
+     * {@code null} if the string cannot be encoded.
+     */
+    @TruffleBoundary
+    public static byte[] encodeFast(int codec, String str) {
+        switch (codec) {
+            case FAST_CODEC_UTF8: {
+                byte[] ascii = encodeLatin1(str, 0x7F);
+                return ascii != null ? ascii : encodeUTF8(str);
+            }
+            case FAST_CODEC_ASCII:
+                return encodeLatin1(str, 0x7F);
+            case FAST_CODEC_LATIN1:
+                return encodeLatin1(str, 0xFF);
+            case FAST_CODEC_UTF16:
+                return encodeUTF16(str);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Decodes the first {@code len} bytes of {@code bytes} with one of the fast codecs using the
+     * 'strict' error handler. Returns {@code null} if the input is not valid.
+     */
+    @TruffleBoundary
+    public static String decodeFast(int codec, byte[] bytes, int len) {
+        switch (codec) {
+            case FAST_CODEC_UTF8:
+                if (isAscii(bytes, len)) {
+                    return new String(bytes, 0, len, StandardCharsets.ISO_8859_1);
+                }
+                return decodeUTF8(bytes, len);
+            case FAST_CODEC_ASCII:
+                return isAscii(bytes, len) ? new String(bytes, 0, len, StandardCharsets.ISO_8859_1) : null;
+            case FAST_CODEC_LATIN1:
+                return new String(bytes, 0, len, StandardCharsets.ISO_8859_1);
+            case FAST_CODEC_UTF16:
+                return decodeUTF16(bytes, len);
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isAscii(byte[] bytes, int len) {
+        // written as a reduction without early exit so that the loop can be vectorized
+        int acc = 0;
+        for (int i = 0; i < len; i++) {
+            acc |= bytes[i];
+        }
+        return acc >= 0;
+    }
+
+    private static byte[] encodeLatin1(String str, int maxChar) {
+        int len = str.length();
+        byte[] result = new byte[len];
+        int acc = 0;
+        for (int i = 0; i < len; i++) {
+            char c = str.charAt(i);
+            acc |= c;
+            result[i] = (byte) c;
+        }
+        return acc <= maxChar ? result : null;
+    }
+
+    private static byte[] encodeUTF8(String str) {
+        CharsetEncoder encoder = UTF8_ENCODER.get();
+        encoder.reset();
+        try {
+            ByteBuffer encoded = encoder.encode(CharBuffer.wrap(str));
+            if (encoded.hasArray() && encoded.arrayOffset() == 0 && encoded.array().length == encoded.limit()) {
+                return encoded.array();
+            }
+            byte[] result = new byte[encoded.remaining()];
+            encoded.get(result);
+            return result;
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    private static String decodeUTF8(byte[] bytes, int len) {
+        CharsetDecoder decoder = UTF8_DECODER.get();
+        decoder.reset();
+        try {
+            return decoder.decode(ByteBuffer.wrap(bytes, 0, len)).toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encodes as little endian with a byte order mark, which is what CPython produces for
+     * 'utf-16' on all platforms we support. Lone surrogates are rejected.
+     */
+    private static byte[] encodeUTF16(String str) {
+        int len = str.length();
+        byte[] result = new byte[2 + 2 * len];
+        result[0] = (byte) 0xFF;
+        result[1] = (byte) 0xFE;
+        for (int i = 0; i < len; i++) {
+            char c = str.charAt(i);
+            if (Character.isHighSurrogate(c)) {
+                if (i + 1 >= len || !Character.isLowSurrogate(str.charAt(i + 1))) {
+                    return null;
+                }
+            } else if (Character.isLowSurrogate(c) && (i == 0 || !Character.isHighSurrogate(str.charAt(i - 1)))) {
+                return null;
+            }
+            result[2 + 2 * i] = (byte) c;
+            result[3 + 2 * i] = (byte) (c >> 8);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes UTF-16 honoring a leading byte order mark and defaulting to little endian like
+     * CPython.
+     */
+    private static String decodeUTF16(byte[] bytes, int len) {
+        if ((len & 1) != 0) {
+            return null;
+        }
+        int start = 0;
+        boolean bigEndian = false;
+        if (len >= 2) {
+            if (bytes[0] == (byte) 0xFF && bytes[1] == (byte) 0xFE) {
+                start = 2;
+            } else if (bytes[0] == (byte) 0xFE && bytes[1] == (byte) 0xFF) {
+                start = 2;
+                bigEndian = true;
+            }
+        }
+        int n = (len - start) / 2;
+        char[] chars = new char[n];
+        for (int i = 0; i < n; i++) {
+            int lo = bytes[start + 2 * i] & 0xFF;
+            int hi = bytes[start + 2 * i + 1] & 0xFF;
+            chars[i] = bigEndian ? (char) ((lo << 8) | hi) : (char) ((hi << 8) | lo);
+        }
+        for (int i = 0; i < n; i++) {
+            char c = chars[i];
+            if (Character.isHighSurrogate(c)) {
+                if (i + 1 >= n || !Character.isLowSurrogate(chars[i + 1])) {
+                    return null;
+                }
+                i++;
+            } else if (Character.isLowSurrogate(c)) {
+                return null;
+            }
+        }
+        return new String(chars);
+    }
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return CodecsModuleBuiltinsFactory.getFactories();
@@ -419,6 +628,12 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
 
         @TruffleBoundary
         private PBytes encodeString(String self, String encoding, String errors) {
+            if (isStrict(errors)) {
+                byte[] fast = encodeFast(getFastCodec(encoding), self);
+                if (fast != null) {
+                    return factory().createBytes(fast);
+                }
+            }
             CodingErrorAction errorAction = convertCodingErrorAction(errors);
             Charset charset = getCharset(encoding);
             if (charset == null) {
@@ -501,30 +716,31 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class CodecsDecodeNode extends EncodeBaseNode {
         @Child private GetInternalByteArrayNode toByteArrayNode;
+        @Child private SequenceStorageNodes.LenNode lenNode;
 
         @Specialization
         Object decode(PIBytesLike bytes, @SuppressWarnings("unused") PNone encoding, @SuppressWarnings("unused") PNone errors) {
-            byte[] decoded = getBytes(bytes);
-            String string = decodeBytes(decoded, "utf-8", "strict");
-            return factory().createTuple(new Object[]{string, decoded.length});
+            int len = getLength(bytes);
+            String string = decodeBytes(getBytes(bytes), len, "utf-8", "strict");
+            return factory().createTuple(new Object[]{string, len});
         }
 
         @Specialization(guards = {"isString(encoding)"})
         Object decode(PIBytesLike bytes, Object encoding, @SuppressWarnings("unused") PNone errors,
                         @Cached("createClassProfile()") ValueProfile encodingTypeProfile) {
             Object profiledEncoding = encodingTypeProfile.profile(encoding);
-            byte[] decoded = getBytes(bytes);
-            String string = decodeBytesStrict(decoded, profiledEncoding);
-            return factory().createTuple(new Object[]{string, decoded.length});
+            int len = getLength(bytes);
+            String string = decodeBytesStrict(getBytes(bytes), len, profiledEncoding);
+            return factory().createTuple(new Object[]{string, len});
         }
 
         @Specialization(guards = {"isString(errors)"})
         Object decode(PIBytesLike bytes, @SuppressWarnings("unused") PNone encoding, Object errors,
                         @Cached("createClassProfile()") ValueProfile errorsTypeProfile) {
             Object profiledErrors = errorsTypeProfile.profile(errors);
-            byte[] decoded = getBytes(bytes);
-            String string = decodeBytesUTF8(decoded, profiledErrors);
-            return factory().createTuple(new Object[]{string, decoded.length});
+            int len = getLength(bytes);
+            String string = decodeBytesUTF8(getBytes(bytes), len, profiledErrors);
+            return factory().createTuple(new Object[]{string, len});
         }
 
         @Specialization(guards = {"isString(encoding)", "isString(errors)"})
@@ -533,9 +749,9 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
                         @Cached("createClassProfile()") ValueProfile errorsTypeProfile) {
             Object profiledEncoding = encodingTypeProfile.profile(encoding);
             Object profiledErrors = errorsTypeProfile.profile(errors);
-            byte[] decoded = getBytes(bytes);
-            String string = decodeBytes(decoded, profiledEncoding, profiledErrors);
-            return factory().createTuple(new Object[]{string, decoded.length});
+            int len = getLength(bytes);
+            String string = decodeBytes(getBytes(bytes), len, profiledEncoding, profiledErrors);
+            return factory().createTuple(new Object[]{string, len});
         }
 
         @Fallback
@@ -551,24 +767,38 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
             return toByteArrayNode.execute(bytesLike.getSequenceStorage());
         }
 
+        private int getLength(PIBytesLike bytesLike) {
+            if (lenNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                lenNode = insert(SequenceStorageNodes.LenNode.create());
+            }
+            return lenNode.execute(bytesLike.getSequenceStorage());
+        }
+
         @TruffleBoundary
-        String decodeBytes(byte[] bytes, Object profiledEncoding, Object profiledErrors) {
-            return decodeBytes(bytes, profiledEncoding.toString(), profiledErrors.toString());
+        String decodeBytes(byte[] bytes, int len, Object profiledEncoding, Object profiledErrors) {
+            return decodeBytes(bytes, len, profiledEncoding.toString(), profiledErrors.toString());
         }
 
         @TruffleBoundary
-        String decodeBytesStrict(byte[] bytes, Object profiledEncoding) {
-            return decodeBytes(bytes, profiledEncoding.toString(), "strict");
+        String decodeBytesStrict(byte[] bytes, int len, Object profiledEncoding) {
+            return decodeBytes(bytes, len, profiledEncoding.toString(), "strict");
         }
 
         @TruffleBoundary
-        String decodeBytesUTF8(byte[] bytes, Object profiledErrors) {
-            return decodeBytes(bytes, "utf-8", profiledErrors.toString());
+        String decodeBytesUTF8(byte[] bytes, int len, Object profiledErrors) {
+            return decodeBytes(bytes, len, "utf-8", profiledErrors.toString());
         }
 
         @TruffleBoundary
-        String decodeBytes(byte[] bytes, String encoding, String errors) {
-            ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        String decodeBytes(byte[] bytes, int len, String encoding, String errors) {
+            if (isStrict(errors)) {
+                String fast = decodeFast(getFastCodec(encoding), bytes, len);
+                if (fast != null) {
+                    return fast;
+                }
+            }
+            ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, 0, len);
             CodingErrorAction errorAction = convertCodingErrorAction(errors);
             Charset charset = getCharset(encoding);
             if (charset == null) {
@@ -643,6 +873,35 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    // _codecs.IncrementalDecoder(encoding, errors='strict')
+    @Builtin(name = "IncrementalDecoder", minNumOfPositionalArgs = 2, parameterNames = {"cls", "encoding", "errors"}, constructsClass = PythonBuiltinClassType.PIncrementalDecoder)
+    @GenerateNodeFactory
+    abstract static class IncrementalDecoderNode extends EncodeBaseNode {
+
+        @Specialization(guards = {"isString(encoding)", "isNoValueOrString(errors)"})
+        Object create(LazyPythonClass cls, Object encoding, Object errors,
+                        @Cached CastToJavaStringNode castEncodingNode,
+                        @Cached CastToJavaStringNode castErrorsNode) {
+            String encodingStr = castEncodingNode.execute(encoding);
+            String errorsStr = PGuards.isNoValue(errors) ? "strict" : castErrorsNode.execute(errors);
+            int codec = getFastCodec(encodingStr);
+            if (codec == FAST_CODEC_NONE) {
+                throw raise(LookupError, "no incremental decoder for encoding: %s", encodingStr);
+            }
+            return factory().createIncrementalDecoder(cls, codec, errorsStr, convertCodingErrorAction(errorsStr));
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object create(Object cls, Object encoding, Object errors) {
+            throw raise(TypeError, "IncrementalDecoder() arguments must be str");
+        }
+
+        protected static boolean isNoValueOrString(Object obj) {
+            return PGuards.isNoValue(obj) || PGuards.isString(obj);
+        }
+    }
+
     // _codecs.lookup(name)
     @Builtin(name = "__truffle_lookup", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
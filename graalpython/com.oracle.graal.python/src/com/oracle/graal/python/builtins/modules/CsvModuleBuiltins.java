@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.csv.PCsvParser;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
+
+/**
+ * The scanning and joining loops of the {@code _csv} module. {@code _csv.Reader} and
+ * {@code _csv.Writer} stay Python classes; a reader hands whole lines to its {@link PCsvParser} and
+ * a writer hands whole rows to {@code join_row}. Dialect characters are passed as code points, or
+ * {@code -1} if not set. Errors are reported as negative numbers for which {@code _csv} raises
+ * {@code _csv.Error}, and {@code None} means the caller has to use its generic implementation.
+ */
+@CoreFunctions(defineModule = "_truffle_csv")
+public class CsvModuleBuiltins extends PythonBuiltins {
+
+    // error codes of join_row, the ones of parse_line are defined in PCsvParser
+    private static final int ERROR_NO_ESCAPECHAR = -4;
+    private static final int ERROR_EMPTY_FIELD = -5;
+
+    private static final int QUOTE_ALL = 1;
+    private static final int QUOTE_NONE = 3;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return CsvModuleBuiltinsFactory.getFactories();
+    }
+
+    // Parser(delimiter, quotechar, escapechar, doublequote, skipinitialspace, strict)
+    @Builtin(name = "Parser", minNumOfPositionalArgs = 7, constructsClass = PythonBuiltinClassType.PCsvParser)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class ParserNode extends PythonBuiltinNode {
+        @Specialization
+        PCsvParser create(LazyPythonClass cls, long delimiter, long quotechar, long escapechar, boolean doublequote, boolean skipinitialspace, boolean strict) {
+            return factory().createCsvParser(cls, (int) delimiter, (int) quotechar, (int) escapechar, doublequote, skipinitialspace, strict);
+        }
+    }
+
+    // join_row(values, delimiter, quotechar, escapechar, lineterminator, quoting, doublequote)
+    @Builtin(name = "join_row", minNumOfPositionalArgs = 7)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class JoinRowNode extends PythonBuiltinNode {
+        /**
+         * Joins a list of strings into one output line including the line terminator, or returns
+         * an error code.
+         */
+        @Specialization
+        Object join(PList values, long delimiter, long quotechar, long escapechar, String lineterminator, long quoting, boolean doublequote,
+                        @Cached CastToJavaStringNode castToJavaStringNode) {
+            SequenceStorage storage = values.getSequenceStorage();
+            int n = storage.length();
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < n; i++) {
+                String field = castToJavaStringNode.execute(getItem(storage, i));
+                int error = appendField(sb, field, i > 0, n == 1, (int) delimiter, (int) quotechar, (int) escapechar, lineterminator, (int) quoting, doublequote);
+                if (error != 0) {
+                    return error;
+                }
+            }
+            return finish(sb, lineterminator);
+        }
+
+        @TruffleBoundary
+        private static Object getItem(SequenceStorage storage, int i) {
+            return storage.getItemNormalized(i);
+        }
+
+        @TruffleBoundary
+        private static String finish(StringBuilder sb, String lineterminator) {
+            return sb.append(lineterminator).toString();
+        }
+
+        /**
+         * Appends one field, escaped and quoted as needed, like {@code Writer._join_append}, but
+         * escaping character by character so that inserted escape characters are not escaped
+         * again.
+         */
+        @TruffleBoundary
+        private static int appendField(StringBuilder sb, String field, boolean separate, boolean quoteEmpty, int delimiter, int quotechar, int escapechar, String lineterminator,
+                        int quoting, boolean doublequote) {
+            if (separate) {
+                sb.appendCodePoint(delimiter);
+            }
+            int start = sb.length();
+            boolean quoted = quoting == QUOTE_ALL;
+            if (quoted) {
+                sb.appendCodePoint(quotechar);
+            }
+            int n = field.length();
+            int i = 0;
+            while (i < n) {
+                int c = field.codePointAt(i);
+                i += Character.charCount(c);
+                if (c == delimiter || c == escapechar || c == quotechar || lineterminator.indexOf(c) >= 0) {
+                    boolean wantEscape = false;
+                    if (quoting == QUOTE_NONE) {
+                        wantEscape = true;
+                    } else {
+                        if (c == quotechar) {
+                            if (doublequote) {
+                                sb.appendCodePoint(quotechar);
+                            } else {
+                                wantEscape = true;
+                            }
+                        }
+                        if (!wantEscape && !quoted) {
+                            quoted = true;
+                            sb.insert(start, Character.toChars(quotechar));
+                        }
+                    }
+                    if (wantEscape) {
+                        if (escapechar < 0) {
+                            return ERROR_NO_ESCAPECHAR;
+                        }
+                        sb.appendCodePoint(escapechar);
+                    }
+                }
+                sb.appendCodePoint(c);
+            }
+            if (n == 0 && quoteEmpty && !quoted) {
+                if (quoting == QUOTE_NONE) {
+                    return ERROR_EMPTY_FIELD;
+                }
+                quoted = true;
+                sb.appendCodePoint(quotechar);
+            }
+            if (quoted) {
+                sb.appendCodePoint(quotechar);
+            }
+            return 0;
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object join(Object values, Object delimiter, Object quotechar, Object escapechar, Object lineterminator, Object quoting, Object doublequote) {
+            return PNone.NONE;
+        }
+    }
+}
@@ -0,0 +1,679 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.TimeModuleBuiltins.StrfTimeNode;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
+
+/**
+ * Support for the pure Python {@code datetime} module. It keeps its types, so subclassing, pickling
+ * and the C API keep working, but date arithmetic, ISO formatting and parsing, {@code strftime} and
+ * {@code strptime} with numeric directives are computed here on primitive fields. Every function
+ * returns {@code None} if it cannot compute the result, and the Python implementation takes over,
+ * also to raise the appropriate error.
+ */
+@CoreFunctions(defineModule = "_truffle_datetime")
+public class DatetimeModuleBuiltins extends PythonBuiltins {
+
+    private static final int MAX_YEAR = 9999;
+    private static final long MAX_ORDINAL = 3652059;
+    private static final long MAX_DELTA_DAYS = 999999999;
+    /** {@code date(1970, 1, 1).toordinal()} */
+    private static final long EPOCH_ORDINAL = 719163;
+    private static final long SECONDS_PER_DAY = 24 * 3600;
+    private static final long MICROSECONDS_PER_SECOND = 1000000;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return DatetimeModuleBuiltinsFactory.getFactories();
+    }
+
+    private static boolean isValidDate(long year, long month, long day) {
+        if (year < 1 || year > MAX_YEAR || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return day <= LocalDate.of((int) year, (int) month, 1).lengthOfMonth();
+    }
+
+    private static long toOrdinal(long year, long month, long day) {
+        return LocalDate.of((int) year, (int) month, (int) day).toEpochDay() + EPOCH_ORDINAL;
+    }
+
+    private static LocalDate fromOrdinal(long ordinal) {
+        return LocalDate.ofEpochDay(ordinal - EPOCH_ORDINAL);
+    }
+
+    // add_days(year, month, day, days)
+    @Builtin(name = "add_days", minNumOfPositionalArgs = 4)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class AddDaysNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object add(long year, long month, long day, long days) {
+            long ordinal = toOrdinal(year, month, day) + days;
+            if (ordinal <= 0 || ordinal > MAX_ORDINAL) {
+                return PNone.NONE;
+            }
+            LocalDate date = fromOrdinal(ordinal);
+            return factory().createTuple(new Object[]{date.getYear(), date.getMonthValue(), date.getDayOfMonth()});
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object add(Object year, Object month, Object day, Object days) {
+            return PNone.NONE;
+        }
+    }
+
+    // days_between(year1, month1, day1, year2, month2, day2)
+    @Builtin(name = "days_between", minNumOfPositionalArgs = 6)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class DaysBetweenNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        long between(long year1, long month1, long day1, long year2, long month2, long day2) {
+            return toOrdinal(year1, month1, day1) - toOrdinal(year2, month2, day2);
+        }
+    }
+
+    // add_datetime(year, month, day, hour, minute, second, microsecond, days, seconds,
+    // microseconds)
+    @Builtin(name = "add_datetime", minNumOfPositionalArgs = 10)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class AddDatetimeNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object add(long year, long month, long day, long hour, long minute, long second, long microsecond, long days, long seconds, long microseconds) {
+            long us = microsecond + microseconds;
+            long secs = hour * 3600 + minute * 60 + second + seconds + Math.floorDiv(us, MICROSECONDS_PER_SECOND);
+            long ordinal = toOrdinal(year, month, day) + days + Math.floorDiv(secs, SECONDS_PER_DAY);
+            if (ordinal <= 0 || ordinal > MAX_ORDINAL) {
+                return PNone.NONE;
+            }
+            LocalDate date = fromOrdinal(ordinal);
+            int secOfDay = (int) Math.floorMod(secs, SECONDS_PER_DAY);
+            return factory().createTuple(new Object[]{date.getYear(), date.getMonthValue(), date.getDayOfMonth(), secOfDay / 3600, secOfDay % 3600 / 60, secOfDay % 60,
+                            (int) Math.floorMod(us, MICROSECONDS_PER_SECOND)});
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object add(Object year, Object month, Object day, Object hour, Object minute, Object second, Object microsecond, Object days, Object seconds, Object microseconds) {
+            return PNone.NONE;
+        }
+    }
+
+    // subtract_datetime(year1, month1, day1, hour1, minute1, second1, microsecond1, year2, ...)
+    @Builtin(name = "subtract_datetime", minNumOfPositionalArgs = 14)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class SubtractDatetimeNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object subtract(long year1, long month1, long day1, long hour1, long minute1, long second1, long microsecond1,
+                        long year2, long month2, long day2, long hour2, long minute2, long second2, long microsecond2) {
+            long days = toOrdinal(year1, month1, day1) - toOrdinal(year2, month2, day2);
+            long seconds = (hour1 - hour2) * 3600 + (minute1 - minute2) * 60 + second1 - second2;
+            return normalizedDelta(days, seconds, microsecond1 - microsecond2);
+        }
+
+        private Object normalizedDelta(long days, long seconds, long microseconds) {
+            long secs = seconds + Math.floorDiv(microseconds, MICROSECONDS_PER_SECOND);
+            return factory().createTuple(new Object[]{days + Math.floorDiv(secs, SECONDS_PER_DAY), Math.floorMod(secs, SECONDS_PER_DAY),
+                            Math.floorMod(microseconds, MICROSECONDS_PER_SECOND)});
+        }
+    }
+
+    // normalize_timedelta(days, seconds, microseconds)
+    @Builtin(name = "normalize_timedelta", minNumOfPositionalArgs = 3)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class NormalizeTimedeltaNode extends PythonBuiltinNode {
+        @Specialization
+        Object normalize(long days, long seconds, long microseconds) {
+            long secs = seconds + Math.floorDiv(microseconds, MICROSECONDS_PER_SECOND);
+            long d = days + Math.floorDiv(secs, SECONDS_PER_DAY);
+            if (Math.abs(d) > MAX_DELTA_DAYS) {
+                return PNone.NONE;
+            }
+            return factory().createTuple(new Object[]{d, Math.floorMod(secs, SECONDS_PER_DAY), Math.floorMod(microseconds, MICROSECONDS_PER_SECOND)});
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object normalize(Object days, Object seconds, Object microseconds) {
+            return PNone.NONE;
+        }
+    }
+
+    private static void appendPadded(StringBuilder sb, long value, int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            sb.append('0');
+        }
+        sb.append(digits);
+    }
+
+    // isoformat(year, month, day, hour, minute, second, microsecond, sep, timespec)
+    @Builtin(name = "isoformat", minNumOfPositionalArgs = 9)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class IsoformatNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object isoformat(long year, long month, long day, long hour, long minute, long second, long microsecond, String sep, String timespec) {
+            if (sep.codePointCount(0, sep.length()) != 1) {
+                return PNone.NONE;
+            }
+            StringBuilder sb = new StringBuilder(32);
+            appendPadded(sb, year, 4);
+            sb.append('-');
+            appendPadded(sb, month, 2);
+            sb.append('-');
+            appendPadded(sb, day, 2);
+            sb.append(sep);
+            appendPadded(sb, hour, 2);
+            switch (timespec) {
+                case "auto":
+                    appendTime(sb, minute, second);
+                    if (microsecond != 0) {
+                        sb.append('.');
+                        appendPadded(sb, microsecond, 6);
+                    }
+                    break;
+                case "hours":
+                    break;
+                case "minutes":
+                    sb.append(':');
+                    appendPadded(sb, minute, 2);
+                    break;
+                case "seconds":
+                    appendTime(sb, minute, second);
+                    break;
+                case "milliseconds":
+                    appendTime(sb, minute, second);
+                    sb.append('.');
+                    appendPadded(sb, microsecond / 1000, 3);
+                    break;
+                case "microseconds":
+                    appendTime(sb, minute, second);
+                    sb.append('.');
+                    appendPadded(sb, microsecond, 6);
+                    break;
+                default:
+                    return PNone.NONE;
+            }
+            return sb.toString();
+        }
+
+        private static void appendTime(StringBuilder sb, long minute, long second) {
+            sb.append(':');
+            appendPadded(sb, minute, 2);
+            sb.append(':');
+            appendPadded(sb, second, 2);
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object isoformat(Object year, Object month, Object day, Object hour, Object minute, Object second, Object microsecond, Object sep, Object timespec) {
+            return PNone.NONE;
+        }
+    }
+
+    // strftime(format, year, month, day, hour, minute, second, microsecond)
+    @Builtin(name = "strftime", minNumOfPositionalArgs = 8)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class StrftimeNode extends PythonBuiltinNode {
+        /**
+         * Replaces {@code %f} and drops {@code %z} and {@code %Z} like {@code _wrap_strftime} does
+         * for a naive datetime, then formats the rest like {@code time.strftime}.
+         */
+        @Specialization
+        @TruffleBoundary
+        Object strftime(String format, long year, long month, long day, long hour, long minute, long second, long microsecond) {
+            if (!isValidDate(year, month, day)) {
+                return PNone.NONE;
+            }
+            StringBuilder newFormat = new StringBuilder(format.length() + 8);
+            int n = format.length();
+            int i = 0;
+            while (i < n) {
+                char ch = format.charAt(i++);
+                if (ch != '%') {
+                    newFormat.append(ch);
+                } else if (i < n) {
+                    ch = format.charAt(i++);
+                    if (ch == 'f') {
+                        appendPadded(newFormat, microsecond, 6);
+                    } else if (ch != 'z' && ch != 'Z') {
+                        newFormat.append('%').append(ch);
+                    }
+                } else {
+                    newFormat.append('%');
+                }
+            }
+            LocalDate date = LocalDate.of((int) year, (int) month, (int) day);
+            int[] items = new int[]{(int) year, (int) month, (int) day, (int) hour, (int) minute, (int) second, date.getDayOfWeek().getValue() - 1, date.getDayOfYear(), -1};
+            return StrfTimeNode.strftime(newFormat.toString(), items);
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object strftime(Object format, Object year, Object month, Object day, Object hour, Object minute, Object second, Object microsecond) {
+            return PNone.NONE;
+        }
+    }
+
+    private static int parseDigits(String s, int start, int end) {
+        if (start < 0 || end > s.length() || start >= end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Parses {@code HH[:MM[:SS[.fff[fff]]]]} into {@code comps} like {@code _parse_hh_mm_ss_ff}.
+     */
+    private static boolean parseTime(String s, int start, int end, int[] comps) {
+        int pos = start;
+        for (int comp = 0; comp < 3; comp++) {
+            if (end - pos < 2) {
+                return false;
+            }
+            comps[comp] = parseDigits(s, pos, pos + 2);
+            if (comps[comp] < 0) {
+                return false;
+            }
+            pos += 2;
+            if (pos == end || comp >= 2) {
+                break;
+            }
+            if (s.charAt(pos) != ':') {
+                return false;
+            }
+            pos++;
+        }
+        if (pos < end) {
+            if (s.charAt(pos) != '.' || (end - pos - 1 != 3 && end - pos - 1 != 6)) {
+                return false;
+            }
+            comps[3] = parseDigits(s, pos + 1, end);
+            if (comps[3] < 0) {
+                return false;
+            }
+            if (end - pos - 1 == 3) {
+                comps[3] *= 1000;
+            }
+        }
+        return true;
+    }
+
+    // fromisoformat(date_string)
+    @Builtin(name = "fromisoformat", minNumOfPositionalArgs = 1)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class FromIsoformatNode extends PythonUnaryBuiltinNode {
+        /**
+         * Returns {@code (year, month, day, hour, minute, second, microsecond, offset)} where the
+         * offset is the UTC offset in microseconds, or {@code None} for a naive string.
+         */
+        @Specialization
+        @TruffleBoundary
+        Object parse(String s) {
+            int len = s.length();
+            if (len < 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+                return PNone.NONE;
+            }
+            int year = parseDigits(s, 0, 4);
+            int month = parseDigits(s, 5, 7);
+            int day = parseDigits(s, 8, 10);
+            if (year < 0 || month < 0 || day < 0) {
+                return PNone.NONE;
+            }
+            int[] time = new int[4];
+            Object offset = PNone.NONE;
+            int start = Math.min(11, len);
+            if (start < len) {
+                if (len - start < 2) {
+                    return PNone.NONE;
+                }
+                // like _parse_isoformat_time, the first '-' takes precedence over any '+'
+                int tzPos = s.indexOf('-', start);
+                if (tzPos < 0) {
+                    tzPos = s.indexOf('+', start);
+                }
+                int timeEnd = tzPos < 0 ? len : tzPos;
+                if (!parseTime(s, start, timeEnd, time)) {
+                    return PNone.NONE;
+                }
+                if (tzPos >= 0) {
+                    int tzLen = len - tzPos - 1;
+                    int[] tz = new int[4];
+                    if ((tzLen != 5 && tzLen != 8 && tzLen != 15) || !parseTime(s, tzPos + 1, len, tz)) {
+                        return PNone.NONE;
+                    }
+                    long micros = ((tz[0] * 3600L + tz[1] * 60L + tz[2]) * MICROSECONDS_PER_SECOND + tz[3]);
+                    if (micros >= SECONDS_PER_DAY * MICROSECONDS_PER_SECOND) {
+                        return PNone.NONE;
+                    }
+                    offset = s.charAt(tzPos) == '-' ? -micros : micros;
+                }
+            }
+            return factory().createTuple(new Object[]{year, month, day, time[0], time[1], time[2], time[3], offset});
+        }
+
+        @Fallback
+        Object parse(@SuppressWarnings("unused") Object s) {
+            return PNone.NONE;
+        }
+    }
+
+    /**
+     * A {@code strptime} format translated to a regular expression the same way as by
+     * {@code _strptime.TimeRE}, restricted to the numeric directives.
+     */
+    static final class StrptimeFormat {
+        final Pattern pattern;
+        final char[] directives;
+
+        private StrptimeFormat(Pattern pattern, char[] directives) {
+            this.pattern = pattern;
+            this.directives = directives;
+        }
+
+        private static String directiveRegex(char directive) {
+            switch (directive) {
+                case 'd':
+                    return "(3[0-1]|[1-2]\\d|0[1-9]|[1-9]| [1-9])";
+                case 'f':
+                    return "([0-9]{1,6})";
+                case 'H':
+                    return "(2[0-3]|[0-1]\\d|\\d)";
+                case 'm':
+                    return "(1[0-2]|0[1-9]|[1-9])";
+                case 'M':
+                    return "([0-5]\\d|\\d)";
+                case 'S':
+                    return "(6[0-1]|[0-5]\\d|\\d)";
+                case 'y':
+                    return "(\\d\\d)";
+                case 'Y':
+                    return "(\\d\\d\\d\\d)";
+                case 'z':
+                    return "([+-]\\d\\d:?[0-5]\\d(?::?[0-5]\\d(?:\\.\\d{1,6})?)?|Z)";
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Returns {@code null} for formats that use other directives or characters.
+         */
+        @TruffleBoundary
+        static StrptimeFormat compile(String format) {
+            StringBuilder regex = new StringBuilder();
+            StringBuilder directives = new StringBuilder();
+            int n = format.length();
+            int i = 0;
+            while (i < n) {
+                char ch = format.charAt(i++);
+                if (ch >= 0x80 || (ch >= 0x1c && ch <= 0x1f)) {
+                    return null;
+                } else if (Character.isWhitespace(ch)) {
+                    while (i < n && Character.isWhitespace(format.charAt(i))) {
+                        i++;
+                    }
+                    regex.append("\\s+");
+                } else if (ch == '%') {
+                    if (i == n) {
+                        return null;
+                    }
+                    char directive = format.charAt(i++);
+                    if (directive == '%') {
+                        regex.append('%');
+                        continue;
+                    }
+                    String directiveRegex = directiveRegex(directive);
+                    if (directiveRegex == null || directives.indexOf(String.valueOf(directive)) >= 0) {
+                        return null;
+                    }
+                    regex.append(directiveRegex);
+                    directives.append(directive);
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(ch)));
+                }
+            }
+            try {
+                return new StrptimeFormat(Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE), directives.toString().toCharArray());
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Returns {@code (year, month, day, hour, minute, second, microsecond, gmtoff)} with the
+         * UTC offset in microseconds or {@code None}, or {@code null} if the string does not match
+         * or is not a valid date.
+         */
+        @TruffleBoundary
+        Object[] parse(String s) {
+            for (int i = 0; i < s.length(); i++) {
+                char ch = s.charAt(i);
+                if (ch >= 0x80 || (ch >= 0x1c && ch <= 0x1f)) {
+                    return null;
+                }
+            }
+            Matcher m = pattern.matcher(s);
+            if (!m.lookingAt() || m.end() != s.length()) {
+                return null;
+            }
+            long year = -1;
+            long month = 1;
+            long day = 1;
+            long hour = 0;
+            long minute = 0;
+            long second = 0;
+            long fraction = 0;
+            Object gmtoff = PNone.NONE;
+            for (int i = 0; i < directives.length; i++) {
+                String group = m.group(i + 1);
+                switch (directives[i]) {
+                    case 'y':
+                        year = Integer.parseInt(group);
+                        year += year <= 68 ? 2000 : 1900;
+                        break;
+                    case 'Y':
+                        year = Integer.parseInt(group);
+                        break;
+                    case 'm':
+                        month = Integer.parseInt(group);
+                        break;
+                    case 'd':
+                        day = Integer.parseInt(group.trim());
+                        break;
+                    case 'H':
+                        hour = Integer.parseInt(group);
+                        break;
+                    case 'M':
+                        minute = Integer.parseInt(group);
+                        break;
+                    case 'S':
+                        second = Integer.parseInt(group);
+                        break;
+                    case 'f':
+                        fraction = Integer.parseInt(group);
+                        for (int j = group.length(); j < 6; j++) {
+                            fraction *= 10;
+                        }
+                        break;
+                    case 'z':
+                        if (!group.equals("Z")) {
+                            Long offset = parseOffset(group);
+                            if (offset == null) {
+                                return null;
+                            }
+                            gmtoff = offset;
+                        } else {
+                            gmtoff = 0L;
+                        }
+                        break;
+                }
+            }
+            if (year == -1) {
+                // February 29th of the default year 1900 is rejected by the datetime constructor
+                year = 1900;
+            }
+            if (!isValidDate(year, month, day) || second > 59) {
+                return null;
+            }
+            return new Object[]{(int) year, (int) month, (int) day, (int) hour, (int) minute, (int) second, (int) fraction, gmtoff};
+        }
+
+        private static Long parseOffset(String z) {
+            String s = z;
+            if (s.length() < 5) {
+                // a lower case 'z' fails in _strptime
+                return null;
+            }
+            if (s.charAt(3) == ':') {
+                s = s.substring(0, 3) + s.substring(4);
+                if (s.length() > 5) {
+                    if (s.charAt(5) != ':') {
+                        return null;
+                    }
+                    s = s.substring(0, 5) + s.substring(6);
+                }
+            }
+            long seconds;
+            long micros = 0;
+            try {
+                seconds = Integer.parseInt(s.substring(1, 3)) * 3600L + Integer.parseInt(s.substring(3, 5)) * 60L;
+                if (s.length() >= 7) {
+                    seconds += Integer.parseInt(s.substring(5, 7));
+                }
+                if (s.length() > 8) {
+                    String fraction = s.substring(8);
+                    micros = Integer.parseInt(fraction);
+                    for (int j = fraction.length(); j < 6; j++) {
+                        micros *= 10;
+                    }
+                }
+            } catch (NumberFormatException e) {
+                // e.g. a colon only between minutes and seconds
+                return null;
+            }
+            long offset = seconds * MICROSECONDS_PER_SECOND + micros;
+            return s.charAt(0) == '-' ? -offset : offset;
+        }
+    }
+
+    // strptime(date_string, format)
+    @Builtin(name = "strptime", minNumOfPositionalArgs = 2)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class StrptimeNode extends PythonBinaryBuiltinNode {
+        protected static final Object UNSUPPORTED = new Object();
+
+        protected static Object compile(String format) {
+            StrptimeFormat compiled = StrptimeFormat.compile(format);
+            return compiled != null ? compiled : UNSUPPORTED;
+        }
+
+        @Specialization(guards = "format == cachedFormat", limit = "3")
+        Object parseCached(String s, @SuppressWarnings("unused") String format,
+                        @SuppressWarnings("unused") @Cached("format") String cachedFormat,
+                        @Cached("compile(format)") Object compiled) {
+            return doParse(s, compiled);
+        }
+
+        @Specialization(replaces = "parseCached")
+        Object parse(String s, String format) {
+            return doParse(s, compile(format));
+        }
+
+        private Object doParse(String s, Object compiled) {
+            if (compiled == UNSUPPORTED) {
+                return PNone.NONE;
+            }
+            Object[] result = ((StrptimeFormat) compiled).parse(s);
+            return result != null ? factory().createTuple(result) : PNone.NONE;
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object parse(Object s, Object format) {
+            return PNone.NONE;
+        }
+    }
+}
@@ -40,18 +40,191 @@
  */
 package com.oracle.graal.python.builtins.modules;
 
-import java.util.ArrayList;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__CALL__;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+
 import java.util.List;
 
+import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes;
+import com.oracle.graal.python.builtins.objects.common.PHashingCollection;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.functools.PLruCacheWrapper;
+import com.oracle.graal.python.builtins.objects.functools.PPartial;
+import com.oracle.graal.python.builtins.objects.functools.PartialBuiltins;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.argument.keywords.ExecuteKeywordStarargsNode.ExpandKeywordStarargsNode;
+import com.oracle.graal.python.nodes.attributes.LookupInheritedAttributeNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.control.GetIteratorExpressionNode.GetIteratorNode;
+import com.oracle.graal.python.nodes.control.GetNextNode;
+import com.oracle.graal.python.nodes.expression.CastToBooleanNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.profiles.ConditionProfile;
 
 @CoreFunctions(defineModule = "_functools")
 public class FunctoolsModuleBuiltins extends PythonBuiltins {
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
-        return new ArrayList<>();
+        return FunctoolsModuleBuiltinsFactory.getFactories();
+    }
+
+    // reduce(function, iterable[, initial])
+    @Builtin(name = "reduce", minNumOfPositionalArgs = 2, parameterNames = {"function", "iterable", "initial"})
+    @GenerateNodeFactory
+    public abstract static class ReduceNode extends PythonTernaryBuiltinNode {
+        @Child private CallNode callNode = CallNode.create();
+
+        @Specialization(guards = "isBuiltinListOrTuple(sequence)")
+        Object reduceSequence(VirtualFrame frame, Object function, PSequence sequence, Object initial,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached SequenceStorageNodes.GetItemDynamicNode getItemNode,
+                        @Cached("createBinaryProfile()") ConditionProfile noInitialProfile) {
+            Object value = initial;
+            int i = 0;
+            if (noInitialProfile.profile(initial == PNone.NO_VALUE)) {
+                if (lenNode.execute(sequence.getSequenceStorage()) == 0) {
+                    throw raise(TypeError, "reduce() of empty sequence with no initial value");
+                }
+                value = getItemNode.execute(sequence.getSequenceStorage(), 0);
+                i = 1;
+            }
+            // the storage is re-read in every step since the function may modify a list
+            for (; i < lenNode.execute(sequence.getSequenceStorage()); i++) {
+                value = callNode.execute(frame, function, new Object[]{value, getItemNode.execute(sequence.getSequenceStorage(), i)}, PKeyword.EMPTY_KEYWORDS);
+            }
+            return value;
+        }
+
+        @Specialization(guards = "!isBuiltinListOrTuple(iterable)")
+        Object reduceIterable(VirtualFrame frame, Object function, Object iterable, Object initial,
+                        @Cached GetIteratorNode getIteratorNode,
+                        @Cached GetNextNode nextNode,
+                        @Cached IsBuiltinClassProfile errorProfile1,
+                        @Cached IsBuiltinClassProfile errorProfile2,
+                        @Cached("createBinaryProfile()") ConditionProfile noInitialProfile) {
+            Object iterator = getIteratorNode.executeWith(frame, iterable);
+            Object value = initial;
+            if (noInitialProfile.profile(initial == PNone.NO_VALUE)) {
+                try {
+                    value = nextNode.execute(frame, iterator);
+                } catch (PException e) {
+                    e.expectStopIteration(errorProfile1);
+                    throw raise(TypeError, "reduce() of empty sequence with no initial value");
+                }
+            }
+            while (true) {
+                Object element;
+                try {
+                    element = nextNode.execute(frame, iterator);
+                } catch (PException e) {
+                    e.expectStopIteration(errorProfile2);
+                    return value;
+                }
+                value = callNode.execute(frame, function, new Object[]{value, element}, PKeyword.EMPTY_KEYWORDS);
+            }
+        }
+
+        protected static boolean isBuiltinListOrTuple(Object object) {
+            return (object instanceof PList || object instanceof PTuple) && PGuards.cannotBeOverridden(((PSequence) object).getLazyPythonClass());
+        }
+    }
+
+    // partial(func, *args, **keywords)
+    @Builtin(name = "partial", minNumOfPositionalArgs = 2, takesVarArgs = true, takesVarKeywordArgs = true, constructsClass = PythonBuiltinClassType.PPartial)
+    @GenerateNodeFactory
+    public abstract static class PartialNode extends PythonBuiltinNode {
+
+        @Specialization
+        Object create(LazyPythonClass cls, Object func, Object[] args, PKeyword[] keywords,
+                        @Cached("create(__CALL__)") LookupInheritedAttributeNode lookupCallNode,
+                        @Cached IsBuiltinClassProfile isPartialProfile,
+                        @Cached IsBuiltinClassProfile isNestedPartialProfile,
+                        @CachedLibrary(limit = "1") PythonObjectLibrary lib,
+                        @Cached HashingStorageNodes.LenNode dictLenNode,
+                        @Cached ExpandKeywordStarargsNode expandKeywordsNode) {
+            if (func instanceof PPartial && isPartialProfile.profileClass(cls, PythonBuiltinClassType.PPartial) &&
+                            isNestedPartialProfile.profileObject((PPartial) func, PythonBuiltinClassType.PPartial) && hasEmptyDict(func, lib, dictLenNode)) {
+                // partial(partial(f, a), b) is partial(f, a, b) unless attributes were set on the
+                // inner partial
+                PPartial inner = (PPartial) func;
+                Object[] boundArgs = inner.getArgs();
+                Object[] mergedArgs = new Object[boundArgs.length + args.length];
+                System.arraycopy(boundArgs, 0, mergedArgs, 0, boundArgs.length);
+                System.arraycopy(args, 0, mergedArgs, boundArgs.length, args.length);
+                PKeyword[] mergedKeywords = PartialBuiltins.mergeKeywords(expandKeywordsNode.executeWith(inner.getKeywords()), keywords);
+                return factory().createPartial(cls, inner.getFunction(), mergedArgs, factory().createDict(mergedKeywords));
+            }
+            if (!PGuards.isCallable(func) && lookupCallNode.execute(func) == PNone.NO_VALUE) {
+                throw raise(TypeError, "the first argument must be callable");
+            }
+            return factory().createPartial(cls, func, args, factory().createDict(keywords));
+        }
+
+        private static boolean hasEmptyDict(Object object, PythonObjectLibrary lib, HashingStorageNodes.LenNode lenNode) {
+            PHashingCollection dict = lib.getDict(object);
+            return dict == null || lenNode.execute(dict.getDictStorage()) == 0;
+        }
+    }
+
+    // _lru_cache_wrapper(user_function, maxsize, typed, cache_info_type)
+    @Builtin(name = "_lru_cache_wrapper", minNumOfPositionalArgs = 5, parameterNames = {"cls", "user_function", "maxsize", "typed", "cache_info_type"}, constructsClass = PythonBuiltinClassType.PLruCacheWrapper)
+    @GenerateNodeFactory
+    public abstract static class LruCacheWrapperNode extends PythonBuiltinNode {
+
+        @Specialization
+        Object create(VirtualFrame frame, LazyPythonClass cls, Object userFunction, Object maxSizeObj, Object typedObj, Object cacheInfoType,
+                        @Cached("create(__CALL__)") LookupInheritedAttributeNode lookupCallNode,
+                        @Cached("createIfTrueNode()") CastToBooleanNode castToBooleanNode) {
+            if (!PGuards.isCallable(userFunction) && lookupCallNode.execute(userFunction) == PNone.NO_VALUE) {
+                throw raise(TypeError, "the first argument must be callable");
+            }
+            int maxSize = toMaxSize(maxSizeObj);
+            boolean typed = castToBooleanNode.executeBoolean(frame, typedObj);
+            Object keywordMark = factory().createPythonObject(PythonBuiltinClassType.PythonObject);
+            return factory().createLruCacheWrapper(cls, userFunction, maxSize, typed, cacheInfoType, keywordMark, factory().createDict(EconomicMapStorage.create(false)));
+        }
+
+        private int toMaxSize(Object maxSizeObj) {
+            long maxSize;
+            if (maxSizeObj == PNone.NONE) {
+                return PLruCacheWrapper.UNBOUNDED;
+            } else if (maxSizeObj instanceof Integer) {
+                maxSize = (int) maxSizeObj;
+            } else if (maxSizeObj instanceof Long) {
+                maxSize = (long) maxSizeObj;
+            } else if (maxSizeObj instanceof Boolean) {
+                maxSize = (boolean) maxSizeObj ? 1 : 0;
+            } else if (maxSizeObj instanceof PInt) {
+                PInt pint = (PInt) maxSizeObj;
+                maxSize = pint.fitsInLong() ? pint.longValue() : pint.isZeroOrNegative() ? 0 : Long.MAX_VALUE;
+            } else {
+                throw raise(TypeError, "maxsize should be integer or None");
+            }
+            // a negative maxsize disables caching; a dict cannot hold more than MAX_VALUE entries anyway
+            return (int) Math.max(0, Math.min(maxSize, Integer.MAX_VALUE));
+        }
     }
 }
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
+import com.oracle.graal.python.builtins.objects.hashlib.HashObjectBuiltins.HashUpdateNode;
+import com.oracle.graal.python.builtins.objects.hashlib.PHashObject;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.graal.python.nodes.util.CastToIndexNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
+import com.oracle.truffle.api.frame.VirtualFrame;
+
+/**
+ * The {@code _hashlib} module backed by {@link MessageDigest}. The module-level Python parts (the
+ * {@code openssl_*} constructors and {@code openssl_md_meth_names}) are defined in
+ * {@code _hashlib.py}.
+ */
+@CoreFunctions(defineModule = "_hashlib")
+public class HashlibModuleBuiltins extends PythonBuiltins {
+
+    private static final class Algorithm {
+        final String javaName;
+        final int blockSize;
+
+        Algorithm(String javaName, int blockSize) {
+            this.javaName = javaName;
+            this.blockSize = blockSize;
+        }
+    }
+
+    private static final Map<String, Algorithm> ALGORITHMS = new LinkedHashMap<>();
+
+    static {
+        ALGORITHMS.put("md5", new Algorithm("MD5", 64));
+        ALGORITHMS.put("sha1", new Algorithm("SHA-1", 64));
+        ALGORITHMS.put("sha224", new Algorithm("SHA-224", 64));
+        ALGORITHMS.put("sha256", new Algorithm("SHA-256", 64));
+        ALGORITHMS.put("sha384", new Algorithm("SHA-384", 128));
+        ALGORITHMS.put("sha512", new Algorithm("SHA-512", 128));
+        // only available on JDKs that ship the SHA-3 provider
+        ALGORITHMS.put("sha3_224", new Algorithm("SHA3-224", 144));
+        ALGORITHMS.put("sha3_256", new Algorithm("SHA3-256", 136));
+        ALGORITHMS.put("sha3_384", new Algorithm("SHA3-384", 104));
+        ALGORITHMS.put("sha3_512", new Algorithm("SHA3-512", 72));
+    }
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return HashlibModuleBuiltinsFactory.getFactories();
+    }
+
+    @TruffleBoundary
+    private static Algorithm lookupAlgorithm(String name) {
+        Algorithm algorithm = ALGORITHMS.get(name);
+        if (algorithm == null) {
+            algorithm = ALGORITHMS.get(name.toLowerCase(Locale.ROOT));
+        }
+        return algorithm;
+    }
+
+    /**
+     * Returns a fresh digest for the given Python algorithm name or {@code null} if the algorithm
+     * is unknown or not provided by the running JDK.
+     */
+    @TruffleBoundary
+    static MessageDigest createDigest(String name) {
+        Algorithm algorithm = lookupAlgorithm(name);
+        if (algorithm != null) {
+            try {
+                return MessageDigest.getInstance(algorithm.javaName);
+            } catch (NoSuchAlgorithmException e) {
+                // fall through
+            }
+        }
+        return null;
+    }
+
+    @TruffleBoundary
+    static int getBlockSize(String name) {
+        return lookupAlgorithm(name).blockSize;
+    }
+
+    @Builtin(name = "new", minNumOfPositionalArgs = 1, parameterNames = {"name", "string"})
+    @GenerateNodeFactory
+    abstract static class NewNode extends PythonBinaryBuiltinNode {
+
+        @Specialization(guards = "isString(nameObj)")
+        Object doNew(Object nameObj, Object data,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached HashUpdateNode hashUpdateNode) {
+            String name = castToJavaStringNode.execute(nameObj);
+            MessageDigest digest = createDigest(name);
+            if (digest == null) {
+                throw raise(ValueError, "unsupported hash type %s", name);
+            }
+            PHashObject hash = factory().createHashObject(PythonBuiltinClassType.PHashlibHash, name, getBlockSize(name), digest);
+            if (!(data instanceof PNone)) {
+                hashUpdateNode.execute(hash, data);
+            }
+            return hash;
+        }
+
+        @Fallback
+        Object doError(Object nameObj, @SuppressWarnings("unused") Object data) {
+            throw raise(TypeError, "new() argument 'name' must be str, not %p", nameObj);
+        }
+    }
+
+    @Builtin(name = "hmac_digest", minNumOfPositionalArgs = 3, parameterNames = {"key", "msg", "digest"})
+    @GenerateNodeFactory
+    abstract static class HmacDigestNode extends PythonTernaryBuiltinNode {
+
+        @Specialization(guards = "isString(digestName)")
+        Object doHmac(VirtualFrame frame, Object key, Object msg, Object digestName,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached BytesNodes.ToBytesNode keyToBytesNode,
+                        @Cached BytesNodes.ToBytesNode msgToBytesNode) {
+            String name = castToJavaStringNode.execute(digestName);
+            MessageDigest digest = createDigest(name);
+            if (digest == null) {
+                throw raise(ValueError, "unsupported hash type %s", name);
+            }
+            byte[] keyBytes = keyToBytesNode.execute(frame, key);
+            byte[] msgBytes = msgToBytesNode.execute(frame, msg);
+            return factory().createBytes(hmac(digest, getBlockSize(name), keyBytes, msgBytes));
+        }
+
+        @Fallback
+        Object doError(@SuppressWarnings("unused") Object key, @SuppressWarnings("unused") Object msg, Object digestName) {
+            throw raise(TypeError, "hmac_digest() argument 'digest' must be str, not %p", digestName);
+        }
+    }
+
+    /**
+     * Computes {@code H((K ^ opad) || H((K ^ ipad) || msg))} as specified in RFC 2104.
+     */
+    @TruffleBoundary
+    static byte[] hmac(MessageDigest digest, int blockSize, byte[] key, byte[] msg) {
+        byte[] inner = new byte[blockSize];
+        byte[] outer = new byte[blockSize];
+        prepareHmacPads(digest, blockSize, key, inner, outer);
+        digest.reset();
+        digest.update(inner);
+        digest.update(msg);
+        byte[] innerHash = digest.digest();
+        digest.update(outer);
+        digest.update(innerHash);
+        return digest.digest();
+    }
+
+    private static void prepareHmacPads(MessageDigest digest, int blockSize, byte[] key, byte[] inner, byte[] outer) {
+        byte[] k = key;
+        if (k.length > blockSize) {
+            digest.reset();
+            k = digest.digest(k);
+        }
+        for (int i = 0; i < blockSize; i++) {
+            byte b = i < k.length ? k[i] : 0;
+            inner[i] = (byte) (b ^ 0x36);
+            outer[i] = (byte) (b ^ 0x5C);
+        }
+    }
+
+    @Builtin(name = "pbkdf2_hmac", minNumOfPositionalArgs = 4, parameterNames = {"hash_name", "password", "salt", "iterations", "dklen"})
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class Pbkdf2HmacNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isString(hashName)")
+        Object doPbkdf2(VirtualFrame frame, Object hashName, Object password, Object salt, Object iterationsObj, Object dklenObj,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached BytesNodes.ToBytesNode passwordToBytesNode,
+                        @Cached BytesNodes.ToBytesNode saltToBytesNode,
+                        @Cached("createOverflow()") CastToIndexNode castIterationsNode,
+                        @Cached("createOverflow()") CastToIndexNode castDklenNode) {
+            String name = castToJavaStringNode.execute(hashName);
+            MessageDigest digest = createDigest(name);
+            if (digest == null) {
+                throw raise(ValueError, "unsupported hash type %s", name);
+            }
+            byte[] passwordBytes = passwordToBytesNode.execute(frame, password);
+            byte[] saltBytes = saltToBytesNode.execute(frame, salt);
+            int iterations = castIterationsNode.execute(frame, iterationsObj);
+            if (iterations < 1) {
+                throw raise(ValueError, "iteration value must be greater than 0.");
+            }
+            int dklen;
+            if (dklenObj instanceof PNone) {
+                dklen = getDigestLength(digest);
+            } else {
+                dklen = castDklenNode.execute(frame, dklenObj);
+                if (dklen < 1) {
+                    throw raise(ValueError, "key length must be greater than 0.");
+                }
+            }
+            return factory().createBytes(pbkdf2(digest, getBlockSize(name), passwordBytes, saltBytes, iterations, dklen));
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object doError(Object hashName, Object password, Object salt, Object iterations, Object dklen) {
+            throw raise(TypeError, "pbkdf2_hmac() argument 'hash_name' must be str, not %p", hashName);
+        }
+
+        @TruffleBoundary
+        private static int getDigestLength(MessageDigest digest) {
+            return digest.getDigestLength();
+        }
+
+        /**
+         * PBKDF2 as specified in RFC 8018, section 5.2. The HMAC pads are computed once and the
+         * inner and outer digest states are cloned for every round.
+         */
+        @TruffleBoundary
+        private static byte[] pbkdf2(MessageDigest digest, int blockSize, byte[] password, byte[] salt, int iterations, int dklen) {
+            byte[] inner = new byte[blockSize];
+            byte[] outer = new byte[blockSize];
+            prepareHmacPads(digest, blockSize, password, inner, outer);
+            MessageDigest innerState;
+            MessageDigest outerState;
+            try {
+                digest.reset();
+                digest.update(inner);
+                innerState = (MessageDigest) digest.clone();
+                digest.reset();
+                digest.update(outer);
+                outerState = (MessageDigest) digest.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+
+            int hLen = digest.getDigestLength();
+            byte[] result = new byte[dklen];
+            byte[] counter = new byte[4];
+            for (int block = 1, offset = 0; offset < dklen; block++, offset += hLen) {
+                counter[0] = (byte) (block >>> 24);
+                counter[1] = (byte) (block >>> 16);
+                counter[2] = (byte) (block >>> 8);
+                counter[3] = (byte) block;
+                byte[] u = hmacRound(innerState, outerState, salt, counter);
+                byte[] t = u.clone();
+                for (int i = 1; i < iterations; i++) {
+                    u = hmacRound(innerState, outerState, u, null);
+                    for (int j = 0; j < t.length; j++) {
+                        t[j] ^= u[j];
+                    }
+                }
+                System.arraycopy(t, 0, result, offset, Math.min(hLen, dklen - offset));
+            }
+            return result;
+        }
+
+        private static byte[] hmacRound(MessageDigest innerState, MessageDigest outerState, byte[] data, byte[] data2) {
+            try {
+                MessageDigest d = (MessageDigest) innerState.clone();
+                d.update(data);
+                if (data2 != null) {
+                    d.update(data2);
+                }
+                byte[] innerHash = d.digest();
+                d = (MessageDigest) outerState.clone();
+                d.update(innerHash);
+                return d.digest();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Builtin(name = "__truffle_supported_algorithms__", minNumOfPositionalArgs = 0)
+    @GenerateNodeFactory
+    abstract static class SupportedAlgorithmsNode extends PythonBuiltinNode {
+        @Specialization
+        Object getSupported() {
+            return factory().createList(getSupportedNames());
+        }
+
+        @TruffleBoundary
+        private static Object[] getSupportedNames() {
+            List<Object> names = new ArrayList<>();
+            for (String name : ALGORITHMS.keySet()) {
+                if (createDigest(name) != null) {
+                    names.add(name);
+                }
+            }
+            return names.toArray();
+        }
+    }
+}
@@ -0,0 +1,568 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.IndexError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.RuntimeError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.HeapqModuleBuiltinsFactory.SiftDownNodeGen;
+import com.oracle.graal.python.builtins.modules.HeapqModuleBuiltinsFactory.SiftUpNodeGen;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.ListGeneralizationNode;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.nodes.SpecialMethodNames;
+import com.oracle.graal.python.nodes.builtins.ListNodes;
+import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+
+/**
+ * The {@code _heapq} accelerator module. The heap is manipulated directly on the list's sequence
+ * storage. Lists with int, long or double storage are compared unboxed since no Python code can
+ * run during the sift; any other storage uses {@code <} and, like CPython, checks that the list was
+ * not resized by a comparison.
+ */
+@CoreFunctions(defineModule = "_heapq")
+public class HeapqModuleBuiltins extends PythonBuiltins {
+
+    private static final String HEAP_NOT_A_LIST = "heap argument must be a list";
+    private static final String SIZE_CHANGED = "list changed size during iteration";
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return HeapqModuleBuiltinsFactory.getFactories();
+    }
+
+    abstract static class SiftNode extends PythonBuiltinBaseNode {
+        protected final boolean isMaxHeap;
+
+        SiftNode(boolean isMaxHeap) {
+            this.isMaxHeap = isMaxHeap;
+        }
+
+        protected static BinaryComparisonNode createLessThan() {
+            return BinaryComparisonNode.create(SpecialMethodNames.__LT__, SpecialMethodNames.__GT__, "<");
+        }
+
+        protected static SiftDownNode createSiftDown(boolean isMaxHeap) {
+            return SiftDownNodeGen.create(isMaxHeap);
+        }
+    }
+
+    /**
+     * Moves the item at {@code pos} towards {@code startPos} until its parent is not larger
+     * (CPython's {@code _siftdown}).
+     */
+    abstract static class SiftDownNode extends SiftNode {
+        SiftDownNode(boolean isMaxHeap) {
+            super(isMaxHeap);
+        }
+
+        abstract void execute(VirtualFrame frame, PList heap, int startPos, int pos);
+
+        @Specialization(guards = "isIntStorage(heap)")
+        void doInt(PList heap, int startPos, int pos) {
+            siftDown(((IntSequenceStorage) heap.getSequenceStorage()).getInternalIntArray(), startPos, pos, isMaxHeap);
+        }
+
+        @Specialization(guards = "isLongStorage(heap)")
+        void doLong(PList heap, int startPos, int pos) {
+            siftDown(((LongSequenceStorage) heap.getSequenceStorage()).getInternalLongArray(), startPos, pos, isMaxHeap);
+        }
+
+        @Specialization(guards = "isDoubleStorage(heap)")
+        void doDouble(PList heap, int startPos, int pos) {
+            siftDown(((DoubleSequenceStorage) heap.getSequenceStorage()).getInternalDoubleArray(), startPos, pos, isMaxHeap);
+        }
+
+        @Specialization(guards = {"!isIntStorage(heap)", "!isLongStorage(heap)", "!isDoubleStorage(heap)"})
+        void doGeneric(VirtualFrame frame, PList heap, int startPos, int pos,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached SequenceStorageNodes.GetItemDynamicNode getItemNode,
+                        @Cached SequenceStorageNodes.SetItemDynamicNode setItemNode,
+                        @Cached("createLessThan()") BinaryComparisonNode lessThanNode) {
+            int size = lenNode.execute(heap.getSequenceStorage());
+            int current = pos;
+            while (current > startPos) {
+                int parentPos = (current - 1) >> 1;
+                SequenceStorage storage = heap.getSequenceStorage();
+                Object newItem = getItemNode.execute(storage, current);
+                Object parent = getItemNode.execute(storage, parentPos);
+                boolean lessThan = isMaxHeap ? lessThanNode.executeBool(frame, parent, newItem) : lessThanNode.executeBool(frame, newItem, parent);
+                storage = heap.getSequenceStorage();
+                if (lenNode.execute(storage) != size) {
+                    throw raise(RuntimeError, SIZE_CHANGED);
+                }
+                if (!lessThan) {
+                    break;
+                }
+                // re-read, the comparison may have reordered the list
+                parent = getItemNode.execute(storage, parentPos);
+                newItem = getItemNode.execute(storage, current);
+                setItemNode.execute(ListGeneralizationNode.SUPPLIER, storage, parentPos, newItem);
+                setItemNode.execute(ListGeneralizationNode.SUPPLIER, storage, current, parent);
+                current = parentPos;
+            }
+        }
+
+        static void siftDown(int[] heap, int startPos, int pos, boolean isMaxHeap) {
+            int newItem = heap[pos];
+            int current = pos;
+            while (current > startPos) {
+                int parentPos = (current - 1) >> 1;
+                int parent = heap[parentPos];
+                if (isMaxHeap ? parent < newItem : newItem < parent) {
+                    heap[current] = parent;
+                    current = parentPos;
+                } else {
+                    break;
+                }
+            }
+            heap[current] = newItem;
+        }
+
+        static void siftDown(long[] heap, int startPos, int pos, boolean isMaxHeap) {
+            long newItem = heap[pos];
+            int current = pos;
+            while (current > startPos) {
+                int parentPos = (current - 1) >> 1;
+                long parent = heap[parentPos];
+                if (isMaxHeap ? parent < newItem : newItem < parent) {
+                    heap[current] = parent;
+                    current = parentPos;
+                } else {
+                    break;
+                }
+            }
+            heap[current] = newItem;
+        }
+
+        static void siftDown(double[] heap, int startPos, int pos, boolean isMaxHeap) {
+            double newItem = heap[pos];
+            int current = pos;
+            while (current > startPos) {
+                int parentPos = (current - 1) >> 1;
+                double parent = heap[parentPos];
+                if (isMaxHeap ? parent < newItem : newItem < parent) {
+                    heap[current] = parent;
+                    current = parentPos;
+                } else {
+                    break;
+                }
+            }
+            heap[current] = newItem;
+        }
+
+    }
+
+    /**
+     * Moves the smaller child up until a leaf is reached, then sifts the item at {@code pos} back
+     * into place (CPython's {@code _siftup}).
+     */
+    abstract static class SiftUpNode extends SiftNode {
+        SiftUpNode(boolean isMaxHeap) {
+            super(isMaxHeap);
+        }
+
+        abstract void execute(VirtualFrame frame, PList heap, int pos);
+
+        @Specialization(guards = "isIntStorage(heap)")
+        void doInt(PList heap, int pos) {
+            IntSequenceStorage storage = (IntSequenceStorage) heap.getSequenceStorage();
+            int[] array = storage.getInternalIntArray();
+            int endPos = storage.length();
+            int newItem = array[pos];
+            int current = pos;
+            int childPos = 2 * current + 1;
+            while (childPos < endPos) {
+                int rightPos = childPos + 1;
+                if (rightPos < endPos && !(isMaxHeap ? array[rightPos] < array[childPos] : array[childPos] < array[rightPos])) {
+                    childPos = rightPos;
+                }
+                array[current] = array[childPos];
+                current = childPos;
+                childPos = 2 * current + 1;
+            }
+            array[current] = newItem;
+            SiftDownNode.siftDown(array, pos, current, isMaxHeap);
+        }
+
+        @Specialization(guards = "isLongStorage(heap)")
+        void doLong(PList heap, int pos) {
+            LongSequenceStorage storage = (LongSequenceStorage) heap.getSequenceStorage();
+            long[] array = storage.getInternalLongArray();
+            int endPos = storage.length();
+            long newItem = array[pos];
+            int current = pos;
+            int childPos = 2 * current + 1;
+            while (childPos < endPos) {
+                int rightPos = childPos + 1;
+                if (rightPos < endPos && !(isMaxHeap ? array[rightPos] < array[childPos] : array[childPos] < array[rightPos])) {
+                    childPos = rightPos;
+                }
+                array[current] = array[childPos];
+                current = childPos;
+                childPos = 2 * current + 1;
+            }
+            array[current] = newItem;
+            SiftDownNode.siftDown(array, pos, current, isMaxHeap);
+        }
+
+        @Specialization(guards = "isDoubleStorage(heap)")
+        void doDouble(PList heap, int pos) {
+            DoubleSequenceStorage storage = (DoubleSequenceStorage) heap.getSequenceStorage();
+            double[] array = storage.getInternalDoubleArray();
+            int endPos = storage.length();
+            double newItem = array[pos];
+            int current = pos;
+            int childPos = 2 * current + 1;
+            while (childPos < endPos) {
+                int rightPos = childPos + 1;
+                if (rightPos < endPos && !(isMaxHeap ? array[rightPos] < array[childPos] : array[childPos] < array[rightPos])) {
+                    childPos = rightPos;
+                }
+                array[current] = array[childPos];
+                current = childPos;
+                childPos = 2 * current + 1;
+            }
+            array[current] = newItem;
+            SiftDownNode.siftDown(array, pos, current, isMaxHeap);
+        }
+
+        @Specialization(guards = {"!isIntStorage(heap)", "!isLongStorage(heap)", "!isDoubleStorage(heap)"})
+        void doGeneric(VirtualFrame frame, PList heap, int pos,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached SequenceStorageNodes.GetItemDynamicNode getItemNode,
+                        @Cached SequenceStorageNodes.SetItemDynamicNode setItemNode,
+                        @Cached("createLessThan()") BinaryComparisonNode lessThanNode,
+                        @Cached("createSiftDown(isMaxHeap)") SiftDownNode siftDownNode) {
+            int endPos = lenNode.execute(heap.getSequenceStorage());
+            int limit = endPos >> 1;
+            int current = pos;
+            while (current < limit) {
+                int childPos = 2 * current + 1;
+                if (childPos + 1 < endPos) {
+                    SequenceStorage storage = heap.getSequenceStorage();
+                    Object left = getItemNode.execute(storage, childPos);
+                    Object right = getItemNode.execute(storage, childPos + 1);
+                    boolean lessThan = isMaxHeap ? lessThanNode.executeBool(frame, right, left) : lessThanNode.executeBool(frame, left, right);
+                    if (!lessThan) {
+                        childPos++;
+                    }
+                    if (lenNode.execute(heap.getSequenceStorage()) != endPos) {
+                        throw raise(RuntimeError, SIZE_CHANGED);
+                    }
+                }
+                SequenceStorage storage = heap.getSequenceStorage();
+                Object child = getItemNode.execute(storage, childPos);
+                Object item = getItemNode.execute(storage, current);
+                setItemNode.execute(ListGeneralizationNode.SUPPLIER, storage, childPos, item);
+                setItemNode.execute(ListGeneralizationNode.SUPPLIER, storage, current, child);
+                current = childPos;
+            }
+            siftDownNode.execute(frame, heap, pos, current);
+        }
+
+        protected static SiftUpNode create(boolean isMaxHeap) {
+            return SiftUpNodeGen.create(isMaxHeap);
+        }
+    }
+
+    @Builtin(name = "heappush", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class HeapPushNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object push(VirtualFrame frame, PList heap, Object item,
+                        @Cached ListNodes.AppendNode appendNode,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached("create(false)") SiftDownNode siftDownNode) {
+            appendNode.execute(heap, item);
+            siftDownNode.execute(frame, heap, 0, lenNode.execute(heap.getSequenceStorage()) - 1);
+            return PNone.NONE;
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object push(Object heap, Object item) {
+            throw raise(TypeError, HEAP_NOT_A_LIST);
+        }
+    }
+
+    abstract static class HeapPopBaseNode extends PythonUnaryBuiltinNode {
+        @Child private SequenceStorageNodes.LenNode lenNode = SequenceStorageNodes.LenNode.create();
+        @Child private SequenceStorageNodes.GetItemDynamicNode getItemNode = SequenceStorageNodes.GetItemDynamicNode.create();
+        @Child private SequenceStorageNodes.SetItemDynamicNode setItemNode = SequenceStorageNodes.SetItemDynamicNode.create();
+        @Child private SequenceStorageNodes.SetLenNode setLenNode = SequenceStorageNodes.SetLenNode.create();
+        @Child private SiftUpNode siftUpNode;
+
+        protected Object pop(VirtualFrame frame, PList heap, boolean isMaxHeap) {
+            SequenceStorage storage = heap.getSequenceStorage();
+            int len = lenNode.execute(storage);
+            if (len == 0) {
+                throw raise(IndexError, "index out of range");
+            }
+            Object last = getItemNode.execute(storage, len - 1);
+            setLenNode.execute(storage, len - 1);
+            if (len == 1) {
+                return last;
+            }
+            Object top = getItemNode.execute(storage, 0);
+            heap.setSequenceStorage(setItemNode.execute(ListGeneralizationNode.SUPPLIER, storage, 0, last));
+            getSiftUpNode(isMaxHeap).execute(frame, heap, 0);
+            return top;
+        }
+
+        private SiftUpNode getSiftUpNode(boolean isMaxHeap) {
+            if (siftUpNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                siftUpNode = insert(SiftUpNode.create(isMaxHeap));
+            }
+            return siftUpNode;
+        }
+    }
+
+    @Builtin(name = "heappop", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class HeapPopNode extends HeapPopBaseNode {
+        @Specialization
+        Object pop(VirtualFrame frame, PList heap) {
+            return pop(frame, heap, false);
+        }
+
+        @Fallback
+        Object pop(@SuppressWarnings("unused") Object heap) {
+            throw raise(TypeError, HEAP_NOT_A_LIST);
+        }
+    }
+
+    @Builtin(name = "_heappop_max", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class HeapPopMaxNode extends HeapPopBaseNode {
+        @Specialization
+        Object pop(VirtualFrame frame, PList heap) {
+            return pop(frame, heap, true);
+        }
+
+        @Fallback
+        Object pop(@SuppressWarnings("unused") Object heap) {
+            throw raise(TypeError, HEAP_NOT_A_LIST);
+        }
+    }
+
+    abstract static class HeapReplaceBaseNode extends PythonBinaryBuiltinNode {
+        @Child private SequenceStorageNodes.LenNode lenNode = SequenceStorageNodes.LenNode.create();
+        @Child private SequenceStorageNodes.GetItemDynamicNode getItemNode = SequenceStorageNodes.GetItemDynamicNode.create();
+        @Child private SequenceStorageNodes.SetItemDynamicNode setItemNode = SequenceStorageNodes.SetItemDynamicNode.create();
+        @Child private SiftUpNode siftUpNode;
+
+        protected Object replace(VirtualFrame frame, PList heap, Object item, boolean isMaxHeap) {
+            SequenceStorage storage = heap.getSequenceStorage();
+            if (lenNode.execute(storage) == 0) {
+                throw raise(IndexError, "index out of range");
+            }
+            Object top = getItemNode.execute(storage, 0);
+            heap.setSequenceStorage(setItemNode.execute(ListGeneralizationNode.SUPPLIER, storage, 0, item));
+            if (siftUpNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                siftUpNode = insert(SiftUpNode.create(isMaxHeap));
+            }
+            siftUpNode.execute(frame, heap, 0);
+            return top;
+        }
+    }
+
+    @Builtin(name = "heapreplace", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class HeapReplaceNode extends HeapReplaceBaseNode {
+        @Specialization
+        Object replace(VirtualFrame frame, PList heap, Object item) {
+            return replace(frame, heap, item, false);
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object replace(Object heap, Object item) {
+            throw raise(TypeError, HEAP_NOT_A_LIST);
+        }
+    }
+
+    @Builtin(name = "_heapreplace_max", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class HeapReplaceMaxNode extends HeapReplaceBaseNode {
+        @Specialization
+        Object replace(VirtualFrame frame, PList heap, Object item) {
+            return replace(frame, heap, item, true);
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object replace(Object heap, Object item) {
+            throw raise(TypeError, HEAP_NOT_A_LIST);
+        }
+    }
+
+    @Builtin(name = "heappushpop", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class HeapPushPopNode extends PythonBinaryBuiltinNode {
+        protected static BinaryComparisonNode createLessThan() {
+            return BinaryComparisonNode.create(SpecialMethodNames.__LT__, SpecialMethodNames.__GT__, "<");
+        }
+
+        @Specialization(guards = "isIntStorage(heap)")
+        Object pushPopInt(VirtualFrame frame, PList heap, int item,
+                        @Cached("create(false)") SiftUpNode siftUpNode) {
+            IntSequenceStorage storage = (IntSequenceStorage) heap.getSequenceStorage();
+            if (storage.length() == 0 || !(storage.getIntItemNormalized(0) < item)) {
+                return item;
+            }
+            int top = storage.getIntItemNormalized(0);
+            storage.setIntItemNormalized(0, item);
+            siftUpNode.execute(frame, heap, 0);
+            return top;
+        }
+
+        @Specialization(guards = "isDoubleStorage(heap)")
+        Object pushPopDouble(VirtualFrame frame, PList heap, double item,
+                        @Cached("create(false)") SiftUpNode siftUpNode) {
+            DoubleSequenceStorage storage = (DoubleSequenceStorage) heap.getSequenceStorage();
+            if (storage.length() == 0 || !(storage.getDoubleItemNormalized(0) < item)) {
+                return item;
+            }
+            double top = storage.getDoubleItemNormalized(0);
+            storage.setDoubleItemNormalized(0, item);
+            siftUpNode.execute(frame, heap, 0);
+            return top;
+        }
+
+        @Specialization(replaces = {"pushPopInt", "pushPopDouble"})
+        Object pushPop(VirtualFrame frame, PList heap, Object item,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached SequenceStorageNodes.GetItemDynamicNode getItemNode,
+                        @Cached SequenceStorageNodes.SetItemDynamicNode setItemNode,
+                        @Cached("createLessThan()") BinaryComparisonNode lessThanNode,
+                        @Cached("create(false)") SiftUpNode siftUpNode) {
+            if (lenNode.execute(heap.getSequenceStorage()) == 0) {
+                return item;
+            }
+            Object top = getItemNode.execute(heap.getSequenceStorage(), 0);
+            if (!lessThanNode.executeBool(frame, top, item)) {
+                return item;
+            }
+            SequenceStorage storage = heap.getSequenceStorage();
+            if (lenNode.execute(storage) == 0) {
+                throw raise(IndexError, "index out of range");
+            }
+            top = getItemNode.execute(storage, 0);
+            heap.setSequenceStorage(setItemNode.execute(ListGeneralizationNode.SUPPLIER, storage, 0, item));
+            siftUpNode.execute(frame, heap, 0);
+            return top;
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        Object pushPop(Object heap, Object item) {
+            throw raise(TypeError, HEAP_NOT_A_LIST);
+        }
+    }
+
+    abstract static class HeapifyBaseNode extends PythonUnaryBuiltinNode {
+        @Child private SequenceStorageNodes.LenNode lenNode = SequenceStorageNodes.LenNode.create();
+        @Child private SiftUpNode siftUpNode;
+
+        protected Object heapify(VirtualFrame frame, PList heap, boolean isMaxHeap) {
+            if (siftUpNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                siftUpNode = insert(SiftUpNode.create(isMaxHeap));
+            }
+            for (int i = (lenNode.execute(heap.getSequenceStorage()) >> 1) - 1; i >= 0; i--) {
+                siftUpNode.execute(frame, heap, i);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "heapify", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class HeapifyNode extends HeapifyBaseNode {
+        @Specialization
+        Object heapify(VirtualFrame frame, PList heap) {
+            return heapify(frame, heap, false);
+        }
+
+        @Fallback
+        Object heapify(@SuppressWarnings("unused") Object heap) {
+            throw raise(TypeError, HEAP_NOT_A_LIST);
+        }
+    }
+
+    @Builtin(name = "_heapify_max", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class HeapifyMaxNode extends HeapifyBaseNode {
+        @Specialization
+        Object heapify(VirtualFrame frame, PList heap) {
+            return heapify(frame, heap, true);
+        }
+
+        @Fallback
+        Object heapify(@SuppressWarnings("unused") Object heap) {
+            throw raise(TypeError, HEAP_NOT_A_LIST);
+        }
+    }
+}
@@ -45,7 +45,6 @@ import java.io.IOException;
 import java.lang.ProcessBuilder.Redirect;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channel;
-import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
@@ -69,8 +68,11 @@ import com.oracle.graal.python.nodes.util.CastToIndexNode;
 import com.oracle.graal.python.nodes.util.CastToStringNode;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
 import com.oracle.graal.python.runtime.PosixResources;
+import com.oracle.graal.python.runtime.ProcessInputChannel;
+import com.oracle.graal.python.runtime.ProcessOutputChannel;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.RedirectedProcess;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
@@ -150,20 +152,38 @@ public class PosixSubprocessModuleBuiltins extends PythonBuiltins {
 
             PythonLanguage.getLogger().fine(() -> "_posixsubprocess.fork_exec: " + String.join(" ", argStrings));
             ProcessBuilder pb = new ProcessBuilder(argStrings);
+            // Streams redirected to file descriptors of the parent (files, pipes, other children's
+            // pipes) are connected by pump threads that use the parent's descriptor like a forked
+            // child would.
+            int stdinFd = -1;
+            int stdoutFd = -1;
+            int stderrFd = -1;
             if (p2cread != -1 && p2cwrite != -1) {
                 pb.redirectInput(Redirect.PIPE);
+            } else if (isRedirectFd(p2cread)) {
+                stdinFd = p2cread;
+                pb.redirectInput(Redirect.PIPE);
             } else {
                 pb.redirectInput(Redirect.INHERIT);
             }
 
             if (c2pread != -1 && c2pwrite != -1) {
                 pb.redirectOutput(Redirect.PIPE);
+            } else if (isRedirectFd(c2pwrite)) {
+                stdoutFd = c2pwrite;
+                pb.redirectOutput(Redirect.PIPE);
             } else {
                 pb.redirectOutput(Redirect.INHERIT);
             }
 
             if (errread != -1 && errwrite != -1) {
                 pb.redirectError(Redirect.PIPE);
+            } else if (errwrite != -1 && errwrite == c2pwrite) {
+                // stderr=STDOUT
+                pb.redirectErrorStream(true);
+            } else if (isRedirectFd(errwrite)) {
+                stderrFd = errwrite;
+                pb.redirectError(Redirect.PIPE);
             } else {
                 pb.redirectError(Redirect.INHERIT);
             }
@@ -192,18 +212,31 @@ public class PosixSubprocessModuleBuiltins extends PythonBuiltins {
 
             try {
                 Process process = pb.start();
+                if (stdinFd != -1 || stdoutFd != -1 || stderrFd != -1) {
+                    RedirectedProcess redirected = new RedirectedProcess(process, resources);
+                    if (stdinFd != -1) {
+                        redirected.pumpToStdin(stdinFd);
+                    }
+                    if (stdoutFd != -1) {
+                        redirected.pumpFrom(process.getInputStream(), stdoutFd);
+                    }
+                    if (stderrFd != -1) {
+                        redirected.pumpFrom(process.getErrorStream(), stderrFd);
+                    }
+                    process = redirected;
+                }
                 if (p2cwrite != -1) {
                     // user code is expected to close the unused ends of the pipes
                     resources.getFileChannel(p2cwrite).close();
-                    resources.fdopen(p2cwrite, Channels.newChannel(process.getOutputStream()));
+                    resources.fdopen(p2cwrite, new ProcessOutputChannel(process.getOutputStream()));
                 }
                 if (c2pread != -1) {
                     resources.getFileChannel(c2pread).close();
-                    resources.fdopen(c2pread, Channels.newChannel(process.getInputStream()));
+                    resources.fdopen(c2pread, new ProcessInputChannel(process.getInputStream()));
                 }
                 if (errread != -1) {
                     resources.getFileChannel(errread).close();
-                    resources.fdopen(errread, Channels.newChannel(process.getErrorStream()));
+                    resources.fdopen(errread, new ProcessInputChannel(process.getErrorStream()));
                 }
 
                 return resources.registerChild(process);
@@ -226,6 +259,14 @@ public class PosixSubprocessModuleBuiltins extends PythonBuiltins {
             }
         }
 
+        /**
+         * Whether a child's stream given as {@code fd} must be connected to that descriptor of the
+         * parent. The parent's standard streams are inherited instead.
+         */
+        private static boolean isRedirectFd(int fd) {
+            return fd > 2;
+        }
+
         @Specialization(replaces = "forkExec")
         int forkExecDefault(VirtualFrame frame, Object args, Object executable_list, Object close_fds,
                         Object fdsToKeep, Object cwd, Object env,
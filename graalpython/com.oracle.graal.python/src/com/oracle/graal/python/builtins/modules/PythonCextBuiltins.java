@@ -99,7 +99,6 @@ import com.oracle.graal.python.builtins.objects.cext.CExtNodesFactory.MayRaiseUn
 import com.oracle.graal.python.builtins.objects.cext.CExtNodesFactory.PRaiseNativeNodeGen;
 import com.oracle.graal.python.builtins.objects.cext.CExtNodesFactory.TransformExceptionToNativeNodeGen;
 import com.oracle.graal.python.builtins.objects.cext.DynamicObjectNativeWrapper;
-import com.oracle.graal.python.builtins.objects.cext.HandleCache;
 import com.oracle.graal.python.builtins.objects.cext.NativeCAPISymbols;
 import com.oracle.graal.python.builtins.objects.cext.PThreadState;
 import com.oracle.graal.python.builtins.objects.cext.PySequenceArrayWrapper;
@@ -1318,17 +1317,17 @@ public class PythonCextBuiltins extends PythonBuiltins {
 
         @Specialization(guards = "isNoValue(errors)")
         Object doUnicode(VirtualFrame frame, TruffleObject o, long size, @SuppressWarnings("unused") PNone errors, int byteorder, Object errorMarker,
-                        @Shared("toSulongNode") @Cached CExtNodes.ToSulongNode toSulongNode,
+                        @Shared("toNewRefNode") @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Shared("getByteArrayNode") @Cached GetByteArrayNode getByteArrayNode) {
-            return doUnicode(frame, o, size, "strict", byteorder, errorMarker, toSulongNode, getByteArrayNode);
+            return doUnicode(frame, o, size, "strict", byteorder, errorMarker, toNewRefNode, getByteArrayNode);
         }
 
         @Specialization
         Object doUnicode(VirtualFrame frame, TruffleObject o, long size, String errors, int byteorder, Object errorMarker,
-                        @Shared("toSulongNode") @Cached CExtNodes.ToSulongNode toSulongNode,
+                        @Shared("toNewRefNode") @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Shared("getByteArrayNode") @Cached GetByteArrayNode getByteArrayNode) {
             try {
-                return toSulongNode.execute(decodeUTF32(getByteArrayNode.execute(frame, o, size), (int) size, errors, byteorder));
+                return toNewRefNode.execute(decodeUTF32(getByteArrayNode.execute(frame, o, size), (int) size, errors, byteorder));
             } catch (CharacterCodingException e) {
                 return raiseNative(frame, errorMarker, PythonErrorType.UnicodeEncodeError, "%m", e);
             } catch (IllegalArgumentException e) {
@@ -1952,18 +1951,22 @@ public class PythonCextBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Calls a method of an object for native code; the result is a new reference.
+     */
     @Builtin(name = "PyTruffle_Upcall", minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true, declaresExplicitSelf = true)
     @GenerateNodeFactory
     abstract static class UpcallNode extends UpcallLandingNode {
 
         @Specialization
         Object upcall(VirtualFrame frame, PythonModule cextModule, Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs,
+                        @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Cached CExtNodes.ToSulongNode toSulongNode,
                         @Cached CExtNodes.ObjectUpcallNode upcallNode,
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Cached GetNativeNullNode getNativeNullNode) {
             try {
-                return toSulongNode.execute(upcallNode.execute(frame, args));
+                return toNewRefNode.execute(upcallNode.execute(frame, args));
             } catch (PException e) {
                 transformExceptionToNativeNode.execute(frame, e);
                 return toSulongNode.execute(getNativeNullNode.execute(cextModule));
@@ -2025,6 +2028,9 @@ public class PythonCextBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Calls a function of the C API implementation for native code; the result is a new reference.
+     */
     @Builtin(name = "PyTruffle_Cext_Upcall", minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true, declaresExplicitSelf = true)
     @GenerateNodeFactory
     abstract static class UpcallCextNode extends UpcallLandingNode {
@@ -2032,15 +2038,15 @@ public class PythonCextBuiltins extends PythonBuiltins {
         @Specialization(guards = "isStringCallee(args)")
         Object upcall(VirtualFrame frame, PythonModule cextModule, Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs,
                         @Cached CExtNodes.CextUpcallNode upcallNode,
-                        @Shared("toSulongNode") @Cached CExtNodes.ToSulongNode toSulongNode) {
-            return toSulongNode.execute(upcallNode.execute(frame, cextModule, args));
+                        @Shared("toNewRefNode") @Cached CExtNodes.ToNewRefNode toNewRefNode) {
+            return toNewRefNode.execute(upcallNode.execute(frame, cextModule, args));
         }
 
         @Specialization(guards = "!isStringCallee(args)")
         Object doDirect(VirtualFrame frame, @SuppressWarnings("unused") PythonModule cextModule, Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs,
                         @Cached CExtNodes.DirectUpcallNode upcallNode,
-                        @Shared("toSulongNode") @Cached CExtNodes.ToSulongNode toSulongNode) {
-            return toSulongNode.execute(upcallNode.execute(frame, args));
+                        @Shared("toNewRefNode") @Cached CExtNodes.ToNewRefNode toNewRefNode) {
+            return toNewRefNode.execute(upcallNode.execute(frame, args));
         }
 
         public static boolean isStringCallee(Object[] args) {
@@ -2048,6 +2054,30 @@ public class PythonCextBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Like {@code PyTruffle_Cext_Upcall} for the functions of the C API that return a borrowed
+     * reference or whose result is ignored.
+     */
+    @Builtin(name = "PyTruffle_Cext_Upcall_Borrowed", minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true, declaresExplicitSelf = true)
+    @GenerateNodeFactory
+    @ImportStatic(UpcallCextNode.class)
+    abstract static class UpcallCextBorrowedNode extends UpcallLandingNode {
+
+        @Specialization(guards = "isStringCallee(args)")
+        Object upcall(VirtualFrame frame, PythonModule cextModule, Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs,
+                        @Cached CExtNodes.CextUpcallNode upcallNode,
+                        @Shared("toSulongNode") @Cached CExtNodes.ToSulongNode toSulongNode) {
+            return toSulongNode.execute(upcallNode.execute(frame, cextModule, args));
+        }
+
+        @Specialization(guards = "!isStringCallee(args)")
+        Object doDirect(VirtualFrame frame, @SuppressWarnings("unused") PythonModule cextModule, Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs,
+                        @Cached CExtNodes.DirectUpcallNode upcallNode,
+                        @Shared("toSulongNode") @Cached CExtNodes.ToSulongNode toSulongNode) {
+            return toSulongNode.execute(upcallNode.execute(frame, args));
+        }
+    }
+
     @Builtin(name = "PyTruffle_Cext_Upcall_d", minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true, declaresExplicitSelf = true)
     @GenerateNodeFactory
     @ImportStatic(UpcallCextNode.class)
@@ -2218,15 +2248,6 @@ public class PythonCextBuiltins extends PythonBuiltins {
         }
     }
 
-    @Builtin(name = "PyTruffle_HandleCache_Create", minNumOfPositionalArgs = 1)
-    @GenerateNodeFactory
-    abstract static class PyTruffleHandleCacheCreate extends PythonUnaryBuiltinNode {
-        @Specialization
-        Object createCache(TruffleObject ptrToResolveHandle) {
-            return new HandleCache(ptrToResolveHandle);
-        }
-    }
-
     @Builtin(name = "PyLong_FromLongLong", minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
     abstract static class PyLong_FromLongLong extends PythonBinaryBuiltinNode {
@@ -2825,14 +2846,14 @@ public class PythonCextBuiltins extends PythonBuiltins {
                         @Cached CExtNodes.AsPythonObjectNode callableToJavaNode,
                         @Cached @SuppressWarnings("unused") CExtNodes.AsPythonObjectNode kwargsToJavaNode,
                         @Cached @SuppressWarnings("unused") HashingCollectionNodes.LenNode lenNode,
-                        @Cached CExtNodes.ToSulongNode toSulongNode,
+                        @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Cached CallNode callNode,
                         @Cached GetNativeNullNode getNativeNullNode,
                         @Cached CExtNodes.ToSulongNode nullToSulongNode,
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode) {
             try {
                 Object callable = callableToJavaNode.execute(callableObj);
-                return toSulongNode.execute(callNode.execute(frame, callable, new Object[0], PKeyword.EMPTY_KEYWORDS));
+                return toNewRefNode.execute(callNode.execute(frame, callable, new Object[0], PKeyword.EMPTY_KEYWORDS));
             } catch (PException e) {
                 transformExceptionToNativeNode.execute(frame, e);
                 return nullToSulongNode.execute(getNativeNullNode.execute());
@@ -2848,7 +2869,7 @@ public class PythonCextBuiltins extends PythonBuiltins {
                         @Cached CExtNodes.AsPythonObjectNode argsToJavaNode,
                         @Cached @SuppressWarnings("unused") CExtNodes.AsPythonObjectNode kwargsToJavaNode,
                         @Cached @SuppressWarnings("unused") HashingCollectionNodes.LenNode lenNode,
-                        @Cached CExtNodes.ToSulongNode toSulongNode,
+                        @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Cached CallNode callNode,
                         @Cached GetNativeNullNode getNativeNullNode,
                         @Cached CExtNodes.ToSulongNode nullToSulongNode,
@@ -2856,7 +2877,7 @@ public class PythonCextBuiltins extends PythonBuiltins {
             try {
                 Object callable = callableToJavaNode.execute(callableObj);
                 Object[] args = expandArgsNode.executeWith(frame, argsToJavaNode.execute(argsObj));
-                return toSulongNode.execute(callNode.execute(frame, callable, args, PKeyword.EMPTY_KEYWORDS));
+                return toNewRefNode.execute(callNode.execute(frame, callable, args, PKeyword.EMPTY_KEYWORDS));
             } catch (PException e) {
                 // getContext() acts as a branch profile
                 transformExceptionToNativeNode.execute(frame, e);
@@ -2872,7 +2893,7 @@ public class PythonCextBuiltins extends PythonBuiltins {
                         @Cached CExtNodes.AsPythonObjectNode callableToJavaNode,
                         @Cached @SuppressWarnings("unused") CExtNodes.AsPythonObjectNode kwargsToJavaNode,
                         @Cached @SuppressWarnings("unused") HashingCollectionNodes.LenNode lenNode,
-                        @Cached CExtNodes.ToSulongNode toSulongNode,
+                        @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Cached CallNode callNode,
                         @Cached GetNativeNullNode getNativeNullNode,
                         @Cached CExtNodes.ToSulongNode nullToSulongNode,
@@ -2880,7 +2901,7 @@ public class PythonCextBuiltins extends PythonBuiltins {
             try {
                 PKeyword[] keywords = expandKwargsNode.executeWith(kwargsToJavaNode.execute(kwargsObj));
                 Object callable = callableToJavaNode.execute(callableObj);
-                return toSulongNode.execute(callNode.execute(frame, callable, new Object[0], keywords));
+                return toNewRefNode.execute(callNode.execute(frame, callable, new Object[0], keywords));
             } catch (PException e) {
                 transformExceptionToNativeNode.execute(frame, e);
                 return nullToSulongNode.execute(getNativeNullNode.execute());
@@ -2899,7 +2920,7 @@ public class PythonCextBuiltins extends PythonBuiltins {
                         @Cached("createBinaryProfile()") ConditionProfile argsIsNullProfile,
                         @Cached("createBinaryProfile()") ConditionProfile kwargsIsNullProfile,
                         @Exclusive @Cached CallNode callNode,
-                        @Cached CExtNodes.ToSulongNode toSulongNode,
+                        @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Cached GetNativeNullNode getNativeNullNode,
                         @Cached CExtNodes.ToSulongNode nullToSulongNode,
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode) {
@@ -2921,7 +2942,7 @@ public class PythonCextBuiltins extends PythonBuiltins {
                 } else {
                     keywords = expandKwargsNode.executeWith(kwargsToJavaNode.execute(kwargsObj));
                 }
-                return toSulongNode.execute(callNode.execute(frame, callable, args, keywords));
+                return toNewRefNode.execute(callNode.execute(frame, callable, args, keywords));
             } catch (PException e) {
                 // getContext() acts as a branch profile
                 transformExceptionToNativeNode.execute(frame, e);
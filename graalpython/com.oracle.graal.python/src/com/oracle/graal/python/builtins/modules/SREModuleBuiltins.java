@@ -40,11 +40,14 @@
  */
 package com.oracle.graal.python.builtins.modules;
 
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
-import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.Builtin;
@@ -52,38 +55,34 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
-import com.oracle.graal.python.builtins.objects.bytes.BytesUtils;
-import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
+import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
-import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.ToByteArrayNodeGen;
-import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
-import com.oracle.graal.python.builtins.objects.str.PString;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.sre.PSREPattern;
+import com.oracle.graal.python.builtins.objects.sre.SREPatternBuiltins.TRegexCompileNode;
+import com.oracle.graal.python.builtins.objects.sre.SREState;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
-import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
-import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.runtime.PythonContext;
-import com.oracle.graal.python.runtime.exception.PException;
-import com.oracle.graal.python.runtime.exception.PythonErrorType;
-import com.oracle.truffle.api.CompilerAsserts;
-import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
-import com.oracle.truffle.api.TruffleException;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.CachedContext;
-import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.dsl.TypeSystemReference;
 import com.oracle.truffle.api.frame.VirtualFrame;
-import com.oracle.truffle.api.interop.ArityException;
 import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.UnknownIdentifierException;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
-import com.oracle.truffle.api.interop.UnsupportedTypeException;
-import com.oracle.truffle.api.library.CachedLibrary;
-import com.oracle.truffle.api.profiles.BranchProfile;
 import com.oracle.truffle.api.source.Source;
 
 @CoreFunctions(defineModule = "_sre")
@@ -111,140 +110,173 @@ public class SREModuleBuiltins extends PythonBuiltins {
     }
 
     /**
-     * Replaces any <it>quoted</it> escape sequence like {@code "\\n"} (two characters; backslash +
-     * 'n') by its single character like {@code "\n"} (one character; newline).
+     * Compiles a str or bytes pattern with a TRegex engine and creates a pattern object that is
+     * executed by TRegex. The flags are passed to TRegex as the flag characters of
+     * {@code sre_parse.FLAGS}. If TRegex does not support the pattern, its fallback compiler
+     * produces an SRE pattern object, which is returned as it is. The SRE compiler is kept with a
+     * TRegex pattern for the steps TRegex cannot do.
      */
-    @Builtin(name = "_process_escape_sequences", minNumOfPositionalArgs = 1)
+    @Builtin(name = "tregex_compile", minNumOfPositionalArgs = 4, parameterNames = {"engine", "pattern", "flags", "sre_compiler"})
+    @TypeSystemReference(PythonArithmeticTypes.class)
     @GenerateNodeFactory
-    abstract static class ProcessEscapeSequences extends PythonUnaryBuiltinNode {
-
-        @Child private SequenceStorageNodes.ToByteArrayNode toByteArrayNode;
-        @Child private BytesNodes.ToBytesNode toBytesNode;
+    abstract static class TRegexCompile extends PythonQuaternaryBuiltinNode {
+        private static final String FLAG_CHARS = "iLmsxatu";
+        private static final int[] FLAG_BITS = {2, 4, 8, 16, 64, 256, 1, 32};
+        private static final int FLAG_TYPES = 4 | 32 | 256;
+        private static final int FLAG_UNICODE = 32;
 
-        @Specialization
-        Object run(PString str) {
-            return run(str.getValue());
+        @Specialization(guards = "isString(pattern)")
+        Object doString(VirtualFrame frame, Object engine, Object pattern, long flags, Object sreCompiler,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached TRegexCompileNode compileNode) {
+            String source = castToJavaStringNode.execute(pattern);
+            String tregexFlags = toTRegexFlags((int) flags);
+            Object regex = compileNode.execute(frame, engine, source, false, tregexFlags);
+            if (regex instanceof PSREPattern) {
+                return regex;
+            }
+            // like sre_parse, str patterns are Unicode patterns by default
+            int patternFlags = ((int) flags & FLAG_TYPES) == 0 ? (int) flags | FLAG_UNICODE : (int) flags;
+            return createPattern(pattern, patternFlags, false, engine, source, tregexFlags, regex, sreCompiler);
         }
 
         @Specialization
-        @TruffleBoundary(transferToInterpreterOnException = false, allowInlining = true)
-        Object run(String str) {
-            if (containsBackslash(str)) {
-                StringBuilder sb = BytesUtils.decodeEscapes(getCore(), str, true);
-                return sb.toString();
+        Object doBytes(VirtualFrame frame, Object engine, PBytes pattern, long flags, Object sreCompiler,
+                        @Cached BytesNodes.ToBytesNode toBytesNode,
+                        @Cached TRegexCompileNode compileNode) {
+            String source = decodeLatin1(toBytesNode.execute(frame, pattern));
+            String tregexFlags = toTRegexFlags((int) flags);
+            Object regex = compileNode.execute(frame, engine, source, true, tregexFlags);
+            if (regex instanceof PSREPattern) {
+                return regex;
             }
-            return str;
+            return createPattern(pattern, (int) flags, true, engine, source, tregexFlags, regex, sreCompiler);
         }
 
-        @Specialization
-        Object run(PIBytesLike str) {
-            byte[] bytes = doBytes(getToByteArrayNode().execute(str.getSequenceStorage()));
-            if (bytes != null) {
-                return factory().createByteArray(bytes);
+        @TruffleBoundary
+        private static String toTRegexFlags(int flags) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < FLAG_BITS.length; i++) {
+                if ((flags & FLAG_BITS[i]) != 0) {
+                    sb.append(FLAG_CHARS.charAt(i));
+                }
             }
-            return str;
+            return sb.toString();
         }
 
-        @Specialization
-        Object run(VirtualFrame frame, PMemoryView memoryView) {
-            byte[] bytes = doBytes(getToBytesNode().execute(frame, memoryView));
-            if (bytes != null) {
-                return factory().createByteArray(bytes);
-            }
-            return memoryView;
+        @TruffleBoundary
+        private static String decodeLatin1(byte[] bytes) {
+            return new String(bytes, StandardCharsets.ISO_8859_1);
         }
 
-        @TruffleBoundary(transferToInterpreterOnException = false, allowInlining = true)
-        private byte[] doBytes(byte[] str) {
+        /**
+         * Reads the number of groups and the group names of the compiled regex. This only happens
+         * once per pattern object, so the uncached interop library is good enough.
+         */
+        @TruffleBoundary
+        private Object createPattern(Object pattern, int flags, boolean isBytes, Object engine, String source, String tregexFlags, Object regex, Object sreCompiler) {
+            InteropLibrary lib = InteropLibrary.getFactory().getUncached();
             try {
-                StringBuilder sb = BytesUtils.decodeEscapes(getCore(), new String(str, "ascii"), true);
-                return sb.toString().getBytes("ascii");
-            } catch (UnsupportedEncodingException e) {
+                int groups = lib.asInt(lib.readMember(regex, "groupCount")) - 1;
+                Object[] indexgroup = new Object[groups + 1];
+                Arrays.fill(indexgroup, PNone.NONE);
+                Map<String, Object> groupindex = new LinkedHashMap<>();
+                Object names = lib.readMember(regex, "groups");
+                if (!lib.isNull(names)) {
+                    Object members = lib.getMembers(names);
+                    long size = lib.getArraySize(members);
+                    for (long i = 0; i < size; i++) {
+                        String name = lib.asString(lib.readArrayElement(members, i));
+                        int index = lib.asInt(lib.readMember(names, name));
+                        groupindex.put(name, index);
+                        indexgroup[index] = name;
+                    }
+                }
+                return factory().createSREPattern(pattern, flags, groups, factory().createDict(groupindex), indexgroup, isBytes, engine, source, tregexFlags, regex, sreCompiler);
+            } catch (UnsupportedMessageException | UnknownIdentifierException | InvalidArrayIndexException e) {
+                throw raise(TypeError, "%s", e);
             }
-            return null;
         }
+    }
 
-        private static boolean containsBackslash(String str) {
-            CompilerAsserts.neverPartOfCompilation();
-            for (int i = 0; i < str.length(); i++) {
-                if (str.charAt(i) == '\\') {
-                    return true;
+    /**
+     * Creates a pattern object from the code produced by {@code sre_compile}. The code is
+     * interpreted by {@link SREState}.
+     */
+    @Builtin(name = "compile", minNumOfPositionalArgs = 6, parameterNames = {"pattern", "flags", "code", "groups", "groupindex", "indexgroup"})
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class CompileNode extends PythonBuiltinNode {
+
+        @Specialization
+        Object compile(Object pattern, long flags, PList code, long groups, PDict groupindex, PTuple indexgroup,
+                        @Cached SequenceStorageNodes.ToArrayNode codeToArrayNode,
+                        @Cached SequenceStorageNodes.ToArrayNode indexgroupToArrayNode) {
+            Object[] items = codeToArrayNode.execute(code.getSequenceStorage());
+            int[] compiled = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                long value;
+                if (items[i] instanceof Integer) {
+                    value = (int) items[i];
+                } else if (items[i] instanceof Long) {
+                    value = (long) items[i];
+                } else {
+                    throw raise(OverflowError, "regular expression code size limit exceeded");
+                }
+                if (value < 0 || value > SREState.MAXREPEAT) {
+                    throw raise(OverflowError, "regular expression code size limit exceeded");
                 }
+                compiled[i] = (int) value;
             }
-            return false;
+            int isBytes = pattern == PNone.NONE ? -1 : PGuards.isString(pattern) ? 0 : 1;
+            return factory().createSREPattern(pattern, (int) flags, compiled, (int) groups, groupindex, indexgroupToArrayNode.execute(indexgroup.getSequenceStorage()), isBytes);
         }
+    }
 
-        @Fallback
-        Object run(Object o) {
-            throw raise(PythonErrorType.TypeError, "expected string, not %p", o);
+    @Builtin(name = "getcodesize")
+    @GenerateNodeFactory
+    abstract static class GetCodeSizeNode extends PythonBuiltinNode {
+        @Specialization
+        static int getcodesize() {
+            return SREState.CODESIZE;
         }
+    }
 
-        private SequenceStorageNodes.ToByteArrayNode getToByteArrayNode() {
-            if (toByteArrayNode == null) {
-                CompilerDirectives.transferToInterpreterAndInvalidate();
-                toByteArrayNode = insert(ToByteArrayNodeGen.create());
-            }
-            return toByteArrayNode;
+    @Builtin(name = "ascii_iscased", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class AsciiIsCasedNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean iscased(int ch) {
+            return ch < 128 && SREState.lowerAscii(ch) != SREState.upperAscii(ch);
         }
+    }
 
-        private BytesNodes.ToBytesNode getToBytesNode() {
-            if (toBytesNode == null) {
-                CompilerDirectives.transferToInterpreterAndInvalidate();
-                toBytesNode = insert(BytesNodes.ToBytesNode.create());
-            }
-            return toBytesNode;
+    @Builtin(name = "ascii_tolower", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class AsciiToLowerNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int tolower(int ch) {
+            return SREState.lowerAscii(ch);
         }
     }
 
-    @Builtin(name = "tregex_call_compile", minNumOfPositionalArgs = 3)
-    @TypeSystemReference(PythonArithmeticTypes.class)
+    @Builtin(name = "unicode_iscased", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
-    abstract static class TRegexCallCompile extends PythonTernaryBuiltinNode {
-
-        @Specialization(limit = "1")
-        Object call(VirtualFrame frame, Object callable, Object arg1, Object arg2,
-                        @Cached("create()") BranchProfile syntaxError,
-                        @Cached("create()") BranchProfile typeError,
-                        @CachedLibrary("callable") InteropLibrary interop,
-                        @CachedContext(PythonLanguage.class) PythonContext context) {
-            PException savedExceptionState = IndirectCallContext.enter(frame, context, this);
-            try {
-                return interop.execute(callable, arg1, arg2);
-            } catch (ArityException | UnsupportedTypeException | UnsupportedMessageException e) {
-                typeError.enter();
-                throw raise(TypeError, "%s", e);
-            } catch (RuntimeException e) {
-                if (e instanceof TruffleException && ((TruffleException) e).isSyntaxError()) {
-                    syntaxError.enter();
-                    throw raise(ValueError, "%s", e);
-                }
-                // just re-throw
-                throw e;
-            } finally {
-                IndirectCallContext.exit(frame, context, savedExceptionState);
-            }
+    abstract static class UnicodeIsCasedNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static boolean iscased(int ch) {
+            return ch != SREState.lowerUnicode(ch) || ch != SREState.upperUnicode(ch);
         }
     }
 
-    @Builtin(name = "tregex_call_exec", minNumOfPositionalArgs = 3)
-    @TypeSystemReference(PythonArithmeticTypes.class)
+    @Builtin(name = "unicode_tolower", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
-    abstract static class TRegexCallExec extends PythonTernaryBuiltinNode {
-
-        @Specialization(limit = "1")
-        Object call(VirtualFrame frame, Object callable, Object arg1, Number arg2,
-                        @Cached("create()") BranchProfile typeError,
-                        @CachedLibrary("callable") InteropLibrary interop,
-                        @CachedContext(PythonLanguage.class) PythonContext context) {
-            PException savedExceptionState = IndirectCallContext.enter(frame, context, this);
-            try {
-                return interop.execute(callable, arg1, arg2);
-            } catch (ArityException | UnsupportedTypeException | UnsupportedMessageException e) {
-                typeError.enter();
-                throw raise(TypeError, "%s", e);
-            } finally {
-                IndirectCallContext.exit(frame, context, savedExceptionState);
-            }
+    abstract static class UnicodeToLowerNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static int tolower(int ch) {
+            return SREState.lowerUnicode(ch);
         }
     }
 }
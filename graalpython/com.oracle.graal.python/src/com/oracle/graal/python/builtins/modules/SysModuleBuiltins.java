@@ -440,14 +440,14 @@ public class SysModuleBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         String doBytes(String s) {
-            return s.intern();
+            return getCore().getLanguage().getStringInterner().intern(s);
         }
 
         @Specialization
         @TruffleBoundary
         PString doBytes(PString ps) {
             String s = ps.getValue();
-            return factory().createString(s.intern());
+            return factory().createString(getCore().getLanguage().getStringInterner().intern(s));
         }
     }
 
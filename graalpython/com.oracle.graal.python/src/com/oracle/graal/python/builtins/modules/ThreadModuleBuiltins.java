@@ -64,6 +64,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonThreadPool;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Cached;
@@ -124,7 +125,7 @@ public class ThreadModuleBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         long getCount() {
-            return getContext().getThreadGroup().activeCount();
+            return getContext().getActiveThreadCount();
         }
     }
 
@@ -167,9 +168,7 @@ public class ThreadModuleBuiltins extends PythonBuiltins {
             PythonContext context = getContext();
             TruffleLanguage.Env env = context.getEnv();
 
-            // TODO: python thread stack size != java thread stack size
-            // ignore setting the stack size for the moment
-            Thread thread = env.createThread(() -> {
+            Runnable task = () -> {
                 Object[] arguments = getArgsNode.executeWith(frame, args);
                 PKeyword[] keywords = getKwArgsNode.executeWith(kwargs);
 
@@ -178,7 +177,16 @@ public class ThreadModuleBuiltins extends PythonBuiltins {
                 // which is incorrect. However, the thread-local 'topframeref' is initialized with
                 // EMPTY which will be picked up.
                 callNode.execute(null, callable, arguments, keywords);
-            }, env.getContext(), context.getThreadGroup());
+            };
+
+            PythonThreadPool threadPool = context.getThreadPool();
+            if (threadPool != null) {
+                return threadPool.execute(task);
+            }
+
+            // TODO: python thread stack size != java thread stack size
+            // ignore setting the stack size for the moment
+            Thread thread = env.createThread(task, env.getContext(), context.getThreadGroup());
 
             PThread pThread = factory().createPythonThread(cls, thread);
             pThread.start();
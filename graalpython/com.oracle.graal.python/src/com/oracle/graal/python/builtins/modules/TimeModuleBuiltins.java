@@ -421,13 +421,15 @@ public final class TimeModuleBuiltins extends PythonBuiltins {
             return new GregorianCalendar(time[0], time[1], time[2], time[3], time[4], time[5]);
         }
 
-        // This taken from JPython + some switches were corrected to provide the
-        // same result as CPython
         @TruffleBoundary
         private String format(String format, PTuple date) {
+            return strftime(format, checkStructtime(date));
+        }
 
-            int[] items = checkStructtime(date);
-
+        // This taken from JPython + some switches were corrected to provide the
+        // same result as CPython; the items are those of a checked struct_time
+        @TruffleBoundary
+        public static String strftime(String format, int[] items) {
             String s = "";
             int lastc = 0;
             int j;
@@ -40,8 +40,11 @@
  */
 package com.oracle.graal.python.builtins.modules;
 
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.KeyError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 
+import java.nio.charset.StandardCharsets;
 import java.text.Normalizer;
 import java.util.List;
 
@@ -49,11 +52,20 @@ import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.str.PString;
 import com.oracle.graal.python.builtins.objects.type.PythonBuiltinClass;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.runtime.PythonCore;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.runtime.unicode.UnicodeDatabase;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -158,6 +170,7 @@ public class UnicodeDataModuleBuiltins extends PythonBuiltins {
     public void initialize(PythonCore core) {
         super.initialize(core);
         builtinConstants.put("version", getUnicodeVersion());
+        builtinConstants.put("unidata_version", UnicodeDatabase.UNIDATA_VERSION);
         PythonBuiltinClass objectType = core.lookupType(PythonBuiltinClassType.PythonObject);
         PythonObject ucd_3_2_0 = core.factory().createPythonObject(objectType);
         ucd_3_2_0.setAttribute("unidata_version", "3.2.0");
@@ -197,4 +210,201 @@ public class UnicodeDataModuleBuiltins extends PythonBuiltins {
         }
 
     }
+
+    /**
+     * Converts the character argument of the database functions to its code point. Like the
+     * {@code C} argument format of CPython, only strings of length one are accepted.
+     */
+    abstract static class CodePointNode extends PythonBuiltinBaseNode {
+
+        public abstract int execute(Object chr, String functionName);
+
+        @Specialization(guards = "isString(chr)")
+        int doString(Object chr, String functionName,
+                        @Cached CastToJavaStringNode castToJavaStringNode) {
+            String s = castToJavaStringNode.execute(chr);
+            if (s.isEmpty() || s.offsetByCodePoints(0, 1) != s.length()) {
+                throw raise(TypeError, "%s() argument must be a unicode character, not str", functionName);
+            }
+            return s.codePointAt(0);
+        }
+
+        @Specialization(guards = "!isString(chr)")
+        int doOther(Object chr, String functionName) {
+            throw raise(TypeError, "%s() argument must be a unicode character, not %p", functionName, chr);
+        }
+
+        static CodePointNode create() {
+            return UnicodeDataModuleBuiltinsFactory.CodePointNodeGen.create();
+        }
+    }
+
+    // unicodedata.decimal(chr[, default])
+    @Builtin(name = "decimal", minNumOfPositionalArgs = 1, parameterNames = {"chr", "default"})
+    @GenerateNodeFactory
+    public abstract static class DecimalNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object decimal(Object chr, Object defaultValue,
+                        @Cached CodePointNode codePointNode) {
+            int value = UnicodeDatabase.decimal(codePointNode.execute(chr, "decimal"));
+            if (value < 0) {
+                if (PGuards.isNoValue(defaultValue)) {
+                    throw raise(ValueError, "not a decimal");
+                }
+                return defaultValue;
+            }
+            return value;
+        }
+    }
+
+    // unicodedata.digit(chr[, default])
+    @Builtin(name = "digit", minNumOfPositionalArgs = 1, parameterNames = {"chr", "default"})
+    @GenerateNodeFactory
+    public abstract static class DigitNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object digit(Object chr, Object defaultValue,
+                        @Cached CodePointNode codePointNode) {
+            int value = UnicodeDatabase.digit(codePointNode.execute(chr, "digit"));
+            if (value < 0) {
+                if (PGuards.isNoValue(defaultValue)) {
+                    throw raise(ValueError, "not a digit");
+                }
+                return defaultValue;
+            }
+            return value;
+        }
+    }
+
+    // unicodedata.numeric(chr[, default])
+    @Builtin(name = "numeric", minNumOfPositionalArgs = 1, parameterNames = {"chr", "default"})
+    @GenerateNodeFactory
+    public abstract static class NumericNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object numeric(Object chr, Object defaultValue,
+                        @Cached CodePointNode codePointNode) {
+            double value = UnicodeDatabase.numeric(codePointNode.execute(chr, "numeric"));
+            if (value == -1.0) {
+                if (PGuards.isNoValue(defaultValue)) {
+                    throw raise(ValueError, "not a numeric character");
+                }
+                return defaultValue;
+            }
+            return value;
+        }
+    }
+
+    // unicodedata.category(chr)
+    @Builtin(name = "category", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CategoryNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static String category(Object chr,
+                        @Cached CodePointNode codePointNode) {
+            return UnicodeDatabase.category(codePointNode.execute(chr, "category"));
+        }
+    }
+
+    // unicodedata.bidirectional(chr)
+    @Builtin(name = "bidirectional", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class BidirectionalNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static String bidirectional(Object chr,
+                        @Cached CodePointNode codePointNode) {
+            return UnicodeDatabase.bidirectional(codePointNode.execute(chr, "bidirectional"));
+        }
+    }
+
+    // unicodedata.combining(chr)
+    @Builtin(name = "combining", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CombiningNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int combining(Object chr,
+                        @Cached CodePointNode codePointNode) {
+            return UnicodeDatabase.combining(codePointNode.execute(chr, "combining"));
+        }
+    }
+
+    // unicodedata.mirrored(chr)
+    @Builtin(name = "mirrored", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class MirroredNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int mirrored(Object chr,
+                        @Cached CodePointNode codePointNode) {
+            return UnicodeDatabase.mirrored(codePointNode.execute(chr, "mirrored"));
+        }
+    }
+
+    // unicodedata.east_asian_width(chr)
+    @Builtin(name = "east_asian_width", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class EastAsianWidthNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static String eastAsianWidth(Object chr,
+                        @Cached CodePointNode codePointNode) {
+            return UnicodeDatabase.eastAsianWidth(codePointNode.execute(chr, "east_asian_width"));
+        }
+    }
+
+    // unicodedata.name(chr[, default])
+    @Builtin(name = "name", minNumOfPositionalArgs = 1, parameterNames = {"chr", "default"})
+    @GenerateNodeFactory
+    public abstract static class NameNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object name(Object chr, Object defaultValue,
+                        @Cached CodePointNode codePointNode) {
+            String name = UnicodeDatabase.name(codePointNode.execute(chr, "name"));
+            if (name == null) {
+                if (PGuards.isNoValue(defaultValue)) {
+                    throw raise(ValueError, "no such name");
+                }
+                return defaultValue;
+            }
+            return name;
+        }
+    }
+
+    // unicodedata.lookup(name)
+    @Builtin(name = "lookup", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class LookupNode extends PythonUnaryBuiltinNode {
+        private static final int NAME_MAXLEN = 256;
+
+        @Specialization(guards = "isString(name)")
+        String doString(Object name,
+                        @Cached CastToJavaStringNode castToJavaStringNode) {
+            return lookup(castToJavaStringNode.execute(name));
+        }
+
+        @Specialization
+        String doBytes(PIBytesLike name,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached SequenceStorageNodes.LenNode lenNode) {
+            SequenceStorage storage = name.getSequenceStorage();
+            return lookup(decodeName(getInternalByteArrayNode.execute(storage), lenNode.execute(storage)));
+        }
+
+        @Specialization(guards = {"!isString(name)", "!isBytes(name)"})
+        String doOther(Object name) {
+            throw raise(TypeError, "lookup() argument must be str, not %p", name);
+        }
+
+        private String lookup(String name) {
+            if (name.length() > NAME_MAXLEN) {
+                throw raise(KeyError, "name too long");
+            }
+            String result = UnicodeDatabase.lookup(name);
+            if (result == null) {
+                throw raise(KeyError, "undefined character name '%s'", name);
+            }
+            return result;
+        }
+
+        @TruffleBoundary
+        private static String decodeName(byte[] bytes, int length) {
+            return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+        }
+    }
 }
@@ -25,6 +25,7 @@
  */
 package com.oracle.graal.python.builtins.objects.array;
 
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.EOFError;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__ADD__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__CONTAINS__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__EQ__;
@@ -40,8 +41,11 @@ import static com.oracle.graal.python.nodes.SpecialMethodNames.__NE__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__REPR__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__RMUL__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__STR__;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.IndexError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.MemoryError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 
-import java.util.Arrays;
 import java.util.List;
 
 import com.oracle.graal.python.builtins.Builtin;
@@ -50,19 +54,31 @@ import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.array.ArrayBuiltinsFactory.ArrayNoGeneralizationNodeGen;
+import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
 import com.oracle.graal.python.builtins.objects.common.IndexNodes.NormalizeIndexNode;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GenNodeSupplier;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GeneralizationNode;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.builtins.objects.slice.PSlice;
+import com.oracle.graal.python.builtins.objects.slice.PSlice.SliceInfo;
 import com.oracle.graal.python.nodes.SpecialMethodNames;
+import com.oracle.graal.python.nodes.call.special.LookupAndCallBinaryNode;
+import com.oracle.graal.python.nodes.call.special.LookupAndCallUnaryNode;
+import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
+import com.oracle.graal.python.nodes.expression.CastToBooleanNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.util.CastToIndexNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.sequence.storage.BasicSequenceStorage;
-import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
@@ -75,6 +91,8 @@ import com.oracle.truffle.api.dsl.GenerateUncached;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
 
 @CoreFunctions(extendClasses = PythonBuiltinClassType.PArray)
 public class ArrayBuiltins extends PythonBuiltins {
@@ -90,7 +108,10 @@ public class ArrayBuiltins extends PythonBuiltins {
         @Specialization
         PArray doPArray(PArray left, PArray right,
                         @Cached("create()") SequenceStorageNodes.ConcatNode concatNode) {
-            return factory().createArray(concatNode.execute(left.getSequenceStorage(), right.getSequenceStorage()));
+            if (left.getFormat() != right.getFormat()) {
+                throw raise(TypeError, "bad argument type for built-in operation");
+            }
+            return factory().createArray(left.getFormat(), concatNode.execute(left.getSequenceStorage(), right.getSequenceStorage()));
         }
     }
 
@@ -100,7 +121,7 @@ public class ArrayBuiltins extends PythonBuiltins {
         @Specialization
         PArray mul(VirtualFrame frame, PArray self, Object times,
                         @Cached("create()") SequenceStorageNodes.RepeatNode repeatNode) {
-            return factory().createArray(repeatNode.execute(frame, self.getSequenceStorage(), times));
+            return factory().createArray(self.getFormat(), repeatNode.execute(frame, self.getSequenceStorage(), times));
         }
     }
 
@@ -112,98 +133,189 @@ public class ArrayBuiltins extends PythonBuiltins {
     @Builtin(name = __CONTAINS__, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
     abstract static class ContainsNode extends PythonBinaryBuiltinNode {
-        @Specialization
+        @Specialization(guards = "!containsValues(self)")
         boolean contains(VirtualFrame frame, PArray self, Object other,
                         @Cached("create()") SequenceStorageNodes.ContainsNode containsNode) {
             return containsNode.execute(frame, self.getSequenceStorage(), other);
         }
+
+        @Specialization(guards = "containsValues(self)")
+        boolean containsValue(VirtualFrame frame, PArray self, Object other,
+                        @Cached ArrayNodes.GetValueNode getValueNode,
+                        @Cached("create(__EQ__, __EQ__, __EQ__)") BinaryComparisonNode eqNode,
+                        @Cached("createIfTrueNode()") CastToBooleanNode castToBooleanNode) {
+            SequenceStorage storage = self.getSequenceStorage();
+            for (int i = 0; i < storage.length(); i++) {
+                if (castToBooleanNode.executeBoolean(frame, eqNode.executeWith(frame, getValueNode.execute(self.getFormat(), storage, i), other))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * The stored values of unicode and unsigned 64-bit arrays are not their items, so they
+         * cannot be searched for directly.
+         */
+        protected static boolean containsValues(PArray self) {
+            return self.getFormat().isUnicode() || self.getFormat().isUnsigned64();
+        }
+    }
+
+    abstract static class ArrayCmpNode extends PythonBinaryBuiltinNode {
+        protected static boolean needsValues(PArray left, PArray right) {
+            return ArrayNodes.CompareValuesNode.needsValues(left, right);
+        }
     }
 
     @Builtin(name = __LT__, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
-    abstract static class LtNode extends PythonBinaryBuiltinNode {
-        @Specialization
+    abstract static class LtNode extends ArrayCmpNode {
+        @Specialization(guards = "!needsValues(left, right)")
         boolean lessThan(VirtualFrame frame, PArray left, PArray right,
                         @Cached("createLt()") SequenceStorageNodes.CmpNode eqNode) {
             return eqNode.execute(frame, left.getSequenceStorage(), right.getSequenceStorage());
         }
+
+        @Specialization(guards = "needsValues(left, right)")
+        boolean lessThanValues(VirtualFrame frame, PArray left, PArray right,
+                        @Cached("createLt()") ArrayNodes.CompareValuesNode cmpNode) {
+            return cmpNode.execute(frame, left, right);
+        }
     }
 
     @Builtin(name = __LE__, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
-    abstract static class LeNode extends PythonBinaryBuiltinNode {
-        @Specialization
+    abstract static class LeNode extends ArrayCmpNode {
+        @Specialization(guards = "!needsValues(left, right)")
         boolean lessThan(VirtualFrame frame, PArray left, PArray right,
                         @Cached("createLe()") SequenceStorageNodes.CmpNode eqNode) {
             return eqNode.execute(frame, left.getSequenceStorage(), right.getSequenceStorage());
         }
+
+        @Specialization(guards = "needsValues(left, right)")
+        boolean lessThanValues(VirtualFrame frame, PArray left, PArray right,
+                        @Cached("createLe()") ArrayNodes.CompareValuesNode cmpNode) {
+            return cmpNode.execute(frame, left, right);
+        }
     }
 
     @Builtin(name = __GT__, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
-    abstract static class GtNode extends PythonBinaryBuiltinNode {
-        @Specialization
+    abstract static class GtNode extends ArrayCmpNode {
+        @Specialization(guards = "!needsValues(left, right)")
         boolean lessThan(VirtualFrame frame, PArray left, PArray right,
                         @Cached("createGt()") SequenceStorageNodes.CmpNode eqNode) {
             return eqNode.execute(frame, left.getSequenceStorage(), right.getSequenceStorage());
         }
+
+        @Specialization(guards = "needsValues(left, right)")
+        boolean lessThanValues(VirtualFrame frame, PArray left, PArray right,
+                        @Cached("createGt()") ArrayNodes.CompareValuesNode cmpNode) {
+            return cmpNode.execute(frame, left, right);
+        }
     }
 
     @Builtin(name = __GE__, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
-    abstract static class GeNode extends PythonBinaryBuiltinNode {
-        @Specialization
+    abstract static class GeNode extends ArrayCmpNode {
+        @Specialization(guards = "!needsValues(left, right)")
         boolean lessThan(VirtualFrame frame, PArray left, PArray right,
                         @Cached("createGe()") SequenceStorageNodes.CmpNode eqNode) {
             return eqNode.execute(frame, left.getSequenceStorage(), right.getSequenceStorage());
         }
+
+        @Specialization(guards = "needsValues(left, right)")
+        boolean lessThanValues(VirtualFrame frame, PArray left, PArray right,
+                        @Cached("createGe()") ArrayNodes.CompareValuesNode cmpNode) {
+            return cmpNode.execute(frame, left, right);
+        }
     }
 
     @Builtin(name = __NE__, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
-    abstract static class NeNode extends PythonBinaryBuiltinNode {
-        @Specialization
+    abstract static class NeNode extends ArrayCmpNode {
+        @Specialization(guards = "!needsValues(left, right)")
         boolean lessThan(VirtualFrame frame, PArray left, PArray right,
                         @Cached("createEq()") SequenceStorageNodes.CmpNode eqNode) {
             return !eqNode.execute(frame, left.getSequenceStorage(), right.getSequenceStorage());
         }
+
+        @Specialization(guards = "needsValues(left, right)")
+        boolean lessThanValues(VirtualFrame frame, PArray left, PArray right,
+                        @Cached("createNe()") ArrayNodes.CompareValuesNode cmpNode) {
+            return cmpNode.execute(frame, left, right);
+        }
     }
 
     @Builtin(name = __EQ__, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
-    abstract static class EqNode extends PythonBinaryBuiltinNode {
+    abstract static class EqNode extends ArrayCmpNode {
 
         protected abstract boolean executeWith(VirtualFrame frame, Object left, Object right);
 
-        @Specialization
+        @Specialization(guards = "!needsValues(left, right)")
         boolean eq(VirtualFrame frame, PArray left, PArray right,
                         @Cached("createEq()") SequenceStorageNodes.CmpNode eqNode) {
             return eqNode.execute(frame, left.getSequenceStorage(), right.getSequenceStorage());
         }
+
+        @Specialization(guards = "needsValues(left, right)")
+        boolean eqValues(VirtualFrame frame, PArray left, PArray right,
+                        @Cached("createEq()") ArrayNodes.CompareValuesNode cmpNode) {
+            return cmpNode.execute(frame, left, right);
+        }
     }
 
     @Builtin(name = __STR__, minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     abstract static class StrNode extends PythonUnaryBuiltinNode {
         @Specialization
-        @TruffleBoundary
-        String str(PArray self) {
-            // TODO: this needs to be enhanced, but it is slow path and not critical for now
-            // mostly cosmetic
-            String typeCode = "?";
-            String array = "?";
-            SequenceStorage sequenceStorage = self.getSequenceStorage();
-            if (sequenceStorage instanceof IntSequenceStorage) {
-                typeCode = "i";
-                array = Arrays.toString(((IntSequenceStorage) sequenceStorage).getInternalIntArray());
-            } else if (sequenceStorage instanceof ByteSequenceStorage) {
-                typeCode = "b";
-                array = Arrays.toString(((ByteSequenceStorage) sequenceStorage).getInternalByteArray());
-            } else if (sequenceStorage instanceof DoubleSequenceStorage) {
-                typeCode = "d";
-                array = Arrays.toString(((DoubleSequenceStorage) sequenceStorage).getInternalDoubleArray());
+        Object str(VirtualFrame frame, PArray self,
+                        @Cached("create(__REPR__)") LookupAndCallUnaryNode reprNode,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached ArrayNodes.GetValueNode getValueNode) {
+            ArrayFormat format = self.getFormat();
+            SequenceStorage storage = self.getSequenceStorage();
+            int length = storage.length();
+            StringBuilder result = new StringBuilder();
+            sbAppend(result, "array('");
+            sbAppend(result, format.getTypeCodeString());
+            sbAppend(result, "'");
+            if (length > 0) {
+                sbAppend(result, ", ");
+                if (format.isUnicode()) {
+                    sbAppend(result, castToJavaStringNode.execute(reprNode.executeObject(frame, toUnicode(storage))));
+                } else {
+                    sbAppend(result, "[");
+                    for (int i = 0; i < length; i++) {
+                        if (i > 0) {
+                            sbAppend(result, ", ");
+                        }
+                        sbAppend(result, castToJavaStringNode.execute(reprNode.executeObject(frame, getValueNode.execute(format, storage, i))));
+                    }
+                    sbAppend(result, "]");
+                }
             }
-            return String.format("array('%s', %s)", typeCode, array);
+            return toString(sbAppend(result, ")"));
+        }
+
+        private String toUnicode(SequenceStorage storage) {
+            String unicode = ToUnicodeNode.fromCodePoints(storage);
+            if (unicode == null) {
+                throw raise(ValueError, "character out of range");
+            }
+            return unicode;
+        }
+
+        @TruffleBoundary(allowInlining = true)
+        private static String toString(StringBuilder sb) {
+            return sb.toString();
+        }
+
+        @TruffleBoundary(allowInlining = true)
+        private static StringBuilder sbAppend(StringBuilder sb, String s) {
+            return sb.append(s);
         }
     }
 
@@ -216,10 +328,22 @@ public class ArrayBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class GetItemNode extends PythonBinaryBuiltinNode {
 
-        @Specialization
+        @Specialization(guards = "!isPSlice(idx)")
         Object getitem(VirtualFrame frame, PArray self, Object idx,
-                        @Cached("createGetItem()") SequenceStorageNodes.GetItemNode getItemNode) {
-            return getItemNode.execute(frame, self.getSequenceStorage(), idx);
+                        @Cached("createCastToIndex()") CastToIndexNode castToIndexNode,
+                        @Cached("createNormalizeIndex()") NormalizeIndexNode normalizeIndexNode,
+                        @Cached ArrayNodes.GetValueNode getValueNode) {
+            SequenceStorage storage = self.getSequenceStorage();
+            int index = normalizeIndexNode.execute(castToIndexNode.execute(frame, idx), storage.length());
+            return getValueNode.execute(self.getFormat(), storage, index);
+        }
+
+        @Specialization
+        PArray getslice(PArray self, PSlice slice,
+                        @Cached SequenceStorageNodes.GetItemSliceNode getItemSliceNode) {
+            SequenceStorage storage = self.getSequenceStorage();
+            SliceInfo info = slice.computeIndices(storage.length());
+            return factory().createArray(self.getFormat(), getItemSliceNode.execute(storage, info.start, info.stop, info.step, info.length));
         }
 
         @Fallback
@@ -227,8 +351,14 @@ public class ArrayBuiltins extends PythonBuiltins {
             throw raise(PythonErrorType.TypeError, "descriptor '__getitem__' requires a 'array.array' object but received a '%p'", self);
         }
 
-        protected static SequenceStorageNodes.GetItemNode createGetItem() {
-            return SequenceStorageNodes.GetItemNode.create(NormalizeIndexNode.forArray());
+        protected CastToIndexNode createCastToIndex() {
+            return CastToIndexNode.create(IndexError, val -> {
+                throw raise(TypeError, "array indices must be integers");
+            });
+        }
+
+        protected static NormalizeIndexNode createNormalizeIndex() {
+            return NormalizeIndexNode.forArray();
         }
     }
 
@@ -236,21 +366,51 @@ public class ArrayBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class SetItemNode extends PythonTernaryBuiltinNode {
 
+        @Specialization(guards = "!isPSlice(idx)")
+        PNone setitem(VirtualFrame frame, PArray self, Object idx, Object value,
+                        @Cached("createCastToIndex()") CastToIndexNode castToIndexNode,
+                        @Cached("createNormalizeIndex()") NormalizeIndexNode normalizeIndexNode,
+                        @Cached ArrayNodes.PackValueNode packValueNode,
+                        @Cached ArrayNodes.SetValueNode setValueNode) {
+            SequenceStorage storage = self.getSequenceStorage();
+            int index = normalizeIndexNode.execute(castToIndexNode.execute(frame, idx), storage.length());
+            setValueNode.execute(storage, index, packValueNode.execute(frame, self.getFormat(), value));
+            return PNone.NONE;
+        }
+
         @Specialization
-        PNone getitem(VirtualFrame frame, PArray self, Object key, Object value,
-                        @Cached("createSetItem()") SequenceStorageNodes.SetItemNode setItemNode) {
-            setItemNode.execute(frame, self.getSequenceStorage(), key, value);
+        PNone setslice(PArray self, PSlice slice, PArray value,
+                        @Cached SequenceStorageNodes.SetItemSliceNode setItemSliceNode) {
+            if (self.getFormat() != value.getFormat()) {
+                throw raise(TypeError, "bad argument type for built-in operation");
+            }
+            SequenceStorage storage = self.getSequenceStorage();
+            setItemSliceNode.execute(storage, slice.computeIndices(storage.length()), value);
             return PNone.NONE;
         }
 
+        @Specialization(guards = "!isArray(value)")
+        PNone setsliceError(@SuppressWarnings("unused") PArray self, @SuppressWarnings("unused") PSlice slice, Object value) {
+            throw raise(TypeError, "can only assign array (not \"%p\") to array slice", value);
+        }
+
         @Fallback
         Object doGeneric(Object self, @SuppressWarnings("unused") Object key, @SuppressWarnings("unused") Object value) {
             throw raise(PythonErrorType.TypeError, "descriptor '__setitem__' requires a 'array.array' object but received a '%p'", self);
         }
 
-        protected static SequenceStorageNodes.SetItemNode createSetItem() {
-            // TODO correct error message depending on array's element type
-            return SequenceStorageNodes.SetItemNode.create(NormalizeIndexNode.forArrayAssign(), "invalid item for assignment");
+        protected CastToIndexNode createCastToIndex() {
+            return CastToIndexNode.create(IndexError, val -> {
+                throw raise(TypeError, "array indices must be integers");
+            });
+        }
+
+        protected static NormalizeIndexNode createNormalizeIndex() {
+            return NormalizeIndexNode.forArrayAssign();
+        }
+
+        protected static boolean isArray(Object value) {
+            return value instanceof PArray;
         }
     }
 
@@ -264,16 +424,23 @@ public class ArrayBuiltins extends PythonBuiltins {
         }
     }
 
-    @Builtin(name = "itemsize", minNumOfPositionalArgs = 1)
+    @Builtin(name = "itemsize", minNumOfPositionalArgs = 1, isGetter = true)
     @GenerateNodeFactory
     abstract static class ItemSizeNode extends PythonUnaryBuiltinNode {
 
         @Specialization
-        Object getItemSize(PArray self) {
-            if (self.getSequenceStorage().getElementType() == SequenceStorage.ListStorageType.Int) {
-                return factory().createInt(4);
-            }
-            return factory().createInt(2);
+        static int getItemSize(PArray self) {
+            return self.getFormat().getItemSize();
+        }
+    }
+
+    @Builtin(name = "typecode", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class TypeCodeNode extends PythonUnaryBuiltinNode {
+
+        @Specialization
+        static String getTypeCode(PArray self) {
+            return self.getFormat().getTypeCodeString();
         }
     }
 
@@ -335,7 +502,7 @@ public class ArrayBuiltins extends PythonBuiltins {
 
         @Override
         protected String getErrorMessage() {
-            return "signed short integer is greater than maximum";
+            return "bad argument type for built-in operation";
         }
     }
 
@@ -343,11 +510,221 @@ public class ArrayBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class ArrayAppendNode extends PythonBinaryBuiltinNode {
         @Specialization
-        PArray append(PArray array, Object arg,
-                        @Cached SequenceStorageNodes.AppendNode appendNode) {
-            appendNode.execute(array.getSequenceStorage(), arg, ArrayNoGeneralizationNode.SUPPLIER);
-            return array;
+        static PNone append(VirtualFrame frame, PArray array, Object arg,
+                        @Cached ArrayNodes.PackValueNode packValueNode,
+                        @Cached ArrayNodes.AppendValueNode appendValueNode) {
+            appendValueNode.execute(array.getSequenceStorage(), packValueNode.execute(frame, array.getFormat(), arg));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "extend", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class ExtendNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        PNone extendArray(VirtualFrame frame, PArray self, PArray other,
+                        @Cached("create(getSupplier())") SequenceStorageNodes.ExtendNode extendNode) {
+            if (self.getFormat() != other.getFormat()) {
+                throw raise(TypeError, "can only extend with array of same kind");
+            }
+            self.setSequenceStorage(extendNode.execute(frame, self.getSequenceStorage(), other));
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "!isArray(iterable)")
+        static PNone extend(VirtualFrame frame, PArray self, Object iterable,
+                        @Cached ArrayNodes.ExtendFromIterableNode extendNode) {
+            extendNode.execute(frame, self, iterable);
+            return PNone.NONE;
+        }
+
+        protected static boolean isArray(Object value) {
+            return value instanceof PArray;
+        }
+
+        protected static GenNodeSupplier getSupplier() {
+            return ArrayNoGeneralizationNode.SUPPLIER;
         }
     }
 
+    @Builtin(name = "tolist", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ToListNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        PList tolist(PArray self,
+                        @Cached ArrayNodes.GetValueNode getValueNode) {
+            ArrayFormat format = self.getFormat();
+            SequenceStorage storage = self.getSequenceStorage();
+            Object[] values = new Object[storage.length()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getValueNode.execute(format, storage, i);
+            }
+            return factory().createList(values);
+        }
+    }
+
+    @Builtin(name = "fromlist", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class FromListNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PNone fromlist(VirtualFrame frame, PArray self, PList list,
+                        @Cached ArrayNodes.ExtendFromIterableNode extendNode) {
+            SequenceStorage storage = self.getSequenceStorage();
+            int length = storage.length();
+            try {
+                extendNode.execute(frame, self, list);
+            } catch (PException e) {
+                // the list is appended atomically
+                storage.setNewLength(length);
+                throw e;
+            }
+            return PNone.NONE;
+        }
+
+        @Fallback
+        Object doError(@SuppressWarnings("unused") Object self, @SuppressWarnings("unused") Object list) {
+            throw raise(TypeError, "arg must be list");
+        }
+    }
+
+    @Builtin(name = "frombytes", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class FromBytesNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PNone frombytes(PArray self, PIBytesLike bytes,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached ArrayNodes.FromBytesNode fromBytesNode) {
+            SequenceStorage bytesStorage = bytes.getSequenceStorage();
+            fromBytesNode.execute(self, getInternalByteArrayNode.execute(bytesStorage), bytesStorage.length());
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = {"!isBytes(buffer)", "!isString(buffer)", "lib.isBuffer(buffer)"}, limit = "3")
+        PNone frombuffer(PArray self, Object buffer,
+                        @CachedLibrary("buffer") PythonObjectLibrary lib,
+                        @Cached ArrayNodes.FromBytesNode fromBytesNode) {
+            byte[] bytes;
+            try {
+                bytes = lib.getBufferBytes(buffer);
+            } catch (UnsupportedMessageException e) {
+                throw raise(TypeError, "a bytes-like object is required, not '%p'", buffer);
+            }
+            fromBytesNode.execute(self, bytes, bytes.length);
+            return PNone.NONE;
+        }
+
+        @Fallback
+        Object doError(@SuppressWarnings("unused") Object self, Object buffer) {
+            throw raise(TypeError, "a bytes-like object is required, not '%p'", buffer);
+        }
+    }
+
+    @Builtin(name = "tobytes", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ToBytesNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        PBytes tobytes(PArray self,
+                        @Cached ArrayNodes.ToBytesNode toBytesNode) {
+            return factory().createBytes(toBytesNode.execute(self));
+        }
+    }
+
+    /**
+     * Reads {@code n} items of machine values from a file object with a single {@code read} call.
+     */
+    @Builtin(name = "fromfile", minNumOfPositionalArgs = 3)
+    @GenerateNodeFactory
+    abstract static class FromFileNode extends PythonTernaryBuiltinNode {
+        @Child private LookupAndCallBinaryNode readNode = LookupAndCallBinaryNode.create("read");
+
+        @Specialization
+        PNone fromfile(VirtualFrame frame, PArray self, Object file, Object n,
+                        @Cached CastToIndexNode castToIndexNode,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached ArrayNodes.FromBytesNode fromBytesNode) {
+            int count = castToIndexNode.execute(frame, n);
+            if (count < 0) {
+                throw raise(ValueError, "negative count");
+            }
+            int nbytes;
+            try {
+                nbytes = Math.multiplyExact(count, self.getFormat().getItemSize());
+            } catch (ArithmeticException e) {
+                throw raise(MemoryError);
+            }
+            Object result = readNode.executeObject(frame, file, nbytes);
+            if (!(result instanceof PBytes)) {
+                throw raise(TypeError, "read() didn't return bytes");
+            }
+            SequenceStorage bytesStorage = ((PBytes) result).getSequenceStorage();
+            int length = bytesStorage.length();
+            fromBytesNode.execute(self, getInternalByteArrayNode.execute(bytesStorage), length);
+            if (length != nbytes) {
+                throw raise(EOFError, "read() didn't return enough bytes");
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "tofile", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class ToFileNode extends PythonBinaryBuiltinNode {
+        @Child private LookupAndCallBinaryNode writeNode = LookupAndCallBinaryNode.create("write");
+
+        @Specialization
+        PNone tofile(VirtualFrame frame, PArray self, Object file,
+                        @Cached ArrayNodes.ToBytesNode toBytesNode) {
+            writeNode.executeObject(frame, file, factory().createBytes(toBytesNode.execute(self)));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "tounicode", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ToUnicodeNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        String tounicode(PArray self) {
+            if (!self.getFormat().isUnicode()) {
+                throw raise(ValueError, "tounicode() may only be called on unicode type arrays");
+            }
+            String unicode = fromCodePoints(self.getSequenceStorage());
+            if (unicode == null) {
+                throw raise(ValueError, "character out of range");
+            }
+            return unicode;
+        }
+
+        /**
+         * Builds a string from the code points of a unicode array, or returns {@code null} if one
+         * of them is invalid.
+         */
+        @TruffleBoundary
+        static String fromCodePoints(SequenceStorage storage) {
+            try {
+                return new String(((IntSequenceStorage) storage).getInternalIntArray(), 0, storage.length());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    @Builtin(name = "fromunicode", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class FromUnicodeNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isString(str)")
+        PNone fromunicode(VirtualFrame frame, PArray self, Object str,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached ArrayNodes.ExtendFromIterableNode extendNode) {
+            if (!self.getFormat().isUnicode()) {
+                throw raise(ValueError, "fromunicode() may only be called on unicode type arrays");
+            }
+            extendNode.execute(frame, self, castToJavaStringNode.execute(str));
+            return PNone.NONE;
+        }
+
+        @Fallback
+        Object doError(@SuppressWarnings("unused") Object self, Object str) {
+            throw raise(TypeError, "fromunicode() argument must be str, not %p", str);
+        }
+    }
 }
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.array;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import com.oracle.graal.python.runtime.sequence.storage.BasicSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.FloatSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorageFactory;
+import com.oracle.graal.python.runtime.sequence.storage.ShortSequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * The element format of an {@link PArray}, identified by its type code. Each format is backed by a
+ * primitive sequence storage wide enough to hold all of its values; unsigned 64-bit values are
+ * kept as their raw two's complement bits. The in-memory representation exposed through
+ * {@code tobytes} and the buffer protocol uses the item size and the native byte order of the
+ * corresponding C type, as in CPython.
+ */
+public enum ArrayFormat {
+    SIGNED_CHAR('b', 1, ListStorageType.Int, Byte.MIN_VALUE, Byte.MAX_VALUE, "signed char is greater than maximum", "signed char is less than minimum", ArrayFormat.C_LONG_OVERFLOW,
+                    ArrayFormat.C_LONG_OVERFLOW),
+    UNSIGNED_CHAR('B', 1, ListStorageType.Byte, 0, 0xFF, "unsigned byte integer is greater than maximum", "unsigned byte integer is less than minimum", ArrayFormat.C_LONG_OVERFLOW,
+                    ArrayFormat.C_LONG_OVERFLOW),
+    UNICODE('u', 4, ListStorageType.Int, 0, Character.MAX_CODE_POINT, null, null, null, null),
+    SIGNED_SHORT('h', 2, ListStorageType.Short, Short.MIN_VALUE, Short.MAX_VALUE, "signed short integer is greater than maximum", "signed short integer is less than minimum",
+                    ArrayFormat.C_LONG_OVERFLOW, ArrayFormat.C_LONG_OVERFLOW),
+    UNSIGNED_SHORT('H', 2, ListStorageType.Int, 0, 0xFFFF, "unsigned short is greater than maximum", "unsigned short is less than minimum", ArrayFormat.C_LONG_OVERFLOW,
+                    ArrayFormat.C_LONG_OVERFLOW),
+    SIGNED_INT('i', 4, ListStorageType.Int, Integer.MIN_VALUE, Integer.MAX_VALUE, "signed integer is greater than maximum", "signed integer is less than minimum", ArrayFormat.C_LONG_OVERFLOW,
+                    ArrayFormat.C_LONG_OVERFLOW),
+    UNSIGNED_INT('I', 4, ListStorageType.Long, 0, 0xFFFFFFFFL, "unsigned int is greater than maximum", ArrayFormat.NEGATIVE_TO_UNSIGNED_INT, ArrayFormat.C_UNSIGNED_LONG_OVERFLOW,
+                    ArrayFormat.NEGATIVE_TO_UNSIGNED_INT),
+    SIGNED_LONG('l', 8, ListStorageType.Long, Long.MIN_VALUE, Long.MAX_VALUE, null, null, ArrayFormat.C_LONG_OVERFLOW, ArrayFormat.C_LONG_OVERFLOW),
+    UNSIGNED_LONG('L', 8, ListStorageType.Long, 0, Long.MAX_VALUE, null, ArrayFormat.NEGATIVE_TO_UNSIGNED_INT, ArrayFormat.C_UNSIGNED_LONG_OVERFLOW, ArrayFormat.NEGATIVE_TO_UNSIGNED_INT),
+    SIGNED_LONG_LONG('q', 8, ListStorageType.Long, Long.MIN_VALUE, Long.MAX_VALUE, null, null, ArrayFormat.INT_TOO_BIG, ArrayFormat.INT_TOO_BIG),
+    UNSIGNED_LONG_LONG('Q', 8, ListStorageType.Long, 0, Long.MAX_VALUE, null, ArrayFormat.NEGATIVE_TO_UNSIGNED, ArrayFormat.INT_TOO_BIG, ArrayFormat.NEGATIVE_TO_UNSIGNED),
+    FLOAT('f', 4, ListStorageType.Float, 0, 0, null, null, null, null),
+    DOUBLE('d', 8, ListStorageType.Double, 0, 0, null, null, null, null);
+
+    public static final String BAD_TYPECODE = "bad typecode (must be b, B, u, h, H, i, I, l, L, q, Q, f or d)";
+
+    private static final String C_LONG_OVERFLOW = "Python int too large to convert to C long";
+    private static final String C_UNSIGNED_LONG_OVERFLOW = "Python int too large to convert to C unsigned long";
+    private static final String INT_TOO_BIG = "int too big to convert";
+    private static final String NEGATIVE_TO_UNSIGNED_INT = "can't convert negative value to unsigned int";
+    private static final String NEGATIVE_TO_UNSIGNED = "can't convert negative int to unsigned";
+
+    private static final BigInteger UNSIGNED_64_MAX = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    private final char typeCode;
+    private final int itemSize;
+    private final ListStorageType storageType;
+    private final long min;
+    private final long max;
+    private final String greaterThanMaxMessage;
+    private final String lessThanMinMessage;
+    private final String bigPositiveMessage;
+    private final String bigNegativeMessage;
+
+    ArrayFormat(char typeCode, int itemSize, ListStorageType storageType, long min, long max, String greaterThanMaxMessage, String lessThanMinMessage, String bigPositiveMessage,
+                    String bigNegativeMessage) {
+        this.typeCode = typeCode;
+        this.itemSize = itemSize;
+        this.storageType = storageType;
+        this.min = min;
+        this.max = max;
+        this.greaterThanMaxMessage = greaterThanMaxMessage;
+        this.lessThanMinMessage = lessThanMinMessage;
+        this.bigPositiveMessage = bigPositiveMessage;
+        this.bigNegativeMessage = bigNegativeMessage;
+    }
+
+    /**
+     * Returns the format for {@code typeCode} or {@code null} if it is not a valid type code.
+     */
+    public static ArrayFormat fromTypeCode(String typeCode) {
+        if (typeCode.length() != 1) {
+            return null;
+        }
+        switch (typeCode.charAt(0)) {
+            case 'b':
+                return SIGNED_CHAR;
+            case 'B':
+                return UNSIGNED_CHAR;
+            case 'u':
+                return UNICODE;
+            case 'h':
+                return SIGNED_SHORT;
+            case 'H':
+                return UNSIGNED_SHORT;
+            case 'i':
+                return SIGNED_INT;
+            case 'I':
+                return UNSIGNED_INT;
+            case 'l':
+                return SIGNED_LONG;
+            case 'L':
+                return UNSIGNED_LONG;
+            case 'q':
+                return SIGNED_LONG_LONG;
+            case 'Q':
+                return UNSIGNED_LONG_LONG;
+            case 'f':
+                return FLOAT;
+            case 'd':
+                return DOUBLE;
+            default:
+                return null;
+        }
+    }
+
+    public char getTypeCode() {
+        return typeCode;
+    }
+
+    public String getTypeCodeString() {
+        return String.valueOf(typeCode);
+    }
+
+    public int getItemSize() {
+        return itemSize;
+    }
+
+    /**
+     * The element type of the primitive storage this format is kept in. Unsigned formats use the
+     * next wider signed type, except for {@code 'B'} (byte storage, which is unsigned) and the
+     * 64-bit formats (raw bits).
+     */
+    public ListStorageType getStorageType() {
+        return storageType;
+    }
+
+    public boolean isUnicode() {
+        return this == UNICODE;
+    }
+
+    public boolean isFloatingPoint() {
+        return storageType == ListStorageType.Float || storageType == ListStorageType.Double;
+    }
+
+    public boolean isInteger() {
+        return this != UNICODE && !isFloatingPoint();
+    }
+
+    /**
+     * Whether values of this format may exceed {@link Long#MAX_VALUE} and are therefore stored as
+     * raw bits.
+     */
+    public boolean isUnsigned64() {
+        return this == UNSIGNED_LONG || this == UNSIGNED_LONG_LONG;
+    }
+
+    public boolean inRange(long value) {
+        return min <= value && value <= max;
+    }
+
+    /**
+     * The message of the {@code OverflowError} raised for a value that fits into a Java
+     * {@code long} but not into this format.
+     */
+    public String getOverflowMessage(long value) {
+        assert !inRange(value);
+        return value < 0 ? lessThanMinMessage : greaterThanMaxMessage;
+    }
+
+    /**
+     * Converts an in-range integer to the boxed primitive kept in this format's storage.
+     */
+    public Object box(long value) {
+        assert inRange(value) || isUnsigned64();
+        switch (storageType) {
+            case Byte:
+                return (byte) value;
+            case Short:
+                return (short) value;
+            case Int:
+                return (int) value;
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Converts the boxed value of a float format to the value kept in the storage, rounding it to
+     * single precision for {@code 'f'}.
+     */
+    public double roundFloat(double value) {
+        return this == FLOAT ? (float) value : value;
+    }
+
+    /**
+     * Converts an integer that does not fit into a Java {@code long} to the raw bits of an unsigned
+     * 64-bit format. Returns {@code null} if the value is out of range.
+     */
+    @TruffleBoundary
+    public Long unsignedBits(BigInteger value) {
+        if (isUnsigned64() && value.signum() >= 0 && value.compareTo(UNSIGNED_64_MAX) <= 0) {
+            return value.longValue();
+        }
+        return null;
+    }
+
+    /**
+     * The message of the {@code OverflowError} raised for a value that does not fit into a Java
+     * {@code long}.
+     */
+    @TruffleBoundary
+    public String getBigOverflowMessage(BigInteger value) {
+        return value.signum() < 0 ? bigNegativeMessage : bigPositiveMessage;
+    }
+
+    /**
+     * Creates an empty storage for this format with the given initial capacity.
+     */
+    public BasicSequenceStorage createStorage(int capacity) {
+        return SequenceStorageFactory.createStorage(storageType, capacity);
+    }
+
+    /**
+     * Decodes {@code length} bytes of machine values starting at {@code offset} and appends them
+     * to {@code storage}. The length must be a multiple of the item size. All element types are
+     * transferred in bulk through a {@link ByteBuffer} view in native byte order.
+     */
+    @TruffleBoundary
+    public void decode(BasicSequenceStorage storage, byte[] bytes, int offset, int length) throws ArithmeticException {
+        assert length % itemSize == 0;
+        int n = length / itemSize;
+        int oldLength = storage.length();
+        storage.ensureCapacity(Math.addExact(oldLength, n));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length).slice().order(ByteOrder.nativeOrder());
+        switch (this) {
+            case UNSIGNED_CHAR:
+                System.arraycopy(bytes, offset, ((ByteSequenceStorage) storage).getInternalByteArray(), oldLength, n);
+                break;
+            case SIGNED_CHAR: {
+                int[] dest = ((IntSequenceStorage) storage).getInternalIntArray();
+                for (int i = 0; i < n; i++) {
+                    dest[oldLength + i] = bytes[offset + i];
+                }
+                break;
+            }
+            case SIGNED_SHORT:
+                buffer.asShortBuffer().get(((ShortSequenceStorage) storage).getInternalShortArray(), oldLength, n);
+                break;
+            case UNSIGNED_SHORT: {
+                int[] dest = ((IntSequenceStorage) storage).getInternalIntArray();
+                ShortBuffer src = buffer.asShortBuffer();
+                for (int i = 0; i < n; i++) {
+                    dest[oldLength + i] = src.get(i) & 0xFFFF;
+                }
+                break;
+            }
+            case UNICODE:
+            case SIGNED_INT:
+                buffer.asIntBuffer().get(((IntSequenceStorage) storage).getInternalIntArray(), oldLength, n);
+                break;
+            case UNSIGNED_INT: {
+                long[] dest = ((LongSequenceStorage) storage).getInternalLongArray();
+                IntBuffer src = buffer.asIntBuffer();
+                for (int i = 0; i < n; i++) {
+                    dest[oldLength + i] = src.get(i) & 0xFFFFFFFFL;
+                }
+                break;
+            }
+            case SIGNED_LONG:
+            case UNSIGNED_LONG:
+            case SIGNED_LONG_LONG:
+            case UNSIGNED_LONG_LONG:
+                buffer.asLongBuffer().get(((LongSequenceStorage) storage).getInternalLongArray(), oldLength, n);
+                break;
+            case FLOAT:
+                buffer.asFloatBuffer().get(((FloatSequenceStorage) storage).getInternalFloatArray(), oldLength, n);
+                break;
+            case DOUBLE:
+                buffer.asDoubleBuffer().get(((DoubleSequenceStorage) storage).getInternalDoubleArray(), oldLength, n);
+                break;
+        }
+        storage.setNewLength(oldLength + n);
+    }
+
+    /**
+     * Encodes the elements of {@code storage} as machine values in native byte order.
+     */
+    @TruffleBoundary
+    public byte[] encode(BasicSequenceStorage storage) throws ArithmeticException {
+        int n = storage.length();
+        byte[] result = new byte[Math.multiplyExact(n, itemSize)];
+        ByteBuffer buffer = ByteBuffer.wrap(result).order(ByteOrder.nativeOrder());
+        switch (this) {
+            case UNSIGNED_CHAR:
+                System.arraycopy(((ByteSequenceStorage) storage).getInternalByteArray(), 0, result, 0, n);
+                break;
+            case SIGNED_CHAR: {
+                int[] src = ((IntSequenceStorage) storage).getInternalIntArray();
+                for (int i = 0; i < n; i++) {
+                    result[i] = (byte) src[i];
+                }
+                break;
+            }
+            case SIGNED_SHORT:
+                buffer.asShortBuffer().put(((ShortSequenceStorage) storage).getInternalShortArray(), 0, n);
+                break;
+            case UNSIGNED_SHORT: {
+                int[] src = ((IntSequenceStorage) storage).getInternalIntArray();
+                ShortBuffer dest = buffer.asShortBuffer();
+                for (int i = 0; i < n; i++) {
+                    dest.put(i, (short) src[i]);
+                }
+                break;
+            }
+            case UNICODE:
+            case SIGNED_INT:
+                buffer.asIntBuffer().put(((IntSequenceStorage) storage).getInternalIntArray(), 0, n);
+                break;
+            case UNSIGNED_INT: {
+                long[] src = ((LongSequenceStorage) storage).getInternalLongArray();
+                IntBuffer dest = buffer.asIntBuffer();
+                for (int i = 0; i < n; i++) {
+                    dest.put(i, (int) src[i]);
+                }
+                break;
+            }
+            case SIGNED_LONG:
+            case UNSIGNED_LONG:
+            case SIGNED_LONG_LONG:
+            case UNSIGNED_LONG_LONG:
+                buffer.asLongBuffer().put(((LongSequenceStorage) storage).getInternalLongArray(), 0, n);
+                break;
+            case FLOAT:
+                buffer.asFloatBuffer().put(((FloatSequenceStorage) storage).getInternalFloatArray(), 0, n);
+                break;
+            case DOUBLE:
+                buffer.asDoubleBuffer().put(((DoubleSequenceStorage) storage).getInternalDoubleArray(), 0, n);
+                break;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.array;
+
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__EQ__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__GE__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__GT__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__LE__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__LT__;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.MemoryError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+
+import java.math.BigInteger;
+
+import com.oracle.graal.python.builtins.objects.array.ArrayNodesFactory.AppendValueNodeGen;
+import com.oracle.graal.python.builtins.objects.array.ArrayNodesFactory.GetValueNodeGen;
+import com.oracle.graal.python.builtins.objects.array.ArrayNodesFactory.PackValueNodeGen;
+import com.oracle.graal.python.builtins.objects.array.ArrayNodesFactory.SetValueNodeGen;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PNodeWithContext;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.control.GetIteratorExpressionNode.GetIteratorNode;
+import com.oracle.graal.python.nodes.control.GetNextNode;
+import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
+import com.oracle.graal.python.nodes.expression.CastToBooleanNode;
+import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
+import com.oracle.graal.python.nodes.util.CastToDoubleNode;
+import com.oracle.graal.python.nodes.util.CastToIntegerFromIndexNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.runtime.sequence.storage.BasicSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.FloatSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ShortSequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+
+public abstract class ArrayNodes {
+
+    /**
+     * Converts a Python value to the boxed primitive stored for an array format, raising the same
+     * errors as CPython for values of the wrong type or out of the format's range.
+     */
+    public abstract static class PackValueNode extends PNodeWithContext {
+
+        public abstract Object execute(VirtualFrame frame, ArrayFormat format, Object value);
+
+        @Specialization(guards = "format.isInteger()")
+        static Object doInteger(VirtualFrame frame, ArrayFormat format, Object value,
+                        @Cached CastToIntegerFromIndexNode castToIntegerNode,
+                        @Cached PRaiseNode raise) {
+            Object index = castToIntegerNode.execute(frame, value);
+            long l;
+            if (index instanceof Long) {
+                l = (long) index;
+            } else if (index instanceof Integer) {
+                l = (int) index;
+            } else if (index instanceof Boolean) {
+                l = (boolean) index ? 1 : 0;
+            } else {
+                return doPInt(format, (PInt) index, raise);
+            }
+            if (format.inRange(l)) {
+                return format.box(l);
+            }
+            throw raise.raise(OverflowError, format.getOverflowMessage(l));
+        }
+
+        @Specialization(guards = "format.isFloatingPoint()")
+        static Object doFloat(VirtualFrame frame, ArrayFormat format, Object value,
+                        @Cached CastToDoubleNode castToDoubleNode) {
+            return format.roundFloat(castToDoubleNode.execute(frame, value));
+        }
+
+        @Specialization(guards = "format.isUnicode()")
+        static Object doUnicode(@SuppressWarnings("unused") ArrayFormat format, Object value,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached PRaiseNode raise) {
+            if (PGuards.isString(value)) {
+                int codePoint = singleCodePoint(castToJavaStringNode.execute(value));
+                if (codePoint >= 0) {
+                    return codePoint;
+                }
+            }
+            throw raise.raise(TypeError, "array item must be unicode character");
+        }
+
+        private static Object doPInt(ArrayFormat format, PInt value, PRaiseNode raise) {
+            try {
+                long l = value.longValueExact();
+                if (format.inRange(l)) {
+                    return format.box(l);
+                }
+                throw raise.raise(OverflowError, format.getOverflowMessage(l));
+            } catch (ArithmeticException e) {
+                Long bits = format.unsignedBits(value.getValue());
+                if (bits != null) {
+                    return bits;
+                }
+                throw raise.raise(OverflowError, format.getBigOverflowMessage(value.getValue()));
+            }
+        }
+
+        @TruffleBoundary
+        private static int singleCodePoint(String s) {
+            if (!s.isEmpty() && s.offsetByCodePoints(0, 1) == s.length()) {
+                return s.codePointAt(0);
+            }
+            return -1;
+        }
+
+        public static PackValueNode create() {
+            return PackValueNodeGen.create();
+        }
+    }
+
+    /**
+     * Reads an array element and converts it to the Python value for the array's format.
+     */
+    public abstract static class GetValueNode extends Node {
+
+        public abstract Object execute(ArrayFormat format, SequenceStorage storage, int index);
+
+        @Specialization
+        static int doByte(@SuppressWarnings("unused") ArrayFormat format, ByteSequenceStorage storage, int index) {
+            return storage.getIntItemNormalized(index);
+        }
+
+        @Specialization
+        static int doShort(@SuppressWarnings("unused") ArrayFormat format, ShortSequenceStorage storage, int index) {
+            return storage.getIntItemNormalized(index);
+        }
+
+        @Specialization(guards = "!format.isUnicode()")
+        static int doInt(@SuppressWarnings("unused") ArrayFormat format, IntSequenceStorage storage, int index) {
+            return storage.getIntItemNormalized(index);
+        }
+
+        @Specialization(guards = "format.isUnicode()")
+        static String doUnicode(@SuppressWarnings("unused") ArrayFormat format, IntSequenceStorage storage, int index,
+                        @Cached PRaiseNode raise) {
+            int codePoint = storage.getIntItemNormalized(index);
+            if (!Character.isValidCodePoint(codePoint)) {
+                throw raise.raise(ValueError, "character U+%s is not in range [U+0000; U+10ffff]", Integer.toHexString(codePoint));
+            }
+            return codePointToString(codePoint);
+        }
+
+        @Specialization(guards = "!format.isUnsigned64()")
+        static long doLong(@SuppressWarnings("unused") ArrayFormat format, LongSequenceStorage storage, int index) {
+            return storage.getLongItemNormalized(index);
+        }
+
+        @Specialization(guards = "format.isUnsigned64()")
+        static Object doUnsignedLong(@SuppressWarnings("unused") ArrayFormat format, LongSequenceStorage storage, int index,
+                        @Cached("createBinaryProfile()") ConditionProfile bigProfile,
+                        @Cached PythonObjectFactory factory) {
+            long bits = storage.getLongItemNormalized(index);
+            if (bigProfile.profile(bits < 0)) {
+                return factory.createInt(unsignedToBigInteger(bits));
+            }
+            return bits;
+        }
+
+        @Specialization
+        static double doFloat(@SuppressWarnings("unused") ArrayFormat format, FloatSequenceStorage storage, int index) {
+            return storage.getDoubleItemNormalized(index);
+        }
+
+        @Specialization
+        static double doDouble(@SuppressWarnings("unused") ArrayFormat format, DoubleSequenceStorage storage, int index) {
+            return storage.getDoubleItemNormalized(index);
+        }
+
+        @TruffleBoundary
+        private static String codePointToString(int codePoint) {
+            return new String(Character.toChars(codePoint));
+        }
+
+        @TruffleBoundary
+        private static BigInteger unsignedToBigInteger(long bits) {
+            return BigInteger.valueOf(bits & Long.MAX_VALUE).setBit(Long.SIZE - 1);
+        }
+
+        public static GetValueNode create() {
+            return GetValueNodeGen.create();
+        }
+    }
+
+    /**
+     * Compares two arrays on the values of their items, like CPython's {@code array_richcompare}.
+     * This is needed wherever the stored values do not compare like the items: unsigned 64-bit
+     * formats keep raw signed bits, and unicode arrays keep code points that must not equal
+     * numbers.
+     */
+    public static final class CompareValuesNode extends Node {
+        private static final int EQ = 0;
+        private static final int NE = 1;
+        private static final int LT = 2;
+        private static final int LE = 3;
+        private static final int GT = 4;
+        private static final int GE = 5;
+
+        private final int op;
+
+        @Child private GetValueNode getLeftValueNode = GetValueNode.create();
+        @Child private GetValueNode getRightValueNode = GetValueNode.create();
+        @Child private BinaryComparisonNode eqNode = BinaryComparisonNode.create(__EQ__, __EQ__, "==");
+        @Child private BinaryComparisonNode cmpNode;
+        @Child private CastToBooleanNode castToBooleanNode = CastToBooleanNode.createIfTrueNode();
+
+        private CompareValuesNode(int op, BinaryComparisonNode cmpNode) {
+            this.op = op;
+            this.cmpNode = cmpNode;
+        }
+
+        public boolean execute(VirtualFrame frame, PArray left, PArray right) {
+            SequenceStorage leftStorage = left.getSequenceStorage();
+            SequenceStorage rightStorage = right.getSequenceStorage();
+            int llen = leftStorage.length();
+            int rlen = rightStorage.length();
+            if (llen != rlen && (op == EQ || op == NE)) {
+                return op == NE;
+            }
+            for (int i = 0; i < Math.min(llen, rlen); i++) {
+                Object leftItem = getLeftValueNode.execute(left.getFormat(), leftStorage, i);
+                Object rightItem = getRightValueNode.execute(right.getFormat(), rightStorage, i);
+                if (!castToBooleanNode.executeBoolean(frame, eqNode.executeWith(frame, leftItem, rightItem))) {
+                    if (op == EQ || op == NE) {
+                        return op == NE;
+                    }
+                    return castToBooleanNode.executeBoolean(frame, cmpNode.executeWith(frame, leftItem, rightItem));
+                }
+            }
+            switch (op) {
+                case EQ:
+                    return llen == rlen;
+                case NE:
+                    return llen != rlen;
+                case LT:
+                    return llen < rlen;
+                case LE:
+                    return llen <= rlen;
+                case GT:
+                    return llen > rlen;
+                default:
+                    return llen >= rlen;
+            }
+        }
+
+        /**
+         * Whether {@code left} and {@code right} must be compared with this node instead of on
+         * their storages.
+         */
+        public static boolean needsValues(PArray left, PArray right) {
+            ArrayFormat leftFormat = left.getFormat();
+            ArrayFormat rightFormat = right.getFormat();
+            return leftFormat.isUnsigned64() || rightFormat.isUnsigned64() || leftFormat.isUnicode() != rightFormat.isUnicode();
+        }
+
+        public static CompareValuesNode createEq() {
+            return new CompareValuesNode(EQ, null);
+        }
+
+        public static CompareValuesNode createNe() {
+            return new CompareValuesNode(NE, null);
+        }
+
+        public static CompareValuesNode createLt() {
+            return new CompareValuesNode(LT, BinaryComparisonNode.create(__LT__, __GT__, "<"));
+        }
+
+        public static CompareValuesNode createLe() {
+            return new CompareValuesNode(LE, BinaryComparisonNode.create(__LE__, __GE__, "<="));
+        }
+
+        public static CompareValuesNode createGt() {
+            return new CompareValuesNode(GT, BinaryComparisonNode.create(__GT__, __LT__, ">"));
+        }
+
+        public static CompareValuesNode createGe() {
+            return new CompareValuesNode(GE, BinaryComparisonNode.create(__GE__, __LE__, ">="));
+        }
+    }
+
+    /**
+     * Stores a value produced by {@link PackValueNode} at a normalized index.
+     */
+    public abstract static class SetValueNode extends Node {
+
+        public abstract void execute(SequenceStorage storage, int index, Object value);
+
+        @Specialization
+        static void doByte(ByteSequenceStorage storage, int index, byte value) {
+            storage.setByteItemNormalized(index, value);
+        }
+
+        @Specialization
+        static void doShort(ShortSequenceStorage storage, int index, short value) {
+            storage.setShortItemNormalized(index, value);
+        }
+
+        @Specialization
+        static void doInt(IntSequenceStorage storage, int index, int value) {
+            storage.setIntItemNormalized(index, value);
+        }
+
+        @Specialization
+        static void doLong(LongSequenceStorage storage, int index, long value) {
+            storage.setLongItemNormalized(index, value);
+        }
+
+        @Specialization
+        static void doFloat(FloatSequenceStorage storage, int index, double value) {
+            storage.setFloatItemNormalized(index, (float) value);
+        }
+
+        @Specialization
+        static void doDouble(DoubleSequenceStorage storage, int index, double value) {
+            storage.setDoubleItemNormalized(index, value);
+        }
+
+        public static SetValueNode create() {
+            return SetValueNodeGen.create();
+        }
+    }
+
+    /**
+     * Appends a value produced by {@link PackValueNode}.
+     */
+    public abstract static class AppendValueNode extends Node {
+
+        public abstract void execute(SequenceStorage storage, Object value);
+
+        @Specialization
+        static void doByte(ByteSequenceStorage storage, byte value) {
+            storage.appendByte(value);
+        }
+
+        @Specialization
+        static void doShort(ShortSequenceStorage storage, short value) {
+            storage.appendShort(value);
+        }
+
+        @Specialization
+        static void doInt(IntSequenceStorage storage, int value) {
+            storage.appendInt(value);
+        }
+
+        @Specialization
+        static void doLong(LongSequenceStorage storage, long value) {
+            storage.appendLong(value);
+        }
+
+        @Specialization
+        static void doFloat(FloatSequenceStorage storage, double value) {
+            storage.appendFloat((float) value);
+        }
+
+        @Specialization
+        static void doDouble(DoubleSequenceStorage storage, double value) {
+            storage.appendDouble(value);
+        }
+
+        public static AppendValueNode create() {
+            return AppendValueNodeGen.create();
+        }
+    }
+
+    /**
+     * Appends the machine values in the first {@code length} bytes of {@code bytes} to an array.
+     */
+    public static final class FromBytesNode extends Node {
+        @Child private PRaiseNode raiseNode = PRaiseNode.create();
+
+        public void execute(PArray array, byte[] bytes, int length) {
+            ArrayFormat format = array.getFormat();
+            if (length % format.getItemSize() != 0) {
+                throw raiseNode.raise(ValueError, "bytes length not a multiple of item size");
+            }
+            try {
+                format.decode((BasicSequenceStorage) array.getSequenceStorage(), bytes, 0, length);
+            } catch (ArithmeticException | OutOfMemoryError e) {
+                throw raiseNode.raise(MemoryError);
+            }
+        }
+
+        public static FromBytesNode create() {
+            return new FromBytesNode();
+        }
+    }
+
+    /**
+     * Encodes the items of an array as machine values.
+     */
+    public static final class ToBytesNode extends Node {
+        @Child private PRaiseNode raiseNode = PRaiseNode.create();
+
+        public byte[] execute(PArray array) {
+            try {
+                return array.getFormat().encode((BasicSequenceStorage) array.getSequenceStorage());
+            } catch (ArithmeticException | OutOfMemoryError e) {
+                throw raiseNode.raise(MemoryError);
+            }
+        }
+
+        public static ToBytesNode create() {
+            return new ToBytesNode();
+        }
+    }
+
+    /**
+     * Appends all items of an iterable to an array, converting each to the array's format.
+     */
+    public static final class ExtendFromIterableNode extends Node {
+        @Child private GetIteratorNode getIteratorNode = GetIteratorNode.create();
+        @Child private GetNextNode getNextNode = GetNextNode.create();
+        @Child private PackValueNode packValueNode = PackValueNode.create();
+        @Child private AppendValueNode appendValueNode = AppendValueNode.create();
+        @Child private IsBuiltinClassProfile errorProfile = IsBuiltinClassProfile.create();
+
+        public void execute(VirtualFrame frame, PArray array, Object iterable) {
+            ArrayFormat format = array.getFormat();
+            Object iterator = getIteratorNode.executeWith(frame, iterable);
+            while (true) {
+                Object value;
+                try {
+                    value = getNextNode.execute(frame, iterator);
+                } catch (PException e) {
+                    e.expectStopIteration(errorProfile);
+                    return;
+                }
+                appendValueNode.execute(array.getSequenceStorage(), packValueNode.execute(frame, format, value));
+            }
+        }
+
+        public static ExtendFromIterableNode create() {
+            return new ExtendFromIterableNode();
+        }
+    }
+}
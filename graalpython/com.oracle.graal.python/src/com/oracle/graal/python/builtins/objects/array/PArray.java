@@ -25,21 +25,33 @@
  */
 package com.oracle.graal.python.builtins.objects.array;
 
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
 import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.BasicSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.api.profiles.ConditionProfile;
 
+@ExportLibrary(PythonObjectLibrary.class)
 public class PArray extends PSequence {
 
+    private final ArrayFormat format;
     private SequenceStorage store;
 
-    public PArray(LazyPythonClass clazz) {
+    public PArray(LazyPythonClass clazz, ArrayFormat format, SequenceStorage store) {
         super(clazz);
+        this.format = format;
+        this.store = store;
     }
 
-    public PArray(LazyPythonClass clazz, SequenceStorage store) {
-        super(clazz);
-        this.store = store;
+    public ArrayFormat getFormat() {
+        return format;
     }
 
     @Override
@@ -55,4 +67,34 @@ public class PArray extends PSequence {
     public int len() {
         return store.length();
     }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    boolean isBuffer() {
+        return true;
+    }
+
+    @ExportMessage
+    int getBufferLength(
+                    @Cached PRaiseNode raiseNode) {
+        try {
+            return Math.multiplyExact(store.length(), format.getItemSize());
+        } catch (ArithmeticException e) {
+            throw raiseNode.raise(PythonBuiltinClassType.MemoryError);
+        }
+    }
+
+    /**
+     * Unsigned byte arrays are exported without copying whenever the storage is exactly filled;
+     * all other formats are encoded in bulk to their machine representation.
+     */
+    @ExportMessage
+    byte[] getBufferBytes(
+                    @Cached("createBinaryProfile()") ConditionProfile isByteFormatProfile,
+                    @Cached SequenceStorageNodes.ToByteArrayNode toByteArrayNode) {
+        if (isByteFormatProfile.profile(format == ArrayFormat.UNSIGNED_CHAR)) {
+            return toByteArrayNode.execute(store);
+        }
+        return format.encode((BasicSequenceStorage) store);
+    }
 }
@@ -50,6 +50,7 @@ import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.CodecsModuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.bytes.AbstractBytesBuiltinsFactory.BytesLikeNoGeneralizationNodeGen;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
@@ -58,20 +59,27 @@ import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.Gene
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.argument.ReadArgumentNode;
+import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
 import com.oracle.graal.python.nodes.builtins.ListNodes.AppendNode;
+import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CastToByteNode;
 import com.oracle.graal.python.nodes.util.CastToIntegerFromIndexNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.GenerateUncached;
 import com.oracle.truffle.api.dsl.NodeFactory;
@@ -89,6 +97,58 @@ public class AbstractBytesBuiltins extends PythonBuiltins {
         return AbstractBytesBuiltinsFactory.getFactories();
     }
 
+    // bytes.decode(encoding='utf-8', errors='strict')
+    // bytearray.decode(encoding='utf-8', errors='strict')
+    @Builtin(name = "decode", minNumOfPositionalArgs = 1, parameterNames = {"self", "encoding", "errors"})
+    @GenerateNodeFactory
+    public abstract static class DecodeNode extends PythonTernaryBuiltinNode {
+
+        @Child private ReadAttributeFromObjectNode readDecodeNode;
+        @Child private CallNode callDecodeNode;
+
+        /**
+         * UTF-8, ASCII, Latin-1 and UTF-16 with the 'strict' error handler are decoded directly
+         * from the byte storage; everything else goes through {@code _codecs.decode} and thus the
+         * codec registry.
+         */
+        @Specialization(guards = {"isNoValueOrString(encoding)", "isNoValueOrString(errors)"})
+        Object decode(VirtualFrame frame, PIBytesLike self, Object encoding, Object errors,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached CastToJavaStringNode castEncodingNode,
+                        @Cached CastToJavaStringNode castErrorsNode,
+                        @Cached("createBinaryProfile()") ConditionProfile fastPathProfile) {
+            String encodingStr = PGuards.isNoValue(encoding) ? "utf-8" : castEncodingNode.execute(encoding);
+            String errorsStr = PGuards.isNoValue(errors) ? "strict" : castErrorsNode.execute(errors);
+            if (fastPathProfile.profile(CodecsModuleBuiltins.isStrict(errorsStr))) {
+                SequenceStorage storage = self.getSequenceStorage();
+                String decoded = CodecsModuleBuiltins.decodeFast(CodecsModuleBuiltins.getFastCodec(encodingStr), getInternalByteArrayNode.execute(storage), lenNode.execute(storage));
+                if (decoded != null) {
+                    return decoded;
+                }
+            }
+            if (readDecodeNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                readDecodeNode = insert(ReadAttributeFromObjectNode.create());
+                callDecodeNode = insert(CallNode.create());
+            }
+            Object decodeFunction = readDecodeNode.execute(getCore().lookupBuiltinModule("_codecs"), "decode");
+            return callDecodeNode.execute(frame, decodeFunction, self, encodingStr, errorsStr);
+        }
+
+        @Fallback
+        Object decodeWrongArgs(@SuppressWarnings("unused") Object self, Object encoding, Object errors) {
+            if (!isNoValueOrString(encoding)) {
+                throw raise(PythonErrorType.TypeError, "decode() argument 1 must be str, not %p", encoding);
+            }
+            throw raise(PythonErrorType.TypeError, "decode() argument 2 must be str, not %p", errors);
+        }
+
+        protected static boolean isNoValueOrString(Object obj) {
+            return PGuards.isNoValue(obj) || PGuards.isString(obj);
+        }
+    }
+
     @Builtin(name = "lower", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     abstract static class LowerNode extends PythonUnaryBuiltinNode {
@@ -444,6 +444,38 @@ public abstract class CExtNodes {
         }
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+    /**
+     * Like {@link ToSulongNode} but for a new reference that is handed to native code, e.g. the
+     * result of an upcall. The reference is counted in the {@code ob_refcnt} of the native wrapper,
+     * so that native code has to release it with {@code Py_DECREF}.
+     */
+    @GenerateUncached
+    public abstract static class ToNewRefNode extends CExtBaseNode {
+
+        public abstract Object execute(Object obj);
+
+        @Specialization
+        static Object doIt(Object obj,
+                        @Cached ToSulongNode toSulongNode,
+                        @Cached("createBinaryProfile()") ConditionProfile isWrapperProfile,
+                        @CachedContext(PythonLanguage.class) PythonContext context) {
+            Object result = toSulongNode.execute(obj);
+            if (isWrapperProfile.profile(result instanceof DynamicObjectNativeWrapper)) {
+                ((DynamicObjectNativeWrapper) result).increaseRefCount(context.getCApiHandleTable());
+            }
+            return result;
+        }
+
+        public static ToNewRefNode create() {
+            return CExtNodesFactory.ToNewRefNodeGen.create();
+        }
+
+        public static ToNewRefNode getUncached() {
+            return CExtNodesFactory.ToNewRefNodeGen.getUncached();
+        }
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     /**
      * Unwraps objects contained in {@link DynamicObjectNativeWrapper.PythonObjectNativeWrapper}
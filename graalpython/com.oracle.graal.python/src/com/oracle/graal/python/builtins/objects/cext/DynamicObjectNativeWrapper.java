@@ -43,6 +43,7 @@ package com.oracle.graal.python.builtins.objects.cext;
 import static com.oracle.graal.python.builtins.objects.cext.NativeCAPISymbols.FUN_PY_OBJECT_HANDLE_FOR_JAVA_OBJECT;
 import static com.oracle.graal.python.builtins.objects.cext.NativeCAPISymbols.FUN_PY_OBJECT_HANDLE_FOR_JAVA_TYPE;
 import static com.oracle.graal.python.builtins.objects.cext.NativeMemberNames.MD_DEF;
+import static com.oracle.graal.python.builtins.objects.cext.NativeMemberNames.OB_REFCNT;
 import static com.oracle.graal.python.builtins.objects.cext.NativeMemberNames.OB_TYPE;
 import static com.oracle.graal.python.builtins.objects.cext.NativeMemberNames.TP_BASICSIZE;
 import static com.oracle.graal.python.builtins.objects.cext.NativeMemberNames.TP_DICT;
@@ -132,6 +133,7 @@ import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.truffle.PythonTypes;
 import com.oracle.graal.python.nodes.util.CastToIndexNode;
 import com.oracle.graal.python.nodes.util.CastToIntegerFromIntNode;
+import com.oracle.graal.python.nodes.util.CastToJavaLongNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.interop.InteropArray;
@@ -173,8 +175,20 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
     private static final Layout OBJECT_LAYOUT = Layout.newLayout().build();
     private static final Shape SHAPE = OBJECT_LAYOUT.createShape(new ObjectType());
 
+    /**
+     * The reference count reported to native code for a wrapper it does not own any reference to.
+     * Each new reference handed to native code (see {@link CExtNodes.ToNewRefNode}) and each
+     * {@code Py_INCREF} adds one. The count is biased such that {@code Py_DECREF} never reaches zero
+     * and calls {@code tp_dealloc} for a managed object; borrowed references are not counted.
+     */
+    public static final long MANAGED_REFCNT = 10;
+
     private PythonObjectDictStorage nativeMemberStore;
 
+    /** The handle in the context's {@link HandleTable} or {@code 0} if not registered. */
+    private long handle;
+    private volatile long refCount = MANAGED_REFCNT;
+
     public DynamicObjectNativeWrapper() {
     }
 
@@ -182,6 +196,44 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
         super(delegate);
     }
 
+    public long getHandle() {
+        return handle;
+    }
+
+    void setHandle(long handle) {
+        this.handle = handle;
+    }
+
+    public long getRefCount() {
+        return refCount;
+    }
+
+    /**
+     * Counts a new reference that is handed to native code.
+     */
+    void increaseRefCount(HandleTable handleTable) {
+        handleTable.increaseRefCount(this);
+    }
+
+    /**
+     * Sets the reference count as written by {@code Py_INCREF} and {@code Py_DECREF}. The handle
+     * table updates the count and pins or unpins the wrapper in one step. Once native code
+     * released its last reference, the handles of wrappers whose delegates have been collected
+     * are released as well.
+     */
+    void setRefCount(long count, HandleTable handleTable) {
+        if (handleTable.setRefCount(this, count)) {
+            handleTable.releaseCollected();
+        }
+    }
+
+    /**
+     * Only called by the {@link HandleTable} while it holds its lock.
+     */
+    void storeRefCount(long count) {
+        refCount = count;
+    }
+
     public PythonObjectDictStorage createNativeMemberStore() {
         if (nativeMemberStore == null) {
             nativeMemberStore = new PythonObjectDictStorage(SHAPE.newInstance());
@@ -219,7 +271,13 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
             return object;
         }
 
-        @Specialization
+        @Specialization(guards = {"key == cachedObRefcnt", "isObRefcnt(cachedObRefcnt)"}, limit = "1")
+        static long doObRefcntCached(DynamicObjectNativeWrapper object, @SuppressWarnings("unused") String key,
+                        @Cached("key") @SuppressWarnings("unused") String cachedObRefcnt) {
+            return object.getRefCount();
+        }
+
+        @Specialization(replaces = "doObRefcntCached")
         static Object execute(DynamicObjectNativeWrapper object, String key,
                         @Exclusive @Cached ReadNativeMemberDispatchNode readNativeMemberNode,
                         @Exclusive @Cached CExtNodes.AsPythonObjectNode getDelegate) throws UnsupportedMessageException, UnknownIdentifierException {
@@ -228,6 +286,8 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
             // special key for the debugger
             if (key.equals(DynamicObjectNativeWrapper.GP_OBJECT)) {
                 return delegate;
+            } else if (isObRefcnt(key)) {
+                return object.getRefCount();
             }
             return readNativeMemberNode.execute(delegate, key);
         }
@@ -235,6 +295,10 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
         protected static boolean isObBase(String key) {
             return NativeMemberNames.OB_BASE.equals(key);
         }
+
+        protected static boolean isObRefcnt(String key) {
+            return NativeMemberNames.OB_REFCNT.equals(key);
+        }
     }
 
     @GenerateUncached
@@ -1034,6 +1098,7 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
     @ExportMessage
     protected boolean isMemberModifiable(String member) {
         switch (member) {
+            case OB_REFCNT:
             case OB_TYPE:
             case TP_FLAGS:
             case TP_BASICSIZE:
@@ -1052,11 +1117,33 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
         return false;
     }
 
-    @ExportMessage
-    protected void writeMember(String member, Object value,
-                    @CachedLibrary("this") PythonNativeWrapperLibrary lib,
-                    @Cached WriteNativeMemberNode writeNativeMemberNode) throws UnsupportedMessageException, UnknownIdentifierException, UnsupportedTypeException {
-        writeNativeMemberNode.execute(lib.getDelegate(this), member, value);
+    @ExportMessage(name = "writeMember")
+    abstract static class WriteNode {
+
+        @Specialization(guards = {"key == cachedObRefcnt", "isObRefcnt(cachedObRefcnt)"}, limit = "1")
+        static void doObRefcntCached(DynamicObjectNativeWrapper object, @SuppressWarnings("unused") String key, Object value,
+                        @Cached("key") @SuppressWarnings("unused") String cachedObRefcnt,
+                        @Shared("castToLongNode") @Cached CastToJavaLongNode castToLongNode,
+                        @Shared("context") @CachedContext(PythonLanguage.class) PythonContext context) {
+            object.setRefCount(castToLongNode.execute(value), context.getCApiHandleTable());
+        }
+
+        @Specialization(replaces = "doObRefcntCached", limit = "1")
+        static void execute(DynamicObjectNativeWrapper object, String key, Object value,
+                        @CachedLibrary("object") PythonNativeWrapperLibrary lib,
+                        @Shared("castToLongNode") @Cached CastToJavaLongNode castToLongNode,
+                        @Shared("context") @CachedContext(PythonLanguage.class) PythonContext context,
+                        @Cached WriteNativeMemberNode writeNativeMemberNode) throws UnsupportedMessageException, UnknownIdentifierException, UnsupportedTypeException {
+            if (isObRefcnt(key)) {
+                object.setRefCount(castToLongNode.execute(value), context.getCApiHandleTable());
+            } else {
+                writeNativeMemberNode.execute(lib.getDelegate(object), key, value);
+            }
+        }
+
+        protected static boolean isObRefcnt(String key) {
+            return NativeMemberNames.OB_REFCNT.equals(key);
+        }
     }
 
     @ExportMessage
@@ -1121,7 +1208,8 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
                         @Cached SetSpecialSingletonPtrNode setSpecialSingletonPtrNode,
                         @Cached("createBinaryProfile()") ConditionProfile profile,
                         @Shared("invalidateNode") @Cached InvalidateNativeObjectsAllManagedNode invalidateNode,
-                        @Cached IsPointerNode isPointerNode) {
+                        @Cached IsPointerNode isPointerNode,
+                        @CachedContext(PythonLanguage.class) PythonContext context) {
             invalidateNode.execute();
             if (!isPointerNode.execute(obj)) {
                 Object ptr = toPyObjectNode.execute(obj);
@@ -1130,9 +1218,19 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
                     setSpecialSingletonPtrNode.execute(delegate, ptr);
                 } else {
                     obj.setNativePointer(ptr);
+                    if (isObjectNativeWrapper(obj)) {
+                        HandleTable handleTable = context.getCApiHandleTable();
+                        handleTable.register((DynamicObjectNativeWrapper) obj);
+                        handleTable.releaseCollected();
+                    }
                 }
             }
         }
+
+        protected static boolean isObjectNativeWrapper(PythonNativeWrapper obj) {
+            // classes and other special wrappers are never released
+            return obj.getClass() == PythonObjectNativeWrapper.class;
+        }
     }
 
     @GenerateUncached
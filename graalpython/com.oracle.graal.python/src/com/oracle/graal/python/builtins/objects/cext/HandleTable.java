@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.cext;
+
+import static com.oracle.graal.python.builtins.objects.cext.NativeCAPISymbols.FUN_PY_TRUFFLE_RELEASE_HANDLE;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+import com.oracle.graal.python.builtins.objects.cext.CExtNodes.PCallCapiFunction;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Table of the native wrappers of managed objects that have been handed out to native code. Each
+ * registered wrapper gets a dense {@code long} handle that indexes {@link #wrappers}; freed slots
+ * are reused.
+ *
+ * While native code owns references to a wrapper (i.e. its {@code ob_refcnt} is above
+ * {@link DynamicObjectNativeWrapper#MANAGED_REFCNT}), the wrapper keeps its delegate alive. Once
+ * native code has released all its references, the delegate is only weakly referenced from the
+ * wrapper. If it then becomes unreachable from the managed side, the native handle of the wrapper
+ * is released and the slot is freed such that the wrapper can be collected as well. This relies on
+ * every new reference handed to native code being counted; borrowed references are only valid
+ * while their owner keeps the delegate alive.
+ */
+public final class HandleTable {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private DynamicObjectNativeWrapper[] wrappers = new DynamicObjectNativeWrapper[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+
+    // handle 0 is reserved and means 'not registered'
+    private int top = 1;
+
+    private final ReferenceQueue<Object> collectedDelegates = new ReferenceQueue<>();
+
+    private static final class DelegateReference extends WeakReference<Object> {
+        private final int handle;
+
+        DelegateReference(Object delegate, ReferenceQueue<Object> queue, int handle) {
+            super(delegate, queue);
+            this.handle = handle;
+        }
+    }
+
+    @TruffleBoundary
+    public synchronized long register(DynamicObjectNativeWrapper wrapper) {
+        assert wrapper.getHandle() == 0;
+        int handle;
+        if (freeCount > 0) {
+            handle = freeSlots[--freeCount];
+        } else {
+            if (top == wrappers.length) {
+                wrappers = Arrays.copyOf(wrappers, wrappers.length * 2);
+            }
+            handle = top++;
+        }
+        wrappers[handle] = wrapper;
+        wrapper.setHandle(handle);
+        return handle;
+    }
+
+    /**
+     * Counts a new reference to {@code wrapper} that is handed to native code.
+     */
+    @TruffleBoundary
+    synchronized void increaseRefCount(DynamicObjectNativeWrapper wrapper) {
+        updateRefCount(wrapper, wrapper.getRefCount() + 1);
+    }
+
+    /**
+     * Sets the reference count of {@code wrapper}. Returns {@code true} if native code released
+     * its last reference and the wrapper was unpinned.
+     */
+    @TruffleBoundary
+    synchronized boolean setRefCount(DynamicObjectNativeWrapper wrapper, long count) {
+        return updateRefCount(wrapper, count);
+    }
+
+    /**
+     * Stores the new count and pins or unpins the wrapper if native code acquired its first or
+     * released its last reference. The count and the transition are updated under the lock of
+     * this table, so that concurrent updates cannot leave a wrapper that is owned by native code
+     * with a weak delegate, or vice versa.
+     */
+    private boolean updateRefCount(DynamicObjectNativeWrapper wrapper, long count) {
+        long newCount = Math.max(count, DynamicObjectNativeWrapper.MANAGED_REFCNT);
+        boolean wasOwned = wrapper.getRefCount() > DynamicObjectNativeWrapper.MANAGED_REFCNT;
+        boolean isOwned = newCount > DynamicObjectNativeWrapper.MANAGED_REFCNT;
+        wrapper.storeRefCount(newCount);
+        if (wrapper.getHandle() == 0 || wasOwned == isOwned) {
+            return false;
+        }
+        if (isOwned) {
+            pin(wrapper);
+            return false;
+        }
+        unpin(wrapper);
+        return true;
+    }
+
+    /**
+     * Called when native code acquires a reference to a wrapper it did not own any reference to.
+     */
+    private void pin(DynamicObjectNativeWrapper wrapper) {
+        assert wrappers[(int) wrapper.getHandle()] == wrapper;
+        wrapper.strengthenDelegate();
+    }
+
+    /**
+     * Called when native code released its last reference to a wrapper.
+     */
+    private void unpin(DynamicObjectNativeWrapper wrapper) {
+        int handle = (int) wrapper.getHandle();
+        assert wrappers[handle] == wrapper;
+        Object delegate = PythonNativeWrapperLibrary.getUncached().getDelegate(wrapper);
+        if (delegate != null && wrapper.getWeakDelegate() == null) {
+            wrapper.weakenDelegate(new DelegateReference(delegate, collectedDelegates, handle));
+        }
+    }
+
+    /**
+     * Releases the native handles of all wrappers whose delegates have been collected since the
+     * last call and frees their slots. This runs whenever a wrapper is registered or unpinned.
+     */
+    @TruffleBoundary
+    public void releaseCollected() {
+        Reference<? extends Object> ref;
+        while ((ref = collectedDelegates.poll()) != null) {
+            DynamicObjectNativeWrapper wrapper = free((DelegateReference) ref);
+            if (wrapper != null) {
+                PythonNativeWrapperLibrary lib = PythonNativeWrapperLibrary.getUncached();
+                Object nativePointer = lib.getNativePointer(wrapper);
+                if (nativePointer != null) {
+                    wrapper.setNativePointer(null);
+                    PCallCapiFunction.getUncached().call(FUN_PY_TRUFFLE_RELEASE_HANDLE, nativePointer);
+                }
+            }
+        }
+    }
+
+    private synchronized DynamicObjectNativeWrapper free(DelegateReference ref) {
+        DynamicObjectNativeWrapper wrapper = wrappers[ref.handle];
+        // the wrapper may have been pinned again in the meantime
+        if (wrapper == null || wrapper.getWeakDelegate() != ref) {
+            return null;
+        }
+        wrappers[ref.handle] = null;
+        wrapper.setHandle(0);
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = ref.handle;
+        return wrapper;
+    }
+}
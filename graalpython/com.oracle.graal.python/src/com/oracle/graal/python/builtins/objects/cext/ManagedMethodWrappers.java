@@ -123,7 +123,7 @@ public abstract class ManagedMethodWrappers {
         public Object execute(Object[] arguments,
                         @CachedLibrary("this") PythonNativeWrapperLibrary lib,
                         @Exclusive @Cached CExtNodes.ToJavaNode toJavaNode,
-                        @Exclusive @Cached CExtNodes.ToSulongNode toSulongNode,
+                        @Exclusive @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Exclusive @Cached CallNode callNode,
                         @Exclusive @Cached ExecutePositionalStarargsInteropNode posStarargsNode,
                         @Exclusive @Cached ExpandKeywordStarargsNode expandKwargsNode) throws ArityException {
@@ -141,7 +141,7 @@ public abstract class ManagedMethodWrappers {
             PKeyword[] kwArgsArray = expandKwargsNode.executeWith(kwArgs);
 
             // execute
-            return toSulongNode.execute(callNode.execute(null, lib.getDelegate(this), pArgs, kwArgsArray));
+            return toNewRefNode.execute(callNode.execute(null, lib.getDelegate(this), pArgs, kwArgsArray));
         }
     }
 
@@ -162,7 +162,7 @@ public abstract class ManagedMethodWrappers {
         public Object execute(Object[] arguments,
                         @CachedLibrary("this") PythonNativeWrapperLibrary lib,
                         @Exclusive @Cached CExtNodes.ToJavaNode toJavaNode,
-                        @Exclusive @Cached CExtNodes.ToSulongNode toSulongNode,
+                        @Exclusive @Cached CExtNodes.ToNewRefNode toNewRefNode,
                         @Exclusive @Cached PythonAbstractObject.PExecuteNode executeNode) throws ArityException, UnsupportedMessageException {
             if (arguments.length != 1) {
                 throw ArityException.create(1, arguments.length);
@@ -170,7 +170,7 @@ public abstract class ManagedMethodWrappers {
 
             // convert args
             Object varArgs = toJavaNode.execute(arguments[0]);
-            return toSulongNode.execute(executeNode.execute(lib.getDelegate(this), new Object[]{varArgs}));
+            return toNewRefNode.execute(executeNode.execute(lib.getDelegate(this), new Object[]{varArgs}));
         }
     }
 
@@ -58,6 +58,7 @@ public abstract class NativeCAPISymbols {
     public static final String FUN_PY_NONE_HANDLE = "PyNoneHandle";
     public static final String FUN_WHCAR_SIZE = "PyTruffle_Wchar_Size";
     public static final String FUN_PY_TRUFFLE_CSTR_TO_STRING = "PyTruffle_CstrToString";
+    public static final String FUN_PY_TRUFFLE_RELEASE_HANDLE = "PyTruffle_ReleaseHandle";
     public static final String FUN_PY_FLOAT_AS_DOUBLE = "truffle_read_ob_fval";
     public static final String FUN_GET_OB_TYPE = "get_ob_type";
     public static final String FUN_GET_TP_DICT = "get_tp_dict";
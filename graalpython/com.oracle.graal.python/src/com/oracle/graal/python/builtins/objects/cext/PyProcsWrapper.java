@@ -42,7 +42,7 @@ package com.oracle.graal.python.builtins.objects.cext;
 
 import com.oracle.graal.python.builtins.objects.cext.CExtNodes.GetNativeNullNode;
 import com.oracle.graal.python.builtins.objects.cext.CExtNodes.ToJavaNode;
-import com.oracle.graal.python.builtins.objects.cext.CExtNodes.ToSulongNode;
+import com.oracle.graal.python.builtins.objects.cext.CExtNodes.ToNewRefNode;
 import com.oracle.graal.python.builtins.objects.cext.CExtNodes.TransformExceptionToNativeNode;
 import com.oracle.graal.python.builtins.objects.cext.DynamicObjectNativeWrapper.PAsPointerNode;
 import com.oracle.graal.python.builtins.objects.cext.DynamicObjectNativeWrapper.ToPyObjectNode;
@@ -127,7 +127,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
         @ExportMessage
         protected Object execute(Object[] arguments,
                         @CachedLibrary("this") PythonNativeWrapperLibrary lib,
-                        @Cached ToSulongNode toSulongNode,
+                        @Cached ToNewRefNode toNewRefNode,
                         @Cached CallBinaryMethodNode executeNode,
                         @Cached ToJavaNode toJavaNode,
                         @Exclusive @Cached IsBuiltinClassProfile errProfile,
@@ -144,7 +144,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 result = getNativeNullNode.execute();
             }
-            return toSulongNode.execute(result);
+            return toNewRefNode.execute(result);
         }
     }
 
@@ -188,7 +188,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
         @Specialization
         protected Object execute(Object[] arguments,
                         @CachedLibrary("this") PythonNativeWrapperLibrary lib,
-                        @Cached ToSulongNode toSulongNode,
+                        @Cached ToNewRefNode toNewRefNode,
                         @Cached CallBinaryMethodNode executeNode,
                         @Cached ToJavaNode toJavaNode,
                         @Cached GetNativeNullNode getNativeNullNode,
@@ -204,7 +204,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 result = getNativeNullNode.execute();
             }
-            return toSulongNode.execute(result);
+            return toNewRefNode.execute(result);
         }
     }
 
@@ -57,6 +57,12 @@ public abstract class PythonNativeWrapper implements TruffleObject {
     private Object delegate;
     private Object nativePointer;
 
+    /**
+     * Set instead of {@link #delegate} while native code does not own a reference to this wrapper.
+     * See {@link HandleTable}.
+     */
+    private WeakReference<Object> weakDelegate;
+
     public PythonNativeWrapper() {
     }
 
@@ -87,11 +93,18 @@ public abstract class PythonNativeWrapper implements TruffleObject {
 
         @Specialization(replaces = "getCachedDel")
         protected static Object getGenericDel(PythonNativeWrapper wrapper) {
-            return wrapper.delegate;
+            Object delegate = wrapper.delegate;
+            if (delegate == null && wrapper.weakDelegate != null) {
+                return wrapper.weakDelegate.get();
+            }
+            return delegate;
         }
     }
 
     protected final WeakReference<Object> getDelegatePrivate() {
+        if (delegate == null && weakDelegate != null) {
+            return new WeakReference<>(weakDelegate.get());
+        }
         return new WeakReference<>(delegate);
     }
 
@@ -100,6 +113,32 @@ public abstract class PythonNativeWrapper implements TruffleObject {
         this.delegate = delegate;
     }
 
+    /**
+     * Replaces the strong reference to the delegate by the given weak reference such that the
+     * delegate may be collected although this wrapper is still referenced from a native handle.
+     */
+    void weakenDelegate(WeakReference<Object> ref) {
+        assert delegate != null && ref.get() == delegate;
+        this.weakDelegate = ref;
+        this.delegate = null;
+    }
+
+    /**
+     * Restores the strong reference to the delegate. Returns {@code false} if the delegate has
+     * already been collected.
+     */
+    boolean strengthenDelegate() {
+        if (weakDelegate != null) {
+            this.delegate = weakDelegate.get();
+            this.weakDelegate = null;
+        }
+        return delegate != null;
+    }
+
+    WeakReference<Object> getWeakDelegate() {
+        return weakDelegate;
+    }
+
     @ExportMessage(name = "getNativePointer")
     protected static class GetNativePointer {
         @Specialization(guards = {"isEq(cachedWrapper.get(), wrapper)", "!isEq(nativePointer.get(), null)"}, assumptions = "singleContextAssumption()")
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.codecs;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.UnicodeDecodeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+
+import java.nio.charset.CharacterCodingException;
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
+import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.expression.CastToBooleanNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.util.CastToIndexNode;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PIncrementalDecoder)
+public class IncrementalDecoderBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return IncrementalDecoderBuiltinsFactory.getFactories();
+    }
+
+    @Builtin(name = "decode", minNumOfPositionalArgs = 2, parameterNames = {"self", "input", "final"})
+    @GenerateNodeFactory
+    abstract static class DecodeNode extends PythonTernaryBuiltinNode {
+
+        @Child private CastToBooleanNode castFinalNode;
+
+        @Specialization
+        String doBytesLike(VirtualFrame frame, PIncrementalDecoder self, PIBytesLike input, Object isFinal,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached SequenceStorageNodes.LenNode lenNode) {
+            SequenceStorage storage = input.getSequenceStorage();
+            return decode(self, getInternalByteArrayNode.execute(storage), lenNode.execute(storage), isFinal(frame, isFinal));
+        }
+
+        @Specialization(guards = {"!isBytes(input)", "lib.isBuffer(input)"}, limit = "3")
+        String doBuffer(VirtualFrame frame, PIncrementalDecoder self, Object input, Object isFinal,
+                        @CachedLibrary("input") PythonObjectLibrary lib) {
+            byte[] bytes;
+            try {
+                bytes = lib.getBufferBytes(input);
+            } catch (UnsupportedMessageException e) {
+                throw raise(TypeError, "a bytes-like object is required, not '%p'", input);
+            }
+            return decode(self, bytes, bytes.length, isFinal(frame, isFinal));
+        }
+
+        @Fallback
+        Object doError(@SuppressWarnings("unused") Object self, Object input, @SuppressWarnings("unused") Object isFinal) {
+            throw raise(TypeError, "a bytes-like object is required, not '%p'", input);
+        }
+
+        private String decode(PIncrementalDecoder self, byte[] bytes, int len, boolean isFinal) {
+            try {
+                return self.decode(bytes, len, isFinal);
+            } catch (CharacterCodingException e) {
+                throw raise(UnicodeDecodeError, e);
+            }
+        }
+
+        private boolean isFinal(VirtualFrame frame, Object isFinal) {
+            if (isFinal instanceof PNone) {
+                return false;
+            }
+            if (castFinalNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                castFinalNode = insert(CastToBooleanNode.createIfTrueNode());
+            }
+            return castFinalNode.executeBoolean(frame, isFinal);
+        }
+    }
+
+    @Builtin(name = "reset", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ResetNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static PNone reset(PIncrementalDecoder self) {
+            self.reset();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "getstate", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class GetStateNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        PTuple getState(PIncrementalDecoder self) {
+            return factory().createTuple(new Object[]{factory().createBytes(self.getPendingBytes()), self.getStateFlag()});
+        }
+    }
+
+    @Builtin(name = "setstate", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class SetStateNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        PNone setState(VirtualFrame frame, PIncrementalDecoder self, PTuple state,
+                        @Cached SequenceNodes.GetObjectArrayNode getObjectArrayNode,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached CastToIndexNode castFlagNode) {
+            Object[] items = getObjectArrayNode.execute(state);
+            if (items.length != 2 || !(items[0] instanceof PIBytesLike)) {
+                throw raise(TypeError, "state must be a (bytes, int) tuple");
+            }
+            SequenceStorage storage = ((PIBytesLike) items[0]).getSequenceStorage();
+            if (!self.setState(getInternalByteArrayNode.execute(storage), lenNode.execute(storage), castFlagNode.execute(frame, items[1]))) {
+                throw raise(ValueError, "invalid decoder state");
+            }
+            return PNone.NONE;
+        }
+
+        @Fallback
+        Object doError(@SuppressWarnings("unused") Object self, Object state) {
+            throw raise(TypeError, "state must be a tuple, not %p", state);
+        }
+    }
+
+    @Builtin(name = "errors", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class ErrorsNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static String errors(PIncrementalDecoder self) {
+            return self.getErrors();
+        }
+    }
+}
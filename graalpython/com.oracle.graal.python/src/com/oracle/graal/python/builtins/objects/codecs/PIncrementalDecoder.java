@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.codecs;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+
+import com.oracle.graal.python.builtins.modules.CodecsModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A stateful decoder for UTF-8, UTF-16, Latin-1 and ASCII as returned by
+ * {@code codecs.getincrementaldecoder}. Each chunk is decoded directly from the caller's byte
+ * array; only an incomplete trailing sequence (at most three bytes) is kept in {@link #pending}
+ * until the next chunk arrives.
+ */
+public final class PIncrementalDecoder extends PythonObject {
+
+    /** Values of the additional state flag, see {@code encodings.utf_16.IncrementalDecoder}. */
+    public static final int ORDER_NATIVE = 0;
+    public static final int ORDER_SWAPPED = 1;
+    public static final int ORDER_UNDETERMINED = 2;
+
+    private final int codec;
+    private final String errors;
+    private final CodingErrorAction errorAction;
+
+    /** Created lazily for UTF-16 since the byte order is only known after the BOM was seen. */
+    private CharsetDecoder decoder;
+    private int byteOrder = ORDER_UNDETERMINED;
+
+    private final byte[] pending = new byte[4];
+    private int pendingLen;
+
+    public PIncrementalDecoder(LazyPythonClass cls, int codec, String errors, CodingErrorAction errorAction) {
+        super(cls);
+        assert codec != CodecsModuleBuiltins.FAST_CODEC_NONE;
+        this.codec = codec;
+        this.errors = errors;
+        this.errorAction = errorAction;
+        if (codec != CodecsModuleBuiltins.FAST_CODEC_UTF16) {
+            byteOrder = ORDER_NATIVE;
+        }
+    }
+
+    public String getErrors() {
+        return errors;
+    }
+
+    /**
+     * Decodes the first {@code len} bytes of {@code input}. An incomplete sequence at the end is
+     * retained unless {@code isFinal} is set, in which case it is reported as an error.
+     */
+    @TruffleBoundary
+    public synchronized String decode(byte[] input, int len, boolean isFinal) throws CharacterCodingException {
+        if (codec == CodecsModuleBuiltins.FAST_CODEC_LATIN1) {
+            return new String(input, 0, len, StandardCharsets.ISO_8859_1);
+        }
+        int offset = 0;
+        if (byteOrder == ORDER_UNDETERMINED) {
+            offset = detectByteOrder(input, len, isFinal);
+            if (byteOrder == ORDER_UNDETERMINED) {
+                return "";
+            }
+        }
+        if (pendingLen == 0 && codec != CodecsModuleBuiltins.FAST_CODEC_UTF16 && isAscii(input, offset, len)) {
+            return new String(input, offset, len - offset, StandardCharsets.ISO_8859_1);
+        }
+        CharsetDecoder dec = getDecoder();
+        CharBuffer out = CharBuffer.allocate((int) ((len - offset + pendingLen) * dec.maxCharsPerByte()) + 2);
+
+        // complete a pending sequence byte by byte so that it never needs more than 'pending'
+        if (pendingLen > 0) {
+            while (true) {
+                boolean last = offset == len;
+                ByteBuffer in = ByteBuffer.wrap(pending, 0, pendingLen);
+                out = decodeChunk(dec, in, out, isFinal && last);
+                retainRemaining(in);
+                if (pendingLen == 0 || last) {
+                    break;
+                }
+                pending[pendingLen++] = input[offset++];
+            }
+        }
+        if (offset < len) {
+            assert pendingLen == 0;
+            ByteBuffer in = ByteBuffer.wrap(input, offset, len - offset);
+            out = decodeChunk(dec, in, out, isFinal);
+            retainRemaining(in);
+        }
+        if (isFinal) {
+            // none of the supported charsets has output pending at the end
+            reset();
+        }
+        out.flip();
+        return out.toString();
+    }
+
+    private CharBuffer decodeChunk(CharsetDecoder dec, ByteBuffer in, CharBuffer out, boolean endOfInput) throws CharacterCodingException {
+        CharBuffer result = out;
+        while (true) {
+            CoderResult cr = dec.decode(in, result, endOfInput);
+            if (cr.isOverflow()) {
+                CharBuffer larger = CharBuffer.allocate(result.capacity() * 2 + 16);
+                result.flip();
+                larger.put(result);
+                result = larger;
+            } else if (cr.isError()) {
+                pendingLen = 0;
+                dec.reset();
+                cr.throwException();
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private void retainRemaining(ByteBuffer in) {
+        int remaining = in.remaining();
+        assert remaining <= pending.length;
+        // 'in' may wrap 'pending' itself, so move the bytes to the front
+        in.get(pending, 0, remaining);
+        pendingLen = remaining;
+    }
+
+    /**
+     * Consumes the UTF-16 byte order mark. Returns the number of bytes of {@code input} that were
+     * consumed.
+     */
+    private int detectByteOrder(byte[] input, int len, boolean isFinal) throws MalformedInputException {
+        int consumed = 0;
+        while (pendingLen < 2 && consumed < len) {
+            pending[pendingLen++] = input[consumed++];
+        }
+        if (pendingLen < 2) {
+            if (isFinal) {
+                // let the decoder report the truncated data
+                byteOrder = ORDER_NATIVE;
+            }
+            return consumed;
+        }
+        if (pending[0] == (byte) 0xFF && pending[1] == (byte) 0xFE) {
+            byteOrder = ORDER_NATIVE;
+            pendingLen = 0;
+        } else if (pending[0] == (byte) 0xFE && pending[1] == (byte) 0xFF) {
+            byteOrder = ORDER_SWAPPED;
+            pendingLen = 0;
+        } else {
+            // like CPython's 'utf-16' incremental decoder, we insist on a BOM
+            pendingLen = 0;
+            throw new MalformedInputException(2);
+        }
+        return consumed;
+    }
+
+    private CharsetDecoder getDecoder() {
+        if (decoder == null) {
+            Charset charset;
+            switch (codec) {
+                case CodecsModuleBuiltins.FAST_CODEC_UTF8:
+                    charset = StandardCharsets.UTF_8;
+                    break;
+                case CodecsModuleBuiltins.FAST_CODEC_ASCII:
+                    charset = StandardCharsets.US_ASCII;
+                    break;
+                default:
+                    // we only support little endian platforms, so the swapped order is big endian
+                    charset = byteOrder == ORDER_SWAPPED ? StandardCharsets.UTF_16BE : StandardCharsets.UTF_16LE;
+                    break;
+            }
+            decoder = charset.newDecoder().onMalformedInput(errorAction).onUnmappableCharacter(errorAction);
+        }
+        return decoder;
+    }
+
+    private static boolean isAscii(byte[] bytes, int from, int to) {
+        int acc = 0;
+        for (int i = from; i < to; i++) {
+            acc |= bytes[i];
+        }
+        return acc >= 0;
+    }
+
+    @TruffleBoundary
+    public synchronized void reset() {
+        pendingLen = 0;
+        if (decoder != null) {
+            decoder.reset();
+        }
+        if (codec == CodecsModuleBuiltins.FAST_CODEC_UTF16) {
+            decoder = null;
+            byteOrder = ORDER_UNDETERMINED;
+        }
+    }
+
+    /**
+     * Returns the pending bytes; the flag is available via {@link #getStateFlag()}.
+     */
+    @TruffleBoundary
+    public synchronized byte[] getPendingBytes() {
+        byte[] result = new byte[pendingLen];
+        System.arraycopy(pending, 0, result, 0, pendingLen);
+        return result;
+    }
+
+    public int getStateFlag() {
+        return codec == CodecsModuleBuiltins.FAST_CODEC_UTF16 ? byteOrder : 0;
+    }
+
+    /**
+     * Restores a state previously returned by {@code getstate()}. Returns {@code false} if the
+     * buffer is too large to be an incomplete sequence of this codec.
+     */
+    @TruffleBoundary
+    public synchronized boolean setState(byte[] buffer, int len, int flag) {
+        if (len > pending.length - 1) {
+            return false;
+        }
+        reset();
+        if (codec == CodecsModuleBuiltins.FAST_CODEC_UTF16) {
+            byteOrder = flag == ORDER_NATIVE || flag == ORDER_SWAPPED ? flag : ORDER_UNDETERMINED;
+        }
+        System.arraycopy(buffer, 0, pending, 0, len);
+        pendingLen = len;
+        return true;
+    }
+}
@@ -45,6 +45,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.runtime.sequence.storage.MroSequenceStorage;
 import com.oracle.truffle.api.CompilerAsserts;
@@ -97,7 +98,7 @@ public abstract class DynamicObjectStorage extends HashingStorage {
         if (store.containsKey(key)) {
             store.set(key, value);
         } else {
-            store.define(key, value);
+            store.define(PythonLanguage.getCurrent().getStringInterner().internKey(key), value);
             store.updateShape();
         }
     }
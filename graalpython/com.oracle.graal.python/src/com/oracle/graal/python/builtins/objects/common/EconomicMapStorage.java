@@ -44,6 +44,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 
@@ -418,6 +419,11 @@ public class EconomicMapStorage extends HashingStorage implements Iterable<Objec
             return;
         }
 
+        if (key instanceof String) {
+            // store the canonical instance, so that lookups with identifiers hit the identity check
+            newKey = new DictKey(PythonLanguage.getCurrent().getStringInterner().internShort((String) key), newKey.hash);
+        }
+
         int nextEntryIndex = totalEntries;
         if (entriesArr == null) {
             entriesArr = new Object[INITIAL_CAPACITY << 1];
@@ -779,7 +779,7 @@ public abstract class HashingStorageNodes {
         }
 
         protected static Shape defineProperty(Shape oldShape, Object name, Object value) {
-            return oldShape.defineProperty(name, value, 0);
+            return oldShape.defineProperty(PythonLanguage.getCurrent().getStringInterner().internKey(name), value, 0);
         }
 
         protected static boolean canSet(Location location, Object value) {
@@ -1109,7 +1109,7 @@ public abstract class HashingStorageNodes {
             @TruffleBoundary
             @Specialization(replaces = {"doDynamicObjectExistingCached", "doDynamicObjectNewCached"}, guards = {"storage.getStore().getShape().isValid()", "!exceedsLimit(storage)"})
             protected HashingStorage doDynamicObjectUncached(DynamicObjectStorage storage, String name, Object value) {
-                storage.getStore().define(name, value);
+                storage.getStore().define(PythonLanguage.getCurrent().getStringInterner().internShort(name), value);
                 actionNode.execute(storage, name, value);
                 return storage;
             }
@@ -1142,7 +1142,7 @@ public abstract class HashingStorageNodes {
                         if (!shape.isValid()) {
                             store.updateShape();
                         }
-                        store.define(skey, val);
+                        store.define(PythonLanguage.getCurrent().getStringInterner().internShort(skey), val);
                         InvalidateMroNode.getUncached().execute(s, skey, val);
                     } else {
                         // switch to economic map
@@ -46,9 +46,11 @@ import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.L
 import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Char;
 import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Double;
 import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Empty;
+import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Float;
 import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Int;
 import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.List;
 import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Long;
+import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Short;
 import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Tuple;
 import static com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType.Uninitialized;
 
@@ -132,6 +134,7 @@ import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.CharSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.FloatSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.ListSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
@@ -142,6 +145,7 @@ import com.oracle.graal.python.runtime.sequence.storage.RangeSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStoreException;
+import com.oracle.graal.python.runtime.sequence.storage.ShortSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.TupleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.TypedSequenceStorage;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -196,12 +200,16 @@ public abstract class SequenceStorageNodes {
                     return rhsType == Boolean || rhsType == Uninitialized || rhsType == Empty;
                 case Byte:
                     return rhsType == Boolean || rhsType == Byte || rhsType == Uninitialized || rhsType == Empty;
+                case Short:
+                    return rhsType == Boolean || rhsType == Byte || rhsType == Short || rhsType == Uninitialized || rhsType == Empty;
                 case Int:
-                    return rhsType == Boolean || rhsType == ListStorageType.Byte || rhsType == ListStorageType.Int || rhsType == Uninitialized || rhsType == Empty;
+                    return rhsType == Boolean || rhsType == ListStorageType.Byte || rhsType == Short || rhsType == ListStorageType.Int || rhsType == Uninitialized || rhsType == Empty;
                 case Long:
-                    return rhsType == Boolean || rhsType == Byte || rhsType == Int || rhsType == Long || rhsType == Uninitialized || rhsType == Empty;
+                    return rhsType == Boolean || rhsType == Byte || rhsType == Short || rhsType == Int || rhsType == Long || rhsType == Uninitialized || rhsType == Empty;
+                case Float:
+                    return rhsType == Float || rhsType == Uninitialized || rhsType == Empty;
                 case Double:
-                    return rhsType == Double || rhsType == Uninitialized || rhsType == Empty;
+                    return rhsType == Float || rhsType == Double || rhsType == Uninitialized || rhsType == Empty;
                 case Char:
                     return rhsType == Char || rhsType == Uninitialized || rhsType == Empty;
                 case Tuple:
@@ -242,11 +250,13 @@ public abstract class SequenceStorageNodes {
             switch (getElementTypeNode.execute(lhs)) {
                 case Boolean:
                 case Byte:
+                case Short:
                 case Int:
                 case Long:
-                    return rhsType == Boolean || rhsType == Byte || rhsType == Int || rhsType == Long || rhsType == Uninitialized || rhsType == Empty;
+                    return rhsType == Boolean || rhsType == Byte || rhsType == Short || rhsType == Int || rhsType == Long || rhsType == Uninitialized || rhsType == Empty;
+                case Float:
                 case Double:
-                    return rhsType == Double || rhsType == Uninitialized || rhsType == Empty;
+                    return rhsType == Float || rhsType == Double || rhsType == Uninitialized || rhsType == Empty;
                 case Char:
                     return rhsType == Char || rhsType == Uninitialized || rhsType == Empty;
                 case Tuple:
@@ -276,8 +286,8 @@ public abstract class SequenceStorageNodes {
 
         protected static final int DEFAULT_CAPACITY = 8;
 
-        protected static final int MAX_SEQUENCE_STORAGES = 13;
-        protected static final int MAX_ARRAY_STORAGES = 9;
+        protected static final int MAX_SEQUENCE_STORAGES = 15;
+        protected static final int MAX_ARRAY_STORAGES = 11;
 
         @Child private GetElementType getElementType;
         @Child private LenNode lenNode;
@@ -338,6 +348,10 @@ public abstract class SequenceStorageNodes {
             return getElementTypeNode.execute(s) == ListStorageType.Char;
         }
 
+        protected static boolean isShort(GetElementType getElementTypeNode, SequenceStorage s) {
+            return getElementTypeNode.execute(s) == ListStorageType.Short;
+        }
+
         protected static boolean isInt(GetElementType getElementTypeNode, SequenceStorage s) {
             return getElementTypeNode.execute(s) == ListStorageType.Int;
         }
@@ -346,6 +360,10 @@ public abstract class SequenceStorageNodes {
             return getElementTypeNode.execute(s) == ListStorageType.Long;
         }
 
+        protected static boolean isFloat(GetElementType getElementTypeNode, SequenceStorage s) {
+            return getElementTypeNode.execute(s) == ListStorageType.Float;
+        }
+
         protected static boolean isDouble(GetElementType getElementTypeNode, SequenceStorage s) {
             return getElementTypeNode.execute(s) == ListStorageType.Double;
         }
@@ -378,6 +396,10 @@ public abstract class SequenceStorageNodes {
             return et == ListStorageType.Char;
         }
 
+        protected static boolean isShort(ListStorageType et) {
+            return et == ListStorageType.Short;
+        }
+
         protected static boolean isInt(ListStorageType et) {
             return et == ListStorageType.Int;
         }
@@ -386,6 +408,10 @@ public abstract class SequenceStorageNodes {
             return et == ListStorageType.Long;
         }
 
+        protected static boolean isFloat(ListStorageType et) {
+            return et == ListStorageType.Float;
+        }
+
         protected static boolean isDouble(ListStorageType et) {
             return et == ListStorageType.Double;
         }
@@ -430,6 +456,10 @@ public abstract class SequenceStorageNodes {
             return getElementType.execute(s);
         }
 
+        protected boolean isShort(SequenceStorage s) {
+            return getElementType(s) == ListStorageType.Short;
+        }
+
         protected boolean isInt(SequenceStorage s) {
             return getElementType(s) == ListStorageType.Int;
         }
@@ -438,6 +468,10 @@ public abstract class SequenceStorageNodes {
             return getElementType(s) == ListStorageType.Long;
         }
 
+        protected boolean isFloat(SequenceStorage s) {
+            return getElementType(s) == ListStorageType.Float;
+        }
+
         protected boolean isDouble(SequenceStorage s) {
             return getElementType(s) == ListStorageType.Double;
         }
@@ -743,6 +777,11 @@ public abstract class SequenceStorageNodes {
             return storage.getCharItemNormalized(idx);
         }
 
+        @Specialization
+        protected int doShort(ShortSequenceStorage storage, int idx) {
+            return storage.getIntItemNormalized(idx);
+        }
+
         @Specialization
         protected int doInt(IntSequenceStorage storage, int idx) {
             return storage.getIntItemNormalized(idx);
@@ -758,6 +797,11 @@ public abstract class SequenceStorageNodes {
             return storage.getLongItemNormalized(idx);
         }
 
+        @Specialization
+        protected double doFloat(FloatSequenceStorage storage, int idx) {
+            return storage.getDoubleItemNormalized(idx);
+        }
+
         @Specialization
         protected double doDouble(DoubleSequenceStorage storage, int idx) {
             return storage.getDoubleItemNormalized(idx);
@@ -839,7 +883,7 @@ public abstract class SequenceStorageNodes {
 
     @GenerateUncached
     @ImportStatic({ListStorageType.class, SequenceStorageBaseNode.class})
-    abstract static class GetItemSliceNode extends Node {
+    public abstract static class GetItemSliceNode extends Node {
 
         public abstract SequenceStorage execute(SequenceStorage s, int start, int stop, int step, int length);
 
@@ -1244,6 +1288,14 @@ public abstract class SequenceStorageNodes {
             storage.setCharItemNormalized(idx, value);
         }
 
+        @Specialization
+        protected void doShort(ShortSequenceStorage storage, int idx, int value) {
+            if (!ShortSequenceStorage.fits(value)) {
+                throw new SequenceStoreException(value);
+            }
+            storage.setShortItemNormalized(idx, (short) value);
+        }
+
         @Specialization
         protected void doInt(IntSequenceStorage storage, int idx, int value) {
             storage.setIntItemNormalized(idx, value);
@@ -1277,6 +1329,14 @@ public abstract class SequenceStorageNodes {
             }
         }
 
+        @Specialization
+        protected void doFloat(FloatSequenceStorage storage, int idx, double value) {
+            if (!FloatSequenceStorage.fits(value)) {
+                throw new SequenceStoreException(value);
+            }
+            storage.setFloatItemNormalized(idx, (float) value);
+        }
+
         @Specialization
         protected void doDouble(DoubleSequenceStorage storage, int idx, double value) {
             storage.setDoubleItemNormalized(idx, value);
@@ -1879,6 +1939,20 @@ public abstract class SequenceStorageNodes {
             return cmpOp.cmp(llen, rlen);
         }
 
+        @Specialization
+        boolean doShortStorage(ShortSequenceStorage left, ShortSequenceStorage right) {
+            int llen = left.length();
+            int rlen = right.length();
+            for (int i = 0; i < Math.min(llen, rlen); i++) {
+                int litem = left.getIntItemNormalized(i);
+                int ritem = right.getIntItemNormalized(i);
+                if (litem != ritem) {
+                    return cmpOp.cmp(litem, ritem);
+                }
+            }
+            return cmpOp.cmp(llen, rlen);
+        }
+
         @Specialization
         boolean doIntStorage(IntSequenceStorage left, IntSequenceStorage right) {
             int llen = left.length();
@@ -1907,6 +1981,20 @@ public abstract class SequenceStorageNodes {
             return cmpOp.cmp(llen, rlen);
         }
 
+        @Specialization
+        boolean doFloatStorage(FloatSequenceStorage left, FloatSequenceStorage right) {
+            int llen = left.length();
+            int rlen = right.length();
+            for (int i = 0; i < Math.min(llen, rlen); i++) {
+                double litem = left.getDoubleItemNormalized(i);
+                double ritem = right.getDoubleItemNormalized(i);
+                if (litem != ritem) {
+                    return cmpOp.cmp(litem, ritem);
+                }
+            }
+            return cmpOp.cmp(llen, rlen);
+        }
+
         @Specialization
         boolean doDoubleStorage(DoubleSequenceStorage left, DoubleSequenceStorage right) {
             int llen = left.length();
@@ -2629,6 +2717,11 @@ public abstract class SequenceStorageNodes {
             return s.indexOfInt(item) != -1;
         }
 
+        @Specialization
+        public boolean doShortStorage(ShortSequenceStorage s, int item) {
+            return s.indexOfInt(item) != -1;
+        }
+
         @Specialization
         public boolean doIntStorage(IntSequenceStorage s, int item) {
             return s.indexOfInt(item) != -1;
@@ -2639,6 +2732,11 @@ public abstract class SequenceStorageNodes {
             return s.indexOfLong(item) != -1;
         }
 
+        @Specialization
+        public boolean doFloatStorage(FloatSequenceStorage s, double item) {
+            return s.indexOfDouble(item) != -1;
+        }
+
         @Specialization
         public boolean doDoubleStorage(DoubleSequenceStorage s, double item) {
             return s.indexOfDouble(item) != -1;
@@ -2845,6 +2943,33 @@ public abstract class SequenceStorageNodes {
             return new LongSequenceStorage(copied);
         }
 
+        @Specialization
+        IntSequenceStorage doShortInteger(ShortSequenceStorage s, @SuppressWarnings("unused") int val) {
+            int[] copied = new int[s.length()];
+            for (int i = 0; i < copied.length; i++) {
+                copied[i] = s.getIntItemNormalized(i);
+            }
+            return new IntSequenceStorage(copied);
+        }
+
+        @Specialization
+        LongSequenceStorage doShortLong(ShortSequenceStorage s, @SuppressWarnings("unused") long val) {
+            long[] copied = new long[s.length()];
+            for (int i = 0; i < copied.length; i++) {
+                copied[i] = s.getIntItemNormalized(i);
+            }
+            return new LongSequenceStorage(copied);
+        }
+
+        @Specialization
+        DoubleSequenceStorage doFloatDouble(FloatSequenceStorage s, @SuppressWarnings("unused") double val) {
+            double[] copied = new double[s.length()];
+            for (int i = 0; i < copied.length; i++) {
+                copied[i] = s.getDoubleItemNormalized(i);
+            }
+            return new DoubleSequenceStorage(copied);
+        }
+
         @Specialization
         SequenceStorage doIntegerInteger(IntSequenceStorage s, @SuppressWarnings("unused") int val) {
             return s;
@@ -2903,6 +3028,9 @@ public abstract class SequenceStorageNodes {
                             (value instanceof Byte || value instanceof Integer || value instanceof Long)) {
                 return false;
             }
+            if (s instanceof ShortSequenceStorage && (value instanceof Integer || value instanceof Long) || s instanceof FloatSequenceStorage && value instanceof Double) {
+                return false;
+            }
             if (value instanceof SequenceStorage && isAssignCompatibleNode.execute(s, (SequenceStorage) value)) {
                 return false;
             }
@@ -2990,6 +3118,11 @@ public abstract class SequenceStorageNodes {
             return new CharSequenceStorage(cap);
         }
 
+        @Specialization(guards = "isShort(s)")
+        ShortSequenceStorage doShort(@SuppressWarnings("unused") SequenceStorage s, int cap) {
+            return new ShortSequenceStorage(cap);
+        }
+
         @Specialization(guards = "isInt(s)")
         IntSequenceStorage doInt(@SuppressWarnings("unused") SequenceStorage s, int cap) {
             return new IntSequenceStorage(cap);
@@ -3000,6 +3133,11 @@ public abstract class SequenceStorageNodes {
             return new LongSequenceStorage(cap);
         }
 
+        @Specialization(guards = "isFloat(s)")
+        FloatSequenceStorage doFloat(@SuppressWarnings("unused") SequenceStorage s, int cap) {
+            return new FloatSequenceStorage(cap);
+        }
+
         @Specialization(guards = "isDouble(s)")
         DoubleSequenceStorage doDouble(@SuppressWarnings("unused") SequenceStorage s, int cap) {
             return new DoubleSequenceStorage(cap);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.csv;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PCsvParser)
+public class CsvParserBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return CsvParserBuiltinsFactory.getFactories();
+    }
+
+    // parse_line(line, field_limit)
+    @Builtin(name = "parse_line", minNumOfPositionalArgs = 3)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class ParseLineNode extends PythonTernaryBuiltinNode {
+        /**
+         * Returns the list of fields if the line completes the record, {@code 0} if the record
+         * continues on the next line, or an error code.
+         */
+        @Specialization(guards = "isString(line)")
+        Object parse(PCsvParser self, Object line, long fieldLimit,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached("createBinaryProfile()") ConditionProfile completeProfile) {
+            int error = self.parse(castToJavaStringNode.execute(line), fieldLimit);
+            if (error != 0) {
+                return error;
+            }
+            if (completeProfile.profile(self.getState() == PCsvParser.START_RECORD)) {
+                return factory().createList(self.takeFields());
+            }
+            return 0;
+        }
+
+        /**
+         * Tells the caller to continue the record with its generic implementation, see
+         * {@code getstate}.
+         */
+        @Fallback
+        @SuppressWarnings("unused")
+        static Object parse(Object self, Object line, Object fieldLimit) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "reset", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ResetNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static PNone reset(PCsvParser self) {
+            self.reset();
+            return PNone.NONE;
+        }
+    }
+
+    // getstate() -> (state, field, fields) of the current record
+    @Builtin(name = "getstate", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class GetStateNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        PTuple getState(PCsvParser self) {
+            return factory().createTuple(new Object[]{self.getState(), self.getField(), factory().createList(self.getFields())});
+        }
+    }
+}
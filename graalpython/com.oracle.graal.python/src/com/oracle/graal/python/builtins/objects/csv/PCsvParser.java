@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.csv;
+
+import java.util.ArrayList;
+
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * The line scanner of one {@code _csv.Reader}. It keeps the parser state, the current field and
+ * the fields of the current record across the lines of a record, so that a multi-line record is
+ * scanned without copying the pending field back and forth. The field buffer and the field list
+ * are cleared instead of reallocated for every record.
+ */
+public final class PCsvParser extends PythonObject {
+
+    // the parser states of _csv.Reader
+    public static final int START_RECORD = 0;
+    private static final int START_FIELD = 1;
+    private static final int ESCAPED_CHAR = 2;
+    private static final int IN_FIELD = 3;
+    private static final int IN_QUOTED_FIELD = 4;
+    private static final int ESCAPE_IN_QUOTED_FIELD = 5;
+    private static final int QUOTE_IN_QUOTED_FIELD = 6;
+    private static final int EAT_CRNL = 7;
+
+    public static final int ERROR_FIELD_LIMIT = -1;
+    public static final int ERROR_DELIMITER_EXPECTED = -2;
+    public static final int ERROR_NEWLINE_IN_FIELD = -3;
+
+    private final int delimiter;
+    private final int quotechar;
+    private final int escapechar;
+    private final boolean doublequote;
+    private final boolean skipinitialspace;
+    private final boolean strict;
+
+    private final StringBuilder field = new StringBuilder();
+    private final ArrayList<Object> fields = new ArrayList<>();
+    private int state = START_RECORD;
+    private long fieldLimit;
+
+    public PCsvParser(LazyPythonClass cls, int delimiter, int quotechar, int escapechar, boolean doublequote, boolean skipinitialspace, boolean strict) {
+        super(cls);
+        this.delimiter = delimiter;
+        this.quotechar = quotechar;
+        this.escapechar = escapechar;
+        this.doublequote = doublequote;
+        this.skipinitialspace = skipinitialspace;
+        this.strict = strict;
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    @TruffleBoundary
+    public String getField() {
+        return field.toString();
+    }
+
+    @TruffleBoundary
+    public Object[] getFields() {
+        return fields.toArray();
+    }
+
+    /**
+     * Returns the fields of the completed record and clears them for the next one.
+     */
+    @TruffleBoundary
+    public Object[] takeFields() {
+        Object[] result = fields.toArray();
+        fields.clear();
+        return result;
+    }
+
+    /**
+     * Starts a new record.
+     */
+    @TruffleBoundary
+    public void reset() {
+        state = START_RECORD;
+        field.setLength(0);
+        fields.clear();
+    }
+
+    private static boolean isNewline(int c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private void saveField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private boolean addChar(int c) {
+        field.appendCodePoint(c);
+        return field.length() <= fieldLimit || field.codePointCount(0, field.length()) <= fieldLimit;
+    }
+
+    /**
+     * Processes all characters of {@code line} and the end of the line. Returns {@code 0} or one of
+     * the error codes. The record is complete if the state is {@link #START_RECORD} afterwards.
+     */
+    @TruffleBoundary
+    public int parse(String line, long limit) {
+        fieldLimit = limit;
+        int n = line.length();
+        int i = 0;
+        while (i < n) {
+            int c = line.codePointAt(i);
+            i += Character.charCount(c);
+            switch (state) {
+                case START_RECORD:
+                    if (isNewline(c)) {
+                        state = EAT_CRNL;
+                        break;
+                    }
+                    state = START_FIELD;
+                    // fall through
+                case START_FIELD:
+                    if (isNewline(c)) {
+                        saveField();
+                        state = EAT_CRNL;
+                    } else if (c == quotechar) {
+                        state = IN_QUOTED_FIELD;
+                    } else if (c == escapechar) {
+                        state = ESCAPED_CHAR;
+                    } else if (c == ' ' && skipinitialspace) {
+                        // ignore space at start of field
+                    } else if (c == delimiter) {
+                        saveField();
+                    } else {
+                        if (!addChar(c)) {
+                            return ERROR_FIELD_LIMIT;
+                        }
+                        state = IN_FIELD;
+                    }
+                    break;
+                case ESCAPED_CHAR:
+                    if (!addChar(c)) {
+                        return ERROR_FIELD_LIMIT;
+                    }
+                    state = IN_FIELD;
+                    break;
+                case IN_FIELD:
+                    if (isNewline(c)) {
+                        saveField();
+                        state = EAT_CRNL;
+                    } else if (c == escapechar) {
+                        state = ESCAPED_CHAR;
+                    } else if (c == delimiter) {
+                        saveField();
+                        state = START_FIELD;
+                    } else {
+                        // copy the run of ordinary characters at once
+                        int start = i - Character.charCount(c);
+                        while (i < n) {
+                            int next = line.codePointAt(i);
+                            if (isNewline(next) || next == escapechar || next == delimiter) {
+                                break;
+                            }
+                            i += Character.charCount(next);
+                        }
+                        field.append(line, start, i);
+                        if (field.length() > fieldLimit && field.codePointCount(0, field.length()) > fieldLimit) {
+                            return ERROR_FIELD_LIMIT;
+                        }
+                    }
+                    break;
+                case IN_QUOTED_FIELD:
+                    if (c == escapechar) {
+                        state = ESCAPE_IN_QUOTED_FIELD;
+                    } else if (c == quotechar) {
+                        state = doublequote ? QUOTE_IN_QUOTED_FIELD : IN_FIELD;
+                    } else if (!addChar(c)) {
+                        return ERROR_FIELD_LIMIT;
+                    }
+                    break;
+                case ESCAPE_IN_QUOTED_FIELD:
+                    if (!addChar(c)) {
+                        return ERROR_FIELD_LIMIT;
+                    }
+                    state = IN_QUOTED_FIELD;
+                    break;
+                case QUOTE_IN_QUOTED_FIELD:
+                    if (c == quotechar) {
+                        // save "" as "
+                        if (!addChar(c)) {
+                            return ERROR_FIELD_LIMIT;
+                        }
+                        state = IN_QUOTED_FIELD;
+                    } else if (c == delimiter) {
+                        saveField();
+                        state = START_FIELD;
+                    } else if (isNewline(c)) {
+                        saveField();
+                        state = EAT_CRNL;
+                    } else if (!strict) {
+                        if (!addChar(c)) {
+                            return ERROR_FIELD_LIMIT;
+                        }
+                        state = IN_FIELD;
+                    } else {
+                        return ERROR_DELIMITER_EXPECTED;
+                    }
+                    break;
+                case EAT_CRNL:
+                    if (!isNewline(c)) {
+                        return ERROR_NEWLINE_IN_FIELD;
+                    }
+                    break;
+            }
+        }
+        return endOfLine();
+    }
+
+    private int endOfLine() {
+        switch (state) {
+            case EAT_CRNL:
+            case START_RECORD:
+                state = START_RECORD;
+                break;
+            case IN_FIELD:
+            case START_FIELD:
+            case QUOTE_IN_QUOTED_FIELD:
+                saveField();
+                state = START_RECORD;
+                break;
+            case ESCAPED_CHAR:
+                if (!addChar('\n')) {
+                    return ERROR_FIELD_LIMIT;
+                }
+                state = IN_FIELD;
+                break;
+            case ESCAPE_IN_QUOTED_FIELD:
+                if (!addChar('\n')) {
+                    return ERROR_FIELD_LIMIT;
+                }
+                state = IN_QUOTED_FIELD;
+                break;
+        }
+        return 0;
+    }
+}
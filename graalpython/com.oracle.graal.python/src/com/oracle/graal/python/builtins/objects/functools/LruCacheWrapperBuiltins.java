@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.functools;
+
+import static com.oracle.graal.python.nodes.SpecialAttributeNames.__DICT__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__CALL__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__GET__;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
+import com.oracle.graal.python.builtins.objects.common.HashingStorage;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes;
+import com.oracle.graal.python.builtins.objects.common.PHashingCollection;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.functools.PLruCacheWrapper.Link;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
+import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PLruCacheWrapper)
+public class LruCacheWrapperBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return LruCacheWrapperBuiltinsFactory.getFactories();
+    }
+
+    @Builtin(name = __CALL__, minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    public abstract static class LruCallNode extends PythonVarargsBuiltinNode {
+        @Child private CallNode callNode = CallNode.create();
+
+        @Specialization(guards = "self.getMaxSize() == 0")
+        protected Object doNoCache(VirtualFrame frame, PLruCacheWrapper self, Object[] arguments, PKeyword[] keywords) {
+            self.acquireLock();
+            try {
+                self.miss();
+            } finally {
+                self.releaseLock();
+            }
+            return callNode.execute(frame, self.getFunction(), arguments, keywords);
+        }
+
+        @Specialization(guards = "self.getMaxSize() != 0")
+        protected Object doCache(VirtualFrame frame, PLruCacheWrapper self, Object[] arguments, PKeyword[] keywords,
+                        @Cached GetClassNode getClassNode,
+                        @Cached HashingStorageNodes.GetItemNode getItemNode,
+                        @Cached HashingStorageNodes.SetItemNode setItemNode,
+                        @Cached HashingStorageNodes.DelItemNode delItemNode,
+                        @Cached HashingStorageNodes.LenNode lenNode,
+                        @Cached("createBinaryProfile()") ConditionProfile boundedProfile,
+                        @Cached("createBinaryProfile()") ConditionProfile hitProfile,
+                        @Cached("createBinaryProfile()") ConditionProfile fullProfile) {
+            Object key = makeKey(self, arguments, keywords, getClassNode);
+            PDict cache = self.getCache();
+            boolean bounded = boundedProfile.profile(self.getMaxSize() != PLruCacheWrapper.UNBOUNDED);
+            self.acquireLock();
+            try {
+                Object cached = getItemNode.execute(frame, cache.getDictStorage(), key);
+                if (hitProfile.profile(cached != null)) {
+                    self.hit();
+                    if (bounded) {
+                        Link link = (Link) cached;
+                        self.moveToEnd(link);
+                        return link.result;
+                    }
+                    return cached;
+                }
+                self.miss();
+            } finally {
+                self.releaseLock();
+            }
+            Object result = callNode.execute(frame, self.getFunction(), arguments, keywords);
+            self.acquireLock();
+            try {
+                Object value = result;
+                if (bounded) {
+                    if (getItemNode.execute(frame, cache.getDictStorage(), key) != null) {
+                        // a recursive or concurrent call already cached this key
+                        return result;
+                    }
+                    if (fullProfile.profile(lenNode.execute(cache.getDictStorage()) >= self.getMaxSize())) {
+                        Link oldest = self.removeOldest();
+                        delItemNode.execute(frame, cache, cache.getDictStorage(), oldest.key);
+                    }
+                    Link link = new Link(key, result);
+                    self.append(link);
+                    value = link;
+                }
+                HashingStorage storage = setItemNode.execute(frame, cache.getDictStorage(), key, value);
+                cache.setDictStorage(storage);
+            } finally {
+                self.releaseLock();
+            }
+            return result;
+        }
+
+        /**
+         * Builds the same kind of key as {@code functools._make_key}: a single int or str argument
+         * is its own key, anything else becomes a tuple of the positional arguments, followed by
+         * the keyword mark and the flattened keyword items and, if {@code typed}, the argument
+         * types.
+         */
+        private Object makeKey(PLruCacheWrapper self, Object[] arguments, PKeyword[] keywords, GetClassNode getClassNode) {
+            if (keywords.length == 0 && arguments.length == 1 && isFastKey(arguments[0])) {
+                return arguments[0];
+            }
+            boolean typed = self.isTyped();
+            int size = arguments.length;
+            if (keywords.length > 0) {
+                size += 1 + 2 * keywords.length;
+            }
+            if (typed) {
+                size += arguments.length + keywords.length;
+            }
+            Object[] items = new Object[size];
+            System.arraycopy(arguments, 0, items, 0, arguments.length);
+            int n = arguments.length;
+            if (keywords.length > 0) {
+                items[n++] = self.getKeywordMark();
+                for (PKeyword keyword : keywords) {
+                    items[n++] = keyword.getName();
+                    items[n++] = keyword.getValue();
+                }
+            }
+            if (typed) {
+                for (Object argument : arguments) {
+                    items[n++] = getClassNode.execute(argument);
+                }
+                for (PKeyword keyword : keywords) {
+                    items[n++] = getClassNode.execute(keyword.getValue());
+                }
+            }
+            return factory().createTuple(items);
+        }
+
+        private static boolean isFastKey(Object object) {
+            return object instanceof Integer || object instanceof Long || object instanceof String;
+        }
+
+        @Override
+        public Object varArgExecute(VirtualFrame frame, @SuppressWarnings("unused") Object self, Object[] arguments, PKeyword[] keywords) throws VarargsBuiltinDirectInvocationNotSupported {
+            Object[] argsWithoutSelf = new Object[arguments.length - 1];
+            System.arraycopy(arguments, 1, argsWithoutSelf, 0, argsWithoutSelf.length);
+            return execute(frame, arguments[0], argsWithoutSelf, keywords);
+        }
+    }
+
+    @Builtin(name = "cache_info", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CacheInfoNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object cacheInfo(VirtualFrame frame, PLruCacheWrapper self,
+                        @Cached HashingStorageNodes.LenNode lenNode,
+                        @Cached CallNode callNode) {
+            int maxSize = self.getMaxSize();
+            Object maxSizeObject = maxSize == PLruCacheWrapper.UNBOUNDED ? PNone.NONE : maxSize;
+            long hits;
+            long misses;
+            int currentSize;
+            self.acquireLock();
+            try {
+                hits = self.getHits();
+                misses = self.getMisses();
+                currentSize = lenNode.execute(self.getCache().getDictStorage());
+            } finally {
+                self.releaseLock();
+            }
+            return callNode.execute(frame, self.getCacheInfoType(), new Object[]{hits, misses, maxSizeObject, currentSize}, PKeyword.EMPTY_KEYWORDS);
+        }
+    }
+
+    @Builtin(name = "cache_clear", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CacheClearNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object cacheClear(PLruCacheWrapper self) {
+            self.acquireLock();
+            try {
+                self.clear();
+                self.getCache().setDictStorage(EconomicMapStorage.create(false));
+            } finally {
+                self.releaseLock();
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = __GET__, minNumOfPositionalArgs = 2, maxNumOfPositionalArgs = 3)
+    @GenerateNodeFactory
+    public abstract static class GetNode extends PythonTernaryBuiltinNode {
+        @Specialization(guards = "isNone(instance)")
+        Object getUnbound(PLruCacheWrapper self, @SuppressWarnings("unused") Object instance, @SuppressWarnings("unused") Object owner) {
+            return self;
+        }
+
+        @Specialization(guards = "!isNone(instance)")
+        Object getBound(PLruCacheWrapper self, Object instance, @SuppressWarnings("unused") Object owner) {
+            return factory().createMethod(instance, self);
+        }
+    }
+
+    @Builtin(name = __DICT__, minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    abstract static class DictNode extends PythonBinaryBuiltinNode {
+        @Specialization(limit = "1")
+        PNone dict(PLruCacheWrapper self, PHashingCollection mapping,
+                        @CachedLibrary("self") PythonObjectLibrary lib) {
+            try {
+                lib.setDict(self, mapping);
+            } catch (UnsupportedMessageException e) {
+                CompilerDirectives.transferToInterpreter();
+                throw new IllegalStateException(e);
+            }
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isNoValue(mapping)", limit = "1")
+        Object dict(PLruCacheWrapper self, @SuppressWarnings("unused") PNone mapping,
+                        @CachedLibrary("self") PythonObjectLibrary lib) {
+            PHashingCollection dict = lib.getDict(self);
+            if (dict == null) {
+                dict = factory().createDictFixedStorage(self);
+                try {
+                    lib.setDict(self, dict);
+                } catch (UnsupportedMessageException e) {
+                    CompilerDirectives.transferToInterpreter();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return dict;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.functools;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * The object returned by {@code functools._lru_cache_wrapper}. The cache is a dict over an
+ * {@code EconomicMapStorage}. For a bounded cache, the dict values are {@link Link}s of a doubly
+ * linked list in access order, so a hit only relinks one node and an eviction removes the oldest
+ * node without rehashing the remaining keys. Since threads run in parallel, the cache, the list
+ * and the statistics are only accessed while holding {@link #acquireLock() the wrapper's lock},
+ * which is reentrant like the {@code RLock} of the Python implementation. The lock is not held
+ * while the wrapped function runs.
+ */
+public final class PLruCacheWrapper extends PythonObject {
+
+    /** Marker for {@code maxsize=None}. */
+    public static final int UNBOUNDED = -1;
+
+    static final class Link {
+        private Link prev;
+        private Link next;
+        final Object key;
+        final Object result;
+
+        Link(Object key, Object result) {
+            this.key = key;
+            this.result = result;
+        }
+    }
+
+    private final Object function;
+    private final int maxSize;
+    private final boolean typed;
+    private final Object cacheInfoType;
+    /** Separates positional from keyword arguments in keys, like {@code functools._make_key}. */
+    private final Object keywordMark;
+
+    private final PDict cache;
+    private final Link root = new Link(null, null);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long hits;
+    private long misses;
+
+    public PLruCacheWrapper(LazyPythonClass cls, Object function, int maxSize, boolean typed, Object cacheInfoType, Object keywordMark, PDict cache) {
+        super(cls);
+        this.function = function;
+        this.maxSize = maxSize;
+        this.typed = typed;
+        this.cacheInfoType = cacheInfoType;
+        this.keywordMark = keywordMark;
+        this.cache = cache;
+        root.prev = root;
+        root.next = root;
+    }
+
+    public Object getFunction() {
+        return function;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isTyped() {
+        return typed;
+    }
+
+    public Object getCacheInfoType() {
+        return cacheInfoType;
+    }
+
+    public Object getKeywordMark() {
+        return keywordMark;
+    }
+
+    public PDict getCache() {
+        return cache;
+    }
+
+    @TruffleBoundary
+    public void acquireLock() {
+        lock.lock();
+    }
+
+    @TruffleBoundary
+    public void releaseLock() {
+        lock.unlock();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void hit() {
+        hits++;
+    }
+
+    public void miss() {
+        misses++;
+    }
+
+    /** Marks {@code link} as the most recently used entry. */
+    void moveToEnd(Link link) {
+        link.prev.next = link.next;
+        link.next.prev = link.prev;
+        append(link);
+    }
+
+    void append(Link link) {
+        Link last = root.prev;
+        link.prev = last;
+        link.next = root;
+        last.next = link;
+        root.prev = link;
+    }
+
+    /** Unlinks and returns the least recently used entry. */
+    Link removeOldest() {
+        Link oldest = root.next;
+        assert oldest != root;
+        root.next = oldest.next;
+        oldest.next.prev = root;
+        oldest.prev = null;
+        oldest.next = null;
+        return oldest;
+    }
+
+    public void clear() {
+        root.prev = root;
+        root.next = root;
+        hits = 0;
+        misses = 0;
+    }
+}
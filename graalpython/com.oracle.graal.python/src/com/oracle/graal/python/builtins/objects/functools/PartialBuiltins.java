@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.functools;
+
+import static com.oracle.graal.python.nodes.SpecialAttributeNames.__DICT__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__CALL__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__SETSTATE__;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.common.PHashingCollection;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.argument.keywords.ExecuteKeywordStarargsNode.ExpandKeywordStarargsNode;
+import com.oracle.graal.python.nodes.attributes.LookupInheritedAttributeNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PPartial)
+public class PartialBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return PartialBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Appends {@code keywords} to {@code bound}, dropping the bound keywords that are passed again
+     * since the later ones win.
+     */
+    public static PKeyword[] mergeKeywords(PKeyword[] bound, PKeyword[] keywords) {
+        PKeyword[] merged = new PKeyword[bound.length + keywords.length];
+        int n = 0;
+        outer: for (PKeyword boundKeyword : bound) {
+            for (PKeyword keyword : keywords) {
+                if (boundKeyword.getName().equals(keyword.getName())) {
+                    continue outer;
+                }
+            }
+            merged[n++] = boundKeyword;
+        }
+        System.arraycopy(keywords, 0, merged, n, keywords.length);
+        n += keywords.length;
+        if (n == merged.length) {
+            return merged;
+        }
+        PKeyword[] result = new PKeyword[n];
+        System.arraycopy(merged, 0, result, 0, n);
+        return result;
+    }
+
+    @Builtin(name = __CALL__, minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    public abstract static class CallNode extends PythonVarargsBuiltinNode {
+        @Child private com.oracle.graal.python.nodes.call.CallNode callNode = com.oracle.graal.python.nodes.call.CallNode.create();
+
+        @Specialization
+        protected Object doIt(VirtualFrame frame, PPartial self, Object[] arguments, PKeyword[] keywords,
+                        @Cached ExpandKeywordStarargsNode expandKeywordsNode,
+                        @Cached("createBinaryProfile()") ConditionProfile hasBoundArgsProfile,
+                        @Cached("createBinaryProfile()") ConditionProfile hasBoundKeywordsProfile,
+                        @Cached("createBinaryProfile()") ConditionProfile hasKeywordsProfile) {
+            Object[] boundArgs = self.getArgs();
+            Object[] callArgs = arguments;
+            if (hasBoundArgsProfile.profile(boundArgs.length > 0)) {
+                callArgs = new Object[boundArgs.length + arguments.length];
+                System.arraycopy(boundArgs, 0, callArgs, 0, boundArgs.length);
+                System.arraycopy(arguments, 0, callArgs, boundArgs.length, arguments.length);
+            }
+            PKeyword[] boundKeywords = expandKeywordsNode.executeWith(self.getKeywords());
+            PKeyword[] callKeywords = keywords;
+            if (hasBoundKeywordsProfile.profile(boundKeywords.length > 0)) {
+                if (hasKeywordsProfile.profile(keywords.length > 0)) {
+                    callKeywords = mergeKeywords(boundKeywords, keywords);
+                } else {
+                    callKeywords = boundKeywords;
+                }
+            }
+            return callNode.execute(frame, self.getFunction(), callArgs, callKeywords);
+        }
+
+        @Override
+        public Object varArgExecute(VirtualFrame frame, @SuppressWarnings("unused") Object self, Object[] arguments, PKeyword[] keywords) throws VarargsBuiltinDirectInvocationNotSupported {
+            Object[] argsWithoutSelf = new Object[arguments.length - 1];
+            System.arraycopy(arguments, 1, argsWithoutSelf, 0, argsWithoutSelf.length);
+            return execute(frame, arguments[0], argsWithoutSelf, keywords);
+        }
+    }
+
+    @Builtin(name = "func", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class FuncNode extends PythonBuiltinNode {
+        @Specialization
+        Object func(PPartial self) {
+            return self.getFunction();
+        }
+    }
+
+    @Builtin(name = "args", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class ArgsNode extends PythonBuiltinNode {
+        @Specialization
+        Object args(PPartial self) {
+            return factory().createTuple(self.getArgs());
+        }
+    }
+
+    @Builtin(name = "keywords", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class KeywordsNode extends PythonBuiltinNode {
+        @Specialization
+        Object keywords(PPartial self) {
+            return self.getKeywords();
+        }
+    }
+
+    @Builtin(name = __DICT__, minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    abstract static class DictNode extends PythonBinaryBuiltinNode {
+        @Specialization(limit = "1")
+        PNone dict(PPartial self, PHashingCollection mapping,
+                        @CachedLibrary("self") PythonObjectLibrary lib) {
+            try {
+                lib.setDict(self, mapping);
+            } catch (UnsupportedMessageException e) {
+                CompilerDirectives.transferToInterpreter();
+                throw new IllegalStateException(e);
+            }
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isNoValue(mapping)", limit = "1")
+        Object dict(PPartial self, @SuppressWarnings("unused") PNone mapping,
+                        @CachedLibrary("self") PythonObjectLibrary lib) {
+            PHashingCollection dict = lib.getDict(self);
+            if (dict == null) {
+                dict = factory().createDictFixedStorage(self);
+                try {
+                    lib.setDict(self, dict);
+                } catch (UnsupportedMessageException e) {
+                    CompilerDirectives.transferToInterpreter();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return dict;
+        }
+    }
+
+    @Builtin(name = __SETSTATE__, minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SetStateNode extends PythonBinaryBuiltinNode {
+        @Specialization(limit = "1")
+        Object setState(PPartial self, PTuple state,
+                        @Cached SequenceStorageNodes.LenNode lenNode,
+                        @Cached SequenceStorageNodes.ToArrayNode toArrayNode,
+                        @Cached("create(__CALL__)") LookupInheritedAttributeNode lookupCallNode,
+                        @CachedLibrary("self") PythonObjectLibrary lib) {
+            if (lenNode.execute(state.getSequenceStorage()) != 4) {
+                throw raise(TypeError, "invalid partial state");
+            }
+            Object[] items = toArrayNode.execute(state.getSequenceStorage());
+            Object function = items[0];
+            Object args = items[1];
+            Object keywords = items[2];
+            Object namespace = items[3];
+            boolean callable = PGuards.isCallable(function) || lookupCallNode.execute(function) != PNone.NO_VALUE;
+            if (!callable || !(args instanceof PTuple) || !(keywords instanceof PDict || keywords == PNone.NONE) || !(namespace instanceof PDict || namespace == PNone.NONE)) {
+                throw raise(TypeError, "invalid partial state");
+            }
+            Object[] boundArgs = toArrayNode.execute(((PTuple) args).getSequenceStorage());
+            PDict boundKeywords = keywords == PNone.NONE ? factory().createDict() : (PDict) keywords;
+            self.setState(function, boundArgs, boundKeywords);
+            if (namespace instanceof PDict) {
+                try {
+                    lib.setDict(self, (PDict) namespace);
+                } catch (UnsupportedMessageException e) {
+                    CompilerDirectives.transferToInterpreter();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "!isPTuple(state)")
+        Object setState(@SuppressWarnings("unused") PPartial self, @SuppressWarnings("unused") Object state) {
+            throw raise(TypeError, "argument to __setstate__ must be a tuple");
+        }
+    }
+}
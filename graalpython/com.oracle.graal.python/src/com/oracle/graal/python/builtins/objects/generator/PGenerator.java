@@ -66,10 +66,20 @@ public final class PGenerator extends PythonBuiltinObject {
          * Setting up the persistent frame in {@link #arguments}.
          */
         GeneratorControlData generatorArgs = new GeneratorControlData(numOfActiveFlags, numOfGeneratorBlockNode, numOfGeneratorForNode);
+        PArguments.setControlData(arguments, generatorArgs);
+        initializeGeneratorFrame(frameDescriptor, arguments, closure, cellSlots, factory);
+        return new PGenerator(clazz, name, callTargets, frameDescriptor, arguments, closure);
+    }
+
+    /**
+     * Creates the frame holding the generator's local variables and stores it in
+     * {@code arguments}. This is also used to run the code of a generator expression to completion
+     * without creating a generator object.
+     */
+    public static void initializeGeneratorFrame(FrameDescriptor frameDescriptor, Object[] arguments, PCell[] closure, ExecutionCellSlots cellSlots, PythonObjectFactory factory) {
         Object[] generatorFrameArguments = PArguments.create();
         MaterializedFrame generatorFrame = Truffle.getRuntime().createMaterializedFrame(generatorFrameArguments, frameDescriptor);
         PArguments.setGeneratorFrame(arguments, generatorFrame);
-        PArguments.setControlData(arguments, generatorArgs);
         PArguments.setCurrentFrameInfo(generatorFrameArguments, new PFrame.Reference(null));
         // set generator closure to the generator frame locals
         FrameSlot[] freeVarSlots = cellSlots.getFreeVarSlots();
@@ -90,7 +100,6 @@ public final class PGenerator extends PythonBuiltinObject {
             generatorFrame.setObject(cellVarSlots[i], new PCell(cellVarAssumptions[i]));
         }
         PArguments.setGeneratorFrameLocals(generatorFrameArguments, factory.createDictLocals(generatorFrame));
-        return new PGenerator(clazz, name, callTargets, frameDescriptor, arguments, closure);
     }
 
     private PGenerator(LazyPythonClass clazz, String name, RootCallTarget[] callTargets, FrameDescriptor frameDescriptor, Object[] arguments, PCell[] closure) {
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.hashlib;
+
+import java.security.MessageDigest;
+
+/**
+ * BLAKE2b as specified in RFC 7693, including the parameter block features (salt, personalization,
+ * tree hashing) supported by CPython's {@code _blake2} module.
+ */
+public final class Blake2bDigest extends MessageDigest implements Cloneable {
+    public static final int BLOCK_SIZE = 128;
+    public static final int MAX_DIGEST_SIZE = 64;
+    public static final int MAX_KEY_SIZE = 64;
+    public static final int SALT_SIZE = 16;
+    public static final int PERSON_SIZE = 16;
+
+    private static final long[] IV = {
+                    0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL, 0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+                    0x510e527fade682d1L, 0x9b05688c2b3e6c1fL, 0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L
+    };
+
+    static final byte[][] SIGMA = {
+                    {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+                    {14, 10, 4, 8, 9, 15, 13, 6, 1, 12, 0, 2, 11, 7, 5, 3},
+                    {11, 8, 12, 0, 5, 2, 15, 13, 10, 14, 3, 6, 7, 1, 9, 4},
+                    {7, 9, 3, 1, 13, 12, 11, 14, 2, 6, 5, 10, 4, 0, 15, 8},
+                    {9, 0, 5, 7, 2, 4, 10, 15, 14, 1, 11, 12, 6, 8, 3, 13},
+                    {2, 12, 6, 10, 0, 11, 8, 3, 4, 13, 7, 5, 15, 14, 1, 9},
+                    {12, 5, 1, 15, 14, 13, 4, 10, 0, 7, 6, 3, 9, 2, 8, 11},
+                    {13, 11, 7, 14, 12, 1, 3, 9, 5, 0, 15, 4, 8, 6, 2, 10},
+                    {6, 15, 14, 9, 11, 3, 0, 8, 12, 2, 13, 7, 1, 4, 10, 5},
+                    {10, 2, 8, 4, 7, 6, 1, 5, 15, 11, 9, 14, 3, 12, 13, 0}
+    };
+
+    private final int digestSize;
+    private final boolean lastNode;
+    /** Chain value after applying the parameter block; used for {@link #engineReset()}. */
+    private final long[] initialH;
+    /** The zero-padded key block or {@code null}. */
+    private final byte[] keyBlock;
+
+    private long[] h = new long[8];
+    private byte[] buffer = new byte[BLOCK_SIZE];
+    private int bufferLength;
+    private long t0;
+    private long t1;
+    private long[] m = new long[16];
+    private long[] v = new long[16];
+
+    public Blake2bDigest(int digestSize, byte[] key, byte[] salt, byte[] person, int fanout, int depth, long leafSize, long nodeOffset, int nodeDepth, int innerSize, boolean lastNode) {
+        super("BLAKE2B-" + digestSize * 8);
+        assert digestSize > 0 && digestSize <= MAX_DIGEST_SIZE;
+        assert key.length <= MAX_KEY_SIZE && salt.length <= SALT_SIZE && person.length <= PERSON_SIZE;
+        this.digestSize = digestSize;
+        this.lastNode = lastNode;
+        byte[] param = new byte[64];
+        param[0] = (byte) digestSize;
+        param[1] = (byte) key.length;
+        param[2] = (byte) fanout;
+        param[3] = (byte) depth;
+        Blake2sDigest.storeInt(param, 4, (int) leafSize);
+        storeLong(param, 8, nodeOffset);
+        param[16] = (byte) nodeDepth;
+        param[17] = (byte) innerSize;
+        System.arraycopy(salt, 0, param, 32, salt.length);
+        System.arraycopy(person, 0, param, 48, person.length);
+        initialH = new long[8];
+        for (int i = 0; i < 8; i++) {
+            initialH[i] = IV[i] ^ loadLong(param, i * 8);
+        }
+        if (key.length > 0) {
+            keyBlock = new byte[BLOCK_SIZE];
+            System.arraycopy(key, 0, keyBlock, 0, key.length);
+        } else {
+            keyBlock = null;
+        }
+        engineReset();
+    }
+
+    public Blake2bDigest(int digestSize) {
+        this(digestSize, new byte[0], new byte[0], new byte[0], 1, 1, 0, 0, 0, 0, false);
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return digestSize;
+    }
+
+    @Override
+    protected void engineReset() {
+        System.arraycopy(initialH, 0, h, 0, 8);
+        t0 = 0;
+        t1 = 0;
+        if (keyBlock != null) {
+            System.arraycopy(keyBlock, 0, buffer, 0, BLOCK_SIZE);
+            bufferLength = BLOCK_SIZE;
+        } else {
+            bufferLength = 0;
+        }
+    }
+
+    @Override
+    protected void engineUpdate(byte input) {
+        if (bufferLength == BLOCK_SIZE) {
+            incrementCounter(BLOCK_SIZE);
+            compress(buffer, 0, false);
+            bufferLength = 0;
+        }
+        buffer[bufferLength++] = input;
+    }
+
+    @Override
+    protected void engineUpdate(byte[] input, int offset, int len) {
+        if (len <= 0) {
+            return;
+        }
+        int off = offset;
+        int remaining = len;
+        // the last block must stay buffered until we know whether more data follows
+        if (bufferLength > 0) {
+            int fill = BLOCK_SIZE - bufferLength;
+            if (remaining <= fill) {
+                System.arraycopy(input, off, buffer, bufferLength, remaining);
+                bufferLength += remaining;
+                return;
+            }
+            System.arraycopy(input, off, buffer, bufferLength, fill);
+            incrementCounter(BLOCK_SIZE);
+            compress(buffer, 0, false);
+            off += fill;
+            remaining -= fill;
+        }
+        while (remaining > BLOCK_SIZE) {
+            incrementCounter(BLOCK_SIZE);
+            compress(input, off, false);
+            off += BLOCK_SIZE;
+            remaining -= BLOCK_SIZE;
+        }
+        System.arraycopy(input, off, buffer, 0, remaining);
+        bufferLength = remaining;
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        incrementCounter(bufferLength);
+        for (int i = bufferLength; i < BLOCK_SIZE; i++) {
+            buffer[i] = 0;
+        }
+        compress(buffer, 0, true);
+        byte[] out = new byte[8 * 8];
+        for (int i = 0; i < 8; i++) {
+            storeLong(out, i * 8, h[i]);
+        }
+        engineReset();
+        if (digestSize == out.length) {
+            return out;
+        }
+        byte[] result = new byte[digestSize];
+        System.arraycopy(out, 0, result, 0, digestSize);
+        return result;
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        Blake2bDigest copy = (Blake2bDigest) super.clone();
+        copy.h = h.clone();
+        copy.buffer = buffer.clone();
+        copy.m = m.clone();
+        copy.v = v.clone();
+        return copy;
+    }
+
+    private void incrementCounter(int inc) {
+        t0 += inc;
+        if (Long.compareUnsigned(t0, inc) < 0) {
+            t1++;
+        }
+    }
+
+    private void compress(byte[] block, int offset, boolean last) {
+        long[] mm = m;
+        long[] vv = v;
+        for (int i = 0; i < 16; i++) {
+            mm[i] = loadLong(block, offset + i * 8);
+        }
+        System.arraycopy(h, 0, vv, 0, 8);
+        System.arraycopy(IV, 0, vv, 8, 8);
+        vv[12] ^= t0;
+        vv[13] ^= t1;
+        if (last) {
+            vv[14] = ~vv[14];
+            if (lastNode) {
+                vv[15] = ~vv[15];
+            }
+        }
+        for (int r = 0; r < 12; r++) {
+            byte[] s = SIGMA[r % 10];
+            g(vv, 0, 4, 8, 12, mm[s[0]], mm[s[1]]);
+            g(vv, 1, 5, 9, 13, mm[s[2]], mm[s[3]]);
+            g(vv, 2, 6, 10, 14, mm[s[4]], mm[s[5]]);
+            g(vv, 3, 7, 11, 15, mm[s[6]], mm[s[7]]);
+            g(vv, 0, 5, 10, 15, mm[s[8]], mm[s[9]]);
+            g(vv, 1, 6, 11, 12, mm[s[10]], mm[s[11]]);
+            g(vv, 2, 7, 8, 13, mm[s[12]], mm[s[13]]);
+            g(vv, 3, 4, 9, 14, mm[s[14]], mm[s[15]]);
+        }
+        for (int i = 0; i < 8; i++) {
+            h[i] ^= vv[i] ^ vv[i + 8];
+        }
+    }
+
+    private static void g(long[] v, int a, int b, int c, int d, long x, long y) {
+        v[a] = v[a] + v[b] + x;
+        v[d] = Long.rotateRight(v[d] ^ v[a], 32);
+        v[c] = v[c] + v[d];
+        v[b] = Long.rotateRight(v[b] ^ v[c], 24);
+        v[a] = v[a] + v[b] + y;
+        v[d] = Long.rotateRight(v[d] ^ v[a], 16);
+        v[c] = v[c] + v[d];
+        v[b] = Long.rotateRight(v[b] ^ v[c], 63);
+    }
+
+    private static long loadLong(byte[] b, int off) {
+        return (b[off] & 0xFFL) | (b[off + 1] & 0xFFL) << 8 | (b[off + 2] & 0xFFL) << 16 | (b[off + 3] & 0xFFL) << 24 |
+                        (b[off + 4] & 0xFFL) << 32 | (b[off + 5] & 0xFFL) << 40 | (b[off + 6] & 0xFFL) << 48 | (b[off + 7] & 0xFFL) << 56;
+    }
+
+    private static void storeLong(byte[] b, int off, long value) {
+        for (int i = 0; i < 8; i++) {
+            b[off + i] = (byte) (value >>> (8 * i));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.hashlib;
+
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.array.PArray;
+import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.mmap.PMMap;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.runtime.exception.PythonErrorType;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+
+@CoreFunctions(extendClasses = {PythonBuiltinClassType.PHashlibHash, PythonBuiltinClassType.PBlake2b, PythonBuiltinClassType.PBlake2s})
+public class HashObjectBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return HashObjectBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Feeds a bytes-like object into a hash object. Bytes, bytearray and byte array storages and
+     * mmaps are hashed in place; other buffer objects are read through the buffer protocol.
+     */
+    public abstract static class HashUpdateNode extends PythonBuiltinBaseNode {
+
+        public abstract Object execute(PHashObject self, Object data);
+
+        @Specialization
+        static PNone doBytesLike(PHashObject self, PIBytesLike data,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached SequenceStorageNodes.LenNode lenNode) {
+            SequenceStorage storage = data.getSequenceStorage();
+            self.update(getInternalByteArrayNode.execute(storage), 0, lenNode.execute(storage));
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isByteStorage(data)")
+        static PNone doByteArray(PHashObject self, PArray data,
+                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached SequenceStorageNodes.LenNode lenNode) {
+            SequenceStorage storage = data.getSequenceStorage();
+            self.update(getInternalByteArrayNode.execute(storage), 0, lenNode.execute(storage));
+            return PNone.NONE;
+        }
+
+        @Specialization(limit = "1")
+        PNone doMMap(PHashObject self, PMMap data,
+                        @CachedLibrary("data") PythonObjectLibrary lib) {
+            try {
+                self.update(data.getChannel(), lib.getBufferLength(data));
+            } catch (IOException | UnsupportedMessageException e) {
+                throw raise(PythonErrorType.OSError, e);
+            }
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = {"!isBytes(data)", "!isMMap(data)", "!isByteArray(data)", "lib.isBuffer(data)"}, limit = "3")
+        PNone doBuffer(PHashObject self, Object data,
+                        @CachedLibrary("data") PythonObjectLibrary lib) {
+            try {
+                byte[] bytes = lib.getBufferBytes(data);
+                self.update(bytes, 0, bytes.length);
+            } catch (UnsupportedMessageException e) {
+                throw raise(TypeError, "object supporting the buffer API required");
+            }
+            return PNone.NONE;
+        }
+
+        @Fallback
+        Object doError(@SuppressWarnings("unused") Object self, Object data) {
+            if (PGuards.isString(data)) {
+                throw raise(TypeError, "Unicode-objects must be encoded before hashing");
+            }
+            throw raise(TypeError, "object supporting the buffer API required");
+        }
+
+        static boolean isMMap(Object data) {
+            return data instanceof PMMap;
+        }
+
+        static boolean isByteArray(Object data) {
+            return data instanceof PArray && PGuards.isByteStorage((PArray) data);
+        }
+
+        public static HashUpdateNode create() {
+            return HashObjectBuiltinsFactory.HashUpdateNodeGen.create();
+        }
+    }
+
+    @Builtin(name = "update", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class UpdateNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object update(PHashObject self, Object data,
+                        @Cached HashUpdateNode hashUpdateNode) {
+            return hashUpdateNode.execute(self, data);
+        }
+    }
+
+    @Builtin(name = "digest", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class DigestNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object digest(PHashObject self) {
+            return factory().createBytes(self.digest());
+        }
+    }
+
+    @Builtin(name = "hexdigest", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class HexDigestNode extends PythonUnaryBuiltinNode {
+        private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+        @Specialization
+        static String hexdigest(PHashObject self) {
+            return toHex(self.digest());
+        }
+
+        @TruffleBoundary
+        static String toHex(byte[] digest) {
+            char[] result = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                result[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+                result[2 * i + 1] = HEX_DIGITS[digest[i] & 0xF];
+            }
+            return new String(result);
+        }
+    }
+
+    @Builtin(name = "copy", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CopyNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object copy(PHashObject self) {
+            return factory().createHashObject(self.getLazyPythonClass(), self.getName(), self.getBlockSize(), self.cloneDigest());
+        }
+    }
+
+    @Builtin(name = "name", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class NameNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static String name(PHashObject self) {
+            return self.getName();
+        }
+    }
+
+    @Builtin(name = "digest_size", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class DigestSizeNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int digestSize(PHashObject self) {
+            return self.getDigestSize();
+        }
+    }
+
+    @Builtin(name = "block_size", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class BlockSizeNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int blockSize(PHashObject self) {
+            return self.getBlockSize();
+        }
+    }
+}
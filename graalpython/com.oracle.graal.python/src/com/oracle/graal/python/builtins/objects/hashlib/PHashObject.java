@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.hashlib;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.security.MessageDigest;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A hash object of the {@code _hashlib} or {@code _blake2} module. The state is held by a
+ * {@link MessageDigest}; {@code digest()} works on a clone so that the object can be updated
+ * further, and {@code copy()} clones the digest state.
+ */
+public final class PHashObject extends PythonBuiltinObject {
+    private static final int CHANNEL_CHUNK_SIZE = 64 * 1024;
+
+    private final String name;
+    private final int blockSize;
+    private final MessageDigest digest;
+
+    public PHashObject(LazyPythonClass cls, String name, int blockSize, MessageDigest digest) {
+        super(cls);
+        this.name = name;
+        this.blockSize = blockSize;
+        this.digest = digest;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    @TruffleBoundary
+    public int getDigestSize() {
+        return digest.getDigestLength();
+    }
+
+    @TruffleBoundary
+    public synchronized void update(byte[] data, int offset, int len) {
+        digest.update(data, offset, len);
+    }
+
+    /**
+     * Hashes {@code len} bytes of {@code channel} starting at position 0 in chunks, restoring the
+     * channel's position afterwards.
+     */
+    @TruffleBoundary
+    public synchronized void update(SeekableByteChannel channel, long len) throws IOException {
+        long oldPos = channel.position();
+        try {
+            channel.position(0);
+            ByteBuffer buf = ByteBuffer.allocate((int) Math.min(len, CHANNEL_CHUNK_SIZE));
+            long remaining = len;
+            while (remaining > 0) {
+                buf.clear();
+                if (remaining < buf.capacity()) {
+                    buf.limit((int) remaining);
+                }
+                int n = channel.read(buf);
+                if (n <= 0) {
+                    break;
+                }
+                buf.flip();
+                digest.update(buf);
+                remaining -= n;
+            }
+        } finally {
+            channel.position(oldPos);
+        }
+    }
+
+    @TruffleBoundary
+    public synchronized byte[] digest() {
+        return cloneDigest().digest();
+    }
+
+    @TruffleBoundary
+    public synchronized MessageDigest cloneDigest() {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(name + " does not support copy", e);
+        }
+    }
+}
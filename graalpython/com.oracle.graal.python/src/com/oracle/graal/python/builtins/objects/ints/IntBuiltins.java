@@ -53,6 +53,7 @@ import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PNotImplemented;
+import com.oracle.graal.python.builtins.objects.array.ArrayNodes;
 import com.oracle.graal.python.builtins.objects.array.PArray;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
 import com.oracle.graal.python.builtins.objects.bytes.PByteArray;
@@ -2123,15 +2124,15 @@ public class IntBuiltins extends PythonBuiltins {
 
         // from PArray
         @Specialization
-        public Object fromPArray(VirtualFrame frame, LazyPythonClass cl, PArray array, String byteorder, boolean signed,
-                        @Cached("create()") BytesNodes.FromSequenceStorageNode fromSequenceStorageNode) {
-            return compute(cl, fromSequenceStorageNode.execute(frame, array.getSequenceStorage()), byteorder, signed);
+        public Object fromPArray(LazyPythonClass cl, PArray array, String byteorder, boolean signed,
+                        @Cached ArrayNodes.ToBytesNode toBytesNode) {
+            return compute(cl, toBytesNode.execute(array), byteorder, signed);
         }
 
         @Specialization
-        public Object fromPArray(VirtualFrame frame, LazyPythonClass cl, PArray array, String byteorder, @SuppressWarnings("unused") PNone signed,
-                        @Cached("create()") BytesNodes.FromSequenceStorageNode fromSequenceStorageNode) {
-            return fromPArray(frame, cl, array, byteorder, false, fromSequenceStorageNode);
+        public Object fromPArray(LazyPythonClass cl, PArray array, String byteorder, @SuppressWarnings("unused") PNone signed,
+                        @Cached ArrayNodes.ToBytesNode toBytesNode) {
+            return fromPArray(cl, array, byteorder, false, toBytesNode);
         }
 
         // from PMemoryView
@@ -37,8 +37,10 @@ import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.array.ArrayNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.iterator.PRangeIterator.PRangeReverseIterator;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.graal.python.nodes.call.special.LookupAndCallBinaryNode;
@@ -75,15 +77,13 @@ public class IteratorBuiltins extends PythonBuiltins {
     public abstract static class NextNode extends PythonUnaryBuiltinNode {
 
         @Specialization
-        Object next(VirtualFrame frame, PArrayIterator self,
+        Object next(PArrayIterator self,
                         @Cached("createClassProfile()") ValueProfile itemTypeProfile,
-                        @Cached("createNotNormalized()") SequenceStorageNodes.GetItemNode getItemNode,
+                        @Cached ArrayNodes.GetValueNode getValueNode,
                         @Cached SequenceStorageNodes.LenNode lenNode) {
             SequenceStorage sequenceStorage = self.array.getSequenceStorage();
             if (self.index < lenNode.execute(sequenceStorage)) {
-                // TODO avoid boxing by getting the array's typecode and using primitive return
-                // types
-                return itemTypeProfile.profile(getItemNode.execute(frame, sequenceStorage, self.index++));
+                return itemTypeProfile.profile(getValueNode.execute(self.array.getFormat(), sequenceStorage, self.index++));
             }
             throw raise(StopIteration);
         }
@@ -117,6 +117,22 @@ public class IteratorBuiltins extends PythonBuiltins {
             throw raise(StopIteration);
         }
 
+        @Specialization
+        long next(PLongRangeIterator self) {
+            if (self.hasNext()) {
+                return self.next();
+            }
+            throw raise(StopIteration);
+        }
+
+        @Specialization
+        PInt next(PBigRangeIterator self) {
+            if (self.hasNext()) {
+                return factory().createInt(self.next());
+            }
+            throw raise(StopIteration);
+        }
+
         @Specialization
         double next(PDoubleSequenceIterator self) {
             if (!self.isExhausted() && self.index < self.sequence.length()) {
@@ -222,6 +238,16 @@ public class IteratorBuiltins extends PythonBuiltins {
             return self.getStart() - self.getStop();
         }
 
+        @Specialization
+        public long lengthHint(PLongRangeIterator self) {
+            return self.getRemaining();
+        }
+
+        @Specialization
+        public PInt lengthHint(PBigRangeIterator self) {
+            return factory().createInt(self.getRemaining());
+        }
+
         @Specialization
         public double lengthHint(PDoubleSequenceIterator self) {
             return self.sequence.length() - self.index;
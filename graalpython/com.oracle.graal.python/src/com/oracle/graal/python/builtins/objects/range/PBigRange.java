@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.range;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A range whose bounds, step or length do not fit into {@code int}. Small ranges are represented
+ * by {@link PRange}; this class keeps the arbitrary-precision values so that {@code len}, indexing,
+ * slicing and {@code in} stay O(1) instead of truncating to 32 bits.
+ *
+ * If all values fit into {@code long}, which covers practically every range that is iterated or
+ * indexed, they are additionally kept as longs. {@code len}, indexing, {@code in}, {@code bool} and
+ * iteration of such ranges use long arithmetic without a boundary; only the remaining operations
+ * and ranges beyond long go through {@link BigInteger}.
+ */
+public final class PBigRange extends PythonBuiltinObject {
+
+    private final BigInteger start;
+    private final BigInteger stop;
+    private final BigInteger step;
+    private final BigInteger length;
+
+    private final boolean isLongRange;
+    private final long longStart;
+    private final long longStep;
+    private final long longLength;
+
+    public PBigRange(LazyPythonClass clazz, BigInteger start, BigInteger stop, BigInteger step) {
+        super(clazz);
+        assert step.signum() != 0;
+        this.start = start;
+        this.stop = stop;
+        this.step = step;
+        this.length = getLenOfRange(start, stop, step);
+        this.isLongRange = fitsInLong(start) && fitsInLong(stop) && fitsInLong(step) && fitsInLong(length);
+        this.longStart = start.longValue();
+        this.longStep = step.longValue();
+        this.longLength = length.longValue();
+    }
+
+    @TruffleBoundary
+    public static BigInteger getLenOfRange(BigInteger start, BigInteger stop, BigInteger step) {
+        BigInteger lo;
+        BigInteger hi;
+        BigInteger absStep;
+        if (step.signum() > 0) {
+            lo = start;
+            hi = stop;
+            absStep = step;
+        } else {
+            lo = stop;
+            hi = start;
+            absStep = step.negate();
+        }
+        if (lo.compareTo(hi) >= 0) {
+            return BigInteger.ZERO;
+        }
+        return hi.subtract(lo).subtract(BigInteger.ONE).divide(absStep).add(BigInteger.ONE);
+    }
+
+    public BigInteger getStart() {
+        return start;
+    }
+
+    public BigInteger getStop() {
+        return stop;
+    }
+
+    public BigInteger getStep() {
+        return step;
+    }
+
+    public BigInteger len() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length.signum() == 0;
+    }
+
+    /**
+     * Whether start, stop, step and length fit into {@code long}; the {@code getLong*} accessors
+     * are only valid if this is the case.
+     */
+    public boolean isLongRange() {
+        return isLongRange;
+    }
+
+    public long getLongStart() {
+        assert isLongRange;
+        return longStart;
+    }
+
+    public long getLongStep() {
+        assert isLongRange;
+        return longStep;
+    }
+
+    public long getLongLength() {
+        assert isLongRange;
+        return longLength;
+    }
+
+    /**
+     * Returns the element at {@code index} of a long range. The element lies between start and
+     * stop, so the result is exact even if the intermediate product wraps around.
+     */
+    public long getLongItemNormalized(long index) {
+        assert isLongRange && index >= 0 && index < longLength;
+        return longStart + index * longStep;
+    }
+
+    /**
+     * Tests membership of {@code value} in a long range.
+     */
+    public boolean containsLong(long value) {
+        assert isLongRange;
+        long offset;
+        long absStep;
+        if (longStep > 0) {
+            if (value < longStart) {
+                return false;
+            }
+            offset = value - longStart;
+            absStep = longStep;
+        } else {
+            if (value > longStart) {
+                return false;
+            }
+            offset = longStart - value;
+            absStep = -longStep;
+        }
+        if (offset >= 0 && absStep > 0) {
+            return offset % absStep == 0 && offset / absStep < longLength;
+        }
+        // the distance does not fit into a signed long
+        return containsSlowPath(value);
+    }
+
+    @TruffleBoundary
+    private boolean containsSlowPath(long value) {
+        return contains(BigInteger.valueOf(value));
+    }
+
+    @TruffleBoundary
+    public BigInteger getItemNormalized(BigInteger index) {
+        assert index.signum() >= 0 && index.compareTo(length) < 0;
+        return start.add(index.multiply(step));
+    }
+
+    /**
+     * Returns the position of {@code value} in this range, or {@code null} if it is not an element.
+     */
+    @TruffleBoundary
+    public BigInteger indexOf(BigInteger value) {
+        BigInteger offset = value.subtract(start);
+        BigInteger[] qr = offset.divideAndRemainder(step);
+        if (qr[1].signum() != 0 || qr[0].signum() < 0 || qr[0].compareTo(length) >= 0) {
+            return null;
+        }
+        return qr[0];
+    }
+
+    @TruffleBoundary
+    public boolean contains(BigInteger value) {
+        return indexOf(value) != null;
+    }
+
+    /**
+     * Range equality as defined by CPython: two ranges are equal if they produce the same
+     * sequence of values.
+     */
+    @TruffleBoundary
+    public boolean rangeEquals(BigInteger otherLength, BigInteger otherStart, BigInteger otherStep) {
+        if (!length.equals(otherLength)) {
+            return false;
+        }
+        if (length.signum() == 0) {
+            return true;
+        }
+        if (!start.equals(otherStart)) {
+            return false;
+        }
+        return length.equals(BigInteger.ONE) || step.equals(otherStep);
+    }
+
+    @TruffleBoundary
+    public static boolean fitsInInt(BigInteger value) {
+        return value.bitLength() < Integer.SIZE;
+    }
+
+    @TruffleBoundary
+    public static boolean fitsInLong(BigInteger value) {
+        return value.bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Returns the integer value of an int, bool or integral float, or {@code null} if the value
+     * can never be an element of a range.
+     */
+    @TruffleBoundary
+    public static BigInteger toBigInteger(Object value) {
+        if (value instanceof Integer) {
+            return BigInteger.valueOf((int) value);
+        } else if (value instanceof Long) {
+            return BigInteger.valueOf((long) value);
+        } else if (value instanceof Boolean) {
+            return (boolean) value ? BigInteger.ONE : BigInteger.ZERO;
+        } else if (value instanceof PInt) {
+            return ((PInt) value).getValue();
+        } else if (value instanceof Double) {
+            double d = (double) value;
+            if (Double.isFinite(d) && d == Math.rint(d)) {
+                return new BigDecimal(d).toBigInteger();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        CompilerAsserts.neverPartOfCompilation();
+        if (step.equals(BigInteger.ONE)) {
+            return String.format("range(%d, %d)", start, stop);
+        } else {
+            return String.format("range(%d, %d, %d)", start, stop, step);
+        }
+    }
+}
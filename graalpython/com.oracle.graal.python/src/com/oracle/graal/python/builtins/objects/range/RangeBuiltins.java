@@ -25,7 +25,10 @@
  */
 package com.oracle.graal.python.builtins.objects.range;
 
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.IndexError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.OverflowError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__BOOL__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__CONTAINS__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__EQ__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__GETITEM__;
@@ -33,6 +36,7 @@ import static com.oracle.graal.python.nodes.SpecialMethodNames.__ITER__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__LEN__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__REPR__;
 
+import java.math.BigInteger;
 import java.util.List;
 
 import com.oracle.graal.python.builtins.Builtin;
@@ -43,7 +47,10 @@ import com.oracle.graal.python.builtins.objects.PNotImplemented;
 import com.oracle.graal.python.builtins.objects.common.IndexNodes.NormalizeIndexNode;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.iterator.PBuiltinIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PIntegerIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PLongRangeIterator;
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.graal.python.builtins.objects.slice.PSlice;
 import com.oracle.graal.python.builtins.objects.slice.PSlice.SliceInfo;
 import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
@@ -55,6 +62,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CastToIndexNode;
 import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -73,6 +81,45 @@ public class RangeBuiltins extends PythonBuiltins {
         return RangeBuiltinsFactory.getFactories();
     }
 
+    /**
+     * Creates a {@link PRange} if the bounds, the step and the length fit into {@code int} and a
+     * {@link PBigRange} otherwise. The step must not be zero.
+     */
+    @TruffleBoundary
+    public static PythonBuiltinObject createRange(PythonObjectFactory factory, BigInteger start, BigInteger stop, BigInteger step) {
+        assert step.signum() != 0;
+        BigInteger length = PBigRange.getLenOfRange(start, stop, step);
+        if (PBigRange.fitsInInt(start) && PBigRange.fitsInInt(stop) && PBigRange.fitsInInt(step) && PBigRange.fitsInInt(length)) {
+            return factory.createRange(start.intValue(), stop.intValue(), step.intValue());
+        }
+        return factory.createBigRange(start, stop, step);
+    }
+
+    /**
+     * Creates an iterator over {@code length} values starting at {@code start}. If all produced
+     * values fit into {@code long}, the result is a {@link PLongRangeIterator} so that loops over it
+     * use the primitive long specialization.
+     */
+    @TruffleBoundary
+    public static PBuiltinIterator createIterator(PythonObjectFactory factory, BigInteger start, BigInteger step, BigInteger length) {
+        if (length.signum() == 0) {
+            return factory.createLongRangeIterator(0, 1, 0);
+        }
+        BigInteger last = start.add(length.subtract(BigInteger.ONE).multiply(step));
+        if (PBigRange.fitsInLong(start) && PBigRange.fitsInLong(last) && PBigRange.fitsInLong(step) && PBigRange.fitsInLong(length)) {
+            return factory.createLongRangeIterator(start.longValue(), step.longValue(), length.longValue());
+        }
+        return factory.createBigRangeIterator(start, step, length);
+    }
+
+    @TruffleBoundary
+    static Object asPythonInt(PythonObjectFactory factory, BigInteger value) {
+        if (PBigRange.fitsInLong(value)) {
+            return value.longValue();
+        }
+        return factory.createInt(value);
+    }
+
     @Builtin(name = __REPR__, minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     public abstract static class ReprNode extends PythonBuiltinNode {
@@ -81,6 +128,12 @@ public class RangeBuiltins extends PythonBuiltins {
         public String repr(PRange self) {
             return self.toString();
         }
+
+        @Specialization
+        @TruffleBoundary
+        public String repr(PBigRange self) {
+            return self.toString();
+        }
     }
 
     @Builtin(name = __LEN__, minNumOfPositionalArgs = 1)
@@ -90,6 +143,34 @@ public class RangeBuiltins extends PythonBuiltins {
         int doPRange(PRange left) {
             return left.len();
         }
+
+        @Specialization(guards = "left.isLongRange()")
+        static long doLongRange(PBigRange left) {
+            return left.getLongLength();
+        }
+
+        @Specialization(guards = "!left.isLongRange()")
+        long doPBigRange(PBigRange left) {
+            BigInteger len = left.len();
+            if (PBigRange.fitsInLong(len)) {
+                return len.longValue();
+            }
+            throw raise(OverflowError, "Python int too large to convert to C ssize_t");
+        }
+    }
+
+    @Builtin(name = __BOOL__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class BoolNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean doPRange(PRange self) {
+            return self.len() != 0;
+        }
+
+        @Specialization
+        static boolean doPBigRange(PBigRange self) {
+            return !self.isEmpty();
+        }
     }
 
     @Builtin(name = __EQ__, minNumOfPositionalArgs = 2)
@@ -116,6 +197,21 @@ public class RangeBuiltins extends PythonBuiltins {
             return left.getStep() == right.getStep();
         }
 
+        @Specialization
+        boolean doPBigRange(PBigRange left, PBigRange right) {
+            return left == right || left.rangeEquals(right.len(), right.getStart(), right.getStep());
+        }
+
+        @Specialization
+        boolean doPBigRange(PRange left, PBigRange right) {
+            return right.rangeEquals(BigInteger.valueOf(left.len()), BigInteger.valueOf(left.getStart()), BigInteger.valueOf(left.getStep()));
+        }
+
+        @Specialization
+        boolean doPBigRange(PBigRange left, PRange right) {
+            return doPBigRange(right, left);
+        }
+
         @Fallback
         @SuppressWarnings("unused")
         PNotImplemented doGeneric(Object left, Object right) {
@@ -144,12 +240,12 @@ public class RangeBuiltins extends PythonBuiltins {
             } else {
                 assert step != 0;
                 if (step > 0) {
-                    if (other >= start && other < stop) {
+                    if (other < start || other >= stop) {
                         // discard based on range
                         return false;
                     }
                 } else {
-                    if (other <= start && other > stop) {
+                    if (other > start || other <= stop) {
                         // discard based on range
                         return false;
                     }
@@ -172,6 +268,17 @@ public class RangeBuiltins extends PythonBuiltins {
             }
         }
 
+        @Specialization(guards = "self.isLongRange()")
+        static boolean containsLong(PBigRange self, long other) {
+            return self.containsLong(other);
+        }
+
+        @Specialization
+        static boolean contains(PBigRange self, Object other) {
+            BigInteger value = PBigRange.toBigInteger(other);
+            return value != null && self.contains(value);
+        }
+
         @SuppressWarnings("unused")
         @Fallback
         boolean containsFallback(Object self, Object other) {
@@ -182,11 +289,35 @@ public class RangeBuiltins extends PythonBuiltins {
     @Builtin(name = __ITER__, minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     abstract static class IterNode extends PythonUnaryBuiltinNode {
-        @Specialization
+        @Specialization(guards = "isIntIteration(self)")
         PIntegerIterator iter(PRange self,
                         @Cached("createBinaryProfile()") ConditionProfile stepPositiveProfile) {
             return factory().createRangeIterator(self.getStart(), self.getStop(), self.getStep(), stepPositiveProfile);
         }
+
+        @Specialization(guards = "!isIntIteration(self)")
+        PLongRangeIterator iterLong(PRange self) {
+            return factory().createLongRangeIterator(self.getStart(), self.getStep(), self.len());
+        }
+
+        @Specialization(guards = "self.isLongRange()")
+        PLongRangeIterator iterLong(PBigRange self) {
+            return factory().createLongRangeIterator(self.getLongStart(), self.getLongStep(), self.getLongLength());
+        }
+
+        @Specialization(guards = "!self.isLongRange()")
+        PBuiltinIterator iter(PBigRange self) {
+            return createIterator(factory(), self.getStart(), self.getStep(), self.len());
+        }
+
+        /**
+         * The int iterators step past the last element before they detect the end, so they can
+         * only be used if that step does not overflow.
+         */
+        static boolean isIntIteration(PRange self) {
+            long afterLast = self.getStart() + (long) self.len() * self.getStep();
+            return afterLast == (int) afterLast;
+        }
     }
 
     @Builtin(name = __GETITEM__, minNumOfPositionalArgs = 2)
@@ -214,7 +345,7 @@ public class RangeBuiltins extends PythonBuiltins {
             return primary.getItemNormalized(normalize.execute(idx, primary.len()));
         }
 
-        @Specialization
+        @Specialization(guards = "!slice.hasBigComponents()")
         Object doPRange(PRange range, PSlice slice) {
             SliceInfo info = slice.computeIndices(range.len());
             int newStep = range.getStep() * info.step;
@@ -223,11 +354,114 @@ public class RangeBuiltins extends PythonBuiltins {
             return factory().createRange(newStart, newStop, newStep);
         }
 
+        @Specialization(guards = "slice.hasBigComponents()")
+        Object doPRangeBigSlice(PRange range, PSlice slice) {
+            return slice(BigInteger.valueOf(range.getStart()), BigInteger.valueOf(range.getStep()), BigInteger.valueOf(range.len()), slice);
+        }
+
+        @Specialization(guards = "primary.isLongRange()")
+        long doLongRange(PBigRange primary, int idx) {
+            return doLongRange(primary, (long) idx);
+        }
+
+        @Specialization(guards = "primary.isLongRange()")
+        long doLongRange(PBigRange primary, long idx) {
+            long length = primary.getLongLength();
+            long normalized = idx < 0 ? idx + length : idx;
+            if (normalized < 0 || normalized >= length) {
+                throw raise(IndexError, "range object index out of range");
+            }
+            return primary.getLongItemNormalized(normalized);
+        }
+
+        @Specialization
+        Object doPBigRange(PBigRange primary, boolean idx) {
+            return getItem(primary, idx ? BigInteger.ONE : BigInteger.ZERO);
+        }
+
+        @Specialization
+        Object doPBigRange(PBigRange primary, int idx) {
+            return getItem(primary, BigInteger.valueOf(idx));
+        }
+
+        @Specialization
+        Object doPBigRange(PBigRange primary, long idx) {
+            return getItem(primary, BigInteger.valueOf(idx));
+        }
+
+        @Specialization
+        Object doPBigRange(PBigRange primary, PInt idx) {
+            return getItem(primary, idx.getValue());
+        }
+
+        @Specialization
+        Object doPBigRange(PBigRange range, PSlice slice) {
+            return slice(range.getStart(), range.getStep(), range.len(), slice);
+        }
+
+        /**
+         * Slices a range with the arbitrary-precision values of the slice components, which may not
+         * fit into the int fields of the slice.
+         */
+        @TruffleBoundary
+        private Object slice(BigInteger rangeStart, BigInteger rangeStep, BigInteger length, PSlice slice) {
+            BigInteger step = getSliceComponent(slice.getBigStep(), slice.getStep());
+            if (step == null) {
+                step = BigInteger.ONE;
+            } else if (step.signum() == 0) {
+                throw raise(ValueError, "slice step cannot be zero");
+            }
+            BigInteger lower;
+            BigInteger upper;
+            if (step.signum() < 0) {
+                lower = BigInteger.ONE.negate();
+                upper = length.add(lower);
+            } else {
+                lower = BigInteger.ZERO;
+                upper = length;
+            }
+            BigInteger sliceStart = getSliceComponent(slice.getBigStart(), slice.getStart());
+            BigInteger sliceStop = getSliceComponent(slice.getBigStop(), slice.getStop());
+            BigInteger start = sliceStart == null ? (step.signum() < 0 ? upper : lower) : clampSliceIndex(sliceStart, length, lower, upper);
+            BigInteger stop = sliceStop == null ? (step.signum() < 0 ? lower : upper) : clampSliceIndex(sliceStop, length, lower, upper);
+            BigInteger newStart = rangeStart.add(start.multiply(rangeStep));
+            BigInteger newStop = rangeStart.add(stop.multiply(rangeStep));
+            return createRange(factory(), newStart, newStop, rangeStep.multiply(step));
+        }
+
+        /**
+         * Returns the value of a slice component, or {@code null} if it is {@code None}.
+         */
+        private static BigInteger getSliceComponent(BigInteger bigValue, int value) {
+            if (bigValue != null) {
+                return bigValue;
+            }
+            return value == PSlice.MISSING_INDEX ? null : BigInteger.valueOf(value);
+        }
+
         @Fallback
         Object doGeneric(@SuppressWarnings("unused") Object range, @SuppressWarnings("unused") Object idx) {
             return PNotImplemented.NOT_IMPLEMENTED;
         }
 
+        @TruffleBoundary
+        private Object getItem(PBigRange range, BigInteger idx) {
+            BigInteger normalized = idx.signum() < 0 ? idx.add(range.len()) : idx;
+            if (normalized.signum() < 0 || normalized.compareTo(range.len()) >= 0) {
+                throw raise(IndexError, "range object index out of range");
+            }
+            return asPythonInt(factory(), range.getItemNormalized(normalized));
+        }
+
+        private static BigInteger clampSliceIndex(BigInteger index, BigInteger length, BigInteger lower, BigInteger upper) {
+            BigInteger result = index;
+            if (result.signum() < 0) {
+                result = result.add(length);
+                return result.compareTo(lower) < 0 ? lower : result;
+            }
+            return result.compareTo(upper) > 0 ? upper : result;
+        }
+
     }
 
     @Builtin(name = "start", minNumOfPositionalArgs = 1, isGetter = true)
@@ -237,6 +471,11 @@ public class RangeBuiltins extends PythonBuiltins {
         int start(PRange self) {
             return self.getStart();
         }
+
+        @Specialization
+        Object start(PBigRange self) {
+            return asPythonInt(factory(), self.getStart());
+        }
     }
 
     @Builtin(name = "step", minNumOfPositionalArgs = 1, isGetter = true)
@@ -246,6 +485,11 @@ public class RangeBuiltins extends PythonBuiltins {
         int step(PRange self) {
             return self.getStep();
         }
+
+        @Specialization
+        Object step(PBigRange self) {
+            return asPythonInt(factory(), self.getStep());
+        }
     }
 
     @Builtin(name = "stop", minNumOfPositionalArgs = 1, isGetter = true)
@@ -255,6 +499,11 @@ public class RangeBuiltins extends PythonBuiltins {
         int stop(PRange self) {
             return self.getStop();
         }
+
+        @Specialization
+        Object stop(PBigRange self) {
+            return asPythonInt(factory(), self.getStop());
+        }
     }
 
     @Builtin(name = "index", minNumOfPositionalArgs = 2)
@@ -280,6 +529,16 @@ public class RangeBuiltins extends PythonBuiltins {
                 throw raise(ValueError, "%s is not in range", elem);
             }
         }
+
+        @Specialization
+        Object doPBigRange(PBigRange self, Object elem) {
+            BigInteger value = PBigRange.toBigInteger(elem);
+            BigInteger index = value != null ? self.indexOf(value) : null;
+            if (index == null) {
+                throw raise(ValueError, "%s is not in range", elem);
+            }
+            return asPythonInt(factory(), index);
+        }
     }
 
     @Builtin(name = "count", minNumOfPositionalArgs = 2)
@@ -314,6 +573,12 @@ public class RangeBuiltins extends PythonBuiltins {
             return cnt;
         }
 
+        @Specialization
+        static int doPBigRange(PBigRange self, Object elem) {
+            BigInteger value = PBigRange.toBigInteger(elem);
+            return value != null && self.contains(value) ? 1 : 0;
+        }
+
         protected static BinaryComparisonNode createEq() {
             return BinaryComparisonNode.create(__EQ__, __EQ__, "==");
         }
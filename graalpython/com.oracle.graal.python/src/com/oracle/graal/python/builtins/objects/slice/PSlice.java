@@ -33,6 +33,8 @@ import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.ValueType;
+
+import java.math.BigInteger;
 import java.util.Objects;
 
 public class PSlice extends PythonBuiltinObject {
@@ -43,6 +45,15 @@ public class PSlice extends PythonBuiltinObject {
     protected int stop;
     protected int step;
 
+    /*
+     * The values of components that are ints too large for the int fields, which then hold the
+     * overflow value of the conversion. Only consumers that support arbitrary-precision indices,
+     * such as range slicing, look at these.
+     */
+    private BigInteger bigStart;
+    private BigInteger bigStop;
+    private BigInteger bigStep;
+
     public PSlice(LazyPythonClass cls, int start, int stop, int step) {
         super(cls);
         this.start = start;
@@ -54,19 +65,25 @@ public class PSlice extends PythonBuiltinObject {
     public String toString() {
         CompilerAsserts.neverPartOfCompilation();
         StringBuilder str = new StringBuilder("slice(");
-        if (start == MISSING_INDEX) {
+        if (bigStart != null) {
+            str.append(bigStart);
+        } else if (start == MISSING_INDEX) {
             str.append("None");
         } else {
             str.append(start);
         }
         str.append(", ");
-        if (stop == MISSING_INDEX) {
+        if (bigStop != null) {
+            str.append(bigStop);
+        } else if (stop == MISSING_INDEX) {
             str.append("None");
         } else {
             str.append(stop);
         }
         str.append(", ");
-        if (step == MISSING_INDEX) {
+        if (bigStep != null) {
+            str.append(bigStep);
+        } else if (step == MISSING_INDEX) {
             str.append("None");
         } else {
             str.append(step);
@@ -87,6 +104,28 @@ public class PSlice extends PythonBuiltinObject {
         return step;
     }
 
+    public final void setBigComponents(BigInteger bigStart, BigInteger bigStop, BigInteger bigStep) {
+        this.bigStart = bigStart;
+        this.bigStop = bigStop;
+        this.bigStep = bigStep;
+    }
+
+    public final boolean hasBigComponents() {
+        return bigStart != null || bigStop != null || bigStep != null;
+    }
+
+    public final BigInteger getBigStart() {
+        return bigStart;
+    }
+
+    public final BigInteger getBigStop() {
+        return bigStop;
+    }
+
+    public final BigInteger getBigStep() {
+        return bigStep;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (!(obj instanceof PSlice)) {
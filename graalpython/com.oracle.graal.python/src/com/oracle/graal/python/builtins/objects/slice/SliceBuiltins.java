@@ -78,12 +78,17 @@ public class SliceBuiltins extends PythonBuiltins {
     @ImportStatic(PSlice.class)
     abstract static class StartNode extends PythonUnaryBuiltinNode {
 
-        @Specialization(guards = "self.getStart() != MISSING_INDEX")
+        @Specialization(guards = {"self.getBigStart() == null", "self.getStart() != MISSING_INDEX"})
         protected int get(PSlice self) {
             return self.getStart();
         }
 
-        @Specialization(guards = "self.getStart() == MISSING_INDEX")
+        @Specialization(guards = "self.getBigStart() != null")
+        protected Object getBig(PSlice self) {
+            return factory().createInt(self.getBigStart());
+        }
+
+        @Specialization(guards = {"self.getBigStart() == null", "self.getStart() == MISSING_INDEX"})
         protected Object getNone(@SuppressWarnings("unused") PSlice self) {
             return PNone.NONE;
         }
@@ -94,12 +99,17 @@ public class SliceBuiltins extends PythonBuiltins {
     @ImportStatic(PSlice.class)
     abstract static class StopNode extends PythonUnaryBuiltinNode {
 
-        @Specialization(guards = "self.getStop() != MISSING_INDEX")
+        @Specialization(guards = {"self.getBigStop() == null", "self.getStop() != MISSING_INDEX"})
         protected int get(PSlice self) {
             return self.getStop();
         }
 
-        @Specialization(guards = "self.getStop() == MISSING_INDEX")
+        @Specialization(guards = "self.getBigStop() != null")
+        protected Object getBig(PSlice self) {
+            return factory().createInt(self.getBigStop());
+        }
+
+        @Specialization(guards = {"self.getBigStop() == null", "self.getStop() == MISSING_INDEX"})
         protected Object getNone(@SuppressWarnings("unused") PSlice self) {
             return PNone.NONE;
         }
@@ -110,12 +120,17 @@ public class SliceBuiltins extends PythonBuiltins {
     @ImportStatic(PSlice.class)
     abstract static class StepNode extends PythonUnaryBuiltinNode {
 
-        @Specialization(guards = "self.getStep() != MISSING_INDEX")
+        @Specialization(guards = {"self.getBigStep() == null", "self.getStep() != MISSING_INDEX"})
         protected int get(PSlice self) {
             return self.getStep();
         }
 
-        @Specialization(guards = "self.getStep() == MISSING_INDEX")
+        @Specialization(guards = "self.getBigStep() != null")
+        protected Object getBig(PSlice self) {
+            return factory().createInt(self.getBigStep());
+        }
+
+        @Specialization(guards = {"self.getBigStep() == null", "self.getStep() == MISSING_INDEX"})
         protected Object getNone(@SuppressWarnings("unused") PSlice self) {
             return PNone.NONE;
         }
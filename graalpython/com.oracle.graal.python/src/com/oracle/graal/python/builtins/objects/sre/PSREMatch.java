@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.sre;
+
+import java.util.Arrays;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A match object of the {@code _sre} module. The group offsets are copied out of the
+ * {@link SREState} that produced the match; {@code -1} marks groups that did not participate.
+ */
+public final class PSREMatch extends PythonBuiltinObject {
+    private final PSREPattern pattern;
+    private final Object string;
+    private final String stringData;
+    private final byte[] bytesData;
+    private final int[] regs;
+    private final int pos;
+    private final int endpos;
+    private int lastindex;
+
+    public PSREMatch(LazyPythonClass cls, PSREPattern pattern, Object string, SREState state) {
+        super(cls);
+        this.pattern = pattern;
+        this.string = string;
+        this.stringData = state.getString();
+        this.bytesData = state.getBytes();
+        this.regs = state.getRegs(pattern.getGroups());
+        this.pos = state.getPos();
+        this.endpos = state.getEndpos();
+        this.lastindex = state.getLastindex();
+    }
+
+    public PSREPattern getPattern() {
+        return pattern;
+    }
+
+    public Object getString() {
+        return string;
+    }
+
+    public int getPos() {
+        return pos;
+    }
+
+    public int getEndpos() {
+        return endpos;
+    }
+
+    /**
+     * Returns the index of the group that was closed last, {@code -1} if there is none, or
+     * {@link SREState#LASTINDEX_UNKNOWN} for a TRegex match where it has to be determined with
+     * {@link #findLastindex}.
+     */
+    public int getLastindex() {
+        return lastindex;
+    }
+
+    /**
+     * Determines the {@code lastindex} of a TRegex match with {@code srePattern}, the SRE version
+     * of its pattern, and keeps it for later accesses.
+     */
+    @TruffleBoundary
+    public int findLastindex(PSREPattern srePattern) {
+        lastindex = SREState.findLastindex(srePattern, stringData, bytesData, getStart(0), getEnd(0), endpos);
+        return lastindex;
+    }
+
+    public int getGroupCount() {
+        return regs.length / 2;
+    }
+
+    public int getStart(int group) {
+        return regs[group * 2];
+    }
+
+    public int getEnd(int group) {
+        return regs[group * 2 + 1];
+    }
+
+    /**
+     * Returns the text of {@code group} as a Java string or a byte array, or {@code null} if the
+     * group did not participate in the match.
+     */
+    @TruffleBoundary
+    public Object getGroup(int group) {
+        int start = getStart(group);
+        int end = getEnd(group);
+        if (start < 0 || end < 0) {
+            return null;
+        }
+        return stringData != null ? stringData.substring(start, end) : Arrays.copyOfRange(bytesData, start, end);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.sre;
+
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
+
+/**
+ * A compiled regular expression of the {@code _sre} module. It either holds the code produced by
+ * {@code sre_compile}, which is interpreted by {@link SREState}, or the regexes compiled by a
+ * TRegex engine, in which case the code is {@code null}. The TRegex regexes for {@code match}
+ * and {@code fullmatch} are compiled on first use, and so is the SRE version of a TRegex pattern,
+ * which runs the steps TRegex cannot do.
+ */
+public final class PSREPattern extends PythonBuiltinObject {
+    private final Object pattern;
+    private final int flags;
+    private final int[] code;
+    private final int groups;
+    private final PDict groupindex;
+    private final Object[] indexgroup;
+    /** 1 for a bytes pattern, 0 for a str pattern, -1 if the pattern source is {@code None}. */
+    private final int isBytes;
+
+    private final Object tregexEngine;
+    /** The pattern source; bytes patterns are decoded as Latin-1. */
+    private final String tregexSource;
+    private final String tregexFlags;
+    /** The compiled regexes, indexed by the execution mode of {@link SREPatternBuiltins.ExecNode}. */
+    private final Object[] tregexRegexes;
+    /** Compiles the SRE version of the pattern from its source and flags. */
+    private final Object sreCompiler;
+    private PSREPattern srePattern;
+
+    public PSREPattern(LazyPythonClass cls, Object pattern, int flags, int[] code, int groups, PDict groupindex, Object[] indexgroup, int isBytes) {
+        super(cls);
+        this.pattern = pattern;
+        this.flags = flags;
+        this.code = code;
+        this.groups = groups;
+        this.groupindex = groupindex;
+        this.indexgroup = indexgroup;
+        this.isBytes = isBytes;
+        this.tregexEngine = null;
+        this.tregexSource = null;
+        this.tregexFlags = null;
+        this.tregexRegexes = null;
+        this.sreCompiler = null;
+    }
+
+    public PSREPattern(LazyPythonClass cls, Object pattern, int flags, int groups, PDict groupindex, Object[] indexgroup, boolean isBytes, Object tregexEngine, String tregexSource,
+                    String tregexFlags, Object searchRegex, Object sreCompiler) {
+        super(cls);
+        this.pattern = pattern;
+        this.flags = flags;
+        this.code = null;
+        this.groups = groups;
+        this.groupindex = groupindex;
+        this.indexgroup = indexgroup;
+        this.isBytes = isBytes ? 1 : 0;
+        this.tregexEngine = tregexEngine;
+        this.tregexSource = tregexSource;
+        this.tregexFlags = tregexFlags;
+        this.tregexRegexes = new Object[]{null, null, searchRegex};
+        this.sreCompiler = sreCompiler;
+    }
+
+    public Object getPattern() {
+        return pattern;
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public int[] getCode() {
+        return code;
+    }
+
+    public int getGroups() {
+        return groups;
+    }
+
+    public PDict getGroupindex() {
+        return groupindex;
+    }
+
+    public Object[] getIndexgroup() {
+        return indexgroup;
+    }
+
+    public boolean acceptsString() {
+        return isBytes <= 0;
+    }
+
+    public boolean acceptsBytes() {
+        return isBytes != 0;
+    }
+
+    public boolean isTRegex() {
+        return code == null;
+    }
+
+    public boolean isBytesPattern() {
+        return isBytes == 1;
+    }
+
+    public Object getTRegexEngine() {
+        return tregexEngine;
+    }
+
+    public String getTRegexSource() {
+        return tregexSource;
+    }
+
+    public String getTRegexFlags() {
+        return tregexFlags;
+    }
+
+    public Object getTRegex(int mode) {
+        return tregexRegexes[mode];
+    }
+
+    public void setTRegex(int mode, Object regex) {
+        tregexRegexes[mode] = regex;
+    }
+
+    public Object getSRECompiler() {
+        return sreCompiler;
+    }
+
+    public PSREPattern getSREPattern() {
+        return srePattern;
+    }
+
+    public void setSREPattern(PSREPattern srePattern) {
+        this.srePattern = srePattern;
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.sre;
+
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__COPY__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__DEEPCOPY__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__GETITEM__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__REPR__;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.IndexError;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.common.HashingStorage;
+import com.oracle.graal.python.builtins.objects.common.HashingStorage.DictEntry;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.builtins.objects.sre.SREPatternBuiltins.GetSREPatternNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.call.special.LookupAndCallUnaryNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.util.CastToIndexNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PSREMatch)
+public class SREMatchBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return SREMatchBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Resolves a group given by index or by name to its index, raising {@code IndexError} for
+     * unknown groups.
+     */
+    public abstract static class GetGroupIndexNode extends PythonBuiltinBaseNode {
+
+        public abstract int execute(VirtualFrame frame, PSREMatch self, Object group);
+
+        @Specialization
+        int doInt(PSREMatch self, int group) {
+            return checkGroup(self, group);
+        }
+
+        @Specialization
+        int doLong(PSREMatch self, long group) {
+            return checkGroup(self, group < 0 || group > Integer.MAX_VALUE ? -1 : (int) group);
+        }
+
+        @Specialization(guards = "!isInteger(group)", limit = "3")
+        int doGeneric(VirtualFrame frame, PSREMatch self, Object group,
+                        @CachedLibrary("group") PythonObjectLibrary lib,
+                        @Cached CastToIndexNode castToIndexNode,
+                        @Cached HashingStorageNodes.GetItemNode getItemNode) {
+            int index = -1;
+            if (lib.canBeIndex(group)) {
+                index = castToIndexNode.execute(frame, group);
+            } else {
+                Object value = getItemNode.execute(frame, self.getPattern().getGroupindex().getDictStorage(), group);
+                if (value instanceof Integer) {
+                    index = (int) value;
+                } else if (value instanceof Long) {
+                    index = (int) (long) value;
+                }
+            }
+            return checkGroup(self, index);
+        }
+
+        private int checkGroup(PSREMatch self, int index) {
+            if (index < 0 || index >= self.getGroupCount()) {
+                throw raise(IndexError, "no such group");
+            }
+            return index;
+        }
+
+        public static GetGroupIndexNode create() {
+            return SREMatchBuiltinsFactory.GetGroupIndexNodeGen.create();
+        }
+    }
+
+    static Object getGroup(PythonObjectFactory factory, PSREMatch self, int group, Object defaultValue) {
+        Object value = self.getGroup(group);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value instanceof byte[] ? factory.createBytes((byte[]) value) : value;
+    }
+
+    @Builtin(name = "group", minNumOfPositionalArgs = 1, takesVarArgs = true)
+    @GenerateNodeFactory
+    abstract static class GroupNode extends PythonBuiltinNode {
+        @Specialization
+        Object group(VirtualFrame frame, PSREMatch self, Object[] args,
+                        @Cached GetGroupIndexNode getGroupIndexNode) {
+            if (args.length == 0) {
+                return getGroup(factory(), self, 0, PNone.NONE);
+            } else if (args.length == 1) {
+                return getGroup(factory(), self, getGroupIndexNode.execute(frame, self, args[0]), PNone.NONE);
+            }
+            Object[] result = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                result[i] = getGroup(factory(), self, getGroupIndexNode.execute(frame, self, args[i]), PNone.NONE);
+            }
+            return factory().createTuple(result);
+        }
+    }
+
+    @Builtin(name = __GETITEM__, minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class GetItemNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object getitem(VirtualFrame frame, PSREMatch self, Object group,
+                        @Cached GetGroupIndexNode getGroupIndexNode) {
+            return getGroup(factory(), self, getGroupIndexNode.execute(frame, self, group), PNone.NONE);
+        }
+    }
+
+    @Builtin(name = "groups", minNumOfPositionalArgs = 1, parameterNames = {"self", "default"})
+    @GenerateNodeFactory
+    abstract static class GroupsNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object groups(PSREMatch self, Object defaultValue) {
+            Object def = defaultValue == PNone.NO_VALUE ? PNone.NONE : defaultValue;
+            Object[] result = new Object[self.getGroupCount() - 1];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = getGroup(factory(), self, i + 1, def);
+            }
+            return factory().createTuple(result);
+        }
+    }
+
+    @Builtin(name = "groupdict", minNumOfPositionalArgs = 1, parameterNames = {"self", "default"})
+    @GenerateNodeFactory
+    abstract static class GroupDictNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object groupdict(VirtualFrame frame, PSREMatch self, Object defaultValue,
+                        @Cached GetGroupIndexNode getGroupIndexNode,
+                        @Cached HashingStorageNodes.SetItemNode setItemNode) {
+            Object def = defaultValue == PNone.NO_VALUE ? PNone.NONE : defaultValue;
+            PDict result = factory().createDict();
+            HashingStorage storage = result.getDictStorage();
+            for (DictEntry entry : getEntries(self.getPattern().getGroupindex())) {
+                Object value = getGroup(factory(), self, getGroupIndexNode.execute(frame, self, entry.getValue()), def);
+                storage = setItemNode.execute(frame, storage, entry.getKey(), value);
+            }
+            result.setDictStorage(storage);
+            return result;
+        }
+
+        @TruffleBoundary
+        private static DictEntry[] getEntries(PDict groupindex) {
+            DictEntry[] entries = new DictEntry[groupindex.size()];
+            int i = 0;
+            for (DictEntry entry : groupindex.entries()) {
+                entries[i++] = entry;
+            }
+            return entries;
+        }
+    }
+
+    @Builtin(name = "start", minNumOfPositionalArgs = 1, parameterNames = {"self", "group"})
+    @GenerateNodeFactory
+    abstract static class StartNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(group)")
+        static int startDefault(PSREMatch self, @SuppressWarnings("unused") Object group) {
+            return self.getStart(0);
+        }
+
+        @Specialization(guards = "!isNoValue(group)")
+        static int start(VirtualFrame frame, PSREMatch self, Object group,
+                        @Cached GetGroupIndexNode getGroupIndexNode) {
+            return self.getStart(getGroupIndexNode.execute(frame, self, group));
+        }
+    }
+
+    @Builtin(name = "end", minNumOfPositionalArgs = 1, parameterNames = {"self", "group"})
+    @GenerateNodeFactory
+    abstract static class EndNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(group)")
+        static int endDefault(PSREMatch self, @SuppressWarnings("unused") Object group) {
+            return self.getEnd(0);
+        }
+
+        @Specialization(guards = "!isNoValue(group)")
+        static int end(VirtualFrame frame, PSREMatch self, Object group,
+                        @Cached GetGroupIndexNode getGroupIndexNode) {
+            return self.getEnd(getGroupIndexNode.execute(frame, self, group));
+        }
+    }
+
+    @Builtin(name = "span", minNumOfPositionalArgs = 1, parameterNames = {"self", "group"})
+    @GenerateNodeFactory
+    abstract static class SpanNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(group)")
+        Object spanDefault(PSREMatch self, @SuppressWarnings("unused") Object group) {
+            return factory().createTuple(new Object[]{self.getStart(0), self.getEnd(0)});
+        }
+
+        @Specialization(guards = "!isNoValue(group)")
+        Object span(VirtualFrame frame, PSREMatch self, Object group,
+                        @Cached GetGroupIndexNode getGroupIndexNode) {
+            int index = getGroupIndexNode.execute(frame, self, group);
+            return factory().createTuple(new Object[]{self.getStart(index), self.getEnd(index)});
+        }
+    }
+
+    @Builtin(name = "expand", minNumOfPositionalArgs = 2, parameterNames = {"self", "template"})
+    @GenerateNodeFactory
+    abstract static class ExpandNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object expand(VirtualFrame frame, PSREMatch self, Object template,
+                        @Cached CallNode callNode) {
+            return callNode.execute(frame, getCore().lookupBuiltinModule("_sre").getAttribute("_expand"), self.getPattern(), self, template);
+        }
+    }
+
+    @Builtin(name = __COPY__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CopyNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object copy(PSREMatch self) {
+            return self;
+        }
+    }
+
+    @Builtin(name = __DEEPCOPY__, minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class DeepCopyNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object deepcopy(PSREMatch self, @SuppressWarnings("unused") Object memo) {
+            return self;
+        }
+    }
+
+    @Builtin(name = __REPR__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ReprNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        String repr(VirtualFrame frame, PSREMatch self,
+                        @Cached("create(__REPR__)") LookupAndCallUnaryNode reprNode,
+                        @Cached CastToJavaStringNode castToJavaStringNode) {
+            String groupRepr = castToJavaStringNode.execute(reprNode.executeObject(frame, getGroup(factory(), self, 0, PNone.NONE)));
+            return format(self.getStart(0), self.getEnd(0), groupRepr);
+        }
+
+        @TruffleBoundary
+        private static String format(int start, int end, String groupRepr) {
+            return String.format("<re.Match object; span=(%d, %d), match=%s>", start, end, groupRepr.substring(0, Math.min(groupRepr.length(), 50)));
+        }
+    }
+
+    @Builtin(name = "string", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class StringNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object string(PSREMatch self) {
+            return self.getString();
+        }
+    }
+
+    @Builtin(name = "re", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class ReNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object re(PSREMatch self) {
+            return self.getPattern();
+        }
+    }
+
+    @Builtin(name = "pos", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class PosNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int pos(PSREMatch self) {
+            return self.getPos();
+        }
+    }
+
+    @Builtin(name = "endpos", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class EndPosNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int endpos(PSREMatch self) {
+            return self.getEndpos();
+        }
+    }
+
+    /**
+     * Returns the {@code lastindex} of a match. For a TRegex match with more than one matched
+     * group, it is determined on first access with the SRE version of the pattern.
+     */
+    abstract static class GetLastIndexNode extends PythonBuiltinBaseNode {
+
+        abstract int execute(VirtualFrame frame, PSREMatch self);
+
+        @Specialization
+        static int get(VirtualFrame frame, PSREMatch self,
+                        @Cached("createBinaryProfile()") ConditionProfile unknownProfile,
+                        @Cached GetSREPatternNode getSREPatternNode) {
+            int lastindex = self.getLastindex();
+            if (unknownProfile.profile(lastindex == SREState.LASTINDEX_UNKNOWN)) {
+                return self.findLastindex(getSREPatternNode.execute(frame, self.getPattern()));
+            }
+            return lastindex;
+        }
+
+        static GetLastIndexNode create() {
+            return SREMatchBuiltinsFactory.GetLastIndexNodeGen.create();
+        }
+    }
+
+    @Builtin(name = "lastindex", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class LastIndexNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object lastindex(VirtualFrame frame, PSREMatch self,
+                        @Cached GetLastIndexNode getLastIndexNode) {
+            int lastindex = getLastIndexNode.execute(frame, self);
+            return lastindex >= 0 ? lastindex : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "lastgroup", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class LastGroupNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object lastgroup(VirtualFrame frame, PSREMatch self,
+                        @Cached GetLastIndexNode getLastIndexNode) {
+            Object[] indexgroup = self.getPattern().getIndexgroup();
+            int lastindex = getLastIndexNode.execute(frame, self);
+            if (indexgroup != null && lastindex >= 0 && lastindex < indexgroup.length) {
+                return indexgroup[lastindex];
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "regs", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class RegsNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object regs(PSREMatch self) {
+            Object[] regs = new Object[self.getGroupCount()];
+            for (int i = 0; i < regs.length; i++) {
+                regs[i] = factory().createTuple(new Object[]{self.getStart(i), self.getEnd(i)});
+            }
+            return factory().createTuple(regs);
+        }
+    }
+}
@@ -0,0 +1,904 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.sre;
+
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__COPY__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__DEEPCOPY__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__EQ__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__HASH__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.__REPR__;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.RuntimeError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.PNotImplemented;
+import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
+import com.oracle.graal.python.builtins.objects.bytes.PIBytesLike;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
+import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.attributes.GetAttributeNode.GetFixedAttributeNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.call.special.LookupAndCallUnaryNode;
+import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.util.CastToIndexNode;
+import com.oracle.graal.python.nodes.util.CastToJavaLongNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleException;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.CachedContext;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.ArityException;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.UnknownIdentifierException;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.profiles.BranchProfile;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PSREPattern)
+public class SREPatternBuiltins extends PythonBuiltins {
+
+    private static final String[] FLAG_NAMES = {"re.TEMPLATE", "re.IGNORECASE", "re.LOCALE", "re.MULTILINE", "re.DOTALL", "re.UNICODE", "re.VERBOSE", "re.DEBUG", "re.ASCII"};
+    private static final int FLAG_LOCALE = 4;
+    private static final int FLAG_UNICODE = 32;
+    private static final int FLAG_VERBOSE = 64;
+    private static final int FLAG_ASCII = 256;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return SREPatternBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Converts an optional position, count or limit argument to an {@code int}. Values beyond the
+     * {@code int} range are clamped, since {@link SREState} clamps them to the string anyway.
+     */
+    public abstract static class ToSizeNode extends PythonBuiltinBaseNode {
+
+        public abstract int execute(VirtualFrame frame, Object value, int defaultValue);
+
+        @Specialization
+        static int doNone(@SuppressWarnings("unused") PNone value, int defaultValue) {
+            return defaultValue;
+        }
+
+        @Specialization
+        static int doInt(int value, @SuppressWarnings("unused") int defaultValue) {
+            return value;
+        }
+
+        @Specialization
+        static int doLong(long value, @SuppressWarnings("unused") int defaultValue) {
+            return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+        }
+
+        @Specialization(guards = {"!isPNone(value)", "!isInteger(value)"})
+        static int doGeneric(VirtualFrame frame, Object value, @SuppressWarnings("unused") int defaultValue,
+                        @Cached("createOverflow()") CastToIndexNode castToIndexNode) {
+            return castToIndexNode.execute(frame, value);
+        }
+
+        public static ToSizeNode create() {
+            return SREPatternBuiltinsFactory.ToSizeNodeGen.create();
+        }
+    }
+
+    /**
+     * Creates the matching state for a pattern and a str or bytes-like subject, checking that
+     * the kinds of pattern and subject agree.
+     */
+    public abstract static class CreateStateNode extends PythonBuiltinBaseNode {
+
+        public abstract SREState execute(VirtualFrame frame, PSREPattern pattern, Object string, Object pos, Object endpos);
+
+        @Specialization(guards = "isString(string)")
+        SREState doString(VirtualFrame frame, PSREPattern pattern, Object string, Object pos, Object endpos,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached ToSizeNode posNode,
+                        @Cached ToSizeNode endposNode) {
+            if (!pattern.acceptsString()) {
+                throw raise(TypeError, "cannot use a bytes pattern on a string-like object");
+            }
+            return new SREState(pattern, castToJavaStringNode.execute(string), posNode.execute(frame, pos, 0), endposNode.execute(frame, endpos, Integer.MAX_VALUE));
+        }
+
+        @Specialization(guards = "!isString(string)", limit = "3")
+        SREState doBytesLike(VirtualFrame frame, PSREPattern pattern, Object string, Object pos, Object endpos,
+                        @CachedLibrary("string") PythonObjectLibrary lib,
+                        @Cached BytesNodes.ToBytesNode toBytesNode,
+                        @Cached ToSizeNode posNode,
+                        @Cached ToSizeNode endposNode) {
+            byte[] bytes;
+            if (string instanceof PIBytesLike || string instanceof PMemoryView) {
+                bytes = toBytesNode.execute(frame, string);
+            } else if (lib.isBuffer(string)) {
+                try {
+                    bytes = lib.getBufferBytes(string);
+                } catch (UnsupportedMessageException e) {
+                    throw raise(TypeError, "expected string or bytes-like object");
+                }
+            } else {
+                throw raise(TypeError, "expected string or bytes-like object");
+            }
+            if (!pattern.acceptsBytes()) {
+                throw raise(TypeError, "cannot use a string pattern on a bytes-like object");
+            }
+            return new SREState(pattern, bytes, posNode.execute(frame, pos, 0), endposNode.execute(frame, endpos, Integer.MAX_VALUE));
+        }
+
+        public static CreateStateNode create() {
+            return SREPatternBuiltinsFactory.CreateStateNodeGen.create();
+        }
+    }
+
+    /**
+     * Compiles a pattern source with a TRegex engine. The compiled regexes are kept in the
+     * bounded cache of the context. A syntax error is raised as a {@code ValueError} carrying the
+     * TRegex message, which {@code _sre} turns into {@code re.error}.
+     */
+    public abstract static class TRegexCompileNode extends PythonBuiltinBaseNode {
+
+        public abstract Object execute(VirtualFrame frame, Object engine, String source, boolean isBytes, String flags);
+
+        @Specialization(limit = "1")
+        Object compile(VirtualFrame frame, Object engine, String source, boolean isBytes, String flags,
+                        @CachedLibrary("engine") InteropLibrary interop,
+                        @Cached BranchProfile syntaxError,
+                        @Cached BranchProfile typeError,
+                        @CachedContext(PythonLanguage.class) PythonContext context) {
+            TRegexCache cache = context.getRegexCache();
+            String key = TRegexCache.key(source, isBytes, flags);
+            Object regex = cache.get(key);
+            if (regex != null) {
+                return regex;
+            }
+            Object patternArg = isBytes ? factory().createBytes(encodeLatin1(source)) : source;
+            PException savedExceptionState = IndirectCallContext.enter(frame, context, this);
+            try {
+                regex = interop.execute(engine, patternArg, flags);
+            } catch (ArityException | UnsupportedTypeException | UnsupportedMessageException e) {
+                typeError.enter();
+                throw raise(TypeError, "%s", e);
+            } catch (RuntimeException e) {
+                if (e instanceof TruffleException && ((TruffleException) e).isSyntaxError()) {
+                    syntaxError.enter();
+                    throw raise(ValueError, "%s", e);
+                }
+                // just re-throw
+                throw e;
+            } finally {
+                IndirectCallContext.exit(frame, context, savedExceptionState);
+            }
+            cache.put(key, regex);
+            return regex;
+        }
+
+        @TruffleBoundary
+        private static byte[] encodeLatin1(String source) {
+            return source.getBytes(StandardCharsets.ISO_8859_1);
+        }
+
+        public static TRegexCompileNode create() {
+            return SREPatternBuiltinsFactory.TRegexCompileNodeGen.create();
+        }
+    }
+
+    /**
+     * Returns the SRE version of a TRegex pattern, which is compiled from the pattern source on
+     * first use.
+     */
+    public abstract static class GetSREPatternNode extends PythonBuiltinBaseNode {
+
+        public abstract PSREPattern execute(VirtualFrame frame, PSREPattern pattern);
+
+        @Specialization
+        PSREPattern get(VirtualFrame frame, PSREPattern pattern,
+                        @Cached CallNode callNode) {
+            PSREPattern srePattern = pattern.getSREPattern();
+            if (srePattern == null) {
+                Object compiled = callNode.execute(frame, pattern.getSRECompiler(), pattern.getPattern(), pattern.getFlags());
+                if (!(compiled instanceof PSREPattern) || ((PSREPattern) compiled).isTRegex()) {
+                    throw raise(RuntimeError, "internal error in regular expression engine");
+                }
+                srePattern = (PSREPattern) compiled;
+                pattern.setSREPattern(srePattern);
+            }
+            return srePattern;
+        }
+
+        public static GetSREPatternNode create() {
+            return SREPatternBuiltinsFactory.GetSREPatternNodeGen.create();
+        }
+    }
+
+    /**
+     * Runs a match, full match or search on a matching state. Patterns produced by
+     * {@code sre_compile} are interpreted by {@link SREState}. Patterns compiled by TRegex are
+     * executed through interop on the subject up to {@code endpos}, and the offsets of the result
+     * are stored back into the state, so that the loops of the builtins below are the same for
+     * both engines. TRegex cannot reject an empty match at the position of the previous empty
+     * match by itself. Like {@code _sre}, the step at that position then looks for a non-empty
+     * match, which is done by the SRE version of the pattern, and a search goes on with TRegex one
+     * position further if there is none.
+     */
+    public abstract static class ExecNode extends PythonBuiltinBaseNode {
+        public static final int MATCH = 0;
+        public static final int FULLMATCH = 1;
+        public static final int SEARCH = 2;
+
+        public abstract int execute(VirtualFrame frame, PSREPattern pattern, SREState state, int mode);
+
+        @Specialization(guards = "!pattern.isTRegex()")
+        static int doSRE(@SuppressWarnings("unused") PSREPattern pattern, SREState state, int mode) {
+            switch (mode) {
+                case MATCH:
+                    return state.match();
+                case FULLMATCH:
+                    return state.fullmatch();
+                default:
+                    return state.search();
+            }
+        }
+
+        @Specialization(guards = "pattern.isTRegex()")
+        int doTRegex(VirtualFrame frame, PSREPattern pattern, SREState state, int mode,
+                        @Cached TRegexCompileNode compileNode,
+                        @CachedLibrary(limit = "3") InteropLibrary regexLib,
+                        @CachedLibrary(limit = "3") InteropLibrary execLib,
+                        @CachedLibrary(limit = "3") InteropLibrary resultLib,
+                        @CachedLibrary(limit = "3") InteropLibrary valueLib,
+                        @Cached BranchProfile typeError,
+                        @Cached BranchProfile mustAdvanceProfile,
+                        @Cached("createBinaryProfile()") ConditionProfile compileProfile,
+                        @Cached("createBinaryProfile()") ConditionProfile fallbackProfile,
+                        @Cached GetSREPatternNode getSREPatternNode,
+                        @CachedContext(PythonLanguage.class) PythonContext context) {
+            Object regex = pattern.getTRegex(mode);
+            if (compileProfile.profile(regex == null)) {
+                regex = compileNode.execute(frame, pattern.getTRegexEngine(), mode == FULLMATCH ? fullmatchSource(pattern) : pattern.getTRegexSource(), pattern.isBytesPattern(),
+                                pattern.getTRegexFlags() + "y");
+                pattern.setTRegex(mode, regex);
+            }
+            if (fallbackProfile.profile(regex instanceof PSREPattern)) {
+                // TRegex handed the sticky variant to the SRE engine; its source is already
+                // anchored for fullmatch
+                return state.matchWith((PSREPattern) regex);
+            }
+            int from = state.getStart();
+            int end = state.getEnd();
+            if (from > end) {
+                return SREState.FAILURE;
+            }
+            Object input = state.getTRegexInput();
+            if (input == null) {
+                input = createInput(state);
+                state.setTRegexInput(input);
+            }
+            int[] regs = new int[2 * (pattern.getGroups() + 1)];
+            PException savedExceptionState = IndirectCallContext.enter(frame, context, this);
+            try {
+                Object exec = regexLib.readMember(regex, "exec");
+                while (true) {
+                    Object result = execLib.execute(exec, input, from);
+                    if (!valueLib.asBoolean(resultLib.readMember(result, "isMatch"))) {
+                        return SREState.FAILURE;
+                    }
+                    for (int i = 0; i < regs.length; i += 2) {
+                        regs[i] = valueLib.asInt(resultLib.invokeMember(result, "getStart", i / 2));
+                        regs[i + 1] = valueLib.asInt(resultLib.invokeMember(result, "getEnd", i / 2));
+                    }
+                    if (state.mustAdvance() && regs[0] == state.getStart() && regs[1] == regs[0]) {
+                        mustAdvanceProfile.enter();
+                        int status = state.matchWith(getSREPatternNode.execute(frame, pattern));
+                        if (status != SREState.FAILURE || mode != SEARCH || from >= end) {
+                            return status;
+                        }
+                        from = state.getStart() + 1;
+                        continue;
+                    }
+                    state.setResult(regs);
+                    return SREState.SUCCESS;
+                }
+            } catch (ArityException | UnsupportedTypeException | UnsupportedMessageException | UnknownIdentifierException e) {
+                typeError.enter();
+                throw raise(TypeError, "%s", e);
+            } finally {
+                IndirectCallContext.exit(frame, context, savedExceptionState);
+            }
+        }
+
+        private Object createInput(SREState state) {
+            if (state.isBytes()) {
+                byte[] bytes = state.getBytes();
+                return factory().createBytes(state.getEnd() == bytes.length ? bytes : Arrays.copyOf(bytes, state.getEnd()));
+            }
+            String string = state.getString();
+            return state.getEnd() == string.length() ? string : substring(string, state.getEnd());
+        }
+
+        @TruffleBoundary
+        private static String substring(String string, int end) {
+            return string.substring(0, end);
+        }
+
+        /**
+         * Wraps the pattern in a non-capturing group anchored at the end. Global flags at the
+         * start of the pattern have to stay in front, and in verbose mode the group must not be
+         * closed inside a trailing comment.
+         */
+        @TruffleBoundary
+        static String fullmatchSource(PSREPattern pattern) {
+            String source = pattern.getTRegexSource();
+            boolean verbose = (pattern.getFlags() & FLAG_VERBOSE) != 0;
+            int i = 0;
+            while (source.startsWith("(?", i)) {
+                int j = i + 2;
+                while (j < source.length() && "aiLmsux".indexOf(source.charAt(j)) >= 0) {
+                    verbose |= source.charAt(j) == 'x';
+                    j++;
+                }
+                if (j == i + 2 || j >= source.length() || source.charAt(j) != ')') {
+                    break;
+                }
+                i = j + 1;
+            }
+            return source.substring(0, i) + "(?:" + source.substring(i) + (verbose ? "\n)\\Z" : ")\\Z");
+        }
+
+        public static ExecNode create() {
+            return SREPatternBuiltinsFactory.ExecNodeGen.create();
+        }
+    }
+
+    /**
+     * Turns the result of a match or search into a match object or {@code None}.
+     */
+    public abstract static class CreateMatchNode extends PythonBuiltinBaseNode {
+
+        public abstract Object execute(PSREPattern pattern, Object string, SREState state, int status);
+
+        @Specialization
+        Object doMatch(PSREPattern pattern, Object string, SREState state, int status,
+                        @Cached("createBinaryProfile()") ConditionProfile matchedProfile) {
+            if (matchedProfile.profile(status > 0)) {
+                return factory().createSREMatch(pattern, string, state);
+            } else if (status == 0) {
+                return PNone.NONE;
+            }
+            throw raise(RuntimeError, "internal error in regular expression engine");
+        }
+
+        public static CreateMatchNode create() {
+            return SREPatternBuiltinsFactory.CreateMatchNodeGen.create();
+        }
+    }
+
+    @Builtin(name = "match", minNumOfPositionalArgs = 2, parameterNames = {"self", "string", "pos", "endpos"})
+    @GenerateNodeFactory
+    abstract static class MatchNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        static Object match(VirtualFrame frame, PSREPattern self, Object string, Object pos, Object endpos,
+                        @Cached CreateStateNode createStateNode,
+                        @Cached ExecNode execNode,
+                        @Cached CreateMatchNode createMatchNode) {
+            SREState state = createStateNode.execute(frame, self, string, pos, endpos);
+            return createMatchNode.execute(self, string, state, execNode.execute(frame, self, state, ExecNode.MATCH));
+        }
+    }
+
+    @Builtin(name = "fullmatch", minNumOfPositionalArgs = 2, parameterNames = {"self", "string", "pos", "endpos"})
+    @GenerateNodeFactory
+    abstract static class FullMatchNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        static Object fullmatch(VirtualFrame frame, PSREPattern self, Object string, Object pos, Object endpos,
+                        @Cached CreateStateNode createStateNode,
+                        @Cached ExecNode execNode,
+                        @Cached CreateMatchNode createMatchNode) {
+            SREState state = createStateNode.execute(frame, self, string, pos, endpos);
+            return createMatchNode.execute(self, string, state, execNode.execute(frame, self, state, ExecNode.FULLMATCH));
+        }
+    }
+
+    @Builtin(name = "search", minNumOfPositionalArgs = 2, parameterNames = {"self", "string", "pos", "endpos"})
+    @GenerateNodeFactory
+    abstract static class SearchNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        static Object search(VirtualFrame frame, PSREPattern self, Object string, Object pos, Object endpos,
+                        @Cached CreateStateNode createStateNode,
+                        @Cached ExecNode execNode,
+                        @Cached CreateMatchNode createMatchNode) {
+            SREState state = createStateNode.execute(frame, self, string, pos, endpos);
+            return createMatchNode.execute(self, string, state, execNode.execute(frame, self, state, ExecNode.SEARCH));
+        }
+    }
+
+    @Builtin(name = "findall", minNumOfPositionalArgs = 2, parameterNames = {"self", "string", "pos", "endpos"})
+    @GenerateNodeFactory
+    abstract static class FindAllNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        Object findall(VirtualFrame frame, PSREPattern self, Object string, Object pos, Object endpos,
+                        @Cached CreateStateNode createStateNode,
+                        @Cached ExecNode execNode) {
+            SREState state = createStateNode.execute(frame, self, string, pos, endpos);
+            int groups = self.getGroups();
+            List<Object> result = new ArrayList<>();
+            while (state.getStart() <= state.getEnd()) {
+                state.reset();
+                int status = execNode.execute(frame, self, state, ExecNode.SEARCH);
+                if (status <= 0) {
+                    if (status == 0) {
+                        break;
+                    }
+                    throw raise(RuntimeError, "internal error in regular expression engine");
+                }
+                // don't bother to build a match object
+                Object item;
+                if (groups == 0) {
+                    item = toPython(state.getSlice(state.getStart(), state.getPtr()));
+                } else {
+                    int[] regs = state.getRegs(groups);
+                    if (groups == 1) {
+                        item = getGroupOrEmpty(state, regs, 1);
+                    } else {
+                        Object[] items = new Object[groups];
+                        for (int i = 0; i < groups; i++) {
+                            items[i] = getGroupOrEmpty(state, regs, i + 1);
+                        }
+                        item = factory().createTuple(items);
+                    }
+                }
+                add(result, item);
+                state.advance();
+            }
+            return factory().createList(toArray(result));
+        }
+
+        private Object getGroupOrEmpty(SREState state, int[] regs, int group) {
+            int start = regs[2 * group];
+            int end = regs[2 * group + 1];
+            if (start < 0 || end < 0) {
+                start = end = 0;
+            }
+            return toPython(state.getSlice(start, end));
+        }
+
+        private Object toPython(Object slice) {
+            return slice instanceof byte[] ? factory().createBytes((byte[]) slice) : slice;
+        }
+    }
+
+    @Builtin(name = "finditer", minNumOfPositionalArgs = 2, parameterNames = {"self", "string", "pos", "endpos"})
+    @GenerateNodeFactory
+    abstract static class FindIterNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        Object finditer(VirtualFrame frame, PSREPattern self, Object string, Object pos, Object endpos,
+                        @Cached CreateStateNode createStateNode,
+                        @Cached("create(SEARCH)") GetFixedAttributeNode getSearchNode) {
+            SREState state = createStateNode.execute(frame, self, string, pos, endpos);
+            PSREScanner scanner = factory().createSREScanner(self, string, state);
+            return factory().createSentinelIterator(getSearchNode.executeObject(frame, scanner), PNone.NONE);
+        }
+
+        protected static final String SEARCH = "search";
+    }
+
+    @Builtin(name = "scanner", minNumOfPositionalArgs = 2, parameterNames = {"self", "string", "pos", "endpos"})
+    @GenerateNodeFactory
+    abstract static class ScannerNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        Object scanner(VirtualFrame frame, PSREPattern self, Object string, Object pos, Object endpos,
+                        @Cached CreateStateNode createStateNode) {
+            return factory().createSREScanner(self, string, createStateNode.execute(frame, self, string, pos, endpos));
+        }
+    }
+
+    @Builtin(name = "split", minNumOfPositionalArgs = 2, parameterNames = {"self", "string", "maxsplit"})
+    @GenerateNodeFactory
+    abstract static class SplitNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        Object split(VirtualFrame frame, PSREPattern self, Object string, Object maxsplitObj,
+                        @Cached CreateStateNode createStateNode,
+                        @Cached ExecNode execNode,
+                        @Cached ToSizeNode toSizeNode) {
+            int maxsplit = toSizeNode.execute(frame, maxsplitObj, 0);
+            SREState state = createStateNode.execute(frame, self, string, PNone.NO_VALUE, PNone.NO_VALUE);
+            int groups = self.getGroups();
+            List<Object> result = new ArrayList<>();
+            int n = 0;
+            int last = state.getStart();
+            while (maxsplit == 0 || n < maxsplit) {
+                state.reset();
+                int status = execNode.execute(frame, self, state, ExecNode.SEARCH);
+                if (status <= 0) {
+                    if (status == 0) {
+                        break;
+                    }
+                    throw raise(RuntimeError, "internal error in regular expression engine");
+                }
+                // get segment before this match
+                add(result, toPython(state.getSlice(last, state.getStart())));
+                // add groups (if any)
+                if (groups > 0) {
+                    int[] regs = state.getRegs(groups);
+                    for (int i = 1; i <= groups; i++) {
+                        int start = regs[2 * i];
+                        int end = regs[2 * i + 1];
+                        add(result, start < 0 || end < 0 ? PNone.NONE : toPython(state.getSlice(start, end)));
+                    }
+                }
+                n++;
+                state.advance();
+                last = state.getStart();
+            }
+            // get segment following last match (even if empty)
+            add(result, toPython(state.getSlice(last, state.getEndpos())));
+            return factory().createList(toArray(result));
+        }
+
+        private Object toPython(Object slice) {
+            return slice instanceof byte[] ? factory().createBytes((byte[]) slice) : slice;
+        }
+    }
+
+    /**
+     * Implements {@code sub} and {@code subn}. A replacement that is neither callable nor free of
+     * backslashes is handed to {@code re._subx}, which compiles the template into a callable.
+     */
+    public abstract static class SubxNode extends PythonBuiltinBaseNode {
+
+        public abstract Object execute(VirtualFrame frame, PSREPattern self, Object repl, Object string, Object count, boolean subn);
+
+        @Specialization(limit = "3")
+        Object subx(VirtualFrame frame, PSREPattern self, Object repl, Object string, Object countObj, boolean subn,
+                        @CachedLibrary("repl") PythonObjectLibrary replLib,
+                        @CachedLibrary(limit = "3") PythonObjectLibrary filterLib,
+                        @Cached CastToJavaStringNode castToJavaStringNode,
+                        @Cached BytesNodes.ToBytesNode toBytesNode,
+                        @Cached CreateStateNode createStateNode,
+                        @Cached ExecNode execNode,
+                        @Cached ToSizeNode toSizeNode,
+                        @Cached CallNode callSubxNode,
+                        @Cached CallNode callFilterNode) {
+            Object filter;
+            boolean filterIsCallable;
+            if (replLib.isCallable(repl)) {
+                filter = repl;
+                filterIsCallable = true;
+            } else {
+                // if not callable, check if it's a literal string
+                boolean literal;
+                if (PGuards.isString(repl)) {
+                    literal = castToJavaStringNode.execute(repl).indexOf('\\') < 0;
+                } else if (repl instanceof PIBytesLike || repl instanceof PMemoryView) {
+                    literal = indexOf(toBytesNode.execute(frame, repl), '\\') < 0;
+                } else {
+                    literal = false;
+                }
+                if (literal) {
+                    filter = repl;
+                    filterIsCallable = false;
+                } else {
+                    // not a literal; hand it over to the template compiler
+                    filter = callSubxNode.execute(frame, getCore().lookupBuiltinModule("_sre").getAttribute("_subx"), self, repl);
+                    filterIsCallable = filterLib.isCallable(filter);
+                }
+            }
+
+            int count = toSizeNode.execute(frame, countObj, 0);
+            SREState state = createStateNode.execute(frame, self, string, PNone.NO_VALUE, PNone.NO_VALUE);
+            boolean isBytes = state.isBytes();
+            StringBuilder sb = isBytes ? null : new StringBuilder();
+            ByteArrayOutputStream bytes = isBytes ? new ByteArrayOutputStream() : null;
+            int n = 0;
+            int i = 0;
+            while (count == 0 || n < count) {
+                state.reset();
+                int status = execNode.execute(frame, self, state, ExecNode.SEARCH);
+                if (status <= 0) {
+                    if (status == 0) {
+                        break;
+                    }
+                    throw raise(RuntimeError, "internal error in regular expression engine");
+                }
+                int b = state.getStart();
+                int e = state.getPtr();
+                if (i < b) {
+                    // get segment before this match
+                    appendSlice(state, sb, bytes, i, b);
+                }
+                Object item;
+                if (filterIsCallable) {
+                    // pass match object through filter
+                    item = callFilterNode.execute(frame, filter, factory().createSREMatch(self, string, state));
+                } else {
+                    item = filter;
+                }
+                if (item != PNone.NONE) {
+                    if (isBytes) {
+                        if (!(item instanceof PIBytesLike || item instanceof PMemoryView)) {
+                            throw raise(TypeError, "sequence item %d: expected a bytes-like object, %p found", n, item);
+                        }
+                        append(bytes, toBytesNode.execute(frame, item));
+                    } else {
+                        if (!PGuards.isString(item)) {
+                            throw raise(TypeError, "sequence item %d: expected str instance, %p found", n, item);
+                        }
+                        append(sb, castToJavaStringNode.execute(item));
+                    }
+                }
+                i = e;
+                n++;
+                state.advance();
+            }
+            // get segment following last match
+            if (i < state.getEndpos()) {
+                appendSlice(state, sb, bytes, i, state.getEndpos());
+            }
+            Object joined = isBytes ? factory().createBytes(toByteArray(bytes)) : toString(sb);
+            if (subn) {
+                return factory().createTuple(new Object[]{joined, n});
+            }
+            return joined;
+        }
+
+        @TruffleBoundary
+        private static void appendSlice(SREState state, StringBuilder sb, ByteArrayOutputStream bytes, int start, int end) {
+            if (bytes != null) {
+                bytes.write(state.getBytes(), start, end - start);
+            } else {
+                sb.append(state.getString(), start, end);
+            }
+        }
+
+        @TruffleBoundary
+        private static void append(StringBuilder sb, String s) {
+            sb.append(s);
+        }
+
+        @TruffleBoundary
+        private static void append(ByteArrayOutputStream bytes, byte[] b) {
+            bytes.write(b, 0, b.length);
+        }
+
+        @TruffleBoundary
+        private static String toString(StringBuilder sb) {
+            return sb.toString();
+        }
+
+        @TruffleBoundary
+        private static byte[] toByteArray(ByteArrayOutputStream bytes) {
+            return bytes.toByteArray();
+        }
+
+        private static int indexOf(byte[] bytes, char c) {
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        public static SubxNode create() {
+            return SREPatternBuiltinsFactory.SubxNodeGen.create();
+        }
+    }
+
+    @Builtin(name = "sub", minNumOfPositionalArgs = 3, parameterNames = {"self", "repl", "string", "count"})
+    @GenerateNodeFactory
+    abstract static class SubNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        static Object sub(VirtualFrame frame, PSREPattern self, Object repl, Object string, Object count,
+                        @Cached SubxNode subxNode) {
+            return subxNode.execute(frame, self, repl, string, count, false);
+        }
+    }
+
+    @Builtin(name = "subn", minNumOfPositionalArgs = 3, parameterNames = {"self", "repl", "string", "count"})
+    @GenerateNodeFactory
+    abstract static class SubnNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        static Object subn(VirtualFrame frame, PSREPattern self, Object repl, Object string, Object count,
+                        @Cached SubxNode subxNode) {
+            return subxNode.execute(frame, self, repl, string, count, true);
+        }
+    }
+
+    @Builtin(name = __COPY__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CopyNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object copy(PSREPattern self) {
+            return self;
+        }
+    }
+
+    @Builtin(name = __DEEPCOPY__, minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class DeepCopyNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object deepcopy(PSREPattern self, @SuppressWarnings("unused") Object memo) {
+            return self;
+        }
+    }
+
+    @Builtin(name = __REPR__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ReprNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static String repr(VirtualFrame frame, PSREPattern self,
+                        @Cached("create(__REPR__)") LookupAndCallUnaryNode reprNode,
+                        @Cached CastToJavaStringNode castToJavaStringNode) {
+            String patternRepr = castToJavaStringNode.execute(reprNode.executeObject(frame, self.getPattern()));
+            return format(self, patternRepr);
+        }
+
+        @TruffleBoundary
+        private static String format(PSREPattern self, String patternRepr) {
+            int flags = self.getFlags();
+            // omit re.UNICODE for valid string patterns
+            if (!self.acceptsBytes() && (flags & (FLAG_LOCALE | FLAG_UNICODE | FLAG_ASCII)) == FLAG_UNICODE) {
+                flags &= ~FLAG_UNICODE;
+            }
+            StringBuilder sb = new StringBuilder("re.compile(");
+            sb.append(patternRepr, 0, Math.min(patternRepr.length(), 200));
+            boolean first = true;
+            for (int i = 0; i < FLAG_NAMES.length; i++) {
+                int value = 1 << i;
+                if ((flags & value) != 0) {
+                    sb.append(first ? ", " : "|").append(FLAG_NAMES[i]);
+                    flags &= ~value;
+                    first = false;
+                }
+            }
+            if (flags != 0) {
+                sb.append(first ? ", " : "|").append("0x").append(Integer.toHexString(flags));
+            }
+            return sb.append(')').toString();
+        }
+    }
+
+    @Builtin(name = __EQ__, minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class EqNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static boolean eq(VirtualFrame frame, PSREPattern self, PSREPattern other,
+                        @Cached("create(__EQ__, __EQ__, \"==\")") BinaryComparisonNode eqNode) {
+            if (self == other) {
+                return true;
+            }
+            return self.getFlags() == other.getFlags() && self.acceptsString() == other.acceptsString() && self.acceptsBytes() == other.acceptsBytes() &&
+                            Arrays.equals(self.getCode(), other.getCode()) && eqNode.executeBool(frame, self.getPattern(), other.getPattern());
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        static PNotImplemented doGeneric(Object self, Object other) {
+            return PNotImplemented.NOT_IMPLEMENTED;
+        }
+    }
+
+    @Builtin(name = __HASH__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class HashNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static long hash(VirtualFrame frame, PSREPattern self,
+                        @Cached("create(__HASH__)") LookupAndCallUnaryNode hashNode,
+                        @Cached CastToJavaLongNode castToJavaLongNode) {
+            long hash = castToJavaLongNode.execute(hashNode.executeObject(frame, self.getPattern()));
+            hash ^= Arrays.hashCode(self.getCode());
+            return hash == -1 ? -2 : hash;
+        }
+    }
+
+    @Builtin(name = "pattern", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class PatternNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object pattern(PSREPattern self) {
+            return self.getPattern();
+        }
+    }
+
+    @Builtin(name = "flags", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class FlagsNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int flags(PSREPattern self) {
+            return self.getFlags();
+        }
+    }
+
+    @Builtin(name = "groups", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class GroupsNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int groups(PSREPattern self) {
+            return self.getGroups();
+        }
+    }
+
+    @Builtin(name = "groupindex", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class GroupIndexNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object groupindex(PSREPattern self) {
+            return factory().createMappingproxy(self.getGroupindex().getDictStorage());
+        }
+    }
+
+    @TruffleBoundary
+    static void add(List<Object> list, Object item) {
+        list.add(item);
+    }
+
+    @TruffleBoundary
+    static Object[] toArray(List<Object> list) {
+        return list.toArray();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.sre;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.sre.SREPatternBuiltins.CreateMatchNode;
+import com.oracle.graal.python.builtins.objects.sre.SREPatternBuiltins.ExecNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PSREScanner)
+public class SREScannerBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return SREScannerBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Creates the match object for a scanner step and moves the scanner past the match; a failed
+     * step exhausts the scanner.
+     */
+    static Object step(PSREScanner self, int status, CreateMatchNode createMatchNode) {
+        SREState state = self.getState();
+        Object match = createMatchNode.execute(self.getPattern(), self.getString(), state, status);
+        if (status == 0) {
+            self.setExhausted();
+        } else {
+            state.advance();
+        }
+        return match;
+    }
+
+    @Builtin(name = "match", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class MatchNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object match(VirtualFrame frame, PSREScanner self,
+                        @Cached ExecNode execNode,
+                        @Cached CreateMatchNode createMatchNode) {
+            if (self.isExhausted()) {
+                return PNone.NONE;
+            }
+            SREState state = self.getState();
+            state.reset();
+            return step(self, execNode.execute(frame, self.getPattern(), state, ExecNode.MATCH), createMatchNode);
+        }
+    }
+
+    @Builtin(name = "search", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class SearchNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object search(VirtualFrame frame, PSREScanner self,
+                        @Cached ExecNode execNode,
+                        @Cached CreateMatchNode createMatchNode) {
+            if (self.isExhausted()) {
+                return PNone.NONE;
+            }
+            SREState state = self.getState();
+            state.reset();
+            return step(self, execNode.execute(frame, self.getPattern(), state, ExecNode.SEARCH), createMatchNode);
+        }
+    }
+
+    @Builtin(name = "pattern", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class PatternNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object pattern(PSREScanner self) {
+            return self.getPattern();
+        }
+    }
+}
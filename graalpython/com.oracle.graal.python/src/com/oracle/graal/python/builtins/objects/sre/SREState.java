@@ -0,0 +1,1547 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.sre;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import com.oracle.graal.python.builtins.objects.str.StringUtils;
+import com.oracle.graal.python.runtime.unicode.UnicodeDatabase;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Matching state of the SRE regular expression engine. This is a port of CPython's
+ * {@code _sre.c} and {@code sre_lib.h}: it interprets the code arrays produced by
+ * {@code sre_compile} directly on a Java string or byte array. Instead of the goto-based
+ * recursion of the C implementation, the backtracking points are kept on an explicit stack of
+ * {@link MatchContext} objects, and the marks and repeat pointers that have to be restored when
+ * backtracking are saved on an int data stack. Strings are matched by UTF-16 code unit, which is
+ * how str indices are counted in this implementation.
+ */
+public final class SREState {
+
+    public static final int MAGIC = 20171005;
+    public static final int CODESIZE = 4;
+    public static final long MAXREPEAT = 0xFFFFFFFFL;
+
+    static final int OP_FAILURE = 0;
+    static final int OP_SUCCESS = 1;
+    static final int OP_ANY = 2;
+    static final int OP_ANY_ALL = 3;
+    static final int OP_ASSERT = 4;
+    static final int OP_ASSERT_NOT = 5;
+    static final int OP_AT = 6;
+    static final int OP_BRANCH = 7;
+    static final int OP_CATEGORY = 9;
+    static final int OP_CHARSET = 10;
+    static final int OP_BIGCHARSET = 11;
+    static final int OP_GROUPREF = 12;
+    static final int OP_GROUPREF_EXISTS = 13;
+    static final int OP_IN = 14;
+    static final int OP_INFO = 15;
+    static final int OP_JUMP = 16;
+    static final int OP_LITERAL = 17;
+    static final int OP_MARK = 18;
+    static final int OP_MAX_UNTIL = 19;
+    static final int OP_MIN_UNTIL = 20;
+    static final int OP_NOT_LITERAL = 21;
+    static final int OP_NEGATE = 22;
+    static final int OP_RANGE = 23;
+    static final int OP_REPEAT = 24;
+    static final int OP_REPEAT_ONE = 25;
+    static final int OP_MIN_REPEAT_ONE = 27;
+    static final int OP_GROUPREF_IGNORE = 28;
+    static final int OP_IN_IGNORE = 29;
+    static final int OP_LITERAL_IGNORE = 30;
+    static final int OP_NOT_LITERAL_IGNORE = 31;
+    static final int OP_GROUPREF_LOC_IGNORE = 32;
+    static final int OP_IN_LOC_IGNORE = 33;
+    static final int OP_LITERAL_LOC_IGNORE = 34;
+    static final int OP_NOT_LITERAL_LOC_IGNORE = 35;
+    static final int OP_GROUPREF_UNI_IGNORE = 36;
+    static final int OP_IN_UNI_IGNORE = 37;
+    static final int OP_LITERAL_UNI_IGNORE = 38;
+    static final int OP_NOT_LITERAL_UNI_IGNORE = 39;
+    static final int OP_RANGE_UNI_IGNORE = 40;
+
+    static final int AT_BEGINNING = 0;
+    static final int AT_BEGINNING_LINE = 1;
+    static final int AT_BEGINNING_STRING = 2;
+    static final int AT_BOUNDARY = 3;
+    static final int AT_NON_BOUNDARY = 4;
+    static final int AT_END = 5;
+    static final int AT_END_LINE = 6;
+    static final int AT_END_STRING = 7;
+    static final int AT_LOC_BOUNDARY = 8;
+    static final int AT_LOC_NON_BOUNDARY = 9;
+    static final int AT_UNI_BOUNDARY = 10;
+    static final int AT_UNI_NON_BOUNDARY = 11;
+
+    static final int CATEGORY_DIGIT = 0;
+    static final int CATEGORY_NOT_DIGIT = 1;
+    static final int CATEGORY_SPACE = 2;
+    static final int CATEGORY_NOT_SPACE = 3;
+    static final int CATEGORY_WORD = 4;
+    static final int CATEGORY_NOT_WORD = 5;
+    static final int CATEGORY_LINEBREAK = 6;
+    static final int CATEGORY_NOT_LINEBREAK = 7;
+    static final int CATEGORY_LOC_WORD = 8;
+    static final int CATEGORY_LOC_NOT_WORD = 9;
+    static final int CATEGORY_UNI_DIGIT = 10;
+    static final int CATEGORY_UNI_NOT_DIGIT = 11;
+    static final int CATEGORY_UNI_SPACE = 12;
+    static final int CATEGORY_UNI_NOT_SPACE = 13;
+    static final int CATEGORY_UNI_WORD = 14;
+    static final int CATEGORY_UNI_NOT_WORD = 15;
+    static final int CATEGORY_UNI_LINEBREAK = 16;
+    static final int CATEGORY_UNI_NOT_LINEBREAK = 17;
+
+    static final int INFO_PREFIX = 1;
+    static final int INFO_LITERAL = 2;
+    static final int INFO_CHARSET = 4;
+
+    // match results; errors are negative as in _sre.c
+    public static final int FAILURE = 0;
+    public static final int SUCCESS = 1;
+
+    /** The {@code lastindex} of a TRegex match that has not been determined yet. */
+    public static final int LASTINDEX_UNKNOWN = -2;
+    public static final int ERROR_ILLEGAL = -1;
+    public static final int ERROR_STATE = -2;
+
+    // internal results of the interpreter loop
+    private static final int CONTINUE = 2;
+    private static final int CALL = 3;
+
+    private static final int JUMP_NONE = 0;
+    private static final int JUMP_MAX_UNTIL_1 = 1;
+    private static final int JUMP_MAX_UNTIL_2 = 2;
+    private static final int JUMP_MAX_UNTIL_3 = 3;
+    private static final int JUMP_MIN_UNTIL_1 = 4;
+    private static final int JUMP_MIN_UNTIL_2 = 5;
+    private static final int JUMP_MIN_UNTIL_3 = 6;
+    private static final int JUMP_REPEAT = 7;
+    private static final int JUMP_REPEAT_ONE_1 = 8;
+    private static final int JUMP_REPEAT_ONE_2 = 9;
+    private static final int JUMP_MIN_REPEAT_ONE = 10;
+    private static final int JUMP_BRANCH = 11;
+    private static final int JUMP_ASSERT = 12;
+    private static final int JUMP_ASSERT_NOT = 13;
+
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private static final class Repeat {
+        long count = -1;
+        final int pattern;
+        final Repeat prev;
+        int lastPtr = -1;
+
+        Repeat(int pattern, Repeat prev) {
+            this.pattern = pattern;
+            this.prev = prev;
+        }
+    }
+
+    private static final class MatchContext {
+        int jump;
+        int pattern;
+        boolean toplevel;
+        int ptr;
+        long count;
+        int lastmark;
+        int lastindex;
+        int chr;
+        Repeat rep;
+    }
+
+    private final int[] code;
+    private final String string;
+    private final byte[] bytes;
+
+    private final int pos;
+    private final int endpos;
+    private final int end;
+    private int start;
+    private int ptr;
+
+    private final int[] mark;
+    private int lastmark = -1;
+    private int lastindex = -1;
+    private Repeat repeat;
+
+    private boolean matchAll;
+    // the position where a full match must end
+    private int matchEnd;
+    private boolean mustAdvance;
+
+    // the subject as passed to TRegex, created on first use
+    private Object tregexInput;
+
+    private int[] dataStack = new int[16];
+    private int dataStackBase;
+    private MatchContext[] contexts = new MatchContext[8];
+    private int contextCount;
+
+    private SREState(PSREPattern pattern, String string, byte[] bytes, int length, int start, int end) {
+        this.code = pattern.getCode();
+        this.string = string;
+        this.bytes = bytes;
+        this.mark = new int[2 * pattern.getGroups() + 2];
+        // adjust boundaries
+        int adjustedStart = Math.max(0, Math.min(start, length));
+        int adjustedEnd = Math.max(0, Math.min(end, length));
+        this.pos = adjustedStart;
+        this.endpos = adjustedEnd;
+        this.start = adjustedStart;
+        this.end = adjustedEnd;
+        this.matchEnd = adjustedEnd;
+    }
+
+    public SREState(PSREPattern pattern, String string, int start, int end) {
+        this(pattern, string, null, string.length(), start, end);
+    }
+
+    public SREState(PSREPattern pattern, byte[] bytes, int start, int end) {
+        this(pattern, null, bytes, bytes.length, start, end);
+    }
+
+    public boolean isBytes() {
+        return bytes != null;
+    }
+
+    public String getString() {
+        return string;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public int getPos() {
+        return pos;
+    }
+
+    public int getEndpos() {
+        return endpos;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getPtr() {
+        return ptr;
+    }
+
+    public int getLastindex() {
+        return lastindex;
+    }
+
+    public boolean mustAdvance() {
+        return mustAdvance;
+    }
+
+    public Object getTRegexInput() {
+        return tregexInput;
+    }
+
+    public void setTRegexInput(Object tregexInput) {
+        this.tregexInput = tregexInput;
+    }
+
+    /**
+     * Stores a match found by TRegex, given as the start and end offsets of the match and of all
+     * groups. TRegex does not report which group was closed last. If only one group matched, it is
+     * {@code lastindex}; otherwise {@code lastindex} is {@link #LASTINDEX_UNKNOWN} and is
+     * determined by {@link #findLastindex} when it is asked for.
+     */
+    public void setResult(int[] regs) {
+        start = regs[0];
+        ptr = regs[1];
+        lastindex = -1;
+        for (int i = 2; i < regs.length; i += 2) {
+            mark[i - 2] = regs[i];
+            mark[i - 1] = regs[i + 1];
+            if (regs[i] >= 0) {
+                lastindex = lastindex == -1 ? i / 2 : LASTINDEX_UNKNOWN;
+            }
+        }
+        lastmark = regs.length - 3;
+    }
+
+    /**
+     * Returns the {@code lastindex} of a match from {@code matchStart} to {@code matchEnd} found
+     * by TRegex, by running {@code srePattern}, the SRE version of its pattern, as a full match
+     * that must end at {@code matchEnd}. The subject still extends to {@code endpos}, so that
+     * lookaheads see the same text as before. Like in {@code sre_lib.h}, {@code lastindex} is the
+     * group whose end was marked last.
+     */
+    @TruffleBoundary
+    public static int findLastindex(PSREPattern srePattern, String string, byte[] bytes, int matchStart, int matchEnd, int endpos) {
+        SREState state = new SREState(srePattern, string, bytes, string != null ? string.length() : bytes.length, matchStart, endpos);
+        state.matchAll = true;
+        state.matchEnd = matchEnd;
+        state.ptr = state.start;
+        return state.match(0, true) == SUCCESS ? state.lastindex : -1;
+    }
+
+    /**
+     * Returns the start and end offsets of the match and of all {@code groups} groups; undefined
+     * groups are {@code -1}.
+     */
+    public int[] getRegs(int groups) {
+        int[] regs = new int[2 * (groups + 1)];
+        regs[0] = start;
+        regs[1] = ptr;
+        for (int i = 0, j = 0; i < groups; i++, j += 2) {
+            if (j + 1 <= lastmark && mark[j] >= 0 && mark[j + 1] >= 0) {
+                regs[j + 2] = mark[j];
+                regs[j + 3] = mark[j + 1];
+            } else {
+                regs[j + 2] = regs[j + 3] = -1;
+            }
+        }
+        return regs;
+    }
+
+    /**
+     * Returns the text between the offsets {@code from} and {@code to} as a Java string or a byte
+     * array.
+     */
+    @TruffleBoundary
+    public Object getSlice(int from, int to) {
+        return string != null ? string.substring(from, to) : Arrays.copyOfRange(bytes, from, to);
+    }
+
+    public void reset() {
+        lastmark = -1;
+        lastindex = -1;
+        repeat = null;
+        dataStackBase = 0;
+        contextCount = 0;
+    }
+
+    /**
+     * Continues after a successful match at its end; an empty match forces the next attempt to
+     * advance.
+     */
+    public void advance() {
+        mustAdvance = ptr == start;
+        start = ptr;
+    }
+
+    /**
+     * Matches the code of {@code srePattern}, which must have the same groups as the pattern of
+     * this state, at the current start position and stores a match in this state. This runs the
+     * steps of a TRegex pattern that TRegex cannot do, like finding a non-empty match where the
+     * preferred one is empty.
+     */
+    @TruffleBoundary
+    public int matchWith(PSREPattern srePattern) {
+        SREState other = new SREState(srePattern, string, bytes, string != null ? string.length() : bytes.length, start, end);
+        other.mustAdvance = mustAdvance;
+        int status = other.match();
+        if (status > 0) {
+            start = other.start;
+            ptr = other.ptr;
+            System.arraycopy(other.mark, 0, mark, 0, mark.length);
+            lastmark = other.lastmark;
+            lastindex = other.lastindex;
+        }
+        return status;
+    }
+
+    /**
+     * Tries to match the pattern at the current start position.
+     */
+    @TruffleBoundary
+    public int match() {
+        ptr = start;
+        return match(0, true);
+    }
+
+    /**
+     * Tries to match the pattern at the current start position such that the match extends to the
+     * end.
+     */
+    @TruffleBoundary
+    public int fullmatch() {
+        matchAll = true;
+        ptr = start;
+        return match(0, true);
+    }
+
+    /**
+     * Scans for the first position at or after the current start where the pattern matches. On
+     * success, the match spans from {@link #getStart()} to {@link #getPtr()}.
+     */
+    @TruffleBoundary
+    public int search() {
+        int p = start;
+        int e = end;
+        int pattern = 0;
+        int flags = 0;
+        int prefixLen = 0;
+        int prefixSkip = 0;
+        int prefix = -1;
+        int overlap = -1;
+        int charset = -1;
+
+        if (p > e) {
+            return FAILURE;
+        }
+
+        if (code[0] == OP_INFO) {
+            // optimization info block
+            // <INFO> <1=skip> <2=flags> <3=min> <4=max> <5=prefix info>
+            flags = code[2];
+            long min = arg(3);
+            if (min != 0 && e - p < min) {
+                return FAILURE;
+            }
+            if (min > 1) {
+                // adjust end point (but make sure we leave at least one character in there, so
+                // literal search will work)
+                e -= (int) (min - 1);
+                if (e <= p) {
+                    e = p;
+                }
+            }
+            if ((flags & INFO_PREFIX) != 0) {
+                // <length> <skip> <prefix data> <overlap data>
+                prefixLen = code[5];
+                prefixSkip = code[6];
+                prefix = 7;
+                overlap = prefix + prefixLen - 1;
+            } else if ((flags & INFO_CHARSET) != 0) {
+                charset = 5;
+            }
+            pattern += 1 + code[1];
+        }
+
+        if (prefixLen == 1) {
+            // pattern starts with a literal character
+            int c = code[prefix];
+            e = end;
+            mustAdvance = false;
+            while (p < e) {
+                while (charAt(p) != c) {
+                    if (++p >= e) {
+                        return FAILURE;
+                    }
+                }
+                start = p;
+                ptr = p + prefixSkip;
+                if ((flags & INFO_LITERAL) != 0) {
+                    return SUCCESS;
+                }
+                int status = match(pattern + 2 * prefixSkip, false);
+                if (status != FAILURE) {
+                    return status;
+                }
+                ++p;
+                resetCaptureGroups();
+            }
+            return FAILURE;
+        }
+
+        if (prefixLen > 1) {
+            // pattern starts with a known prefix. use the overlap table to skip forward as fast as
+            // we possibly can
+            e = end;
+            if (prefixLen > e - p) {
+                return FAILURE;
+            }
+            while (p < e) {
+                int c = code[prefix];
+                while (charAt(p++) != c) {
+                    if (p >= e) {
+                        return FAILURE;
+                    }
+                }
+                if (p >= e) {
+                    return FAILURE;
+                }
+                int i = 1;
+                mustAdvance = false;
+                do {
+                    if (charAt(p) == code[prefix + i]) {
+                        if (++i != prefixLen) {
+                            if (++p >= e) {
+                                return FAILURE;
+                            }
+                            continue;
+                        }
+                        // found a potential match
+                        start = p - (prefixLen - 1);
+                        ptr = p - (prefixLen - prefixSkip - 1);
+                        if ((flags & INFO_LITERAL) != 0) {
+                            return SUCCESS;
+                        }
+                        int status = match(pattern + 2 * prefixSkip, false);
+                        if (status != FAILURE) {
+                            return status;
+                        }
+                        // close but no cigar -- try again
+                        if (++p >= e) {
+                            return FAILURE;
+                        }
+                        resetCaptureGroups();
+                    }
+                    i = code[overlap + i];
+                } while (i != 0);
+            }
+            return FAILURE;
+        }
+
+        int status;
+        if (charset >= 0) {
+            // pattern starts with a character from a known set
+            e = end;
+            mustAdvance = false;
+            while (true) {
+                while (p < e && !charset(charset, charAt(p))) {
+                    p++;
+                }
+                if (p >= e) {
+                    return FAILURE;
+                }
+                start = p;
+                ptr = p;
+                status = match(pattern, false);
+                if (status != FAILURE) {
+                    break;
+                }
+                p++;
+                resetCaptureGroups();
+            }
+        } else {
+            // general case
+            start = ptr = p;
+            status = match(pattern, true);
+            mustAdvance = false;
+            while (status == FAILURE && p < e) {
+                p++;
+                resetCaptureGroups();
+                start = ptr = p;
+                status = match(pattern, false);
+            }
+        }
+        return status;
+    }
+
+    private void resetCaptureGroups() {
+        lastmark = lastindex = -1;
+    }
+
+    private int charAt(int index) {
+        return string != null ? string.charAt(index) : bytes[index] & 0xFF;
+    }
+
+    private long arg(int index) {
+        return code[index] & 0xFFFFFFFFL;
+    }
+
+    // the interpreter
+
+    private int match(int pattern, boolean toplevel) {
+        int base = contextCount;
+        MatchContext ctx = pushContext(JUMP_NONE, pattern, toplevel);
+        int status = enter(ctx);
+        while (true) {
+            if (status == CONTINUE) {
+                status = dispatch(ctx);
+            } else if (status == CALL) {
+                ctx = contexts[contextCount - 1];
+                status = enter(ctx);
+            } else if (status < 0) {
+                contextCount = base;
+                return status;
+            } else {
+                int jump = ctx.jump;
+                contextCount--;
+                if (contextCount == base) {
+                    return status;
+                }
+                ctx = contexts[contextCount - 1];
+                status = resume(ctx, jump, status == SUCCESS);
+            }
+        }
+    }
+
+    private MatchContext pushContext(int jump, int pattern, boolean toplevel) {
+        if (contextCount == contexts.length) {
+            contexts = Arrays.copyOf(contexts, contexts.length * 2);
+        }
+        MatchContext ctx = contexts[contextCount];
+        if (ctx == null) {
+            ctx = contexts[contextCount] = new MatchContext();
+        }
+        contextCount++;
+        ctx.jump = jump;
+        ctx.pattern = pattern;
+        ctx.toplevel = toplevel;
+        ctx.rep = null;
+        return ctx;
+    }
+
+    private int call(MatchContext ctx, int jump, int pattern) {
+        pushContext(jump, pattern, ctx.toplevel);
+        return CALL;
+    }
+
+    private int call0(int jump, int pattern) {
+        pushContext(jump, pattern, false);
+        return CALL;
+    }
+
+    private int enter(MatchContext ctx) {
+        ctx.ptr = ptr;
+        if (code[ctx.pattern] == OP_INFO) {
+            // optimization info block
+            // <INFO> <1=skip> <2=flags> <3=min> ...
+            long min = arg(ctx.pattern + 3);
+            if (min != 0 && end - ctx.ptr < min) {
+                return FAILURE;
+            }
+            ctx.pattern += code[ctx.pattern + 1] + 1;
+        }
+        return CONTINUE;
+    }
+
+    private int dispatch(MatchContext ctx) {
+        while (true) {
+            switch (code[ctx.pattern++]) {
+                case OP_MARK: {
+                    // <MARK> <gid>
+                    int i = code[ctx.pattern];
+                    if ((i & 1) != 0) {
+                        lastindex = i / 2 + 1;
+                    }
+                    if (i > lastmark) {
+                        // lastmark is the highest valid index in the mark array. If it is
+                        // increased by more than 1, the intervening marks must be unset.
+                        int j = lastmark + 1;
+                        while (j < i) {
+                            mark[j++] = -1;
+                        }
+                        lastmark = i;
+                    }
+                    mark[i] = ctx.ptr;
+                    ctx.pattern++;
+                    break;
+                }
+                case OP_LITERAL:
+                    // <LITERAL> <code>
+                    if (ctx.ptr >= end || charAt(ctx.ptr) != code[ctx.pattern]) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_NOT_LITERAL:
+                    // <NOT_LITERAL> <code>
+                    if (ctx.ptr >= end || charAt(ctx.ptr) == code[ctx.pattern]) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_SUCCESS:
+                    // end of pattern
+                    if (ctx.toplevel && ((matchAll && ctx.ptr != matchEnd) || (mustAdvance && ctx.ptr == start))) {
+                        return FAILURE;
+                    }
+                    ptr = ctx.ptr;
+                    return SUCCESS;
+                case OP_AT:
+                    // <AT> <code>
+                    if (!at(ctx.ptr, code[ctx.pattern])) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    break;
+                case OP_CATEGORY:
+                    // <CATEGORY> <code>
+                    if (ctx.ptr >= end || !category(code[ctx.pattern], charAt(ctx.ptr))) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_ANY:
+                    // match anything (except a newline)
+                    if (ctx.ptr >= end || isLinebreak(charAt(ctx.ptr))) {
+                        return FAILURE;
+                    }
+                    ctx.ptr++;
+                    break;
+                case OP_ANY_ALL:
+                    if (ctx.ptr >= end) {
+                        return FAILURE;
+                    }
+                    ctx.ptr++;
+                    break;
+                case OP_IN:
+                    // <IN> <skip> <set>
+                    if (ctx.ptr >= end || !charset(ctx.pattern + 1, charAt(ctx.ptr))) {
+                        return FAILURE;
+                    }
+                    ctx.pattern += code[ctx.pattern];
+                    ctx.ptr++;
+                    break;
+                case OP_LITERAL_IGNORE:
+                    if (ctx.ptr >= end || lowerAscii(charAt(ctx.ptr)) != code[ctx.pattern]) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_LITERAL_UNI_IGNORE:
+                    if (ctx.ptr >= end || lowerUnicode(charAt(ctx.ptr)) != code[ctx.pattern]) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_LITERAL_LOC_IGNORE:
+                    if (ctx.ptr >= end || !charLocIgnore(code[ctx.pattern], charAt(ctx.ptr))) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_NOT_LITERAL_IGNORE:
+                    if (ctx.ptr >= end || lowerAscii(charAt(ctx.ptr)) == code[ctx.pattern]) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_NOT_LITERAL_UNI_IGNORE:
+                    if (ctx.ptr >= end || lowerUnicode(charAt(ctx.ptr)) == code[ctx.pattern]) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_NOT_LITERAL_LOC_IGNORE:
+                    if (ctx.ptr >= end || charLocIgnore(code[ctx.pattern], charAt(ctx.ptr))) {
+                        return FAILURE;
+                    }
+                    ctx.pattern++;
+                    ctx.ptr++;
+                    break;
+                case OP_IN_IGNORE:
+                    if (ctx.ptr >= end || !charset(ctx.pattern + 1, lowerAscii(charAt(ctx.ptr)))) {
+                        return FAILURE;
+                    }
+                    ctx.pattern += code[ctx.pattern];
+                    ctx.ptr++;
+                    break;
+                case OP_IN_UNI_IGNORE:
+                    if (ctx.ptr >= end || !charset(ctx.pattern + 1, lowerUnicode(charAt(ctx.ptr)))) {
+                        return FAILURE;
+                    }
+                    ctx.pattern += code[ctx.pattern];
+                    ctx.ptr++;
+                    break;
+                case OP_IN_LOC_IGNORE:
+                    if (ctx.ptr >= end || !charsetLocIgnore(ctx.pattern + 1, charAt(ctx.ptr))) {
+                        return FAILURE;
+                    }
+                    ctx.pattern += code[ctx.pattern];
+                    ctx.ptr++;
+                    break;
+                case OP_JUMP:
+                case OP_INFO:
+                    // <JUMP> <offset>
+                    ctx.pattern += code[ctx.pattern];
+                    break;
+                case OP_BRANCH:
+                    // alternation
+                    // <BRANCH> <0=skip> code <JUMP> ... <NULL>
+                    saveLastmark(ctx);
+                    ctx.rep = repeat;
+                    if (ctx.rep != null) {
+                        markPush(ctx.lastmark);
+                    }
+                    return branch(ctx);
+                case OP_REPEAT_ONE: {
+                    // match repeated sequence (maximizing regexp). this operator only works if the
+                    // repeated item is exactly one character wide.
+                    // <REPEAT_ONE> <skip> <1=min> <2=max> item <SUCCESS> tail
+                    if (arg(ctx.pattern + 1) > end - ctx.ptr) {
+                        return FAILURE;
+                    }
+                    ptr = ctx.ptr;
+                    long count = count(ctx.pattern + 3, arg(ctx.pattern + 2));
+                    if (count < 0) {
+                        return (int) count;
+                    }
+                    ctx.count = count;
+                    ctx.ptr += (int) count;
+                    if (ctx.count < arg(ctx.pattern + 1)) {
+                        return FAILURE;
+                    }
+                    int tail = ctx.pattern + code[ctx.pattern];
+                    if (code[tail] == OP_SUCCESS && ctx.ptr == end && !(ctx.toplevel && mustAdvance && ctx.ptr == start)) {
+                        // tail is empty. we're finished
+                        ptr = ctx.ptr;
+                        return SUCCESS;
+                    }
+                    saveLastmark(ctx);
+                    if (code[tail] == OP_LITERAL) {
+                        // tail starts with a literal. skip positions where the rest of the pattern
+                        // cannot possibly match
+                        ctx.chr = code[tail + 1];
+                        return repeatOneLiteral(ctx);
+                    }
+                    return repeatOne(ctx);
+                }
+                case OP_MIN_REPEAT_ONE: {
+                    // match repeated sequence (minimizing regexp)
+                    // <MIN_REPEAT_ONE> <skip> <1=min> <2=max> item <SUCCESS> tail
+                    long min = arg(ctx.pattern + 1);
+                    if (min > end - ctx.ptr) {
+                        return FAILURE;
+                    }
+                    ptr = ctx.ptr;
+                    if (min == 0) {
+                        ctx.count = 0;
+                    } else {
+                        // count using pattern min as the maximum
+                        long count = count(ctx.pattern + 3, min);
+                        if (count < 0) {
+                            return (int) count;
+                        }
+                        if (count < min) {
+                            return FAILURE;
+                        }
+                        ctx.count = count;
+                        ctx.ptr += (int) count;
+                    }
+                    int tail = ctx.pattern + code[ctx.pattern];
+                    if (code[tail] == OP_SUCCESS && !(ctx.toplevel && ((matchAll && ctx.ptr != matchEnd) || (mustAdvance && ctx.ptr == start)))) {
+                        // tail is empty. we're finished
+                        ptr = ctx.ptr;
+                        return SUCCESS;
+                    }
+                    saveLastmark(ctx);
+                    return minRepeatOne(ctx);
+                }
+                case OP_REPEAT:
+                    // create repeat context. all the hard work is done by the UNTIL operator
+                    // <REPEAT> <skip> <1=min> <2=max> item <UNTIL> tail
+                    ctx.rep = new Repeat(ctx.pattern, repeat);
+                    repeat = ctx.rep;
+                    ptr = ctx.ptr;
+                    return call(ctx, JUMP_REPEAT, ctx.pattern + code[ctx.pattern]);
+                case OP_MAX_UNTIL: {
+                    // maximizing repeat
+                    // <REPEAT> <skip> <1=min> <2=max> item <MAX_UNTIL> tail
+                    Repeat rep = ctx.rep = repeat;
+                    if (rep == null) {
+                        return ERROR_STATE;
+                    }
+                    ptr = ctx.ptr;
+                    ctx.count = rep.count + 1;
+                    if (ctx.count < arg(rep.pattern + 1)) {
+                        // not enough matches
+                        rep.count = ctx.count;
+                        return call(ctx, JUMP_MAX_UNTIL_1, rep.pattern + 3);
+                    }
+                    long max = arg(rep.pattern + 2);
+                    if ((ctx.count < max || max == MAXREPEAT) && ptr != rep.lastPtr) {
+                        // we may have enough matches, but if we can match another item, do so
+                        rep.count = ctx.count;
+                        saveLastmark(ctx);
+                        markPush(ctx.lastmark);
+                        // zero-width match protection
+                        dataPush(rep.lastPtr);
+                        rep.lastPtr = ptr;
+                        return call(ctx, JUMP_MAX_UNTIL_2, rep.pattern + 3);
+                    }
+                    return maxUntilTail(ctx);
+                }
+                case OP_MIN_UNTIL: {
+                    // minimizing repeat
+                    // <REPEAT> <skip> <1=min> <2=max> item <MIN_UNTIL> tail
+                    Repeat rep = ctx.rep = repeat;
+                    if (rep == null) {
+                        return ERROR_STATE;
+                    }
+                    ptr = ctx.ptr;
+                    ctx.count = rep.count + 1;
+                    if (ctx.count < arg(rep.pattern + 1)) {
+                        // not enough matches
+                        rep.count = ctx.count;
+                        return call(ctx, JUMP_MIN_UNTIL_1, rep.pattern + 3);
+                    }
+                    saveLastmark(ctx);
+                    // see if the tail matches
+                    repeat = rep.prev;
+                    return call(ctx, JUMP_MIN_UNTIL_2, ctx.pattern);
+                }
+                case OP_GROUPREF:
+                case OP_GROUPREF_IGNORE:
+                case OP_GROUPREF_UNI_IGNORE:
+                case OP_GROUPREF_LOC_IGNORE: {
+                    // match backreference
+                    // <GROUPREF> <group>
+                    int op = code[ctx.pattern - 1];
+                    int groupref = code[ctx.pattern] * 2;
+                    if (groupref >= lastmark) {
+                        return FAILURE;
+                    }
+                    int p = mark[groupref];
+                    int e = mark[groupref + 1];
+                    if (p < 0 || e < 0 || e < p) {
+                        return FAILURE;
+                    }
+                    while (p < e) {
+                        if (ctx.ptr >= end || !groupCharEquals(op, charAt(ctx.ptr), charAt(p))) {
+                            return FAILURE;
+                        }
+                        p++;
+                        ctx.ptr++;
+                    }
+                    ctx.pattern++;
+                    break;
+                }
+                case OP_GROUPREF_EXISTS: {
+                    // <GROUPREF_EXISTS> <group> <skip> codeyes <JUMP> codeno ...
+                    int groupref = code[ctx.pattern] * 2;
+                    if (groupref >= lastmark || mark[groupref] < 0 || mark[groupref + 1] < 0 || mark[groupref + 1] < mark[groupref]) {
+                        ctx.pattern += code[ctx.pattern + 1];
+                    } else {
+                        ctx.pattern += 2;
+                    }
+                    break;
+                }
+                case OP_ASSERT:
+                    // assert subpattern
+                    // <ASSERT> <skip> <back> <pattern>
+                    if (ctx.ptr < arg(ctx.pattern + 1)) {
+                        return FAILURE;
+                    }
+                    ptr = ctx.ptr - code[ctx.pattern + 1];
+                    return call0(JUMP_ASSERT, ctx.pattern + 2);
+                case OP_ASSERT_NOT:
+                    // assert not subpattern
+                    // <ASSERT_NOT> <skip> <back> <pattern>
+                    if (ctx.ptr >= arg(ctx.pattern + 1)) {
+                        ptr = ctx.ptr - code[ctx.pattern + 1];
+                        return call0(JUMP_ASSERT_NOT, ctx.pattern + 2);
+                    }
+                    ctx.pattern += code[ctx.pattern];
+                    break;
+                case OP_FAILURE:
+                    // immediate failure
+                    return FAILURE;
+                default:
+                    return ERROR_ILLEGAL;
+            }
+        }
+    }
+
+    /**
+     * Continues {@code ctx} after the child context that was started with {@code jump} returned.
+     */
+    private int resume(MatchContext ctx, int jump, boolean matched) {
+        switch (jump) {
+            case JUMP_BRANCH:
+                if (matched) {
+                    if (ctx.rep != null) {
+                        markPopDiscard(ctx.lastmark);
+                    }
+                    return SUCCESS;
+                }
+                if (ctx.rep != null) {
+                    markPopKeep(ctx.lastmark);
+                }
+                restoreLastmark(ctx);
+                ctx.pattern += code[ctx.pattern];
+                return branch(ctx);
+            case JUMP_REPEAT_ONE_1:
+                if (matched) {
+                    return SUCCESS;
+                }
+                restoreLastmark(ctx);
+                ctx.ptr--;
+                ctx.count--;
+                return repeatOneLiteral(ctx);
+            case JUMP_REPEAT_ONE_2:
+                if (matched) {
+                    return SUCCESS;
+                }
+                ctx.ptr--;
+                ctx.count--;
+                restoreLastmark(ctx);
+                return repeatOne(ctx);
+            case JUMP_MIN_REPEAT_ONE: {
+                if (matched) {
+                    return SUCCESS;
+                }
+                ptr = ctx.ptr;
+                long count = count(ctx.pattern + 3, 1);
+                if (count < 0) {
+                    return (int) count;
+                }
+                if (count == 0) {
+                    return FAILURE;
+                }
+                ctx.ptr++;
+                ctx.count++;
+                restoreLastmark(ctx);
+                return minRepeatOne(ctx);
+            }
+            case JUMP_REPEAT:
+                repeat = ctx.rep.prev;
+                return matched ? SUCCESS : FAILURE;
+            case JUMP_MAX_UNTIL_1:
+            case JUMP_MIN_UNTIL_1:
+                if (matched) {
+                    return SUCCESS;
+                }
+                ctx.rep.count = ctx.count - 1;
+                ptr = ctx.ptr;
+                return FAILURE;
+            case JUMP_MAX_UNTIL_2:
+                ctx.rep.lastPtr = dataPop();
+                if (matched) {
+                    markPopDiscard(ctx.lastmark);
+                    return SUCCESS;
+                }
+                markPop(ctx.lastmark);
+                restoreLastmark(ctx);
+                ctx.rep.count = ctx.count - 1;
+                ptr = ctx.ptr;
+                return maxUntilTail(ctx);
+            case JUMP_MAX_UNTIL_3:
+                if (matched) {
+                    return SUCCESS;
+                }
+                repeat = ctx.rep;
+                ptr = ctx.ptr;
+                return FAILURE;
+            case JUMP_MIN_UNTIL_2: {
+                if (matched) {
+                    return SUCCESS;
+                }
+                Repeat rep = ctx.rep;
+                repeat = rep;
+                ptr = ctx.ptr;
+                restoreLastmark(ctx);
+                long max = arg(rep.pattern + 2);
+                if ((ctx.count >= max && max != MAXREPEAT) || ptr == rep.lastPtr) {
+                    return FAILURE;
+                }
+                rep.count = ctx.count;
+                // zero-width match protection
+                dataPush(rep.lastPtr);
+                rep.lastPtr = ptr;
+                return call(ctx, JUMP_MIN_UNTIL_3, rep.pattern + 3);
+            }
+            case JUMP_MIN_UNTIL_3:
+                ctx.rep.lastPtr = dataPop();
+                if (matched) {
+                    return SUCCESS;
+                }
+                ctx.rep.count = ctx.count - 1;
+                ptr = ctx.ptr;
+                return FAILURE;
+            case JUMP_ASSERT:
+                if (!matched) {
+                    return FAILURE;
+                }
+                ctx.pattern += code[ctx.pattern];
+                return CONTINUE;
+            case JUMP_ASSERT_NOT:
+                if (matched) {
+                    return FAILURE;
+                }
+                ctx.pattern += code[ctx.pattern];
+                return CONTINUE;
+            default:
+                return ERROR_STATE;
+        }
+    }
+
+    private int branch(MatchContext ctx) {
+        for (; code[ctx.pattern] != 0; ctx.pattern += code[ctx.pattern]) {
+            int op = code[ctx.pattern + 1];
+            if (op == OP_LITERAL && (ctx.ptr >= end || charAt(ctx.ptr) != code[ctx.pattern + 2])) {
+                continue;
+            }
+            if (op == OP_IN && (ctx.ptr >= end || !charset(ctx.pattern + 3, charAt(ctx.ptr)))) {
+                continue;
+            }
+            ptr = ctx.ptr;
+            return call(ctx, JUMP_BRANCH, ctx.pattern + 1);
+        }
+        if (ctx.rep != null) {
+            markPopDiscard(ctx.lastmark);
+        }
+        return FAILURE;
+    }
+
+    private int repeatOneLiteral(MatchContext ctx) {
+        long min = arg(ctx.pattern + 1);
+        while (ctx.count >= min && (ctx.ptr >= end || charAt(ctx.ptr) != ctx.chr)) {
+            ctx.ptr--;
+            ctx.count--;
+        }
+        if (ctx.count < min) {
+            return FAILURE;
+        }
+        ptr = ctx.ptr;
+        return call(ctx, JUMP_REPEAT_ONE_1, ctx.pattern + code[ctx.pattern]);
+    }
+
+    private int repeatOne(MatchContext ctx) {
+        if (ctx.count < arg(ctx.pattern + 1)) {
+            return FAILURE;
+        }
+        ptr = ctx.ptr;
+        return call(ctx, JUMP_REPEAT_ONE_2, ctx.pattern + code[ctx.pattern]);
+    }
+
+    private int minRepeatOne(MatchContext ctx) {
+        long max = arg(ctx.pattern + 2);
+        if (max != MAXREPEAT && ctx.count > max) {
+            return FAILURE;
+        }
+        ptr = ctx.ptr;
+        return call(ctx, JUMP_MIN_REPEAT_ONE, ctx.pattern + code[ctx.pattern]);
+    }
+
+    private int maxUntilTail(MatchContext ctx) {
+        // cannot match more repeated items here. make sure the tail matches
+        repeat = ctx.rep.prev;
+        return call(ctx, JUMP_MAX_UNTIL_3, ctx.pattern);
+    }
+
+    private void saveLastmark(MatchContext ctx) {
+        ctx.lastmark = lastmark;
+        ctx.lastindex = lastindex;
+    }
+
+    private void restoreLastmark(MatchContext ctx) {
+        lastmark = ctx.lastmark;
+        lastindex = ctx.lastindex;
+    }
+
+    private void ensureDataStack(int size) {
+        if (dataStackBase + size > dataStack.length) {
+            dataStack = Arrays.copyOf(dataStack, Math.max(dataStack.length * 2, dataStackBase + size));
+        }
+    }
+
+    private void dataPush(int value) {
+        ensureDataStack(1);
+        dataStack[dataStackBase++] = value;
+    }
+
+    private int dataPop() {
+        return dataStack[--dataStackBase];
+    }
+
+    private void markPush(int lm) {
+        if (lm > 0) {
+            ensureDataStack(lm + 1);
+            System.arraycopy(mark, 0, dataStack, dataStackBase, lm + 1);
+            dataStackBase += lm + 1;
+        }
+    }
+
+    private void markPop(int lm) {
+        if (lm > 0) {
+            dataStackBase -= lm + 1;
+            System.arraycopy(dataStack, dataStackBase, mark, 0, lm + 1);
+        }
+    }
+
+    private void markPopKeep(int lm) {
+        if (lm > 0) {
+            System.arraycopy(dataStack, dataStackBase - lm - 1, mark, 0, lm + 1);
+        }
+    }
+
+    private void markPopDiscard(int lm) {
+        if (lm > 0) {
+            dataStackBase -= lm + 1;
+        }
+    }
+
+    /**
+     * Returns how many times the single character pattern at {@code pattern} matches at the
+     * current position, but at most {@code maxcount} times.
+     */
+    private long count(int pattern, long maxcount) {
+        int p = ptr;
+        int e = end;
+        if (maxcount < e - p && maxcount != MAXREPEAT) {
+            e = p + (int) maxcount;
+        }
+        int chr = code[pattern + 1];
+        switch (code[pattern]) {
+            case OP_IN:
+                while (p < e && charset(pattern + 2, charAt(p))) {
+                    p++;
+                }
+                break;
+            case OP_ANY:
+                while (p < e && !isLinebreak(charAt(p))) {
+                    p++;
+                }
+                break;
+            case OP_ANY_ALL:
+                p = e;
+                break;
+            case OP_LITERAL:
+                while (p < e && charAt(p) == chr) {
+                    p++;
+                }
+                break;
+            case OP_LITERAL_IGNORE:
+                while (p < e && lowerAscii(charAt(p)) == chr) {
+                    p++;
+                }
+                break;
+            case OP_LITERAL_UNI_IGNORE:
+                while (p < e && lowerUnicode(charAt(p)) == chr) {
+                    p++;
+                }
+                break;
+            case OP_LITERAL_LOC_IGNORE:
+                while (p < e && charLocIgnore(chr, charAt(p))) {
+                    p++;
+                }
+                break;
+            case OP_NOT_LITERAL:
+                while (p < e && charAt(p) != chr) {
+                    p++;
+                }
+                break;
+            case OP_NOT_LITERAL_IGNORE:
+                while (p < e && lowerAscii(charAt(p)) != chr) {
+                    p++;
+                }
+                break;
+            case OP_NOT_LITERAL_UNI_IGNORE:
+                while (p < e && lowerUnicode(charAt(p)) != chr) {
+                    p++;
+                }
+                break;
+            case OP_NOT_LITERAL_LOC_IGNORE:
+                while (p < e && !charLocIgnore(chr, charAt(p))) {
+                    p++;
+                }
+                break;
+            default:
+                // repeated single character pattern
+                while (ptr < e) {
+                    int i = match(pattern, false);
+                    if (i < 0) {
+                        return i;
+                    }
+                    if (i == FAILURE) {
+                        break;
+                    }
+                }
+                return ptr - p;
+        }
+        return p - ptr;
+    }
+
+    private boolean at(int p, int at) {
+        // check if pointer is at given position
+        switch (at) {
+            case AT_BEGINNING:
+            case AT_BEGINNING_STRING:
+                return p == 0;
+            case AT_BEGINNING_LINE:
+                return p == 0 || isLinebreak(charAt(p - 1));
+            case AT_END:
+                return (end - p == 1 && isLinebreak(charAt(p))) || p == end;
+            case AT_END_LINE:
+                return p == end || isLinebreak(charAt(p));
+            case AT_END_STRING:
+                return p == end;
+            case AT_BOUNDARY:
+            case AT_NON_BOUNDARY:
+            case AT_LOC_BOUNDARY:
+            case AT_LOC_NON_BOUNDARY:
+            case AT_UNI_BOUNDARY:
+            case AT_UNI_NON_BOUNDARY: {
+                if (end == 0) {
+                    return false;
+                }
+                boolean unicode = at == AT_UNI_BOUNDARY || at == AT_UNI_NON_BOUNDARY;
+                boolean thatp = p > 0 && (unicode ? isUniWord(charAt(p - 1)) : isWord(charAt(p - 1)));
+                boolean thisp = p < end && (unicode ? isUniWord(charAt(p)) : isWord(charAt(p)));
+                boolean boundary = at == AT_BOUNDARY || at == AT_LOC_BOUNDARY || at == AT_UNI_BOUNDARY;
+                return boundary ? thisp != thatp : thisp == thatp;
+            }
+            default:
+                return false;
+        }
+    }
+
+    private boolean charset(int setStart, int ch) {
+        // check if character is a member of the given set
+        int set = setStart;
+        boolean ok = true;
+        while (true) {
+            switch (code[set++]) {
+                case OP_FAILURE:
+                    return !ok;
+                case OP_LITERAL:
+                    // <LITERAL> <code>
+                    if (ch == code[set]) {
+                        return ok;
+                    }
+                    set++;
+                    break;
+                case OP_CATEGORY:
+                    // <CATEGORY> <code>
+                    if (category(code[set], ch)) {
+                        return ok;
+                    }
+                    set++;
+                    break;
+                case OP_CHARSET:
+                    // <CHARSET> <bitmap>
+                    if (ch < 256 && (code[set + (ch >> 5)] & (1 << (ch & 31))) != 0) {
+                        return ok;
+                    }
+                    set += 256 / 32;
+                    break;
+                case OP_RANGE:
+                    // <RANGE> <lower> <upper>
+                    if (arg(set) <= ch && ch <= arg(set + 1)) {
+                        return ok;
+                    }
+                    set += 2;
+                    break;
+                case OP_RANGE_UNI_IGNORE: {
+                    // <RANGE_UNI_IGNORE> <lower> <upper>
+                    // ch is already lower cased
+                    if (arg(set) <= ch && ch <= arg(set + 1)) {
+                        return ok;
+                    }
+                    int uch = upperUnicode(ch);
+                    if (arg(set) <= uch && uch <= arg(set + 1)) {
+                        return ok;
+                    }
+                    set += 2;
+                    break;
+                }
+                case OP_NEGATE:
+                    ok = !ok;
+                    break;
+                case OP_BIGCHARSET: {
+                    // <BIGCHARSET> <blockcount> <256 blockindices> <blocks>
+                    int count = code[set++];
+                    int block = ch < 0x10000 ? blockIndex(set, ch >> 8) : -1;
+                    set += 256 / CODESIZE;
+                    if (block >= 0 && (code[set + ((block * 256 + (ch & 255)) >> 5)] & (1 << (ch & 31))) != 0) {
+                        return ok;
+                    }
+                    set += count * (256 / 32);
+                    break;
+                }
+                default:
+                    // internal error -- there's not much we can do about it here, so let's just
+                    // pretend it didn't match...
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Reads byte {@code index} of the block index table of a big charset; {@code sre_compile}
+     * packs the table into code words in native byte order.
+     */
+    private int blockIndex(int table, int index) {
+        int word = code[table + (index >> 2)];
+        int shift = LITTLE_ENDIAN ? (index & 3) * 8 : (3 - (index & 3)) * 8;
+        return (word >>> shift) & 0xFF;
+    }
+
+    private boolean charsetLocIgnore(int set, int ch) {
+        int lo = lowerLocale(ch);
+        if (charset(set, lo)) {
+            return true;
+        }
+        int up = upperLocale(ch);
+        return up != lo && charset(set, up);
+    }
+
+    private static boolean groupCharEquals(int op, int a, int b) {
+        switch (op) {
+            case OP_GROUPREF_IGNORE:
+                return lowerAscii(a) == lowerAscii(b);
+            case OP_GROUPREF_UNI_IGNORE:
+                return lowerUnicode(a) == lowerUnicode(b);
+            case OP_GROUPREF_LOC_IGNORE:
+                return lowerLocale(a) == lowerLocale(b);
+            default:
+                return a == b;
+        }
+    }
+
+    // character predicates; the locale specific ones follow the "C" locale
+
+    private static boolean category(int category, int ch) {
+        switch (category) {
+            case CATEGORY_DIGIT:
+                return isDigit(ch);
+            case CATEGORY_NOT_DIGIT:
+                return !isDigit(ch);
+            case CATEGORY_SPACE:
+                return isSpace(ch);
+            case CATEGORY_NOT_SPACE:
+                return !isSpace(ch);
+            case CATEGORY_WORD:
+            case CATEGORY_LOC_WORD:
+                return isWord(ch);
+            case CATEGORY_NOT_WORD:
+            case CATEGORY_LOC_NOT_WORD:
+                return !isWord(ch);
+            case CATEGORY_LINEBREAK:
+                return isLinebreak(ch);
+            case CATEGORY_NOT_LINEBREAK:
+                return !isLinebreak(ch);
+            case CATEGORY_UNI_DIGIT:
+                return isUniDigit(ch);
+            case CATEGORY_UNI_NOT_DIGIT:
+                return !isUniDigit(ch);
+            case CATEGORY_UNI_SPACE:
+                return isUniSpace(ch);
+            case CATEGORY_UNI_NOT_SPACE:
+                return !isUniSpace(ch);
+            case CATEGORY_UNI_WORD:
+                return isUniWord(ch);
+            case CATEGORY_UNI_NOT_WORD:
+                return !isUniWord(ch);
+            case CATEGORY_UNI_LINEBREAK:
+                return isUniLinebreak(ch);
+            case CATEGORY_UNI_NOT_LINEBREAK:
+                return !isUniLinebreak(ch);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean charLocIgnore(int pattern, int ch) {
+        return ch == pattern || lowerLocale(ch) == pattern || upperLocale(ch) == pattern;
+    }
+
+    private static boolean isDigit(int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isSpace(int ch) {
+        return ch == ' ' || (ch >= '\t' && ch <= '\r');
+    }
+
+    private static boolean isAlnum(int ch) {
+        return isDigit(ch) || (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static boolean isWord(int ch) {
+        return isAlnum(ch) || ch == '_';
+    }
+
+    private static boolean isLinebreak(int ch) {
+        return ch == '\n';
+    }
+
+    private static boolean isUniDigit(int ch) {
+        return ch < 128 ? isDigit(ch) : UnicodeDatabase.decimal(ch) >= 0;
+    }
+
+    private static boolean isUniSpace(int ch) {
+        return ch <= Character.MAX_VALUE && StringUtils.isSpace((char) ch);
+    }
+
+    private static boolean isUniLinebreak(int ch) {
+        return ch <= Character.MAX_VALUE && StringUtils.isUnicodeLineBreak((char) ch);
+    }
+
+    private static boolean isUniWord(int ch) {
+        if (ch < 128) {
+            return isWord(ch);
+        }
+        // alphabetic or numeric
+        return UnicodeDatabase.category(ch).charAt(0) == 'L' || UnicodeDatabase.numeric(ch) != -1.0;
+    }
+
+    public static int lowerAscii(int ch) {
+        return ch >= 'A' && ch <= 'Z' ? ch + ('a' - 'A') : ch;
+    }
+
+    public static int upperAscii(int ch) {
+        return ch >= 'a' && ch <= 'z' ? ch - ('a' - 'A') : ch;
+    }
+
+    private static int lowerLocale(int ch) {
+        return lowerAscii(ch);
+    }
+
+    private static int upperLocale(int ch) {
+        return upperAscii(ch);
+    }
+
+    public static int lowerUnicode(int ch) {
+        return Character.toLowerCase(ch);
+    }
+
+    public static int upperUnicode(int ch) {
+        return Character.toUpperCase(ch);
+    }
+}
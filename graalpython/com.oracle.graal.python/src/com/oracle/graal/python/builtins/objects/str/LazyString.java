@@ -90,7 +90,7 @@ public class LazyString implements PCharSequence {
             if (resultLength < MinLazyStringLength) {
                 return left.toString() + right.toString();
             }
-            return new LazyString(left, right, resultLength);
+            return concat(left, right);
         } else {
             return left.toString() + right.toString();
         }
@@ -102,7 +102,7 @@ public class LazyString implements PCharSequence {
     @TruffleBoundary
     public static CharSequence createChecked(CharSequence left, CharSequence right, int length) {
         assert assertChecked(left, right, length);
-        return new LazyString(left, right, length);
+        return concat(left, right);
     }
 
     private static boolean assertChecked(CharSequence left, CharSequence right, int length) {
@@ -127,27 +127,130 @@ public class LazyString implements PCharSequence {
             CharSequence ll = ((LazyString) left).left;
             CharSequence lr = ((LazyString) left).right;
             if (lr != null && lr instanceof String && lr.length() + right.length() <= appendToLeafLimit) {
-                return new LazyString(ll, lr.toString() + right.toString(), length);
+                return concat(ll, lr.toString() + right.toString());
             }
         } else if (left instanceof String && left.length() <= tinyLimit && right instanceof LazyString) {
             CharSequence ll = ((LazyString) right).left;
             CharSequence lr = ((LazyString) right).right;
             if (lr != null && ll instanceof String && left.length() + ll.length() <= appendToLeafLimit) {
-                return new LazyString(left.toString() + ll.toString(), lr, length);
+                return concat(left.toString() + ll.toString(), lr);
             }
         }
-        return new LazyString(left, right, length);
+        return concat(left, right);
+    }
+
+    /**
+     * Concatenates two non-empty strings like the join of two AVL trees, so that the depth of the
+     * result stays logarithmic in the number of leaves even if a string is built by appending in a
+     * loop. Materialized subtrees count as leaves.
+     */
+    private static LazyString concat(CharSequence left, CharSequence right) {
+        int leftDepth = depth(left);
+        int rightDepth = depth(right);
+        if (leftDepth > rightDepth + 1) {
+            return joinRight((LazyString) left, right);
+        } else if (rightDepth > leftDepth + 1) {
+            return joinLeft(left, (LazyString) right);
+        }
+        return new LazyString(left, right);
+    }
+
+    private static LazyString joinRight(LazyString tl, CharSequence tr) {
+        CharSequence l = tl.left;
+        CharSequence c = tl.right;
+        if (c == null) {
+            return new LazyString(tl, tr);
+        }
+        if (depth(c) <= depth(tr) + 1) {
+            LazyString t = new LazyString(c, tr);
+            if (t.depth <= depth(l) + 1) {
+                return new LazyString(l, t);
+            }
+            return rotateLeft(l, rotateRight(t));
+        }
+        LazyString t = joinRight((LazyString) c, tr);
+        if (t.depth <= depth(l) + 1) {
+            return new LazyString(l, t);
+        }
+        return rotateLeft(l, t);
+    }
+
+    private static LazyString joinLeft(CharSequence tl, LazyString tr) {
+        CharSequence c = tr.left;
+        CharSequence r = tr.right;
+        if (r == null) {
+            return new LazyString(tl, tr);
+        }
+        if (depth(c) <= depth(tl) + 1) {
+            LazyString t = new LazyString(tl, c);
+            if (t.depth <= depth(r) + 1) {
+                return new LazyString(t, r);
+            }
+            return rotateRight(rotateLeft(t), r);
+        }
+        LazyString t = joinLeft(tl, (LazyString) c);
+        if (t.depth <= depth(r) + 1) {
+            return new LazyString(t, r);
+        }
+        return rotateRight(t, r);
+    }
+
+    /**
+     * {@code (a, (b, c))} becomes {@code ((a, b), c)}.
+     */
+    private static LazyString rotateLeft(CharSequence a, CharSequence bc) {
+        LazyString node = asNode(bc);
+        if (node == null) {
+            return new LazyString(a, bc);
+        }
+        return new LazyString(new LazyString(a, node.left), node.right);
+    }
+
+    private static LazyString rotateLeft(LazyString abc) {
+        return rotateLeft(abc.left, abc.right);
+    }
+
+    /**
+     * {@code ((a, b), c)} becomes {@code (a, (b, c))}.
+     */
+    private static LazyString rotateRight(CharSequence ab, CharSequence c) {
+        LazyString node = asNode(ab);
+        if (node == null) {
+            return new LazyString(ab, c);
+        }
+        return new LazyString(node.left, new LazyString(node.right, c));
+    }
+
+    private static LazyString rotateRight(LazyString abc) {
+        return rotateRight(abc.left, abc.right);
+    }
+
+    private static LazyString asNode(CharSequence cs) {
+        if (cs instanceof LazyString && !((LazyString) cs).isMaterialized()) {
+            return (LazyString) cs;
+        }
+        return null;
+    }
+
+    private static int depth(CharSequence cs) {
+        LazyString node = asNode(cs);
+        return node != null ? node.depth : 0;
     }
 
     private CharSequence left;
     private CharSequence right;
     private final int len;
+    /** An upper bound of the distance to the leaves, which are {@link String strings}. */
+    private final int depth;
+    /** The hash code of the content, or zero if not computed yet. */
+    private int hash;
 
-    private LazyString(CharSequence left, CharSequence right, int length) {
-        assert left.length() > 0 && right.length() > 0 && length == left.length() + right.length();
+    private LazyString(CharSequence left, CharSequence right) {
+        assert left.length() > 0 && right.length() > 0;
         this.left = left;
         this.right = right;
-        this.len = length;
+        this.len = left.length() + right.length();
+        this.depth = Math.max(depth(left), depth(right)) + 1;
     }
 
     @Override
@@ -191,6 +294,11 @@ public class LazyString implements PCharSequence {
                 LazyString lazyString = (LazyString) str;
                 CharSequence left = lazyString.left;
                 CharSequence right = lazyString.right;
+                if (right == null) {
+                    // materialized
+                    ((String) left).getChars(from, to, dst, dstFrom);
+                    return;
+                }
                 int mid = left.length();
 
                 if (to - mid >= mid - from) {
@@ -227,30 +335,214 @@ public class LazyString implements PCharSequence {
         }
     }
 
+    /**
+     * The leaves of a string in order, starting with the leaf that contains a given index.
+     */
+    private static final class Leaves {
+        private final CharSequence[] stack;
+        private int sp;
+        /** The index of the start position in the first leaf. */
+        private final int offset;
+
+        Leaves(LazyString root, int start) {
+            stack = new CharSequence[root.depth + 2];
+            CharSequence cs = root;
+            int index = start;
+            LazyString node;
+            while ((node = asNode(cs)) != null) {
+                int mid = node.left.length();
+                if (index < mid) {
+                    stack[sp++] = node.right;
+                    cs = node.left;
+                } else {
+                    index -= mid;
+                    cs = node.right;
+                }
+            }
+            stack[sp++] = cs;
+            offset = index;
+        }
+
+        String next() {
+            while (sp > 0) {
+                CharSequence cs = stack[--sp];
+                LazyString node = asNode(cs);
+                if (node == null) {
+                    return cs.toString();
+                }
+                stack[sp++] = node.right;
+                stack[sp++] = node.left;
+            }
+            return null;
+        }
+    }
+
     @Override
     public char charAt(int index) {
-        return toString().charAt(index);
+        if (isMaterialized()) {
+            return ((String) left).charAt(index);
+        }
+        return charAtIntl(index);
     }
 
+    @TruffleBoundary
+    private char charAtIntl(int index) {
+        if (index < 0 || index >= len) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        CharSequence cs = this;
+        int i = index;
+        LazyString node;
+        while ((node = asNode(cs)) != null) {
+            int mid = node.left.length();
+            if (i < mid) {
+                cs = node.left;
+            } else {
+                i -= mid;
+                cs = node.right;
+            }
+        }
+        return cs.charAt(i);
+    }
+
+    /**
+     * Returns the characters between {@code start} and {@code end} as a {@link String}, copying
+     * only that range.
+     */
     @Override
-    public CharSequence subSequence(int start, int end) {
-        return toString().subSequence(start, end);
+    @TruffleBoundary
+    public String subSequence(int start, int end) {
+        if (start < 0 || end > len || start > end) {
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + len);
+        }
+        if (isMaterialized()) {
+            return ((String) left).substring(start, end);
+        }
+        char[] dst = new char[end - start];
+        flatten(this, start, end, dst, 0);
+        return new String(dst);
     }
 
     public boolean isEmpty() {
         return len == 0;
     }
 
+    /**
+     * Like {@link String#hashCode()} of the content, computed over the leaves.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = isMaterialized() ? left.hashCode() : computeHash();
+            hash = h;
+        }
+        return h;
+    }
+
+    @TruffleBoundary
+    private int computeHash() {
+        int h = 0;
+        Leaves leaves = new Leaves(this, 0);
+        String leaf;
+        while ((leaf = leaves.next()) != null) {
+            for (int i = 0; i < leaf.length(); i++) {
+                h = 31 * h + leaf.charAt(i);
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Tests if {@code other} occurs at {@code offset} without materializing this string.
+     */
+    @TruffleBoundary
+    public boolean regionMatches(int offset, String other) {
+        if (offset < 0 || offset > len - other.length()) {
+            return false;
+        }
+        if (isMaterialized()) {
+            return ((String) left).startsWith(other, offset);
+        }
+        int matched = 0;
+        Leaves leaves = new Leaves(this, offset);
+        int start = leaves.offset;
+        String leaf;
+        while (matched < other.length() && (leaf = leaves.next()) != null) {
+            int n = Math.min(leaf.length() - start, other.length() - matched);
+            if (!leaf.regionMatches(start, other, matched, n)) {
+                return false;
+            }
+            matched += n;
+            start = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code str} that lies within {@code start}
+     * and {@code end}, or {@code -1}, searching the leaves without materializing this string.
+     */
+    @TruffleBoundary
+    public int indexOf(String str, int start, int end) {
+        int m = str.length();
+        if (isMaterialized()) {
+            int idx = ((String) left).indexOf(str, start);
+            return idx >= 0 && idx + m <= end ? idx : -1;
+        }
+        if (m == 0) {
+            return start <= end ? start : -1;
+        }
+        if (end - start < m) {
+            return -1;
+        }
+        Leaves leaves = new Leaves(this, start);
+        int offset = leaves.offset;
+        // the last m - 1 characters before the current leaf, for matches across leaf boundaries
+        String carry = "";
+        int pos = start;
+        String leaf;
+        while ((leaf = leaves.next()) != null) {
+            if (!carry.isEmpty()) {
+                String window = carry + leaf.substring(offset, Math.min(leaf.length(), offset + m - 1));
+                int idx = window.indexOf(str);
+                if (idx >= 0) {
+                    idx += pos - carry.length();
+                    return idx + m <= end ? idx : -1;
+                }
+            }
+            int idx = leaf.indexOf(str, offset);
+            if (idx >= 0) {
+                idx += pos - offset;
+                return idx + m <= end ? idx : -1;
+            }
+            if (leaf.length() - offset >= m - 1) {
+                carry = leaf.substring(leaf.length() - (m - 1));
+            } else {
+                carry = carry + leaf.substring(offset);
+                if (carry.length() > m - 1) {
+                    carry = carry.substring(carry.length() - (m - 1));
+                }
+            }
+            pos += leaf.length() - offset;
+            offset = 0;
+            if (pos - carry.length() + m > end) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
     // accessed via Java Interop, JDK-8062624.js
     @TruffleBoundary
     public boolean startsWith(String prefix) {
-        return toString().startsWith(prefix);
+        return regionMatches(0, prefix);
     }
 
     // accessed via Java Interop, JDK-8062624.js
     @TruffleBoundary
     public boolean endsWith(String prefix) {
-        return toString().endsWith(prefix);
+        return regionMatches(len - prefix.length(), prefix);
     }
 
     // accessed via Java Interop, JDK-8062624.js
@@ -78,7 +78,8 @@ public final class PString extends PImmutableSequence {
     @Override
     public int hashCode() {
         if (value instanceof LazyString) {
-            return value.toString().hashCode();
+            // same as the hash of the materialized string, but computed over the leaves
+            return ((LazyString) value).hashCode();
         }
         return value.hashCode();
     }
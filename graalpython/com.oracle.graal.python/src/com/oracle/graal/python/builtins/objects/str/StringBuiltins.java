@@ -42,23 +42,14 @@ import static com.oracle.graal.python.nodes.SpecialMethodNames.__RMUL__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.__STR__;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.IndexError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.KeyError;
-import static com.oracle.graal.python.runtime.exception.PythonErrorType.LookupError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.MemoryError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
-import static com.oracle.graal.python.runtime.exception.PythonErrorType.UnicodeEncodeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
-import java.nio.charset.CharacterCodingException;
-import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
-import java.nio.charset.CodingErrorAction;
-import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
-import java.nio.charset.UnsupportedCharsetException;
 import java.util.Arrays;
 import java.util.List;
 
@@ -67,6 +58,7 @@ import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.CodecsModuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PNotImplemented;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
@@ -84,10 +76,12 @@ import com.oracle.graal.python.builtins.objects.slice.PSlice;
 import com.oracle.graal.python.builtins.objects.slice.PSlice.SliceInfo;
 import com.oracle.graal.python.builtins.objects.str.StringUtils.StripKind;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.SpecialMethodNames;
 import com.oracle.graal.python.nodes.attributes.LookupAttributeInMRONode;
+import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
 import com.oracle.graal.python.nodes.builtins.JoinInternalNode;
 import com.oracle.graal.python.nodes.builtins.ListNodes.AppendNode;
 import com.oracle.graal.python.nodes.call.CallNode;
@@ -104,6 +98,7 @@ import com.oracle.graal.python.nodes.string.StringLenNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CastToIndexNode;
 import com.oracle.graal.python.nodes.util.CastToIntegerFromIndexNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
@@ -547,6 +542,11 @@ public final class StringBuiltins extends PythonBuiltins {
             return getObjectArrayNode;
         }
 
+        @Specialization(guards = "isLazyString(self)")
+        boolean startsWithLazy(PString self, String prefix, @SuppressWarnings("unused") PNone start, @SuppressWarnings("unused") PNone end) {
+            return ((LazyString) self.getCharSequence()).startsWith(prefix);
+        }
+
         @Specialization
         boolean startsWith(String self, String prefix, int start, int end) {
             return doIt(self, prefix, correctIndex(start, self), correctIndex(end, self));
@@ -644,6 +644,11 @@ public final class StringBuiltins extends PythonBuiltins {
     @TypeSystemReference(PythonArithmeticTypes.class)
     public abstract static class EndsWithNode extends PythonBuiltinNode {
 
+        @Specialization(guards = "isLazyString(self)")
+        public Object endsWithLazy(PString self, String prefix) {
+            return ((LazyString) self.getCharSequence()).endsWith(prefix);
+        }
+
         @Specialization
         public Object endsWith(String self, String prefix) {
             if (self.endsWith(prefix)) {
@@ -711,6 +716,20 @@ public final class StringBuiltins extends PythonBuiltins {
             return tmpSlice.computeIndices(length);
         }
 
+        @Specialization(guards = "isLazyString(self)")
+        Object findLazy(VirtualFrame frame, PString self, String str, Object start, Object end) {
+            LazyString lazy = (LazyString) self.getCharSequence();
+            int len = lazy.length();
+            if (start instanceof PNone && end instanceof PNone) {
+                return findInLazyString(lazy, str, 0, len);
+            }
+            SliceInfo info = computeSlice(frame, len, start, end);
+            if (info.length == 0) {
+                return -1;
+            }
+            return findInLazyString(lazy, str, info.start, info.stop);
+        }
+
         @Specialization
         Object find(String self, String str, @SuppressWarnings("unused") PNone start, @SuppressWarnings("unused") PNone end) {
             return find(self, str);
@@ -768,6 +787,13 @@ public final class StringBuiltins extends PythonBuiltins {
         protected int findWithBounds(String self, String str, int start, int end) {
             throw new AssertionError("must not be reached");
         }
+
+        /**
+         * Searches an unmaterialized {@link LazyString}. By default, the string is materialized.
+         */
+        protected int findInLazyString(LazyString self, String str, int start, int end) {
+            return findWithBounds(self.toString(), str, start, end);
+        }
     }
 
     // str.rfind(str[, start[, end]])
@@ -806,6 +832,11 @@ public final class StringBuiltins extends PythonBuiltins {
             int idx = self.indexOf(str, start);
             return idx + str.length() <= end ? idx : -1;
         }
+
+        @Override
+        protected int findInLazyString(LazyString self, String str, int start, int end) {
+            return self.indexOf(str, start, end);
+        }
     }
 
     // str.join(iterable)
@@ -1486,62 +1517,61 @@ public final class StringBuiltins extends PythonBuiltins {
         }
     }
 
-    // This is only used during bootstrap and then replaced with Python code
+    // str.encode(encoding='utf-8', errors='strict')
     @Builtin(name = "encode", minNumOfPositionalArgs = 1, parameterNames = {"self", "encoding", "errors"})
     @GenerateNodeFactory
-    @TypeSystemReference(PythonArithmeticTypes.class)
-    public abstract static class EncodeNode extends PythonBuiltinNode {
-
-        @Specialization
-        Object encode(String self, @SuppressWarnings("unused") PNone encoding, @SuppressWarnings("unused") PNone errors) {
-            return encodeString(self, "utf-8", "strict");
-        }
-
-        @Specialization
-        Object encode(String self, String encoding, @SuppressWarnings("unused") PNone errors) {
-            return encodeString(self, encoding, "strict");
+    public abstract static class EncodeNode extends PythonTernaryBuiltinNode {
+
+        @Child private ReadAttributeFromObjectNode readEncodeNode;
+        @Child private CallNode callEncodeNode;
+
+        /**
+         * UTF-8, ASCII, Latin-1 and UTF-16 with the 'strict' error handler are encoded directly;
+         * everything else goes through {@code _codecs.encode} and thus the codec registry.
+         */
+        @Specialization(guards = {"isString(self)", "isNoValueOrString(encoding)", "isNoValueOrString(errors)"})
+        Object encode(VirtualFrame frame, Object self, Object encoding, Object errors,
+                        @Cached CastToJavaStringNode castSelfNode,
+                        @Cached CastToJavaStringNode castEncodingNode,
+                        @Cached CastToJavaStringNode castErrorsNode,
+                        @Cached("createBinaryProfile()") ConditionProfile fastPathProfile) {
+            String str = castSelfNode.execute(self);
+            String encodingStr = PGuards.isNoValue(encoding) ? "utf-8" : castEncodingNode.execute(encoding);
+            String errorsStr = PGuards.isNoValue(errors) ? "strict" : castErrorsNode.execute(errors);
+            if (fastPathProfile.profile(CodecsModuleBuiltins.isStrict(errorsStr))) {
+                byte[] encoded = CodecsModuleBuiltins.encodeFast(CodecsModuleBuiltins.getFastCodec(encodingStr), str);
+                if (encoded != null) {
+                    return factory().createBytes(encoded);
+                }
+            }
+            return callRegistry(frame, str, encodingStr, errorsStr);
         }
 
-        @Specialization
-        Object encode(String self, @SuppressWarnings("unused") PNone encoding, String errors) {
-            return encodeString(self, "utf-8", errors);
+        @Specialization(guards = "!isString(self)")
+        Object encodeNoStr(Object self, @SuppressWarnings("unused") Object encoding, @SuppressWarnings("unused") Object errors) {
+            throw raise(TypeError, "descriptor 'encode' requires a 'str' object but received a '%p'", self);
         }
 
-        @Specialization
-        Object encode(String self, String encoding, String errors) {
-            return encodeString(self, encoding, errors);
+        @Fallback
+        Object encodeWrongArgs(@SuppressWarnings("unused") Object self, Object encoding, Object errors) {
+            if (!isNoValueOrString(encoding)) {
+                throw raise(TypeError, "encode() argument 1 must be str, not %p", encoding);
+            }
+            throw raise(TypeError, "encode() argument 2 must be str, not %p", errors);
         }
 
-        @TruffleBoundary
-        private Object encodeString(String self, String encoding, String errors) {
-            CodingErrorAction errorAction;
-            switch (errors) {
-                case "ignore":
-                    errorAction = CodingErrorAction.IGNORE;
-                    break;
-                case "replace":
-                    errorAction = CodingErrorAction.REPLACE;
-                    break;
-                default:
-                    errorAction = CodingErrorAction.REPORT;
-                    break;
+        private Object callRegistry(VirtualFrame frame, String str, String encoding, String errors) {
+            if (readEncodeNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                readEncodeNode = insert(ReadAttributeFromObjectNode.create());
+                callEncodeNode = insert(CallNode.create());
             }
+            Object encodeFunction = readEncodeNode.execute(getCore().lookupBuiltinModule("_codecs"), "encode");
+            return callEncodeNode.execute(frame, encodeFunction, str, encoding, errors);
+        }
 
-            Charset cs;
-            try {
-                cs = Charset.forName(encoding);
-            } catch (UnsupportedCharsetException | IllegalCharsetNameException e) {
-                throw raise(LookupError, "unknown encoding: %s", encoding);
-            }
-            try {
-                ByteBuffer encoded = cs.newEncoder().onMalformedInput(errorAction).onUnmappableCharacter(errorAction).encode(CharBuffer.wrap(self));
-                int n = encoded.remaining();
-                byte[] data = new byte[n];
-                encoded.get(data);
-                return factory().createBytes(data);
-            } catch (CharacterCodingException e) {
-                throw raise(UnicodeEncodeError, e);
-            }
+        protected static boolean isNoValueOrString(Object obj) {
+            return PGuards.isNoValue(obj) || PGuards.isString(obj);
         }
     }
 
@@ -2094,6 +2124,27 @@ public final class StringBuiltins extends PythonBuiltins {
     @TypeSystemReference(PythonArithmeticTypes.class)
     public abstract static class StrGetItemNode extends PythonBinaryBuiltinNode {
 
+        @Specialization(guards = "isLazyString(primary)")
+        public String doLazyString(PString primary, PSlice slice) {
+            LazyString lazy = (LazyString) primary.getCharSequence();
+            SliceInfo info = slice.computeIndices(lazy.length());
+            if (info.step == 1) {
+                // only copy the slice
+                return lazy.subSequence(info.start, Math.max(info.start, info.stop));
+            }
+            return doString(lazy.toString(), slice);
+        }
+
+        @Specialization(guards = "isLazyString(primary)")
+        public String doLazyString(PString primary, int idx) {
+            LazyString lazy = (LazyString) primary.getCharSequence();
+            int index = idx < 0 ? idx + lazy.length() : idx;
+            if (index < 0 || index >= lazy.length()) {
+                throw raise(IndexError, "IndexError: string index out of range");
+            }
+            return PString.valueOf(lazy.charAt(index));
+        }
+
         @Specialization
         public String doString(String primary, PSlice slice) {
             SliceInfo info = slice.computeIndices(primary.length());
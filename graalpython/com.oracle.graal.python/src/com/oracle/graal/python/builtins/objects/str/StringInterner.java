@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.str;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A weak table of canonical string instances, held by {@link PythonLanguage} and thus shared by
+ * all contexts of an engine. Identifiers from the parser, short string literals,
+ * {@code sys.intern} and string dict keys are canonicalized through this table, so that key
+ * comparisons in dicts and object shapes mostly succeed on the identity check and equal keys do
+ * not occupy memory more than once.
+ *
+ * The table does not lock. Each entry is keyed by a private copy of the string that shares its
+ * characters, and the canonical instance is only weakly referenced, so it can be collected once
+ * nothing else uses it. Entries of collected strings are removed on the next access.
+ */
+public final class StringInterner {
+
+    /** Strings longer than this are only interned on explicit request. */
+    public static final int MAX_AUTO_INTERN_LENGTH = 64;
+
+    private final ConcurrentHashMap<String, Entry> table = new ConcurrentHashMap<>();
+    private final ReferenceQueue<String> queue = new ReferenceQueue<>();
+
+    private static final class Entry extends WeakReference<String> {
+        private final String key;
+
+        Entry(String value, String key, ReferenceQueue<String> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Returns the canonical instance of the given string.
+     */
+    @TruffleBoundary
+    public String intern(String s) {
+        expungeStaleEntries();
+        Entry entry = table.get(s);
+        if (entry != null) {
+            String interned = entry.get();
+            if (interned != null) {
+                return interned;
+            }
+        }
+        // the key must not be the canonical instance itself, or the entry would keep it alive
+        String key = new String(s);
+        Entry created = new Entry(s, key, queue);
+        while (true) {
+            Entry existing = table.putIfAbsent(key, created);
+            if (existing == null) {
+                return s;
+            }
+            String interned = existing.get();
+            if (interned != null) {
+                return interned;
+            }
+            if (table.replace(key, existing, created)) {
+                return s;
+            }
+        }
+    }
+
+    /**
+     * Returns the canonical instance of the given string if it is short enough to be worth
+     * sharing, otherwise the string itself.
+     */
+    public String internShort(String s) {
+        if (s.length() > MAX_AUTO_INTERN_LENGTH) {
+            return s;
+        }
+        return intern(s);
+    }
+
+    /**
+     * Like {@link #internShort(String)}, but leaves non-string keys untouched.
+     */
+    public Object internKey(Object key) {
+        if (key instanceof String) {
+            return internShort((String) key);
+        }
+        return key;
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends String> ref;
+        while ((ref = queue.poll()) != null) {
+            Entry entry = (Entry) ref;
+            table.remove(entry.key, entry);
+        }
+    }
+}
@@ -64,6 +64,15 @@ public abstract class AbstractPythonLock extends PythonBuiltinObject {
 
     protected abstract boolean acquireNonBlocking();
 
+    /**
+     * Like {@link #acquireNonBlocking()}, but may use plain instead of atomic memory operations. Only
+     * valid while the context is single-threaded (see
+     * {@link com.oracle.graal.python.runtime.PythonContext#isLockElisionPossible()}).
+     */
+    protected boolean acquireNonBlockingUncontended() {
+        return acquireNonBlocking();
+    }
+
     protected abstract boolean acquireBlocking();
 
     protected abstract boolean acquireTimeout(long timeout);
@@ -74,5 +83,12 @@ public abstract class AbstractPythonLock extends PythonBuiltinObject {
 
     public abstract void release();
 
+    /**
+     * Counterpart of {@link #acquireNonBlockingUncontended()}.
+     */
+    public void releaseUncontended() {
+        release();
+    }
+
     public abstract boolean locked();
 }
@@ -88,6 +88,7 @@ public class LockBuiltins extends PythonBuiltins {
         private @Child CastToBooleanNode castToBooleanNode;
         private @CompilationFinal ConditionProfile isBlockingProfile = ConditionProfile.createBinaryProfile();
         private @CompilationFinal ConditionProfile defaultTimeoutProfile = ConditionProfile.createBinaryProfile();
+        private @CompilationFinal ConditionProfile lockElisionProfile = ConditionProfile.createBinaryProfile();
 
         private CastToDoubleNode getCastToDoubleNode() {
             if (castToDoubleNode == null) {
@@ -127,6 +128,13 @@ public class LockBuiltins extends PythonBuiltins {
             }
 
             // acquire lock
+            if (lockElisionProfile.profile(getContext().isLockElisionPossible())) {
+                if (self.acquireNonBlockingUncontended()) {
+                    return true;
+                } else if (!isBlocking) {
+                    return false;
+                }
+            }
             if (isBlockingProfile.profile(!isBlocking)) {
                 return self.acquireNonBlocking();
             } else {
@@ -166,9 +174,15 @@ public class LockBuiltins extends PythonBuiltins {
     @Builtin(name = "release", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     abstract static class ReleaseLockNode extends PythonUnaryBuiltinNode {
+        private final ConditionProfile lockElisionProfile = ConditionProfile.createBinaryProfile();
+
         @Specialization
         Object doRelease(AbstractPythonLock self) {
-            self.release();
+            if (lockElisionProfile.profile(getContext().isLockElisionPossible())) {
+                self.releaseUncontended();
+            } else {
+                self.release();
+            }
             return PNone.NONE;
         }
     }
@@ -176,10 +190,15 @@ public class LockBuiltins extends PythonBuiltins {
     @Builtin(name = __EXIT__, minNumOfPositionalArgs = 4)
     @GenerateNodeFactory
     abstract static class ExitLockNode extends PythonBuiltinNode {
+        private final ConditionProfile lockElisionProfile = ConditionProfile.createBinaryProfile();
+
         @Specialization
-        @TruffleBoundary
         Object exit(AbstractPythonLock self, @SuppressWarnings("unused") Object type, @SuppressWarnings("unused") Object value, @SuppressWarnings("unused") Object traceback) {
-            self.release();
+            if (lockElisionProfile.profile(getContext().isLockElisionPossible())) {
+                self.releaseUncontended();
+            } else {
+                self.release();
+            }
             return PNone.NONE;
         }
     }
@@ -212,7 +231,7 @@ public class LockBuiltins extends PythonBuiltins {
                             (self.locked()) ? "locked" : "unlocked",
                             GetNameNode.doSlowPath(self.getPythonClass()),
                             self.getOwnerId(),
-                            self.getCount(),
+                            self.getOwnerCount(),
                             self.hashCode());
         }
     }
@@ -40,59 +40,112 @@
  */
 package com.oracle.graal.python.builtins.objects.thread;
 
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 
+/**
+ * A non-reentrant lock that may be released by any thread. Uncontended acquire and release are a
+ * single CAS resp. store and do not cross a {@link TruffleBoundary}; only threads that actually
+ * have to wait go through the (boundary) slow path and park on the lock's monitor.
+ */
 public final class PLock extends AbstractPythonLock {
-    private final Semaphore semaphore;
+    private static final int UNLOCKED = 0;
+    private static final int LOCKED = 1;
+
+    private final AtomicInteger state = new AtomicInteger(UNLOCKED);
+    private final AtomicInteger waiters = new AtomicInteger(0);
 
-    @TruffleBoundary
     public PLock(LazyPythonClass cls) {
         super(cls);
-        semaphore = new Semaphore(1);
     }
 
     @Override
-    @TruffleBoundary
     protected boolean acquireNonBlocking() {
-        return semaphore.tryAcquire();
+        return state.compareAndSet(UNLOCKED, LOCKED);
+    }
+
+    @Override
+    protected boolean acquireNonBlockingUncontended() {
+        if (state.get() == UNLOCKED) {
+            state.lazySet(LOCKED);
+            return true;
+        }
+        return false;
     }
 
     @Override
-    @TruffleBoundary
     protected boolean acquireBlocking() {
-        try {
-            semaphore.acquire();
+        if (acquireNonBlocking()) {
             return true;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
         }
+        return acquireSlowPath(-1);
     }
 
     @Override
-    @TruffleBoundary
     protected boolean acquireTimeout(long timeout) {
-        try {
-            return semaphore.tryAcquire(timeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
+        if (acquireNonBlocking()) {
+            return true;
         }
+        return acquireSlowPath(timeout);
     }
 
-    @Override
+    /**
+     * Waits for the lock. A negative {@code timeout} means waiting forever. The waiter count is
+     * incremented before re-trying the CAS under the monitor, so a concurrent {@link #release()}
+     * either lets the CAS succeed or sees the waiter and notifies it.
+     */
     @TruffleBoundary
+    private boolean acquireSlowPath(long timeout) {
+        long deadline = timeout < 0 ? 0 : System.currentTimeMillis() + timeout;
+        synchronized (this) {
+            waiters.incrementAndGet();
+            try {
+                while (!acquireNonBlocking()) {
+                    if (timeout < 0) {
+                        wait();
+                    } else {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            return false;
+                        }
+                        wait(remaining);
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
     public void release() {
-        semaphore.release();
+        state.set(UNLOCKED);
+        if (waiters.get() != 0) {
+            wakeUpWaiter();
+        }
     }
 
     @Override
+    public void releaseUncontended() {
+        state.lazySet(UNLOCKED);
+        if (waiters.get() != 0) {
+            wakeUpWaiter();
+        }
+    }
+
     @TruffleBoundary
+    private synchronized void wakeUpWaiter() {
+        notify();
+    }
+
+    @Override
     public boolean locked() {
-        return semaphore.availablePermits() == 0;
+        return state.get() == LOCKED;
     }
 }
@@ -40,83 +40,176 @@
  */
 package com.oracle.graal.python.builtins.objects.thread;
 
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 
+/**
+ * A reentrant lock. Like {@link PLock}, acquiring a free lock, re-entering an owned lock and
+ * releasing it are inlinable fast paths; only contended acquisition waits on the lock's monitor
+ * behind a {@link TruffleBoundary}. The hold count is only ever modified by the owning thread.
+ */
 public final class PRLock extends AbstractPythonLock {
-    private class InternalReentrantLock extends ReentrantLock {
-        private static final long serialVersionUID = 2531000884985514112L;
-
-        @TruffleBoundary
-        long getOwnerId() {
-            Thread owner = getOwner();
-            if (owner != null) {
-                return owner.getId();
-            }
-            return 0;
-        }
-    }
-
-    private final InternalReentrantLock lock;
+    private final AtomicReference<Thread> owner = new AtomicReference<>(null);
+    private final AtomicInteger waiters = new AtomicInteger(0);
+    private volatile int count;
 
     public PRLock(LazyPythonClass cls) {
         super(cls);
-        this.lock = new InternalReentrantLock();
     }
 
     public boolean isOwned() {
-        return lock.isHeldByCurrentThread();
+        return owner.get() == Thread.currentThread();
     }
 
+    /**
+     * Returns the hold count of the calling thread, i.e. {@code 0} if it does not own the lock.
+     */
     public int getCount() {
-        return lock.getHoldCount();
+        if (!isOwned()) {
+            return 0;
+        }
+        return count;
     }
 
+    /**
+     * Returns the hold count of the owning thread, whichever thread that is.
+     */
+    public int getOwnerCount() {
+        return owner.get() != null ? count : 0;
+    }
+
+    @TruffleBoundary
     public long getOwnerId() {
-        return lock.getOwnerId();
+        Thread t = owner.get();
+        if (t != null) {
+            return t.getId();
+        }
+        return 0;
     }
 
     public void releaseAll() {
-        while (lock.getHoldCount() > 0) {
-            lock.unlock();
+        if (isOwned()) {
+            count = 0;
+            unlock();
         }
     }
 
     @Override
-    @TruffleBoundary
     protected boolean acquireNonBlocking() {
-        return lock.tryLock();
+        Thread current = Thread.currentThread();
+        Thread currentOwner = owner.get();
+        if (currentOwner == current) {
+            count++;
+            return true;
+        } else if (currentOwner == null && owner.compareAndSet(null, current)) {
+            count = 1;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean acquireNonBlockingUncontended() {
+        Thread current = Thread.currentThread();
+        Thread currentOwner = owner.get();
+        if (currentOwner == current) {
+            count++;
+            return true;
+        } else if (currentOwner == null) {
+            owner.lazySet(current);
+            count = 1;
+            return true;
+        }
+        return false;
     }
 
     @Override
-    @TruffleBoundary
     protected boolean acquireBlocking() {
-        lock.lock();
-        return true;
+        if (acquireNonBlocking()) {
+            return true;
+        }
+        return acquireSlowPath(-1);
     }
 
     @Override
-    @TruffleBoundary
     protected boolean acquireTimeout(long timeout) {
-        try {
-            return lock.tryLock(timeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
+        if (acquireNonBlocking()) {
+            return true;
         }
+        return acquireSlowPath(timeout);
     }
 
-    @Override
+    /**
+     * Waits for the lock; a negative {@code timeout} means waiting forever. See
+     * {@link PLock#acquireSlowPath} for the waiter protocol.
+     */
     @TruffleBoundary
+    private boolean acquireSlowPath(long timeout) {
+        long deadline = timeout < 0 ? 0 : System.currentTimeMillis() + timeout;
+        synchronized (this) {
+            waiters.incrementAndGet();
+            try {
+                while (!acquireNonBlocking()) {
+                    if (timeout < 0) {
+                        wait();
+                    } else {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            return false;
+                        }
+                        wait(remaining);
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
     public void release() {
-        lock.unlock();
+        if (!isOwned()) {
+            throw new IllegalMonitorStateException();
+        }
+        if (--count == 0) {
+            unlock();
+        }
+    }
+
+    @Override
+    public void releaseUncontended() {
+        if (!isOwned()) {
+            throw new IllegalMonitorStateException();
+        }
+        if (--count == 0) {
+            owner.lazySet(null);
+            if (waiters.get() != 0) {
+                wakeUpWaiter();
+            }
+        }
+    }
+
+    private void unlock() {
+        owner.set(null);
+        if (waiters.get() != 0) {
+            wakeUpWaiter();
+        }
+    }
+
+    @TruffleBoundary
+    private synchronized void wakeUpWaiter() {
+        notify();
     }
 
     @Override
     public boolean locked() {
-        return lock.isLocked();
+        return owner.get() != null;
     }
 }
@@ -240,7 +240,7 @@ public class NodeFactory {
     }
 
     public ExpressionNode createStringLiteral(String value) {
-        return new StringLiteralNode(value);
+        return new StringLiteralNode(language.getStringInterner().internShort(value));
     }
 
     public ExpressionNode createFormatStringLiteral(FormatStringLiteralNode.StringPart[] values) {
@@ -63,10 +63,12 @@ import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
 import com.oracle.graal.python.builtins.objects.method.PMethod;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.range.PBigRange;
 import com.oracle.graal.python.builtins.objects.range.PRange;
 import com.oracle.graal.python.builtins.objects.set.PBaseSet;
 import com.oracle.graal.python.builtins.objects.set.PFrozenSet;
 import com.oracle.graal.python.builtins.objects.slice.PSlice;
+import com.oracle.graal.python.builtins.objects.str.LazyString;
 import com.oracle.graal.python.builtins.objects.str.PString;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.type.LazyPythonClass;
@@ -300,6 +302,10 @@ public abstract class PGuards {
         return obj instanceof PRange;
     }
 
+    public static boolean isPBigRange(Object obj) {
+        return obj instanceof PBigRange;
+    }
+
     public static boolean isString(Object obj) {
         return obj instanceof String || obj instanceof PString;
     }
@@ -336,6 +342,14 @@ public abstract class PGuards {
         return obj instanceof PString;
     }
 
+    /**
+     * Tests if the string is a {@link LazyString} concatenation that has not been materialized.
+     */
+    public static boolean isLazyString(PString obj) {
+        CharSequence cs = obj.getCharSequence();
+        return cs instanceof LazyString && !((LazyString) cs).isMaterialized();
+    }
+
     public static boolean isPFloat(Object obj) {
         return obj instanceof PFloat;
     }
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2017, 2019, Oracle and/or its affiliates.
+ * Copyright (c) 2013, Regents of the University of California
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.graal.python.nodes.control;
+
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.objects.common.HashingStorage.DictEntry;
+import com.oracle.graal.python.builtins.objects.dict.PDictView.PDictItemsIterator;
+import com.oracle.graal.python.builtins.objects.enumerate.PEnumerate;
+import com.oracle.graal.python.builtins.objects.iterator.PDoubleIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PIntegerIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PLongIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PZip;
+import com.oracle.graal.python.nodes.PNodeWithContext;
+import com.oracle.graal.python.nodes.SpecialMethodNames;
+import com.oracle.graal.python.nodes.frame.DestructuringAssignmentNode;
+import com.oracle.graal.python.nodes.frame.WriteNode;
+import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
+import com.oracle.graal.python.nodes.statement.StatementNode;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+
+/**
+ * Fetches the next element of an iterator and writes it to the loop target. Returns
+ * {@code false} once the iterator is exhausted.
+ *
+ * If the target is a fixed-arity destructuring assignment (e.g. {@code for k, v in d.items()})
+ * and the iterator is one of the builtin iterators that produce a fresh tuple per element (dict
+ * items, {@code enumerate} and {@code zip}), the components are written to the target directly and
+ * the tuple is never allocated.
+ */
+@ImportStatic({PythonOptions.class, SpecialMethodNames.class})
+public abstract class ForNextElementNode extends PNodeWithContext {
+
+    @Child StatementNode target;
+
+    public ForNextElementNode(StatementNode target) {
+        this.target = target;
+    }
+
+    public static ForNextElementNode create(StatementNode target) {
+        return ForNextElementNodeGen.create(target);
+    }
+
+    public StatementNode getTarget() {
+        return target;
+    }
+
+    public abstract boolean execute(VirtualFrame frame, Object range);
+
+    protected boolean isUnpackingTarget(int arity) {
+        return target instanceof DestructuringAssignmentNode && ((DestructuringAssignmentNode) target).canWriteUnpacked(arity);
+    }
+
+    /*
+     * There's a limited number of iterator types - specialize to all of them.
+     */
+
+    @Specialization(guards = "iterator.getClass() == clazz", limit = "99")
+    protected boolean doIntegerIterator(VirtualFrame frame, PIntegerIterator iterator,
+                    @Cached("iterator.getClass()") Class<? extends PIntegerIterator> clazz) {
+        PIntegerIterator profiledIterator = clazz.cast(iterator);
+        if (!profiledIterator.hasNext()) {
+            profiledIterator.setExhausted();
+            return false;
+        }
+        ((WriteNode) target).doWrite(frame, profiledIterator.next());
+        return true;
+    }
+
+    @Specialization(guards = "iterator.getClass() == clazz", limit = "99")
+    protected boolean doLongIterator(VirtualFrame frame, PLongIterator iterator,
+                    @Cached("iterator.getClass()") Class<? extends PLongIterator> clazz) {
+        PLongIterator profiledIterator = clazz.cast(iterator);
+        if (!profiledIterator.hasNext()) {
+            profiledIterator.setExhausted();
+            return false;
+        }
+        ((WriteNode) target).doWrite(frame, profiledIterator.next());
+        return true;
+    }
+
+    @Specialization(guards = "iterator.getClass() == clazz", limit = "99")
+    protected boolean doDoubleIterator(VirtualFrame frame, PDoubleIterator iterator,
+                    @Cached("iterator.getClass()") Class<? extends PDoubleIterator> clazz) {
+        PDoubleIterator profiledIterator = clazz.cast(iterator);
+        if (!profiledIterator.hasNext()) {
+            profiledIterator.setExhausted();
+            return false;
+        }
+        ((WriteNode) target).doWrite(frame, profiledIterator.next());
+        return true;
+    }
+
+    @Specialization(guards = "isUnpackingTarget(2)")
+    protected boolean doDictItems(VirtualFrame frame, PDictItemsIterator iterator) {
+        if (!hasNext(iterator)) {
+            iterator.setExhausted();
+            return false;
+        }
+        DictEntry entry = next(iterator);
+        ((DestructuringAssignmentNode) target).writeUnpacked(frame, new Object[]{entry.getKey(), entry.getValue()});
+        return true;
+    }
+
+    @Specialization(guards = {"isBuiltinEnumerate(enumerate, enumerateProfile)", "isUnpackingTarget(2)"})
+    protected boolean doEnumerate(VirtualFrame frame, PEnumerate enumerate,
+                    @Cached("create()") GetNextNode next,
+                    @Cached("create()") IsBuiltinClassProfile errorProfile,
+                    @SuppressWarnings("unused") @Cached("create()") IsBuiltinClassProfile enumerateProfile) {
+        Object value;
+        try {
+            value = next.execute(frame, enumerate.getIterator());
+        } catch (PException e) {
+            e.expectStopIteration(errorProfile);
+            return false;
+        }
+        ((DestructuringAssignmentNode) target).writeUnpacked(frame, new Object[]{enumerate.getAndIncrementIndex(), value});
+        return true;
+    }
+
+    @Specialization(guards = {"isBuiltinZip(zip, zipProfile)", "zip.getIterators().length == arity", "arity > 0", "isUnpackingTarget(arity)"}, limit = "1")
+    protected boolean doZip(VirtualFrame frame, PZip zip,
+                    @Cached("zip.getIterators().length") int arity,
+                    @Cached("create()") GetNextNode next,
+                    @Cached("create()") IsBuiltinClassProfile errorProfile,
+                    @SuppressWarnings("unused") @Cached("create()") IsBuiltinClassProfile zipProfile) {
+        Object[] values = new Object[arity];
+        try {
+            nextAll(frame, zip.getIterators(), values, next);
+        } catch (PException e) {
+            e.expectStopIteration(errorProfile);
+            return false;
+        }
+        ((DestructuringAssignmentNode) target).writeUnpacked(frame, values);
+        return true;
+    }
+
+    @Specialization
+    protected boolean doIterator(VirtualFrame frame, Object object,
+                    @Cached("create()") GetNextNode next,
+                    @Cached("create()") IsBuiltinClassProfile errorProfile) {
+        try {
+            ((WriteNode) target).doWrite(frame, next.execute(frame, object));
+            return true;
+        } catch (PException e) {
+            e.expectStopIteration(errorProfile);
+            return false;
+        }
+    }
+
+    @ExplodeLoop
+    private static void nextAll(VirtualFrame frame, Object[] iterators, Object[] values, GetNextNode next) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = next.execute(frame, iterators[i]);
+        }
+    }
+
+    protected static boolean isBuiltinEnumerate(PEnumerate enumerate, IsBuiltinClassProfile profile) {
+        return profile.profileObject(enumerate, PythonBuiltinClassType.PEnumerate);
+    }
+
+    protected static boolean isBuiltinZip(PZip zip, IsBuiltinClassProfile profile) {
+        return profile.profileObject(zip, PythonBuiltinClassType.PZip);
+    }
+
+    @TruffleBoundary
+    private static boolean hasNext(PDictItemsIterator iterator) {
+        return iterator.getIterator().hasNext();
+    }
+
+    @TruffleBoundary
+    private static DictEntry next(PDictItemsIterator iterator) {
+        return iterator.getIterator().next();
+    }
+}
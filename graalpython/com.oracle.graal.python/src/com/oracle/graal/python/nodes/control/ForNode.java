@@ -26,27 +26,16 @@
 package com.oracle.graal.python.nodes.control;
 
 import com.oracle.graal.python.PythonLanguage;
-import com.oracle.graal.python.builtins.objects.iterator.PDoubleIterator;
-import com.oracle.graal.python.builtins.objects.iterator.PIntegerIterator;
-import com.oracle.graal.python.builtins.objects.iterator.PLongIterator;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.PRaiseNode;
-import com.oracle.graal.python.nodes.SpecialMethodNames;
 import com.oracle.graal.python.nodes.expression.ExpressionNode;
-import com.oracle.graal.python.nodes.frame.WriteNode;
-import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
 import com.oracle.graal.python.nodes.statement.StatementNode;
 import com.oracle.graal.python.runtime.PythonContext;
-import com.oracle.graal.python.runtime.PythonOptions;
-import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.TruffleLanguage.ContextReference;
-import com.oracle.truffle.api.dsl.Cached;
-import com.oracle.truffle.api.dsl.ImportStatic;
-import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.FrameSlotKind;
 import com.oracle.truffle.api.frame.FrameSlotTypeException;
@@ -63,7 +52,7 @@ final class ForRepeatingNode extends PNodeWithContext implements RepeatingNode {
     @Child PRaiseNode raise;
 
     public ForRepeatingNode(StatementNode target, StatementNode body) {
-        this.nextElement = ForNextElementNodeGen.create(target);
+        this.nextElement = ForNextElementNode.create(target);
         this.body = body;
     }
 
@@ -89,71 +78,6 @@ final class ForRepeatingNode extends PNodeWithContext implements RepeatingNode {
     }
 }
 
-@ImportStatic({PythonOptions.class, SpecialMethodNames.class})
-abstract class ForNextElementNode extends PNodeWithContext {
-
-    @Child StatementNode target;
-
-    public ForNextElementNode(StatementNode target) {
-        this.target = target;
-    }
-
-    public abstract boolean execute(VirtualFrame frame, Object range);
-
-    /*
-     * There's a limited number of iterator types - specialize to all of them.
-     */
-
-    @Specialization(guards = "iterator.getClass() == clazz", limit = "99")
-    protected boolean doIntegerIterator(VirtualFrame frame, PIntegerIterator iterator,
-                    @Cached("iterator.getClass()") Class<? extends PIntegerIterator> clazz) {
-        PIntegerIterator profiledIterator = clazz.cast(iterator);
-        if (!profiledIterator.hasNext()) {
-            profiledIterator.setExhausted();
-            return false;
-        }
-        ((WriteNode) target).doWrite(frame, profiledIterator.next());
-        return true;
-    }
-
-    @Specialization(guards = "iterator.getClass() == clazz", limit = "99")
-    protected boolean doLongIterator(VirtualFrame frame, PLongIterator iterator,
-                    @Cached("iterator.getClass()") Class<? extends PLongIterator> clazz) {
-        PLongIterator profiledIterator = clazz.cast(iterator);
-        if (!profiledIterator.hasNext()) {
-            profiledIterator.setExhausted();
-            return false;
-        }
-        ((WriteNode) target).doWrite(frame, profiledIterator.next());
-        return true;
-    }
-
-    @Specialization(guards = "iterator.getClass() == clazz", limit = "99")
-    protected boolean doDoubleIterator(VirtualFrame frame, PDoubleIterator iterator,
-                    @Cached("iterator.getClass()") Class<? extends PDoubleIterator> clazz) {
-        PDoubleIterator profiledIterator = clazz.cast(iterator);
-        if (!profiledIterator.hasNext()) {
-            profiledIterator.setExhausted();
-            return false;
-        }
-        ((WriteNode) target).doWrite(frame, profiledIterator.next());
-        return true;
-    }
-
-    @Specialization
-    protected boolean doIterator(VirtualFrame frame, Object object,
-                    @Cached("create()") GetNextNode next,
-                    @Cached("create()") IsBuiltinClassProfile errorProfile) {
-        try {
-            ((WriteNode) target).doWrite(frame, next.execute(frame, object));
-            return true;
-        } catch (PException e) {
-            e.expectStopIteration(errorProfile);
-            return false;
-        }
-    }
-}
-
 @NodeInfo(shortName = "for")
 public final class ForNode extends LoopNode {
 
@@ -93,6 +93,27 @@ public abstract class DestructuringAssignmentNode extends StatementNode implemen
         return rhs;
     }
 
+    /**
+     * Whether {@link #writeUnpacked} may be used for a sequence of the given length, i.e. the
+     * target has exactly that many elements and no starred expression.
+     */
+    public final boolean canWriteUnpacked(int arity) {
+        return starredIndex < 0 && slots.length == arity;
+    }
+
+    /**
+     * Writes values that were never packed into a tuple, e.g. the key and value of a dict items
+     * iterator in a for loop. The caller must have checked {@link #canWriteUnpacked}.
+     */
+    @ExplodeLoop
+    public final void writeUnpacked(VirtualFrame frame, Object[] values) {
+        assert canWriteUnpacked(values.length);
+        for (int i = 0; i < slots.length; i++) {
+            slots[i].doWrite(frame, values[i]);
+        }
+        performAssignments(frame);
+    }
+
     protected static boolean isBuiltinList(Object object, IsBuiltinClassProfile profile) {
         return object instanceof PList && profile.profileObject((PList) object, PythonBuiltinClassType.PList);
     }
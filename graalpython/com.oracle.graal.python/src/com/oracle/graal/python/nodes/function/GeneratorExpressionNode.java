@@ -27,6 +27,7 @@ package com.oracle.graal.python.nodes.function;
 
 import com.oracle.graal.python.builtins.objects.cell.PCell;
 import com.oracle.graal.python.builtins.objects.function.PArguments;
+import com.oracle.graal.python.builtins.objects.generator.PGenerator;
 import com.oracle.graal.python.nodes.expression.ExpressionNode;
 import com.oracle.graal.python.nodes.generator.GeneratorFunctionRootNode;
 import com.oracle.graal.python.parser.DefinitionCellSlots;
@@ -125,17 +126,7 @@ public final class GeneratorExpressionNode extends ExpressionDefinitionNode {
 
     @Override
     public Object execute(VirtualFrame frame) {
-        Object[] arguments;
-        if (getIterator == null) {
-            arguments = PArguments.create(0);
-        } else {
-            arguments = PArguments.create(1);
-            PArguments.setArgument(arguments, 0, getIterator.execute(frame));
-        }
-        PArguments.setGlobals(arguments, PArguments.getGlobals(frame));
-
-        // The generator doesn't capture the currently handled exception at creation time.
-        PArguments.setException(arguments, PException.NO_EXCEPTION);
+        Object[] arguments = createArguments(frame, getIterator == null ? 0 : 1);
 
         if (callTargets == null) {
             callTargets = GeneratorFunctionRootNode.createYieldTargets(callTarget);
@@ -146,6 +137,30 @@ public final class GeneratorExpressionNode extends ExpressionDefinitionNode {
                         numOfActiveFlags, numOfGeneratorBlockNode, numOfGeneratorForNode);
     }
 
+    /**
+     * Creates the arguments for running the code of this generator expression to completion in one
+     * call, with {@code consumer} as second argument. The outermost iterator is evaluated in the
+     * defining frame like when a generator is created.
+     */
+    public Object[] createFusedArguments(VirtualFrame frame, Object consumer) {
+        Object[] arguments = createArguments(frame, 2);
+        PArguments.setArgument(arguments, 1, consumer);
+        PGenerator.initializeGeneratorFrame(frameDescriptor, arguments, getClosureFromGeneratorOrFunctionLocals(frame), executionCellSlots, factory);
+        return arguments;
+    }
+
+    private Object[] createArguments(VirtualFrame frame, int numOfArguments) {
+        Object[] arguments = PArguments.create(numOfArguments);
+        if (getIterator != null) {
+            PArguments.setArgument(arguments, 0, getIterator.execute(frame));
+        }
+        PArguments.setGlobals(arguments, PArguments.getGlobals(frame));
+
+        // The generator doesn't capture the currently handled exception at creation time.
+        PArguments.setException(arguments, PException.NO_EXCEPTION);
+        return arguments;
+    }
+
     @Override
     public String toString() {
         CompilerAsserts.neverPartOfCompilation();
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.generator;
+
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.common.HashingCollectionNodes;
+import com.oracle.graal.python.builtins.objects.common.PHashingCollection;
+import com.oracle.graal.python.builtins.objects.function.PArguments;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.nodes.SpecialMethodNames;
+import com.oracle.graal.python.nodes.builtins.ListNodes;
+import com.oracle.graal.python.nodes.call.special.LookupAndCallBinaryNode;
+import com.oracle.graal.python.nodes.expression.BinaryArithmetic;
+import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
+import com.oracle.graal.python.nodes.expression.CastToBooleanNode;
+import com.oracle.graal.python.nodes.expression.ExpressionNode;
+import com.oracle.graal.python.nodes.statement.StatementNode;
+import com.oracle.graal.python.runtime.exception.ReturnException;
+import com.oracle.truffle.api.frame.VirtualFrame;
+
+/**
+ * Takes the place of the {@link YieldNode} when a generator expression is run to completion for
+ * a builtin consumer. The element is passed directly to the {@link GeneratorConsumer} found in the
+ * second argument. Consumers that can stop early ({@code any} and {@code all}) leave the loop with
+ * a {@link ReturnException}.
+ */
+public abstract class GeneratorConsumeNode extends StatementNode {
+
+    @Child protected ExpressionNode value;
+
+    protected GeneratorConsumeNode(ExpressionNode value) {
+        this.value = value;
+    }
+
+    public static GeneratorConsumeNode create(GeneratorConsumer.Kind kind, ExpressionNode key, ExpressionNode value) {
+        switch (kind) {
+            case SUM:
+                return new SumNode(value);
+            case MIN:
+                return new MinMaxNode(value, BinaryComparisonNode.create(SpecialMethodNames.__LT__, SpecialMethodNames.__GT__, "<"));
+            case MAX:
+                return new MinMaxNode(value, BinaryComparisonNode.create(SpecialMethodNames.__GT__, SpecialMethodNames.__LT__, ">"));
+            case ANY:
+                return new AnyAllNode(value, true);
+            case ALL:
+                return new AnyAllNode(value, false);
+            case LIST:
+                return new AppendNode(value);
+            case SET:
+                return new SetItemNode(null, value);
+            case DICT:
+                return new SetItemNode(key, value);
+            default:
+                throw new IllegalStateException("unexpected consumer kind: " + kind);
+        }
+    }
+
+    @Override
+    public void executeVoid(VirtualFrame frame) {
+        consume(frame, (GeneratorConsumer) PArguments.getArgument(frame, 1));
+    }
+
+    protected abstract void consume(VirtualFrame frame, GeneratorConsumer consumer);
+
+    private static final class SumNode extends GeneratorConsumeNode {
+        @Child private LookupAndCallBinaryNode add = BinaryArithmetic.Add.create();
+
+        SumNode(ExpressionNode value) {
+            super(value);
+        }
+
+        @Override
+        protected void consume(VirtualFrame frame, GeneratorConsumer consumer) {
+            consumer.setResult(add.executeObject(frame, consumer.getResult(), value.execute(frame)));
+        }
+    }
+
+    private static final class MinMaxNode extends GeneratorConsumeNode {
+        @Child private BinaryComparisonNode compare;
+
+        MinMaxNode(ExpressionNode value, BinaryComparisonNode compare) {
+            super(value);
+            this.compare = compare;
+        }
+
+        @Override
+        protected void consume(VirtualFrame frame, GeneratorConsumer consumer) {
+            Object item = value.execute(frame);
+            if (consumer.isEmpty() || compare.executeBool(frame, item, consumer.getResult())) {
+                consumer.setResult(item);
+            }
+        }
+    }
+
+    private static final class AnyAllNode extends GeneratorConsumeNode {
+        @Child private CastToBooleanNode castToBoolean = CastToBooleanNode.createIfTrueNode();
+
+        /** {@code true} for {@code any}, which stops at the first true element. */
+        private final boolean stopValue;
+
+        AnyAllNode(ExpressionNode value, boolean stopValue) {
+            super(value);
+            this.stopValue = stopValue;
+        }
+
+        @Override
+        protected void consume(VirtualFrame frame, GeneratorConsumer consumer) {
+            if (castToBoolean.executeBoolean(frame, value.execute(frame)) == stopValue) {
+                consumer.setResult(stopValue);
+                throw ReturnException.INSTANCE;
+            }
+        }
+    }
+
+    private static final class AppendNode extends GeneratorConsumeNode {
+        @Child private ListNodes.AppendNode append = ListNodes.AppendNode.create();
+
+        AppendNode(ExpressionNode value) {
+            super(value);
+        }
+
+        @Override
+        protected void consume(VirtualFrame frame, GeneratorConsumer consumer) {
+            append.execute((PList) consumer.getResult(), value.execute(frame));
+        }
+    }
+
+    private static final class SetItemNode extends GeneratorConsumeNode {
+        /** The key of a dict comprehension, {@code null} when adding to a set. */
+        @Child private ExpressionNode key;
+        @Child private HashingCollectionNodes.SetItemNode setItem = HashingCollectionNodes.SetItemNode.create();
+
+        SetItemNode(ExpressionNode key, ExpressionNode value) {
+            super(value);
+            this.key = key;
+        }
+
+        @Override
+        protected void consume(VirtualFrame frame, GeneratorConsumer consumer) {
+            PHashingCollection collection = (PHashingCollection) consumer.getResult();
+            if (key == null) {
+                setItem.execute(frame, collection, value.execute(frame), PNone.NO_VALUE);
+            } else {
+                Object k = key.execute(frame);
+                setItem.execute(frame, collection, k, value.execute(frame));
+            }
+        }
+    }
+}
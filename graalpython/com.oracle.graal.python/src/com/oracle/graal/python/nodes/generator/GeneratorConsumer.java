@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.generator;
+
+import com.oracle.graal.python.nodes.BuiltinNames;
+
+/**
+ * Accumulates the result of a builtin that consumes a generator expression which is run to
+ * completion without creating a generator object. An instance is created for each call and passed
+ * to the generator expression's code as second argument.
+ */
+public final class GeneratorConsumer {
+
+    public enum Kind {
+        SUM(BuiltinNames.SUM),
+        MIN(BuiltinNames.MIN),
+        MAX(BuiltinNames.MAX),
+        ANY(BuiltinNames.ANY),
+        ALL(BuiltinNames.ALL),
+        LIST(BuiltinNames.LIST),
+        SET(BuiltinNames.SET),
+        DICT(BuiltinNames.DICT);
+
+        private final String builtinName;
+
+        Kind(String builtinName) {
+            this.builtinName = builtinName;
+        }
+
+        public String getBuiltinName() {
+            return builtinName;
+        }
+
+        /**
+         * Returns the kind for a call of the builtin {@code name} with a single generator
+         * expression argument, or {@code null} if such a call cannot be fused. {@code dict} is
+         * not included since it consumes pairs; dict comprehensions use {@link #DICT} directly.
+         */
+        public static Kind fromCallee(String name) {
+            switch (name) {
+                case BuiltinNames.SUM:
+                    return SUM;
+                case BuiltinNames.MIN:
+                    return MIN;
+                case BuiltinNames.MAX:
+                    return MAX;
+                case BuiltinNames.ANY:
+                    return ANY;
+                case BuiltinNames.ALL:
+                    return ALL;
+                case BuiltinNames.LIST:
+                    return LIST;
+                case BuiltinNames.SET:
+                    return SET;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private Object result;
+    private boolean empty = true;
+
+    public GeneratorConsumer(Object initialResult) {
+        this.result = initialResult;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public void setResult(Object result) {
+        this.result = result;
+        this.empty = false;
+    }
+
+    /**
+     * Returns {@code true} if no element has been consumed yet.
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.generator;
+
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
+import com.oracle.graal.python.nodes.BuiltinNames;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.call.CallTargetInvokeNode;
+import com.oracle.graal.python.nodes.expression.ExpressionNode;
+import com.oracle.graal.python.nodes.function.GeneratorExpressionNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonCore;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.TruffleLanguage.ContextReference;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+
+/**
+ * A call of a builtin like {@code sum} with a single generator expression argument, or a list, set
+ * or dict comprehension. If the callee is the builtin, the generator expression's code is run once
+ * to completion with a {@link GeneratorConsumeNode} in place of the yield, so no generator object
+ * is created and the loop is not suspended and resumed for each element. Otherwise, the generator
+ * is created and the callee is called with it as usual.
+ */
+public final class GeneratorConsumerCallNode extends ExpressionNode {
+
+    private final GeneratorConsumer.Kind kind;
+
+    @Child private ExpressionNode callee;
+    @Child private GeneratorExpressionNode generatorExpression;
+    @Child private ReadAttributeFromObjectNode readBuiltinNode = ReadAttributeFromObjectNode.create();
+    @Child private CallTargetInvokeNode invokeNode;
+    @Child private CallNode callNode;
+    @Child private PythonObjectFactory factory;
+    @Child private PRaiseNode raiseNode;
+
+    private final ConditionProfile isBuiltinProfile = ConditionProfile.createBinaryProfile();
+    private final ConditionProfile isCoreInitializedProfile = ConditionProfile.createBinaryProfile();
+    @CompilationFinal private ContextReference<PythonContext> contextRef;
+
+    public GeneratorConsumerCallNode(GeneratorConsumer.Kind kind, ExpressionNode callee, GeneratorExpressionNode generatorExpression, RootCallTarget fusedCallTarget) {
+        this.kind = kind;
+        this.callee = callee;
+        this.generatorExpression = generatorExpression;
+        this.invokeNode = CallTargetInvokeNode.create(fusedCallTarget, false, true);
+    }
+
+    public GeneratorExpressionNode getGeneratorExpression() {
+        return generatorExpression;
+    }
+
+    @Override
+    public Object execute(VirtualFrame frame) {
+        Object callable = callee.execute(frame);
+        if (isBuiltinProfile.profile(callable == readBuiltinNode.execute(getBuiltins(), kind.getBuiltinName()))) {
+            GeneratorConsumer consumer = new GeneratorConsumer(createInitialResult());
+            invokeNode.execute(frame, null, null, generatorExpression.createFusedArguments(frame, consumer));
+            if ((kind == GeneratorConsumer.Kind.MIN || kind == GeneratorConsumer.Kind.MAX) && consumer.isEmpty()) {
+                if (raiseNode == null) {
+                    CompilerDirectives.transferToInterpreterAndInvalidate();
+                    raiseNode = insert(PRaiseNode.create());
+                }
+                throw raiseNode.raise(ValueError, "%s() arg is an empty sequence", kind.getBuiltinName());
+            }
+            return consumer.getResult();
+        }
+        if (callNode == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            callNode = insert(CallNode.create());
+        }
+        return callNode.execute(frame, callable, new Object[]{generatorExpression.execute(frame)}, PKeyword.EMPTY_KEYWORDS);
+    }
+
+    private Object createInitialResult() {
+        switch (kind) {
+            case SUM:
+                return 0;
+            case ANY:
+                return false;
+            case ALL:
+                return true;
+            case LIST:
+                return getFactory().createList();
+            case SET:
+                return getFactory().createSet();
+            case DICT:
+                return getFactory().createDict();
+            default:
+                return null;
+        }
+    }
+
+    private PythonModule getBuiltins() {
+        if (contextRef == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            contextRef = lookupContextReference(PythonLanguage.class);
+        }
+        PythonContext context = contextRef.get();
+        PythonCore core = context.getCore();
+        if (isCoreInitializedProfile.profile(core.isInitialized())) {
+            return context.getBuiltins();
+        } else {
+            return core.lookupBuiltinModule(BuiltinNames.BUILTINS);
+        }
+    }
+
+    private PythonObjectFactory getFactory() {
+        if (factory == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            factory = insert(PythonObjectFactory.create());
+        }
+        return factory;
+    }
+}
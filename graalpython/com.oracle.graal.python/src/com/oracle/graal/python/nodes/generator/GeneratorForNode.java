@@ -26,14 +26,12 @@
 package com.oracle.graal.python.nodes.generator;
 
 import com.oracle.graal.python.PythonLanguage;
-import com.oracle.graal.python.nodes.control.GetNextNode;
+import com.oracle.graal.python.nodes.control.ForNextElementNode;
 import com.oracle.graal.python.nodes.control.LoopNode;
 import com.oracle.graal.python.nodes.expression.ExpressionNode;
 import com.oracle.graal.python.nodes.frame.WriteNode;
-import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
 import com.oracle.graal.python.nodes.statement.StatementNode;
 import com.oracle.graal.python.runtime.PythonContext;
-import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.YieldException;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
@@ -45,12 +43,10 @@ import com.oracle.truffle.api.profiles.ConditionProfile;
 public final class GeneratorForNode extends LoopNode implements GeneratorControlNode {
 
     @Child protected StatementNode body;
-    @Child protected WriteNode target;
+    @Child protected ForNextElementNode nextElement;
     @Child protected ExpressionNode getIterator;
-    @Child protected GetNextNode getNext = GetNextNode.create();
     @Child protected GeneratorAccessNode gen = GeneratorAccessNode.create();
 
-    private final IsBuiltinClassProfile errorProfile = IsBuiltinClassProfile.create();
     private final ConditionProfile executesHeadProfile = ConditionProfile.createBinaryProfile();
     private final ConditionProfile needsUpdateProfile = ConditionProfile.createBinaryProfile();
     private final BranchProfile seenYield = BranchProfile.create();
@@ -60,7 +56,7 @@ public final class GeneratorForNode extends LoopNode implements GeneratorControl
 
     public GeneratorForNode(WriteNode target, ExpressionNode getIterator, StatementNode body, int iteratorSlot) {
         this.body = body;
-        this.target = target;
+        this.nextElement = ForNextElementNode.create((StatementNode) target);
         this.getIterator = getIterator;
         this.iteratorSlot = iteratorSlot;
     }
@@ -85,14 +81,9 @@ public final class GeneratorForNode extends LoopNode implements GeneratorControl
         Object iterator;
         if (executesHeadProfile.profile(startIterator == null)) {
             iterator = getIterator.execute(frame);
-            Object value;
-            try {
-                value = getNext.execute(frame, iterator);
-            } catch (PException e) {
-                e.expectStopIteration(errorProfile);
+            if (!nextElement.execute(frame, iterator)) {
                 return;
             }
-            target.doWrite(frame, value);
         } else {
             iterator = startIterator;
         }
@@ -107,14 +98,9 @@ public final class GeneratorForNode extends LoopNode implements GeneratorControl
         try {
             while (true) {
                 body.executeVoid(frame);
-                Object value;
-                try {
-                    value = getNext.execute(frame, iterator);
-                } catch (PException e) {
-                    e.expectStopIteration(errorProfile);
+                if (!nextElement.execute(frame, iterator)) {
                     break;
                 }
-                target.doWrite(frame, value);
                 if (CompilerDirectives.inInterpreter()) {
                     count++;
                 }
@@ -27,6 +27,8 @@ package com.oracle.graal.python.nodes.subscript;
 
 import static com.oracle.graal.python.builtins.objects.slice.PSlice.MISSING_INDEX;
 
+import java.math.BigInteger;
+
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
@@ -42,6 +44,7 @@ import com.oracle.graal.python.nodes.util.CastToIndexNode;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.NodeChild;
@@ -74,7 +77,38 @@ public abstract class SliceLiteralNode extends ExpressionNode {
 
     @Fallback
     public PSlice doGeneric(VirtualFrame frame, Object start, Object stop, Object step) {
-        return factory.createSlice(castStart(frame, start), castStop(frame, stop), castStep(frame, step));
+        PSlice slice = factory.createSlice(castStart(frame, start), castStop(frame, stop), castStep(frame, step));
+        if (start instanceof PInt || start instanceof Long || stop instanceof PInt || stop instanceof Long || step instanceof PInt || step instanceof Long) {
+            setBigComponents(slice, start, stop, step);
+        }
+        return slice;
+    }
+
+    @TruffleBoundary
+    private static void setBigComponents(PSlice slice, Object start, Object stop, Object step) {
+        BigInteger bigStart = toBigInteger(start);
+        BigInteger bigStop = toBigInteger(stop);
+        BigInteger bigStep = toBigInteger(step);
+        if (bigStart != null || bigStop != null || bigStep != null) {
+            slice.setBigComponents(bigStart, bigStop, bigStep);
+        }
+    }
+
+    /**
+     * Returns the value of an int that does not fit into {@code int} or collides with
+     * {@link PSlice#MISSING_INDEX}, and {@code null} otherwise.
+     */
+    private static BigInteger toBigInteger(Object value) {
+        BigInteger result = null;
+        if (value instanceof PInt) {
+            result = ((PInt) value).getValue();
+        } else if (value instanceof Long) {
+            result = BigInteger.valueOf((long) value);
+        }
+        if (result == null || (result.bitLength() < Integer.SIZE && result.intValue() != MISSING_INDEX)) {
+            return null;
+        }
+        return result;
     }
 
     private int castStart(VirtualFrame frame, Object o) {
@@ -62,6 +62,7 @@ import com.oracle.graal.python.parser.sst.CollectionSSTNode;
 import com.oracle.graal.python.parser.sst.FactorySSTVisitor;
 import com.oracle.graal.python.parser.sst.ForComprehensionSSTNode;
 import com.oracle.graal.python.parser.sst.ForSSTNode;
+import com.oracle.graal.python.parser.sst.GetAttributeSSTNode;
 import com.oracle.graal.python.parser.sst.GeneratorFactorySSTVisitor;
 import com.oracle.graal.python.parser.sst.ImportFromSSTNode;
 import com.oracle.graal.python.parser.sst.ImportSSTNode;
@@ -113,8 +114,13 @@ public final class PythonSSTNodeFactory {
     }
 
     public VarLookupSSTNode createVariableLookup(String name, int start, int stop) {
-        scopeEnvironment.addSeenVar(name);
-        return new VarLookupSSTNode(name, start, stop);
+        String identifier = errors.getLanguage().getStringInterner().intern(name);
+        scopeEnvironment.addSeenVar(identifier);
+        return new VarLookupSSTNode(identifier, start, stop);
+    }
+
+    public SSTNode createGetAttribute(SSTNode receiver, String name, int start, int stop) {
+        return new GetAttributeSSTNode(receiver, errors.getLanguage().getStringInterner().intern(name), start, stop);
     }
 
     public SSTNode createClassDefinition(String name, ArgListBuilder baseClasses, SSTNode body, int start, int stop) {
@@ -1161,7 +1161,7 @@ atom_expr returns [SSTNode result]
 		| '.' NAME 
                 {   
                     assert $NAME != null;
-                    $result = new GetAttributeSSTNode($result, $NAME.text, getStartIndex($ctx), getStopIndex($NAME));
+                    $result = factory.createGetAttribute($result, $NAME.text, getStartIndex($ctx), getStopIndex($NAME));
                 }
 	)*
 ;
@@ -123,6 +123,10 @@ public final class ArgListBuilder {
         return kwArg != null;
     }
 
+    public boolean hasStarArg() {
+        return starArg != null;
+    }
+
     public ExpressionNode getKwArgs(SSTreeVisitor<PNode> visitor) {
         ExpressionNode result = null;
         if (kwArg != null && !kwArg.isEmpty()) {
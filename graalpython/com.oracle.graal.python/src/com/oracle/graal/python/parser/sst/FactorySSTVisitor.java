@@ -81,6 +81,7 @@ import com.oracle.graal.python.nodes.function.FunctionDefinitionNode;
 import com.oracle.graal.python.nodes.function.FunctionRootNode;
 import com.oracle.graal.python.nodes.function.GeneratorFunctionDefinitionNode;
 import com.oracle.graal.python.nodes.generator.GeneratorBlockNode;
+import com.oracle.graal.python.nodes.generator.GeneratorConsumer;
 import com.oracle.graal.python.nodes.generator.GeneratorReturnTargetNode;
 import com.oracle.graal.python.nodes.generator.ReadGeneratorFrameVariableNode;
 import com.oracle.graal.python.nodes.generator.WriteGeneratorFrameVariableNode;
@@ -307,7 +308,17 @@ public class FactorySSTVisitor implements SSTreeVisitor<PNode> {
         ExpressionNode target = (ExpressionNode) node.target.accept(this);
 
         ArgListBuilder argBuilder = node.parameters;
-        ExpressionNode callNode = PythonCallNode.create(target, argBuilder.getArgs(this), argBuilder.getNameArgs(this), argBuilder.getStarArgs(this), argBuilder.getKwArgs(this));
+        GeneratorConsumer.Kind consumerKind = getGeneratorConsumerKind(node);
+        ExpressionNode callNode;
+        if (consumerKind != null) {
+            ScopeInfo oldScope = scopeEnvironment.getCurrentScope();
+            GeneratorFactorySSTVisitor generatorVisitor = this instanceof GeneratorFactorySSTVisitor ? (GeneratorFactorySSTVisitor) this
+                            : new GeneratorFactorySSTVisitor(errors, scopeEnvironment, nodeFactory, source, this);
+            callNode = generatorVisitor.createGeneratorConsumerCall(target, consumerKind, (ForComprehensionSSTNode) argBuilder.getArgs()[0]);
+            scopeEnvironment.setCurrentScope(oldScope);
+        } else {
+            callNode = PythonCallNode.create(target, argBuilder.getArgs(this), argBuilder.getNameArgs(this), argBuilder.getStarArgs(this), argBuilder.getKwArgs(this));
+        }
         // remove source section for the taget to be comaptiable with old parser behavior
         // TODO check, whether we really need to delete the source sections
         target.assignSourceSection(null);
@@ -315,6 +326,23 @@ public class FactorySSTVisitor implements SSTreeVisitor<PNode> {
         return callNode;
     }
 
+    /**
+     * Returns the consumer kind if {@code node} calls a name like {@code sum} with a generator
+     * expression as the only argument. Whether the name actually refers to the builtin is checked
+     * when the call is executed.
+     */
+    private static GeneratorConsumer.Kind getGeneratorConsumerKind(CallSSTNode node) {
+        ArgListBuilder argBuilder = node.parameters;
+        if (!(node.target instanceof VarLookupSSTNode) || argBuilder.hasNameArg() || argBuilder.hasStarArg() || argBuilder.hasKwArg()) {
+            return null;
+        }
+        SSTNode[] args = argBuilder.getArgs();
+        if (args.length != 1 || !(args[0] instanceof ForComprehensionSSTNode) || ((ForComprehensionSSTNode) args[0]).resultType != PythonBuiltinClassType.PGenerator) {
+            return null;
+        }
+        return GeneratorConsumer.Kind.fromCallee(((VarLookupSSTNode) node.target).name);
+    }
+
     private static String getQualifiedName(ScopeInfo scope, String name) {
         StringBuilder qualifiedName = new StringBuilder(name);
         ScopeInfo tmpScope = scope.getParent();
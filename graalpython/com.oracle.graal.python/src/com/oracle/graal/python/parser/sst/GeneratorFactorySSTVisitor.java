@@ -60,6 +60,9 @@ import com.oracle.graal.python.nodes.frame.WriteNode;
 import com.oracle.graal.python.nodes.function.FunctionRootNode;
 import com.oracle.graal.python.nodes.function.GeneratorExpressionNode;
 import com.oracle.graal.python.nodes.generator.GeneratorBlockNode;
+import com.oracle.graal.python.nodes.generator.GeneratorConsumeNode;
+import com.oracle.graal.python.nodes.generator.GeneratorConsumer;
+import com.oracle.graal.python.nodes.generator.GeneratorConsumerCallNode;
 import com.oracle.graal.python.nodes.generator.GeneratorForNode;
 import com.oracle.graal.python.nodes.generator.GeneratorIfNode;
 import com.oracle.graal.python.nodes.generator.GeneratorReturnTargetNode;
@@ -166,6 +169,18 @@ public class GeneratorFactorySSTVisitor extends FactorySSTVisitor {
 
     @Override
     public PNode visit(ForComprehensionSSTNode node) {
+        return visitComprehension(node, null, null);
+    }
+
+    /**
+     * Creates the call of a builtin consumer with the generator expression {@code node} as the only
+     * argument, e.g. {@code sum(x for x in y)}.
+     */
+    public ExpressionNode createGeneratorConsumerCall(ExpressionNode callee, GeneratorConsumer.Kind kind, ForComprehensionSSTNode node) {
+        return (ExpressionNode) visitComprehension(node, callee, kind);
+    }
+
+    private PNode visitComprehension(ForComprehensionSSTNode node, ExpressionNode consumerCallee, GeneratorConsumer.Kind consumerKind) {
         int oldNumOfActiveFlags = numOfActiveFlags;
         int oldNumOfYields = numOfYields;
         int oldNumOfGeneratorBlockNode = numOfGeneratorBlockNode;
@@ -195,7 +210,7 @@ public class GeneratorFactorySSTVisitor extends FactorySSTVisitor {
         yieldExpression.setFlagSlot(numOfActiveFlags++);
         yieldExpression.assignSourceSection(targetExpression.getSourceSection());
 
-        StatementNode body = createGeneratorExpressionBody(node, getIterator, yieldExpression.asStatement());
+        StatementNode body = createGeneratorExpressionBody(node, getIterator, yieldExpression.asStatement(), false);
 
         ExpressionNode returnTarget;
 
@@ -222,22 +237,26 @@ public class GeneratorFactorySSTVisitor extends FactorySSTVisitor {
         genExprDef.assignSourceSection(funcRoot.getSourceSection());
         genExprDef.setEnclosingFrameGenerator(node.level != 0 || parentVisitor.comprLevel != 0 || node.scope.getParent().getScopeKind() == ScopeInfo.ScopeKind.Generator);
         PNode result;
-        switch (node.resultType) {
-            case PList:
-                result = nodeFactory.callBuiltin(BuiltinNames.LIST, genExprDef);
-                result.assignSourceSection(createSourceSection(node.target.startOffset, node.endOffset));
-                break;
-            case PSet:
-                result = nodeFactory.callBuiltin(BuiltinNames.SET, genExprDef);
-                result.assignSourceSection(createSourceSection(node.target.startOffset, node.endOffset));
-                break;
-            case PDict:
-                result = nodeFactory.callBuiltin(BuiltinNames.DICT, genExprDef);
-                result.assignSourceSection(createSourceSection(node.name != null ? node.name.startOffset : node.target.startOffset, node.endOffset));
-                break;
-            default:
-                result = genExprDef;
-                break;
+        if (consumerKind != null) {
+            result = createGeneratorConsumerCall(consumerCallee, consumerKind, node, genExprDef);
+        } else {
+            switch (node.resultType) {
+                case PList:
+                    result = createGeneratorConsumerCall(nodeFactory.getBuiltin(BuiltinNames.LIST), GeneratorConsumer.Kind.LIST, node, genExprDef);
+                    result.assignSourceSection(createSourceSection(node.target.startOffset, node.endOffset));
+                    break;
+                case PSet:
+                    result = createGeneratorConsumerCall(nodeFactory.getBuiltin(BuiltinNames.SET), GeneratorConsumer.Kind.SET, node, genExprDef);
+                    result.assignSourceSection(createSourceSection(node.target.startOffset, node.endOffset));
+                    break;
+                case PDict:
+                    result = createGeneratorConsumerCall(nodeFactory.getBuiltin(BuiltinNames.DICT), GeneratorConsumer.Kind.DICT, node, genExprDef);
+                    result.assignSourceSection(createSourceSection(node.name != null ? node.name.startOffset : node.target.startOffset, node.endOffset));
+                    break;
+                default:
+                    result = genExprDef;
+                    break;
+            }
         }
         scopeEnvironment.setCurrentScope(originScope);
         numOfActiveFlags = oldNumOfActiveFlags;
@@ -247,7 +266,31 @@ public class GeneratorFactorySSTVisitor extends FactorySSTVisitor {
         return result;
     }
 
-    private StatementNode createGeneratorExpressionBody(ForComprehensionSSTNode node, GetIteratorExpressionNode iterator, StatementNode yield) {
+    /**
+     * Creates the code of a generator expression that is run to completion in one call, passing
+     * each element to the {@link GeneratorConsumer} in the second argument instead of yielding it.
+     * The loop state does not have to survive a yield, so plain loop and if nodes are used. The
+     * code shares the frame layout of the generator expression, so the same
+     * {@link GeneratorExpressionNode} prepares the arguments for both.
+     */
+    private ExpressionNode createGeneratorConsumerCall(ExpressionNode callee, GeneratorConsumer.Kind kind, ForComprehensionSSTNode node, GeneratorExpressionNode genExprDef) {
+        parentVisitor.comprLevel++;
+        ExpressionNode key = kind == GeneratorConsumer.Kind.DICT ? (ExpressionNode) node.name.accept(this) : null;
+        ExpressionNode value = (ExpressionNode) node.target.accept(parentVisitor);
+        parentVisitor.comprLevel--;
+        GeneratorConsumeNode consume = GeneratorConsumeNode.create(kind, key, value);
+        consume.assignSourceSection(value.getSourceSection());
+
+        StatementNode body = createGeneratorExpressionBody(node, ReadIndexedArgumentNode.create(0).asExpression(), consume, true);
+        ExpressionNode returnTarget = new ReturnTargetNode(body, nodeFactory.createNullLiteral());
+        returnTarget.assignSourceSection(body.getSourceSection());
+        FunctionRootNode funcRoot = nodeFactory.createFunctionRoot(returnTarget.getSourceSection(), genExprDef.getName(), true, genExprDef.getFrameDescriptor(), returnTarget,
+                        scopeEnvironment.getExecutionCellSlots(), Signature.EMPTY);
+        RootCallTarget callTarget = Truffle.getRuntime().createCallTarget(funcRoot);
+        return new GeneratorConsumerCallNode(kind, callee, genExprDef, callTarget);
+    }
+
+    private StatementNode createGeneratorExpressionBody(ForComprehensionSSTNode node, ExpressionNode iterator, StatementNode yield, boolean consumer) {
         ExpressionNode condition = null;
         if (node.conditions != null && node.conditions.length > 0) {
             condition = (ExpressionNode) node.conditions[0].accept(this);
@@ -262,11 +305,13 @@ public class GeneratorFactorySSTVisitor extends FactorySSTVisitor {
             ExpressionNode exprIterator = (ExpressionNode) sstIterator.accept(this);
             GetIteratorExpressionNode getIterator = nodeFactory.createGetIterator(exprIterator);
             getIterator.assignSourceSection(exprIterator.getSourceSection());
-            body = createGeneratorExpressionBody(forComp, getIterator, yield);
+            body = createGeneratorExpressionBody(forComp, getIterator, yield, consumer);
         }
         if (condition != null) {
             // TODO: Do we have to create empty block in the else branch?
-            body = GeneratorIfNode.create(nodeFactory.createYesNode(condition), body, nodeFactory.createBlock(), numOfActiveFlags++, numOfActiveFlags++);
+            body = consumer
+                            ? nodeFactory.createIf(nodeFactory.createYesNode(condition), body, nodeFactory.createBlock())
+                            : GeneratorIfNode.create(nodeFactory.createYesNode(condition), body, nodeFactory.createBlock(), numOfActiveFlags++, numOfActiveFlags++);
         }
 
         StatementNode variable;
@@ -285,9 +330,8 @@ public class GeneratorFactorySSTVisitor extends FactorySSTVisitor {
             }
             variable = makeWriteNode(nodeFactory.createObjectLiteral(variables));
         }
-        body = GeneratorForNode.create((WriteNode) variable,
-                        node.level == 0 ? ReadIndexedArgumentNode.create(0).asExpression() : iterator,
-                        body, numOfGeneratorForNode++);
+        ExpressionNode loopIterator = node.level == 0 ? ReadIndexedArgumentNode.create(0).asExpression() : iterator;
+        body = consumer ? new ForNode(body, variable, loopIterator) : GeneratorForNode.create((WriteNode) variable, loopIterator, body, numOfGeneratorForNode++);
         body.assignSourceSection(createSourceSection(node.startOffset, node.endOffset));
         return body;
     }
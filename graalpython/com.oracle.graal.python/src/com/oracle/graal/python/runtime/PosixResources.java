@@ -48,13 +48,15 @@ import java.nio.channels.Channels;
 import java.nio.channels.Pipe;
 import java.nio.channels.SeekableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.oracle.graal.python.builtins.objects.socket.PSocket;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -67,6 +69,14 @@ import com.oracle.truffle.api.profiles.ValueProfile;
  * associated with {@link String} paths and {@link Channel}s, their capabilities depending on the
  * kind of channel.
  *
+ * The file descriptor table is split into fixed-size chunks of {@value #FD_CHUNK_SIZE} slots. Each
+ * chunk has a bitmap of used slots that is updated with CAS, so allocating the lowest free file
+ * descriptor and looking up a channel do not take a lock. Installing and removing an entry update
+ * the slot and its bit together under the chunk's monitor, and growing the table by another chunk
+ * is synchronized as well. Channels shared between descriptors (e.g. after
+ * {@code dup}) are reference counted and closed when the last descriptor referring to them is
+ * closed.
+ *
  * It also manages the list of virtual child PIDs.
  */
 public class PosixResources {
@@ -74,9 +84,20 @@ public class PosixResources {
     private final int FD_STDOUT = 1;
     private final int FD_STDERR = 2;
 
-    /** Context-local file-descriptor mappings and PID mappings */
-    private final SortedMap<Integer, ChannelWrapper> files;
-    private final Map<Integer, String> filePaths;
+    private static final int FD_CHUNK_SHIFT = 6;
+    private static final int FD_CHUNK_SIZE = 1 << FD_CHUNK_SHIFT;
+    private static final int FD_CHUNK_MASK = FD_CHUNK_SIZE - 1;
+    private static final long FD_CHUNK_FULL = -1L;
+
+    /**
+     * Context-local file-descriptor mappings. The array itself is copy-on-write and only replaced
+     * (under {@link #fdTableLock}) when a new chunk is appended; the chunks are shared between the
+     * old and new array, so slot updates never get lost.
+     */
+    private volatile FdChunk[] fdChunks;
+    private final Object fdTableLock = new Object();
+
+    /** Context-local PID mappings */
     private final List<Process> children;
     private final Map<String, Integer> inodes;
     private int inodeCnt = 0;
@@ -143,51 +164,106 @@ public class PosixResources {
         }
     }
 
-    private static class ChannelWrapper {
-        Channel channel;
-        int cnt;
+    /**
+     * A channel that may be referred to by several file descriptors. The channel is closed when the
+     * reference count drops to zero; a wrapper with a count of zero cannot be retained again.
+     */
+    private static final class ChannelWrapper {
+        volatile Channel channel;
+        private final AtomicInteger refCount;
 
-        ChannelWrapper() {
-            this(null, 0);
+        ChannelWrapper(Channel channel) {
+            this.channel = channel;
+            this.refCount = new AtomicInteger(1);
         }
 
-        ChannelWrapper(Channel channel) {
-            this(channel, 1);
+        boolean retain() {
+            int cnt;
+            do {
+                cnt = refCount.get();
+                if (cnt <= 0) {
+                    return false;
+                }
+            } while (!refCount.compareAndSet(cnt, cnt + 1));
+            return true;
         }
 
-        ChannelWrapper(Channel channel, int cnt) {
-            this.channel = channel;
-            this.cnt = cnt;
+        void release() throws IOException {
+            if (refCount.decrementAndGet() == 0) {
+                Channel ch = channel;
+                if (ch != null) {
+                    ch.close();
+                }
+            }
+        }
+    }
+
+    /** The immutable contents of one file descriptor slot. */
+    private static final class FdEntry {
+        final ChannelWrapper wrapper;
+        final String path;
+
+        FdEntry(ChannelWrapper wrapper, String path) {
+            this.wrapper = wrapper;
+            this.path = path;
+        }
+    }
+
+    private static final class FdChunk {
+        /** Bit {@code i} is set if slot {@code i} is reserved or in use. */
+        final AtomicLong used = new AtomicLong();
+        final AtomicReferenceArray<FdEntry> slots = new AtomicReferenceArray<>(FD_CHUNK_SIZE);
+
+        void markUsed(int idx) {
+            long bits;
+            do {
+                bits = used.get();
+            } while (!used.compareAndSet(bits, bits | (1L << idx)));
         }
 
-        void setNewChannel(InputStream inputStream) {
-            this.channel = Channels.newChannel(inputStream);
-            this.cnt = 1;
+        void markFree(int idx) {
+            long bits;
+            do {
+                bits = used.get();
+            } while (!used.compareAndSet(bits, bits & ~(1L << idx)));
         }
 
-        void setNewChannel(OutputStream outputStream) {
-            this.channel = Channels.newChannel(outputStream);
-            this.cnt = 1;
+        /** Installs {@code entry} in slot {@code idx} and returns the previous entry. */
+        synchronized FdEntry put(int idx, FdEntry entry) {
+            markUsed(idx);
+            return slots.getAndSet(idx, entry);
+        }
+
+        /** Clears slot {@code idx} and frees it if it was in use. */
+        synchronized FdEntry remove(int idx) {
+            FdEntry entry = slots.getAndSet(idx, null);
+            if (entry != null) {
+                markFree(idx);
+            }
+            return entry;
+        }
+
+        /** Frees the reserved slot {@code idx} unless an entry was installed there meanwhile. */
+        synchronized void unreserve(int idx) {
+            if (slots.get(idx) == null) {
+                markFree(idx);
+            }
         }
     }
 
     public PosixResources() {
-        files = Collections.synchronizedSortedMap(new TreeMap<>());
-        filePaths = Collections.synchronizedMap(new HashMap<>());
+        fdChunks = new FdChunk[]{new FdChunk()};
         children = Collections.synchronizedList(new ArrayList<>());
         String osProperty = System.getProperty("os.name");
 
-        files.put(FD_STDIN, new ChannelWrapper());
-        files.put(FD_STDOUT, new ChannelWrapper());
-        files.put(FD_STDERR, new ChannelWrapper());
         if (osProperty != null && osProperty.toLowerCase(Locale.ENGLISH).contains("win")) {
-            filePaths.put(FD_STDIN, "STDIN");
-            filePaths.put(FD_STDOUT, "STDOUT");
-            filePaths.put(FD_STDERR, "STDERR");
+            addFD(FD_STDIN, null, "STDIN");
+            addFD(FD_STDOUT, null, "STDOUT");
+            addFD(FD_STDERR, null, "STDERR");
         } else {
-            filePaths.put(FD_STDIN, "/dev/stdin");
-            filePaths.put(FD_STDOUT, "/dev/stdout");
-            filePaths.put(FD_STDERR, "/dev/stderr");
+            addFD(FD_STDIN, null, "/dev/stdin");
+            addFD(FD_STDOUT, null, "/dev/stdout");
+            addFD(FD_STDERR, null, "/dev/stderr");
         }
 
         children.add(new ProcessGroup(children)); // PID 0 is special, and refers to all processes
@@ -197,10 +273,39 @@ public class PosixResources {
 
     @TruffleBoundary(allowInlining = true)
     public void setEnv(Env env) {
-        synchronized (files) {
-            files.get(FD_STDIN).setNewChannel(env.in());
-            files.get(FD_STDOUT).setNewChannel(env.out());
-            files.get(FD_STDERR).setNewChannel(env.err());
+        getEntry(FD_STDIN).wrapper.channel = Channels.newChannel(env.in());
+        getEntry(FD_STDOUT).wrapper.channel = Channels.newChannel(env.out());
+        getEntry(FD_STDERR).wrapper.channel = Channels.newChannel(env.err());
+    }
+
+    private FdEntry getEntry(int fd) {
+        if (fd < 0) {
+            return null;
+        }
+        FdChunk[] chunks = fdChunks;
+        int chunkIdx = fd >>> FD_CHUNK_SHIFT;
+        if (chunkIdx >= chunks.length) {
+            return null;
+        }
+        return chunks[chunkIdx].slots.get(fd & FD_CHUNK_MASK);
+    }
+
+    private FdChunk getOrCreateChunk(int chunkIdx) {
+        FdChunk[] chunks = fdChunks;
+        if (chunkIdx < chunks.length) {
+            return chunks[chunkIdx];
+        }
+        synchronized (fdTableLock) {
+            chunks = fdChunks;
+            if (chunkIdx >= chunks.length) {
+                FdChunk[] newChunks = Arrays.copyOf(chunks, chunkIdx + 1);
+                for (int i = chunks.length; i < newChunks.length; i++) {
+                    newChunks[i] = new FdChunk();
+                }
+                fdChunks = newChunks;
+                chunks = newChunks;
+            }
+            return chunks[chunkIdx];
         }
     }
 
@@ -210,69 +315,97 @@ public class PosixResources {
 
     @TruffleBoundary
     private void addFD(int fd, Channel channel, String path) {
-        files.put(fd, new ChannelWrapper(channel));
-        if (path != null) {
-            filePaths.put(fd, path);
+        putFD(fd, new FdEntry(new ChannelWrapper(channel), path));
+    }
+
+    /**
+     * Installs {@code entry} in slot {@code fd}, which must either be reserved by the caller or be
+     * a fixed fd number requested explicitly (in which case any previous entry is replaced and
+     * released).
+     */
+    private void putFD(int fd, FdEntry entry) {
+        FdEntry previous = swapFD(fd, entry);
+        if (previous != null) {
+            try {
+                previous.wrapper.release();
+            } catch (IOException ignored) {
+            }
         }
     }
 
+    /**
+     * Atomically installs {@code entry} in slot {@code fd} and returns the previous entry, which
+     * the caller must release.
+     */
+    private FdEntry swapFD(int fd, FdEntry entry) {
+        return getOrCreateChunk(fd >>> FD_CHUNK_SHIFT).put(fd & FD_CHUNK_MASK, entry);
+    }
+
     @TruffleBoundary
     private void removeFD(int fd) throws IOException {
-        ChannelWrapper channelWrapper = files.getOrDefault(fd, null);
-
-        if (channelWrapper != null) {
-            synchronized (files) {
-                if (channelWrapper.cnt == 1) {
-                    channelWrapper.channel.close();
-                } else if (channelWrapper.cnt > 1) {
-                    channelWrapper.cnt -= 1;
-                }
-
-                files.remove(fd);
-                filePaths.remove(fd);
-            }
+        if (fd < 0) {
+            return;
+        }
+        FdChunk[] chunks = fdChunks;
+        int chunkIdx = fd >>> FD_CHUNK_SHIFT;
+        if (chunkIdx >= chunks.length) {
+            return;
+        }
+        FdEntry entry = chunks[chunkIdx].remove(fd & FD_CHUNK_MASK);
+        if (entry != null) {
+            entry.wrapper.release();
         }
     }
 
+    /**
+     * Makes {@code fd2} refer to the same channel as {@code fd1}. If {@code fd1} is not open (or
+     * concurrently closed), {@code fd2} is released again.
+     */
     @TruffleBoundary
-    private void dupFD(int fd1, int fd2) {
-        ChannelWrapper channelWrapper = files.getOrDefault(fd1, null);
-        if (channelWrapper != null) {
-            synchronized (files) {
-                channelWrapper.cnt += 1;
-                files.put(fd2, channelWrapper);
-            }
+    private boolean dupFD(int fd1, int fd2) {
+        FdEntry entry = getEntry(fd1);
+        if (entry != null && entry.wrapper.retain()) {
+            putFD(fd2, new FdEntry(entry.wrapper, null));
+            return true;
         }
+        return false;
     }
 
     @TruffleBoundary(allowInlining = true)
     public Channel getFileChannel(int fd, ValueProfile classProfile) {
-        ChannelWrapper channelWrapper = files.getOrDefault(fd, null);
-        if (channelWrapper != null) {
-            return classProfile.profile(channelWrapper.channel);
+        FdEntry entry = getEntry(fd);
+        if (entry != null) {
+            return classProfile.profile(entry.wrapper.channel);
         }
         return null;
     }
 
     @TruffleBoundary(allowInlining = true)
     public Channel getFileChannel(int fd) {
-        ChannelWrapper channelWrapper = files.getOrDefault(fd, null);
-        if (channelWrapper != null) {
-            return channelWrapper.channel;
+        FdEntry entry = getEntry(fd);
+        if (entry != null) {
+            return entry.wrapper.channel;
         }
         return null;
     }
 
     @TruffleBoundary
     public String getFilePath(int fd) {
-        return filePaths.getOrDefault(fd, null);
+        FdEntry entry = getEntry(fd);
+        if (entry != null) {
+            return entry.path;
+        }
+        return null;
     }
 
     @TruffleBoundary
     public PSocket getSocket(int fd) {
-        ChannelWrapper channelWrapper = files.getOrDefault(fd, null);
-        if (channelWrapper != null && channelWrapper.channel instanceof PSocket) {
-            return (PSocket) channelWrapper.channel;
+        FdEntry entry = getEntry(fd);
+        if (entry != null) {
+            Channel channel = entry.wrapper.channel;
+            if (channel instanceof PSocket) {
+                return (PSocket) channel;
+            }
         }
         return null;
     }
@@ -287,19 +420,26 @@ public class PosixResources {
 
     @TruffleBoundary
     public int openSocket(PSocket socket) {
-        int fd = nextFreeFd();
+        int fd = reserveFreeFd();
         addFD(fd, socket);
         return fd;
     }
 
     @TruffleBoundary
     public void reopenSocket(PSocket socket, int fd) {
-        addFD(fd, socket);
+        // the new socket shares the underlying Java socket with the old one, so it takes the old
+        // channel's place instead of closing it
+        FdEntry entry = getEntry(fd);
+        if (entry != null) {
+            entry.wrapper.channel = socket;
+        } else {
+            addFD(fd, socket);
+        }
     }
 
     @TruffleBoundary(allowInlining = true)
     public void fdopen(int fd, Channel fc) {
-        files.get(fd).channel = fc;
+        getEntry(fd).wrapper.channel = fc;
     }
 
     /**
@@ -311,27 +451,35 @@ public class PosixResources {
      */
     @TruffleBoundary(allowInlining = true)
     public int open(TruffleFile path, Channel fc) {
-        int fd = nextFreeFd();
+        int fd = reserveFreeFd();
         addFD(fd, fc, path.getAbsoluteFile().getPath());
         return fd;
     }
 
     @TruffleBoundary(allowInlining = true)
     public int dup(int fd) {
-        int dupFd = nextFreeFd();
-        dupFD(fd, dupFd);
+        int dupFd = reserveFreeFd();
+        if (!dupFD(fd, dupFd)) {
+            releaseReservedFd(dupFd);
+        }
         return dupFd;
     }
 
     @TruffleBoundary(allowInlining = true)
     public int dup2(int fd, int fd2) throws IOException {
-        removeFD(fd2);
-        dupFD(fd, fd2);
+        FdEntry entry = getEntry(fd);
+        if (fd != fd2 && entry != null && entry.wrapper.retain()) {
+            // replace fd2 in one step, so that no concurrent 'reserveFreeFd' can take it
+            FdEntry previous = swapFD(fd2, new FdEntry(entry.wrapper, null));
+            if (previous != null) {
+                previous.wrapper.release();
+            }
+        }
         return fd2;
     }
 
     public boolean fsync(int fd) {
-        return files.getOrDefault(fd, null) != null;
+        return getEntry(fd) != null;
     }
 
     @TruffleBoundary(allowInlining = true)
@@ -345,33 +493,41 @@ public class PosixResources {
     @TruffleBoundary(allowInlining = true)
     public int[] pipe() throws IOException {
         Pipe pipe = Pipe.open();
-        int readFD = nextFreeFd();
+        int readFD = reserveFreeFd();
         addFD(readFD, pipe.source());
 
-        int writeFD = nextFreeFd();
+        int writeFD = reserveFreeFd();
         addFD(writeFD, pipe.sink());
 
         return new int[]{readFD, writeFD};
     }
 
+    /**
+     * Atomically reserves the lowest free file descriptor. The slot stays empty until the caller
+     * installs an entry, so concurrent lookups just see a closed fd.
+     */
     @TruffleBoundary(allowInlining = true)
-    private int nextFreeFd() {
-        synchronized (files) {
-            int fd1 = files.firstKey();
-            for (int fd2 : files.keySet()) {
-                if (fd2 == fd1) {
-                    continue;
-                }
-                if (fd2 - fd1 > 1) {
-                    return fd1 + 1;
-                } else {
-                    fd1 = fd2;
+    private int reserveFreeFd() {
+        while (true) {
+            FdChunk[] chunks = fdChunks;
+            for (int chunkIdx = 0; chunkIdx < chunks.length; chunkIdx++) {
+                AtomicLong used = chunks[chunkIdx].used;
+                long bits;
+                while ((bits = used.get()) != FD_CHUNK_FULL) {
+                    int bit = Long.numberOfTrailingZeros(~bits);
+                    if (used.compareAndSet(bits, bits | (1L << bit))) {
+                        return (chunkIdx << FD_CHUNK_SHIFT) | bit;
+                    }
                 }
             }
-            return files.lastKey() + 1;
+            getOrCreateChunk(chunks.length);
         }
     }
 
+    private void releaseReservedFd(int fd) {
+        fdChunks[fd >>> FD_CHUNK_SHIFT].unreserve(fd & FD_CHUNK_MASK);
+    }
+
     @TruffleBoundary(allowInlining = true)
     public int registerChild(Process child) {
         int pid = nextFreePid();
@@ -57,6 +57,7 @@ import org.graalvm.options.OptionValues;
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
+import com.oracle.graal.python.builtins.objects.cext.HandleTable;
 import com.oracle.graal.python.builtins.objects.cext.PThreadState;
 import com.oracle.graal.python.builtins.objects.cext.PythonNativeClass;
 import com.oracle.graal.python.builtins.objects.common.HashingCollectionNodes.GetDictStorageNode;
@@ -68,6 +69,7 @@ import com.oracle.graal.python.builtins.objects.frame.PFrame.Reference;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObjectLibrary;
+import com.oracle.graal.python.builtins.objects.sre.TRegexCache;
 import com.oracle.graal.python.builtins.objects.str.PString;
 import com.oracle.graal.python.builtins.objects.thread.PLock;
 import com.oracle.graal.python.nodes.SpecialAttributeNames;
@@ -173,6 +175,7 @@ public final class PythonContext {
     private final HashMap<PythonNativeClass, CyclicAssumption> nativeClassStableAssumptions = new HashMap<>();
     private final AtomicLong globalId = new AtomicLong(Integer.MAX_VALUE * 2L + 4L);
     private final ThreadGroup threadGroup = new ThreadGroup(GRAALPYTHON_THREADS);
+    private PythonThreadPool threadPool;
 
     // if set to 0 the VM will set it to whatever it likes
     private final AtomicLong pythonThreadStackSize = new AtomicLong(0);
@@ -200,6 +203,7 @@ public final class PythonContext {
     private InputStream in;
     @CompilationFinal private Object capiLibrary = null;
     private final Assumption singleThreaded = Truffle.getRuntime().createAssumption("single Threaded");
+    @CompilationFinal private boolean elideLocksWhileSingleThreaded;
 
     private static final Assumption singleNativeContext = Truffle.getRuntime().createAssumption("single native context assumption");
 
@@ -217,6 +221,8 @@ public final class PythonContext {
     // The context-local resources
     private final PosixResources resources;
     private final AsyncHandler handler;
+    private final TRegexCache regexCache = new TRegexCache();
+    private final HandleTable cApiHandleTable = new HandleTable();
 
     // A thread-local to store the full path to the currently active import statement, for Jython
     // compat
@@ -234,6 +240,7 @@ public final class PythonContext {
             this.err = System.err;
         } else {
             this.resources.setEnv(env);
+            this.elideLocksWhileSingleThreaded = PythonOptions.getOption(env, PythonOptions.ElideLocksWhileSingleThreaded);
             this.in = env.in();
             this.out = env.out();
             this.err = env.err();
@@ -244,6 +251,35 @@ public final class PythonContext {
         return threadGroup;
     }
 
+    /**
+     * Returns the pool used for running Python threads or {@code null} if
+     * {@link PythonOptions#ThreadPool} is disabled.
+     */
+    @TruffleBoundary
+    public synchronized PythonThreadPool getThreadPool() {
+        if (threadPool == null && PythonOptions.getOption(this, PythonOptions.ThreadPool)) {
+            threadPool = new PythonThreadPool(this);
+        }
+        return threadPool;
+    }
+
+    /**
+     * Returns the number of threads that currently run Python code on behalf of this context. Idle
+     * pooled worker threads are not counted.
+     */
+    @TruffleBoundary
+    public int getActiveThreadCount() {
+        int count = threadGroup.activeCount();
+        PythonThreadPool pool;
+        synchronized (this) {
+            pool = threadPool;
+        }
+        if (pool != null) {
+            count -= pool.getIdleCount();
+        }
+        return Math.max(count, 0);
+    }
+
     @TruffleBoundary(allowInlining = true)
     public long getPythonThreadStackSize() {
         return pythonThreadStackSize.get();
@@ -293,6 +329,7 @@ public final class PythonContext {
         out = env.out();
         err = env.err();
         resources.setEnv(env);
+        elideLocksWhileSingleThreaded = PythonOptions.getOption(env, PythonOptions.ElideLocksWhileSingleThreaded);
     }
 
     /**
@@ -646,6 +683,22 @@ public final class PythonContext {
 
     @TruffleBoundary
     public void shutdownThreads() {
+        boolean joinThreads;
+        try {
+            joinThreads = shutdownThreadingModule();
+        } finally {
+            shutdownThreadPool();
+        }
+        if (joinThreads) {
+            joinThreads();
+        }
+    }
+
+    /**
+     * Calls {@code threading._shutdown} if the threading module was imported. Returns
+     * {@code false} if the threading module does not have a {@code _shutdown} function.
+     */
+    private boolean shutdownThreadingModule() {
         PythonLanguage.getLogger().fine("shutting down threads");
         PDict importedModules = getImportedModules();
         HashingStorage dictStorage = GetDictStorageNode.getUncached().execute(importedModules);
@@ -654,7 +707,7 @@ public final class PythonContext {
             Object attrShutdown = ReadAttributeFromObjectNode.getUncached().execute(value, SpecialMethodNames.SHUTDOWN);
             if (attrShutdown == PNone.NO_VALUE) {
                 PythonLanguage.getLogger().fine("threading module has no member " + SpecialMethodNames.SHUTDOWN);
-                return;
+                return false;
             }
             try {
                 CallNode.getUncached().execute(null, attrShutdown);
@@ -673,7 +726,20 @@ public final class PythonContext {
             PythonLanguage.getLogger().finest("threading module was not imported");
         }
         PythonLanguage.getLogger().fine("successfully shut down all threads");
+        return true;
+    }
+
+    private void shutdownThreadPool() {
+        PythonThreadPool pool;
+        synchronized (this) {
+            pool = threadPool;
+        }
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
 
+    private void joinThreads() {
         if (!singleThreaded.isValid()) {
             // collect list of threads to join in synchronized block
             LinkedList<WeakReference<Thread>> threadList = new LinkedList<>();
@@ -725,6 +791,14 @@ public final class PythonContext {
         return singleThreaded;
     }
 
+    /**
+     * Returns {@code true} if Python-level locks may use plain memory operations because no other
+     * thread can run Python code concurrently.
+     */
+    public boolean isLockElisionPossible() {
+        return elideLocksWhileSingleThreaded && singleThreaded.isValid();
+    }
+
     public Assumption getNativeObjectsAllManagedAssumption() {
         return nativeObjectsAllManagedAssumption;
     }
@@ -737,6 +811,14 @@ public final class PythonContext {
         return resources;
     }
 
+    public TRegexCache getRegexCache() {
+        return regexCache;
+    }
+
+    public HandleTable getCApiHandleTable() {
+        return cApiHandleTable;
+    }
+
     /**
      * Trigger any pending asynchronous actions
      */
@@ -953,7 +1035,23 @@ public final class PythonContext {
         }
     }
 
-    private static void releaseSentinelLock(WeakReference<PLock> sentinelLockWeakref) {
+    /**
+     * Resets the per-thread state of a pooled worker thread after it finished running a Python
+     * thread, as if the thread had been disposed. The returned sentinel lock of the finished thread
+     * must be released by the caller via {@link #releaseSentinelLock}.
+     */
+    @TruffleBoundary
+    WeakReference<PLock> finishPooledThreadTask() {
+        PythonThreadState ts = getThreadState();
+        ts.topframeref = Reference.EMPTY;
+        ts.currentException = null;
+        ts.caughtException = null;
+        WeakReference<PLock> sentinelLock = ts.sentinelLock;
+        ts.sentinelLock = null;
+        return sentinelLock;
+    }
+
+    static void releaseSentinelLock(WeakReference<PLock> sentinelLockWeakref) {
         if (sentinelLockWeakref != null) {
             PLock sentinelLock = sentinelLockWeakref.get();
             if (sentinelLock != null) {
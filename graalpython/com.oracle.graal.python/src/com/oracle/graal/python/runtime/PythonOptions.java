@@ -133,6 +133,12 @@ public final class PythonOptions {
     @Option(category = OptionCategory.EXPERT, help = "This option control builtin _thread module support") //
     public static final OptionKey<Boolean> WithThread = new OptionKey<>(false);
 
+    @Option(category = OptionCategory.EXPERT, help = "Run threads started with _thread.start_new_thread on a pool of reusable context-attached worker threads. Default false.") //
+    public static final OptionKey<Boolean> ThreadPool = new OptionKey<>(false);
+
+    @Option(category = OptionCategory.EXPERT, help = "Let _thread locks skip atomic operations while the context is single-threaded. Default true.") //
+    public static final OptionKey<Boolean> ElideLocksWhileSingleThreaded = new OptionKey<>(true);
+
     @Option(category = OptionCategory.EXPERT, help = "Use the optimized TRegex engine and call the CPython sre engine only as a fallback. Default true") //
     public static final OptionKey<Boolean> WithTRegex = new OptionKey<>(true);
 
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.io.PrintWriter;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oracle.graal.python.builtins.objects.thread.PLock;
+import com.oracle.graal.python.runtime.exception.ExceptionUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleException;
+import com.oracle.truffle.api.TruffleLanguage.Env;
+
+/**
+ * A pool of context-attached worker threads used to run threads started via
+ * {@code _thread.start_new_thread} if {@link PythonOptions#ThreadPool} is enabled.
+ *
+ * Workers are created with {@link Env#createThread} and stay attached to the context while they are
+ * idle, so starting a Python thread on an idle worker neither creates a Java thread nor attaches it
+ * to the context. Since each worker keeps its Java thread, {@code _thread.get_ident()} and the
+ * per-thread {@link PythonContext} state work as for ordinary threads; the state is reset by
+ * {@link PythonContext#finishPooledThreadTask()} after each task. Workers that stay idle for
+ * {@link #KEEP_ALIVE_MILLIS} retire and are detached.
+ */
+public final class PythonThreadPool {
+    private static final long KEEP_ALIVE_MILLIS = 60_000;
+
+    private static final int IDLE = 0;
+    private static final int ASSIGNED = 1;
+    private static final int RETIRED = 2;
+
+    private final PythonContext context;
+    private final ConcurrentLinkedDeque<Worker> idleWorkers = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger(0);
+    private volatile boolean shutdown;
+
+    private final class Worker implements Runnable {
+        private final AtomicInteger state = new AtomicInteger(ASSIGNED);
+        private Runnable task;
+        private Thread thread;
+
+        Worker(Runnable firstTask) {
+            this.task = firstTask;
+        }
+
+        /** Hands a task to this worker if it is idle. */
+        boolean offer(Runnable newTask) {
+            if (state.compareAndSet(IDLE, ASSIGNED)) {
+                idleCount.decrementAndGet();
+                synchronized (this) {
+                    task = newTask;
+                    notify();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        void retire() {
+            if (state.compareAndSet(IDLE, RETIRED)) {
+                idleCount.decrementAndGet();
+                synchronized (this) {
+                    notify();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            Runnable current = takeTask();
+            while (current != null) {
+                try {
+                    runTask(current);
+                } catch (Throwable t) {
+                    // the context is going away; let this worker die like an ordinary thread
+                    PythonContext.releaseSentinelLock(context.finishPooledThreadTask());
+                    throw t;
+                }
+                WeakReference<PLock> sentinelLock = context.finishPooledThreadTask();
+                if (shutdown) {
+                    PythonContext.releaseSentinelLock(sentinelLock);
+                    return;
+                }
+                state.set(IDLE);
+                idleCount.incrementAndGet();
+                idleWorkers.addFirst(this);
+                // only now let joiners continue, so that a thread they start can reuse this worker
+                PythonContext.releaseSentinelLock(sentinelLock);
+                if (shutdown) {
+                    // raced with shutdown(), which may have missed this worker
+                    retire();
+                }
+                current = awaitTask();
+            }
+        }
+
+        private void runTask(Runnable current) {
+            try {
+                current.run();
+            } catch (Exception e) {
+                if (e instanceof TruffleException && (((TruffleException) e).isCancelled() || ((TruffleException) e).isExit())) {
+                    throw e;
+                }
+                // report the exception like an unpooled thread, which dies with it
+                ExceptionUtils.printPythonLikeStackTrace(e);
+                if (PythonOptions.getOption(context, PythonOptions.WithJavaStacktrace)) {
+                    e.printStackTrace(new PrintWriter(context.getStandardErr()));
+                }
+            }
+        }
+
+        private synchronized Runnable takeTask() {
+            Runnable t = task;
+            task = null;
+            return t;
+        }
+
+        private Runnable awaitTask() {
+            long deadline = System.currentTimeMillis() + KEEP_ALIVE_MILLIS;
+            synchronized (this) {
+                while (task == null) {
+                    int s = state.get();
+                    if (s == RETIRED) {
+                        idleWorkers.remove(this);
+                        return null;
+                    }
+                    try {
+                        if (s == IDLE) {
+                            long remaining = deadline - System.currentTimeMillis();
+                            if (remaining <= 0) {
+                                // fails if a task is being assigned concurrently
+                                retire();
+                                continue;
+                            }
+                            wait(remaining);
+                        } else {
+                            // a task was assigned, it is handed over under this monitor
+                            wait();
+                        }
+                    } catch (InterruptedException e) {
+                        retire();
+                    }
+                }
+                return takeTask();
+            }
+        }
+    }
+
+    PythonThreadPool(PythonContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Runs {@code task} on an idle worker or on a newly created one.
+     *
+     * @return the Java thread id of the worker that runs the task
+     */
+    @TruffleBoundary
+    public long execute(Runnable task) {
+        Worker worker;
+        while ((worker = idleWorkers.pollFirst()) != null) {
+            if (worker.offer(task)) {
+                return worker.thread.getId();
+            }
+        }
+        worker = new Worker(task);
+        Env env = context.getEnv();
+        Thread thread = env.createThread(worker, env.getContext(), context.getThreadGroup());
+        worker.thread = thread;
+        thread.start();
+        return thread.getId();
+    }
+
+    /** The number of workers currently waiting for a task. */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Retires all idle workers and lets busy workers exit after their current task, so that the
+     * context can join them.
+     */
+    @TruffleBoundary
+    public void shutdown() {
+        shutdown = true;
+        for (Worker worker : idleWorkers) {
+            worker.retire();
+        }
+    }
+}
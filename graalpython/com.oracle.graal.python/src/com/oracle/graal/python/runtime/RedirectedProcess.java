@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+
+/**
+ * A child process whose standard streams are connected to file descriptors of the parent by pump
+ * threads. Each pump holds a duplicate of the parent's file descriptor for as long as it runs, just
+ * like a forked child would, so it uses the descriptor's current offset and mode and is not
+ * affected if the parent closes its descriptor. Waiting for the process also waits for the output
+ * pumps, so all output has reached its destination once the process is reported as terminated. The
+ * stdin pump is not waited for, since its source may never reach the end of the stream.
+ */
+public final class RedirectedProcess extends Process {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Process process;
+    private final PosixResources resources;
+    private final List<Thread> outputPumps = new ArrayList<>(2);
+
+    public RedirectedProcess(Process process, PosixResources resources) {
+        this.process = process;
+        this.resources = resources;
+    }
+
+    /**
+     * Copies everything readable from {@code fd} to the child's stdin and closes the child's stdin
+     * at the end of the stream.
+     */
+    public void pumpToStdin(int fd) throws IOException {
+        int dupFd = resources.dup(fd);
+        Channel channel = resources.getFileChannel(dupFd);
+        if (!(channel instanceof ReadableByteChannel)) {
+            resources.close(dupFd);
+            throw new IOException("file descriptor " + fd + " is not readable");
+        }
+        ReadableByteChannel source = (ReadableByteChannel) channel;
+        OutputStream out = process.getOutputStream();
+        startPump(() -> {
+            ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+            try {
+                while (source.read(buf) != -1) {
+                    out.write(buf.array(), 0, buf.position());
+                    buf.clear();
+                }
+            } finally {
+                out.close();
+            }
+        }, dupFd, false);
+    }
+
+    /**
+     * Copies everything the child writes to {@code in} (its stdout or stderr) to {@code fd}.
+     */
+    public void pumpFrom(InputStream in, int fd) throws IOException {
+        int dupFd = resources.dup(fd);
+        Channel channel = resources.getFileChannel(dupFd);
+        if (!(channel instanceof WritableByteChannel)) {
+            resources.close(dupFd);
+            throw new IOException("file descriptor " + fd + " is not writable");
+        }
+        WritableByteChannel target = (WritableByteChannel) channel;
+        startPump(() -> {
+            byte[] buf = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                ByteBuffer src = ByteBuffer.wrap(buf, 0, n);
+                while (src.hasRemaining()) {
+                    target.write(src);
+                }
+            }
+        }, dupFd, true);
+    }
+
+    private interface Pump {
+        void run() throws IOException;
+    }
+
+    private void startPump(Pump pump, int dupFd, boolean awaited) {
+        Thread thread = new Thread(() -> {
+            try {
+                pump.run();
+            } catch (IOException e) {
+                PythonLanguage.getLogger().fine(() -> "subprocess pipe transfer terminated: " + e.getMessage());
+            } finally {
+                resources.close(dupFd);
+            }
+        }, "python-subprocess-pipe");
+        thread.setDaemon(true);
+        thread.start();
+        if (awaited) {
+            outputPumps.add(thread);
+        }
+    }
+
+    private boolean pumpsAlive() {
+        for (Thread pump : outputPumps) {
+            if (pump.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+        int exitValue = process.waitFor();
+        for (Thread pump : outputPumps) {
+            pump.join();
+        }
+        return exitValue;
+    }
+
+    @Override
+    public int exitValue() {
+        int exitValue = process.exitValue();
+        if (pumpsAlive()) {
+            throw new IllegalThreadStateException();
+        }
+        return exitValue;
+    }
+
+    @Override
+    public boolean isAlive() {
+        return process.isAlive() || pumpsAlive();
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return process.getOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return process.getInputStream();
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return process.getErrorStream();
+    }
+
+    @Override
+    public void destroy() {
+        process.destroy();
+    }
+
+    @Override
+    public Process destroyForcibly() {
+        process.destroyForcibly();
+        return this;
+    }
+}
@@ -29,11 +29,14 @@ import java.io.ByteArrayOutputStream;
 import java.lang.ref.ReferenceQueue;
 import java.math.BigInteger;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.CodingErrorAction;
 import java.nio.file.DirectoryStream;
+import java.security.MessageDigest;
 import java.util.Map;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.objects.array.ArrayFormat;
 import com.oracle.graal.python.builtins.objects.array.PArray;
 import com.oracle.graal.python.builtins.objects.bytes.PByteArray;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
@@ -43,6 +46,7 @@ import com.oracle.graal.python.builtins.objects.cext.PythonNativeClass;
 import com.oracle.graal.python.builtins.objects.cext.PythonNativeObject;
 import com.oracle.graal.python.builtins.objects.cext.PythonNativeVoidPtr;
 import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.builtins.objects.codecs.PIncrementalDecoder;
 import com.oracle.graal.python.builtins.objects.common.DynamicObjectStorage.FastDictStorage;
 import com.oracle.graal.python.builtins.objects.common.DynamicObjectStorage.PythonObjectDictStorage;
 import com.oracle.graal.python.builtins.objects.common.HashMapStorage;
@@ -50,6 +54,7 @@ import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.LocalsStorage;
 import com.oracle.graal.python.builtins.objects.common.PHashingCollection;
 import com.oracle.graal.python.builtins.objects.complex.PComplex;
+import com.oracle.graal.python.builtins.objects.csv.PCsvParser;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.dict.PDictView;
 import com.oracle.graal.python.builtins.objects.dict.PDictView.PDictItemsView;
@@ -63,17 +68,22 @@ import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
 import com.oracle.graal.python.builtins.objects.function.PFunction;
 import com.oracle.graal.python.builtins.objects.function.PGeneratorFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.functools.PLruCacheWrapper;
+import com.oracle.graal.python.builtins.objects.functools.PPartial;
 import com.oracle.graal.python.builtins.objects.function.Signature;
 import com.oracle.graal.python.builtins.objects.generator.PGenerator;
 import com.oracle.graal.python.builtins.objects.getsetdescriptor.GetSetDescriptor;
 import com.oracle.graal.python.builtins.objects.getsetdescriptor.HiddenKeyDescriptor;
+import com.oracle.graal.python.builtins.objects.hashlib.PHashObject;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.iterator.PArrayIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PBaseSetIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PBigRangeIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PDoubleSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PForeignArrayIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PIntegerIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PIntegerSequenceIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PLongRangeIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PLongSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PRangeIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PRangeIterator.PRangeReverseIterator;
@@ -96,6 +106,7 @@ import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.posix.PDirEntry;
 import com.oracle.graal.python.builtins.objects.posix.PScandirIterator;
 import com.oracle.graal.python.builtins.objects.random.PRandom;
+import com.oracle.graal.python.builtins.objects.range.PBigRange;
 import com.oracle.graal.python.builtins.objects.range.PRange;
 import com.oracle.graal.python.builtins.objects.referencetype.PReferenceType;
 import com.oracle.graal.python.builtins.objects.reversed.PSequenceReverseIterator;
@@ -105,6 +116,10 @@ import com.oracle.graal.python.builtins.objects.set.PFrozenSet;
 import com.oracle.graal.python.builtins.objects.set.PSet;
 import com.oracle.graal.python.builtins.objects.slice.PSlice;
 import com.oracle.graal.python.builtins.objects.socket.PSocket;
+import com.oracle.graal.python.builtins.objects.sre.PSREMatch;
+import com.oracle.graal.python.builtins.objects.sre.PSREPattern;
+import com.oracle.graal.python.builtins.objects.sre.PSREScanner;
+import com.oracle.graal.python.builtins.objects.sre.SREState;
 import com.oracle.graal.python.builtins.objects.str.PString;
 import com.oracle.graal.python.builtins.objects.superobject.SuperObject;
 import com.oracle.graal.python.builtins.objects.thread.PLock;
@@ -122,8 +137,6 @@ import com.oracle.graal.python.nodes.literal.ListLiteralNode;
 import com.oracle.graal.python.parser.ExecutionCellSlots;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
-import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
-import com.oracle.graal.python.runtime.sequence.storage.CharSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
@@ -325,6 +338,10 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PRange(PythonBuiltinClassType.PRange, start, stop, step));
     }
 
+    public PBigRange createBigRange(BigInteger start, BigInteger stop, BigInteger step) {
+        return trace(new PBigRange(PythonBuiltinClassType.PRange, start, stop, step));
+    }
+
     public PSlice createSlice(int start, int stop, int step) {
         return trace(new PSlice(PythonBuiltinClassType.PSlice, start, stop, step));
     }
@@ -333,6 +350,43 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PRandom(cls));
     }
 
+    public PIncrementalDecoder createIncrementalDecoder(LazyPythonClass cls, int codec, String errors, CodingErrorAction errorAction) {
+        return trace(new PIncrementalDecoder(cls, codec, errors, errorAction));
+    }
+
+    public PCsvParser createCsvParser(LazyPythonClass cls, int delimiter, int quotechar, int escapechar, boolean doublequote, boolean skipinitialspace, boolean strict) {
+        return trace(new PCsvParser(cls, delimiter, quotechar, escapechar, doublequote, skipinitialspace, strict));
+    }
+
+    public PPartial createPartial(LazyPythonClass cls, Object function, Object[] args, PDict keywords) {
+        return trace(new PPartial(cls, function, args, keywords));
+    }
+
+    public PLruCacheWrapper createLruCacheWrapper(LazyPythonClass cls, Object function, int maxSize, boolean typed, Object cacheInfoType, Object keywordMark, PDict cache) {
+        return trace(new PLruCacheWrapper(cls, function, maxSize, typed, cacheInfoType, keywordMark, cache));
+    }
+
+    public PHashObject createHashObject(LazyPythonClass cls, String name, int blockSize, MessageDigest digest) {
+        return trace(new PHashObject(cls, name, blockSize, digest));
+    }
+
+    public PSREPattern createSREPattern(Object pattern, int flags, int[] code, int groups, PDict groupindex, Object[] indexgroup, int isBytes) {
+        return trace(new PSREPattern(PythonBuiltinClassType.PSREPattern, pattern, flags, code, groups, groupindex, indexgroup, isBytes));
+    }
+
+    public PSREPattern createSREPattern(Object pattern, int flags, int groups, PDict groupindex, Object[] indexgroup, boolean isBytes, Object tregexEngine, String tregexSource, String tregexFlags,
+                    Object searchRegex, Object sreCompiler) {
+        return trace(new PSREPattern(PythonBuiltinClassType.PSREPattern, pattern, flags, groups, groupindex, indexgroup, isBytes, tregexEngine, tregexSource, tregexFlags, searchRegex, sreCompiler));
+    }
+
+    public PSREMatch createSREMatch(PSREPattern pattern, Object string, SREState state) {
+        return trace(new PSREMatch(PythonBuiltinClassType.PSREMatch, pattern, string, state));
+    }
+
+    public PSREScanner createSREScanner(PSREPattern pattern, Object string, SREState state) {
+        return trace(new PSREScanner(PythonBuiltinClassType.PSREScanner, pattern, string, state));
+    }
+
     /*
      * Classes, methods and functions
      */
@@ -608,28 +662,8 @@ public abstract class PythonObjectFactory extends Node {
      * Arrays
      */
 
-    public PArray createArray(LazyPythonClass cls, byte[] array) {
-        return trace(new PArray(cls, new ByteSequenceStorage(array)));
-    }
-
-    public PArray createArray(LazyPythonClass cls, int[] array) {
-        return trace(new PArray(cls, new IntSequenceStorage(array)));
-    }
-
-    public PArray createArray(LazyPythonClass cls, double[] array) {
-        return trace(new PArray(cls, new DoubleSequenceStorage(array)));
-    }
-
-    public PArray createArray(LazyPythonClass cls, char[] array) {
-        return trace(new PArray(cls, new CharSequenceStorage(array)));
-    }
-
-    public PArray createArray(LazyPythonClass cls, long[] array) {
-        return trace(new PArray(cls, new LongSequenceStorage(array)));
-    }
-
-    public PArray createArray(LazyPythonClass cls, SequenceStorage store) {
-        return trace(new PArray(cls, store));
+    public PArray createArray(LazyPythonClass cls, ArrayFormat format, SequenceStorage store) {
+        return trace(new PArray(cls, format, store));
     }
 
     public PByteArray createByteArray(LazyPythonClass cls, byte[] array) {
@@ -644,28 +678,8 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PByteArray(cls, storage));
     }
 
-    public PArray createArray(byte[] array) {
-        return trace(new PArray(PythonBuiltinClassType.PArray, new ByteSequenceStorage(array)));
-    }
-
-    public PArray createArray(int[] array) {
-        return trace(new PArray(PythonBuiltinClassType.PArray, new IntSequenceStorage(array)));
-    }
-
-    public PArray createArray(double[] array) {
-        return trace(new PArray(PythonBuiltinClassType.PArray, new DoubleSequenceStorage(array)));
-    }
-
-    public PArray createArray(char[] array) {
-        return trace(new PArray(PythonBuiltinClassType.PArray, new CharSequenceStorage(array)));
-    }
-
-    public PArray createArray(long[] array) {
-        return trace(new PArray(PythonBuiltinClassType.PArray, new LongSequenceStorage(array)));
-    }
-
-    public PArray createArray(SequenceStorage store) {
-        return trace(new PArray(PythonBuiltinClassType.PArray, store));
+    public PArray createArray(ArrayFormat format, SequenceStorage store) {
+        return trace(new PArray(PythonBuiltinClassType.PArray, format, store));
     }
 
     public PByteArray createByteArray(byte[] array) {
@@ -714,6 +728,14 @@ public abstract class PythonObjectFactory extends Node {
         return trace(object);
     }
 
+    public PLongRangeIterator createLongRangeIterator(long start, long step, long length) {
+        return trace(new PLongRangeIterator(PythonBuiltinClassType.PIterator, start, step, length));
+    }
+
+    public PBigRangeIterator createBigRangeIterator(BigInteger start, BigInteger step, BigInteger length) {
+        return trace(new PBigRangeIterator(PythonBuiltinClassType.PIterator, start, step, length));
+    }
+
     public PArrayIterator createArrayIterator(PArray array) {
         return trace(new PArrayIterator(PythonBuiltinClassType.PArrayIterator, array));
     }
@@ -33,8 +33,10 @@ public abstract class SequenceStorage {
         Boolean,
         Byte,
         Char,
+        Short,
         Int,
         Long,
+        Float,
         Double,
         List,
         Tuple,
@@ -48,14 +50,17 @@ public abstract class SequenceStorage {
                 case Boolean:
                 case Byte:
                 case Char:
-                case Double:
+                case Short:
+                case Float:
                 case List:
                 case Tuple:
                     return other == Uninitialized || other == Empty;
                 case Int:
-                    return other == Uninitialized || other == Empty || other == Byte;
+                    return other == Uninitialized || other == Empty || other == Byte || other == Short;
                 case Long:
-                    return other == Uninitialized || other == Empty || other == Byte || other == Int;
+                    return other == Uninitialized || other == Empty || other == Byte || other == Short || other == Int;
+                case Double:
+                    return other == Uninitialized || other == Empty || other == Float;
                 default:
                     return true;
             }
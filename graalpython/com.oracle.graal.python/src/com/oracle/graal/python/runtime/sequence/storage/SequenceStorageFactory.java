@@ -27,6 +27,7 @@ package com.oracle.graal.python.runtime.sequence.storage;
 
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.ListStorageType;
 
 public abstract class SequenceStorageFactory {
 
@@ -58,6 +59,30 @@ public abstract class SequenceStorageFactory {
         }
     }
 
+    /**
+     * Creates an empty storage of the given primitive element type. This is the only way the
+     * compact {@link ShortSequenceStorage} and {@link FloatSequenceStorage} are created; they are
+     * never inferred from values.
+     */
+    public static BasicSequenceStorage createStorage(ListStorageType type, int capacity) {
+        switch (type) {
+            case Byte:
+                return new ByteSequenceStorage(capacity);
+            case Short:
+                return new ShortSequenceStorage(capacity);
+            case Int:
+                return new IntSequenceStorage(capacity);
+            case Long:
+                return new LongSequenceStorage(capacity);
+            case Float:
+                return new FloatSequenceStorage(capacity);
+            case Double:
+                return new DoubleSequenceStorage(capacity);
+            default:
+                throw new IllegalArgumentException("not a primitive storage type: " + type);
+        }
+    }
+
     public static boolean canSpecializeToInt(Object[] values) {
         for (Object item : values) {
             if (!(item instanceof Integer)) {
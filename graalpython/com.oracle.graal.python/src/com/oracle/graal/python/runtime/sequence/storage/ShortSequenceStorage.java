@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime.sequence.storage;
+
+import java.util.Arrays;
+
+/**
+ * A compact storage for 16-bit integers. It is never chosen automatically for lists; it is only
+ * created explicitly, e.g. for arrays with typecode {@code 'h'}. Values that do not fit into a
+ * {@code short} generalize the storage to {@link IntSequenceStorage} or
+ * {@link LongSequenceStorage}.
+ */
+public final class ShortSequenceStorage extends TypedSequenceStorage {
+
+    private short[] values;
+
+    public ShortSequenceStorage() {
+        values = new short[]{};
+    }
+
+    public ShortSequenceStorage(short[] elements) {
+        this.values = elements;
+        this.capacity = values.length;
+        this.length = elements.length;
+    }
+
+    public ShortSequenceStorage(short[] elements, int length) {
+        this.values = elements;
+        this.capacity = values.length;
+        this.length = length;
+    }
+
+    public ShortSequenceStorage(int capacity) {
+        this.values = new short[capacity];
+        this.capacity = capacity;
+        this.length = 0;
+    }
+
+    @Override
+    protected void increaseCapacityExactWithCopy(int newCapacity) {
+        values = Arrays.copyOf(values, newCapacity);
+        capacity = values.length;
+    }
+
+    @Override
+    protected void increaseCapacityExact(int newCapacity) {
+        values = new short[newCapacity];
+        capacity = values.length;
+    }
+
+    @Override
+    public SequenceStorage copy() {
+        return new ShortSequenceStorage(Arrays.copyOf(values, length));
+    }
+
+    @Override
+    public SequenceStorage createEmpty(int newCapacity) {
+        return new ShortSequenceStorage(newCapacity);
+    }
+
+    @Override
+    public Object[] getInternalArray() {
+        /**
+         * Have to box and copy.
+         */
+        Object[] boxed = new Object[length];
+
+        for (int i = 0; i < length; i++) {
+            boxed[i] = (int) values[i];
+        }
+
+        return boxed;
+    }
+
+    public short[] getInternalShortArray() {
+        return values;
+    }
+
+    @Override
+    public Object getItemNormalized(int idx) {
+        return getIntItemNormalized(idx);
+    }
+
+    public short getShortItemNormalized(int idx) {
+        return values[idx];
+    }
+
+    public int getIntItemNormalized(int idx) {
+        return values[idx];
+    }
+
+    @Override
+    public void setItemNormalized(int idx, Object value) throws SequenceStoreException {
+        if (value instanceof Integer && fits((int) value)) {
+            setShortItemNormalized(idx, (short) (int) value);
+        } else {
+            throw new SequenceStoreException(value);
+        }
+    }
+
+    public void setShortItemNormalized(int idx, short value) {
+        values[idx] = value;
+    }
+
+    @Override
+    public void insertItem(int idx, Object value) throws SequenceStoreException {
+        if (value instanceof Integer && fits((int) value)) {
+            insertShortItem(idx, (short) (int) value);
+        } else {
+            throw new SequenceStoreException(value);
+        }
+    }
+
+    public void insertShortItem(int idx, short value) {
+        ensureCapacity(length + 1);
+
+        // shifting tail to the right by one slot
+        for (int i = values.length - 1; i > idx; i--) {
+            values[i] = values[i - 1];
+        }
+
+        values[idx] = value;
+        length++;
+    }
+
+    @Override
+    public void copyItem(int idxTo, int idxFrom) {
+        values[idxTo] = values[idxFrom];
+    }
+
+    @Override
+    public ShortSequenceStorage getSliceInBound(int start, int stop, int step, int sliceLength) {
+        short[] newArray = new short[sliceLength];
+
+        if (step == 1) {
+            System.arraycopy(values, start, newArray, 0, sliceLength);
+            return new ShortSequenceStorage(newArray);
+        }
+
+        for (int i = start, j = 0; j < sliceLength; i += step, j++) {
+            newArray[j] = values[i];
+        }
+
+        return new ShortSequenceStorage(newArray);
+    }
+
+    public int indexOfInt(int value) {
+        if (!fits(value)) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public void appendShort(short value) {
+        ensureCapacity(length + 1);
+        values[length] = value;
+        length++;
+    }
+
+    @Override
+    public void reverse() {
+        if (length > 0) {
+            int head = 0;
+            int tail = length - 1;
+            int middle = (length - 1) / 2;
+
+            for (; head <= middle; head++, tail--) {
+                short temp = values[head];
+                values[head] = values[tail];
+                values[tail] = temp;
+            }
+        }
+    }
+
+    @Override
+    public SequenceStorage generalizeFor(Object value, SequenceStorage other) {
+        if (value instanceof Integer) {
+            int[] widened = new int[length];
+            for (int i = 0; i < length; i++) {
+                widened[i] = values[i];
+            }
+            return new IntSequenceStorage(widened);
+        } else if (value instanceof Long) {
+            long[] widened = new long[length];
+            for (int i = 0; i < length; i++) {
+                widened[i] = values[i];
+            }
+            return new LongSequenceStorage(widened);
+        }
+        return super.generalizeFor(value, other);
+    }
+
+    @Override
+    public Object getIndicativeValue() {
+        return 0;
+    }
+
+    @Override
+    public boolean equals(SequenceStorage other) {
+        if (other.length() != length() || !(other instanceof ShortSequenceStorage)) {
+            return false;
+        }
+
+        short[] otherArray = ((ShortSequenceStorage) other).getInternalShortArray();
+        for (int i = 0; i < length(); i++) {
+            if (values[i] != otherArray[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public Object getInternalArrayObject() {
+        return values;
+    }
+
+    @Override
+    public Object getCopyOfInternalArrayObject() {
+        return Arrays.copyOf(values, length);
+    }
+
+    @Override
+    public void setInternalArrayObject(Object arrayObject) {
+        this.values = (short[]) arrayObject;
+    }
+
+    @Override
+    public ListStorageType getElementType() {
+        return ListStorageType.Short;
+    }
+
+    public static boolean fits(int value) {
+        return value == (short) value;
+    }
+}
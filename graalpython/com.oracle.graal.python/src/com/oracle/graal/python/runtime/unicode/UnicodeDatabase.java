@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime.unicode;
+
+import java.util.Locale;
+
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Java implementation of the Unicode character database used by the {@code unicodedata} module.
+ * The character properties are stored in a two-stage table indexing a list of unique records, the
+ * names in the compressed lexicon and phrasebook format of CPython's {@code makeunicodedata.py}.
+ * Both are generated by {@code scripts/make_unicodedata_tables.py}.
+ */
+public final class UnicodeDatabase {
+
+    public static final String UNIDATA_VERSION = UnicodeDatabaseTables.UNIDATA_VERSION;
+
+    private static final int MAX_CODE_POINT = 0x10FFFF;
+
+    // field offsets in a record
+    private static final int CATEGORY = 0;
+    private static final int COMBINING = 1;
+    private static final int BIDIRECTIONAL = 2;
+    private static final int MIRRORED = 3;
+    private static final int EAST_ASIAN_WIDTH = 4;
+    private static final int DECIMAL = 5;
+    private static final int DIGIT = 6;
+    private static final int NUMERIC = 7;
+    private static final int NO_VALUE = 0xFF;
+
+    @CompilationFinal(dimensions = 1) private static final String[] CATEGORY_NAMES = UnicodeDatabaseTables.CATEGORY_NAMES;
+    @CompilationFinal(dimensions = 1) private static final String[] BIDIRECTIONAL_NAMES = UnicodeDatabaseTables.BIDIRECTIONAL_NAMES;
+    @CompilationFinal(dimensions = 1) private static final String[] EAST_ASIAN_WIDTH_NAMES = UnicodeDatabaseTables.EAST_ASIAN_WIDTH_NAMES;
+    @CompilationFinal(dimensions = 1) private static final double[] NUMERIC_VALUES = UnicodeDatabaseTables.NUMERIC_VALUES;
+    @CompilationFinal(dimensions = 1) private static final byte[] RECORDS = decode(UnicodeDatabaseTables.RECORDS);
+    @CompilationFinal(dimensions = 1) private static final byte[] INDEX1 = decode(UnicodeDatabaseTables.INDEX1);
+    @CompilationFinal(dimensions = 1) private static final byte[] INDEX2 = decode(UnicodeDatabaseTables.INDEX2);
+
+    // Hangul syllables
+    private static final int S_BASE = 0xAC00;
+    private static final int L_COUNT = 19;
+    private static final int V_COUNT = 21;
+    private static final int T_COUNT = 28;
+    private static final int N_COUNT = V_COUNT * T_COUNT;
+    private static final int S_COUNT = L_COUNT * N_COUNT;
+    private static final String HANGUL_SYLLABLE = "HANGUL SYLLABLE ";
+    private static final String[] HANGUL_L = {"G", "GG", "N", "D", "DD", "R", "M", "B", "BB", "S", "SS", "", "J", "JJ", "C", "K", "T", "P", "H"};
+    private static final String[] HANGUL_V = {"A", "AE", "YA", "YAE", "EO", "E", "YEO", "YE", "O", "WA", "WAE", "OE", "YO", "U", "WEO", "WE", "WI", "YU", "EU", "YI", "I"};
+    private static final String[] HANGUL_T = {"", "G", "GG", "GS", "N", "NJ", "NH", "D", "L", "LG", "LM", "LB", "LS", "LT", "LP", "LH", "M", "B", "BS", "S", "SS", "NG", "J", "C", "K", "T",
+                    "P", "H"};
+
+    private static final String CJK_UNIFIED_IDEOGRAPH = "CJK UNIFIED IDEOGRAPH-";
+
+    private UnicodeDatabase() {
+    }
+
+    /**
+     * The name tables are only decoded when names are used for the first time.
+     */
+    private static final class Names {
+        private static final byte[] LEXICON = decode(UnicodeNameTables.LEXICON);
+        private static final byte[] LEXICON_OFFSET = decode(UnicodeNameTables.LEXICON_OFFSET);
+        private static final byte[] PHRASEBOOK = decode(UnicodeNameTables.PHRASEBOOK);
+        private static final byte[] PHRASEBOOK_OFFSET1 = decode(UnicodeNameTables.PHRASEBOOK_OFFSET1);
+        private static final byte[] PHRASEBOOK_OFFSET2 = decode(UnicodeNameTables.PHRASEBOOK_OFFSET2);
+        private static final byte[] CODE_HASH = decode(UnicodeNameTables.CODE_HASH);
+        private static final byte[] NAME_ALIASES = decode(UnicodeNameTables.NAME_ALIASES);
+        private static final byte[] NAMED_SEQUENCES = decode(UnicodeNameTables.NAMED_SEQUENCES);
+
+        private static final int ALIASES_START = UnicodeNameTables.ALIASES_START;
+        private static final int ALIASES_END = ALIASES_START + NAME_ALIASES.length / UnicodeNameTables.NAME_ALIASES_WIDTH;
+        private static final int NAMED_SEQUENCES_START = UnicodeNameTables.NAMED_SEQUENCES_START;
+        private static final int NAMED_SEQUENCES_END = NAMED_SEQUENCES_START +
+                        NAMED_SEQUENCES.length / (UnicodeNameTables.NAMED_SEQUENCES_WIDTH * UnicodeNameTables.NAMED_SEQUENCE_SIZE);
+    }
+
+    private static byte[] decode(String[] chunks) {
+        int length = 0;
+        for (String chunk : chunks) {
+            length += chunk.length();
+        }
+        byte[] result = new byte[length];
+        int i = 0;
+        for (String chunk : chunks) {
+            for (int j = 0; j < chunk.length(); j++) {
+                result[i++] = (byte) chunk.charAt(j);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the little endian entry {@code index} of a table with entries of {@code width} bytes.
+     */
+    private static int get(byte[] table, int width, int index) {
+        int offset = index * width;
+        int value = 0;
+        for (int i = width - 1; i >= 0; i--) {
+            value = (value << 8) | (table[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static int getField(int codePoint, int field) {
+        int index = 0;
+        if (codePoint >= 0 && codePoint <= MAX_CODE_POINT) {
+            int shift = UnicodeDatabaseTables.SHIFT;
+            int block = get(INDEX1, UnicodeDatabaseTables.INDEX1_WIDTH, codePoint >> shift);
+            index = get(INDEX2, UnicodeDatabaseTables.INDEX2_WIDTH, (block << shift) + (codePoint & ((1 << shift) - 1)));
+        }
+        return RECORDS[index * UnicodeDatabaseTables.RECORD_SIZE + field] & 0xFF;
+    }
+
+    public static String category(int codePoint) {
+        return CATEGORY_NAMES[getField(codePoint, CATEGORY)];
+    }
+
+    public static String bidirectional(int codePoint) {
+        return BIDIRECTIONAL_NAMES[getField(codePoint, BIDIRECTIONAL)];
+    }
+
+    public static int combining(int codePoint) {
+        return getField(codePoint, COMBINING);
+    }
+
+    public static int mirrored(int codePoint) {
+        return getField(codePoint, MIRRORED);
+    }
+
+    public static String eastAsianWidth(int codePoint) {
+        return EAST_ASIAN_WIDTH_NAMES[getField(codePoint, EAST_ASIAN_WIDTH)];
+    }
+
+    /**
+     * Returns the decimal value of the character or {@code -1} if it has none.
+     */
+    public static int decimal(int codePoint) {
+        int value = getField(codePoint, DECIMAL);
+        return value == NO_VALUE ? -1 : value;
+    }
+
+    /**
+     * Returns the digit value of the character or {@code -1} if it has none.
+     */
+    public static int digit(int codePoint) {
+        int value = getField(codePoint, DIGIT);
+        return value == NO_VALUE ? -1 : value;
+    }
+
+    /**
+     * Returns the numeric value of the character or {@code -1.0} if it has none.
+     */
+    public static double numeric(int codePoint) {
+        int index = getField(codePoint, NUMERIC);
+        return index == NO_VALUE ? -1.0 : NUMERIC_VALUES[index];
+    }
+
+    private static boolean isUnifiedIdeograph(int code) {
+        return (0x3400 <= code && code <= 0x4DB5) ||   // CJK Ideograph Extension A
+                        (0x4E00 <= code && code <= 0x9FEF) ||   // CJK Ideograph
+                        (0x20000 <= code && code <= 0x2A6D6) || // CJK Ideograph Extension B
+                        (0x2A700 <= code && code <= 0x2B734) || // CJK Ideograph Extension C
+                        (0x2B740 <= code && code <= 0x2B81D) || // CJK Ideograph Extension D
+                        (0x2B820 <= code && code <= 0x2CEA1) || // CJK Ideograph Extension E
+                        (0x2CEB0 <= code && code <= 0x2EBEF);   // CJK Ideograph Extension F
+    }
+
+    private static boolean isAlias(int code) {
+        return Names.ALIASES_START <= code && code < Names.ALIASES_END;
+    }
+
+    private static boolean isNamedSequence(int code) {
+        return Names.NAMED_SEQUENCES_START <= code && code < Names.NAMED_SEQUENCES_END;
+    }
+
+    /**
+     * Returns the name of the character or {@code null} if it has none.
+     */
+    @TruffleBoundary
+    public static String name(int codePoint) {
+        return getName(codePoint, false);
+    }
+
+    /**
+     * Looks up a character by its name, which may also be an alias or the name of a named
+     * sequence. Returns {@code null} if there is no such character.
+     */
+    @TruffleBoundary
+    public static String lookup(String name) {
+        int code = getCode(name);
+        if (code < 0) {
+            return null;
+        }
+        if (isNamedSequence(code)) {
+            int width = UnicodeNameTables.NAMED_SEQUENCES_WIDTH;
+            int index = (code - Names.NAMED_SEQUENCES_START) * UnicodeNameTables.NAMED_SEQUENCE_SIZE;
+            int length = get(Names.NAMED_SEQUENCES, width, index);
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) get(Names.NAMED_SEQUENCES, width, index + 1 + i);
+            }
+            return new String(chars);
+        }
+        return new String(Character.toChars(code));
+    }
+
+    /**
+     * Finds the name of a code point. The names of aliases and named sequences are stored at code
+     * points in the Private Use Area 15, they are only considered if {@code withAliasAndSeq} is set.
+     */
+    private static String getName(int code, boolean withAliasAndSeq) {
+        if (code < 0 || code > MAX_CODE_POINT) {
+            return null;
+        }
+        if (!withAliasAndSeq && (isAlias(code) || isNamedSequence(code))) {
+            return null;
+        }
+        if (S_BASE <= code && code < S_BASE + S_COUNT) {
+            int index = code - S_BASE;
+            return HANGUL_SYLLABLE + HANGUL_L[index / N_COUNT] + HANGUL_V[(index % N_COUNT) / T_COUNT] + HANGUL_T[index % T_COUNT];
+        }
+        if (isUnifiedIdeograph(code)) {
+            return CJK_UNIFIED_IDEOGRAPH + Integer.toHexString(code).toUpperCase(Locale.ROOT);
+        }
+
+        int shift = UnicodeNameTables.PHRASEBOOK_SHIFT;
+        int offset = get(Names.PHRASEBOOK_OFFSET1, UnicodeNameTables.PHRASEBOOK_OFFSET1_WIDTH, code >> shift);
+        offset = get(Names.PHRASEBOOK_OFFSET2, UnicodeNameTables.PHRASEBOOK_OFFSET2_WIDTH, (offset << shift) + (code & ((1 << shift) - 1)));
+        if (offset == 0) {
+            return null;
+        }
+
+        byte[] phrasebook = Names.PHRASEBOOK;
+        byte[] lexicon = Names.LEXICON;
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            // get word index
+            int word = (phrasebook[offset] & 0xFF) - UnicodeNameTables.PHRASEBOOK_SHORT;
+            if (word >= 0) {
+                word = (word << 8) + (phrasebook[offset + 1] & 0xFF);
+                offset += 2;
+            } else {
+                word = phrasebook[offset++] & 0xFF;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            // copy the word from the lexicon; the last character of a word has bit 7 set and
+            // the last word of a name ends with 0x80
+            int w = get(Names.LEXICON_OFFSET, UnicodeNameTables.LEXICON_OFFSET_WIDTH, word);
+            while ((lexicon[w] & 0xFF) < 0x80) {
+                sb.append((char) lexicon[w++]);
+            }
+            int last = lexicon[w] & 0xFF;
+            if (last == 0x80) {
+                return sb.toString();
+            }
+            sb.append((char) (last & 0x7F));
+        }
+    }
+
+    private static boolean nameEquals(int code, String name) {
+        String actual = getName(code, true);
+        if (actual == null || actual.length() != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (toUpper(name.charAt(i)) != actual.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toUpper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    /**
+     * Finds the longest Hangul jamo name in {@code names} that {@code name} has at
+     * {@code position}, or returns {@code -1}.
+     */
+    private static int findSyllable(String name, int position, String[] names) {
+        int result = -1;
+        int length = -1;
+        for (int i = 0; i < names.length; i++) {
+            String jamo = names[i];
+            if (jamo.length() > length && name.startsWith(jamo, position)) {
+                length = jamo.length();
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the code point with the given name, or {@code -1}. Aliases are resolved; for named
+     * sequences, the code point in the Private Use Area where the sequence is stored is returned.
+     */
+    private static int getCode(String name) {
+        if (name.startsWith(HANGUL_SYLLABLE)) {
+            int pos = HANGUL_SYLLABLE.length();
+            int l = findSyllable(name, pos, HANGUL_L);
+            pos += l < 0 ? 0 : HANGUL_L[l].length();
+            int v = findSyllable(name, pos, HANGUL_V);
+            pos += v < 0 ? 0 : HANGUL_V[v].length();
+            int t = findSyllable(name, pos, HANGUL_T);
+            pos += t < 0 ? 0 : HANGUL_T[t].length();
+            if (l >= 0 && v >= 0 && t >= 0 && pos == name.length()) {
+                return S_BASE + (l * V_COUNT + v) * T_COUNT + t;
+            }
+            return -1;
+        }
+        if (name.startsWith(CJK_UNIFIED_IDEOGRAPH)) {
+            // four or five upper case hex digits must follow
+            int length = name.length() - CJK_UNIFIED_IDEOGRAPH.length();
+            if (length != 4 && length != 5) {
+                return -1;
+            }
+            int code = 0;
+            for (int i = CJK_UNIFIED_IDEOGRAPH.length(); i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    code = code * 16 + c - '0';
+                } else if (c >= 'A' && c <= 'F') {
+                    code = code * 16 + c - 'A' + 10;
+                } else {
+                    return -1;
+                }
+            }
+            return isUnifiedIdeograph(code) ? code : -1;
+        }
+
+        // the same open addressing scheme as CPython's _getcode, see makeunicodedata.py
+        int mask = UnicodeNameTables.CODE_SIZE - 1;
+        int h = hash(name);
+        int i = ~h & mask;
+        int incr = (h ^ (h >>> 3)) & mask;
+        if (incr == 0) {
+            incr = mask;
+        }
+        while (true) {
+            int v = get(Names.CODE_HASH, UnicodeNameTables.CODE_HASH_WIDTH, i);
+            if (v == 0) {
+                return -1;
+            }
+            if (nameEquals(v, name)) {
+                return isAlias(v) ? get(Names.NAME_ALIASES, UnicodeNameTables.NAME_ALIASES_WIDTH, v - Names.ALIASES_START) : v;
+            }
+            i = (i + incr) & mask;
+            incr = incr << 1;
+            if (incr > mask) {
+                incr = incr ^ UnicodeNameTables.CODE_POLY;
+            }
+        }
+    }
+
+    private static int hash(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            h = h * UnicodeNameTables.CODE_MAGIC + (toUpper(name.charAt(i)) & 0xFF);
+            int ix = h & 0xff000000;
+            if (ix != 0) {
+                h = (h ^ ((ix >>> 24) & 0xff)) & 0x00ffffff;
+            }
+        }
+        return h;
+    }
+}
@@ -0,0 +1,1738 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime.unicode;
+
+// Generated by scripts/make_unicodedata_tables.py, do not edit.
+// CheckStyle: start generated
+/**
+ * Character properties of the Unicode database, see {@link UnicodeDatabase}.
+ */
+final class UnicodeDatabaseTables {
+
+    static final String UNIDATA_VERSION = "11.0.0";
+
+    static final String[] CATEGORY_NAMES = {"Cn", "Lu", "Ll", "Lt", "Mn", "Mc", "Me", "Nd", "Nl", "No", "Zs", "Zl", "Zp", "Cc", "Cf", "Cs", "Co", "Cn", "Lm", "Lo", "Pc", "Pd", "Ps", "Pe", "Pi", "Pf", "Po", "Sm", "Sc", "Sk", "So"};
+    static final String[] BIDIRECTIONAL_NAMES = {"", "L", "LRE", "LRO", "R", "AL", "RLE", "RLO", "PDF", "EN", "ES", "ET", "AN", "CS", "NSM", "BN", "B", "S", "WS", "ON", "LRI", "RLI", "FSI", "PDI"};
+    static final String[] EAST_ASIAN_WIDTH_NAMES = {"F", "H", "W", "Na", "A", "N"};
+
+    static final double[] NUMERIC_VALUES = {
+                    -0.5, 0.0, 0.00625, 0.025, 0.0375, 0.05, 0.0625, 0.08333333333333333,
+                    0.1, 0.1111111111111111, 0.125, 0.14285714285714285, 0.15, 0.16666666666666666, 0.1875, 0.2,
+                    0.25, 0.3333333333333333, 0.375, 0.4, 0.4166666666666667, 0.5, 0.5833333333333334, 0.6,
+                    0.625, 0.6666666666666666, 0.75, 0.8, 0.8333333333333334, 0.875, 0.9166666666666666, 1.0,
+                    1.5, 2.0, 2.5, 3.0, 3.5, 4.0, 4.5, 5.0,
+                    5.5, 6.0, 6.5, 7.0, 7.5, 8.0, 8.5, 9.0,
+                    10.0, 11.0, 12.0, 13.0, 14.0, 15.0, 16.0, 17.0,
+                    18.0, 19.0, 20.0, 21.0, 22.0, 23.0, 24.0, 25.0,
+                    26.0, 27.0, 28.0, 29.0, 30.0, 31.0, 32.0, 33.0,
+                    34.0, 35.0, 36.0, 37.0, 38.0, 39.0, 40.0, 41.0,
+                    42.0, 43.0, 44.0, 45.0, 46.0, 47.0, 48.0, 49.0,
+                    50.0, 60.0, 70.0, 80.0, 90.0, 100.0, 200.0, 300.0,
+                    400.0, 500.0, 600.0, 700.0, 800.0, 900.0, 1000.0, 2000.0,
+                    3000.0, 4000.0, 5000.0, 6000.0, 7000.0, 8000.0, 9000.0, 10000.0,
+                    20000.0, 30000.0, 40000.0, 50000.0, 60000.0, 70000.0, 80000.0, 90000.0,
+                    100000.0, 200000.0, 216000.0, 300000.0, 400000.0, 432000.0, 500000.0, 600000.0,
+                    700000.0, 800000.0, 900000.0, 1000000.0, 10000000.0, 20000000.0, 100000000.0, 10000000000.0,
+                    1000000000000.0,
+    };
+
+    static final int RECORD_SIZE = 8;
+    static final int RECORDS_WIDTH = 1;
+    static final String[] RECORDS = {
+                    "\015\000\017\000\005\377\377\377\015\000\021\000\005\377\377\377\015\000\020\000\005\377\377\377\015\000\022\000\005\377\377\377\012\000\022\000\003\377\377\377\032\000\023\000\003\377\377\377\032\000\013\000\003\377\377\377\034\000\013\000"
+                                    + "\003\377\377\377\026\000\023\001\003\377\377\377\027\000\023\001\003\377\377\377\033\000\012\000\003\377\377\377\032\000\015\000\003\377\377\377\025\000\012\000\003\377\377\377\007\000\011\000\003\000\000\001\007\000\011\000\003\001\001\037"
+                                    + "\007\000\011\000\003\002\002!\007\000\011\000\003\003\003#\007\000\011\000\003\004\004%\007\000\011\000\003\005\005'\007\000\011\000\003\006\006)\007\000\011\000\003\007\007+\007\000\011\000\003\010\010-\007\000\011\000"
+                                    + "\003\011\011/\033\000\023\001\003\377\377\377\033\000\023\000\003\377\377\377\001\000\001\000\003\377\377\377\035\000\023\000\003\377\377\377\024\000\023\000\003\377\377\377\002\000\001\000\003\377\377\377\012\000\015\000\005\377\377\377"
+                                    + "\032\000\023\000\004\377\377\377\034\000\013\000\004\377\377\377\036\000\023\000\003\377\377\377\035\000\023\000\004\377\377\377\036\000\023\000\005\377\377\377\023\000\001\000\004\377\377\377\030\000\023\001\005\377\377\377\016\000\017\000"
+                                    + "\004\377\377\377\036\000\023\000\004\377\377\377\036\000\013\000\004\377\377\377\033\000\013\000\004\377\377\377\011\000\011\000\004\377\002!\011\000\011\000\004\377\003#\002\000\001\000\005\377\377\377\011\000\011\000\004\377\001\037"
+                                    + "\031\000\023\001\005\377\377\377\011\000\023\000\004\377\377\020\011\000\023\000\004\377\377\025\011\000\023\000\004\377\377\032\001\000\001\000\005\377\377\377\001\000\001\000\004\377\377\377\033\000\023\000\004\377\377\377\002\000\001\000"
+                                    + "\004\377\377\377\023\000\001\000\005\377\377\377\003\000\001\000\005\377\377\377\022\000\001\000\005\377\377\377\022\000\023\000\005\377\377\377\035\000\023\000\005\377\377\377\022\000\023\000\004\377\377\377\022\000\001\000\004\377\377\377"
+                                    + "\004\346\016\000\004\377\377\377\004\350\016\000\004\377\377\377\004\334\016\000\004\377\377\377\004\330\016\000\004\377\377\377\004\312\016\000\004\377\377\377\004\001\016\000\004\377\377\377\004\360\016\000\004\377\377\377\004\000\016\000"
+                                    + "\004\377\377\377\004\351\016\000\004\377\377\377\004\352\016\000\004\377\377\377\000\000\000\000\000\377\377\377\032\000\023\000\005\377\377\377\033\000\023\000\005\377\377\377\036\000\001\000\005\377\377\377\004\346\016\000\005\377\377\377"
+                                    + "\006\000\016\000\005\377\377\377\032\000\001\000\005\377\377\377\025\000\023\000\005\377\377\377\034\000\013\000\005\377\377\377\004\334\016\000\005\377\377\377\004\336\016\000\005\377\377\377\004\344\016\000\005\377\377\377\004\012\016\000"
+                                    + "\005\377\377\377\004\013\016\000\005\377\377\377\004\014\016\000\005\377\377\377\004\015\016\000\005\377\377\377\004\016\016\000\005\377\377\377\004\017\016\000\005\377\377\377\004\020\016\000\005\377\377\377\004\021\016\000\005\377\377\377"
+                                    + "\004\022\016\000\005\377\377\377\004\023\016\000\005\377\377\377\004\024\016\000\005\377\377\377\004\025\016\000\005\377\377\377\004\026\016\000\005\377\377\377\025\000\004\000\005\377\377\377\004\027\016\000\005\377\377\377\032\000\004\000"
+                                    + "\005\377\377\377\004\030\016\000\005\377\377\377\004\031\016\000\005\377\377\377\023\000\004\000\005\377\377\377\016\000\014\000\005\377\377\377\033\000\005\000\005\377\377\377\032\000\013\000\005\377\377\377\034\000\005\000\005\377\377\377"
+                                    + "\032\000\015\000\005\377\377\377\032\000\005\000\005\377\377\377\004\036\016\000\005\377\377\377\004\037\016\000\005\377\377\377\004 \016\000\005\377\377\377\016\000\005\000\005\377\377\377\023\000\005\000\005\377\377\377\022\000\005\000"
+                                    + "\005\377\377\377\004\033\016\000\005\377\377\377\004\034\016\000\005\377\377\377\004\035\016\000\005\377\377\377\004!\016\000\005\377\377\377\004\"\016\000\005\377\377\377\007\000\014\000\005\000\000\001\007\000\014\000\005\001\001\037"
+                                    + "\007\000\014\000\005\002\002!\007\000\014\000\005\003\003#\007\000\014\000\005\004\004%\007\000\014\000\005\005\005'\007\000\014\000\005\006\006)\007\000\014\000\005\007\007+\007\000\014\000\005\010\010-\007\000\014\000"
+                                    + "\005\011\011/\032\000\014\000\005\377\377\377\004#\016\000\005\377\377\377\007\000\011\000\005\000\000\001\007\000\011\000\005\001\001\037\007\000\011\000\005\002\002!\007\000\011\000\005\003\003#\007\000\011\000\005\004\004%"
+                                    + "\007\000\011\000\005\005\005'\007\000\011\000\005\006\006)\007\000\011\000\005\007\007+\007\000\011\000\005\010\010-\007\000\011\000\005\011\011/\036\000\005\000\005\377\377\377\004$\016\000\005\377\377\377\004\000\016\000"
+                                    + "\005\377\377\377\007\000\004\000\005\000\000\001\007\000\004\000\005\001\001\037\007\000\004\000\005\002\002!\007\000\004\000\005\003\003#\007\000\004\000\005\004\004%\007\000\004\000\005\005\005'\007\000\004\000\005\006\006)"
+                                    + "\007\000\004\000\005\007\007+\007\000\004\000\005\010\010-\007\000\004\000\005\011\011/\022\000\004\000\005\377\377\377\034\000\004\000\005\377\377\377\005\000\001\000\005\377\377\377\004\007\016\000\005\377\377\377\004\011\016\000"
+                                    + "\005\377\377\377\007\000\001\000\005\000\000\001\007\000\001\000\005\001\001\037\007\000\001\000\005\002\002!\007\000\001\000\005\003\003#\007\000\001\000\005\004\004%\007\000\001\000\005\005\005'\007\000\001\000\005\006\006)"
+                                    + "\007\000\001\000\005\007\007+\007\000\001\000\005\010\010-\007\000\001\000\005\011\011/\011\000\001\000\005\377\377\006\011\000\001\000\005\377\377\012\011\000\001\000\005\377\377\016\011\000\001\000\005\377\377\020\011\000\001\000"
+                                    + "\005\377\377\032\011\000\001\000\005\377\3776\011\000\001\000\005\377\377\025\011\000\001\000\005\377\3770\011\000\001\000\005\377\377]\011\000\001\000\005\377\377f\004T\016\000\005\377\377\377\004[\016\000\005\377\377\377"
+                                    + "\011\000\023\000\005\377\377\001\011\000\023\000\005\377\377\037\011\000\023\000\005\377\377!\011\000\023\000\005\377\377#\004\000\001\000\005\377\377\377\011\000\001\000\005\377\377\002\011\000\001\000\005\377\377\003\011\000\001\000"
+                                    + "\005\377\377\004\011\000\001\000\005\377\377\005\011\000\001\000\005\377\377\010\011\000\001\000\005\377\377\014\011\000\001\000\005\377\377\017\004g\016\000\005\377\377\377\004k\016\000\005\377\377\377\004v\016\000\005\377\377\377"
+                                    + "\004z\016\000\005\377\377\377\011\000\001\000\005\377\377 \011\000\001\000\005\377\377\"\011\000\001\000\005\377\377$\011\000\001\000\005\377\377&\011\000\001\000\005\377\377(\011\000\001\000\005\377\377*\011\000\001\000"
+                                    + "\005\377\377,\011\000\001\000\005\377\377.\011\000\001\000\005\377\377\000\004\330\016\000\005\377\377\377\026\000\023\001\005\377\377\377\027\000\023\001\005\377\377\377\004\201\016\000\005\377\377\377\004\202\016\000\005\377\377\377"
+                                    + "\004\204\016\000\005\377\377\377\023\000\001\000\002\377\377\377\011\000\001\000\005\377\001\037\011\000\001\000\005\377\002!\011\000\001\000\005\377\003#\011\000\001\000\005\377\004%\011\000\001\000\005\377\005'\011\000\001\000"
+                                    + "\005\377\006)\011\000\001\000\005\377\007+\011\000\001\000\005\377\010-\011\000\001\000\005\377\011/\011\000\001\000\005\377\377:\011\000\001\000\005\377\377D\011\000\001\000\005\377\377N\011\000\001\000\005\377\377X"
+                                    + "\011\000\001\000\005\377\377Y\011\000\001\000\005\377\377Z\011\000\001\000\005\377\377[\011\000\001\000\005\377\377\\\011\000\001\000\005\377\377o\012\000\022\000\005\377\377\377\010\000\001\000\005\377\3777\010\000\001\000"
+                                    + "\005\377\3778\010\000\001\000\005\377\3779\011\000\023\000\005\377\377%\011\000\023\000\005\377\377'\011\000\023\000\005\377\377)\011\000\023\000\005\377\377+\011\000\023\000\005\377\377-\011\000\023\000\005\377\377/"
+                                    + "\016\000\017\000\005\377\377\377\005\011\001\000\005\377\377\377\004\001\016\000\005\377\377\377\004\352\016\000\005\377\377\377\004\326\016\000\005\377\377\377\004\312\016\000\005\377\377\377\004\350\016\000\005\377\377\377\004\351\016\000"
+                                    + "\005\377\377\377\016\000\001\000\005\377\377\377\016\000\004\000\005\377\377\377\025\000\023\000\004\377\377\377\030\000\023\000\004\377\377\377\031\000\023\000\004\377\377\377\026\000\023\000\005\377\377\377\030\000\023\000\005\377\377\377"
+                                    + "\013\000\022\000\005\377\377\377\014\000\020\000\005\377\377\377\016\000\002\000\005\377\377\377\016\000\006\000\005\377\377\377\016\000\010\000\005\377\377\377\016\000\003\000\005\377\377\377\016\000\007\000\005\377\377\377\032\000\013\000"
+                                    + "\004\377\377\377\024\000\023\000\005\377\377\377\033\000\015\000\005\377\377\377\016\000\024\000\005\377\377\377\016\000\025\000\005\377\377\377\016\000\026\000\005\377\377\377\016\000\027\000\005\377\377\377\011\000\011\000\005\377\000\001"
+                                    + "\011\000\011\000\004\377\004%\011\000\011\000\005\377\005'\011\000\011\000\005\377\006)\011\000\011\000\005\377\007+\011\000\011\000\005\377\010-\011\000\011\000\005\377\011/\033\000\012\000\005\377\377\377\034\000\013\000"
+                                    + "\001\377\377\377\036\000\013\000\005\377\377\377\033\000\023\001\005\377\377\377\011\000\023\000\005\377\377\013\011\000\023\000\005\377\377\011\011\000\023\000\005\377\377\010\011\000\023\000\004\377\377\021\011\000\023\000\004\377\377\031"
+                                    + "\011\000\023\000\005\377\377\017\011\000\023\000\005\377\377\023\011\000\023\000\005\377\377\027\011\000\023\000\005\377\377\033\011\000\023\000\005\377\377\015\011\000\023\000\005\377\377\034\011\000\023\000\004\377\377\012\011\000\023\000"
+                                    + "\004\377\377\022\011\000\023\000\004\377\377\030\011\000\023\000\004\377\377\035\010\000\001\000\004\377\377\037\010\000\001\000\004\377\377!\010\000\001\000\004\377\377#\010\000\001\000\004\377\377%\010\000\001\000\004\377\377'"
+                                    + "\010\000\001\000\004\377\377)\010\000\001\000\004\377\377+\010\000\001\000\004\377\377-\010\000\001\000\004\377\377/\010\000\001\000\004\377\3770\010\000\001\000\004\377\3771\010\000\001\000\004\377\3772\010\000\001\000"
+                                    + "\005\377\377X\010\000\001\000\005\377\377]\010\000\001\000\005\377\377a\010\000\001\000\005\377\377f\010\000\001\000\005\377\3771\010\000\001\000\005\377\3772\010\000\001\000\005\377\377j\010\000\001\000\005\377\377o"
+                                    + "\010\000\001\000\005\377\377)\010\000\001\000\005\377\377s\010\000\001\000\005\377\377x\011\000\023\000\004\377\377\001\033\000\023\001\004\377\377\377\033\000\013\000\005\377\377\377\036\000\023\000\002\377\377\377\026\000\023\001"
+                                    + "\002\377\377\377\027\000\023\001\002\377\377\377\011\000\023\000\004\377\001\037\011\000\023\000\004\377\002!\011\000\023\000\004\377\003#\011\000\023\000\004\377\004%\011\000\023\000\004\377\005'\011\000\023\000\004\377\006)"
+                                    + "\011\000\023\000\004\377\007+\011\000\023\000\004\377\010-\011\000\023\000\004\377\011/\011\000\023\000\004\377\3770\011\000\023\000\004\377\3771\011\000\023\000\004\377\3772\011\000\023\000\004\377\3773\011\000\023\000"
+                                    + "\004\377\3774\011\000\023\000\004\377\3775\011\000\023\000\004\377\3776\011\000\023\000\004\377\3777\011\000\023\000\004\377\3778\011\000\023\000\004\377\3779\011\000\023\000\004\377\377:\011\000\011\000\004\377\005'"
+                                    + "\011\000\011\000\004\377\006)\011\000\011\000\004\377\007+\011\000\011\000\004\377\010-\011\000\011\000\004\377\011/\011\000\011\000\004\377\3770\011\000\011\000\004\377\3771\011\000\011\000\004\377\3772\011\000\011\000"
+                                    + "\004\377\3773\011\000\011\000\004\377\3774\011\000\011\000\004\377\3775\011\000\011\000\004\377\3776\011\000\011\000\004\377\3777\011\000\011\000\004\377\3778\011\000\011\000\004\377\3779\011\000\011\000\004\377\377:"
+                                    + "\036\000\001\000\004\377\377\377\011\000\023\000\005\377\000\001\011\000\023\000\004\377\000\001\033\000\023\000\002\377\377\377\011\000\023\000\005\377\001\037\011\000\023\000\005\377\002!\011\000\023\000\005\377\003#\011\000\023\000"
+                                    + "\005\377\004%\011\000\023\000\005\377\005'\011\000\023\000\005\377\006)\011\000\023\000\005\377\007+\011\000\023\000\005\377\010-\011\000\023\000\005\377\011/\011\000\023\000\005\377\3770\036\000\023\001\005\377\377\377"
+                                    + "\011\000\023\000\005\377\377\025\012\000\022\000\000\377\377\377\032\000\023\000\002\377\377\377\022\000\001\000\002\377\377\377\010\000\001\000\002\377\377\001\025\000\023\000\002\377\377\377\026\000\023\000\002\377\377\377\027\000\023\000"
+                                    + "\002\377\377\377\010\000\001\000\002\377\377\037\010\000\001\000\002\377\377!\010\000\001\000\002\377\377#\010\000\001\000\002\377\377%\010\000\001\000\002\377\377'\010\000\001\000\002\377\377)\010\000\001\000\002\377\377+"
+                                    + "\010\000\001\000\002\377\377-\010\000\001\000\002\377\377/\004\332\016\000\002\377\377\377\004\344\016\000\002\377\377\377\004\350\016\000\002\377\377\377\004\336\016\000\002\377\377\377\005\340\001\000\002\377\377\377\010\000\001\000"
+                                    + "\002\377\3770\010\000\001\000\002\377\377:\010\000\001\000\002\377\377D\004\010\016\000\002\377\377\377\035\000\023\000\002\377\377\377\036\000\001\000\002\377\377\377\011\000\001\000\002\377\377\037\011\000\001\000\002\377\377!"
+                                    + "\011\000\001\000\002\377\377#\011\000\001\000\002\377\377%\011\000\001\000\002\377\377'\011\000\001\000\002\377\377)\011\000\001\000\002\377\377+\011\000\001\000\002\377\377-\011\000\001\000\002\377\377/\011\000\001\000"
+                                    + "\002\377\3770\011\000\001\000\004\377\3770\011\000\001\000\004\377\377:\011\000\001\000\004\377\377D\011\000\001\000\004\377\377N\011\000\001\000\004\377\377X\011\000\001\000\004\377\377Y\011\000\001\000\004\377\377Z"
+                                    + "\011\000\001\000\004\377\377[\011\000\023\000\002\377\377;\011\000\023\000\002\377\377<\011\000\023\000\002\377\377=\011\000\023\000\002\377\377>\011\000\023\000\002\377\377?\011\000\023\000\002\377\377@\011\000\023\000"
+                                    + "\002\377\377A\011\000\023\000\002\377\377B\011\000\023\000\002\377\377C\011\000\023\000\002\377\377D\011\000\023\000\002\377\377E\011\000\023\000\002\377\377F\011\000\023\000\002\377\377G\011\000\023\000\002\377\377H"
+                                    + "\011\000\023\000\002\377\377I\011\000\023\000\002\377\377J\011\000\023\000\002\377\377K\011\000\023\000\002\377\377L\011\000\023\000\002\377\377M\011\000\023\000\002\377\377N\011\000\023\000\002\377\377O\011\000\023\000"
+                                    + "\002\377\377P\011\000\023\000\002\377\377Q\011\000\023\000\002\377\377R\011\000\023\000\002\377\377S\011\000\023\000\002\377\377T\011\000\023\000\002\377\377U\011\000\023\000\002\377\377V\011\000\023\000\002\377\377W"
+                                    + "\011\000\023\000\002\377\377X\023\000\001\000\002\377\377'\023\000\001\000\002\377\377!\023\000\001\000\002\377\377+\023\000\001\000\002\377\377\037\023\000\001\000\002\377\377o\023\000\001\000\002\377\377#\023\000\001\000"
+                                    + "\002\377\377/\023\000\001\000\002\377\377%\023\000\001\000\002\377\377\206\023\000\001\000\002\377\3770\023\000\001\000\002\377\377f\023\000\001\000\002\377\377]\023\000\001\000\002\377\377\210\023\000\001\000\002\377\377-"
+                                    + "\023\000\001\000\002\377\377)\023\000\001\000\002\377\377:\023\000\001\000\002\377\377D\023\000\001\000\002\377\377N\023\000\001\000\002\377\377\001\010\000\001\000\005\377\377\037\010\000\001\000\005\377\377!\010\000\001\000"
+                                    + "\005\377\377#\010\000\001\000\005\377\377%\010\000\001\000\005\377\377'\010\000\001\000\005\377\377+\010\000\001\000\005\377\377-\010\000\001\000\005\377\377/\010\000\001\000\005\377\377\001\035\000\001\000\005\377\377\377"
+                                    + "\017\000\001\000\005\377\377\377\020\000\001\000\004\377\377\377\004\032\016\000\005\377\377\377\035\000\005\000\005\377\377\377\027\000\023\000\005\377\377\377\024\000\023\000\002\377\377\377\032\000\015\000\002\377\377\377\032\000\013\000"
+                                    + "\002\377\377\377\033\000\012\000\002\377\377\377\025\000\012\000\002\377\377\377\033\000\023\001\002\377\377\377\034\000\013\000\002\377\377\377\032\000\023\000\000\377\377\377\032\000\013\000\000\377\377\377\034\000\013\000\000\377\377\377"
+                                    + "\026\000\023\001\000\377\377\377\027\000\023\001\000\377\377\377\033\000\012\000\000\377\377\377\032\000\015\000\000\377\377\377\025\000\012\000\000\377\377\377\007\000\011\000\000\000\000\001\007\000\011\000\000\001\001\037\007\000\011\000"
+                                    + "\000\002\002!\007\000\011\000\000\003\003#\007\000\011\000\000\004\004%\007\000\011\000\000\005\005'\007\000\011\000\000\006\006)\007\000\011\000\000\007\007+\007\000\011\000\000\010\010-\007\000\011\000\000\011\011/"
+                                    + "\033\000\023\001\000\377\377\377\033\000\023\000\000\377\377\377\001\000\001\000\000\377\377\377\035\000\023\000\000\377\377\377\024\000\023\000\000\377\377\377\002\000\001\000\000\377\377\377\032\000\023\000\001\377\377\377\026\000\023\001"
+                                    + "\001\377\377\377\027\000\023\001\001\377\377\377\023\000\001\000\001\377\377\377\022\000\001\000\001\377\377\377\036\000\023\000\000\377\377\377\036\000\023\000\001\377\377\377\033\000\023\000\001\377\377\377\016\000\023\000\005\377\377\377"
+                                    + "\011\000\001\000\005\377\377\037\011\000\001\000\005\377\377!\011\000\001\000\005\377\377#\011\000\001\000\005\377\377%\011\000\001\000\005\377\377'\011\000\001\000\005\377\377)\011\000\001\000\005\377\377+\011\000\001\000"
+                                    + "\005\377\377-\011\000\001\000\005\377\377/\011\000\001\000\005\377\377^\011\000\001\000\005\377\377_\011\000\001\000\005\377\377`\011\000\001\000\005\377\377a\011\000\001\000\005\377\377b\011\000\001\000\005\377\377c"
+                                    + "\011\000\001\000\005\377\377d\011\000\001\000\005\377\377e\011\000\001\000\005\377\377g\011\000\001\000\005\377\377h\011\000\001\000\005\377\377i\011\000\001\000\005\377\377j\011\000\001\000\005\377\377k\011\000\001\000"
+                                    + "\005\377\377l\011\000\001\000\005\377\377m\011\000\001\000\005\377\377n\011\000\001\000\005\377\377p\011\000\001\000\005\377\377q\011\000\001\000\005\377\377r\011\000\001\000\005\377\377s\011\000\001\000\005\377\377t"
+                                    + "\011\000\001\000\005\377\377u\011\000\001\000\005\377\377v\011\000\001\000\005\377\377w\010\000\023\000\005\377\377\020\010\000\023\000\005\377\377\025\010\000\023\000\005\377\377\037\010\000\023\000\005\377\377'\010\000\023\000"
+                                    + "\005\377\377X\010\000\023\000\005\377\377a\010\000\023\000\005\377\377j\010\000\023\000\005\377\377s\010\000\023\000\005\377\3770\010\000\023\000\005\377\377]\010\000\023\000\005\377\377f\010\000\023\000\005\377\377o"
+                                    + "\010\000\023\000\005\377\377!\010\000\023\000\005\377\377D\010\000\023\000\005\377\377_\011\000\023\000\005\377\377\031\011\000\023\000\005\377\377\032\011\000\023\000\005\377\377\020\011\000\011\000\005\377\377\037\011\000\011\000"
+                                    + "\005\377\377!\011\000\011\000\005\377\377#\011\000\011\000\005\377\377%\011\000\011\000\005\377\377'\011\000\011\000\005\377\377)\011\000\011\000\005\377\377+\011\000\011\000\005\377\377-\011\000\011\000\005\377\377/"
+                                    + "\011\000\011\000\005\377\3770\011\000\011\000\005\377\377:\011\000\011\000\005\377\377D\011\000\011\000\005\377\377N\011\000\011\000\005\377\377X\011\000\011\000\005\377\377Y\011\000\011\000\005\377\377Z\011\000\011\000"
+                                    + "\005\377\377[\011\000\011\000\005\377\377\\\011\000\011\000\005\377\377]\011\000\011\000\005\377\377^\011\000\011\000\005\377\377_\011\000\011\000\005\377\377`\011\000\011\000\005\377\377a\011\000\011\000\005\377\377b"
+                                    + "\011\000\011\000\005\377\377c\011\000\011\000\005\377\377d\011\000\011\000\005\377\377e\010\000\001\000\005\377\377\\\010\000\001\000\005\377\377e\010\000\001\000\005\377\3770\010\000\001\000\005\377\377:\011\000\004\000"
+                                    + "\005\377\377\037\011\000\004\000\005\377\377!\011\000\004\000\005\377\377#\011\000\004\000\005\377\3770\011\000\004\000\005\377\377:\011\000\004\000\005\377\377]\011\000\004\000\005\377\377f\011\000\004\000\005\377\377o"
+                                    + "\036\000\004\000\005\377\377\377\011\000\004\000\005\377\377%\011\000\004\000\005\377\377'\011\000\004\000\005\377\377\036\011\000\004\000\005\377\377\025\011\000\004\000\005\377\377)\011\000\004\000\005\377\377+\011\000\004\000"
+                                    + "\005\377\377-\011\000\004\000\005\377\377/\011\000\004\000\005\377\377D\011\000\004\000\005\377\377N\011\000\004\000\005\377\377X\011\000\004\000\005\377\377Y\011\000\004\000\005\377\377Z\011\000\004\000\005\377\377^"
+                                    + "\011\000\004\000\005\377\377_\011\000\004\000\005\377\377`\011\000\004\000\005\377\377a\011\000\004\000\005\377\377b\011\000\004\000\005\377\377c\011\000\004\000\005\377\377d\011\000\004\000\005\377\377e\011\000\004\000"
+                                    + "\005\377\377g\011\000\004\000\005\377\377h\011\000\004\000\005\377\377i\011\000\004\000\005\377\377j\011\000\004\000\005\377\377k\011\000\004\000\005\377\377l\011\000\004\000\005\377\377m\011\000\004\000\005\377\377n"
+                                    + "\011\000\004\000\005\377\377p\011\000\004\000\005\377\377q\011\000\004\000\005\377\377r\011\000\004\000\005\377\377s\011\000\004\000\005\377\377t\011\000\004\000\005\377\377u\011\000\004\000\005\377\377v\011\000\004\000"
+                                    + "\005\377\377w\011\000\004\000\005\377\377x\011\000\004\000\005\377\377y\011\000\004\000\005\377\377{\011\000\004\000\005\377\377|\011\000\004\000\005\377\377~\011\000\004\000\005\377\377\177\011\000\004\000\005\377\377\200"
+                                    + "\011\000\004\000\005\377\377\201\011\000\004\000\005\377\377\202\011\000\004\000\005\377\377\007\011\000\004\000\005\377\377\015\011\000\004\000\005\377\377\020\011\000\004\000\005\377\377\021\011\000\004\000\005\377\377\024\011\000\004\000"
+                                    + "\005\377\377\026\011\000\004\000\005\377\377\031\011\000\004\000\005\377\377\032\011\000\004\000\005\377\377\034\011\000\004\000\005\377\001\037\011\000\004\000\005\377\002!\011\000\004\000\005\377\003#\011\000\004\000\005\377\004%"
+                                    + "\001\000\004\000\005\377\377\377\002\000\004\000\005\377\377\377\011\000\014\000\005\377\001\037\011\000\014\000\005\377\002!\011\000\014\000\005\377\003#\011\000\014\000\005\377\004%\011\000\014\000\005\377\005'\011\000\014\000"
+                                    + "\005\377\006)\011\000\014\000\005\377\007+\011\000\014\000\005\377\010-\011\000\014\000\005\377\011/\011\000\014\000\005\377\3770\011\000\014\000\005\377\377:\011\000\014\000\005\377\377D\011\000\014\000\005\377\377N"
+                                    + "\011\000\014\000\005\377\377X\011\000\014\000\005\377\377Y\011\000\014\000\005\377\377Z\011\000\014\000\005\377\377[\011\000\014\000\005\377\377\\\011\000\014\000\005\377\377]\011\000\014\000\005\377\377^\011\000\014\000"
+                                    + "\005\377\377_\011\000\014\000\005\377\377`\011\000\014\000\005\377\377a\011\000\014\000\005\377\377b\011\000\014\000\005\377\377c\011\000\014\000\005\377\377d\011\000\014\000\005\377\377e\011\000\014\000\005\377\377\025"
+                                    + "\011\000\014\000\005\377\377\020\011\000\014\000\005\377\377\021\011\000\014\000\005\377\377\031\011\000\005\000\005\377\377\037\011\000\005\000\005\377\3770\011\000\005\000\005\377\377:\011\000\005\000\005\377\377]\011\000\023\000"
+                                    + "\005\377\377:\011\000\023\000\005\377\377D\011\000\023\000\005\377\377N\011\000\023\000\005\377\377X\011\000\023\000\005\377\377Y\011\000\023\000\005\377\377Z\011\000\023\000\005\377\377[\011\000\023\000\005\377\377\\"
+                                    + "\011\000\023\000\005\377\377]\011\000\023\000\005\377\377f\004\011\001\000\005\377\377\377\010\000\001\000\005\377\377z\010\000\001\000\005\377\377}\010\000\001\000\005\377\377\021\010\000\001\000\005\377\377\031\010\000\001\000"
+                                    + "\005\377\377\034\010\000\001\000\005\377\377\012\010\000\001\000\005\377\377\020\010\000\001\000\005\377\377\015\010\000\001\000\005\377\377\025\010\000\001\000\005\377\377N\011\000\001\000\005\377\377\203\011\000\001\000\005\377\377\206"
+                                    + "\011\000\001\000\005\377\377\207\011\000\001\000\005\377\377\210\011\000\001\000\005\377\377\001\011\000\001\000\005\377\3771\011\000\001\000\005\377\3772\011\000\001\000\005\377\3773\011\000\001\000\005\377\3774\011\000\001\000"
+                                    + "\005\377\3775\011\000\001\000\005\377\3777\011\000\001\000\005\377\3778\011\000\001\000\005\377\3779\005\330\001\000\005\377\377\377\005\342\001\000\005\377\377\377\033\000\001\000\005\377\377\377\011\000\005\000\005\377\377!"
+                                    + "\011\000\005\000\005\377\377#\011\000\005\000\005\377\377%\011\000\005\000\005\377\377'\011\000\005\000\005\377\377)\011\000\005\000\005\377\377+\011\000\005\000\005\377\377-\011\000\005\000\005\377\377/\011\000\005\000"
+                                    + "\005\377\377D\011\000\005\000\005\377\377N\011\000\005\000\005\377\377X\011\000\005\000\005\377\377Y\011\000\005\000\005\377\377Z\011\000\005\000\005\377\377[\011\000\005\000\005\377\377\\\011\000\005\000\005\377\377^"
+                                    + "\011\000\005\000\005\377\377_\011\000\005\000\005\377\377`\011\000\005\000\005\377\377a\011\000\005\000\005\377\377b\011\000\005\000\005\377\377c\011\000\005\000\005\377\377d\011\000\005\000\005\377\377e\011\000\005\000"
+                                    + "\005\377\377f\011\000\005\000\005\377\377g\011\000\005\000\005\377\377h\011\000\005\000\005\377\377i\011\000\005\000\005\377\377j\011\000\005\000\005\377\377k\011\000\005\000\005\377\377l\011\000\005\000\005\377\377m"
+                                    + "\011\000\005\000\005\377\377n\011\000\005\000\005\377\377o\011\000\005\000\005\377\377p\011\000\005\000\005\377\377q\011\000\005\000\005\377\377r\011\000\005\000\005\377\377s\011\000\005\000\005\377\377t\011\000\005\000"
+                                    + "\005\377\377u\011\000\005\000\005\377\377v\011\000\005\000\005\377\377w\011\000\005\000\005\377\377x\011\000\005\000\005\377\377y\011\000\005\000\005\377\377\204\011\000\005\000\005\377\377\205\011\000\005\000\005\377\377\020"
+                                    + "\011\000\005\000\005\377\377\025\011\000\005\000\005\377\377\032\011\000\011\000\004\377\000\001",
+    };
+
+    static final int SHIFT = 7;
+    static final int INDEX1_WIDTH = 2;
+    static final String[] INDEX1 = {
+                    "\000\000\001\000\002\000\003\000\004\000\005\000\006\000\007\000\010\000\011\000\012\000\013\000\014\000\015\000\016\000\017\000\020\000\021\000\022\000\023\000\024\000\025\000\026\000\027\000\030\000\031\000\032\000\033\000\034\000\035\000"
+                                    + "\036\000\037\000 \000!\000\"\000#\000$\000%\000&\000'\000(\000#\000#\000#\000)\000*\000+\000,\000-\000.\000/\0000\0001\0002\0003\0004\0005\0006\0007\0008\000"
+                                    + "9\000:\000;\000<\000=\000>\000?\000@\000A\000B\000C\000D\000E\000F\000G\000H\000I\000J\000K\000L\000M\000M\000N\000O\000P\000Q\000R\000S\000T\000U\000"
+                                    + "V\000W\000X\000Y\000Z\000[\000\\\000]\000^\000_\000`\000a\000b\000c\000d\000e\000f\000f\000f\000f\000f\000f\000g\000f\000f\000f\000f\000f\000h\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000i\000j\000k\000l\000f\000f\000f\000m\000f\000f\000f\000n\000o\000f\000f\000f\000f\000f\000p\000f\000f\000f\000q\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000r\000s\000t\000f\000f\000f\000f\000f\000f\000u\000v\000f\000f\000f\000f\000f\000f\000f\000f\000w\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000x\000f\000f\000f\000f\000f\000f\000f\000f\000y\000f\000f\000f\000f\000z\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000{\000f\000f\000f\000f\000f\000f\000|\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000}\000~\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "\177\000\200\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\201\000\202\000f\000f\000f\000f\000f\000f\000f\000f\000\203\000"
+                                    + "#\000#\000\204\000\205\000\206\000\207\000\210\000\211\000\212\000\213\000\214\000\215\000\216\000\217\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\220\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\221\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\223\000\224\000\225\000\226\000\227\000\230\000\231\000\231\000\232\000\233\000\234\000\235\000"
+                                    + "\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\250\000\251\000\252\000\244\000#\000#\000\253\000\244\000\254\000\255\000\256\000\257\000\260\000\261\000\262\000\263\000\264\000\265\000\266\000\244\000"
+                                    + "\267\000\244\000\270\000\244\000\271\000\272\000\273\000\274\000\275\000\276\000\277\000\244\000\300\000\301\000\244\000\302\000\303\000\304\000\305\000\244\000\306\000\307\000\244\000\244\000\310\000\311\000\244\000\244\000\312\000\313\000"
+                                    + "\314\000\315\000\244\000\316\000\244\000\244\000#\000#\000#\000#\000#\000#\000#\000\317\000\320\000#\000\321\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000#\000#\000#\000#\000#\000#\000#\000#\000\322\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000#\000#\000#\000#\000\323\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "#\000#\000#\000#\000\324\000\325\000\326\000\327\000\244\000\244\000\244\000\244\000\330\000\331\000\332\000\333\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000\334\000f\000f\000f\000f\000f\000\335\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000f\000f\000\336\000f\000f\000\337\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\340\000\341\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000M\000\342\000"
+                                    + "\343\000\344\000\345\000\346\000\347\000\244\000\350\000\351\000\352\000\353\000\354\000\355\000\356\000\357\000M\000M\000M\000M\000\360\000\361\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\362\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\363\000\364\000\365\000\244\000\244\000\244\000\244\000\244\000\366\000\367\000\244\000\244\000\370\000\371\000"
+                                    + "\244\000\244\000\372\000\373\000\374\000\375\000\376\000\244\000\377\000\000\001\001\001\002\001\003\001\004\001\005\001\006\001\007\001\010\001\011\001\012\001\013\001\014\001\015\001\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\016\001\017\001\020\001f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\021\001\022\001f\000\023\001\024\001f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\025\001f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\026\001f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000\027\001f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\030\001f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000\031\001f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\032\001f\000\033\001f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\034\001f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000"
+                                    + "f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000f\000\035\001\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000f\000\036\001f\000f\000\037\001\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000 \001\244\000"
+                                    + "!\001\"\001\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000\244\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000#\001",
+                    "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000\222\000"
+                                    + "\222\000#\001",
+    };
+    static final int INDEX2_WIDTH = 2;
+    static final String[] INDEX2 = {
+                    "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\002\000\001\000\003\000\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\000\002\000"
+                                    + "\002\000\001\000\004\000\005\000\005\000\006\000\007\000\006\000\005\000\005\000\010\000\011\000\005\000\012\000\013\000\014\000\013\000\013\000\015\000\016\000\017\000\020\000\021\000\022\000\023\000\024\000\025\000\026\000\013\000\005\000"
+                                    + "\027\000\030\000\027\000\005\000\005\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000\031\000"
+                                    + "\031\000\010\000\005\000\011\000\032\000\033\000\032\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000\034\000"
+                                    + "\034\000\034\000\034\000\010\000\030\000\011\000\030\000\000\000\000\000\000\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                                    + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\035\000\036\000\007\000\007\000\037\000\007\000 \000\036\000!\000\"\000#\000$\000\030\000%\000&\000\032\000'\000(\000)\000*\000"
+                                    + "!\000+\000\036\000\036\000!\000,\000#\000-\000.\000/\0000\000\036\0001\0001\0001\0001\0001\0001\0002\0001\0001\0001\0001\0001\0001\0001\0001\0001\0002\0001\000"
+                                    + "1\0001\0001\0001\0001\0003\0002\0001\0001\0001\0001\0001\0002\0004\0004\0004\000+\000+\000+\000+\0004\000+\0004\0004\0004\000+\0004\0004\000+\000+\000"
+                                    + "4\000+\0004\0004\000+\000+\000+\0003\0004\0004\0004\000+\0004\000+\0004\000+\0001\0004\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\0004\0001\0004\0001\000+\0001\000+\0001\000+\0001\0004\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0002\0004\0001\000+\0001\0004\000"
+                                    + "1\000+\0001\000+\0001\0004\0002\0004\0001\000+\0001\000+\0004\0001\000+\0001\000+\0001\000+\0002\0004\0002\0004\0001\0004\0001\000+\0001\0004\0004\000"
+                                    + "2\0004\0001\0004\0001\000+\0001\000+\0002\0004\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0002\0004\000"
+                                    + "1\000+\0001\0004\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\0001\000+\0001\000+\0001\000+\000+\000+\0001\0001\000+\0001\000+\000"
+                                    + "1\0001\000+\0001\0001\0001\000+\000+\0001\0001\0001\0001\000+\0001\0001\000+\0001\0001\0001\000+\000+\000+\0001\0001\000+\0001\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\0001\000+\0001\000+\000+\0001\000+\0001\0001\000+\0001\0001\0001\000+\0001\000+\0001\0001\000+\000+\0005\0001\000+\000+\000+\0005\0005\000"
+                                    + "5\0005\0001\0006\000+\0001\0006\000+\0001\0006\000+\0001\0004\0001\0004\0001\0004\0001\0004\0001\0004\0001\0004\0001\0004\0001\0004\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000+\0001\0006\000+\0001\000+\0001\0001\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "1\0001\000+\0001\0001\000+\000+\0001\000+\0001\0001\0001\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000+\0004\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\0004\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "5\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0007\0007\000"
+                                    + "7\0007\0007\0007\0007\0007\0007\0008\0008\0007\0007\0007\0007\0007\0007\0007\0009\0009\000!\0009\0008\000:\0008\000:\000:\000:\0008\000:\0008\0008\000"
+                                    + ";\0007\0009\0009\0009\0009\0009\0009\000!\000!\000!\000!\0009\000!\0009\000!\0007\0007\0007\0007\0007\0009\0009\0009\0009\0009\0009\0009\0008\0009\000"
+                                    + "7\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\000<\000<\000<\000<\000<\000<\000<\000<\000<\000<\000<\000<\000"
+                                    + "<\000<\000<\000<\000<\000<\000<\000<\000<\000=\000>\000>\000>\000>\000=\000?\000>\000>\000>\000>\000>\000@\000@\000>\000>\000>\000>\000@\000@\000>\000"
+                                    + ">\000>\000>\000>\000>\000>\000>\000>\000>\000>\000A\000A\000A\000A\000A\000>\000>\000>\000>\000<\000<\000<\000<\000<\000<\000<\000<\000B\000<\000>\000"
+                                    + ">\000>\000<\000<\000<\000>\000>\000C\000<\000<\000<\000>\000>\000>\000>\000<\000=\000>\000>\000<\000D\000E\000E\000D\000E\000E\000D\000<\000<\000<\000"
+                                    + "<\000<\000<\000<\000<\000<\000<\000<\000<\000<\0001\000+\0001\000+\0008\0009\0001\000+\000F\000F\0007\000+\000+\000+\000G\0001\000F\000F\000F\000F\000"
+                                    + "9\0009\0001\000G\0001\0001\0001\000F\0001\000F\0001\0001\000+\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\000"
+                                    + "F\0002\0002\0002\0002\0002\0002\0002\0001\0001\000+\000+\000+\000+\000+\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\000"
+                                    + "4\0004\000+\0004\0004\0004\0004\0004\0004\0004\000+\000+\000+\000+\000+\0001\000+\000+\0001\0001\0001\000+\000+\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000+\000+\000+\000+\0001\000+\000H\0001\000+\0001\0001\000+\000"
+                                    + "+\0001\0001\0001\0001\0002\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\000"
+                                    + "2\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0002\0004\0004\0004\0004\0004\0004\0004\0004\000"
+                                    + "4\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\0004\000+\0004\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000I\000J\000J\000J\000J\000J\000K\000K\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000"
+                                    + "+\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\000F\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000F\000F\0007\000L\000L\000L\000L\000L\000L\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000L\000M\000F\000F\000\"\000\"\000N\000F\000O\000J\000J\000J\000J\000O\000J\000J\000J\000P\000O\000J\000J\000J\000J\000"
+                                    + "J\000J\000O\000O\000O\000O\000O\000O\000J\000J\000O\000J\000J\000P\000Q\000J\000R\000S\000T\000U\000V\000W\000X\000Y\000Z\000[\000[\000\\\000]\000^\000"
+                                    + "_\000`\000a\000b\000c\000a\000J\000O\000a\000Z\000F\000F\000F\000F\000F\000F\000F\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000F\000F\000F\000F\000d\000d\000d\000d\000a\000a\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000e\000e\000e\000e\000e\000e\000H\000H\000f\000g\000g\000h\000i\000j\000\"\000\"\000J\000J\000J\000J\000J\000J\000J\000J\000"
+                                    + "k\000l\000m\000j\000n\000F\000j\000j\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000p\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000q\000r\000s\000k\000l\000m\000t\000u\000J\000"
+                                    + "J\000O\000O\000J\000J\000J\000J\000J\000O\000J\000J\000O\000v\000w\000x\000y\000z\000{\000|\000}\000~\000\177\000g\000\200\000\200\000j\000o\000o\000\201\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000j\000o\000J\000J\000J\000J\000J\000J\000J\000e\000\"\000J\000J\000J\000J\000O\000J\000p\000p\000J\000J\000\"\000"
+                                    + "O\000J\000J\000O\000o\000o\000\202\000\203\000\204\000\205\000\206\000\207\000\210\000\211\000\212\000\213\000o\000o\000o\000\214\000\214\000o\000j\000j\000j\000j\000j\000j\000j\000j\000"
+                                    + "j\000j\000j\000j\000j\000j\000F\000n\000o\000\215\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000J\000O\000J\000J\000O\000J\000J\000O\000O\000O\000J\000O\000O\000J\000O\000J\000J\000J\000O\000J\000"
+                                    + "O\000J\000O\000J\000O\000J\000J\000F\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000o\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000\217\000\220\000\221\000\222\000\223\000\224\000\225\000\226\000\227\000\230\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000J\000J\000J\000J\000J\000J\000J\000O\000J\000\231\000\231\000\"\000G\000"
+                                    + "G\000G\000\231\000F\000F\000O\000\232\000\232\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "J\000J\000J\000J\000\231\000J\000J\000J\000J\000J\000J\000J\000J\000J\000\231\000J\000J\000J\000\231\000J\000J\000J\000J\000J\000F\000F\000a\000a\000a\000a\000"
+                                    + "a\000a\000a\000a\000a\000a\000a\000a\000a\000a\000a\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000O\000O\000O\000F\000F\000a\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000F\000o\000o\000o\000o\000o\000o\000o\000o\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000O\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000e\000O\000J\000J\000O\000J\000"
+                                    + "J\000O\000J\000J\000J\000O\000O\000O\000q\000r\000s\000J\000J\000J\000O\000J\000J\000O\000O\000J\000J\000J\000J\000J\000\216\000\216\000\216\000\233\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\233\000\234\0005\000\233\000\233\000\233\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\233\000\233\000\233\000\235\000\233\000\233\0005\000J\000O\000J\000J\000\216\000\216\000\216\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000\216\000\216\000L\000L\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000L\0007\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\000\216\000\233\000\233\000F\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\000F\000F\000F\0005\0005\0005\0005\000"
+                                    + "F\000F\000\234\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000F\000F\000\233\000\233\000F\000F\000\233\000\233\000\235\0005\000F\000F\000F\000F\000F\000F\000F\000F\000\233\000"
+                                    + "F\000F\000F\000F\0005\0005\000F\0005\0005\0005\000\216\000\216\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\0005\0005\000N\000N\000\250\000\251\000"
+                                    + "\252\000\253\000\254\000\255\000I\000N\0005\000L\000J\000F\000F\000\216\000\216\000\233\000F\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\0005\0005\000F\000F\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\000"
+                                    + "5\0005\000F\0005\0005\000F\0005\0005\000F\000F\000\234\000F\000\233\000\233\000\233\000\216\000\216\000F\000F\000F\000F\000\216\000\216\000F\000F\000\216\000\216\000\235\000F\000F\000"
+                                    + "F\000\216\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\000F\0005\000F\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000"
+                                    + "\246\000\247\000\216\000\216\0005\0005\0005\000\216\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\216\000\216\000\233\000F\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000F\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000F\0005\0005\000F\0005\0005\0005\0005\0005\000F\000F\000\234\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000F\000\216\000"
+                                    + "\216\000\233\000F\000\233\000\233\000\235\000F\000F\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\000\216\000\216\000F\000F\000"
+                                    + "\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000L\000N\000F\000F\000F\000F\000F\000F\000F\0005\000\216\000\216\000\216\000\216\000\216\000\216\000F\000\216\000\233\000\233\000"
+                                    + "F\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\000F\0005\0005\0005\0005\0005\000F\000F\000\234\0005\000\233\000\216\000"
+                                    + "\233\000\216\000\216\000\216\000\216\000F\000F\000\233\000\233\000F\000F\000\233\000\233\000\235\000F\000F\000F\000F\000F\000F\000F\000F\000\216\000\233\000F\000F\000F\000F\0005\0005\000"
+                                    + "F\0005\0005\0005\000\216\000\216\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000I\0005\000\253\000\256\000\254\000\250\000\251\000\252\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000\216\0005\000F\0005\0005\0005\0005\0005\0005\000F\000F\000F\0005\0005\0005\000F\0005\0005\0005\0005\000F\000F\000F\0005\000"
+                                    + "5\000F\0005\000F\0005\0005\000F\000F\000F\0005\0005\000F\000F\000F\0005\0005\0005\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000F\000F\000F\000F\000\233\000\233\000\216\000\233\000\233\000F\000F\000F\000\233\000\233\000\233\000F\000\233\000\233\000\233\000\235\000F\000F\0005\000F\000F\000F\000F\000F\000"
+                                    + "F\000\233\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\257\000\260\000\261\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000N\000\"\000F\000F\000F\000F\000F\000\216\000\233\000\233\000\233\000\216\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\000F\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\0005\000\216\000\216\000\216\000\233\000\233\000\233\000\233\000F\000\216\000\216\000\216\000F\000\216\000\216\000\216\000\235\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000\262\000\263\000F\0005\0005\0005\000F\000F\000F\000F\000F\0005\0005\000\216\000\216\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000"
+                                    + "\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000F\000F\000\264\000\265\000\266\000\267\000\265\000\266\000\267\000I\0005\000\216\000\233\000\233\000L\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\000F\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\000F\000F\000\234\0005\000\233\000\270\000\233\000\233\000\233\000\233\000\233\000F\000"
+                                    + "\270\000\233\000\233\000F\000\233\000\233\000\216\000\235\000F\000F\000F\000F\000F\000F\000F\000\233\000\233\000F\000F\000F\000F\000F\000F\000F\0005\000F\0005\0005\000\216\000\216\000"
+                                    + "F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\216\000\216\000"
+                                    + "\233\000\233\000F\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\235\000\235\0005\000"
+                                    + "\233\000\233\000\233\000\216\000\216\000\216\000\216\000F\000\233\000\233\000\233\000F\000\233\000\233\000\233\000\235\0005\000I\000F\000F\000F\000F\0005\0005\0005\000\233\000\271\000\272\000\273\000\274\000"
+                                    + "\275\000\276\000\277\0005\0005\0005\000\216\000\216\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\257\000\260\000\261\000\253\000\256\000\254\000\250\000\251\000\252\000I\000"
+                                    + "5\0005\0005\0005\0005\0005\000F\000F\000\233\000\233\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000"
+                                    + "F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\000F\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000\235\000F\000F\000F\000F\000\233\000\233\000\233\000\216\000\216\000"
+                                    + "\216\000F\000\216\000F\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000"
+                                    + "\233\000\233\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\000\216\0005\0005\000\216\000\216\000\216\000\216\000\300\000\300\000\235\000F\000F\000F\000F\000N\0005\0005\0005\0005\0005\0005\0007\000\216\000\301\000\301\000\301\000\301\000"
+                                    + "\216\000\216\000\216\000L\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\000F\0005\000F\000F\0005\000"
+                                    + "5\000F\0005\000F\000F\0005\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\000F\0005\000"
+                                    + "F\0005\000F\000F\0005\0005\000F\0005\0005\0005\0005\000\216\0005\0005\000\216\000\216\000\216\000\216\000\302\000\302\000F\000\216\000\216\0005\000F\000F\0005\0005\0005\0005\000"
+                                    + "5\000F\0007\000F\000\303\000\303\000\303\000\303\000\216\000\216\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\0005\0005\0005\0005\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "5\000I\000I\000I\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000I\000L\000I\000I\000I\000O\000O\000I\000I\000I\000I\000"
+                                    + "I\000I\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\256\000\304\000\305\000\306\000\307\000\310\000\311\000\312\000\313\000\314\000I\000O\000I\000O\000I\000\315\000\316\000\317\000"
+                                    + "\316\000\317\000\233\000\233\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000\320\000\321\000\216\000\322\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\321\000\321\000\321\000\321\000\216\000\233\000\321\000\216\000J\000J\000\235\000L\000J\000J\0005\0005\0005\0005\0005\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000F\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000F\000I\000I\000I\000I\000I\000I\000I\000I\000O\000I\000I\000I\000I\000I\000I\000F\000I\000I\000L\000L\000"
+                                    + "L\000L\000L\000I\000I\000I\000I\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000"
+                                    + "\233\000\216\000\216\000\216\000\216\000\233\000\216\000\216\000\216\000\216\000\216\000\234\000\233\000\235\000\235\000\233\000\233\000\216\000\216\0005\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000"
+                                    + "L\000L\000L\000L\000L\000L\0005\0005\0005\0005\0005\0005\000\233\000\233\000\216\000\216\0005\0005\0005\0005\000\216\000\216\000\216\0005\000\233\000\233\000\233\0005\0005\000\233\000"
+                                    + "\233\000\233\000\233\000\233\000\233\000\233\0005\0005\0005\000\216\000\216\000\216\000\216\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\233\000\233\000\216\000"
+                                    + "\216\000\233\000\233\000\233\000\233\000\233\000\233\000O\0005\000\233\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\233\000\233\000\233\000\216\000I\000I\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\000F\0001\000F\000F\000F\000F\000F\0001\000F\000F\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000L\0007\000+\000"
+                                    + "+\000+\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\000F\0005\0005\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\000F\0005\0005\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\000F\0005\0005\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\000F\000"
+                                    + "5\000F\0005\0005\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\000F\000F\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\000F\000F\000J\000J\000J\000L\000L\000L\000L\000L\000L\000L\000L\000L\000\324\000\325\000\326\000\327\000\330\000\331\000\332\000\333\000\334\000\257\000\335\000"
+                                    + "\336\000\337\000\340\000\341\000\342\000\343\000\344\000\260\000\345\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\000F\000F\000+\000+\000+\000+\000+\000+\000F\000F\000M\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000L\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\000\346\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\000\316\000\317\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000L\000L\000L\000\347\000\350\000\351\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\000"
+                                    + "5\0005\000\216\000\216\000\235\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\000\216\000\216\000\235\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\000\216\000\216\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\000F\0005\0005\0005\000F\000\216\000\216\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\216\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\233\000\233\000\233\000\233\000\233\000"
+                                    + "\233\000\233\000\216\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\235\000\216\000L\000L\000L\0007\000L\000L\000L\000N\0005\000J\000F\000F\000\236\000\237\000"
+                                    + "\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000\264\000\265\000\266\000\267\000\352\000\353\000\354\000\355\000\356\000\357\000F\000F\000F\000F\000F\000F\000"
+                                    + "G\000G\000G\000G\000G\000G\000M\000G\000G\000G\000G\000\216\000\216\000\216\000\360\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000"
+                                    + "F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0007\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\000\216\000\216\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000Q\0005\000F\000F\000F\000F\000F\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000\216\000\216\000\216\000\233\000\233\000\233\000\233\000\216\000\216\000\233\000\233\000\233\000"
+                                    + "F\000F\000F\000F\000\233\000\233\000\216\000\233\000\233\000\233\000\233\000\233\000\233\000P\000J\000O\000F\000F\000F\000F\000\"\000F\000F\000F\000G\000G\000\236\000\237\000\240\000\241\000"
+                                    + "\242\000\243\000\244\000\245\000\246\000\247\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\000F\000F\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\324\000F\000F\000F\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000J\000O\000\233\000\233\000\216\000"
+                                    + "F\000F\000L\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\216\000\233\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\216\000\216\000F\000\235\000\233\000\216\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\233\000\233\000\233\000\233\000\233\000\216\000\216\000J\000"
+                                    + "J\000J\000J\000J\000J\000J\000J\000F\000F\000O\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000"
+                                    + "\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000L\000L\000L\000L\000L\000L\000L\0007\000L\000L\000L\000L\000L\000L\000F\000F\000J\000J\000"
+                                    + "J\000J\000J\000O\000O\000O\000O\000O\000O\000J\000J\000O\000K\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\216\000\216\000\216\000\216\000\233\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\234\000\233\000\216\000\216\000\216\000\216\000\216\000\233\000\216\000\233\000\233\000\233\000\233\000\233\000\216\000\233\000\361\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000L\000L\000L\000L\000L\000L\000L\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000J\000O\000J\000J\000J\000J\000J\000J\000J\000I\000I\000I\000I\000I\000I\000I\000I\000I\000F\000F\000F\000\216\000\216\000\233\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000"
+                                    + "\216\000\216\000\216\000\216\000\233\000\233\000\216\000\216\000\361\000\235\000\216\000\216\0005\0005\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\000\234\000\233\000\216\000\216\000\233\000\233\000\233\000\216\000\233\000\216\000\216\000\216\000\361\000\361\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "L\000L\000L\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\233\000\216\000\234\000"
+                                    + "F\000F\000F\000L\000L\000L\000L\000L\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\0005\0005\0005\000\236\000\237\000\240\000\241\000\242\000\243\000"
+                                    + "\244\000\245\000\246\000\247\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0007\0007\0007\0007\0007\0007\000L\000L\000+\000+\000+\000+\000+\000+\000+\000+\000+\000F\000F\000F\000F\000F\000F\000F\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000F\000F\0001\0001\0001\000L\000L\000L\000L\000L\000L\000L\000L\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000J\000J\000J\000L\000\362\000O\000O\000O\000O\000O\000J\000J\000O\000O\000O\000O\000J\000\233\000\362\000\362\000\362\000\362\000\362\000\362\000\362\0005\0005\0005\000"
+                                    + "5\000O\0005\0005\0005\0005\000\233\000\233\000J\0005\0005\000\233\000J\000J\000F\000F\000F\000F\000F\000F\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\000"
+                                    + "7\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\000"
+                                    + "7\0007\0007\0007\0007\0007\0007\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0007\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0007\0007\0007\0007\0007\000"
+                                    + "7\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\000"
+                                    + "7\0007\000J\000J\000O\000J\000J\000J\000J\000J\000J\000J\000O\000J\000J\000\363\000\364\000O\000\365\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000"
+                                    + "J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000\366\000Q\000Q\000O\000"
+                                    + "F\000J\000\367\000O\000J\000O\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000F\000F\0001\0001\0001\0001\0001\0001\000F\000F\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000"
+                                    + "+\000+\000F\000F\0001\0001\0001\0001\0001\0001\000F\000F\000+\000+\000+\000+\000+\000+\000+\000+\000F\0001\000F\0001\000F\0001\000F\0001\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000F\000F\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\0006\0006\0006\0006\0006\0006\0006\0006\000+\000+\000+\000+\000+\000+\000+\000+\0006\0006\0006\0006\0006\0006\000"
+                                    + "6\0006\000+\000+\000+\000+\000+\000+\000+\000+\0006\0006\0006\0006\0006\0006\0006\0006\000+\000+\000+\000+\000+\000F\000+\000+\0001\0001\0001\0001\000"
+                                    + "6\0009\000+\0009\0009\0009\000+\000+\000+\000F\000+\000+\0001\0001\0001\0001\0006\0009\0009\0009\000+\000+\000+\000+\000F\000F\000+\000+\0001\0001\000"
+                                    + "1\0001\000F\0009\0009\0009\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0009\0009\0009\000F\000F\000+\000+\000+\000F\000+\000+\000"
+                                    + "1\0001\0001\0001\0006\0009\0009\000F\000\346\000\346\000\346\000\346\000\346\000\346\000\346\000\346\000\346\000\346\000\346\000\360\000\360\000\360\000\370\000\371\000\372\000M\000M\000\372\000\372\000\372\000"
+                                    + "\036\000G\000\373\000\374\000\375\000\376\000\373\000\374\000\375\000\376\000\036\000\036\000\036\000G\000\036\000\036\000\036\000\036\000\377\000\000\001\001\001\002\001\003\001\004\001\005\001\035\000\006\001g\000\006\001\006\001"
+                                    + "g\000\036\000G\000G\000G\000$\000-\000\036\000G\000G\000\036\000\007\001\007\001G\000G\000G\000\010\001\316\000\317\000G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000"
+                                    + "H\000G\000\007\001G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000\346\000\360\000\360\000\360\000\360\000\360\000F\000\011\001\012\001\013\001\014\001\360\000\360\000\360\000\360\000\360\000\360\000"
+                                    + "\015\0017\000F\000F\000\016\001\017\001\020\001\021\001\022\001\023\001\024\001\024\001H\000\316\000\317\000;\000\015\001,\000)\000*\000\016\001\017\001\020\001\021\001\022\001\023\001\024\001\024\001H\000\316\000"
+                                    + "\317\000F\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\0007\000F\000F\000F\000N\000N\000N\000N\000N\000N\000N\000N\000N\000\025\001N\000N\000"
+                                    + "\037\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000N\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000J\000J\000\362\000\362\000J\000J\000J\000J\000\362\000\362\000\362\000J\000J\000K\000K\000K\000K\000J\000K\000K\000K\000\362\000\362\000J\000"
+                                    + "O\000J\000\362\000\362\000O\000O\000O\000O\000J\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\0001\000&\000\"\000&\000"
+                                    + "\"\0001\000\"\000&\000+\0001\0001\0001\000+\000+\0001\0001\0001\0004\000\"\0001\000&\000\"\000H\0001\0001\0001\0001\0001\000\"\000\"\000\"\000&\000&\000\"\000"
+                                    + "1\000\"\0002\000\"\0001\000\"\0001\0002\0001\0001\000\026\001+\0001\0001\0001\0001\000+\0005\0005\0005\0005\000+\000\"\000\"\000+\000+\0001\0001\000\027\001H\000"
+                                    + "H\000H\000H\0001\000+\000+\000+\000+\000\"\000H\000\"\000\"\000+\000I\000\030\001\031\001\032\001\033\001\034\001\035\001\036\001\037\001 \001!\001\"\001#\001$\001%\001&\001\265\000"
+                                    + "'\001(\001)\001*\001+\001,\001-\001.\001/\0010\0011\0012\0013\0014\0015\0016\001'\001(\001)\001*\001+\001,\001-\001.\001/\0010\0017\0018\0013\0014\001"
+                                    + "5\0016\001",
+                    "6\0019\001:\0011\000+\000;\0013\001<\001=\001>\001\"\000\"\000F\000F\000F\000F\0003\0003\0003\0003\0003\000&\000&\000&\000&\000&\000H\000H\000\"\000\"\000"
+                                    + "\"\000\"\000H\000\"\000\"\000H\000\"\000\"\000H\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000H\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000&\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000H\000H\000\"\000\"\0003\000\"\0003\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000H\000H\000H\000H\000"
+                                    + "H\000H\000H\000H\000H\000H\000H\000H\0003\000\027\001?\001?\001\027\001H\000H\0003\000?\001\027\001\027\001?\001\027\001\027\001H\0003\000H\000?\001\024\001@\001H\000?\001"
+                                    + "\027\001H\000H\000H\000?\001\027\001\027\001?\0013\000?\001?\001\027\001\027\0013\000\027\0013\000\027\0013\0003\0003\0003\000?\001?\001\027\001?\001\027\001\027\001\027\001\027\001\027\001"
+                                    + "3\0003\0003\0003\000H\000\027\001H\000\027\001?\001?\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001?\001\027\001\027\001\027\001?\001H\000H\000H\000H\000H\000"
+                                    + "?\001\027\001\027\001\027\001H\000H\000H\000H\000H\000H\000H\000H\000H\000\027\001?\0013\000\027\001H\000?\001?\001?\001?\001\027\001\027\001?\001?\001H\000H\000?\001?\001"
+                                    + "\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001?\001?\001\027\001\027\001?\001?\001\027\001\027\001\027\001\027\001\027\001H\000"
+                                    + "H\000\027\001\027\001\027\001\027\001H\000H\0003\000H\000H\000\027\0013\000H\000H\000H\000H\000H\000H\000H\000H\000\027\001\027\001H\0003\000\027\001\027\001\027\001\027\001\027\001\027\001"
+                                    + "\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001H\000H\000H\000H\000H\000\027\001?\001H\000H\000H\000H\000H\000H\000H\000H\000H\000\027\001"
+                                    + "\027\001\027\001\027\001\027\001H\000H\000\027\001\027\001H\000H\000H\000H\000\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001"
+                                    + "\027\001\027\001\027\001\027\001\027\001\027\001H\000H\000\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\316\000\317\000\316\000\317\000\"\000\"\000\"\000\"\000\"\000\"\000&\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001\"\000\"\000\"\000\"\000\027\001\027\001\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000B\001C\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000\"\000H\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000I\000\"\000\"\000\"\000\"\000\"\000H\000"
+                                    + "H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000H\000H\000H\000H\000H\000H\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001A\001A\001\"\000\"\000\"\000A\001\"\000\"\000A\001\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000D\001E\001F\001G\001H\001I\001J\001K\001L\001M\001N\001O\001P\001Q\001"
+                                    + "R\001S\001T\001U\001V\001W\001D\001E\001F\001G\001H\001I\001J\001K\001L\001M\001N\001O\001P\001Q\001R\001S\001T\001U\001V\001W\001,\000)\000*\000\016\001"
+                                    + "X\001Y\001Z\001[\001\\\001]\001^\001_\001`\001a\001b\001c\001d\001e\001f\001g\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001"
+                                    + "h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001"
+                                    + "h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001"
+                                    + "h\001h\001h\001h\001i\001N\001O\001P\001Q\001R\001S\001T\001U\001V\001W\001D\001E\001F\001G\001H\001I\001J\001K\001L\001M\001j\001&\000&\000&\000&\000"
+                                    + "&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000"
+                                    + "&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000"
+                                    + "&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000\"\000\"\000\"\000\"\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000"
+                                    + "&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000\"\000\"\000&\000&\000&\000&\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000&\000&\000\"\000&\000&\000&\000&\000&\000&\000&\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000&\000\"\000\"\000&\0003\000"
+                                    + "\"\000\"\000\"\000\"\000&\000&\000\"\000\"\000&\0003\000\"\000\"\000\"\000\"\000&\000&\000&\000\"\000\"\000&\000\"\000\"\000&\000&\000&\000&\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000&\000&\000&\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000H\000H\000H\000H\000H\000k\001k\001H\000\"\000\"\000\"\000\"\000\"\000&\000&\000\"\000\"\000&\000\"\000\"\000\"\000\"\000&\000&\000\"\000\"\000"
+                                    + "\"\000\"\000A\001A\001\"\000\"\000\"\000\"\000\"\000\"\000&\000\"\000&\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000\"\000&\000\"\000\"\000\"\000\"\000\"\000A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000&\000\"\000&\000&\000&\000\"\000&\000&\000&\000&\000\"\000"
+                                    + "&\000&\000\"\0003\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000&\000\"\000A\001\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000A\001A\001I\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001&\000\"\000\"\000\"\000\"\000A\001A\001"
+                                    + "&\000&\000&\000&\000&\000&\000&\000&\000A\001&\000&\000&\000&\000&\000A\001&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000&\000\"\000&\000"
+                                    + "\"\000\"\000\"\000\"\000&\000&\000A\001&\000&\000&\000&\000&\000&\000&\000A\001A\001&\000A\001&\000&\000&\000&\000A\001&\000&\000A\001&\000&\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000A\001\"\000\"\000\"\000\"\000A\001A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000&\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001\"\000A\001\"\000\"\000\"\000\"\000A\001A\001A\001\"\000A\001\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000D\001E\001F\001G\001"
+                                    + "H\001I\001J\001K\001L\001M\001l\001m\001n\001o\001p\001q\001r\001s\001t\001u\001l\001m\001n\001o\001p\001q\001r\001s\001t\001u\001\"\000A\001A\001A\001"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001\027\001H\000H\000\027\001\027\001\316\000\317\000H\000\027\001\027\001H\000\027\001\027\001\027\001H\000H\000H\000H\000H\000\027\001"
+                                    + "\027\001\027\001\027\001H\000H\000H\000H\000H\000\027\001\027\001\027\001H\000H\000H\000\027\001\027\001\027\001\027\001\010\000\011\000\010\000\011\000\010\000\011\000\010\000\011\000\316\000\317\000H\000H\000"
+                                    + "H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000H\000H\000H\000H\000H\000H\000H\000H\000"
+                                    + "H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000"
+                                    + "H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000"
+                                    + "H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000"
+                                    + "H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000"
+                                    + "H\000H\000H\000\316\000\317\000\010\000\011\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000H\000H\000\027\001\027\001\027\001"
+                                    + "\027\001\027\001\027\001H\000\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001H\000H\000H\000H\000H\000H\000H\000H\000\027\001H\000H\000H\000"
+                                    + "H\000H\000H\000H\000\027\001\027\001\027\001\027\001\027\001\027\001H\000H\000H\000\027\001H\000H\000H\000H\000\027\001\027\001\027\001\027\001\027\001H\000\027\001\027\001H\000H\000\316\000\317\000"
+                                    + "\316\000\317\000\027\001H\000H\000H\000H\000\027\001H\000\027\001\027\001\027\001H\000H\000\027\001\027\001H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000\027\001\027\001\027\001\027\001"
+                                    + "\027\001\027\001H\000H\000\316\000\317\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001"
+                                    + "\027\001\027\001\027\001\027\001\027\001\027\001\027\001H\000\027\001\027\001\027\001\027\001H\000H\000\027\001H\000\027\001H\000H\000\027\001H\000\027\001\027\001\027\001\027\001H\000H\000H\000H\000H\000"
+                                    + "\027\001\027\001H\000H\000H\000H\000H\000H\000\027\001\027\001\027\001H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000"
+                                    + "H\000H\000H\000H\000H\000\027\001\027\001H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000\027\001\027\001H\000H\000H\000H\000\027\001\027\001\027\001\027\001H\000\027\001"
+                                    + "\027\001H\000H\000\027\001\027\001H\000H\000H\000H\000\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001"
+                                    + "\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001H\000H\000\027\001\027\001\027\001\027\001\027\001\027\001"
+                                    + "\027\001\027\001H\000\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001"
+                                    + "\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001\027\001H\000H\000H\000H\000H\000\027\001H\000\027\001H\000H\000H\000\027\001\027\001\027\001\027\001\027\001H\000"
+                                    + "H\000H\000H\000H\000\027\001\027\001\027\001H\000H\000H\000H\000\027\001H\000H\000H\000\027\001\027\001\027\001\027\001\027\001H\000\027\001H\000H\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000H\000"
+                                    + "H\000H\000H\000\"\000\"\000H\000H\000H\000H\000H\000H\000\"\000\"\000\"\000A\001\"\000\"\000\"\000\"\000A\001&\000&\000&\000&\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000v\001F\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000F\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000F\0001\000+\0001\0001\0001\000+\000+\0001\000+\0001\000+\0001\000+\0001\000"
+                                    + "1\0001\0001\000+\0001\000+\000+\0001\000+\000+\000+\000+\000+\000+\0007\0007\0001\0001\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000+\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\0001\000+\0001\000+\000J\000J\000J\0001\000+\000F\000F\000F\000F\000F\000G\000G\000G\000G\000w\001G\000G\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000F\000+\000F\000F\000F\000F\000F\000+\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\0007\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000\235\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\000F\0005\0005\0005\0005\0005\0005\0005\000F\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000"
+                                    + "J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000G\000G\000$\000-\000$\000-\000G\000G\000G\000$\000-\000G\000$\000-\000G\000G\000G\000G\000"
+                                    + "G\000G\000G\000G\000G\000M\000G\000G\000M\000G\000$\000-\000G\000G\000$\000-\000\316\000\317\000\316\000\317\000\316\000\317\000\316\000\317\000G\000G\000G\000G\000G\0008\000"
+                                    + "G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000M\000M\000G\000G\000G\000G\000M\000G\000\375\000G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000"
+                                    + "G\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001F\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001F\000F\000F\000F\000x\001y\001y\001y\001A\001z\001\323\000{\001B\001C\001B\001C\001B\001C\001B\001C\001"
+                                    + "B\001C\001A\001A\001B\001C\001B\001C\001B\001C\001B\001C\001|\001}\001~\001~\001A\001\177\001\200\001\201\001\202\001\203\001\204\001\205\001\206\001\207\001\210\001\211\001\212\001\213\001"
+                                    + "\214\001\214\001|\001z\001z\001z\001z\001z\001A\001A\001\215\001\216\001\217\001z\001\323\000y\001A\001\"\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000\220\001\220\001\221\001\221\001z\001z\001\323\000|\001\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000y\001z\001z\001z\001\323\000"
+                                    + "F\000F\000F\000F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000\222\001\222\001\223\001\224\001\225\001\226\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001A\001A\001F\000\223\001\224\001\225\001\226\001\227\001\230\001\231\001\232\001\233\001\234\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\235\001\236\001"
+                                    + "\237\001\240\001\241\001\242\001\243\001\244\001A\001\245\001\246\001\247\001\250\001\251\001\252\001\253\001\254\001\255\001\256\001\257\001\260\001\261\001\262\001\263\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001A\001A\001A\001\222\001\223\001\224\001\225\001\226\001\227\001\230\001"
+                                    + "\231\001\232\001\233\001\234\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\264\001\265\001\266\001\267\001\270\001\271\001\272\001\273\001\274\001\275\001\276\001\277\001\300\001\301\001\302\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001A\001A\001A\001A\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001F\000\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001A\001A\001A\001A\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001A\001A\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001A\001\323\000\323\000\323\000\323\000\323\000\303\001\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\304\001"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\303\001\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\305\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\306\001\323\000\323\000\305\001\323\000\323\000\323\000\307\001\323\000\310\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\311\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\304\001\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\303\001\323\000\312\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\313\001\314\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\315\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\310\001\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\303\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\316\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\313\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\317\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\304\001\323\000\320\001\323\000\321\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\314\001\323\000\315\001\322\001\323\001\323\000\323\000\323\000\323\000\323\000\323\000\324\001\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\310\001\310\001\310\001\310\001\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\312\001\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\306\001\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\306\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\306\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\311\001\322\001\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\306\001\304\001\310\001\323\000\304\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\314\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\320\001\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\305\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\305\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\311\001\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\316\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\312\001\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\307\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\304\001\323\000\323\000\323\000\323\000\304\001"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\304\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\315\001\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\321\001\323\000\323\000\323\000\323\000\323\000\316\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\321\001\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000",
+                    "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\325\001\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000z\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0007\0007\0007\0007\0007\0007\000"
+                                    + "L\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0007\000G\000G\000G\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0005\000J\000K\000K\000K\000G\000J\000J\000"
+                                    + "J\000J\000J\000J\000J\000J\000J\000J\000G\0008\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0007\0007\000J\000J\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\326\001\327\001\330\001\331\001\332\001;\001\333\001\334\001"
+                                    + "\335\001\336\001J\000J\000L\000L\000L\000L\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\000"
+                                    + "9\0009\0009\0009\0009\0009\0009\0009\0009\0009\0009\0008\0008\0008\0008\0008\0008\0008\0008\0008\0009\0009\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\000+\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\000+\0007\000+\000+\000+\000+\000+\000+\000+\000+\0001\000+\0001\000+\0001\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0008\000\337\001\337\0011\000+\0001\000+\0005\0001\000+\0001\000+\000+\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\0001\000+\000"
+                                    + "1\000+\0001\000+\0001\000+\0001\000+\0001\0001\0001\0001\0001\000+\0001\0001\0001\0001\0001\000+\0001\000+\0001\000+\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0007\0007\000+\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\000\216\0005\0005\0005\000\235\0005\0005\0005\0005\000\216\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\216\000\216\000\233\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000\253\000\256\000\254\000\250\000\251\000\252\000I\000I\000"
+                                    + "N\000\026\001F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "G\000G\000G\000G\000F\000F\000F\000F\000F\000F\000F\000F\000\233\000\233\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\235\000\216\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "L\000L\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000"
+                                    + "J\000J\000J\000J\000J\000J\0005\0005\0005\0005\0005\0005\000L\000L\000L\0005\000L\0005\0005\000\216\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000O\000O\000O\000L\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\361\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000L\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000\216\000\216\000"
+                                    + "\216\000\233\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\234\000\233\000\233\000\216\000\216\000\216\000\216\000\233\000\233\000\216\000\233\000"
+                                    + "\233\000\233\000\361\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000F\0007\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000"
+                                    + "F\000F\000L\000L\0005\0005\0005\0005\0005\000\216\0007\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000"
+                                    + "5\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\233\000\216\000\216\000\233\000\233\000\216\000"
+                                    + "\216\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\000\216\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\233\000F\000F\000\236\000\237\000\240\000\241\000"
+                                    + "\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000L\000L\000L\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0007\0005\000"
+                                    + "5\0005\0005\0005\0005\000I\000I\000I\0005\000\233\000\216\000\233\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000J\0005\000J\000J\000O\0005\0005\000J\000J\0005\0005\0005\0005\0005\000J\000J\0005\000J\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0007\000L\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\000\233\000\216\000\216\000\233\000\233\000L\000L\0005\0007\0007\000\233\000\235\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000F\000"
+                                    + "F\0005\0005\0005\0005\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\000F\0005\0005\0005\0005\0005\0005\0005\000F\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000\337\0017\0007\0007\0007\000+\000+\000"
+                                    + "+\000+\000+\000+\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\216\000\233\000\233\000\216\000\233\000\233\000L\000\233\000\235\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000"
+                                    + "\246\000\247\000F\000F\000F\000F\000F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001"
+                                    + "\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001"
+                                    + "\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001"
+                                    + "\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001"
+                                    + "\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\340\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\310\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\314\001\323\000\323\000"
+                                    + "\323\000\323\000\304\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\325\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\321\001\323\000\321\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\314\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000+\000+\000+\000+\000+\000+\000+\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000+\000+\000+\000+\000+\000F\000F\000"
+                                    + "F\000F\000F\000d\000\342\001d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000\024\001d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000F\000"
+                                    + "d\000d\000d\000d\000d\000F\000d\000F\000d\000d\000F\000d\000d\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001\343\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "\344\001\375\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000F\000F\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000h\000\"\000F\000F\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000"
+                                    + "y\001y\001y\001y\001y\001y\001y\001}\001~\001y\001F\000F\000F\000F\000F\000F\000J\000J\000J\000J\000J\000J\000J\000O\000O\000O\000O\000O\000O\000O\000"
+                                    + "J\000J\000y\001|\001|\001\345\001\345\001}\001~\001}\001~\001}\001~\001}\001~\001}\001~\001}\001~\001}\001~\001}\001~\001y\001y\001}\001~\001y\001y\001y\001"
+                                    + "y\001\345\001\345\001\345\001\346\001y\001\346\001F\000y\001\346\001y\001y\001|\001B\001C\001B\001C\001B\001C\001\347\001y\001y\001\350\001\351\001\352\001\352\001k\001F\000y\001\353\001"
+                                    + "\347\001y\001F\000F\000F\000F\000o\000o\000o\000o\000o\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000F\000F\000\360\000"
+                                    + "F\000\354\001\354\001\355\001\356\001\355\001\354\001\354\001\357\001\360\001\354\001\361\001\362\001\363\001\362\001\362\001\364\001\365\001\366\001\367\001\370\001\371\001\372\001\373\001\374\001\375\001\362\001\354\001\376\001\377\001"
+                                    + "\376\001\354\001\354\001\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\000\002\357\001"
+                                    + "\354\001\360\001\001\002\002\002\001\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002\003\002"
+                                    + "\003\002\357\001\377\001\360\001\377\001\357\001\360\001\004\002\005\002\006\002\004\002\004\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\010\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002"
+                                    + "\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002"
+                                    + "\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\010\002\010\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002"
+                                    + "\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002\007\002F\000F\000F\000\007\002\007\002\007\002\007\002\007\002\007\002F\000F\000\007\002\007\002\007\002\007\002\007\002\007\002F\000F\000"
+                                    + "\007\002\007\002\007\002\007\002\007\002\007\002F\000F\000\007\002\007\002\007\002F\000F\000F\000\356\001\356\001\377\001\001\002\011\002\356\001\356\001F\000\012\002\013\002\013\002\013\002\013\002\012\002\012\002F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000\014\002\014\002\014\002\"\000&\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000"
+                                    + "F\000F\000L\000G\000L\000F\000F\000F\000F\000\015\002\016\002\017\002\020\002\021\002\022\002\023\002\024\002\025\002\257\000\335\000\336\000\337\000\340\000\341\000\342\000\343\000\344\000\260\000\026\002\027\002"
+                                    + "\030\002\031\002\032\002\033\002\034\002\035\002\261\000\036\002\037\002 \002!\002\"\002#\002$\002%\002\345\000&\002'\002(\002)\002*\002+\002,\002-\002F\000F\000F\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000.\002/\0020\0021\0022\0023\0024\0025\0021\0026\0022\0027\0023\0028\0024\0021\0026\0022\0027\0023\0028\0029\0025\0026\002"
+                                    + "0\0020\0020\002:\002:\002:\002:\0021\0026\0026\0026\0026\0026\002;\0022\0022\0022\0022\0027\002<\0023\0023\0023\0023\0023\0028\0024\0021\0022\002w\001"
+                                    + "w\001=\002>\002\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\264\000?\002\"\000I\000I\000F\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000O\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000O\000@\002A\002B\002C\002D\002E\002F\002G\002H\002I\002J\002K\002L\002M\002N\002O\002P\002Q\002R\002S\002T\002U\002V\002W\002X\002Y\002Z\002"
+                                    + "F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\000\015\002\021\002\257\000\340\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\000[\0025\0005\0005\0005\0005\0005\0005\0005\000\\\002F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000J\000J\000J\000J\000J\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000L\000\326\001\327\001]\002^\0024\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000"
+                                    + "\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000F\000F\000F\000F\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000L\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000d\000d\000d\000d\000d\000d\000F\000F\000"
+                                    + "d\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000F\000d\000d\000F\000F\000F\000d\000F\000F\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000F\000a\000_\002`\002a\002b\002c\002d\002e\002f\002d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000g\002g\002_\002`\002a\002h\002i\002b\002c\002"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000F\000F\000F\000F\000F\000F\000F\000F\000_\002`\002a\002h\002h\002i\002b\002c\002d\002F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000F\000d\000d\000F\000F\000"
+                                    + "F\000F\000F\000_\002i\002b\002c\002d\002d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "_\002b\002c\002d\002`\002a\002F\000F\000F\000G\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000F\000F\000F\000F\000F\000a\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000F\000F\000F\000F\000j\002k\002d\000d\000_\002`\002a\002h\002i\002l\002m\002n\002o\002b\002"
+                                    + "c\002p\002q\002r\002s\002t\002F\000F\000d\002u\002v\002w\002x\002y\002z\002{\002|\002e\002}\002~\002\177\002\200\002\201\002\202\002\203\002\204\002f\002\205\002\206\002\207\002"
+                                    + "\210\002\211\002\212\002\213\002\214\002\215\002\216\002\217\002\220\002\221\002\222\002\223\002\224\002\225\002\226\002\227\002\230\002\231\002\232\002k\002\233\002\234\002\235\002\236\002d\000\216\000\216\000\216\000F\000\216\000"
+                                    + "\216\000F\000F\000F\000F\000F\000\216\000O\000\216\000J\000d\000d\000d\000d\000F\000d\000d\000d\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000F\000F\000J\000\362\000O\000F\000F\000F\000F\000\235\000\237\002\240\002"
+                                    + "\241\002\242\002b\002c\002d\002e\002k\002F\000F\000F\000F\000F\000F\000F\000a\000a\000a\000a\000a\000a\000a\000a\000a\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000_\002"
+                                    + "r\002a\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000_\002b\002c\002F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000d\000d\000d\000d\000d\000d\000d\000d\000g\002d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000J\000O\000F\000F\000F\000F\000_\002i\002b\002c\002d\002a\000a\000a\000a\000a\000a\000"
+                                    + "a\000F\000F\000F\000F\000F\000F\000F\000F\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000F\000F\000F\000G\000G\000G\000G\000G\000G\000G\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000F\000F\000_\002`\002a\002h\002b\002c\002d\002e\002d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000F\000F\000F\000F\000F\000_\002`\002a\002h\002b\002c\002d\002e\002d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000F\000F\000F\000F\000F\000F\000F\000a\000a\000a\000a\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000_\002"
+                                    + "`\002a\002h\002b\002c\002d\002F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002"
+                                    + "\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002"
+                                    + "\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002F\000"
+                                    + "F\000F\000F\000F\000F\000F\000_\002i\002b\002r\002d\002e\002o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000J\000J\000J\000J\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "v\000w\000x\000y\000z\000{\000|\000}\000~\000\177\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\245\002\246\002\247\002\250\002"
+                                    + "\251\002\252\002\253\002\254\002\255\002\256\002\257\002\260\002\261\002\262\002\263\002\264\002\265\002\266\002\267\002\270\002\271\002\272\002\273\002\274\002\275\002\276\002\277\002\300\002\301\002\302\002\303\002F\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000_\002`\002a\002"
+                                    + "h\002i\002b\002c\002p\002d\002k\002d\000F\000F\000F\000F\000F\000F\000F\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000o\000o\000O\000O\000J\000J\000J\000O\000J\000O\000O\000O\000O\000\304\002\305\002\306\002\307\002j\000j\000j\000j\000j\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000\233\000\216\000\233\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\235\000L\000L\000L\000L\000L\000L\000L\000F\000F\000F\000F\000l\001m\001"
+                                    + "n\001o\001p\001q\001r\001s\001t\001u\001\310\002\311\002\312\002\313\002\314\002\315\002\316\002\317\002\320\002\321\002\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\235\000\216\000\216\000\233\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000\233\000\233\000\235\000\234\000L\000L\000\370\000L\000L\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000\370\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000J\000J\000J\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\000\216\000\216\000\216\000\216\000\216\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\235\000\235\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000L\000L\000L\000L\000"
+                                    + "5\000\233\000\233\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\234\000L\000L\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "\216\000\216\000\233\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\233\000\361\0005\0005\0005\0005\000L\000L\000L\000L\000\216\000\234\000\216\000\216\000L\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000"
+                                    + "5\000L\0005\000L\000L\000L\000F\000\015\002\016\002\017\002\020\002\021\002\022\002\023\002\024\002\025\002\257\000\335\000\336\000\337\000\340\000\341\000\342\000\343\000\344\000\260\000\261\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\233\000\233\000"
+                                    + "\216\000\361\000\234\000\216\000L\000L\000L\000L\000L\000L\000\216\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\000F\0005\0005\0005\0005\000"
+                                    + "F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000L\000F\000F\000"
+                                    + "F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\234\000\235\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000\216\000\216\000\233\000\233\000F\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000F\000F\0005\0005\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\000F\0005\0005\0005\0005\0005\000F\000\234\000\234\0005\000\233\000\233\000\216\000\233\000"
+                                    + "\233\000\233\000\233\000F\000F\000\233\000\233\000F\000F\000\233\000\233\000\361\000F\000F\0005\000F\000F\000F\000F\000F\000F\000\233\000F\000F\000F\000F\000F\0005\0005\0005\000"
+                                    + "5\0005\000\233\000\233\000F\000F\000J\000J\000J\000J\000J\000J\000J\000F\000F\000F\000J\000J\000J\000J\000J\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000",
+                    "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\233\000\233\000\235\000\216\000\216\000\233\000\234\0005\0005\0005\0005\000L\000L\000L\000L\000L\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000"
+                                    + "F\000L\000F\000L\000J\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\233\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\233\000\216\000\233\000\233\000\233\000\233\000\216\000\216\000\233\000\235\000\234\0005\0005\000L\0005\000F\000F\000F\000F\000F\000F\000F\000F\000\236\000\237\000"
+                                    + "\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000F\000F\000\233\000\233\000\233\000\233\000\216\000\216\000\233\000\235\000\234\000L\000L\000L\000L\000L\000L\000L\000L\000L\000"
+                                    + "L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\000L\0005\0005\0005\0005\000\216\000\216\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\233\000\216\000\233\000\235\000\216\000L\000"
+                                    + "L\000L\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000"
+                                    + "G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000G\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\233\000\216\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\361\000\234\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000F\000F\000\216\000\216\000\216\000\233\000\233\000\216\000\216\000\216\000\216\000\233\000\216\000\216\000\216\000\216\000\235\000F\000F\000F\000F\000\236\000\237\000"
+                                    + "\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\257\000\335\000L\000L\000L\000I\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\000\233\000\233\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\235\000\234\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\257\000\335\000\336\000\337\000\340\000\341\000\342\000\343\000\344\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\0005\0005\000\216\000\216\000\216\000\216\000\216\000\216\000\270\000\270\000\216\000\216\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\235\000\216\000\216\000\216\000"
+                                    + "\216\000\233\0005\000\216\000\216\000\216\000\216\000L\000L\000L\000L\000L\000L\000L\000L\000\235\000F\000F\000F\000F\000F\000F\000F\000F\0005\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\233\000\233\000\216\000\216\000\216\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\0005\0005\0005\0005\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\233\000\216\000\235\000L\000L\000L\0005\000L\000L\000L\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000F\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\322\0025\000L\000L\000L\000L\000L\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000\015\002\016\002\017\002\020\002\021\002\022\002\023\002\024\002\025\002\257\000"
+                                    + "\335\000\336\000\337\000\340\000\341\000\342\000\343\000\344\000\260\000F\000F\000F\000L\000L\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000F\000\233\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\233\000\216\000\216\000\233\000\216\000\216\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\000F\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000F\000F\000F\000\216\000F\000\216\000\216\000F\000\216\000\216\000\216\000\234\000\216\000\235\000\235\0005\000\216\000F\000F\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000"
+                                    + "\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000F\0005\0005\000F\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\233\000\233\000\233\000\233\000\233\000F\000"
+                                    + "\216\000\216\000F\000\233\000\233\000\216\000\233\000\235\0005\000F\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000\216\000\216\000\233\000\233\000L\000L\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000\327\001\330\001\331\001\332\001;\001\333\001\334\001\335\001\330\001\331\001\332\001;\001\333\001\334\001\335\001\331\001\332\001;\001\333\001\334\001\335\001\326\001"
+                                    + "\327\001\330\001\331\001\332\001;\001\333\001\334\001\335\001\326\001\327\001\330\001\331\001\332\001\327\001\330\001\330\001\331\001\332\001;\001\333\001\334\001\335\001\326\001\327\001\330\001\330\001\331\001\332\001\323\002\324\002"
+                                    + "\326\001\327\001\330\001\330\001\331\001\332\001\330\001\330\001\331\001\331\001\331\001\331\001;\001\333\001\333\001\333\001\334\001\334\001\335\001\335\001\335\001\335\001\327\001\330\001\331\001\332\001;\001\326\001\327\001\330\001"
+                                    + "\331\001\331\001\332\001\332\001\327\001\330\001\326\001\327\001\325\002\326\002\327\002\325\002\326\002\330\002\331\002\332\002\331\002\331\002\333\002\325\002\326\002\334\0023\001\331\001\332\001;\001\333\001\334\001\335\001F\000"
+                                    + "L\000L\000L\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000F\000F\000F\000"
+                                    + "L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\000F\000F\000\362\000\362\000\362\000\362\000\362\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000J\000J\000J\000J\000J\000J\000J\000L\000L\000L\000L\000L\000I\000I\000I\000I\000"
+                                    + "7\0007\0007\0007\000L\000I\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\236\000\237\000\240\000\241\000\242\000\243\000\244\000\245\000\246\000\247\000F\000\257\000\260\000\345\000"
+                                    + "\335\002\336\002\337\002\340\002F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000"
+                                    + "F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000\341\002\015\002\016\002\017\002\020\002\021\002\022\002\023\002\024\002\025\002"
+                                    + "\257\000\342\002\343\002\344\002\345\002\346\002\255\000\347\002\350\002\351\002\015\002\016\002\017\002L\000L\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\0005\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000"
+                                    + "\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000\233\000"
+                                    + "\233\000\233\000\233\000\233\000\233\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\216\000\216\000\216\000\216\0007\0007\0007\0007\0007\000"
+                                    + "7\0007\0007\0007\0007\0007\0007\0007\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000z\001z\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000F\0005\0005\0005\0005\0005\0005\000"
+                                    + "5\0005\0005\000F\000F\000F\000F\000F\000F\000F\0005\0005\0005\0005\0005\0005\0005\0005\0005\0005\000F\000F\000I\000\216\000\362\000L\000\360\000\360\000\360\000\360\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000F\000F\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000\352\002\352\002\362\000\362\000\362\000I\000I\000I\000\353\002"
+                                    + "\352\002\352\002\352\002\352\002\352\002\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000O\000O\000O\000O\000O\000O\000O\000O\000I\000I\000J\000J\000J\000J\000J\000O\000O\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "J\000J\000J\000J\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000J\000J\000J\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\341\002\015\002\016\002\017\002\020\002\021\002\022\002\023\002\024\002\025\002\257\000\342\002\343\002\344\002\345\002\346\002\255\000\347\002\350\002\351\002"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\015\002\016\002\017\002\020\002\021\002\022\002\023\002\024\002\025\002\257\000\335\000\336\000"
+                                    + "\337\000\340\000\341\000\342\000\343\000\344\000\015\002\016\002\017\002\020\002\021\002\015\002\021\002F\000F\000F\000F\000F\000F\000F\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000F\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\000F\0001\0001\000"
+                                    + "F\000F\0001\000F\000F\0001\0001\000F\000F\0001\0001\0001\0001\000F\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000F\000+\000F\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000F\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\000F\0001\0001\0001\0001\000F\000F\0001\0001\0001\0001\0001\0001\0001\0001\000F\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\000F\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\0001\0001\000F\0001\0001\0001\0001\000F\0001\0001\0001\0001\0001\000F\0001\000F\000F\000F\0001\0001\0001\0001\0001\0001\0001\000F\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\0001\0001\0001\0001\0001\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000F\000F\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\0001\0001\000\354\002+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000"
+                                    + "+\000\027\001+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\0001\0001\000\354\002+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000\027\001"
+                                    + "+\000+\000+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000"
+                                    + "1\000\354\002+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000\027\001+\000+\000"
+                                    + "+\000+\000+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000\354\002"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000\027\001+\000+\000+\000+\000"
+                                    + "+\000+\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\0001\000\354\002+\000+\000"
+                                    + "+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000+\000\027\001+\000+\000+\000+\000+\000+\000"
+                                    + "1\000+\000F\000F\000\202\000\203\000\204\000\205\000\206\000\207\000\210\000\211\000\212\000\213\000\202\000\203\000\204\000\205\000\206\000\207\000\210\000\211\000\212\000\213\000\202\000\203\000\204\000\205\000\206\000\207\000"
+                                    + "\210\000\211\000\212\000\213\000\202\000\203\000\204\000\205\000\206\000\207\000\210\000\211\000\212\000\213\000\202\000\203\000\204\000\205\000\206\000\207\000\210\000\211\000\212\000\213\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000I\000I\000I\000I\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000I\000I\000I\000I\000I\000I\000I\000I\000\216\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000\216\000I\000I\000L\000L\000L\000L\000L\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\216\000"
+                                    + "\216\000\216\000\216\000\216\000F\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000\216\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000J\000J\000J\000J\000J\000J\000J\000F\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000J\000"
+                                    + "J\000J\000J\000J\000J\000F\000F\000J\000J\000J\000J\000J\000J\000J\000F\000J\000J\000F\000J\000J\000J\000J\000J\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000d\000"
+                                    + "d\000d\000d\000d\000d\000F\000F\000_\002`\002a\002h\002i\002l\002m\002n\002o\002O\000O\000O\000O\000O\000O\000O\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002"
+                                    + "\243\002\243\002\243\002\243\002\243\002\243\002\243\002\243\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002"
+                                    + "\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002\244\002J\000J\000J\000J\000J\000J\000\234\000F\000F\000F\000F\000F\000\217\000\220\000\221\000\222\000\223\000\224\000"
+                                    + "\225\000\226\000\227\000\230\000F\000F\000F\000F\000a\000a\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000\304\002\355\002\356\002\357\002\360\002\361\002\362\002\363\002\364\002\305\002\306\002\365\002\366\002\367\002\370\002\371\002\372\002\373\002\307\002\374\002\375\002\376\002\377\002\000\003\001\003"
+                                    + "\002\003\003\003\004\003\005\003\006\003\007\003\010\003\011\003\012\003\013\003\014\003\015\003\016\003\017\003\020\003\021\003\022\003\023\003\024\003\025\003\026\003\027\003\026\003\030\003\031\003\304\002\355\002\356\002\357\002\360\002"
+                                    + "\361\002\362\002\363\002\364\002\214\000\032\003\033\003\034\003h\000\304\002\355\002\015\003\026\003F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000o\000o\000"
+                                    + "o\000o\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "F\000o\000o\000F\000o\000F\000F\000o\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000F\000o\000o\000o\000o\000F\000o\000F\000o\000F\000F\000"
+                                    + "F\000F\000F\000F\000o\000F\000F\000F\000F\000o\000F\000o\000F\000o\000F\000o\000o\000o\000F\000o\000o\000F\000o\000F\000F\000o\000F\000o\000F\000o\000"
+                                    + "F\000o\000F\000o\000F\000o\000o\000F\000o\000F\000F\000o\000o\000o\000o\000F\000o\000o\000o\000o\000o\000o\000o\000F\000o\000o\000o\000o\000F\000o\000"
+                                    + "o\000o\000o\000F\000o\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000F\000F\000F\000F\000F\000o\000o\000o\000F\000o\000o\000o\000o\000o\000F\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000o\000"
+                                    + "o\000o\000o\000o\000o\000o\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000H\000H\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000"
+                                    + "F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "\035\003\035\003,\000)\000*\000\016\001X\001Y\001Z\001[\001\\\001\264\000\264\000F\000F\000F\000h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001"
+                                    + "h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001I\000\"\000h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001"
+                                    + "h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001"
+                                    + "h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001\"\000\"\000F\000F\000F\000F\000h\001h\001h\001h\001h\001h\001h\001h\001"
+                                    + "h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001\222\001h\001h\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001h\001F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000"
+                                    + "I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000I\000\222\001\222\001\222\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001"
+                                    + "\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001F\000F\000F\000F\000\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001\222\001F\000"
+                                    + "F\000F\000F\000F\000F\000F\000\222\001\222\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000A\001A\001A\001A\001A\001A\001F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000"
+                                    + "A\001A\001",
+                    "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000\"\000\"\000\"\000A\001A\001A\001A\001A\001\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000\"\000\"\000A\001\"\000\"\000\"\000"
+                                    + "A\001A\001A\001\221\001\221\001\221\001\221\001\221\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000A\001\"\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000\"\000A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001A\001A\001\"\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000A\001\"\000\"\000\"\000A\001A\001A\001\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000A\001A\001F\000F\000F\000\"\000\"\000\"\000\"\000A\001A\001A\001A\001A\001A\001F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000F\000F\000F\000F\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001F\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001F\000F\000A\001A\001A\001A\001F\000F\000F\000"
+                                    + "A\001F\000A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001F\000F\000F\000F\000F\000F\000A\001A\001A\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001"
+                                    + "A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001A\001F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000\"\000"
+                                    + "\"\000\"\000\"\000\"\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\323\000\305\001\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\312\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\312\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\303\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\306\001\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\001\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\324\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\324\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\321\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\310\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\310\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\304\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\310\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\310\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\312\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\311\001\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000"
+                                    + "\323\000\323\000\323\000\323\000\323\000\323\000\323\000\323\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\360\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000"
+                                    + "\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000"
+                                    + "\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000"
+                                    + "\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000\360\000C\000C\000C\000C\000C\000C\000"
+                                    + "C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000"
+                                    + "C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000"
+                                    + "C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000"
+                                    + "C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000"
+                                    + "C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000"
+                                    + "C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000"
+                                    + "C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000"
+                                    + "C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000C\000F\000F\000F\000F\000F\000F\000"
+                                    + "F\000F\000F\000F\000F\000F\000F\000F\000F\000F\000\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001"
+                                    + "\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001\341\001F\000F\000",
+    };
+}
@@ -37,13 +37,12 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
-def frombytes(self, bytesLike):
-    for b in bytesLike:
-        self.append(b)
+blake2b.SALT_SIZE = BLAKE2B_SALT_SIZE
+blake2b.PERSON_SIZE = BLAKE2B_PERSON_SIZE
+blake2b.MAX_KEY_SIZE = BLAKE2B_MAX_KEY_SIZE
+blake2b.MAX_DIGEST_SIZE = BLAKE2B_MAX_DIGEST_SIZE
 
-
-def fromfile(self, f, n):
-    self.frombytes(f.read(n))
-
-array.frombytes = frombytes
-array.fromfile = fromfile
+blake2s.SALT_SIZE = BLAKE2S_SALT_SIZE
+blake2s.PERSON_SIZE = BLAKE2S_PERSON_SIZE
+blake2s.MAX_KEY_SIZE = BLAKE2S_MAX_KEY_SIZE
+blake2s.MAX_DIGEST_SIZE = BLAKE2S_MAX_DIGEST_SIZE
@@ -71,6 +71,7 @@ def lookup(encoding):
             break
 
     if result:
+        __install_incremental_decoder(result)
         # Cache and return the result
         __codec_search_cache__[normalized_encoding] = result
         return result
@@ -78,6 +79,60 @@ def lookup(encoding):
     raise LookupError("unknown encoding: %s" % encoding)
 
 
+__fast_incremental_errors = ('strict', 'ignore', 'replace')
+
+
+def __install_incremental_decoder(codec_info):
+    # give the stdlib incremental decoders of the codecs that have a native
+    # stateful implementation a subclass that delegates to it; other error
+    # handlers and user-defined decoder classes keep the Python decoder
+    decoder_cls = getattr(codec_info, "incrementaldecoder", None)
+    module = sys.modules.get(getattr(decoder_cls, "__module__", None))
+    if module is None or not module.__name__.startswith("encodings.") or getattr(module, "IncrementalDecoder", None) is not decoder_cls:
+        return
+    name = codec_info.name
+    try:
+        IncrementalDecoder(name)
+    except LookupError:
+        return
+    fast_errors = __fast_incremental_errors
+
+    class NativeIncrementalDecoder(decoder_cls):
+        _native = None
+
+        def __init__(self, errors='strict'):
+            decoder_cls.__init__(self, errors)
+            if errors in fast_errors:
+                self._native = IncrementalDecoder(name, errors)
+
+        def decode(self, input, final=False):
+            if self._native is None:
+                return decoder_cls.decode(self, input, final)
+            return self._native.decode(input, final)
+
+        def reset(self):
+            if self._native is None:
+                decoder_cls.reset(self)
+            else:
+                self._native.reset()
+
+        def getstate(self):
+            if self._native is None:
+                return decoder_cls.getstate(self)
+            return self._native.getstate()
+
+        def setstate(self, state):
+            if self._native is None:
+                decoder_cls.setstate(self, state)
+            else:
+                self._native.setstate(state)
+
+    NativeIncrementalDecoder.__name__ = decoder_cls.__name__
+    NativeIncrementalDecoder.__qualname__ = decoder_cls.__qualname__
+    NativeIncrementalDecoder.__module__ = decoder_cls.__module__
+    codec_info.incrementaldecoder = NativeIncrementalDecoder
+
+
 def _forget_codec(encoding):
     normalized_encoding = __normalizestring(encoding)
     return __codec_search_cache__.pop(normalized_encoding)
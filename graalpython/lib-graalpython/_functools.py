@@ -37,30 +37,35 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
-@__builtin__
-def reduce(function, iterable, initializer=None):
-    it = iter(iterable)
-    if initializer is None:
-        value = next(it)
-    else:
-        value = initializer
-    for element in it:
-        value = function(value, element)
-    return value
 
+def __partial_repr(self):
+    args = [repr(self.func)]
+    args.extend(repr(x) for x in self.args)
+    args.extend("%s=%r" % (k, v) for (k, v) in self.keywords.items())
+    name = "functools.partial" if type(self) is partial else type(self).__qualname__
+    return "%s(%s)" % (name, ", ".join(args))
 
-class partial:
-    def __init__(self, func, *args, **keywords):
-        def newfunc(*fargs, **fkeywords):
-            newkeywords = keywords.copy()
-            newkeywords.update(fkeywords)
-            return func(*args, *fargs, **newkeywords)
-        self.func = func
-        self.args = args
-        self.keywords = keywords
-        self.newfunc = newfunc
-    
-    def __call__(self, *args, **keywords):
-        return self.newfunc(*args, **keywords)
-    
-    # TODO: correctly implement '__reduce__' and '__setstate__'
+
+def __partial_reduce(self):
+    return type(self), (self.func,), (self.func, self.args, self.keywords or None, self.__dict__ or None)
+
+
+partial.__repr__ = __partial_repr
+partial.__reduce__ = __partial_reduce
+
+
+def __lru_cache_wrapper_reduce(self):
+    return self.__qualname__
+
+
+def __lru_cache_wrapper_copy(self):
+    return self
+
+
+def __lru_cache_wrapper_deepcopy(self, memo):
+    return self
+
+
+_lru_cache_wrapper.__reduce__ = __lru_cache_wrapper_reduce
+_lru_cache_wrapper.__copy__ = __lru_cache_wrapper_copy
+_lru_cache_wrapper.__deepcopy__ = __lru_cache_wrapper_deepcopy
@@ -39,9 +39,6 @@
 
 # an empty file for now
 
-bytearray.decode = bytes.decode
-
-
 def strip(self, what=None):
     return self.lstrip(what).rstrip(what)
 
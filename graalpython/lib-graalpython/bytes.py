@@ -37,26 +37,6 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
-import _codecs
-
-
-def decode(self, encoding="utf-8", errors="strict"):
-    """Decode the bytes using the codec registered for encoding.
-
-    encoding
-      The encoding with which to decode the bytes.
-    errors
-      The error handling scheme to use for the handling of decoding errors.
-      The default is 'strict' meaning that decoding errors raise a
-      UnicodeDecodeError. Other possible values are 'ignore' and 'replace'
-      as well as any other name registered with codecs.register_error that
-      can handle UnicodeDecodeErrors.
-    """
-    return _codecs.decode(self, encoding=encoding, errors=errors)
-
-
-bytes.decode = decode
-
 
 def count(self, sub, start=None, end=None):
     arr = self
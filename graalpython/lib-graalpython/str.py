@@ -21,7 +21,6 @@
 # LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
 # FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
 # DEALINGS IN THE SOFTWARE.
-import _codecs
 
 
 def partition(self, sep):
@@ -386,24 +385,6 @@ def strcount(self, sub, start=None, end=None):
 str.count = strcount
 
 
-def encode(self, encoding="utf-8", errors="strict"):
-    """Decode the bytes using the codec registered for encoding.
-
-    encoding
-      The encoding with which to decode the bytes.
-    errors
-      The error handling scheme to use for the handling of decoding errors.
-      The default is 'strict' meaning that decoding errors raise a
-      UnicodeDecodeError. Other possible values are 'ignore' and 'replace'
-      as well as any other name registered with codecs.register_error that
-      can handle UnicodeDecodeErrors.
-    """
-    return _codecs.encode(self, encoding=encoding, errors=errors)
-
-
-str.encode = encode
-
-
 def formatter_parser(string):
     return TemplateFormatter(string).formatter_parser()
 
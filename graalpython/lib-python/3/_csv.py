@@ -82,10 +82,24 @@ SETTINGS:
 
 __version__ = "1.0"
 
+from sys import maxsize as _maxsize
+
 QUOTE_MINIMAL, QUOTE_ALL, QUOTE_NONNUMERIC, QUOTE_NONE = range(4)
 _dialects = {}
 _field_limit = 128 * 1024 # max parsed field size
 
+try:
+    # line scanning and row joining in Java
+    import _truffle_csv
+except ImportError:
+    _truffle_csv = None
+
+# rows joined by Writer.writerows before they are written
+_WRITEROWS_CHUNK = 256
+
+def _char_code(c):
+    return ord(c) if c else -1
+
 class Error(Exception):
     pass
 
@@ -236,6 +250,16 @@ class Reader(object):
 
         self._parse_reset()
 
+        # the line scanner in Java, which does not convert numeric fields
+        d = self.dialect
+        if _truffle_csv is not None and d.quoting in (QUOTE_MINIMAL, QUOTE_ALL, QUOTE_NONE):
+            self._parser = _truffle_csv.Parser(_char_code(d.delimiter),
+                                               _char_code(d.quotechar) if d.quoting != QUOTE_NONE else -1,
+                                               _char_code(d.escapechar),
+                                               d.doublequote, d.skipinitialspace, d.strict)
+        else:
+            self._parser = None
+
     def _parse_reset(self):
         self.field = ''
         self.fields = []
@@ -246,7 +270,12 @@ class Reader(object):
         return self
 
     def __next__(self):
+        if self._parser is not None:
+            return self._scan_next()
         self._parse_reset()
+        return self._parse_record()
+
+    def _parse_record(self):
         while True:
             try:
                 line = next(self.input_iter)
@@ -258,12 +287,12 @@ class Reader(object):
 
             self.line_num += 1
 
+            if not isinstance(line, str):
+                raise Error("iterator should return strings, not %.200s "
+                            "(did you open the file in text mode?)" % type(line).__name__)
             if '\0' in line:
                 raise Error("line contains NULL byte")
-            pos = 0
-            while pos < len(line):
-                pos = self._parse_process_char(line, pos)
-            self._parse_eol()
+            self._parse_line(line)
 
             if self.state == self.START_RECORD:
                 break
@@ -271,7 +300,61 @@ class Reader(object):
         fields = self.fields
         self.fields = []
         return fields
-            
+
+    def _parse_line(self, line):
+        pos = 0
+        while pos < len(line):
+            pos = self._parse_process_char(line, pos)
+        self._parse_eol()
+
+    def _scan_next(self):
+        # Like __next__, but each line is processed in a single call.
+        parser = self._parser
+        parser.reset()
+        limit = min(_field_limit, _maxsize)
+        while True:
+            try:
+                line = next(self.input_iter)
+            except StopIteration:
+                # End of input OR exception
+                if parser.getstate()[1]:
+                    raise Error("newline inside string")
+                raise
+
+            self.line_num += 1
+
+            if not isinstance(line, str):
+                raise Error("iterator should return strings, not %.200s "
+                            "(did you open the file in text mode?)" % type(line).__name__)
+            if '\0' in line:
+                raise Error("line contains NULL byte")
+            result = parser.parse_line(line, limit)
+            if type(result) is list:
+                return result
+            if result is None:
+                # the parser cannot handle this line, continue the record in Python
+                self._parse_reset()
+                self.state, self.field, self.fields = parser.getstate()
+                self._parse_line(line)
+                if self.state == self.START_RECORD:
+                    fields = self.fields
+                    self.fields = []
+                    return fields
+                return self._parse_record()
+            if result:
+                self._scan_error(result)
+
+    def _scan_error(self, code):
+        if code == -1:
+            raise Error("field larger than field limit (%d)" % (_field_limit))
+        elif code == -2:
+            raise Error("'%c' expected after '%c'" %
+                        (self.dialect.delimiter, self.dialect.quotechar))
+        else:
+            raise Error("new-line character seen in unquoted field - "
+                        "do you need to open the file "
+                        "in universal-newline mode?")
+
     def _parse_process_char(self, line, pos):
         c = line[pos]
         if self.state == self.IN_FIELD:
@@ -287,7 +370,9 @@ class Reader(object):
                     self.state = self.EAT_CRNL
                 elif c == self.dialect.escapechar:
                     # possible escaped character
-                    pos2 -= 1
+                    if pos2 > pos:
+                        self._parse_add_char(line[pos:pos2])
+                        pos = pos2
                     self.state = self.ESCAPED_CHAR
                 elif c == self.dialect.delimiter:
                     # save field - wait for new field
@@ -452,6 +537,17 @@ class Writer(object):
         self.writeline = file.write
         self.dialect = _call_dialect(dialect, kwargs)
 
+        # arguments for _truffle_csv.join_row, which does not check for
+        # numeric fields
+        d = self.dialect
+        if (_truffle_csv is not None and type(d.quoting) is int
+                and d.quoting in (QUOTE_MINIMAL, QUOTE_ALL, QUOTE_NONE)):
+            self._join_args = (_char_code(d.delimiter), _char_code(d.quotechar),
+                               _char_code(d.escapechar), d.lineterminator,
+                               d.quoting, d.doublequote)
+        else:
+            self._join_args = None
+
     def _join_reset(self):
         self.rec = []
         self.num_fields = 0
@@ -483,11 +579,13 @@ class Writer(object):
                     need_escape = (dialect.quotechar,)
 
 
-        for c in need_escape:
-            if c and c in field:
-                if not dialect.escapechar:
-                    raise Error("need to escape, but no escapechar set")
-                field = field.replace(c, dialect.escapechar + c)
+        # escape in a single pass, so that inserted escapechars are not escaped again
+        need_escape = [c for c in need_escape if c and c in field]
+        if need_escape:
+            if not dialect.escapechar:
+                raise Error("need to escape, but no escapechar set")
+            field = ''.join(dialect.escapechar + c if c in need_escape else c
+                            for c in field)
 
         # If field is empty check if it needs to be quoted
         if field == '' and quote_empty:
@@ -503,7 +601,35 @@ class Writer(object):
 
 
 
+    def _join_row(self, row):
+        # Converts the fields and joins them in _truffle_csv.join_row.
+        try:
+            len(row)
+        except TypeError:
+            raise Error("sequence expected")
+
+        values = []
+        for field in row:
+            if type(field) is not str:
+                if field is None:
+                    field = ""
+                elif isinstance(field, float):
+                    field = repr(field)
+                else:
+                    field = str(field)
+            values.append(field)
+        line = _truffle_csv.join_row(values, *self._join_args)
+        if type(line) is int:
+            if line == -4:
+                raise Error("need to escape, but no escapechar set")
+            raise Error("single empty field record must be quoted")
+        return line
+
     def writerow(self, row):
+        if self._join_args is not None:
+            self.writeline(self._join_row(row))
+            return
+
         dialect = self.dialect
         try:
             rowlen = len(row)
@@ -539,8 +665,23 @@ class Writer(object):
         self.writeline(''.join(self.rec))
 
     def writerows(self, rows):
-        for row in rows:
-            self.writerow(row)
+        if self._join_args is None:
+            for row in rows:
+                self.writerow(row)
+            return
+
+        # write the rows in chunks, but still all rows before an error
+        lines = []
+        try:
+            for row in rows:
+                lines.append(self._join_row(row))
+                if len(lines) >= _WRITEROWS_CHUNK:
+                    chunk = ''.join(lines)
+                    del lines[:]
+                    self.writeline(chunk)
+        finally:
+            if lines:
+                self.writeline(''.join(lines))
 
 def reader(*args, **kwargs):
     """
@@ -589,7 +730,7 @@ def field_size_limit(limit=undefined):
     old_limit = _field_limit
     
     if limit is not undefined:
-        if not isinstance(limit, (int, long)):
+        if not isinstance(limit, int):
             raise TypeError("int expected, got %s" %
                             (limit.__class__.__name__,))
         _field_limit = limit
@@ -474,6 +474,76 @@ def b85decode(b):
         result = result[:-padding]
     return result
 
+# TODO: TRUFFLE CHANGE BEGIN
+# Route the base16, base32 and base85 codecs to the Java kernels in
+# _truffle_base64. Each kernel returns None when it cannot compute the result,
+# in which case the original implementation runs and raises.
+try:
+    import _truffle_base64 as _k
+except ImportError:
+    pass
+else:
+    def _with_kernel(original):
+        def decorator(func):
+            func.__doc__ = original.__doc__
+            return func
+        return decorator
+
+    _py_b16encode = b16encode
+    _py_b16decode = b16decode
+    _py_b32encode = b32encode
+    _py_b32decode = b32decode
+    _py_b85encode = b85encode
+    _py_b85decode = b85decode
+
+    @_with_kernel(_py_b16encode)
+    def b16encode(s):
+        if not isinstance(s, bytes_types):
+            s = memoryview(s).tobytes()
+        return _k.b16encode(s)
+
+    @_with_kernel(_py_b16decode)
+    def b16decode(s, casefold=False):
+        s = _bytes_from_decode_data(s)
+        result = _k.b16decode(s, bool(casefold))
+        if result is None:
+            return _py_b16decode(s, casefold)
+        return result
+
+    @_with_kernel(_py_b32encode)
+    def b32encode(s):
+        if not isinstance(s, bytes_types):
+            s = memoryview(s).tobytes()
+        return _k.b32encode(s)
+
+    @_with_kernel(_py_b32decode)
+    def b32decode(s, casefold=False, map01=None):
+        s = _bytes_from_decode_data(s)
+        mapped = -1
+        if map01 is not None:
+            map01 = _bytes_from_decode_data(map01)
+            assert len(map01) == 1, repr(map01)
+            mapped = map01[0]
+        result = _k.b32decode(s, bool(casefold), mapped)
+        if result is None:
+            return _py_b32decode(s, casefold, map01)
+        return result
+
+    @_with_kernel(_py_b85encode)
+    def b85encode(b, pad=False):
+        if not isinstance(b, bytes_types):
+            b = memoryview(b).tobytes()
+        return _k.b85encode(b, bool(pad))
+
+    @_with_kernel(_py_b85decode)
+    def b85decode(b):
+        b = _bytes_from_decode_data(b)
+        result = _k.b85decode(b)
+        if result is None:
+            return _py_b85decode(b)
+        return result
+# TODO: TRUFFLE CHANGE END
+
 # Legacy interface.  This code could be cleaned up since I don't believe
 # binascii has any line length limitations.  It just doesn't seem worth it
 # though.  The files should be opened in binary mode.
@@ -2450,6 +2450,205 @@ _EPOCH = datetime(1970, 1, 1, tzinfo=timezone.utc)
 # perverse time zone returns a negative dst()).  So a breaking case must be
 # pretty bizarre, and a tzinfo subclass can override fromutc() if it is.
 
+# TODO: TRUFFLE CHANGE BEGIN
+# Route the hot paths of the exact datetime types to the Java kernels in
+# _truffle_datetime. Each kernel returns None when it cannot compute the
+# result, in which case the original implementation runs and raises.
+try:
+    import _truffle_datetime as _k
+except ImportError:
+    pass
+else:
+    def _new_timedelta(d, s, us):
+        self = object.__new__(timedelta)
+        self._days = d
+        self._seconds = s
+        self._microseconds = us
+        self._hashcode = -1
+        return self
+
+    def _new_date(y, m, d):
+        self = object.__new__(date)
+        self._year = y
+        self._month = m
+        self._day = d
+        self._hashcode = -1
+        return self
+
+    def _new_datetime(y, m, d, hh, mm, ss, us, tzinfo):
+        self = object.__new__(datetime)
+        self._year = y
+        self._month = m
+        self._day = d
+        self._hour = hh
+        self._minute = mm
+        self._second = ss
+        self._microsecond = us
+        self._tzinfo = tzinfo
+        self._hashcode = -1
+        self._fold = 0
+        return self
+
+    def _patch_datetime():
+        td_add = timedelta.__add__
+        td_sub = timedelta.__sub__
+        td_neg = timedelta.__neg__
+
+        def __add__(self, other):
+            if isinstance(other, timedelta):
+                r = _k.normalize_timedelta(self._days + other._days,
+                                           self._seconds + other._seconds,
+                                           self._microseconds + other._microseconds)
+                if r is not None:
+                    return _new_timedelta(*r)
+            return td_add(self, other)
+
+        def __sub__(self, other):
+            if isinstance(other, timedelta):
+                r = _k.normalize_timedelta(self._days - other._days,
+                                           self._seconds - other._seconds,
+                                           self._microseconds - other._microseconds)
+                if r is not None:
+                    return _new_timedelta(*r)
+            return td_sub(self, other)
+
+        def __neg__(self):
+            r = _k.normalize_timedelta(-self._days, -self._seconds, -self._microseconds)
+            if r is not None:
+                return _new_timedelta(*r)
+            return td_neg(self)
+
+        timedelta.__add__ = timedelta.__radd__ = __add__
+        timedelta.__sub__ = __sub__
+        timedelta.__neg__ = __neg__
+
+        date_add = date.__add__
+        date_sub = date.__sub__
+        date_strftime = date.strftime
+
+        def __add__(self, other):
+            if type(self) is date and type(other) is timedelta:
+                r = _k.add_days(self._year, self._month, self._day, other._days)
+                if r is not None:
+                    return _new_date(*r)
+            return date_add(self, other)
+
+        def __sub__(self, other):
+            if type(self) is date:
+                if type(other) is timedelta:
+                    r = _k.add_days(self._year, self._month, self._day, -other._days)
+                    if r is not None:
+                        return _new_date(*r)
+                elif type(other) is date:
+                    return _new_timedelta(_k.days_between(self._year, self._month, self._day,
+                                                          other._year, other._month, other._day), 0, 0)
+            return date_sub(self, other)
+
+        def strftime(self, fmt):
+            "Format using strftime()."
+            if type(self) is date and type(fmt) is str:
+                r = _k.strftime(fmt, self._year, self._month, self._day, 0, 0, 0, 0)
+                if r is not None:
+                    return r
+            return date_strftime(self, fmt)
+
+        date.__add__ = date.__radd__ = __add__
+        date.__sub__ = __sub__
+        date.strftime = strftime
+
+        dt_add = datetime.__add__
+        dt_sub = datetime.__sub__
+        dt_isoformat = datetime.isoformat
+        dt_strftime = datetime.strftime
+        dt_fromisoformat = datetime.fromisoformat.__func__
+        dt_strptime = datetime.strptime.__func__
+
+        def __add__(self, other):
+            "Add a datetime and a timedelta."
+            if type(self) is datetime and type(other) is timedelta:
+                r = _k.add_datetime(self._year, self._month, self._day, self._hour,
+                                    self._minute, self._second, self._microsecond,
+                                    other._days, other._seconds, other._microseconds)
+                if r is not None:
+                    return _new_datetime(*r, self._tzinfo)
+            return dt_add(self, other)
+
+        def __sub__(self, other):
+            "Subtract two datetimes, or a datetime and a timedelta."
+            if type(self) is datetime:
+                if type(other) is timedelta:
+                    r = _k.add_datetime(self._year, self._month, self._day, self._hour,
+                                        self._minute, self._second, self._microsecond,
+                                        -other._days, -other._seconds, -other._microseconds)
+                    if r is not None:
+                        return _new_datetime(*r, self._tzinfo)
+                elif type(other) is datetime and self._tzinfo is other._tzinfo:
+                    r = _k.subtract_datetime(self._year, self._month, self._day, self._hour,
+                                             self._minute, self._second, self._microsecond,
+                                             other._year, other._month, other._day, other._hour,
+                                             other._minute, other._second, other._microsecond)
+                    return _new_timedelta(*r)
+            return dt_sub(self, other)
+
+        def isoformat(self, sep='T', timespec='auto'):
+            if type(self) is datetime and type(sep) is str and type(timespec) is str:
+                s = _k.isoformat(self._year, self._month, self._day, self._hour,
+                                 self._minute, self._second, self._microsecond,
+                                 sep, timespec)
+                if s is not None:
+                    if self._tzinfo is not None:
+                        tz = _format_offset(self.utcoffset())
+                        if tz:
+                            s += tz
+                    return s
+            return dt_isoformat(self, sep, timespec)
+
+        def strftime(self, fmt):
+            "Format using strftime()."
+            if type(self) is datetime and self._tzinfo is None and type(fmt) is str:
+                r = _k.strftime(fmt, self._year, self._month, self._day, self._hour,
+                                self._minute, self._second, self._microsecond)
+                if r is not None:
+                    return r
+            return dt_strftime(self, fmt)
+
+        def fromisoformat(cls, date_string):
+            """Construct a datetime from the output of datetime.isoformat()."""
+            if type(date_string) is str:
+                r = _k.fromisoformat(date_string)
+                if r is not None:
+                    off = r[7]
+                    if off is None:
+                        tzi = None
+                    elif off == 0:
+                        tzi = timezone.utc
+                    else:
+                        tzi = timezone(timedelta(microseconds=off))
+                    return cls(*r[:7], tzi)
+            return dt_fromisoformat(cls, date_string)
+
+        def strptime(cls, date_string, format):
+            'string, format -> new datetime parsed from a string (like time.strptime()).'
+            if type(date_string) is str and type(format) is str:
+                r = _k.strptime(date_string, format)
+                if r is not None:
+                    gmtoff = r[7]
+                    if gmtoff is None:
+                        return cls(*r[:7])
+                    return cls(*r[:7], timezone(timedelta(microseconds=gmtoff)))
+            return dt_strptime(cls, date_string, format)
+
+        datetime.__add__ = datetime.__radd__ = __add__
+        datetime.__sub__ = __sub__
+        datetime.isoformat = isoformat
+        datetime.strftime = strftime
+        datetime.fromisoformat = classmethod(fromisoformat)
+        datetime.strptime = classmethod(strptime)
+
+    _patch_datetime()
+    del _patch_datetime
+# TODO: TRUFFLE CHANGE END
+
 try:
     from _datetime import *
 except ImportError:
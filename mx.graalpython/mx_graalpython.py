@@ -51,7 +51,7 @@ from mx_gate import Task
 from mx_graalpython_bench_param import PATH_MESO, BENCHMARKS
 from mx_graalpython_benchmark import PythonBenchmarkSuite, python_vm_registry, CPythonVm, PyPyVm, GraalPythonVm, \
     CONFIGURATION_DEFAULT, CONFIGURATION_SANDBOXED, CONFIGURATION_NATIVE, \
-    CONFIGURATION_DEFAULT_MULTI, CONFIGURATION_SANDBOXED_MULTI, CONFIGURATION_NATIVE_MULTI
+    CONFIGURATION_DEFAULT_MULTI, CONFIGURATION_SANDBOXED_MULTI, CONFIGURATION_NATIVE_MULTI, CONFIGURATION_SRE
 
 
 if not sys.modules.get("__main__"):
@@ -882,8 +882,6 @@ def import_python_sources(args):
     # mappings for files that are renamed
     mapping = {
         "_memoryview.c": "memoryobject.c",
-        "_cpython_sre.c": "_sre.c",
-        "_cpython_unicodedata.c": "unicodedata.c",
         "_bz2.c": "_bz2module.c",
         "_mmap.c": "mmapmodule.c",
     }
@@ -1099,6 +1097,9 @@ def _register_vms(namespace):
     python_vm_registry.add_vm(GraalPythonVm(config_name=CONFIGURATION_DEFAULT_MULTI, extra_polyglot_args=[
         '--experimental-options', '-multi-context',
     ]), SUITE, 10)
+    python_vm_registry.add_vm(GraalPythonVm(config_name=CONFIGURATION_SRE, extra_polyglot_args=[
+        '--python.WithTRegex=false',
+    ]), SUITE, 10)
     python_vm_registry.add_vm(GraalPythonVm(config_name=CONFIGURATION_SANDBOXED, extra_polyglot_args=[
         '--llvm.managed',
     ]), SUITE, 10)
@@ -139,11 +139,30 @@ MESO_BENCHMARKS = {
     'image-magix': ITER_10 + ['10000'],
     'parrot-b2': ITER_10 + ['200'],
     # 'threadring': ITER_10 + ['100'],  # TODO: provide itertools cycle implementation
-    # 'regexdna': ITER_10 + [],  #  TODO: provide proper input for this benchmark
     # 'knucleotide': ITER_10 + [],  #  TODO: provide proper input for this benchmark
 }
 
 
+# regex benchmarks; the 'default' graalpython configuration runs them on TRegex (regex-backref falls back to the
+# SRE engine), the 'sre' configuration runs all of them on the SRE engine, and cpython provides the baseline
+MICRO_REGEX_BENCHMARKS = {
+    'regex-match-literal': ITER_10 + ['1000'],
+    'regex-findall-charclass': ITER_10 + ['200'],
+    'regex-split': ITER_10 + ['200'],
+    'regex-sub': ITER_10 + ['300'],
+    'regex-sub-callable': ITER_10 + ['500'],
+    'regex-backref': ITER_10 + ['300'],
+    'regex-bytes': ITER_10 + ['500'],
+    'regex-compile': ITER_10 + ['50'],
+}
+
+
+MESO_REGEX_BENCHMARKS = {
+    'regexdna': ITER_10 + ['500000'],
+    'regex-log-parse': ITER_10 + ['200000'],
+}
+
+
 MACRO_BENCHMARKS = {
     'gcbench': ITER_10 + ['10'],
 }
@@ -163,6 +182,8 @@ BENCHMARKS = {
     "micro": [PATH_MICRO, MICRO_BENCHMARKS],
     "micro-native": [PATH_MICRO, MICRO_NATIVE_BENCHMARKS],
     "meso": [PATH_MESO, MESO_BENCHMARKS],
+    "micro-regex": [PATH_MICRO, MICRO_REGEX_BENCHMARKS],
+    "meso-regex": [PATH_MESO, MESO_REGEX_BENCHMARKS],
     "macro": [PATH_MACRO, MACRO_BENCHMARKS],
     "interop": [PATH_INTEROP, INTEROP_BENCHMARKS],
 }
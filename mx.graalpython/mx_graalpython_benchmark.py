@@ -61,6 +61,7 @@ CONFIGURATION_NATIVE = "native"
 CONFIGURATION_NATIVE_MULTI = "native-multi"
 CONFIGURATION_SANDBOXED = "sandboxed"
 CONFIGURATION_SANDBOXED_MULTI = "sandboxed-multi"
+CONFIGURATION_SRE = "sre"
 
 DEFAULT_ITERATIONS = 10
 
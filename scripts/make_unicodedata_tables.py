@@ -0,0 +1,318 @@
+# Copyright (c) 2019, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+#!/usr/bin/env python3
+"""
+Generates the Java lookup tables used by the unicodedata module from the
+Unicode database headers of the C extension sources.
+
+The property tables of unicodedata_db.h and unicodetype_db.h are merged into a
+single record per code point, and the records are indexed by a two-stage table
+like CPython's makeunicodedata.py does. The name tables of unicodename_db.h are
+copied as they are. All tables are emitted as byte strings (little endian, a
+fixed width per table) that are decoded once when first used.
+
+Usage: make_unicodedata_tables.py [GRAALPYTHON_DIR]
+"""
+import os
+import re
+import sys
+
+JAVA_PACKAGE = "com.oracle.graal.python.runtime.unicode"
+CHUNK_SIZE = 16384
+LINE_SIZE = 120
+
+DECIMAL_MASK = 0x02
+DIGIT_MASK = 0x04
+NO_VALUE = 0xFF
+
+
+def read(path):
+    with open(path) as f:
+        return f.read()
+
+
+def c_array(src, name):
+    m = re.search(r"\b%s\[\]\s*=\s*\{(.*?)\n\};" % re.escape(name), src, re.S)
+    if not m:
+        raise ValueError("array %s not found" % name)
+    return m.group(1)
+
+
+def c_ints(src, name):
+    return [int(x, 0) for x in re.findall(r"0x[0-9a-fA-F]+|\d+", c_array(src, name))]
+
+
+def c_records(src, name):
+    return [tuple(int(x, 0) for x in rec.split(",")) for rec in re.findall(r"\{([^{}]*)\}", c_array(src, name))]
+
+
+def c_strings(src, name):
+    return re.findall(r'"([^"]*)"', c_array(src, name))
+
+
+def c_define(src, name):
+    return int(re.search(r"#define %s\s+(\w+)" % name, src).group(1), 0)
+
+
+def two_stage_lookup(index1, index2, shift, code):
+    return index2[(index1[code >> shift] << shift) + (code & ((1 << shift) - 1))]
+
+
+def numeric_values(src):
+    body = src[src.index("double _PyUnicode_ToNumeric"):]
+    body = body[:body.index("\n}\n")]
+    values = {}
+    pending = []
+    for line in body.splitlines():
+        line = line.strip()
+        m = re.match(r"case (0x[0-9A-Fa-f]+):", line)
+        if m:
+            pending.append(int(m.group(1), 16))
+            continue
+        m = re.match(r"return \(double\) ([-0-9.]+)(?:/([0-9.]+))?;", line)
+        if m:
+            value = float(m.group(1))
+            if m.group(2):
+                value /= float(m.group(2))
+            for code in pending:
+                values[code] = value
+            pending = []
+    return values
+
+
+def split_bins(table):
+    """Returns (index1, index2, shift) with the smallest total size, see makeunicodedata.py."""
+    best = None
+    maxshift = 0
+    n = len(table) - 1
+    while n > 0:
+        n >>= 1
+        maxshift += 1
+    for shift in range(maxshift + 1):
+        index1 = []
+        index2 = []
+        size = 1 << shift
+        bincache = {}
+        for i in range(0, len(table), size):
+            block = tuple(table[i:i + size])
+            index = bincache.get(block)
+            if index is None:
+                index = len(index2)
+                bincache[block] = index
+                index2.extend(block)
+            index1.append(index >> shift)
+        total = len(index1) * width(index1) + len(index2) * width(index2)
+        if best is None or total < best[0]:
+            best = (total, index1, index2, shift)
+    return best[1], best[2], best[3]
+
+
+def width(values):
+    m = max(values)
+    for w in (1, 2, 3, 4):
+        if m < (1 << (8 * w)):
+            return w
+    raise ValueError(m)
+
+
+def to_bytes(values, w):
+    out = bytearray()
+    for v in values:
+        out += v.to_bytes(w, "little")
+    return bytes(out)
+
+
+def java_escape(data):
+    out = []
+    for b in data:
+        if b == 0x22 or b == 0x5C:
+            out.append("\\" + chr(b))
+        elif 0x20 <= b < 0x7F:
+            out.append(chr(b))
+        else:
+            out.append("\\%03o" % b)
+    return "".join(out)
+
+
+def java_string(s):
+    return '"%s"' % s.replace("\\", "\\\\").replace('"', '\\"')
+
+
+class JavaWriter(object):
+    def __init__(self):
+        self.lines = []
+
+    def line(self, text=""):
+        self.lines.append(text)
+
+    def strings(self, name, values):
+        self.line("    static final String[] %s = {%s};" % (name, ", ".join(java_string(v) for v in values)))
+
+    def doubles(self, name, values):
+        self.line("    static final double[] %s = {" % name)
+        for i in range(0, len(values), 8):
+            self.line("                    %s," % ", ".join(repr(v) for v in values[i:i + 8]))
+        self.line("    };")
+
+    def constant(self, name, value):
+        self.line("    static final int %s = %d;" % (name, value))
+
+    def table(self, name, values, w=None):
+        if w is None:
+            w = width(values)
+        data = to_bytes(values, w)
+        self.constant(name + "_WIDTH", w)
+        self.line("    static final String[] %s = {" % name)
+        for c in range(0, len(data), CHUNK_SIZE):
+            chunk = data[c:c + CHUNK_SIZE]
+            parts = []
+            for i in range(0, len(chunk), LINE_SIZE // 2):
+                parts.append('"%s"' % java_escape(chunk[i:i + LINE_SIZE // 2]))
+            self.line("                    " + ("\n                                    + ".join(parts)) + ",")
+        self.line("    };")
+
+    def write(self, header, path, classname, doc):
+        with open(path, "w") as f:
+            f.write(header)
+            f.write("package %s;\n\n" % JAVA_PACKAGE)
+            f.write("// Generated by scripts/make_unicodedata_tables.py, do not edit.\n")
+            f.write("// CheckStyle: start generated\n")
+            f.write("/**\n * %s\n */\n" % doc)
+            f.write("final class %s {\n\n" % classname)
+            f.write("\n".join(self.lines))
+            f.write("\n}\n")
+
+
+def generate_properties(db_src, type_src, header, path):
+    db_records = c_records(db_src, "_PyUnicode_Database_Records")
+    db_shift = c_define(db_src, "SHIFT")
+    db_index1 = c_ints(db_src, "index1")
+    db_index2 = c_ints(db_src, "index2")
+    type_records = c_records(type_src, "_PyUnicode_TypeRecords")
+    type_shift = c_define(type_src, "SHIFT")
+    type_index1 = c_ints(type_src, "index1")
+    type_index2 = c_ints(type_src, "index2")
+    numeric = numeric_values(type_src)
+    numeric_list = sorted(set(numeric.values()))
+    assert len(numeric_list) < NO_VALUE
+
+    records = []
+    record_index = {}
+    table = []
+    for code in range(0x110000):
+        category, combining, bidirectional, mirrored, east_asian_width, _ = db_records[two_stage_lookup(db_index1, db_index2, db_shift, code)]
+        _, _, _, decimal, digit, flags = type_records[two_stage_lookup(type_index1, type_index2, type_shift, code)]
+        record = (category, combining, bidirectional, mirrored, east_asian_width,
+                  decimal if flags & DECIMAL_MASK else NO_VALUE,
+                  digit if flags & DIGIT_MASK else NO_VALUE,
+                  numeric_list.index(numeric[code]) if code in numeric else NO_VALUE)
+        index = record_index.get(record)
+        if index is None:
+            index = len(records)
+            record_index[record] = index
+            records.append(record)
+        table.append(index)
+    index1, index2, shift = split_bins(table)
+
+    w = JavaWriter()
+    w.line('    static final String UNIDATA_VERSION = "%s";' % re.search(r'#define UNIDATA_VERSION "([^"]*)"', db_src).group(1))
+    w.line()
+    w.strings("CATEGORY_NAMES", c_strings(db_src, "_PyUnicode_CategoryNames"))
+    w.strings("BIDIRECTIONAL_NAMES", c_strings(db_src, "_PyUnicode_BidirectionalNames"))
+    w.strings("EAST_ASIAN_WIDTH_NAMES", c_strings(db_src, "_PyUnicode_EastAsianWidthNames"))
+    w.line()
+    w.doubles("NUMERIC_VALUES", numeric_list)
+    w.line()
+    w.constant("RECORD_SIZE", len(records[0]))
+    w.table("RECORDS", [field for record in records for field in record], 1)
+    w.line()
+    w.constant("SHIFT", shift)
+    w.table("INDEX1", index1)
+    w.table("INDEX2", index2)
+    w.write(header, path, "UnicodeDatabaseTables", "Character properties of the Unicode database, see {@link UnicodeDatabase}.")
+    return records, index1, index2, shift, numeric_list
+
+
+def generate_names(name_src, header, path):
+    w = JavaWriter()
+    w.constant("NAME_MAXLEN", c_define(name_src, "NAME_MAXLEN"))
+    w.line()
+    w.table("LEXICON", c_ints(name_src, "lexicon"))
+    w.table("LEXICON_OFFSET", c_ints(name_src, "lexicon_offset"))
+    w.line()
+    w.constant("PHRASEBOOK_SHIFT", c_define(name_src, "phrasebook_shift"))
+    w.constant("PHRASEBOOK_SHORT", c_define(name_src, "phrasebook_short"))
+    w.table("PHRASEBOOK", c_ints(name_src, "phrasebook"))
+    w.table("PHRASEBOOK_OFFSET1", c_ints(name_src, "phrasebook_offset1"))
+    w.table("PHRASEBOOK_OFFSET2", c_ints(name_src, "phrasebook_offset2"))
+    w.line()
+    w.constant("CODE_MAGIC", c_define(name_src, "code_magic"))
+    w.constant("CODE_SIZE", c_define(name_src, "code_size"))
+    w.constant("CODE_POLY", c_define(name_src, "code_poly"))
+    w.table("CODE_HASH", c_ints(name_src, "code_hash"))
+    w.line()
+    w.line("    static final int ALIASES_START = 0x%x;" % int(re.search(r"aliases_start = (\w+);", name_src).group(1), 0))
+    w.table("NAME_ALIASES", c_ints(name_src, "name_aliases"))
+    w.line()
+    sequences = c_array(name_src, "named_sequences")
+    flat = []
+    for seqlen, seq in re.findall(r"\{(\d+), \{([^}]*)\}\}", sequences):
+        codes = [int(x, 16) for x in seq.split(",")]
+        flat.append(int(seqlen))
+        flat.extend(codes + [0] * (4 - len(codes)))
+    w.line("    static final int NAMED_SEQUENCES_START = 0x%x;" % int(re.search(r"named_sequences_start = (\w+);", name_src).group(1), 0))
+    w.constant("NAMED_SEQUENCE_SIZE", 5)
+    w.table("NAMED_SEQUENCES", flat, 2)
+    w.write(header, path, "UnicodeNameTables", "Character names of the Unicode database, see {@link UnicodeDatabase}.")
+
+
+def main(args):
+    base = args[0] if args else os.path.join(os.path.dirname(os.path.abspath(__file__)), "..", "graalpython")
+    cext = os.path.join(base, "com.oracle.graal.python.cext")
+    out = os.path.join(base, "com.oracle.graal.python", "src", *JAVA_PACKAGE.split("."))
+    with open(__file__) as f:
+        header = "/*\n" + "".join(" *" + l[1:] + "\n" for l in f.read().split("\n\n", 1)[0].splitlines()) + " */\n"
+    generate_properties(read(os.path.join(cext, "modules", "unicodedata_db.h")), read(os.path.join(cext, "src", "unicodetype_db.h")),
+                        header, os.path.join(out, "UnicodeDatabaseTables.java"))
+    generate_names(read(os.path.join(cext, "modules", "unicodename_db.h")), header, os.path.join(out, "UnicodeNameTables.java"))
+
+
+if __name__ == "__main__":
+    main(sys.argv[1:])